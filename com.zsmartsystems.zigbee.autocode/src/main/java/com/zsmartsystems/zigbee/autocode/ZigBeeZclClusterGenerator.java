@@ -114,8 +114,9 @@ public class ZigBeeZclClusterGenerator extends ZigBeeBaseClassGenerator {
         }
 
         if (!cluster.commands.isEmpty()) {
-            importsAdd(packageRoot + packageZcl + ".ZclCommand");
+            importsAdd(packageRoot + packageZcl + ".ZclCommandFactory");
             importsAdd(getZclClusterCommandPackage(cluster) + "." + commandClassName);
+            importsAdd("java.util.HashMap");
         }
         importsAdd("javax.annotation.Generated");
 
@@ -128,7 +129,14 @@ public class ZigBeeZclClusterGenerator extends ZigBeeBaseClassGenerator {
         // imports.add(packageRoot + ".ZigBeeEndpoint");
         importsAdd(packageRoot + packageZcl + ".ZclAttribute");
         importsAdd("java.util.Map");
-        importsAdd("java.util.concurrent.ConcurrentSkipListMap");
+        if (attributesClient.isEmpty() || attributesServer.isEmpty()) {
+            importsAdd("java.util.concurrent.ConcurrentSkipListMap");
+        }
+        if (!attributesClient.isEmpty() || !attributesServer.isEmpty()) {
+            importsAdd(packageRoot + packageZcl + ".ZclAttributeDescriptor");
+            importsAdd(packageRoot + packageZcl + ".ZclAttributeMap");
+            importsAdd("java.util.TreeMap");
+        }
 
         outputImports(out);
 
@@ -192,52 +200,96 @@ public class ZigBeeZclClusterGenerator extends ZigBeeBaseClassGenerator {
             out.println();
         }
 
+        if (!attributesClient.isEmpty()) {
+            out.println("    /**");
+            out.println(
+                    "     * Map of the client side attribute descriptors defined by the cluster, indexed by attribute ID");
+            out.println("     */");
+            out.println(
+                    "    private static Map<Integer, ZclAttributeDescriptor> clientAttributeDescriptors = new TreeMap<>();");
+            out.println();
+        }
+        if (!attributesServer.isEmpty()) {
+            out.println("    /**");
+            out.println(
+                    "     * Map of the server side attribute descriptors defined by the cluster, indexed by attribute ID");
+            out.println("     */");
+            out.println(
+                    "    private static Map<Integer, ZclAttributeDescriptor> serverAttributeDescriptors = new TreeMap<>();");
+            out.println();
+        }
+        if (!attributesClient.isEmpty() || !attributesServer.isEmpty()) {
+            out.println("    static {");
+            createAttributeDescriptors(out, "clientAttributeDescriptors", attributesClient);
+            if (!attributesClient.isEmpty() && !attributesServer.isEmpty()) {
+                out.println();
+            }
+            createAttributeDescriptors(out, "serverAttributeDescriptors", attributesServer);
+            out.println("    }");
+            out.println();
+        }
+
+        if (commandsServer != 0) {
+            out.println("    /**");
+            out.println("     * Map of the server side commands supported by the cluster, indexed by command ID");
+            out.println("     */");
+            out.println(
+                    "    private static Map<Integer, ZclCommandFactory> serverCommandConstructors = new HashMap<>();");
+            out.println();
+        }
+        if (commandsClient != 0) {
+            out.println("    /**");
+            out.println("     * Map of the client side commands supported by the cluster, indexed by command ID");
+            out.println("     */");
+            out.println(
+                    "    private static Map<Integer, ZclCommandFactory> clientCommandConstructors = new HashMap<>();");
+            out.println();
+        }
+        if (commandsServer != 0 || commandsClient != 0) {
+            out.println("    static {");
+            for (final ZigBeeXmlCommand command : cluster.commands) {
+                if (command.source.equalsIgnoreCase("server")) {
+                    out.println("        serverCommandConstructors.put(0x" + String.format("%04X", command.code)
+                            + ", " + stringToUpperCamelCase(command.name) + "::new);");
+                }
+            }
+            if (commandsServer != 0 && commandsClient != 0) {
+                out.println();
+            }
+            for (final ZigBeeXmlCommand command : cluster.commands) {
+                if (command.source.equalsIgnoreCase("client")) {
+                    out.println("        clientCommandConstructors.put(0x" + String.format("%04X", command.code)
+                            + ", " + stringToUpperCamelCase(command.name) + "::new);");
+                }
+            }
+            out.println("    }");
+            out.println();
+        }
+
         out.println("    @Override");
         out.println("    protected Map<Integer, ZclAttribute> initializeClientAttributes() {");
-        createInitializeAttributes(out, cluster.name, attributesClient);
+        createInitializeAttributes(out, "clientAttributeDescriptors", attributesClient);
         out.println();
 
         out.println("    @Override");
         out.println("    protected Map<Integer, ZclAttribute> initializeServerAttributes() {");
-        createInitializeAttributes(out, cluster.name, attributesServer);
+        createInitializeAttributes(out, "serverAttributeDescriptors", attributesServer);
         out.println();
 
         // TODO: Add client attributes
 
         if (commandsServer != 0) {
             out.println("    @Override");
-            out.println("    protected Map<Integer, Class<? extends ZclCommand>> initializeServerCommands() {");
-            out.println(
-                    "        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();");
-            out.println();
-            for (final ZigBeeXmlCommand command : cluster.commands) {
-                if (command.source.equalsIgnoreCase("server")) {
-                    out.println("        commandMap.put(0x" + String.format("%04X", command.code) + ", "
-                            + stringToUpperCamelCase(command.name) + ".class);");
-                }
-            }
-            out.println();
-
-            out.println("        return commandMap;");
+            out.println("    protected Map<Integer, ZclCommandFactory> getServerCommandConstructors() {");
+            out.println("        return serverCommandConstructors;");
             out.println("    }");
             out.println();
         }
 
         if (commandsClient != 0) {
             out.println("    @Override");
-            out.println("    protected Map<Integer, Class<? extends ZclCommand>> initializeClientCommands() {");
-            out.println(
-                    "        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();");
-            out.println();
-            for (final ZigBeeXmlCommand command : cluster.commands) {
-                if (command.source.equalsIgnoreCase("client")) {
-                    out.println("        commandMap.put(0x" + String.format("%04X", command.code) + ", "
-                            + stringToUpperCamelCase(command.name) + ".class);");
-                }
-            }
-            out.println();
-
-            out.println("        return commandMap;");
+            out.println("    protected Map<Integer, ZclCommandFactory> getClientCommandConstructors() {");
+            out.println("        return clientCommandConstructors;");
             out.println("    }");
         }
 
@@ -473,37 +525,36 @@ public class ZigBeeZclClusterGenerator extends ZigBeeBaseClassGenerator {
 
     }
 
-    private void createInitializeAttributes(PrintStream out, String clusterName, List<ZigBeeXmlAttribute> attributes) {
-        out.println("        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();");
-
-        if (attributes.size() != 0) {
-            out.println();
-            for (final ZigBeeXmlAttribute attribute : attributes) {
+    private void createInitializeAttributes(PrintStream out, String descriptorMap, List<ZigBeeXmlAttribute> attributes) {
+        if (attributes.isEmpty()) {
+            out.println("        return new ConcurrentSkipListMap<>();");
+        } else {
+            out.println("        return new ZclAttributeMap(this, " + descriptorMap + ");");
+        }
+        out.println("    }");
+    }
 
-                if (attribute.arrayStart != null && attribute.arrayCount != null && attribute.arrayCount > 0) {
-                    int arrayCount = attribute.arrayStart;
-                    int arrayStep = attribute.arrayStep == null ? 1 : attribute.arrayStep;
-                    for (int count = 0; count < attribute.arrayCount; count++) {
-                        String name = attribute.name.replaceAll("\\{\\{count\\}\\}", Integer.toString(arrayCount));
-                        out.println("        attributeMap.put(" + getEnum(name) + ", "
-                                + defineAttribute(attribute, clusterName, name, 0) + ");");
-                        arrayCount++;
-                    }
-                } else {
-                    out.println("        attributeMap.put(" + getEnum(attribute.name) + ", "
-                            + defineAttribute(attribute, clusterName, attribute.name, 0) + ");");
+    private void createAttributeDescriptors(PrintStream out, String descriptorMap, List<ZigBeeXmlAttribute> attributes) {
+        for (final ZigBeeXmlAttribute attribute : attributes) {
+            if (attribute.arrayStart != null && attribute.arrayCount != null && attribute.arrayCount > 0) {
+                int arrayCount = attribute.arrayStart;
+                for (int count = 0; count < attribute.arrayCount; count++) {
+                    String name = attribute.name.replaceAll("\\{\\{count\\}\\}", Integer.toString(arrayCount));
+                    out.println("        " + descriptorMap + ".put(" + getEnum(name) + ", "
+                            + defineAttribute(attribute, name) + ");");
+                    arrayCount++;
                 }
+            } else {
+                out.println("        " + descriptorMap + ".put(" + getEnum(attribute.name) + ", "
+                        + defineAttribute(attribute, attribute.name) + ");");
             }
         }
-        out.println();
-        out.println("        return attributeMap;");
-        out.println("    }");
     }
 
-    private String defineAttribute(ZigBeeXmlAttribute attribute, String clusterName, String attributeName, int count) {
-        return "new ZclAttribute(this, " + getEnum(attributeName) + ", \"" + attributeName + "\", " + "ZclDataType."
-                + attribute.type + ", " + !attribute.optional + ", " + true + ", " + attribute.writable + ", "
-                + attribute.reportable + ")";
+    private String defineAttribute(ZigBeeXmlAttribute attribute, String attributeName) {
+        return "new ZclAttributeDescriptor(" + getEnum(attributeName) + ", \"" + attributeName + "\", "
+                + "ZclDataType." + attribute.type + ", " + !attribute.optional + ", " + true + ", "
+                + attribute.writable + ", " + attribute.reportable + ")";
     }
 
     private String getEnum(String name) {
@@ -57,8 +57,9 @@ import com.zsmartsystems.zigbee.dongle.telegesis.ZigBeeDongleTelegesis;
 import com.zsmartsystems.zigbee.dongle.xbee.ZigBeeDongleXBee;
 import com.zsmartsystems.zigbee.security.ZigBeeKey;
 import com.zsmartsystems.zigbee.serial.ZigBeeSerialPort;
+import com.zsmartsystems.zigbee.serialization.ByteBufferDeserializer;
+import com.zsmartsystems.zigbee.serialization.ByteBufferSerializer;
 import com.zsmartsystems.zigbee.serialization.DefaultDeserializer;
-import com.zsmartsystems.zigbee.serialization.DefaultSerializer;
 import com.zsmartsystems.zigbee.transport.ConcentratorConfig;
 import com.zsmartsystems.zigbee.transport.ConcentratorType;
 import com.zsmartsystems.zigbee.transport.TransportConfig;
@@ -117,6 +118,7 @@ public class ZigBeeConsoleMain {
 
         final TransportConfig transportOptions = new TransportConfig();
         boolean resetNetwork;
+        boolean journalDatabase;
         FlowControl flowControl = null;
 
         Options options = new Options();
@@ -145,6 +147,8 @@ public class ZigBeeConsoleMain {
         options.addOption(Option.builder("h").longOpt("profile").hasArg().argName("profile")
                 .desc("Set the default profile ID").build());
         options.addOption(Option.builder("r").longOpt("reset").desc("Reset the ZigBee dongle").build());
+        options.addOption(Option.builder("j").longOpt("journal")
+                .desc("Store the network in a binary journal rather than an XML file per node").build());
         options.addOption(Option.builder("?").longOpt("help").desc("Print usage information").build());
 
         CommandLine cmdline;
@@ -176,6 +180,7 @@ public class ZigBeeConsoleMain {
             serialPortName = cmdline.getOptionValue("port");
             serialBaud = parseDecimalOrHexInt(cmdline.getOptionValue("baud"));
             resetNetwork = cmdline.hasOption("reset");
+            journalDatabase = cmdline.hasOption("journal");
 
             if (cmdline.hasOption("flow")) {
                 switch (cmdline.getOptionValue("flow").toLowerCase()) {
@@ -282,12 +287,17 @@ public class ZigBeeConsoleMain {
 
         ZigBeeNetworkManager networkManager = new ZigBeeNetworkManager(dongle);
 
-        ZigBeeNetworkDataStore dataStore = new ZigBeeDataStore(dongleName);
+        ZigBeeNetworkDataStore dataStore;
+        if (journalDatabase) {
+            dataStore = new ZigBeeJournalDataStore(dongleName);
+        } else {
+            dataStore = new ZigBeeDataStore(dongleName);
+        }
         if (resetNetwork) {
             // networkStateSerializer.remove();
         }
         networkManager.setNetworkDataStore(dataStore);
-        networkManager.setSerializer(DefaultSerializer.class, DefaultDeserializer.class);
+        networkManager.setSerializer(ByteBufferSerializer::new, DefaultDeserializer::new, ByteBufferDeserializer::new);
         final ZigBeeConsole console = new ZigBeeConsole(networkManager, dongle, commands);
 
         // Initialise the network
@@ -21,10 +21,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.io.HierarchicalStreamDriver;
 import com.thoughtworks.xstream.io.xml.PrettyPrintWriter;
 import com.thoughtworks.xstream.io.xml.StaxDriver;
 import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.database.ZclAttributeDao;
+import com.zsmartsystems.zigbee.database.ZclAttributeUpdateDao;
 import com.zsmartsystems.zigbee.database.ZclClusterDao;
 import com.zsmartsystems.zigbee.database.ZigBeeEndpointDao;
 import com.zsmartsystems.zigbee.database.ZigBeeNetworkDataStore;
@@ -61,14 +63,25 @@ public class ZigBeeDataStore implements ZigBeeNetworkDataStore {
     }
 
     private XStream openStream() {
+        return createStream(new StaxDriver());
+    }
+
+    /**
+     * Creates an {@link XStream} configured to serialize the node database
+     *
+     * @param driver the {@link HierarchicalStreamDriver} used to read and write the stream
+     * @return the {@link XStream} or null if there was an error creating the stream
+     */
+    static XStream createStream(HierarchicalStreamDriver driver) {
         try {
-            XStream stream = new XStream(new StaxDriver());
+            XStream stream = new XStream(driver);
             XStream.setupDefaultSecurity(stream);
             stream.alias("ZigBeeKey", ZigBeeKey.class);
             stream.alias("ZigBeeNode", ZigBeeNodeDao.class);
             stream.alias("ZigBeeEndpoint", ZigBeeEndpointDao.class);
             stream.alias("ZclCluster", ZclClusterDao.class);
             stream.alias("ZclAttribute", ZclAttributeDao.class);
+            stream.alias("ZclAttributeUpdate", ZclAttributeUpdateDao.class);
             stream.alias("MacCapabilitiesType", MacCapabilitiesType.class);
             stream.alias("ServerCapabilitiesType", ServerCapabilitiesType.class);
             stream.alias("PowerSourceType", PowerSourceType.class);
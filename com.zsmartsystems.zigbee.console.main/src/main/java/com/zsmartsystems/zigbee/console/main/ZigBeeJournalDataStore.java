@@ -0,0 +1,504 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.console.main;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.io.binary.BinaryStreamDriver;
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.database.ZclAttributeDao;
+import com.zsmartsystems.zigbee.database.ZclAttributeUpdateDao;
+import com.zsmartsystems.zigbee.database.ZclClusterDao;
+import com.zsmartsystems.zigbee.database.ZigBeeEndpointDao;
+import com.zsmartsystems.zigbee.database.ZigBeeNetworkDataStore;
+import com.zsmartsystems.zigbee.database.ZigBeeNodeDao;
+
+/**
+ * A {@link ZigBeeNetworkDataStore} that persists the network in a single append-only journal rather than a file per
+ * node. This is designed for large networks, where rewriting a complete file for each node update becomes expensive.
+ * <p>
+ * Each update appends a compact binary record of the node to the journal. Records are only written for nodes that have
+ * changed since they were last written, and all nodes passed to {@link #writeNodes(Collection)} are appended with a
+ * single write and synchronised to the disk with a single sync. Where only attributes have changed, just the changed
+ * attributes passed to {@link #writeAttributes(IeeeAddress, Collection)} are appended, and are applied to the node when
+ * it is read. When the journal grows larger than the snapshot, the current state of all nodes is compacted into a new
+ * snapshot and the journal is cleared.
+ * <p>
+ * On startup the snapshot and journal are each read sequentially, once, and the nodes are held in memory in their
+ * serialized form. A partially written record at the end of the journal (eg following a power failure) is discarded.
+ * <p>
+ * Each record is written as -:
+ * <ul>
+ * <li>The length of the record body (int)
+ * <li>The CRC32 of the record body (int)
+ * <li>The record type (byte) - {@link #RECORD_WRITE}, {@link #RECORD_REMOVE} or {@link #RECORD_ATTRIBUTES}
+ * <li>The {@link IeeeAddress} of the node (8 bytes)
+ * <li>For a write, the binary serialized {@link ZigBeeNodeDao}
+ * <li>For an attribute update, the binary serialized list of {@link ZclAttributeUpdateDao}s
+ * </ul>
+ *
+ * @author Chris Jackson
+ */
+public class ZigBeeJournalDataStore implements ZigBeeNetworkDataStore {
+    /**
+     * The logger.
+     */
+    private final static Logger logger = LoggerFactory.getLogger(ZigBeeJournalDataStore.class);
+
+    private static final int RECORD_WRITE = 1;
+    private static final int RECORD_REMOVE = 2;
+    private static final int RECORD_ATTRIBUTES = 3;
+
+    /**
+     * The record header length - body length and CRC
+     */
+    private static final int HEADER_LENGTH = 8;
+
+    /**
+     * The minimum size of the journal before it will be compacted
+     */
+    private static final long COMPACT_MINIMUM = 256 * 1024;
+
+    private static final String SNAPSHOT_FILE = "snapshot.bin";
+    private static final String SNAPSHOT_TEMP_FILE = "snapshot.tmp";
+    private static final String JOURNAL_FILE = "journal.bin";
+
+    private final File snapshotFile;
+    private final File snapshotTempFile;
+    private final File journalFile;
+
+    private final XStream stream = ZigBeeDataStore.createStream(new BinaryStreamDriver());
+
+    /**
+     * The serialized {@link ZigBeeNodeDao} for each node in the network
+     */
+    private final Map<IeeeAddress, byte[]> nodes = new LinkedHashMap<>();
+
+    /**
+     * The serialized attribute updates for each node that have been written since the node was last written
+     */
+    private final Map<IeeeAddress, List<byte[]>> attributeUpdates = new HashMap<>();
+
+    private RandomAccessFile journal;
+    private long journalSize;
+    private long snapshotSize;
+
+    /**
+     * Creates the data store, restoring the network from the snapshot and journal if they exist
+     *
+     * @param networkId the network ID. The data is stored in the folder "database/[networkId]".
+     */
+    public ZigBeeJournalDataStore(String networkId) {
+        this(new File("database/" + networkId + "/"));
+    }
+
+    /**
+     * Creates the data store in the specified folder, restoring the network from the snapshot and journal if they exist
+     *
+     * @param folder the folder in which the data is stored
+     */
+    ZigBeeJournalDataStore(File folder) {
+        if (!folder.exists() && !folder.mkdirs()) {
+            logger.error("Error creating network database folder {}", folder);
+        }
+
+        snapshotFile = new File(folder, SNAPSHOT_FILE);
+        snapshotTempFile = new File(folder, SNAPSHOT_TEMP_FILE);
+        journalFile = new File(folder, JOURNAL_FILE);
+
+        snapshotSize = readFile(snapshotFile);
+        long validJournalSize = readFile(journalFile);
+        logger.info("ZigBee network database restored {} nodes", nodes.size());
+
+        try {
+            journal = new RandomAccessFile(journalFile, "rw");
+            if (journal.length() != validJournalSize) {
+                logger.warn("Discarding {} bytes from the end of the network journal",
+                        journal.length() - validJournalSize);
+                journal.setLength(validJournalSize);
+            }
+            journalSize = validJournalSize;
+            journal.seek(journalSize);
+        } catch (IOException e) {
+            logger.error("Error opening network journal {}", journalFile, e);
+        }
+    }
+
+    /**
+     * Reads all records from a file into the node map. Reading stops at the first record that is incomplete, or has an
+     * invalid length or checksum.
+     *
+     * @param file the {@link File} to read
+     * @return the length of the valid records in the file
+     */
+    private long readFile(File file) {
+        if (!file.exists()) {
+            return 0;
+        }
+
+        long fileLength = file.length();
+        long position = 0;
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            CRC32 crc = new CRC32();
+            while (true) {
+                int length = input.readInt();
+                int checksum = input.readInt();
+                // A corrupt length is treated as the end of the valid records rather than allocating the buffer
+                if (length < 1 + 8 || length > fileLength - position - HEADER_LENGTH) {
+                    logger.debug("Invalid record length {} in {}", length, file);
+                    break;
+                }
+                byte[] body = new byte[length];
+                input.readFully(body);
+                crc.reset();
+                crc.update(body);
+                if ((int) crc.getValue() != checksum) {
+                    logger.debug("Invalid record checksum in {}", file);
+                    break;
+                }
+
+                IeeeAddress address = getAddress(body);
+                switch (body[0]) {
+                    case RECORD_WRITE:
+                        nodes.put(address, Arrays.copyOfRange(body, 1 + 8, body.length));
+                        attributeUpdates.remove(address);
+                        break;
+                    case RECORD_REMOVE:
+                        nodes.remove(address);
+                        attributeUpdates.remove(address);
+                        break;
+                    case RECORD_ATTRIBUTES:
+                        if (nodes.containsKey(address)) {
+                            addAttributeUpdate(address, Arrays.copyOfRange(body, 1 + 8, body.length));
+                        }
+                        break;
+                    default:
+                        logger.debug("Unknown record type {} in {}", body[0], file);
+                        break;
+                }
+                position += HEADER_LENGTH + length;
+            }
+        } catch (EOFException e) {
+            // End of the file, or a partially written record
+        } catch (IOException e) {
+            logger.error("Error reading network database {}", file, e);
+        }
+
+        return position;
+    }
+
+    private void addAttributeUpdate(IeeeAddress address, byte[] update) {
+        List<byte[]> updates = attributeUpdates.get(address);
+        if (updates == null) {
+            updates = new ArrayList<>();
+            attributeUpdates.put(address, updates);
+        }
+        updates.add(update);
+    }
+
+    private IeeeAddress getAddress(byte[] body) {
+        int[] address = new int[8];
+        for (int cnt = 0; cnt < 8; cnt++) {
+            address[cnt] = body[1 + cnt] & 0xFF;
+        }
+        return new IeeeAddress(address);
+    }
+
+    private void writeRecord(DataOutputStream output, int type, IeeeAddress address, byte[] data) throws IOException {
+        byte[] body = new byte[1 + 8 + data.length];
+        body[0] = (byte) type;
+        int[] value = address.getValue();
+        for (int cnt = 0; cnt < 8; cnt++) {
+            body[1 + cnt] = (byte) value[cnt];
+        }
+        System.arraycopy(data, 0, body, 1 + 8, data.length);
+
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        output.writeInt(body.length);
+        output.writeInt((int) crc.getValue());
+        output.write(body);
+    }
+
+    /**
+     * Appends the records to the journal and synchronises the journal with the disk
+     *
+     * @param records the encoded records
+     */
+    private void appendJournal(byte[] records) throws IOException {
+        FileChannel channel = journal.getChannel();
+        ByteBuffer buffer = ByteBuffer.wrap(records);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+        journalSize += records.length;
+    }
+
+    @Override
+    public synchronized Set<IeeeAddress> readNetworkNodes() {
+        return new HashSet<>(nodes.keySet());
+    }
+
+    @Override
+    public synchronized ZigBeeNodeDao readNode(IeeeAddress address) {
+        byte[] data = nodes.get(address);
+        if (data == null) {
+            return null;
+        }
+
+        try {
+            ZigBeeNodeDao node = (ZigBeeNodeDao) stream.fromXML(new ByteArrayInputStream(data));
+            applyAttributeUpdates(node);
+            return node;
+        } catch (Exception e) {
+            logger.error("{}: Error reading network state: ", address, e);
+            return null;
+        }
+    }
+
+    /**
+     * Applies any attribute updates written since the node was last written to the node
+     *
+     * @param node the {@link ZigBeeNodeDao} to update
+     */
+    @SuppressWarnings("unchecked")
+    private void applyAttributeUpdates(ZigBeeNodeDao node) {
+        List<byte[]> updates = attributeUpdates.get(node.getIeeeAddress());
+        if (updates == null) {
+            return;
+        }
+
+        for (byte[] data : updates) {
+            for (ZclAttributeUpdateDao update : (List<ZclAttributeUpdateDao>) stream
+                    .fromXML(new ByteArrayInputStream(data))) {
+                ZclClusterDao cluster = getCluster(node, update);
+                if (cluster == null) {
+                    logger.debug("{}: Attribute update for unknown cluster {} on endpoint {}", node.getIeeeAddress(),
+                            update.getClusterId(), update.getEndpointId());
+                    continue;
+                }
+                Map<Integer, ZclAttributeDao> attributes = new HashMap<>(cluster.getAttributes());
+                attributes.put(update.getAttribute().getId(), update.getAttribute());
+                cluster.setAttributes(attributes);
+            }
+        }
+    }
+
+    private ZclClusterDao getCluster(ZigBeeNodeDao node, ZclAttributeUpdateDao update) {
+        for (ZigBeeEndpointDao endpoint : node.getEndpoints()) {
+            if (endpoint.getEndpointId() != update.getEndpointId()) {
+                continue;
+            }
+            List<ZclClusterDao> clusters = update.isClient() ? endpoint.getOutputClusters()
+                    : endpoint.getInputClusters();
+            if (clusters == null) {
+                return null;
+            }
+            for (ZclClusterDao cluster : clusters) {
+                if (cluster.getClusterId() == update.getClusterId()) {
+                    return cluster;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void writeNode(ZigBeeNodeDao node) {
+        writeNodes(Collections.singleton(node));
+    }
+
+    @Override
+    public synchronized void writeNodes(Collection<ZigBeeNodeDao> nodesToWrite) {
+        if (journal == null) {
+            return;
+        }
+
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(records)) {
+            for (ZigBeeNodeDao node : nodesToWrite) {
+                ByteArrayOutputStream data = new ByteArrayOutputStream();
+                stream.toXML(node, data);
+                byte[] serialized = data.toByteArray();
+
+                // Only nodes that have changed are written to the journal
+                if (!attributeUpdates.containsKey(node.getIeeeAddress())
+                        && Arrays.equals(serialized, nodes.get(node.getIeeeAddress()))) {
+                    continue;
+                }
+                writeRecord(output, RECORD_WRITE, node.getIeeeAddress(), serialized);
+                nodes.put(node.getIeeeAddress(), serialized);
+                attributeUpdates.remove(node.getIeeeAddress());
+            }
+        } catch (Exception e) {
+            logger.error("Error serializing network state: ", e);
+            return;
+        }
+
+        if (records.size() == 0) {
+            return;
+        }
+
+        try {
+            appendJournal(records.toByteArray());
+            logger.debug("ZigBee saving network state complete - {} nodes, {} bytes", nodesToWrite.size(),
+                    records.size());
+        } catch (IOException e) {
+            logger.error("Error writing network journal: ", e);
+        }
+
+        if (journalSize > COMPACT_MINIMUM && journalSize > snapshotSize) {
+            compact();
+        }
+    }
+
+    @Override
+    public synchronized boolean writeAttributes(IeeeAddress address, Collection<ZclAttributeUpdateDao> attributes) {
+        if (journal == null || !nodes.containsKey(address)) {
+            return false;
+        }
+
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        byte[] serialized;
+        try (DataOutputStream output = new DataOutputStream(records)) {
+            ByteArrayOutputStream data = new ByteArrayOutputStream();
+            stream.toXML(new ArrayList<>(attributes), data);
+            serialized = data.toByteArray();
+            writeRecord(output, RECORD_ATTRIBUTES, address, serialized);
+        } catch (Exception e) {
+            logger.error("{}: Error serializing attribute update: ", address, e);
+            return false;
+        }
+
+        try {
+            appendJournal(records.toByteArray());
+            logger.debug("{}: Saving {} attributes complete - {} bytes", address, attributes.size(), records.size());
+        } catch (IOException e) {
+            logger.error("{}: Error writing network journal: ", address, e);
+            return false;
+        }
+        addAttributeUpdate(address, serialized);
+
+        if (journalSize > COMPACT_MINIMUM && journalSize > snapshotSize) {
+            compact();
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized void removeNode(IeeeAddress address) {
+        if (journal == null || nodes.remove(address) == null) {
+            return;
+        }
+        attributeUpdates.remove(address);
+
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(records)) {
+            writeRecord(output, RECORD_REMOVE, address, new byte[0]);
+            output.flush();
+            appendJournal(records.toByteArray());
+        } catch (IOException e) {
+            logger.error("{}: Error removing network state", address, e);
+        }
+    }
+
+    /**
+     * Writes the current state of all nodes to a new snapshot, and clears the journal. The snapshot is written to a
+     * temporary file which replaces the existing snapshot once it has been written, so that the existing snapshot and
+     * journal remain valid until the new snapshot is complete.
+     */
+    private void compact() {
+        logger.debug("Compacting network journal of {} bytes", journalSize);
+
+        // Apply the attribute updates to the nodes so that the snapshot holds the complete state of each node
+        for (IeeeAddress address : new ArrayList<>(attributeUpdates.keySet())) {
+            ZigBeeNodeDao node = readNode(address);
+            if (node == null) {
+                continue;
+            }
+            ByteArrayOutputStream data = new ByteArrayOutputStream();
+            stream.toXML(node, data);
+            nodes.put(address, data.toByteArray());
+        }
+
+        long size;
+        try (FileOutputStream file = new FileOutputStream(snapshotTempFile)) {
+            ByteArrayOutputStream records = new ByteArrayOutputStream();
+            DataOutputStream output = new DataOutputStream(records);
+            for (Map.Entry<IeeeAddress, byte[]> node : nodes.entrySet()) {
+                writeRecord(output, RECORD_WRITE, node.getKey(), node.getValue());
+            }
+            output.flush();
+            records.writeTo(file);
+            file.getFD().sync();
+            size = records.size();
+        } catch (IOException e) {
+            logger.error("Error writing network snapshot: ", e);
+            return;
+        }
+
+        if (!snapshotTempFile.renameTo(snapshotFile)
+                && !(snapshotFile.delete() && snapshotTempFile.renameTo(snapshotFile))) {
+            logger.error("Error replacing network snapshot {}", snapshotFile);
+            return;
+        }
+        snapshotSize = size;
+        attributeUpdates.clear();
+
+        try {
+            journal.setLength(0);
+            journal.getChannel().force(true);
+            journalSize = 0;
+        } catch (IOException e) {
+            logger.error("Error clearing network journal: ", e);
+        }
+    }
+
+    /**
+     * Closes the data store. No further writes are possible once the store is closed.
+     */
+    public synchronized void close() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            logger.debug("Error closing network journal: ", e);
+        }
+        journal = null;
+    }
+}
@@ -0,0 +1,190 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.console.main;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.database.ZclAttributeDao;
+import com.zsmartsystems.zigbee.database.ZclAttributeUpdateDao;
+import com.zsmartsystems.zigbee.database.ZclClusterDao;
+import com.zsmartsystems.zigbee.database.ZigBeeEndpointDao;
+import com.zsmartsystems.zigbee.database.ZigBeeNodeDao;
+import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeJournalDataStoreTest {
+    private static final IeeeAddress ADDRESS_1 = new IeeeAddress("1111111111111111");
+    private static final IeeeAddress ADDRESS_2 = new IeeeAddress("2222222222222222");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ZigBeeNodeDao getNode(IeeeAddress address, int networkAddress) {
+        ZclClusterDao cluster = new ZclClusterDao();
+        cluster.setClusterId(0);
+        cluster.setAttributes(new HashMap<Integer, ZclAttributeDao>());
+
+        ZigBeeEndpointDao endpoint = new ZigBeeEndpointDao();
+        endpoint.setEndpointId(1);
+        endpoint.setInputClusters(new ArrayList<>(Collections.singletonList(cluster)));
+        endpoint.setOutputClusters(new ArrayList<ZclClusterDao>());
+
+        ZigBeeNodeDao node = new ZigBeeNodeDao();
+        node.setIeeeAddress(address);
+        node.setNetworkAddress(networkAddress);
+        node.setEndpoints(new ArrayList<>(Collections.singletonList(endpoint)));
+        return node;
+    }
+
+    private ZclAttributeUpdateDao getAttributeUpdate(Object value) {
+        ZclAttributeDao attribute = new ZclAttributeDao();
+        attribute.setId(5);
+        attribute.setDataType(ZclDataType.CHARACTER_STRING);
+        attribute.setLastValue(value);
+
+        ZclAttributeUpdateDao update = new ZclAttributeUpdateDao();
+        update.setEndpointId(1);
+        update.setClusterId(0);
+        update.setAttribute(attribute);
+        return update;
+    }
+
+    private Object getAttributeValue(ZigBeeNodeDao node) {
+        Map<Integer, ZclAttributeDao> attributes = node.getEndpoints().get(0).getInputClusters().get(0)
+                .getAttributes();
+        return attributes.containsKey(5) ? attributes.get(5).getLastValue() : null;
+    }
+
+    @Test
+    public void appendAndReplay() {
+        ZigBeeJournalDataStore dataStore = new ZigBeeJournalDataStore(folder.getRoot());
+        assertTrue(dataStore.readNetworkNodes().isEmpty());
+
+        dataStore.writeNodes(Arrays.asList(getNode(ADDRESS_1, 1234), getNode(ADDRESS_2, 5678)));
+        assertTrue(dataStore.writeAttributes(ADDRESS_1, Collections.singletonList(getAttributeUpdate("Test"))));
+        assertFalse(dataStore.writeAttributes(new IeeeAddress("3333333333333333"),
+                Collections.singletonList(getAttributeUpdate("Unknown"))));
+        dataStore.writeNode(getNode(ADDRESS_2, 4321));
+        dataStore.removeNode(ADDRESS_1);
+        dataStore.writeNode(getNode(ADDRESS_1, 1111));
+        assertTrue(dataStore.writeAttributes(ADDRESS_1, Collections.singletonList(getAttributeUpdate("Replay"))));
+        long journalLength = new File(folder.getRoot(), "journal.bin").length();
+
+        // An unchanged node is not written to the journal again
+        dataStore.writeNode(getNode(ADDRESS_2, 4321));
+        assertEquals(journalLength, new File(folder.getRoot(), "journal.bin").length());
+        dataStore.close();
+
+        dataStore = new ZigBeeJournalDataStore(folder.getRoot());
+        assertEquals(2, dataStore.readNetworkNodes().size());
+        ZigBeeNodeDao node = dataStore.readNode(ADDRESS_1);
+        assertEquals(Integer.valueOf(1111), node.getNetworkAddress());
+        assertEquals("Replay", getAttributeValue(node));
+        node = dataStore.readNode(ADDRESS_2);
+        assertEquals(Integer.valueOf(4321), node.getNetworkAddress());
+        assertNull(getAttributeValue(node));
+        dataStore.close();
+    }
+
+    @Test
+    public void tornTail() throws Exception {
+        ZigBeeJournalDataStore dataStore = new ZigBeeJournalDataStore(folder.getRoot());
+        dataStore.writeNode(getNode(ADDRESS_1, 1234));
+        dataStore.writeNode(getNode(ADDRESS_2, 5678));
+        dataStore.close();
+
+        File journalFile = new File(folder.getRoot(), "journal.bin");
+        long validLength = journalFile.length();
+
+        // A partially written record is discarded
+        try (RandomAccessFile journal = new RandomAccessFile(journalFile, "rw")) {
+            journal.setLength(validLength - 5);
+        }
+        dataStore = new ZigBeeJournalDataStore(folder.getRoot());
+        assertEquals(Collections.singleton(ADDRESS_1), dataStore.readNetworkNodes());
+        dataStore.writeNode(getNode(ADDRESS_2, 5678));
+        dataStore.close();
+        assertEquals(validLength, journalFile.length());
+
+        // A corrupt record length larger than the file is discarded without reading the record
+        try (RandomAccessFile journal = new RandomAccessFile(journalFile, "rw")) {
+            journal.seek(validLength);
+            journal.writeInt(Integer.MAX_VALUE);
+            journal.writeInt(0);
+            journal.write(new byte[20]);
+        }
+        dataStore = new ZigBeeJournalDataStore(folder.getRoot());
+        assertEquals(2, dataStore.readNetworkNodes().size());
+        dataStore.close();
+        assertEquals(validLength, journalFile.length());
+
+        // As is a negative length
+        try (RandomAccessFile journal = new RandomAccessFile(journalFile, "rw")) {
+            journal.seek(validLength);
+            journal.writeInt(-1);
+            journal.writeInt(0);
+        }
+        dataStore = new ZigBeeJournalDataStore(folder.getRoot());
+        assertEquals(2, dataStore.readNetworkNodes().size());
+        dataStore.close();
+        assertEquals(validLength, journalFile.length());
+    }
+
+    @Test
+    public void compaction() {
+        ZigBeeJournalDataStore dataStore = new ZigBeeJournalDataStore(folder.getRoot());
+        dataStore.writeNodes(Arrays.asList(getNode(ADDRESS_1, 1234), getNode(ADDRESS_2, 5678)));
+
+        File journalFile = new File(folder.getRoot(), "journal.bin");
+        File snapshotFile = new File(folder.getRoot(), "snapshot.bin");
+        assertFalse(snapshotFile.exists());
+
+        char[] value = new char[10000];
+        long journalLength = 0;
+        for (int cnt = 0; cnt < 100 && journalLength <= journalFile.length(); cnt++) {
+            journalLength = journalFile.length();
+            Arrays.fill(value, (char) ('A' + cnt % 26));
+            assertTrue(dataStore.writeAttributes(ADDRESS_1,
+                    Collections.singletonList(getAttributeUpdate(new String(value)))));
+        }
+
+        // The journal has been compacted into the snapshot, including the attribute updates
+        assertTrue(snapshotFile.exists());
+        assertTrue(journalFile.length() < journalLength);
+        String lastValue = (String) getAttributeValue(dataStore.readNode(ADDRESS_1));
+        dataStore.writeNode(getNode(ADDRESS_2, 4321));
+        dataStore.close();
+
+        dataStore = new ZigBeeJournalDataStore(folder.getRoot());
+        assertEquals(2, dataStore.readNetworkNodes().size());
+        assertEquals(lastValue, getAttributeValue(dataStore.readNode(ADDRESS_1)));
+        assertEquals(Integer.valueOf(4321), dataStore.readNode(ADDRESS_2).getNetworkAddress());
+        dataStore.close();
+    }
+}
@@ -122,6 +122,9 @@ public class ZigBeeConsoleNetworkDiscoveryCommand extends ZigBeeConsoleAbstractC
 
     private void outputDiscoveryTasks(ZigBeeDiscoveryExtension extension, PrintStream out) {
         out.println("Mesh update period : " + extension.getUpdatePeriod() + " seconds");
+        out.println("Mesh update backlog: " + extension.getMeshUpdateBacklog() + " routers");
+        out.println("Management budget  : " + extension.getManagementRequestsUsed() + " of "
+                + extension.getManagementRequestBudget() + " requests per minute");
         out.println();
         out.println("Address           Nwk    Last Start            Last Complete         Current Tasks");
         for (ZigBeeNodeServiceDiscoverer discoverer : extension.getNodeDiscoverers()) {
@@ -11,9 +11,10 @@ import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import com.zsmartsystems.zigbee.*;
 import org.slf4j.Logger;
@@ -88,9 +89,15 @@ public class ZigBeeDongleTiCc2531
     private final HashMap<Integer, Integer> endpoint2Profile = new HashMap<Integer, Integer>();
 
     /**
-     * Map used to correlate the APS sequence IDs with the Transaction IDs we use to correlate messages in the stack
+     * Map of outstanding AF_DATA_REQUEST transactions, indexed by the AF transaction ID. This is used to correlate the
+     * AF_DATA_CONFIRM with the Transaction IDs we use to correlate messages in the stack.
      */
-    private Map<Integer, Integer> messageIdMap = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, AfDataTransaction> afTransactions = new ConcurrentHashMap<>();
+
+    /**
+     * The {@link CommandInterfaceImpl} used to communicate with the dongle
+     */
+    private final CommandInterfaceImpl commandInterface;
 
     private int[] supportedInputClusters = new int[] {};
     private int[] supportedOutputClusters = new int[] {};
@@ -113,7 +120,19 @@ public class ZigBeeDongleTiCc2531
      * @param serialPort the serial port
      */
     public ZigBeeDongleTiCc2531(final ZigBeePort serialPort) {
-        networkManager = new ZigBeeNetworkManager(new CommandInterfaceImpl(serialPort), NetworkMode.Coordinator, 2500L);
+        commandInterface = new CommandInterfaceImpl(serialPort);
+        networkManager = new ZigBeeNetworkManager(commandInterface, NetworkMode.Coordinator, 2500L);
+    }
+
+    /**
+     * Sets whether commands with different command IDs may be sent to the dongle while waiting for the response to
+     * another command. This is enabled by default, and may be disabled if the dongle firmware does not support
+     * pipelined commands.
+     *
+     * @param pipelined true to allow multiple commands to be outstanding at once
+     */
+    public void setPipelinedCommands(boolean pipelined) {
+        commandInterface.setMultipleSynchronousCommands(pipelined);
     }
 
     /**
@@ -297,34 +316,109 @@ public class ZigBeeDongleTiCc2531
 
     @Override
     public void sendCommand(final int msgTag, final ZigBeeApsFrame apsFrame) {
-        synchronized (networkManager) {
-            final short sender;
-            if (apsFrame.getProfile() == 0) {
-                sender = 0;
-            } else {
-                sender = (short) getSendingEndpoint(apsFrame.getProfile());
-            }
+        final short sender;
+        if (apsFrame.getProfile() == 0) {
+            sender = 0;
+        } else {
+            sender = (short) getSendingEndpoint(apsFrame.getProfile());
+        }
 
+        // TODO: How to differentiate group and device addressing?????
+        boolean groupCommand = false;
+        if (groupCommand) {
             executorService.execute(() -> {
-                ZigBeeTransportProgressState state;
-
-                // TODO: How to differentiate group and device addressing?????
-                boolean groupCommand = false;
-                if (!groupCommand) {
-                    messageIdMap.put(apsFrame.getApsCounter(), msgTag);
-                    ZToolPacket response = networkManager.sendCommand(new AF_DATA_REQUEST(apsFrame.getDestinationAddress(),
-                            (short) apsFrame.getDestinationEndpoint(), sender, apsFrame.getCluster(),
-                            apsFrame.getApsCounter(), (byte) (0x20 | (apsFrame.getAckRequest() ? 0x10 : 0)), (byte) apsFrame.getRadius(), apsFrame.getPayload()));
-                    state = (response == null || ((AF_DATA_SRSP)response).Status != 0) ? ZigBeeTransportProgressState.TX_NAK : ZigBeeTransportProgressState.TX_ACK;
-                } else {
-                    ZToolPacket response = networkManager.sendCommand(new AF_DATA_REQUEST_EXT(apsFrame.getDestinationAddress(), sender,
-                            apsFrame.getCluster(), apsFrame.getApsCounter(), (byte) (0), (byte) 0, apsFrame.getPayload()));
-                    state = (response == null || ((AF_DATA_SRSP_EXT)response).getStatus() != 0) ? ZigBeeTransportProgressState.TX_NAK : ZigBeeTransportProgressState.TX_ACK;
+                ZToolPacket response = networkManager.sendCommand(new AF_DATA_REQUEST_EXT(apsFrame.getDestinationAddress(), sender,
+                        apsFrame.getCluster(), apsFrame.getApsCounter(), (byte) (0), (byte) 0, apsFrame.getPayload()));
+                zigbeeNetworkReceive.receiveCommandState(msgTag, (response == null || ((AF_DATA_SRSP_EXT)response).getStatus() != 0) ? ZigBeeTransportProgressState.TX_NAK : ZigBeeTransportProgressState.TX_ACK);
+            });
+            return;
+        }
+
+        final int transId = apsFrame.getApsCounter() & 0xFF;
+        final AF_DATA_REQUEST request = new AF_DATA_REQUEST(apsFrame.getDestinationAddress(),
+                (short) apsFrame.getDestinationEndpoint(), sender, apsFrame.getCluster(), transId,
+                (byte) (0x20 | (apsFrame.getAckRequest() ? 0x10 : 0)), (byte) apsFrame.getRadius(),
+                apsFrame.getPayload());
+        final AfDataTransaction transaction = new AfDataTransaction(msgTag);
+        AfDataTransaction previous = afTransactions.put(transId, transaction);
+        if (previous != null) {
+            logger.debug("AF transaction ID {} reused before AF_DATA_CONFIRM received", transId);
+            completeAfTransaction(transId, previous, ZigBeeTransportProgressState.RX_NAK);
+        }
+
+        // The command is written from the executor so the caller is not blocked while an earlier AF_DATA_REQUEST
+        // is awaiting its AF_DATA_SRSP. The SRSP and AF_DATA_CONFIRM are then processed as they are received.
+        executorService.execute(() -> {
+            synchronized (transaction) {
+                if (transaction.complete) {
+                    return;
                 }
+            }
 
-                zigbeeNetworkReceive.receiveCommandState(msgTag, state);
-            });
+            if (!networkManager.sendCommand(request,
+                    packet -> handleAfDataResponse(transId, transaction, (AF_DATA_SRSP) packet))) {
+                completeAfTransaction(transId, transaction, ZigBeeTransportProgressState.TX_NAK);
+                return;
+            }
+
+            // The timer is started once the command is written, so the time spent waiting for an earlier
+            // AF_DATA_SRSP does not count towards the timeout
+            synchronized (transaction) {
+                if (transaction.complete) {
+                    return;
+                }
+                transaction.timer = executorService.schedule(() -> {
+                    completeAfTransaction(transId, transaction, transaction.sent
+                            ? ZigBeeTransportProgressState.RX_NAK : ZigBeeTransportProgressState.TX_NAK);
+                }, networkManager.getTimeout(), TimeUnit.MILLISECONDS);
+            }
+        });
+    }
+
+    /**
+     * Processes the AF_DATA_SRSP for an AF_DATA_REQUEST. This confirms that the dongle has accepted the frame for
+     * transmission - the final state of the transaction is provided later in the AF_DATA_CONFIRM.
+     *
+     * @param transId the AF transaction ID
+     * @param transaction the {@link AfDataTransaction}
+     * @param response the {@link AF_DATA_SRSP} received from the dongle
+     */
+    private void handleAfDataResponse(int transId, AfDataTransaction transaction, AF_DATA_SRSP response) {
+        if (response.Status != 0) {
+            logger.debug("AF_DATA_REQUEST transaction {} rejected with status {}", transId, response.Status);
+            completeAfTransaction(transId, transaction, ZigBeeTransportProgressState.TX_NAK);
+            return;
         }
+
+        synchronized (transaction) {
+            if (transaction.complete) {
+                return;
+            }
+            transaction.sent = true;
+        }
+        zigbeeNetworkReceive.receiveCommandState(transaction.msgTag, ZigBeeTransportProgressState.TX_ACK);
+    }
+
+    /**
+     * Completes an AF transaction, removing it from the outstanding transactions and notifying the final state. This
+     * is only performed once for each transaction.
+     *
+     * @param transId the AF transaction ID
+     * @param transaction the {@link AfDataTransaction}
+     * @param state the final {@link ZigBeeTransportProgressState}
+     */
+    private void completeAfTransaction(int transId, AfDataTransaction transaction, ZigBeeTransportProgressState state) {
+        synchronized (transaction) {
+            if (transaction.complete) {
+                return;
+            }
+            transaction.complete = true;
+            if (transaction.timer != null) {
+                transaction.timer.cancel(false);
+            }
+        }
+        afTransactions.remove(transId, transaction);
+        zigbeeNetworkReceive.receiveCommandState(transaction.msgTag, state);
     }
 
     @Override
@@ -358,8 +452,9 @@ public class ZigBeeDongleTiCc2531
 
         if (packet.getCMD().get16BitValue() == ZToolCMD.AF_DATA_CONFIRM) {
             AF_DATA_CONFIRM p = ((AF_DATA_CONFIRM) packet);
-            if (messageIdMap.containsKey(p.TransID)) {
-                zigbeeNetworkReceive.receiveCommandState(messageIdMap.remove(p.TransID),
+            AfDataTransaction transaction = afTransactions.get(p.TransID);
+            if (transaction != null) {
+                completeAfTransaction(p.TransID, transaction,
                         p.Status == 0 ? ZigBeeTransportProgressState.RX_ACK : ZigBeeTransportProgressState.RX_NAK);
             } else {
                 logger.debug("No sequence correlated for ACK messageId {}", p.TransID);
@@ -489,4 +584,32 @@ public class ZigBeeDongleTiCc2531
         return networkManager.setLedMode(ledId, mode);
     }
 
+    /**
+     * Holds the state of an AF_DATA_REQUEST that has not yet been confirmed
+     */
+    private class AfDataTransaction {
+        /**
+         * The transaction ID used in the stack
+         */
+        private final int msgTag;
+
+        /**
+         * True once the AF_DATA_SRSP has been received successfully
+         */
+        private boolean sent;
+
+        /**
+         * True once the final state of the transaction has been notified
+         */
+        private boolean complete;
+
+        /**
+         * The timer used to complete the transaction if no AF_DATA_CONFIRM is received
+         */
+        private ScheduledFuture<?> timer;
+
+        AfDataTransaction(int msgTag) {
+            this.msgTag = msgTag;
+        }
+    }
 }
@@ -857,6 +857,37 @@ public class ZigBeeNetworkManager {
         return sendSynchronous(request);
     }
 
+    /**
+     * Sends a command without waiting for the response. The method returns once the command has been written to the
+     * dongle, which may be delayed until the response to an earlier command with the same command ID is received. The
+     * response is passed to the listener when it is received. The listener is not called if no response is received
+     * within the timeout, and the command is not resent.
+     *
+     * @param request the {@link ZToolPacket} to send
+     * @param listener the {@link SynchronousCommandListener} to receive the response
+     * @return true if the command was sent
+     */
+    public boolean sendCommand(final ZToolPacket request, final SynchronousCommandListener listener) {
+        try {
+            commandInterface.sendSynchronousCommand(request, listener, RESEND_TIMEOUT);
+            return true;
+        } catch (IOException e) {
+            logger.error("Command send failed due to IO exception. ", e);
+        } catch (Exception e) {
+            logger.error("Command send failed due to unexpected exception.", e);
+        }
+        return false;
+    }
+
+    /**
+     * Gets the time to wait for an asynchronous response to a command, such as AF_DATA_CONFIRM
+     *
+     * @return the timeout in milliseconds
+     */
+    public int getTimeout() {
+        return TIMEOUT;
+    }
+
     private ZToolPacket sendSynchronous(final ZToolPacket request) {
         return sendSynchronous(request, RESEND_TIMEOUT);
     }
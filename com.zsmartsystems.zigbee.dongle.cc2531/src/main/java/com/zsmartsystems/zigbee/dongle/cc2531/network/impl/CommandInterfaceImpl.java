@@ -72,9 +72,9 @@ public class CommandInterfaceImpl implements ZToolPacketHandler, CommandInterfac
     private ZToolPacketParser parser;
     /**
      * Support parallel processing of different command types.
-     * Only one command per command ID can be in process at a time.
+     * Only one command per command ID can be in process at a time, since responses are correlated by the command ID.
      */
-    private final boolean supportMultipleSynchrounsCommand = false;
+    private boolean supportMultipleSynchrounsCommand = true;
     /**
      * Synchronous command listeners.
      */
@@ -130,6 +130,19 @@ public class CommandInterfaceImpl implements ZToolPacketHandler, CommandInterfac
         }
     }
 
+    /**
+     * Sets whether synchronous commands with different command IDs may be sent while waiting for the response to
+     * another command. If false, only a single synchronous command may be outstanding at any time.
+     *
+     * @param supportMultipleSynchrounsCommand true to allow multiple outstanding synchronous commands
+     */
+    public void setMultipleSynchronousCommands(boolean supportMultipleSynchrounsCommand) {
+        synchronized (synchronousCommandListeners) {
+            this.supportMultipleSynchrounsCommand = supportMultipleSynchrounsCommand;
+            synchronousCommandListeners.notifyAll();
+        }
+    }
+
     /* ZToolPacketHandler */
 
     /**
@@ -205,9 +218,12 @@ public class CommandInterfaceImpl implements ZToolPacketHandler, CommandInterfac
             }
 
             for (Short key : expired) {
-                synchronousCommandListeners.remove(key);
+                logger.debug("Synchronous command {} timed out waiting for response", String.format("%04X", key));
+                synchronousCommandListenerTimeouts.remove(synchronousCommandListeners.remove(key));
+            }
+            if (!expired.isEmpty()) {
+                synchronousCommandListeners.notifyAll();
             }
-            synchronousCommandListeners.notifyAll();
         }
     }
 
@@ -222,13 +238,6 @@ public class CommandInterfaceImpl implements ZToolPacketHandler, CommandInterfac
     @Override
     public void sendSynchronousCommand(final ZToolPacket packet, final SynchronousCommandListener listener,
             final long timeoutMillis) throws IOException {
-        if (timeoutMillis == -1L) {
-            synchronousCommandListenerTimeouts.put(listener, -1L);
-        } else {
-            final long expirationTime = System.currentTimeMillis() + timeoutMillis;
-            synchronousCommandListenerTimeouts.put(listener, expirationTime);
-        }
-
         final DoubleByte cmdId = packet.getCMD();
         final int value = (cmdId.getMsb() & 0xE0);
         if (value != 0x20) {
@@ -237,40 +246,58 @@ public class CommandInterfaceImpl implements ZToolPacketHandler, CommandInterfac
                             + " instead of " + 0x20 + "\nPacket " + packet.getClass().getName() + "\n" + packet);
         }
 
-        cleanExpiredSynchronousCommandListeners();
-
-        if (supportMultipleSynchrounsCommand) {
-            synchronized (synchronousCommandListeners) {
-                final short id = (short) (cmdId.get16BitValue() & 0x1FFF);
-                while (synchronousCommandListeners.get(cmdId) != null) {
-                    try {
-                        logger.trace("Waiting for other request {} to complete", id);
-                        synchronousCommandListeners.wait(500);
-                        cleanExpiredSynchronousCommandListeners();
-                    } catch (InterruptedException ignored) {
-                    }
+        final short id = (short) (cmdId.get16BitValue() & 0x1FFF);
+        synchronized (synchronousCommandListeners) {
+            while (true) {
+                cleanExpiredSynchronousCommandListeners();
+                if (supportMultipleSynchrounsCommand ? !synchronousCommandListeners.containsKey(id)
+                        : synchronousCommandListeners.isEmpty()) {
+                    break;
                 }
-                synchronousCommandListeners.put(id, listener);
-            }
-        } else {
-            synchronized (synchronousCommandListeners) {
-                final short id = (short) (cmdId.get16BitValue() & 0x1FFF);
-                while (!synchronousCommandListeners.isEmpty()) {
-                    try {
-                        logger.trace("Waiting for other request to complete");
-                        synchronousCommandListeners.wait(500);
-                        cleanExpiredSynchronousCommandListeners();
-                    } catch (InterruptedException ignored) {
+
+                // Wait until a response is received, or the first outstanding command expires
+                long waitTime = getNextExpiration(supportMultipleSynchrounsCommand ? id : null);
+                logger.trace("Waiting for other request to complete before sending {}", String.format("%04X", id));
+                try {
+                    if (waitTime == -1) {
+                        synchronousCommandListeners.wait();
+                    } else if (waitTime > 0) {
+                        synchronousCommandListeners.wait(waitTime);
                     }
+                } catch (InterruptedException ignored) {
                 }
-                logger.trace("Put synchronousCommandListeners listener for {} command", id);
-                synchronousCommandListeners.put(id, listener);
             }
+
+            logger.trace("Put synchronousCommandListeners listener for {} command", id);
+            synchronousCommandListeners.put(id, listener);
+            synchronousCommandListenerTimeouts.put(listener,
+                    timeoutMillis == -1L ? -1L : System.currentTimeMillis() + timeoutMillis);
         }
         logger.trace("Sending SynchronousCommand {} ", packet);
         sendPacket(packet);
     }
 
+    /**
+     * Gets the time until an outstanding synchronous command expires. Must be called with the
+     * synchronousCommandListeners lock held.
+     *
+     * @param id the command ID to check, or null to check all outstanding commands
+     * @return the number of milliseconds until the first command expires, or -1 if the commands do not expire
+     */
+    private long getNextExpiration(Short id) {
+        long next = -1;
+        for (Map.Entry<Short, SynchronousCommandListener> entry : synchronousCommandListeners.entrySet()) {
+            if (id != null && !id.equals(entry.getKey())) {
+                continue;
+            }
+            Long expiration = synchronousCommandListenerTimeouts.get(entry.getValue());
+            if (expiration != null && expiration != -1L && (next == -1 || expiration < next)) {
+                next = expiration;
+            }
+        }
+        return next == -1 ? -1 : Math.max(1, next - System.currentTimeMillis());
+    }
+
     /**
      * Sends asynchronous command.
      *
@@ -295,10 +322,12 @@ public class CommandInterfaceImpl implements ZToolPacketHandler, CommandInterfac
      */
     @Override
     public void sendRaw(int[] packet) throws IOException {
+        byte[] outputData = new byte[packet.length];
+        for (int i = 0; i < packet.length; i++) {
+            outputData[i] = (byte) packet[i];
+        }
         synchronized (port) {
-            for (int i = 0; i < packet.length; i++) {
-                port.write(packet[i]);
-            }
+            port.write(outputData);
         }
     }
 
@@ -315,6 +344,7 @@ public class CommandInterfaceImpl implements ZToolPacketHandler, CommandInterfac
             if (listener != null) {
                 listener.receivedCommandResponse(packet);
                 synchronousCommandListeners.remove(id);
+                synchronousCommandListenerTimeouts.remove(listener);
                 synchronousCommandListeners.notifyAll();
             } else {
                 // Notify asynchronous command listeners of unclaimed asynchronous command responses.
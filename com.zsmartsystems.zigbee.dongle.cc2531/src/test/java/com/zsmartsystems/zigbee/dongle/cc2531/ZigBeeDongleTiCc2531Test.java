@@ -0,0 +1,208 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.dongle.cc2531;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import com.zsmartsystems.zigbee.TestUtilities;
+import com.zsmartsystems.zigbee.aps.ZigBeeApsFrame;
+import com.zsmartsystems.zigbee.dongle.cc2531.network.SynchronousCommandListener;
+import com.zsmartsystems.zigbee.dongle.cc2531.network.ZigBeeNetworkManager;
+import com.zsmartsystems.zigbee.dongle.cc2531.network.packet.ZToolPacket;
+import com.zsmartsystems.zigbee.dongle.cc2531.network.packet.af.AF_DATA_CONFIRM;
+import com.zsmartsystems.zigbee.dongle.cc2531.network.packet.af.AF_DATA_REQUEST;
+import com.zsmartsystems.zigbee.dongle.cc2531.network.packet.af.AF_DATA_SRSP;
+import com.zsmartsystems.zigbee.transport.ZigBeePort;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportProgressState;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportReceive;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeDongleTiCc2531Test {
+    private static int TIMEOUT = 5000;
+
+    private ZigBeeDongleTiCc2531 dongle;
+    private ZigBeeNetworkManager networkManager;
+    private ZigBeeTransportReceive transportReceive;
+
+    @Before
+    public void setup() throws Exception {
+        dongle = new ZigBeeDongleTiCc2531(Mockito.mock(ZigBeePort.class));
+
+        networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        Mockito.when(networkManager.sendCommand(ArgumentMatchers.any(ZToolPacket.class),
+                ArgumentMatchers.any(SynchronousCommandListener.class))).thenReturn(true);
+        Mockito.when(networkManager.getTimeout()).thenReturn(TIMEOUT);
+        TestUtilities.setField(ZigBeeDongleTiCc2531.class, dongle, "networkManager", networkManager);
+
+        transportReceive = Mockito.mock(ZigBeeTransportReceive.class);
+        dongle.setZigBeeTransportReceive(transportReceive);
+    }
+
+    private ZigBeeApsFrame getApsFrame(int apsCounter) {
+        ZigBeeApsFrame apsFrame = new ZigBeeApsFrame();
+        apsFrame.setDestinationAddress(1234);
+        apsFrame.setDestinationEndpoint(1);
+        apsFrame.setCluster(6);
+        apsFrame.setApsCounter(apsCounter);
+        apsFrame.setPayload(new int[] { 1, 2, 3 });
+        return apsFrame;
+    }
+
+    /**
+     * Waits for the AF_DATA_REQUEST to be written, and returns the listener for the AF_DATA_SRSP
+     */
+    private SynchronousCommandListener getResponseListener(int count) {
+        ArgumentCaptor<SynchronousCommandListener> listenerCaptor = ArgumentCaptor
+                .forClass(SynchronousCommandListener.class);
+        Mockito.verify(networkManager, Mockito.timeout(TIMEOUT).times(count))
+                .sendCommand(ArgumentMatchers.any(AF_DATA_REQUEST.class), listenerCaptor.capture());
+        return listenerCaptor.getValue();
+    }
+
+    @Test
+    public void sendCommandConfirmed() {
+        dongle.sendCommand(1, getApsFrame(0x105));
+        SynchronousCommandListener listener = getResponseListener(1);
+
+        listener.receivedCommandResponse(new AF_DATA_SRSP(new int[] { 0 }));
+        Mockito.verify(transportReceive).receiveCommandState(1, ZigBeeTransportProgressState.TX_ACK);
+
+        // The transaction ID is the 8 bit APS counter
+        dongle.receivedAsynchronousCommand(new AF_DATA_CONFIRM(0, 1, 0x05));
+        Mockito.verify(transportReceive).receiveCommandState(1, ZigBeeTransportProgressState.RX_ACK);
+
+        // The transaction is only completed once
+        dongle.receivedAsynchronousCommand(new AF_DATA_CONFIRM(0, 1, 0x05));
+        Mockito.verify(transportReceive, Mockito.times(2)).receiveCommandState(ArgumentMatchers.anyInt(),
+                ArgumentMatchers.any(ZigBeeTransportProgressState.class));
+    }
+
+    @Test
+    public void sendCommandConfirmFailed() {
+        dongle.sendCommand(1, getApsFrame(5));
+        SynchronousCommandListener listener = getResponseListener(1);
+
+        listener.receivedCommandResponse(new AF_DATA_SRSP(new int[] { 0 }));
+        dongle.receivedAsynchronousCommand(new AF_DATA_CONFIRM(0xE9, 1, 5));
+
+        Mockito.verify(transportReceive).receiveCommandState(1, ZigBeeTransportProgressState.TX_ACK);
+        Mockito.verify(transportReceive).receiveCommandState(1, ZigBeeTransportProgressState.RX_NAK);
+    }
+
+    @Test
+    public void sendCommandRejected() {
+        dongle.sendCommand(1, getApsFrame(5));
+        SynchronousCommandListener listener = getResponseListener(1);
+
+        listener.receivedCommandResponse(new AF_DATA_SRSP(new int[] { 1 }));
+        Mockito.verify(transportReceive).receiveCommandState(1, ZigBeeTransportProgressState.TX_NAK);
+
+        // A confirm after the transaction is complete is ignored
+        dongle.receivedAsynchronousCommand(new AF_DATA_CONFIRM(0, 1, 5));
+        Mockito.verify(transportReceive, Mockito.times(1)).receiveCommandState(ArgumentMatchers.anyInt(),
+                ArgumentMatchers.any(ZigBeeTransportProgressState.class));
+    }
+
+    @Test
+    public void sendCommandWriteFailed() {
+        Mockito.when(networkManager.sendCommand(ArgumentMatchers.any(ZToolPacket.class),
+                ArgumentMatchers.any(SynchronousCommandListener.class))).thenReturn(false);
+
+        dongle.sendCommand(1, getApsFrame(5));
+        Mockito.verify(transportReceive, Mockito.timeout(TIMEOUT)).receiveCommandState(1,
+                ZigBeeTransportProgressState.TX_NAK);
+    }
+
+    @Test
+    public void sendCommandTimeout() {
+        Mockito.when(networkManager.getTimeout()).thenReturn(50);
+
+        // No AF_DATA_SRSP is received
+        dongle.sendCommand(1, getApsFrame(5));
+        Mockito.verify(transportReceive, Mockito.timeout(TIMEOUT)).receiveCommandState(1,
+                ZigBeeTransportProgressState.TX_NAK);
+
+        // The AF_DATA_SRSP is received, but no AF_DATA_CONFIRM
+        Mockito.when(networkManager.sendCommand(ArgumentMatchers.any(ZToolPacket.class),
+                ArgumentMatchers.any(SynchronousCommandListener.class))).thenAnswer(invocation -> {
+                    ((SynchronousCommandListener) invocation.getArgument(1))
+                            .receivedCommandResponse(new AF_DATA_SRSP(new int[] { 0 }));
+                    return true;
+                });
+        dongle.sendCommand(2, getApsFrame(6));
+        Mockito.verify(transportReceive, Mockito.timeout(TIMEOUT)).receiveCommandState(2,
+                ZigBeeTransportProgressState.TX_ACK);
+        Mockito.verify(transportReceive, Mockito.timeout(TIMEOUT)).receiveCommandState(2,
+                ZigBeeTransportProgressState.RX_NAK);
+
+        // A late confirm is ignored
+        dongle.receivedAsynchronousCommand(new AF_DATA_CONFIRM(0, 1, 6));
+        Mockito.verify(transportReceive, Mockito.after(100).times(3)).receiveCommandState(ArgumentMatchers.anyInt(),
+                ArgumentMatchers.any(ZigBeeTransportProgressState.class));
+    }
+
+    @Test
+    public void sendCommandTransactionIdReused() {
+        dongle.sendCommand(1, getApsFrame(5));
+        SynchronousCommandListener listener1 = getResponseListener(1);
+        listener1.receivedCommandResponse(new AF_DATA_SRSP(new int[] { 0 }));
+
+        // Reusing the transaction ID completes the first transaction
+        dongle.sendCommand(2, getApsFrame(5));
+        Mockito.verify(transportReceive).receiveCommandState(1, ZigBeeTransportProgressState.RX_NAK);
+
+        SynchronousCommandListener listener2 = getResponseListener(2);
+        listener2.receivedCommandResponse(new AF_DATA_SRSP(new int[] { 0 }));
+        dongle.receivedAsynchronousCommand(new AF_DATA_CONFIRM(0, 1, 5));
+        Mockito.verify(transportReceive).receiveCommandState(2, ZigBeeTransportProgressState.TX_ACK);
+        Mockito.verify(transportReceive).receiveCommandState(2, ZigBeeTransportProgressState.RX_ACK);
+
+        // The late response to the first request does not change its state
+        listener1.receivedCommandResponse(new AF_DATA_SRSP(new int[] { 1 }));
+        Mockito.verify(transportReceive, Mockito.times(4)).receiveCommandState(ArgumentMatchers.anyInt(),
+                ArgumentMatchers.any(ZigBeeTransportProgressState.class));
+    }
+
+    @Test
+    public void sendCommandTimerStartsAfterWrite() throws Exception {
+        Mockito.when(networkManager.getTimeout()).thenReturn(500);
+
+        // The write is held up for longer than the timeout, as if waiting for the AF_DATA_SRSP to an earlier request
+        final CountDownLatch written = new CountDownLatch(1);
+        Mockito.when(networkManager.sendCommand(ArgumentMatchers.any(ZToolPacket.class),
+                ArgumentMatchers.any(SynchronousCommandListener.class))).thenAnswer(invocation -> {
+                    written.await(TIMEOUT, TimeUnit.MILLISECONDS);
+                    ((SynchronousCommandListener) invocation.getArgument(1))
+                            .receivedCommandResponse(new AF_DATA_SRSP(new int[] { 0 }));
+                    return true;
+                });
+
+        dongle.sendCommand(1, getApsFrame(5));
+        Mockito.verify(transportReceive, Mockito.after(700).never()).receiveCommandState(ArgumentMatchers.anyInt(),
+                ArgumentMatchers.any(ZigBeeTransportProgressState.class));
+
+        // The timeout is counted from the write, so the AF_DATA_CONFIRM is still accepted
+        written.countDown();
+        Mockito.verify(transportReceive, Mockito.timeout(TIMEOUT)).receiveCommandState(1,
+                ZigBeeTransportProgressState.TX_ACK);
+        dongle.receivedAsynchronousCommand(new AF_DATA_CONFIRM(0, 1, 5));
+        Mockito.verify(transportReceive).receiveCommandState(1, ZigBeeTransportProgressState.RX_ACK);
+        Mockito.verify(transportReceive, Mockito.never()).receiveCommandState(1, ZigBeeTransportProgressState.RX_NAK);
+    }
+}
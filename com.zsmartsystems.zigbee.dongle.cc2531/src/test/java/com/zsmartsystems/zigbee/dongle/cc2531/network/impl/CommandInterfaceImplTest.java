@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.dongle.cc2531.network.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import com.zsmartsystems.zigbee.dongle.cc2531.network.SynchronousCommandListener;
+import com.zsmartsystems.zigbee.dongle.cc2531.network.packet.af.AF_DATA_REQUEST;
+import com.zsmartsystems.zigbee.dongle.cc2531.network.packet.af.AF_DATA_SRSP;
+import com.zsmartsystems.zigbee.dongle.cc2531.network.packet.util.UTIL_LED_CONTROL;
+import com.zsmartsystems.zigbee.transport.ZigBeePort;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class CommandInterfaceImplTest {
+    private static int TIMEOUT = 5000;
+
+    private AF_DATA_REQUEST getDataRequest(int transId) {
+        return new AF_DATA_REQUEST(1234, (short) 1, (short) 1, 6, transId, (byte) 0x30, (byte) 0x1E,
+                new int[] { 1, 2, 3 });
+    }
+
+    @Test
+    public void pipelinedCommands() throws Exception {
+        ZigBeePort port = Mockito.mock(ZigBeePort.class);
+        final CommandInterfaceImpl commandInterface = new CommandInterfaceImpl(port);
+
+        SynchronousCommandListener listener1 = Mockito.mock(SynchronousCommandListener.class);
+        SynchronousCommandListener listener2 = Mockito.mock(SynchronousCommandListener.class);
+        final SynchronousCommandListener listener3 = Mockito.mock(SynchronousCommandListener.class);
+
+        // Commands with different command IDs are sent without waiting
+        commandInterface.sendSynchronousCommand(getDataRequest(1), listener1, TIMEOUT);
+        commandInterface.sendSynchronousCommand(new UTIL_LED_CONTROL(1, true), listener2, TIMEOUT);
+        Mockito.verify(port, Mockito.times(2)).write(ArgumentMatchers.any(byte[].class));
+
+        // A command with the same command ID waits for the response to the first
+        final CountDownLatch started = new CountDownLatch(1);
+        new Thread() {
+            @Override
+            public void run() {
+                try {
+                    started.countDown();
+                    commandInterface.sendSynchronousCommand(getDataRequest(2), listener3, TIMEOUT);
+                } catch (Exception e) {
+                }
+            }
+        }.start();
+        assertTrue(started.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        Mockito.verify(port, Mockito.after(200).times(2)).write(ArgumentMatchers.any(byte[].class));
+
+        AF_DATA_SRSP response = new AF_DATA_SRSP(new int[] { 0 });
+        commandInterface.handlePacket(response);
+        Mockito.verify(listener1, Mockito.times(1)).receivedCommandResponse(response);
+        Mockito.verify(port, Mockito.timeout(TIMEOUT).times(3)).write(ArgumentMatchers.any(byte[].class));
+
+        // The second response goes to the second request
+        commandInterface.handlePacket(response);
+        Mockito.verify(listener3, Mockito.times(1)).receivedCommandResponse(response);
+        Mockito.verify(listener1, Mockito.times(1)).receivedCommandResponse(response);
+        Mockito.verify(listener2, Mockito.never()).receivedCommandResponse(ArgumentMatchers.any());
+    }
+
+    @Test
+    public void singleCommand() throws Exception {
+        ZigBeePort port = Mockito.mock(ZigBeePort.class);
+        final CommandInterfaceImpl commandInterface = new CommandInterfaceImpl(port);
+        commandInterface.setMultipleSynchronousCommands(false);
+
+        SynchronousCommandListener listener1 = Mockito.mock(SynchronousCommandListener.class);
+        final SynchronousCommandListener listener2 = Mockito.mock(SynchronousCommandListener.class);
+
+        AF_DATA_REQUEST request1 = getDataRequest(1);
+        UTIL_LED_CONTROL request2 = new UTIL_LED_CONTROL(1, true);
+        commandInterface.sendSynchronousCommand(request1, listener1, 200);
+
+        // The second command is sent once the first times out
+        commandInterface.sendSynchronousCommand(request2, listener2, TIMEOUT);
+
+        ArgumentCaptor<byte[]> writeCaptor = ArgumentCaptor.forClass(byte[].class);
+        Mockito.verify(port, Mockito.times(2)).write(writeCaptor.capture());
+        assertEquals(request1.getCMD().get16BitValue(), getCommandId(writeCaptor.getAllValues().get(0)));
+        assertEquals(request2.getCMD().get16BitValue(), getCommandId(writeCaptor.getAllValues().get(1)));
+
+        // The first command expired before the second was sent, so its response is no longer correlated
+        commandInterface.handlePacket(new AF_DATA_SRSP(new int[] { 0 }));
+        Mockito.verify(listener1, Mockito.never()).receivedCommandResponse(ArgumentMatchers.any());
+    }
+
+    private int getCommandId(byte[] packet) {
+        return ((packet[2] & 0xFF) << 8) + (packet[3] & 0xFF);
+    }
+}
@@ -322,7 +322,7 @@ public class ZigBeeDongleConBee implements ZigBeeTransportTransmit {
         request.setRadius(apsFrame.getRadius());
         request.setSourceEndpoint(apsFrame.getSourceEndpoint());
 
-        request.setAdsuData(apsFrame.getPayload());
+        request.setAdsuData(apsFrame.getPayloadBuffer());
 
         conbeeHandler.queueFrame(request);
     }
@@ -354,7 +354,7 @@ public class ZigBeeDongleConBee implements ZigBeeTransportTransmit {
             // receivedData.getSourceAddressMode()
             // apsFrame.sets
             apsFrame.setSourceAddress(receivedData.getSourceNetworkAddress());
-            apsFrame.setPayload(receivedData.getAdsuData());
+            apsFrame.setPayload(receivedData.getAdsuBuffer());
             zigbeeNetworkReceive.receiveCommand(apsFrame);
             return;
         }
@@ -109,15 +109,15 @@ public class ConBeeFrameHandler {
 
                 while (!closeHandler) {
                     // Get a packet from the serial port
-                    int[] responseData = getPacket();
+                    byte[] responseData = getPacket();
                     if (responseData == null) {
                         continue;
                     }
 
                     StringBuilder builder = new StringBuilder();
                     builder.append("Data");
-                    for (int value : responseData) {
-                        builder.append(String.format(" %02X", value));
+                    for (byte value : responseData) {
+                        builder.append(String.format(" %02X", value & 0xFF));
                     }
                     logger.debug("CONBEE RX: {}", builder.toString());
 
@@ -150,8 +150,8 @@ public class ConBeeFrameHandler {
         receiveThread.start();
     }
 
-    private int[] getPacket() {
-        int[] inputBuffer = new int[SLIP_MAX_LENGTH];
+    private byte[] getPacket() {
+        byte[] inputBuffer = new byte[SLIP_MAX_LENGTH];
         int inputCount = 0;
 
         boolean escaped = false;
@@ -170,13 +170,13 @@ public class ConBeeFrameHandler {
                 escaped = false;
                 switch (val) {
                     case SLIP_ESC_END:
-                        inputBuffer[inputCount++] = SLIP_END;
+                        inputBuffer[inputCount++] = (byte) SLIP_END;
                         break;
                     case SLIP_ESC_ESC:
-                        inputBuffer[inputCount++] = SLIP_ESC;
+                        inputBuffer[inputCount++] = (byte) SLIP_ESC;
                         break;
                     default:
-                        inputBuffer[inputCount++] = val;
+                        inputBuffer[inputCount++] = (byte) val;
                         break;
                 }
             } else if (val != -1) {
@@ -184,7 +184,7 @@ public class ConBeeFrameHandler {
                     logger.debug("CONBEE RX error: len={}", inputCount);
                     inputCount = 0;
                 }
-                inputBuffer[inputCount++] = val;
+                inputBuffer[inputCount++] = (byte) val;
             }
         }
 
@@ -272,33 +272,36 @@ public class ConBeeFrameHandler {
         sentFrame = frame;
 
         StringBuilder result = new StringBuilder();
-        // Send the data
         logger.debug("CONBEE TX: {}", frame);
-        serialPort.write(SLIP_END);
 
-        for (int val : frame.getOutputBuffer()) {
+        // Build the SLIP encoded frame so it can be sent as a single block
+        int[] frameData = frame.getOutputBuffer();
+        byte[] outputData = new byte[frameData.length * 2 + 2];
+        int outputLength = 0;
+        outputData[outputLength++] = (byte) SLIP_END;
+
+        for (int val : frameData) {
             result.append(String.format(" %02X", val));
-            // logger.debug("CONBEE TX: {}", String.format("%02X", val));
             switch (val) {
                 case SLIP_END:
-                    // logger.debug("CONBEE TX: [ESC]");
-                    serialPort.write(SLIP_ESC);
-                    serialPort.write(SLIP_ESC_END);
+                    outputData[outputLength++] = (byte) SLIP_ESC;
+                    outputData[outputLength++] = (byte) SLIP_ESC_END;
                     break;
                 case SLIP_ESC:
-                    // logger.debug("CONBEE TX: [ESC]");
-                    serialPort.write(SLIP_ESC);
-                    serialPort.write(SLIP_ESC_ESC);
+                    outputData[outputLength++] = (byte) SLIP_ESC;
+                    outputData[outputLength++] = (byte) SLIP_ESC_ESC;
                     break;
                 default:
-                    serialPort.write(val);
+                    outputData[outputLength++] = (byte) val;
                     break;
             }
         }
+        outputData[outputLength++] = (byte) SLIP_END;
 
         logger.debug("CONBEE TX:{}", result.toString());
 
-        serialPort.write(SLIP_END);
+        // Send the data
+        serialPort.write(outputData, 0, outputLength);
 
         startRetryTimer();
     }
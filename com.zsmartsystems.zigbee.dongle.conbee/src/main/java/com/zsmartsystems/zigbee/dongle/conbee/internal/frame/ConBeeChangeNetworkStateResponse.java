@@ -13,7 +13,7 @@ package com.zsmartsystems.zigbee.dongle.conbee.internal.frame;
  *
  */
 public class ConBeeChangeNetworkStateResponse extends ConBeeFrameResponse {
-    public ConBeeChangeNetworkStateResponse(final int[] response) {
+    public ConBeeChangeNetworkStateResponse(final byte[] response) {
         super(response);
 
         if (deserializeUInt8() != CHANGE_NETWORK_STATE) {
@@ -16,7 +16,7 @@ package com.zsmartsystems.zigbee.dongle.conbee.internal.frame;
 public class ConBeeDeviceStateChanged extends ConBeeFrameResponse {
     private ConBeeDeviceState state;
 
-    public ConBeeDeviceStateChanged(final int[] response) {
+    public ConBeeDeviceStateChanged(final byte[] response) {
         super(response);
 
         if (deserializeUInt8() != DEVICE_STATE_CHANGED) {
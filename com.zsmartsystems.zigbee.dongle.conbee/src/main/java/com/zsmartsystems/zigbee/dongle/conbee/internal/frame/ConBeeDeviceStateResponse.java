@@ -16,7 +16,7 @@ package com.zsmartsystems.zigbee.dongle.conbee.internal.frame;
  *
  */
 public class ConBeeDeviceStateResponse extends ConBeeFrameResponse {
-    public ConBeeDeviceStateResponse(final int[] response) {
+    public ConBeeDeviceStateResponse(final byte[] response) {
         super(response);
 
         if (deserializeUInt8() != DEVICE_STATE) {
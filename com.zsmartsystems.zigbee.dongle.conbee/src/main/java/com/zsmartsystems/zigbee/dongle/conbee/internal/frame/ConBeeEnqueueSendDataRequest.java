@@ -7,6 +7,8 @@
  */
 package com.zsmartsystems.zigbee.dongle.conbee.internal.frame;
 
+import java.nio.ByteBuffer;
+
 import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeEndpointAddress;
@@ -25,14 +27,14 @@ public class ConBeeEnqueueSendDataRequest extends ConBeeFrameRequest {
     private int clusterId;
     private IeeeAddress destinationIeeeAddress;
     private ZigBeeAddress destinationAddress;
-    private int[] adsuData;
+    private ByteBuffer adsuData;
     private int requestId;
 
     @Override
     public int[] getOutputBuffer() {
         super.getOutputBuffer();
 
-        int payloadLen = adsuData.length + 12; // Should this be 12?????
+        int payloadLen = adsuData.remaining() + 12; // Should this be 12?????
 
         // Account for the address size
         payloadLen += destinationAddressMode == ConBeeAddressMode.IEEE ? 8 : 2;
@@ -68,7 +70,7 @@ public class ConBeeEnqueueSendDataRequest extends ConBeeFrameRequest {
         serializeUInt16(clusterId);
         serializeUInt8(sourceEndpoint);
 
-        serializeUInt16(adsuData.length);
+        serializeUInt16(adsuData.remaining());
         serializeUInt8Array(adsuData);
 
         serializeUInt8(txOptions);
@@ -144,7 +146,21 @@ public class ConBeeEnqueueSendDataRequest extends ConBeeFrameRequest {
      * @param adsuData the adsuData to set
      */
     public void setAdsuData(int[] adsuData) {
-        this.adsuData = adsuData;
+        byte[] bytes = new byte[adsuData.length];
+        for (int cnt = 0; cnt < adsuData.length; cnt++) {
+            bytes[cnt] = (byte) adsuData[cnt];
+        }
+        this.adsuData = ByteBuffer.wrap(bytes);
+    }
+
+    /**
+     * Sets the adsuData from the remaining bytes of a {@link ByteBuffer}. The data is not copied until the frame is
+     * serialized.
+     *
+     * @param adsuData the adsuData to set
+     */
+    public void setAdsuData(ByteBuffer adsuData) {
+        this.adsuData = adsuData.slice();
     }
 
     @Override
@@ -188,13 +204,11 @@ public class ConBeeEnqueueSendDataRequest extends ConBeeFrameRequest {
         builder.append(", data=");
 
         if (adsuData != null) {
-            boolean first = true;
-            for (int val : adsuData) {
-                if (!first) {
+            for (int cnt = 0; cnt < adsuData.remaining(); cnt++) {
+                if (cnt != 0) {
                     builder.append(' ');
                 }
-                first = false;
-                builder.append(String.format("%02X", val));
+                builder.append(String.format("%02X", adsuData.get(cnt) & 0xFF));
             }
         }
 
@@ -17,7 +17,7 @@ package com.zsmartsystems.zigbee.dongle.conbee.internal.frame;
  *
  */
 public class ConBeeEnqueueSendDataResponse extends ConBeeFrameResponse {
-    public ConBeeEnqueueSendDataResponse(final int[] response) {
+    public ConBeeEnqueueSendDataResponse(final byte[] response) {
         super(response);
 
         if (deserializeUInt8() != APS_DATA_REQUEST) {
@@ -7,7 +7,7 @@
  */
 package com.zsmartsystems.zigbee.dongle.conbee.internal.frame;
 
-import java.util.Arrays;
+import java.nio.ByteBuffer;
 
 import com.zsmartsystems.zigbee.IeeeAddress;
 
@@ -29,20 +29,24 @@ public abstract class ConBeeFrame {
     protected final static int APS_DATA_CONFIRM = 0x04;
     protected final static int VERSION = 0x0D;
 
-    protected int[] buffer;
+    protected byte[] buffer;
     protected int length = 0;
 
     public ConBeeFrame() {
-        buffer = new int[129];
+        buffer = new byte[129];
     }
 
     protected int[] copyOutputBuffer() {
         // Add the CRC
         int crc = getChecksum(buffer, length);
-        buffer[length++] = crc & 0xFF;
-        buffer[length++] = (crc >> 8) & 0xFF;
+        buffer[length++] = (byte) crc;
+        buffer[length++] = (byte) (crc >> 8);
 
-        return Arrays.copyOfRange(buffer, 0, length);
+        int[] output = new int[length];
+        for (int cnt = 0; cnt < length; cnt++) {
+            output[cnt] = buffer[cnt] & 0xFF;
+        }
+        return output;
     }
 
     /**
@@ -51,7 +55,7 @@ public abstract class ConBeeFrame {
      * @param val
      */
     public void serializeUInt8(int val) {
-        buffer[length++] = val & 0xFF;
+        buffer[length++] = (byte) val;
     }
 
     public void serializeUInt8Array(int val[]) {
@@ -60,33 +64,48 @@ public abstract class ConBeeFrame {
         }
     }
 
+    /**
+     * Adds the remaining bytes of a {@link ByteBuffer} into the output stream. The position of the buffer is not
+     * changed.
+     *
+     * @param val the {@link ByteBuffer} to add
+     */
+    public void serializeUInt8Array(ByteBuffer val) {
+        int size = val.remaining();
+        val.duplicate().get(buffer, length, size);
+        length += size;
+    }
+
     protected int deserializeInt8() {
-        return buffer[length++];
+        return buffer[length++] & 0xFF;
     }
 
     protected int deserializeUInt8() {
-        return buffer[length++];
+        return buffer[length++] & 0xFF;
     }
 
     protected int[] deserializeUInt8Array(int size) {
-        length += size;
-        return Arrays.copyOfRange(buffer, length - size, length);
+        int[] array = new int[size];
+        for (int cnt = 0; cnt < size; cnt++) {
+            array[cnt] = buffer[length++] & 0xFF;
+        }
+        return array;
     }
 
     protected ConBeeStatus deserializeStatus() {
-        return ConBeeStatus.values()[buffer[length++]];
+        return ConBeeStatus.values()[buffer[length++] & 0xFF];
     }
 
     protected ConBeeDeviceState deserializeDeviceState() {
-        return new ConBeeDeviceState(buffer[length++]);
+        return new ConBeeDeviceState(buffer[length++] & 0xFF);
     }
 
     protected ConBeeAddressMode deserializeAddressMode() {
-        return ConBeeAddressMode.getMode(buffer[length++]);
+        return ConBeeAddressMode.getMode(buffer[length++] & 0xFF);
     }
 
     protected void serializeAddressMode(ConBeeAddressMode mode) {
-        buffer[length++] = mode.getKey();
+        buffer[length++] = (byte) mode.getKey();
     }
 
     /**
@@ -95,17 +114,16 @@ public abstract class ConBeeFrame {
      * @param val
      */
     public void serializeUInt16(int val) {
-        buffer[length++] = val & 0xFF;
-        buffer[length++] = (val >> 8) & 0xFF;
+        buffer[length++] = (byte) val;
+        buffer[length++] = (byte) (val >> 8);
     }
 
     protected int deserializeUInt16() {
-        return buffer[length++] + (buffer[length++] << 8);
+        return deserializeUInt8() + (deserializeUInt8() << 8);
     }
 
     protected IeeeAddress deserializeIeeeAddress() {
-        length = length + 8;
-        return new IeeeAddress(Arrays.copyOfRange(buffer, length - 8, length));
+        return new IeeeAddress(deserializeUInt8Array(8));
     }
 
     /**
@@ -114,14 +132,15 @@ public abstract class ConBeeFrame {
      * @param val
      */
     public void serializeUInt32(int val) {
-        buffer[length++] = val & 0xFF;
-        buffer[length++] = (val >> 8) & 0xFF;
-        buffer[length++] = (val >> 16) & 0xFF;
-        buffer[length++] = (val >> 24) & 0xFF;
+        buffer[length++] = (byte) val;
+        buffer[length++] = (byte) (val >> 8);
+        buffer[length++] = (byte) (val >> 16);
+        buffer[length++] = (byte) (val >> 24);
     }
 
     protected int deserializeUInt32() {
-        return buffer[length++] + (buffer[length++] << 8) + (buffer[length++] << 16) + (buffer[length++] << 24);
+        return deserializeUInt8() + (deserializeUInt8() << 8) + (deserializeUInt8() << 16)
+                + (deserializeUInt8() << 24);
     }
 
     public void setSequence(int sequence) {
@@ -132,22 +151,29 @@ public abstract class ConBeeFrame {
         return sequence;
     }
 
-    private static int getChecksum(final int[] frame, int length) {
+    private static int getChecksum(final byte[] frame, int length) {
         int crc = 0x0;
 
         for (int cnt = 0; cnt < length; cnt++) {
-            crc += frame[cnt];
+            crc += frame[cnt] & 0xFF;
         }
         return (~crc + 1) & 0xffff;
     }
 
-    public static ConBeeFrame create(final int[] buffer) {
+    /**
+     * Creates a {@link ConBeeFrame} from a received frame. The frame holds a reference to the buffer, and received
+     * data may be returned as a view of the buffer, so the caller must not reuse the buffer once the frame is created.
+     *
+     * @param buffer the received frame data, including the checksum
+     * @return the {@link ConBeeFrame}, or null if the checksum is incorrect or the frame is unknown
+     */
+    public static ConBeeFrame create(final byte[] buffer) {
         // Check the checksum
         int checksum = getChecksum(buffer, buffer.length - 2);
-        if (checksum != (buffer[buffer.length - 2] + (buffer[buffer.length - 1] << 8))) {
+        if (checksum != ((buffer[buffer.length - 2] & 0xFF) + ((buffer[buffer.length - 1] & 0xFF) << 8))) {
             return null;
         }
-        switch (buffer[0]) {
+        switch (buffer[0] & 0xFF) {
             case DEVICE_STATE:
                 return new ConBeeDeviceStateResponse(buffer);
             case DEVICE_STATE_CHANGED:
@@ -17,7 +17,7 @@ public class ConBeeFrameResponse extends ConBeeFrame {
 
     protected ConBeeDeviceState state = new ConBeeDeviceState(0);
 
-    public ConBeeFrameResponse(int[] response) {
+    public ConBeeFrameResponse(byte[] response) {
         this.buffer = response;
     }
 
@@ -7,8 +7,6 @@
  */
 package com.zsmartsystems.zigbee.dongle.conbee.internal.frame;
 
-import java.util.Arrays;
-
 import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeEndpointAddress;
@@ -26,7 +24,7 @@ public class ConBeeQuerySendDataResponse extends ConBeeFrameResponse {
     private IeeeAddress destinationIeeeAddress;
     private int destinationEndpoint;
 
-    ConBeeQuerySendDataResponse(final int[] response) {
+    ConBeeQuerySendDataResponse(final byte[] response) {
         super(response);
 
         if (deserializeUInt8() != APS_DATA_CONFIRM) {
@@ -50,7 +48,7 @@ public class ConBeeQuerySendDataResponse extends ConBeeFrameResponse {
                 destinationAddress = new ZigBeeEndpointAddress(deserializeUInt16());
                 break;
             case IEEE:
-                destinationIeeeAddress = new IeeeAddress(Arrays.copyOfRange(buffer, length, length + 8));
+                destinationIeeeAddress = deserializeIeeeAddress();
                 break;
             default:
                 break;
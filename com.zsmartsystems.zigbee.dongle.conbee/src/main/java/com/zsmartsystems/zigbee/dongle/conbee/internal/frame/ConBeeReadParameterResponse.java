@@ -22,7 +22,7 @@ public class ConBeeReadParameterResponse extends ConBeeFrameResponse {
     private ConBeeNetworkParameter parameter;
     private int[] value;
 
-    ConBeeReadParameterResponse(final int[] response) {
+    ConBeeReadParameterResponse(final byte[] response) {
         super(response);
 
         if (deserializeUInt8() != READ_PARAMETER) {
@@ -7,7 +7,7 @@
  */
 package com.zsmartsystems.zigbee.dongle.conbee.internal.frame;
 
-import java.util.Arrays;
+import java.nio.ByteBuffer;
 
 import com.zsmartsystems.zigbee.IeeeAddress;
 
@@ -28,11 +28,11 @@ public class ConBeeReadReceivedDataResponse extends ConBeeFrameResponse {
     private int profileId;
     private int clusterId;
     private int adsuLength;
-    private int[] adsuData;
+    private ByteBuffer adsuData;
     private int lqi;
     private int rssi;
 
-    ConBeeReadReceivedDataResponse(final int[] response) {
+    ConBeeReadReceivedDataResponse(final byte[] response) {
         super(response);
 
         if (deserializeUInt8() != APS_DATA_INDICATION) {
@@ -57,7 +57,7 @@ public class ConBeeReadReceivedDataResponse extends ConBeeFrameResponse {
                 destinationNetworkAddress = deserializeUInt16();
                 break;
             case IEEE:
-                destinationIeeeAddress = new IeeeAddress(Arrays.copyOfRange(buffer, length, length + 8));
+                destinationIeeeAddress = deserializeIeeeAddress();
                 break;
             default:
                 break;
@@ -91,7 +91,8 @@ public class ConBeeReadReceivedDataResponse extends ConBeeFrameResponse {
 
         adsuLength = deserializeUInt16();
 
-        adsuData = Arrays.copyOfRange(buffer, length, length + adsuLength);
+        // The ADSU is a view of the received frame so the payload is not copied
+        adsuData = ByteBuffer.wrap(buffer, length, adsuLength).slice();
         length += adsuLength;
 
         deserializeUInt8(); // Reserved
@@ -188,7 +189,26 @@ public class ConBeeReadReceivedDataResponse extends ConBeeFrameResponse {
      * @return the adsuData
      */
     public int[] getAdsuData() {
-        return adsuData;
+        if (adsuData == null) {
+            return null;
+        }
+        int[] data = new int[adsuData.limit()];
+        for (int cnt = 0; cnt < data.length; cnt++) {
+            data[cnt] = adsuData.get(cnt) & 0xFF;
+        }
+        return data;
+    }
+
+    /**
+     * Gets the adsuData as a read only {@link ByteBuffer} without copying the data
+     *
+     * @return the adsuData
+     */
+    public ByteBuffer getAdsuBuffer() {
+        if (adsuData == null) {
+            return null;
+        }
+        return adsuData.asReadOnlyBuffer();
     }
 
     /**
@@ -244,13 +264,11 @@ public class ConBeeReadReceivedDataResponse extends ConBeeFrameResponse {
         if (adsuData == null) {
             builder.append("null");
         } else {
-            boolean first = true;
-            for (int val : adsuData) {
-                if (!first) {
+            for (int cnt = 0; cnt < adsuData.limit(); cnt++) {
+                if (cnt != 0) {
                     builder.append(' ');
                 }
-                first = false;
-                builder.append(String.format("%02X", val));
+                builder.append(String.format("%02X", adsuData.get(cnt) & 0xFF));
             }
         }
         builder.append(']');
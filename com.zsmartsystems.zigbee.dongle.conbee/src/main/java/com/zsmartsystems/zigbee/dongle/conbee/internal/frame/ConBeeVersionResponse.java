@@ -15,7 +15,7 @@ package com.zsmartsystems.zigbee.dongle.conbee.internal.frame;
 public class ConBeeVersionResponse extends ConBeeFrameResponse {
     private int version;
 
-    ConBeeVersionResponse(final int[] response) {
+    ConBeeVersionResponse(final byte[] response) {
         super(response);
 
         if (deserializeUInt8() != VERSION) {
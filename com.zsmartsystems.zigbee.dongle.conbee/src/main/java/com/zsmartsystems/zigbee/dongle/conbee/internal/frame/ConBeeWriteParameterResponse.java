@@ -15,7 +15,7 @@ package com.zsmartsystems.zigbee.dongle.conbee.internal.frame;
 public class ConBeeWriteParameterResponse extends ConBeeFrameResponse {
     private ConBeeNetworkParameter parameter;
 
-    ConBeeWriteParameterResponse(final int[] response) {
+    ConBeeWriteParameterResponse(final byte[] response) {
         super(response);
 
         if (deserializeUInt8() != WRITE_PARAMETER) {
@@ -7,6 +7,7 @@
  */
 package com.zsmartsystems.zigbee.dongle.conbee.internal.frame;
 
+import static com.zsmartsystems.zigbee.dongle.conbee.internal.frame.ConBeeFrameTestUtilities.getBytes;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -26,7 +27,7 @@ public class ConBeeDeviceStateChangedTest {
     @Test
     public void doRequest() {
         ConBeeDeviceStateChanged response = new ConBeeDeviceStateChanged(
-                new int[] { 0x0E, 0x11, 0x00, 0x07, 0x00, 0xA6, 0x00, 0x34, 0xFF });
+                getBytes(new int[] { 0x0E, 0x11, 0x00, 0x07, 0x00, 0xA6, 0x00, 0x34, 0xFF }));
         System.out.print(response);
 
         assertEquals(17, response.getSequence());
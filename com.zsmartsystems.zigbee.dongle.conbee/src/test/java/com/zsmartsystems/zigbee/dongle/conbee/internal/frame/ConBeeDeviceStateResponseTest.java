@@ -7,6 +7,7 @@
  */
 package com.zsmartsystems.zigbee.dongle.conbee.internal.frame;
 
+import static com.zsmartsystems.zigbee.dongle.conbee.internal.frame.ConBeeFrameTestUtilities.getBytes;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -26,7 +27,7 @@ public class ConBeeDeviceStateResponseTest {
     @Test
     public void doRequest() {
         ConBeeDeviceStateResponse response = new ConBeeDeviceStateResponse(
-                new int[] { 0x07, 0x00, 0x00, 0x08, 0x00, 0xA2, 0x00, 0x00, 0x4F, 0xFF });
+                getBytes(new int[] { 0x07, 0x00, 0x00, 0x08, 0x00, 0xA2, 0x00, 0x00, 0x4F, 0xFF }));
         System.out.print(response);
 
         assertEquals(0, response.getSequence());
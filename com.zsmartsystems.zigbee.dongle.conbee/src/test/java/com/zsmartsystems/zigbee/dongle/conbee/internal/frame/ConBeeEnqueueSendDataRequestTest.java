@@ -7,8 +7,10 @@
  */
 package com.zsmartsystems.zigbee.dongle.conbee.internal.frame;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import org.junit.Test;
@@ -42,4 +44,30 @@ public class ConBeeEnqueueSendDataRequestTest {
                         0x00, 0x00, 0x33, 0x06, 0x00, 0xaa, 0xbb, 0xcc, 0xdd, 0xee, 0xff, 0x04, 0x1f, 0x47, 0xf8 },
                 request.getOutputBuffer()));
     }
+
+    @Test
+    public void doRequestBuffer() {
+        ConBeeEnqueueSendDataRequest request = new ConBeeEnqueueSendDataRequest();
+        request.setSequence(0x11);
+        request.setRequestId(0x22);
+        request.setDestinationAddress(new ZigBeeEndpointAddress(0x9876, 0x54));
+        request.setDestinationAddressMode(ConBeeAddressMode.NWK);
+        request.setProfileId(0x4444);
+        request.setClusterId(0x0000);
+        request.setRadius(0x1F);
+        request.setSourceEndpoint(0x33);
+
+        // Only the remaining bytes of the buffer are sent
+        ByteBuffer adsuData = ByteBuffer.wrap(new byte[] { 0x00, (byte) 0xAA, (byte) 0xBB, (byte) 0xCC, (byte) 0xDD,
+                (byte) 0xEE, (byte) 0xFF });
+        adsuData.position(1);
+        request.setAdsuData(adsuData);
+        System.out.println(request);
+
+        assertTrue(Arrays.equals(
+                new int[] { 0x12, 0x11, 0x00, 0x1C, 0x00, 0x15, 0x00, 0x22, 0x00, 0x02, 0x76, 0x98, 0x54, 0x44, 0x44,
+                        0x00, 0x00, 0x33, 0x06, 0x00, 0xaa, 0xbb, 0xcc, 0xdd, 0xee, 0xff, 0x04, 0x1f, 0x47, 0xf8 },
+                request.getOutputBuffer()));
+        assertEquals(1, adsuData.position());
+    }
 }
@@ -7,6 +7,7 @@
  */
 package com.zsmartsystems.zigbee.dongle.conbee.internal.frame;
 
+import static com.zsmartsystems.zigbee.dongle.conbee.internal.frame.ConBeeFrameTestUtilities.getBytes;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 
@@ -25,7 +26,7 @@ public class ConBeeEnqueueSendDataResponseTest {
     @Test
     public void doRequest() {
         ConBeeEnqueueSendDataResponse response = new ConBeeEnqueueSendDataResponse(
-                new int[] { 0x12, 0x0D, 0x00, 0x09, 0x00, 0x02, 0x00, 0x22, 0x00, 0xB4, 0xFF });
+                getBytes(new int[] { 0x12, 0x0D, 0x00, 0x09, 0x00, 0x02, 0x00, 0x22, 0x00, 0xB4, 0xFF }));
         System.out.print(response);
 
         assertEquals(13, response.getSequence());
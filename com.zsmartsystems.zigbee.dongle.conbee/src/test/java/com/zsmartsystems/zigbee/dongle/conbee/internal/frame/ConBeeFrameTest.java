@@ -7,6 +7,7 @@
  */
 package com.zsmartsystems.zigbee.dongle.conbee.internal.frame;
 
+import static com.zsmartsystems.zigbee.dongle.conbee.internal.frame.ConBeeFrameTestUtilities.getBytes;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -28,7 +29,7 @@ public class ConBeeFrameTest {
     @Test
     public void testCreateDeviceStateResponse() {
         ConBeeFrame frame = ConBeeFrame
-                .create(new int[] { 0x07, 0x00, 0x00, 0x08, 0x00, 0xA2, 0x00, 0x00, 0x4F, 0xFF });
+                .create(getBytes(new int[] { 0x07, 0x00, 0x00, 0x08, 0x00, 0xA2, 0x00, 0x00, 0x4F, 0xFF }));
         System.out.println(frame);
 
         assertNotNull(frame);
@@ -39,7 +40,7 @@ public class ConBeeFrameTest {
     @Test
     public void testCreateEnqueueSendDataResponse() {
         ConBeeFrame frame = ConBeeFrame
-                .create(new int[] { 0x12, 0x0D, 0x00, 0x09, 0x00, 0x02, 0x00, 0x22, 0x00, 0xB4, 0xFF });
+                .create(getBytes(new int[] { 0x12, 0x0D, 0x00, 0x09, 0x00, 0x02, 0x00, 0x22, 0x00, 0xB4, 0xFF }));
         System.out.println(frame);
 
         assertNotNull(frame);
@@ -49,8 +50,9 @@ public class ConBeeFrameTest {
 
     @Test
     public void testCreateQuerySendDataStateResponse() {
-        ConBeeFrame frame = ConBeeFrame.create(new int[] { 0x04, 0x00, 0x00, 0x13, 0x00, 0x0C, 0x00, 0x22, 0x21, 0x02,
-                0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x98, 0xFF });
+        ConBeeFrame frame = ConBeeFrame.create(
+                getBytes(new int[] { 0x04, 0x00, 0x00, 0x13, 0x00, 0x0C, 0x00, 0x22, 0x21, 0x02,
+                0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x98, 0xFF }));
         System.out.println(frame);
 
         assertNotNull(frame);
@@ -0,0 +1,30 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.dongle.conbee.internal.frame;
+
+/**
+ * Utilities for building ConBee frames in tests
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ConBeeFrameTestUtilities {
+    /**
+     * Converts frame data, written as unsigned integers, to the byte array received from the dongle
+     *
+     * @param data the frame data
+     * @return the frame data as a byte array
+     */
+    public static byte[] getBytes(int[] data) {
+        byte[] bytes = new byte[data.length];
+        for (int cnt = 0; cnt < data.length; cnt++) {
+            bytes[cnt] = (byte) data[cnt];
+        }
+        return bytes;
+    }
+}
@@ -7,6 +7,7 @@
  */
 package com.zsmartsystems.zigbee.dongle.conbee.internal.frame;
 
+import static com.zsmartsystems.zigbee.dongle.conbee.internal.frame.ConBeeFrameTestUtilities.getBytes;
 import static org.junit.Assert.assertEquals;
 
 import org.junit.Test;
@@ -25,8 +26,9 @@ import com.zsmartsystems.zigbee.dongle.conbee.internal.frame.ConBeeStatus;
 public class ConBeeReadParameterResponseTest {
     @Test
     public void readMacAddress() {
-        ConBeeReadParameterResponse readParameter = new ConBeeReadParameterResponse(new int[] { 0x0A, 0x02, 0x00, 0x10,
-                0x00, 0x09, 0x00, 0x01, 0x8C, 0x0A, 0x01, 0xFF, 0xFF, 0x2E, 0x21, 0x00, 0xF6, 0xFC });
+        ConBeeReadParameterResponse readParameter = new ConBeeReadParameterResponse(
+                getBytes(new int[] { 0x0A, 0x02, 0x00, 0x10,
+                0x00, 0x09, 0x00, 0x01, 0x8C, 0x0A, 0x01, 0xFF, 0xFF, 0x2E, 0x21, 0x00, 0xF6, 0xFC }));
         System.out.println(readParameter);
         assertEquals(2, readParameter.getSequence());
         assertEquals(ConBeeStatus.SUCCESS, readParameter.getStatus());
@@ -37,7 +39,7 @@ public class ConBeeReadParameterResponseTest {
     @Test
     public void readPanId() {
         ConBeeReadParameterResponse readParameter = new ConBeeReadParameterResponse(
-                new int[] { 0x0A, 0x04, 0x00, 0x0A, 0x00, 0x03, 0x00, 0x05, 0xD1, 0x06, 0x09, 0xFF });
+                getBytes(new int[] { 0x0A, 0x04, 0x00, 0x0A, 0x00, 0x03, 0x00, 0x05, 0xD1, 0x06, 0x09, 0xFF }));
         System.out.println(readParameter);
         assertEquals(4, readParameter.getSequence());
         assertEquals(ConBeeStatus.SUCCESS, readParameter.getStatus());
@@ -48,8 +50,9 @@ public class ConBeeReadParameterResponseTest {
 
     @Test
     public void readApsExtendedPanId() {
-        ConBeeReadParameterResponse readParameter = new ConBeeReadParameterResponse(new int[] { 0x0A, 0x05, 0x00, 0x10,
-                0x00, 0x09, 0x00, 0x0B, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0xCD, 0xFF });
+        ConBeeReadParameterResponse readParameter = new ConBeeReadParameterResponse(
+                getBytes(new int[] { 0x0A, 0x05, 0x00, 0x10,
+                0x00, 0x09, 0x00, 0x0B, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0xCD, 0xFF }));
         System.out.println(readParameter);
         assertEquals(5, readParameter.getSequence());
         assertEquals(ConBeeStatus.SUCCESS, readParameter.getStatus());
@@ -59,8 +62,9 @@ public class ConBeeReadParameterResponseTest {
 
     @Test
     public void readNwkExtendedPanId() {
-        ConBeeReadParameterResponse readParameter = new ConBeeReadParameterResponse(new int[] { 0x0A, 0x07, 0x00, 0x10,
-                0x00, 0x09, 0x00, 0x08, 0x8C, 0x0A, 0x01, 0xFF, 0xFF, 0x2E, 0x21, 0x00, 0xEA, 0xFC });
+        ConBeeReadParameterResponse readParameter = new ConBeeReadParameterResponse(
+                getBytes(new int[] { 0x0A, 0x07, 0x00, 0x10,
+                0x00, 0x09, 0x00, 0x08, 0x8C, 0x0A, 0x01, 0xFF, 0xFF, 0x2E, 0x21, 0x00, 0xEA, 0xFC }));
         System.out.println(readParameter);
         assertEquals(7, readParameter.getSequence());
         assertEquals(ConBeeStatus.SUCCESS, readParameter.getStatus());
@@ -71,7 +75,7 @@ public class ConBeeReadParameterResponseTest {
     @Test
     public void readNwkAddress() {
         ConBeeReadParameterResponse readParameter = new ConBeeReadParameterResponse(
-                new int[] { 0x0A, 0x06, 0x00, 0x0A, 0x00, 0x03, 0x00, 0x07, 0x00, 0x00, 0xDC, 0xFF });
+                getBytes(new int[] { 0x0A, 0x06, 0x00, 0x0A, 0x00, 0x03, 0x00, 0x07, 0x00, 0x00, 0xDC, 0xFF }));
         System.out.println(readParameter);
         assertEquals(6, readParameter.getSequence());
         assertEquals(ConBeeStatus.SUCCESS, readParameter.getStatus());
@@ -82,7 +86,7 @@ public class ConBeeReadParameterResponseTest {
     @Test
     public void readCurrentChannel() {
         ConBeeReadParameterResponse readParameter = new ConBeeReadParameterResponse(
-                new int[] { 0x0A, 0x08, 0x00, 0x09, 0x00, 0x02, 0x00, 0x1C, 0x19, 0xAE, 0xFF });
+                getBytes(new int[] { 0x0A, 0x08, 0x00, 0x09, 0x00, 0x02, 0x00, 0x1C, 0x19, 0xAE, 0xFF }));
         System.out.println(readParameter);
         assertEquals(8, readParameter.getSequence());
         assertEquals(ConBeeStatus.SUCCESS, readParameter.getStatus());
@@ -7,7 +7,9 @@
  */
 package com.zsmartsystems.zigbee.dongle.conbee.internal.frame;
 
+import static com.zsmartsystems.zigbee.dongle.conbee.internal.frame.ConBeeFrameTestUtilities.getBytes;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 import org.junit.Test;
 
@@ -23,24 +25,43 @@ import com.zsmartsystems.zigbee.dongle.conbee.internal.frame.ConBeeStatus;
 public class ConBeeReadReceivedDataResponseTest {
     @Test
     public void readResponse() {
-        ConBeeReadReceivedDataResponse readResponse = new ConBeeReadReceivedDataResponse(new int[] { 0x17, 0x0C, 0x00,
+        ConBeeReadReceivedDataResponse readResponse = new ConBeeReadReceivedDataResponse(
+                getBytes(new int[] { 0x17, 0x0C, 0x00,
                 0x32, 0x00, 0x2B, 0x00, 0x26, 0x02, 0x00, 0x00, 0x00, 0x03, 0x8C, 0x0A, 0x01, 0xFF, 0xFF, 0x2E, 0x21,
                 0x00, 0x00, 0x00, 0x00, 0x01, 0x80, 0x0E, 0x00, 0x00, 0x00, 0x8C, 0x0A, 0x01, 0xFF, 0xFF, 0x2E, 0x21,
-                0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0xAF, 0x00, 0x00, 0x00, 0x02, 0x02, 0x00, 0x4B, 0xF8, 0xC0 });
+                0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0xAF, 0x00, 0x00, 0x00, 0x02, 0x02, 0x00, 0x4B, 0xF8, 0xC0 }));
         System.out.println(readResponse);
         assertEquals(12, readResponse.getSequence());
         assertEquals(ConBeeStatus.SUCCESS, readResponse.getStatus());
         assertEquals(0x8001, readResponse.getClusterId());
         assertEquals(14, readResponse.getAdsuData().length);
+        assertEquals(14, readResponse.getAdsuBuffer().remaining());
+        assertEquals((byte) 0x8C, readResponse.getAdsuBuffer().get(2));
         assertEquals(new IeeeAddress("00212EFFFF010A8C"), readResponse.getSourceIeeeAddress());
     }
 
+    @Test
+    public void readResponseWithoutCopy() {
+        byte[] frame = getBytes(new int[] { 0x17, 0x0C, 0x00, 0x32, 0x00, 0x2B, 0x00, 0x26, 0x02, 0x00, 0x00, 0x00,
+                0x03, 0x8C, 0x0A, 0x01, 0xFF, 0xFF, 0x2E, 0x21, 0x00, 0x00, 0x00, 0x00, 0x01, 0x80, 0x0E, 0x00, 0x00,
+                0x00, 0x8C, 0x0A, 0x01, 0xFF, 0xFF, 0x2E, 0x21, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0xAF, 0x00, 0x00,
+                0x00, 0x02, 0x02, 0x00, 0x4B, 0xF8, 0xC0 });
+        ConBeeReadReceivedDataResponse readResponse = new ConBeeReadReceivedDataResponse(frame);
+
+        // The ADSU buffer is a view of the received frame
+        frame[30] = 0x55;
+        assertEquals(0x55, readResponse.getAdsuBuffer().get(2));
+        assertEquals(0x55, readResponse.getAdsuData()[2]);
+    }
+
     @Test
     public void readErrorResponse() {
         ConBeeReadReceivedDataResponse readResponse = new ConBeeReadReceivedDataResponse(
-                new int[] { 0x17, 0x15, 0x05, 0x08, 0x00, 0x01, 0x00, 0x26, 0xA0, 0xFF, 0xC0 });
+                getBytes(new int[] { 0x17, 0x15, 0x05, 0x08, 0x00, 0x01, 0x00, 0x26, 0xA0, 0xFF, 0xC0 }));
         System.out.println(readResponse);
         assertEquals(21, readResponse.getSequence());
         assertEquals(ConBeeStatus.ERROR, readResponse.getStatus());
+        assertNull(readResponse.getAdsuData());
+        assertNull(readResponse.getAdsuBuffer());
     }
 }
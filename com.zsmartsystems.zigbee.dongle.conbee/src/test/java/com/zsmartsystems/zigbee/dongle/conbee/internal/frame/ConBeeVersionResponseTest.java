@@ -7,6 +7,7 @@
  */
 package com.zsmartsystems.zigbee.dongle.conbee.internal.frame;
 
+import static com.zsmartsystems.zigbee.dongle.conbee.internal.frame.ConBeeFrameTestUtilities.getBytes;
 import static org.junit.Assert.assertEquals;
 
 import org.junit.Test;
@@ -22,7 +23,7 @@ public class ConBeeVersionResponseTest {
     @Test
     public void readMacAddress() {
         ConBeeVersionResponse readParameter = new ConBeeVersionResponse(
-                new int[] { 0x0D, 0x02, 0x00, 0x09, 0x00, 0x00, 0x05, 0x1B, 0x26, 0xA2, 0xFF });
+                getBytes(new int[] { 0x0D, 0x02, 0x00, 0x09, 0x00, 0x00, 0x05, 0x1B, 0x26, 0xA2, 0xFF }));
         System.out.println(readParameter);
         assertEquals(2, readParameter.getSequence());
         assertEquals(0x261B0500, readParameter.getVersion());
@@ -7,12 +7,19 @@
  */
 package com.zsmartsystems.zigbee.dongle.conbee.internal.frame;
 
+import static com.zsmartsystems.zigbee.dongle.conbee.internal.frame.ConBeeFrameTestUtilities.getBytes;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
 
 import com.zsmartsystems.zigbee.ZigBeeStatus;
+import com.zsmartsystems.zigbee.aps.ZigBeeApsFrame;
 import com.zsmartsystems.zigbee.dongle.conbee.ZigBeeDongleConBee;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportReceive;
 
 /**
  *
@@ -27,4 +34,28 @@ public class ZigBeeDongleConBeeTest {
 
         assertEquals(ZigBeeStatus.UNSUPPORTED, dongle.setZigBeePanId(0));
     }
+
+    @Test
+    public void receiveIncomingFrame() {
+        ZigBeeDongleConBee dongle = new ZigBeeDongleConBee(null);
+        ZigBeeTransportReceive transportReceive = Mockito.mock(ZigBeeTransportReceive.class);
+        dongle.setZigBeeTransportReceive(transportReceive);
+
+        dongle.receiveIncomingFrame(new ConBeeReadReceivedDataResponse(
+                getBytes(new int[] { 0x17, 0x0C, 0x00, 0x32, 0x00,
+                0x2B, 0x00, 0x26, 0x02, 0x00, 0x00, 0x00, 0x03, 0x8C, 0x0A, 0x01, 0xFF, 0xFF, 0x2E, 0x21, 0x00, 0x00,
+                0x00, 0x00, 0x01, 0x80, 0x0E, 0x00, 0x00, 0x00, 0x8C, 0x0A, 0x01, 0xFF, 0xFF, 0x2E, 0x21, 0x00, 0x00,
+                0x00, 0x00, 0x00, 0x00, 0xAF, 0x00, 0x00, 0x00, 0x02, 0x02, 0x00, 0x4B, 0xF8, 0xC0 })));
+
+        ArgumentCaptor<ZigBeeApsFrame> apsFrameCaptor = ArgumentCaptor.forClass(ZigBeeApsFrame.class);
+        Mockito.verify(transportReceive).receiveCommand(apsFrameCaptor.capture());
+
+        // The payload is passed to the stack as a buffer so it is not converted to an integer array
+        ZigBeeApsFrame apsFrame = apsFrameCaptor.getValue();
+        assertEquals(0x8001, apsFrame.getCluster());
+        assertTrue(apsFrame.hasPayloadBuffer());
+        assertEquals(14, apsFrame.getPayloadLength());
+        assertArrayEquals(new int[] { 0x00, 0x00, 0x8C, 0x0A, 0x01, 0xFF, 0xFF, 0x2E, 0x21, 0x00, 0x00, 0x00, 0x00,
+                0x00 }, apsFrame.getPayload());
+    }
 }
@@ -23,6 +23,7 @@ import com.zsmartsystems.zigbee.ExtendedPanId;
 import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeStatus;
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.EzspFrame;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.EzspFrameRequest;
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.EzspFrameResponse;
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspAddEndpointRequest;
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspAddEndpointResponse;
@@ -128,6 +129,8 @@ import com.zsmartsystems.zigbee.dongle.ember.internal.EzspProtocolHandler;
 import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspMultiResponseTransaction;
 import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspSingleResponseTransaction;
 import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspTransaction;
+import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspTransactionFuture;
+import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspTransactionListener;
 import com.zsmartsystems.zigbee.security.ZigBeeKey;
 import com.zsmartsystems.zigbee.zcl.field.ByteArray;
 
@@ -193,6 +196,17 @@ public class EmberNcp {
         return response;
     }
 
+    /**
+     * Asynchronously requests the NCP version. See {@link #getVersion()}.
+     *
+     * @return the {@link EzspTransactionFuture} completed with the {@link EzspVersionResponse}, or null on error
+     */
+    public EzspTransactionFuture<EzspVersionResponse> getVersionAsync() {
+        EzspVersionRequest request = new EzspVersionRequest();
+        request.setDesiredProtocolVersion(EzspFrame.getEzspVersion());
+        return sendRequestAsync(request, EzspVersionResponse.class);
+    }
+
     /**
      * Resume network operation after a reboot. The node retains its original type. This should be called on startup
      * whether or not the node was previously part of a network. EMBER_NOT_JOINED is returned if the node is not part of
@@ -245,6 +259,16 @@ public class EmberNcp {
         return response.getState();
     }
 
+    /**
+     * Asynchronously gets the current security state. See {@link #getCurrentSecurityState()}.
+     *
+     * @return the {@link EzspTransactionFuture} completed with the {@link EzspGetCurrentSecurityStateResponse}, or
+     *         null on error
+     */
+    public EzspTransactionFuture<EzspGetCurrentSecurityStateResponse> getCurrentSecurityStateAsync() {
+        return sendRequestAsync(new EzspGetCurrentSecurityStateRequest(), EzspGetCurrentSecurityStateResponse.class);
+    }
+
     /**
      * Gets the current network parameters, or an empty parameters class if there's an error
      *
@@ -257,6 +281,16 @@ public class EmberNcp {
         return (EzspGetNetworkParametersResponse) transaction.getResponse();
     }
 
+    /**
+     * Asynchronously gets the current network parameters. See {@link #getNetworkParameters()}.
+     *
+     * @return the {@link EzspTransactionFuture} completed with the {@link EzspGetNetworkParametersResponse}, or null
+     *         on error
+     */
+    public EzspTransactionFuture<EzspGetNetworkParametersResponse> getNetworkParametersAsync() {
+        return sendRequestAsync(new EzspGetNetworkParametersRequest(), EzspGetNetworkParametersResponse.class);
+    }
+
     /**
      * Returns a value indicating whether the node is joining, joined to, or leaving a network.
      *
@@ -272,6 +306,15 @@ public class EmberNcp {
         return response.getStatus();
     }
 
+    /**
+     * Asynchronously gets the network state. See {@link #getNetworkState()}.
+     *
+     * @return the {@link EzspTransactionFuture} completed with the {@link EzspNetworkStateResponse}, or null on error
+     */
+    public EzspTransactionFuture<EzspNetworkStateResponse> getNetworkStateAsync() {
+        return sendRequestAsync(new EzspNetworkStateRequest(), EzspNetworkStateResponse.class);
+    }
+
     /**
      * Returns information about the children of the local node and the parent of the local node.
      *
@@ -288,6 +331,16 @@ public class EmberNcp {
         return response;
     }
 
+    /**
+     * Asynchronously gets the parent and child parameters of the local node. See {@link #getChildParameters()}.
+     *
+     * @return the {@link EzspTransactionFuture} completed with the {@link EzspGetParentChildParametersResponse}, or
+     *         null on error
+     */
+    public EzspTransactionFuture<EzspGetParentChildParametersResponse> getChildParametersAsync() {
+        return sendRequestAsync(new EzspGetParentChildParametersRequest(), EzspGetParentChildParametersResponse.class);
+    }
+
     /**
      * Returns information about a child of the local node.
      *
@@ -354,6 +407,15 @@ public class EmberNcp {
         return response.getValues();
     }
 
+    /**
+     * Asynchronously retrieves the Ember counters. See {@link #getCounters()}.
+     *
+     * @return the {@link EzspTransactionFuture} completed with the {@link EzspReadCountersResponse}, or null on error
+     */
+    public EzspTransactionFuture<EzspReadCountersResponse> getCountersAsync() {
+        return sendRequestAsync(new EzspReadCountersRequest(), EzspReadCountersResponse.class);
+    }
+
     /**
      * Clears the key table on the NCP
      *
@@ -432,6 +494,19 @@ public class EmberNcp {
         return response.getValue();
     }
 
+    /**
+     * Asynchronously gets a configuration value. See {@link #getConfiguration(EzspConfigId)}.
+     *
+     * @param configId the {@link EzspConfigId} to get
+     * @return the {@link EzspTransactionFuture} completed with the {@link EzspGetConfigurationValueResponse}, or null
+     *         on error
+     */
+    public EzspTransactionFuture<EzspGetConfigurationValueResponse> getConfigurationAsync(EzspConfigId configId) {
+        EzspGetConfigurationValueRequest request = new EzspGetConfigurationValueRequest();
+        request.setConfigId(configId);
+        return sendRequestAsync(request, EzspGetConfigurationValueResponse.class);
+    }
+
     /**
      * Set a configuration value
      *
@@ -523,6 +598,18 @@ public class EmberNcp {
         return getPolicyResponse.getDecisionId();
     }
 
+    /**
+     * Asynchronously gets a policy used by the NCP. See {@link #getPolicy(EzspPolicyId)}.
+     *
+     * @param policyId the {@link EzspPolicyId} to get
+     * @return the {@link EzspTransactionFuture} completed with the {@link EzspGetPolicyResponse}, or null on error
+     */
+    public EzspTransactionFuture<EzspGetPolicyResponse> getPolicyAsync(EzspPolicyId policyId) {
+        EzspGetPolicyRequest request = new EzspGetPolicyRequest();
+        request.setPolicyId(policyId);
+        return sendRequestAsync(request, EzspGetPolicyResponse.class);
+    }
+
     /**
      * Set a memory value used by the NCP.
      *
@@ -568,6 +655,18 @@ public class EmberNcp {
         return response.getValue();
     }
 
+    /**
+     * Asynchronously gets a memory value from the NCP. See {@link #getValue(EzspValueId)}.
+     *
+     * @param valueId the {@link EzspValueId} to get
+     * @return the {@link EzspTransactionFuture} completed with the {@link EzspGetValueResponse}, or null on error
+     */
+    public EzspTransactionFuture<EzspGetValueResponse> getValueAsync(EzspValueId valueId) {
+        EzspGetValueRequest request = new EzspGetValueRequest();
+        request.setValueId(valueId);
+        return sendRequestAsync(request, EzspGetValueResponse.class);
+    }
+
     /**
      * Adds a transient link key to the NCP
      *
@@ -721,6 +820,15 @@ public class EmberNcp {
         return response.getEui64();
     }
 
+    /**
+     * Asynchronously gets the {@link IeeeAddress} of the local node. See {@link #getIeeeAddress()}.
+     *
+     * @return the {@link EzspTransactionFuture} completed with the {@link EzspGetEui64Response}, or null on error
+     */
+    public EzspTransactionFuture<EzspGetEui64Response> getIeeeAddressAsync() {
+        return sendRequestAsync(new EzspGetEui64Request(), EzspGetEui64Response.class);
+    }
+
     /**
      * Gets the 16 bit network node id of the local node
      *
@@ -737,6 +845,15 @@ public class EmberNcp {
         return response.getNodeId();
     }
 
+    /**
+     * Asynchronously gets the 16 bit network node id of the local node. See {@link #getNwkAddress()}.
+     *
+     * @return the {@link EzspTransactionFuture} completed with the {@link EzspGetNodeIdResponse}, or null on error
+     */
+    public EzspTransactionFuture<EzspGetNodeIdResponse> getNwkAddressAsync() {
+        return sendRequestAsync(new EzspGetNodeIdRequest(), EzspGetNodeIdResponse.class);
+    }
+
     /**
      * Sets the radio output power at which a node is operating. Ember radios have discrete power settings. For a list
      * of available power settings, see the technical specification for the RF communication module in your Developer
@@ -1062,4 +1179,38 @@ public class EmberNcp {
         EzspGetMfgTokenResponse response = (EzspGetMfgTokenResponse) transaction.getResponse();
         return response.getTokenData();
     }
+
+    /**
+     * Sends a request to the NCP without waiting for the response. The returned future is completed with the response
+     * once it is received, or with null if the transaction fails or times out. Cancelling the returned future removes
+     * the outstanding transaction.
+     *
+     * @param request the {@link EzspFrameRequest} to send
+     * @param responseClass the {@link EzspFrameResponse} class expected in response to the request
+     * @return the {@link EzspTransactionFuture} completed with the response
+     */
+    private <T extends EzspFrameResponse> EzspTransactionFuture<T> sendRequestAsync(EzspFrameRequest request,
+            final Class<T> responseClass) {
+        final EzspTransactionFuture<T> future = new EzspTransactionFuture<>();
+        final EzspTransactionFuture<EzspFrame> transactionFuture = protocolHandler
+                .sendEzspRequestAsync(new EzspSingleResponseTransaction(request, responseClass));
+        if (transactionFuture == null) {
+            future.set(null);
+            return future;
+        }
+
+        transactionFuture.addListener(new EzspTransactionListener<EzspFrame>() {
+            @Override
+            public void transactionComplete(EzspFrame response) {
+                future.set(responseClass.isInstance(response) ? responseClass.cast(response) : null);
+            }
+        });
+        future.addListener(new EzspTransactionListener<T>() {
+            @Override
+            public void transactionComplete(T response) {
+                transactionFuture.cancel(false);
+            }
+        });
+        return future;
+    }
 }
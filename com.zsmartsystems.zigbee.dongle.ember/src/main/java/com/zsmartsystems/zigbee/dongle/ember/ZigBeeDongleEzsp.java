@@ -82,6 +82,8 @@ import com.zsmartsystems.zigbee.dongle.ember.internal.ash.AshFrameHandler;
 import com.zsmartsystems.zigbee.dongle.ember.internal.spi.SpiFrameHandler;
 import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspSingleResponseTransaction;
 import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspTransaction;
+import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspTransactionFuture;
+import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspTransactionListener;
 import com.zsmartsystems.zigbee.security.ZigBeeKey;
 import com.zsmartsystems.zigbee.transport.ConcentratorConfig;
 import com.zsmartsystems.zigbee.transport.DeviceType;
@@ -229,6 +231,12 @@ public class ZigBeeDongleEzsp implements ZigBeeTransportTransmit, ZigBeeTranspor
      */
     private int pollRate = 1000;
 
+    /**
+     * The maximum number of unacknowledged frames the ASH protocol handler may send to the NCP. If null, the handler
+     * default is used.
+     */
+    private Integer ashTxWindow;
+
     /**
      * The time the last command was sent from the {@link ZigBeeNetworkManager}. This is used by the dongle polling task
      * to not poll if commands are otherwise being sent so as to reduce unnecessary communications with the dongle.
@@ -618,6 +626,17 @@ public class ZigBeeDongleEzsp implements ZigBeeTransportTransmit, ZigBeeTranspor
         scheduleNetworkStatePolling();
     }
 
+    /**
+     * Set the maximum number of frames the ASH protocol handler may send to the NCP before it must wait for an
+     * acknowledgement. A larger window increases the throughput between the host and the NCP. This must be set before
+     * the dongle is initialized and only applies to the {@link EmberSerialProtocol#ASH2} protocol.
+     *
+     * @param ashTxWindow the maximum number of unacknowledged frames (1 to 7)
+     */
+    public void setAshTxWindow(int ashTxWindow) {
+        this.ashTxWindow = ashTxWindow;
+    }
+
     @Override
     public void shutdown() {
         logger.debug("EZSP Dongle: Shutdown");
@@ -691,7 +710,7 @@ public class ZigBeeDongleEzsp implements ZigBeeTransportTransmit, ZigBeeTranspor
         }
         lastSendCommand = System.currentTimeMillis();
 
-        EzspTransaction transaction;
+        final EzspTransaction transaction;
 
         EmberApsFrame emberApsFrame = new EmberApsFrame();
         emberApsFrame.setClusterId(apsFrame.getCluster());
@@ -760,23 +779,24 @@ public class ZigBeeDongleEzsp implements ZigBeeTransportTransmit, ZigBeeTranspor
 
         // The response from the SendXxxcast messages returns the network layer sequence number
         // We need to correlate this with the messageTag
-        executorService.execute(new Runnable() {
+        // The response is processed when it is received, so no thread is held while the NCP processes the request
+        EzspTransactionFuture<EzspFrame> future = frameHandler.sendEzspRequestAsync(transaction);
+        if (future == null) {
+            return;
+        }
+        future.addListener(new EzspTransactionListener<EzspFrame>() {
             @Override
-            public void run() {
-                frameHandler.sendEzspTransaction(transaction);
-
+            public void transactionComplete(EzspFrame response) {
                 EmberStatus status = null;
-                if (transaction.getResponse() instanceof EzspSendUnicastResponse) {
-                    fragmentationApsCounters.put(msgTag,
-                            ((EzspSendUnicastResponse) transaction.getResponse()).getSequence());
-                    status = ((EzspSendUnicastResponse) transaction.getResponse()).getStatus();
-                } else if (transaction.getResponse() instanceof EzspSendBroadcastResponse) {
-                    status = ((EzspSendBroadcastResponse) transaction.getResponse()).getStatus();
-                } else if (transaction.getResponse() instanceof EzspSendMulticastResponse) {
-                    status = ((EzspSendMulticastResponse) transaction.getResponse()).getStatus();
+                if (response instanceof EzspSendUnicastResponse) {
+                    fragmentationApsCounters.put(msgTag, ((EzspSendUnicastResponse) response).getSequence());
+                    status = ((EzspSendUnicastResponse) response).getStatus();
+                } else if (response instanceof EzspSendBroadcastResponse) {
+                    status = ((EzspSendBroadcastResponse) response).getStatus();
+                } else if (response instanceof EzspSendMulticastResponse) {
+                    status = ((EzspSendMulticastResponse) response).getStatus();
                 } else {
-                    logger.debug("Unable to get response from {} :: {}", transaction.getRequest(),
-                            transaction.getResponse());
+                    logger.debug("Unable to get response from {} :: {}", transaction.getRequest(), response);
                     return;
                 }
 
@@ -785,7 +805,14 @@ public class ZigBeeDongleEzsp implements ZigBeeTransportTransmit, ZigBeeTranspor
                 if (status == EmberStatus.EMBER_SUCCESS) {
                     return;
                 }
-                zigbeeTransportReceive.receiveCommandState(msgTag, ZigBeeTransportProgressState.TX_NAK);
+
+                // Notify the transport from the executor so the protocol handler receive thread is not blocked
+                executorService.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        zigbeeTransportReceive.receiveCommandState(msgTag, ZigBeeTransportProgressState.TX_NAK);
+                    }
+                });
             }
         });
     }
@@ -1221,7 +1248,11 @@ public class ZigBeeDongleEzsp implements ZigBeeTransportTransmit, ZigBeeTranspor
 
         switch (protocol) {
             case ASH2:
-                frameHandler = new AshFrameHandler(this);
+                AshFrameHandler ashFrameHandler = new AshFrameHandler(this);
+                if (ashTxWindow != null) {
+                    ashFrameHandler.setTxWindow(ashTxWindow);
+                }
+                frameHandler = ashFrameHandler;
                 break;
             case SPI:
                 frameHandler = new SpiFrameHandler(this);
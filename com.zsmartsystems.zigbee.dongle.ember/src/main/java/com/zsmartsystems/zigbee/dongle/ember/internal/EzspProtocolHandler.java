@@ -8,12 +8,12 @@
 package com.zsmartsystems.zigbee.dongle.ember.internal;
 
 import java.util.Map;
-import java.util.concurrent.Future;
 
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.EzspFrame;
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.EzspFrameRequest;
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.EzspFrameResponse;
 import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspTransaction;
+import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspTransactionFuture;
 import com.zsmartsystems.zigbee.transport.ZigBeePort;
 
 /**
@@ -64,12 +64,14 @@ public interface EzspProtocolHandler {
     public void connect();
 
     /**
-     * Sends an EZSP request to the NCP without waiting for the response.
+     * Sends an EZSP request to the NCP without waiting for the response. No thread is used while waiting for the
+     * response - the returned future is completed when the response is received, or with a null response if the
+     * transaction times out.
      *
      * @param ezspTransaction Request {@link EzspTransaction}
-     * @return response {@link Future} {@link EzspFrame}
+     * @return response {@link EzspTransactionFuture} {@link EzspFrame}, or null if the handler is closed
      */
-    public Future<EzspFrame> sendEzspRequestAsync(final EzspTransaction ezspTransaction);
+    public EzspTransactionFuture<EzspFrame> sendEzspRequestAsync(final EzspTransaction ezspTransaction);
 
     /**
      * Sends an EZSP request to the NCP and waits for the response. The response is correlated with the request and the
@@ -84,9 +86,9 @@ public interface EzspProtocolHandler {
      * Wait for the requested {@link EzspFrameResponse} to be received
      *
      * @param eventClass Request {@link EzspFrameResponse} to wait for
-     * @return response {@link Future} {@link EzspFrameResponse}
+     * @return response {@link EzspTransactionFuture} {@link EzspFrameResponse}
      */
-    public Future<EzspFrameResponse> eventWaitAsync(final Class<?> eventClass);
+    public EzspTransactionFuture<EzspFrameResponse> eventWaitAsync(final Class<?> eventClass);
 
     /**
      * Wait for the requested {@link EzspFrameResponse} to be received
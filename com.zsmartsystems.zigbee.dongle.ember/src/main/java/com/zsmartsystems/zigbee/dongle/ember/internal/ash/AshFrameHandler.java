@@ -8,17 +8,12 @@
 package com.zsmartsystems.zigbee.dongle.ember.internal.ash;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
 import java.util.Queue;
-import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -31,10 +26,11 @@ import com.zsmartsystems.zigbee.ZigBeeExecutors;
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.EzspFrame;
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.EzspFrameRequest;
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.EzspFrameResponse;
-import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspInvalidCommandResponse;
 import com.zsmartsystems.zigbee.dongle.ember.internal.EzspFrameHandler;
 import com.zsmartsystems.zigbee.dongle.ember.internal.EzspProtocolHandler;
 import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspTransaction;
+import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspTransactionFuture;
+import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspTransactionManager;
 import com.zsmartsystems.zigbee.transport.ZigBeePort;
 
 /**
@@ -78,11 +74,19 @@ public class AshFrameHandler implements EzspProtocolHandler {
     private int retries = 0;
 
     /**
-     * Maximum number of DATA frames we can transmit without an ACK
+     * Maximum number of DATA frames we can transmit without an ACK. The ASH protocol allows up to 7 frames to be
+     * outstanding since the frame number is 3 bits.
      */
-    private final int TX_WINDOW = 1;
+    private final static int TX_WINDOW_MAX = 7;
+    private final static int TX_WINDOW_DEFAULT = 1;
+    private int txWindow = TX_WINDOW_DEFAULT;
 
-    private long sentTime;
+    /**
+     * The time each outstanding DATA frame was sent, indexed by frame number. This is used to update the receive
+     * timeout when the frame is acknowledged. Retransmitted frames are set to 0 and do not update the timeout since
+     * we can't know which transmission is being acknowledged.
+     */
+    private final long[] sentTime = new long[8];
 
     private final static int ASH_CANCEL_BYTE = 0x1A;
     private final static int ASH_FLAG_BYTE = 0x7E;
@@ -124,8 +128,10 @@ public class AshFrameHandler implements EzspProtocolHandler {
 
     private boolean stateConnected = false;
 
-    private ExecutorService executor = ZigBeeExecutors.newCachedThreadPool("AshExecutor");
-    private final List<AshListener> transactionListeners = new ArrayList<AshListener>();
+    /**
+     * The outstanding EZSP transactions. Transaction timeouts share the ASH timer thread.
+     */
+    private final EzspTransactionManager transactionManager = new EzspTransactionManager(timer);
 
     /**
      * The packet handler.
@@ -157,6 +163,27 @@ public class AshFrameHandler implements EzspProtocolHandler {
         this.frameHandler = frameHandler;
     }
 
+    /**
+     * Sets the maximum number of DATA frames that may be sent to the NCP without being acknowledged. Increasing the
+     * window allows frames to be sent while waiting for the acknowledgement of previous frames, increasing the
+     * throughput of the link. The window is limited to between 1 and 7 frames.
+     *
+     * @param txWindow the maximum number of unacknowledged frames
+     */
+    public void setTxWindow(int txWindow) {
+        this.txWindow = Math.max(1, Math.min(TX_WINDOW_MAX, txWindow));
+        logger.debug("ASH: TX window set to {}", this.txWindow);
+    }
+
+    /**
+     * Gets the maximum number of DATA frames that may be sent to the NCP without being acknowledged.
+     *
+     * @return the maximum number of unacknowledged frames
+     */
+    public int getTxWindow() {
+        return txWindow;
+    }
+
     @Override
     public void start(final ZigBeePort port) {
         this.port = port;
@@ -221,7 +248,7 @@ public class AshFrameHandler implements EzspProtocolHandler {
                                         if (response == null) {
                                             logger.debug("ASH: No frame handler created for {}", packet);
                                         } else {
-                                            notifyTransactionComplete(response);
+                                            transactionManager.handleResponse(response);
                                             handleIncomingFrame(response);
                                         }
                                     } else if (!dataPacket.getReTx()) {
@@ -245,6 +272,8 @@ public class AshFrameHandler implements EzspProtocolHandler {
                                     break;
                                 case NAK:
                                     statsRxNaks++;
+                                    // Frames before the NAK ackNum have been received - resend from the rejected frame
+                                    ackSentQueue(packet.getAckNum());
                                     sendRetry();
                                     break;
                                 case RSTACK:
@@ -389,7 +418,6 @@ public class AshFrameHandler implements EzspProtocolHandler {
 
     @Override
     public void setClosing() {
-        executor.shutdown();
         closeHandler = true;
     }
 
@@ -400,7 +428,7 @@ public class AshFrameHandler implements EzspProtocolHandler {
         stopRetryTimer();
         stateConnected = false;
 
-        clearTransactionQueue();
+        transactionManager.clear();
 
         sentQueue.clear();
         sendQueue.clear();
@@ -408,7 +436,6 @@ public class AshFrameHandler implements EzspProtocolHandler {
         frameHandler.handleLinkStateChange(false);
 
         timer.shutdownNow();
-        executor.shutdownNow();
 
         try {
             parserThread.interrupt();
@@ -426,35 +453,39 @@ public class AshFrameHandler implements EzspProtocolHandler {
 
     // Synchronize this method so we can do the window check without interruption.
     // Otherwise this method could be called twice from different threads that could end up with
-    // more than the TX_WINDOW number of frames sent.
+    // more than the txWindow number of frames sent.
     private synchronized boolean sendNextFrame() {
-        // We're not allowed to send if we're not connected
-        if (!stateConnected) {
-            return false;
-        }
+        boolean sent = false;
+
+        // Fill the window with as many frames as we are allowed
+        while (stateConnected) {
+            // Check how many frames are outstanding
+            if (sentQueue.size() >= txWindow) {
+                // check timer task
+                if (!isRetryTimerRunning()) {
+                    startRetryTimer();
+                }
+                break;
+            }
 
-        // Check how many frames are outstanding
-        if (sentQueue.size() >= TX_WINDOW) {
-            // check timer task
-            if (timerFuture == null) {
-                startRetryTimer();
+            EzspFrameRequest nextFrame = sendQueue.poll();
+            if (nextFrame == null) {
+                // Nothing to send
+                break;
             }
-            return false;
-        }
 
-        EzspFrameRequest nextFrame = sendQueue.poll();
-        if (nextFrame == null) {
-            // Nothing to send
-            return false;
-        }
+            // Encapsulate the EZSP frame into the ASH packet
+            logger.trace("TX ASH EZSP: {}", nextFrame);
+            AshFrameData ashFrame = new AshFrameData(nextFrame);
 
-        // Encapsulate the EZSP frame into the ASH packet
-        logger.trace("TX ASH EZSP: {}", nextFrame);
-        AshFrameData ashFrame = new AshFrameData(nextFrame);
+            if (sentQueue.isEmpty()) {
+                retries = 0;
+            }
+            sendFrame(ashFrame);
+            sent = true;
+        }
 
-        retries = 0;
-        sendFrame(ashFrame);
-        return true;
+        return sent;
     }
 
     private synchronized void sendFrame(AshFrame ashFrame) {
@@ -481,16 +512,22 @@ public class AshFrameHandler implements EzspProtocolHandler {
         outputFrame(ashFrame);
     }
 
-    private void sendRetry() {
+    /**
+     * Resends all unacknowledged frames. The NCP discards any frames received after a missing frame, so all
+     * outstanding frames are resent in order starting with the oldest.
+     */
+    private synchronized void sendRetry() {
         logger.debug("ASH: Retry Sent Queue Length {}", sentQueue.size());
-        AshFrameData ashFrame = sentQueue.peek();
-        if (ashFrame == null) {
+        if (sentQueue.isEmpty()) {
             logger.debug("ASH: Retry nothing to resend!");
             return;
         }
 
-        ashFrame.setReTx();
-        outputFrame(ashFrame);
+        for (AshFrameData ashFrame : sentQueue) {
+            ashFrame.setReTx();
+            outputFrame(ashFrame);
+        }
+        startRetryTimer();
     }
 
     // Synchronize this method to ensure a packet gets sent as a block
@@ -498,14 +535,24 @@ public class AshFrameHandler implements EzspProtocolHandler {
         ashFrame.setAckNum(ackNum);
         logger.debug("--> TX ASH frame: {}", ashFrame);
 
-        // Send the data
-        for (int outByte : ashFrame.getOutputBuffer()) {
-            port.write(outByte);
+        // Send the data as a single block
+        int[] outputBuffer = ashFrame.getOutputBuffer();
+        byte[] outputData = new byte[outputBuffer.length];
+        for (int cnt = 0; cnt < outputBuffer.length; cnt++) {
+            outputData[cnt] = (byte) outputBuffer[cnt];
         }
+        port.write(outputData);
 
         // Only start the timer for data and reset frames
-        if (ashFrame instanceof AshFrameData || ashFrame instanceof AshFrameRst) {
-            sentTime = System.nanoTime();
+        if (ashFrame instanceof AshFrameData) {
+            // Only the first transmission of a frame can be used to measure the response time
+            sentTime[ashFrame.getFrmNum()] = ((AshFrameData) ashFrame).getReTx() ? 0 : System.nanoTime();
+
+            // The timer runs for the oldest outstanding frame, so don't restart it if it's already running
+            if (!isRetryTimerRunning()) {
+                startRetryTimer();
+            }
+        } else if (ashFrame instanceof AshFrameRst) {
             startRetryTimer();
         }
     }
@@ -554,28 +601,53 @@ public class AshFrameHandler implements EzspProtocolHandler {
 
     /**
      * Acknowledge frames we've sent and removes the from the sent queue.
-     * This method is called for each DATA or ACK frame where we have the 'ack' property.
+     * This method is called for each DATA, ACK or NAK frame where we have the 'ack' property.
      *
      * @param ackNum the last ack from the NCP
      */
-    private void ackSentQueue(int ackNum) {
-        // Handle the timer if it's running
-        if (sentTime != 0) {
-            stopRetryTimer();
-            receiveTimeout = (int) ((receiveTimeout * 7 / 8) + ((System.nanoTime() - sentTime) / 2000000));
+    private synchronized void ackSentQueue(int ackNum) {
+        AshFrameData oldestFrame = sentQueue.peek();
+        if (oldestFrame == null) {
+            return;
+        }
+
+        // The ackNum must be within the window of frames we have outstanding, otherwise it can not refer to any of
+        // the frames in the queue and we would remove frames that have not been received
+        int ackedFrames = (ackNum - oldestFrame.getFrmNum()) & 0x07;
+        if (ackedFrames > sentQueue.size()) {
+            logger.debug("ASH: Ignoring ackNum {} outside of TX window", ackNum);
+            return;
+        }
+        if (ackedFrames == 0) {
+            return;
+        }
+
+        long responseTime = 0;
+        for (int cnt = 0; cnt < ackedFrames; cnt++) {
+            AshFrameData ackedFrame = sentQueue.poll();
+            if (sentTime[ackedFrame.getFrmNum()] != 0) {
+                responseTime = System.nanoTime() - sentTime[ackedFrame.getFrmNum()];
+                sentTime[ackedFrame.getFrmNum()] = 0;
+            }
+            logger.debug("ASH: Frame acked and removed {}", ackedFrame);
+        }
+
+        // Update the receive timeout with the response time of the latest frame that was not retransmitted
+        if (responseTime != 0) {
+            receiveTimeout = (int) ((receiveTimeout * 7 / 8) + (responseTime / 2000000));
             if (receiveTimeout < T_RX_ACK_MIN) {
                 receiveTimeout = T_RX_ACK_MIN;
             } else if (receiveTimeout > T_RX_ACK_MAX) {
                 receiveTimeout = T_RX_ACK_MAX;
             }
-            logger.trace("ASH: RX Timer took {}ms, timer now {}ms", (System.nanoTime() - sentTime) / 1000000,
-                    receiveTimeout);
-            sentTime = 0;
+            logger.trace("ASH: RX Timer took {}ms, timer now {}ms", responseTime / 1000000, receiveTimeout);
         }
 
-        while (sentQueue.peek() != null && sentQueue.peek().getFrmNum() != ackNum) {
-            AshFrameData ackedFrame = sentQueue.poll();
-            logger.debug("ASH: Frame acked and removed {}", ackedFrame);
+        // We've made progress, so restart the timer for any remaining frames
+        retries = 0;
+        stopRetryTimer();
+        if (!sentQueue.isEmpty()) {
+            startRetryTimer();
         }
     }
 
@@ -597,6 +669,10 @@ public class AshFrameHandler implements EzspProtocolHandler {
         logger.trace("ASH: Started connect timer");
     }
 
+    private synchronized boolean isRetryTimerRunning() {
+        return timerFuture != null && !timerFuture.isDone();
+    }
+
     private synchronized void stopRetryTimer() {
         // Stop any existing timer
         if (timerFuture != null) {
@@ -664,124 +740,25 @@ public class AshFrameHandler implements EzspProtocolHandler {
         }
     }
 
-    /**
-     * Aborts all waiting transactions
-     */
-    private void clearTransactionQueue() {
-        synchronized (transactionListeners) {
-            for (AshListener listener : transactionListeners) {
-                listener.transactionComplete();
-            }
-        }
-    }
-
-    /**
-     * Notify any transaction listeners when we receive a response.
-     *
-     * @param response the response data received
-     * @return true if the response was processed
-     */
-    private boolean notifyTransactionComplete(final EzspFrameResponse response) {
-        boolean processed = false;
-
-        synchronized (transactionListeners) {
-            for (AshListener listener : transactionListeners) {
-                if (listener.transactionEvent(response)) {
-                    processed = true;
-                }
-            }
-        }
-
-        return processed;
-    }
-
-    private void addTransactionListener(AshListener listener) {
-        synchronized (transactionListeners) {
-            if (transactionListeners.contains(listener)) {
-                return;
-            }
-
-            transactionListeners.add(listener);
-        }
-    }
-
-    private void removeTransactionListener(AshListener listener) {
-        synchronized (transactionListeners) {
-            transactionListeners.remove(listener);
-        }
-    }
-
     @Override
-    public Future<EzspFrame> sendEzspRequestAsync(final EzspTransaction ezspTransaction) {
+    public EzspTransactionFuture<EzspFrame> sendEzspRequestAsync(final EzspTransaction ezspTransaction) {
         if (closeHandler) {
             logger.debug("ASH: Handler is closed");
             return null;
         }
 
-        class TransactionWaiter implements Callable<EzspFrame>, AshListener {
-            private boolean complete = false;
-
-            @Override
-            public EzspFrame call() {
-                // Register a listener
-                addTransactionListener(this);
-
-                // Send the transaction
-                queueFrame(ezspTransaction.getRequest());
-
-                // Wait for the transaction to complete
-                synchronized (this) {
-                    while (!complete) {
-                        try {
-                            wait();
-                        } catch (InterruptedException e) {
-                            complete = true;
-                        }
-                    }
-                }
-
-                // Remove the listener
-                removeTransactionListener(this);
-
-                return ezspTransaction.getResponse();
-            }
-
-            @Override
-            public boolean transactionEvent(EzspFrameResponse ezspResponse) {
-                if (ezspResponse.getSequenceNumber() == ezspTransaction.getRequest().getSequenceNumber()
-                        && ezspResponse instanceof EzspInvalidCommandResponse) {
-                    // NCP doesn't support this command!
-                    transactionComplete();
-                    return true;
-                }
-
-                // Check if this response completes our transaction
-                if (!ezspTransaction.isMatch(ezspResponse)) {
-                    return false;
-                }
-
-                transactionComplete();
-
-                return true;
-            }
-
-            @Override
-            public void transactionComplete() {
-                synchronized (this) {
-                    complete = true;
-                    notify();
-                }
-            }
-        }
-
-        return executor.submit(new TransactionWaiter());
+        // Register the transaction before sending so the response can not be missed
+        EzspTransactionFuture<EzspFrame> future = transactionManager.addTransaction(ezspTransaction,
+                TimeUnit.SECONDS.toMillis(EZSP_TRANSACTION_TIMEOUT_SECONDS));
+        queueFrame(ezspTransaction.getRequest());
+        return future;
     }
 
     @Override
     public EzspTransaction sendEzspTransaction(EzspTransaction ezspTransaction) {
         logger.debug("TX EZSP: {}", ezspTransaction.getRequest());
 
-        Future<EzspFrame> futureResponse = sendEzspRequestAsync(ezspTransaction);
+        EzspTransactionFuture<EzspFrame> futureResponse = sendEzspRequestAsync(ezspTransaction);
         if (futureResponse == null) {
             logger.debug("ASH: Error sending EZSP transaction: Future is null");
             return null;
@@ -804,62 +781,11 @@ public class AshFrameHandler implements EzspProtocolHandler {
      * Wait for the requested {@link EzspFrameResponse} to be received
      *
      * @param eventClass Request {@link EzspFrameResponse} to wait for
-     * @return response {@link Future} {@link EzspFrameResponse}
+     * @return response {@link EzspTransactionFuture} {@link EzspFrameResponse}
      */
     @Override
-    public Future<EzspFrameResponse> eventWaitAsync(final Class<?> eventClass) {
-        class TransactionWaiter implements Callable<EzspFrameResponse>, AshListener {
-            private boolean complete = false;
-            private EzspFrameResponse receivedEvent = null;
-
-            @Override
-            public EzspFrameResponse call() {
-                // Register a listener
-                addTransactionListener(this);
-
-                // Wait for the event
-                synchronized (this) {
-                    while (!complete) {
-                        try {
-                            wait();
-                        } catch (InterruptedException e) {
-                            logger.debug("ASH interrupted in eventWaitAsync {}", eventClass);
-                        }
-                    }
-                }
-
-                // Remove the listener
-                removeTransactionListener(this);
-
-                return receivedEvent;
-            }
-
-            @Override
-            public boolean transactionEvent(EzspFrameResponse ezspResponse) {
-                // Check if this response completes our transaction
-                if (ezspResponse.getClass() != eventClass) {
-                    return false;
-                }
-
-                receivedEvent = ezspResponse;
-
-                synchronized (this) {
-                    complete = true;
-                    notify();
-                }
-                return true;
-            }
-
-            @Override
-            public void transactionComplete() {
-                synchronized (this) {
-                    complete = true;
-                    notify();
-                }
-            }
-        }
-
-        return executor.submit(new TransactionWaiter());
+    public EzspTransactionFuture<EzspFrameResponse> eventWaitAsync(final Class<?> eventClass) {
+        return transactionManager.addEventWait(eventClass, 0);
     }
 
     /**
@@ -871,7 +797,7 @@ public class AshFrameHandler implements EzspProtocolHandler {
      */
     @Override
     public EzspFrameResponse eventWait(final Class<?> eventClass, int timeout) {
-        Future<EzspFrameResponse> future = eventWaitAsync(eventClass);
+        EzspTransactionFuture<EzspFrameResponse> future = eventWaitAsync(eventClass);
         try {
             return future.get(timeout, TimeUnit.MILLISECONDS);
         } catch (InterruptedException | ExecutionException | TimeoutException e) {
@@ -906,10 +832,4 @@ public class AshFrameHandler implements EzspProtocolHandler {
         }
         return result.toString();
     }
-
-    interface AshListener {
-        boolean transactionEvent(EzspFrameResponse ezspResponse);
-
-        void transactionComplete();
-    }
 }
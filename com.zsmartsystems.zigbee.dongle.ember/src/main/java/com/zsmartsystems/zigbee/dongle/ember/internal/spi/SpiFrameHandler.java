@@ -8,17 +8,12 @@
 package com.zsmartsystems.zigbee.dongle.ember.internal.spi;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
 import java.util.Queue;
-import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -39,6 +34,8 @@ import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspSendUnicastRespons
 import com.zsmartsystems.zigbee.dongle.ember.internal.EzspFrameHandler;
 import com.zsmartsystems.zigbee.dongle.ember.internal.EzspProtocolHandler;
 import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspTransaction;
+import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspTransactionFuture;
+import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspTransactionManager;
 import com.zsmartsystems.zigbee.transport.ZigBeePort;
 
 /**
@@ -126,8 +123,10 @@ public class SpiFrameHandler implements EzspProtocolHandler {
 
     private int[] lastFrameSent = null;
 
-    private ExecutorService executor = ZigBeeExecutors.newCachedThreadPool("SpiExecutor");
-    private final List<SpiListener> transactionListeners = new ArrayList<SpiListener>();
+    /**
+     * The outstanding EZSP transactions. Transaction timeouts share the SPI timer thread.
+     */
+    private final EzspTransactionManager transactionManager = new EzspTransactionManager(timer);
 
     private final Map<Integer, String> errorMessages = new ConcurrentHashMap<Integer, String>();
 
@@ -465,7 +464,6 @@ public class SpiFrameHandler implements EzspProtocolHandler {
 
     @Override
     public void setClosing() {
-        executor.shutdown();
         closeHandler = true;
     }
 
@@ -483,14 +481,9 @@ public class SpiFrameHandler implements EzspProtocolHandler {
             stopRetryTimer();
         }
 
-        synchronized (transactionListeners) {
-            for (SpiListener listener : transactionListeners) {
-                listener.transactionComplete();
-            }
-        }
+        transactionManager.clear();
 
         timer.shutdownNow();
-        executor.shutdownNow();
 
         try {
             parserThread.interrupt();
@@ -566,12 +559,13 @@ public class SpiFrameHandler implements EzspProtocolHandler {
                 logger.debug(logMessage);
             }
 
-            // Send the data
-            for (int outByte : outputData) {
-                logger.trace("SPI TX: {}", String.format("%02X", outByte));
-                port.write(outByte);
+            // Send the data, terminated with the flag byte, as a single block
+            byte[] frameData = new byte[outputData.length + 1];
+            for (int cnt = 0; cnt < outputData.length; cnt++) {
+                frameData[cnt] = (byte) outputData[cnt];
             }
-            port.write(SPI_FLAG_BYTE);
+            frameData[outputData.length] = (byte) SPI_FLAG_BYTE;
+            port.write(frameData);
 
             startRetryTimer();
         }
@@ -656,15 +650,7 @@ public class SpiFrameHandler implements EzspProtocolHandler {
      * @return true if the response was processed
      */
     private boolean notifyTransactionComplete(final EzspFrameResponse response) {
-        boolean processed = false;
-
-        synchronized (transactionListeners) {
-            for (SpiListener listener : transactionListeners) {
-                if (listener.transactionEvent(response)) {
-                    processed = true;
-                }
-            }
-        }
+        boolean processed = transactionManager.handleResponse(response);
 
         // For responses to higher level commands, we still want to pass these up so we can provide the
         // update the transaction progress.
@@ -675,84 +661,23 @@ public class SpiFrameHandler implements EzspProtocolHandler {
         return processed;
     }
 
-    private void addTransactionListener(SpiListener listener) {
-        synchronized (transactionListeners) {
-            if (transactionListeners.contains(listener)) {
-                return;
-            }
-
-            transactionListeners.add(listener);
-        }
-    }
-
-    private void removeTransactionListener(SpiListener listener) {
-        synchronized (transactionListeners) {
-            transactionListeners.remove(listener);
-        }
-    }
-
     @Override
-    public Future<EzspFrame> sendEzspRequestAsync(final EzspTransaction ezspTransaction) {
-        class TransactionWaiter implements Callable<EzspFrame>, SpiListener {
-            private boolean complete = false;
-
-            @Override
-            public EzspFrame call() {
-                // Register a listener
-                addTransactionListener(this);
-
-                // Send the transaction
-                queueFrame(ezspTransaction.getRequest());
-
-                // Wait for the transaction to complete
-                synchronized (this) {
-                    while (!complete) {
-                        try {
-                            wait();
-                        } catch (InterruptedException e) {
-                            complete = true;
-                        }
-                    }
-                }
-
-                // Remove the listener
-                removeTransactionListener(this);
-
-                return ezspTransaction.getResponse();
-            }
-
-            @Override
-            public boolean transactionEvent(EzspFrameResponse ezspResponse) {
-                // Check if this response completes our transaction
-                if (!ezspTransaction.isMatch(ezspResponse)) {
-                    return false;
-                }
-
-                // response = request;
-                synchronized (this) {
-                    complete = true;
-                    notify();
-                }
-
-                return true;
-            }
-
-            @Override
-            public void transactionComplete() {
-                synchronized (this) {
-                    complete = true;
-                    notify();
-                }
-            }
+    public EzspTransactionFuture<EzspFrame> sendEzspRequestAsync(final EzspTransaction ezspTransaction) {
+        if (closeHandler) {
+            logger.debug("SPI: Handler is closed");
+            return null;
         }
 
-        Callable<EzspFrame> worker = new TransactionWaiter();
-        return executor.submit(worker);
+        // Register the transaction before sending so the response can not be missed
+        EzspTransactionFuture<EzspFrame> future = transactionManager.addTransaction(ezspTransaction,
+                TimeUnit.SECONDS.toMillis(EZSP_TRANSACTION_TIMEOUT_SECONDS));
+        queueFrame(ezspTransaction.getRequest());
+        return future;
     }
 
     @Override
     public EzspTransaction sendEzspTransaction(EzspTransaction ezspTransaction) {
-        Future<EzspFrame> futureResponse = sendEzspRequestAsync(ezspTransaction);
+        EzspTransactionFuture<EzspFrame> futureResponse = sendEzspRequestAsync(ezspTransaction);
         if (futureResponse == null) {
             logger.debug("Error sending EZSP transaction: Future is null");
             return null;
@@ -787,73 +712,15 @@ public class SpiFrameHandler implements EzspProtocolHandler {
         return spiErrors;
     }
 
-    interface SpiListener {
-        boolean transactionEvent(EzspFrameResponse ezspResponse);
-
-        void transactionComplete();
-    }
-
     /**
      * Wait for the requested {@link EzspFrameResponse} to be received.
      *
      * @param eventClass Request {@link EzspFrameResponse} to wait for
-     * @return response {@link Future} {@link EzspFrameResponse}
+     * @return response {@link EzspTransactionFuture} {@link EzspFrameResponse}
      */
     @Override
-    public Future<EzspFrameResponse> eventWaitAsync(final Class<?> eventClass) {
-        class TransactionWaiter implements Callable<EzspFrameResponse>, SpiListener {
-            private boolean complete = false;
-            private EzspFrameResponse receivedEvent = null;
-
-            @Override
-            public EzspFrameResponse call() {
-                // Register a listener
-                addTransactionListener(this);
-
-                // Wait for the event
-                synchronized (this) {
-                    while (!complete) {
-                        try {
-                            wait();
-                        } catch (InterruptedException e) {
-                            logger.debug("ASH interrupted in eventWaitAsync {}", eventClass);
-                        }
-                    }
-                }
-
-                // Remove the listener
-                removeTransactionListener(this);
-
-                return receivedEvent;
-            }
-
-            @Override
-            public boolean transactionEvent(EzspFrameResponse ezspResponse) {
-                // Check if this response completes our transaction
-                if (ezspResponse.getClass() != eventClass) {
-                    return false;
-                }
-
-                receivedEvent = ezspResponse;
-
-                synchronized (this) {
-                    complete = true;
-                    notify();
-                }
-                return true;
-            }
-
-            @Override
-            public void transactionComplete() {
-                synchronized (this) {
-                    complete = true;
-                    notify();
-                }
-            }
-        }
-
-        Callable<EzspFrameResponse> worker = new TransactionWaiter();
-        return executor.submit(worker);
+    public EzspTransactionFuture<EzspFrameResponse> eventWaitAsync(final Class<?> eventClass) {
+        return transactionManager.addEventWait(eventClass, 0);
     }
 
     /**
@@ -865,7 +732,7 @@ public class SpiFrameHandler implements EzspProtocolHandler {
      */
     @Override
     public EzspFrameResponse eventWait(final Class<?> eventClass, int timeout) {
-        Future<EzspFrameResponse> future = eventWaitAsync(eventClass);
+        EzspTransactionFuture<EzspFrameResponse> future = eventWaitAsync(eventClass);
         try {
             return future.get(timeout, TimeUnit.MILLISECONDS);
         } catch (InterruptedException | ExecutionException | TimeoutException e) {
@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.dongle.ember.internal.transaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * {@link Future} implementation for asynchronous EZSP transactions. The future is completed by the thread that
+ * receives the response, or by the timeout scheduler, so no thread is required to wait for the response while the
+ * transaction is outstanding.
+ * <p>
+ * Users may block on the future with {@link #get()} in the normal way, or register an
+ * {@link EzspTransactionListener} with {@link #addListener(EzspTransactionListener)} to be notified when the
+ * transaction completes.
+ *
+ * @author Chris Jackson
+ *
+ * @param <T> the type of result provided by the transaction
+ */
+public class EzspTransactionFuture<T> implements Future<T> {
+    /**
+     * The result of the transaction
+     */
+    private T result;
+
+    private boolean done = false;
+
+    private boolean cancelled = false;
+
+    /**
+     * Listeners to be notified when the transaction completes
+     */
+    private final List<EzspTransactionListener<T>> listeners = new ArrayList<>();
+
+    /**
+     * Completes the future with the result. If the future is already complete this has no effect.
+     *
+     * @param result the result of the transaction, or null if the transaction failed
+     * @return true if this call completed the future
+     */
+    public boolean set(final T result) {
+        return complete(result, false);
+    }
+
+    /**
+     * Adds a listener to be called when the transaction completes. If the transaction is already complete, the
+     * listener is called immediately from the calling thread.
+     *
+     * @param listener the {@link EzspTransactionListener} to notify on completion
+     */
+    public void addListener(final EzspTransactionListener<T> listener) {
+        synchronized (this) {
+            if (!done) {
+                listeners.add(listener);
+                return;
+            }
+        }
+        listener.transactionComplete(result);
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return complete(null, true);
+    }
+
+    @Override
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public synchronized boolean isDone() {
+        return done;
+    }
+
+    @Override
+    public synchronized T get() throws InterruptedException, ExecutionException {
+        while (!done) {
+            wait();
+        }
+        return getResult();
+    }
+
+    @Override
+    public synchronized T get(long timeout, TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        long remaining = unit.toNanos(timeout);
+        long deadline = System.nanoTime() + remaining;
+        while (!done) {
+            if (remaining <= 0) {
+                throw new TimeoutException();
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            remaining = deadline - System.nanoTime();
+        }
+        return getResult();
+    }
+
+    private T getResult() {
+        if (cancelled) {
+            throw new CancellationException();
+        }
+        return result;
+    }
+
+    private boolean complete(final T result, boolean cancel) {
+        List<EzspTransactionListener<T>> completeListeners;
+        synchronized (this) {
+            if (done) {
+                return false;
+            }
+            this.result = result;
+            this.cancelled = cancel;
+            done = true;
+            notifyAll();
+
+            completeListeners = new ArrayList<>(listeners);
+            listeners.clear();
+        }
+
+        for (EzspTransactionListener<T> listener : completeListeners) {
+            listener.transactionComplete(result);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,26 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.dongle.ember.internal.transaction;
+
+/**
+ * Listener interface called when an {@link EzspTransactionFuture} completes.
+ *
+ * @author Chris Jackson
+ *
+ * @param <T> the type of result provided by the transaction
+ */
+public interface EzspTransactionListener<T> {
+    /**
+     * Called when the transaction completes. This is called once for each listener, from the thread that completed the
+     * transaction - this will normally be the protocol handler receive thread, or the timeout scheduler, so
+     * implementations must not block.
+     *
+     * @param result the result of the transaction, or null if the transaction failed, timed out or was cancelled
+     */
+    void transactionComplete(T result);
+}
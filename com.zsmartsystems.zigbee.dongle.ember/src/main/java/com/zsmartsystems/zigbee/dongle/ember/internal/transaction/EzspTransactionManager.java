@@ -0,0 +1,308 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.dongle.ember.internal.transaction;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.EzspFrame;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.EzspFrameResponse;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspInvalidCommandResponse;
+
+/**
+ * Tracks the outstanding EZSP transactions for a protocol handler, and correlates received {@link EzspFrameResponse}s
+ * with the transactions waiting for them. Transactions are completed through an {@link EzspTransactionFuture}, so no
+ * thread is blocked while a transaction is outstanding.
+ * <p>
+ * {@link EzspSingleResponseTransaction}s are held in a table indexed by the EZSP sequence number so that the
+ * transaction for a response is found without searching. Transactions that do not correlate on the sequence number
+ * (eg {@link EzspMultiResponseTransaction}s), event waits, and the rare case where a sequence number is still in use
+ * when it is reused, are held in a list and checked against every response.
+ * <p>
+ * Timeouts are handled by scheduling a task on the scheduler provided by the protocol handler, which completes the
+ * transaction with a null response.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class EzspTransactionManager {
+    /**
+     * The {@link Logger}.
+     */
+    private final Logger logger = LoggerFactory.getLogger(EzspTransactionManager.class);
+
+    /**
+     * The number of EZSP sequence numbers
+     */
+    private static final int SEQUENCE_SPACE = 256;
+
+    /**
+     * The scheduler used to time out transactions
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Table of single response transactions, indexed by the request sequence number
+     */
+    private final AtomicReferenceArray<PendingTransaction> sequenceTable = new AtomicReferenceArray<>(
+            SEQUENCE_SPACE);
+
+    /**
+     * List of transactions and event waits that can not be found from the sequence number
+     */
+    private final List<PendingResponse<?>> pendingList = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates the transaction manager
+     *
+     * @param scheduler the {@link ScheduledExecutorService} used to time out transactions
+     */
+    public EzspTransactionManager(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Registers an {@link EzspTransaction} to be completed when its response is received. This must be called before
+     * the request is sent to the NCP.
+     * <p>
+     * The returned future completes with the response from {@link EzspTransaction#getResponse()}, or null if the NCP
+     * reports that the command is invalid, or the transaction times out.
+     *
+     * @param transaction the {@link EzspTransaction} to register
+     * @param timeout the time in milliseconds to wait for the response, or 0 to wait indefinitely
+     * @return the {@link EzspTransactionFuture} that will be completed with the response
+     */
+    public EzspTransactionFuture<EzspFrame> addTransaction(EzspTransaction transaction, long timeout) {
+        PendingTransaction pending = new PendingTransaction(transaction);
+        if (!(transaction instanceof EzspSingleResponseTransaction)
+                || !sequenceTable.compareAndSet(pending.sequence, null, pending)) {
+            pendingList.add(pending);
+        }
+
+        pending.start(timeout);
+        return pending.future;
+    }
+
+    /**
+     * Registers to wait for an {@link EzspFrameResponse} of the requested class to be received.
+     *
+     * @param eventClass the {@link EzspFrameResponse} class to wait for
+     * @param timeout the time in milliseconds to wait for the response, or 0 to wait indefinitely
+     * @return the {@link EzspTransactionFuture} that will be completed with the received {@link EzspFrameResponse}
+     */
+    public EzspTransactionFuture<EzspFrameResponse> addEventWait(Class<?> eventClass, long timeout) {
+        PendingEvent pending = new PendingEvent(eventClass);
+        pendingList.add(pending);
+
+        pending.start(timeout);
+        return pending.future;
+    }
+
+    /**
+     * Passes a received {@link EzspFrameResponse} to the outstanding transactions, completing any that match.
+     *
+     * @param response the received {@link EzspFrameResponse}
+     * @return true if the response was used by an outstanding transaction
+     */
+    public boolean handleResponse(EzspFrameResponse response) {
+        boolean processed = false;
+
+        PendingTransaction pending = sequenceTable.get(response.getSequenceNumber() & 0xFF);
+        if (pending != null && pending.handleResponse(response)) {
+            processed = true;
+        }
+
+        for (PendingResponse<?> listed : pendingList) {
+            if (listed.handleResponse(response)) {
+                processed = true;
+            }
+        }
+
+        return processed;
+    }
+
+    /**
+     * Completes all outstanding transactions without a response. This is used when the protocol handler is closed.
+     */
+    public void clear() {
+        for (int sequence = 0; sequence < SEQUENCE_SPACE; sequence++) {
+            PendingTransaction pending = sequenceTable.get(sequence);
+            if (pending != null) {
+                pending.abort();
+            }
+        }
+        for (PendingResponse<?> pending : pendingList) {
+            pending.abort();
+        }
+    }
+
+    /**
+     * Gets the number of transactions and event waits that are outstanding
+     *
+     * @return the number of outstanding transactions
+     */
+    public int getPendingCount() {
+        int count = pendingList.size();
+        for (int sequence = 0; sequence < SEQUENCE_SPACE; sequence++) {
+            if (sequenceTable.get(sequence) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Base class for an outstanding transaction. This removes itself from the manager, and cancels its timeout, once the
+     * future completes for any reason.
+     */
+    private abstract class PendingResponse<T> implements EzspTransactionListener<T>, Runnable {
+        protected final EzspTransactionFuture<T> future = new EzspTransactionFuture<>();
+        private volatile ScheduledFuture<?> timeoutFuture;
+
+        /**
+         * Starts the transaction timer. This is called once the transaction is registered so that the timeout can
+         * always remove it.
+         *
+         * @param timeout the timeout in milliseconds, or 0 for no timeout
+         */
+        void start(long timeout) {
+            future.addListener(this);
+            if (timeout <= 0) {
+                return;
+            }
+            try {
+                timeoutFuture = scheduler.schedule(this, timeout, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                logger.debug("EZSP transaction timer rejected - handler is closing");
+                abort();
+                return;
+            }
+            if (future.isDone()) {
+                timeoutFuture.cancel(false);
+            }
+        }
+
+        /**
+         * Processes a received response
+         *
+         * @param response the received {@link EzspFrameResponse}
+         * @return true if the response was used by this transaction
+         */
+        abstract boolean handleResponse(EzspFrameResponse response);
+
+        /**
+         * Completes the transaction without a response
+         */
+        abstract void abort();
+
+        /**
+         * Removes the transaction from the manager
+         */
+        abstract void remove();
+
+        @Override
+        public void run() {
+            logger.debug("EZSP transaction timed out: {}", this);
+            abort();
+        }
+
+        @Override
+        public void transactionComplete(T result) {
+            remove();
+            ScheduledFuture<?> timer = timeoutFuture;
+            if (timer != null) {
+                timer.cancel(false);
+            }
+        }
+    }
+
+    private class PendingTransaction extends PendingResponse<EzspFrame> {
+        private final EzspTransaction transaction;
+        private final int sequence;
+
+        PendingTransaction(EzspTransaction transaction) {
+            this.transaction = transaction;
+            this.sequence = transaction.getRequest().getSequenceNumber() & 0xFF;
+        }
+
+        @Override
+        boolean handleResponse(EzspFrameResponse response) {
+            if (response instanceof EzspInvalidCommandResponse && response.getSequenceNumber() == sequence) {
+                // NCP doesn't support this command!
+                abort();
+                return true;
+            }
+
+            // Check if this response completes our transaction
+            if (!transaction.isMatch(response)) {
+                return false;
+            }
+
+            future.set(transaction.getResponse());
+            return true;
+        }
+
+        @Override
+        void abort() {
+            future.set(transaction.getResponse());
+        }
+
+        @Override
+        void remove() {
+            if (!sequenceTable.compareAndSet(sequence, this, null)) {
+                pendingList.remove(this);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return transaction.getRequest().toString();
+        }
+    }
+
+    private class PendingEvent extends PendingResponse<EzspFrameResponse> {
+        private final Class<?> eventClass;
+
+        PendingEvent(Class<?> eventClass) {
+            this.eventClass = eventClass;
+        }
+
+        @Override
+        boolean handleResponse(EzspFrameResponse response) {
+            if (response.getClass() != eventClass) {
+                return false;
+            }
+
+            future.set(response);
+            return true;
+        }
+
+        @Override
+        void abort() {
+            future.set(null);
+        }
+
+        @Override
+        void remove() {
+            pendingList.remove(this);
+        }
+
+        @Override
+        public String toString() {
+            return eventClass.getSimpleName();
+        }
+    }
+}
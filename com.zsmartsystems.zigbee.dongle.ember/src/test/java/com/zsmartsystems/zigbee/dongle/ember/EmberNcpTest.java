@@ -8,6 +8,8 @@
 package com.zsmartsystems.zigbee.dongle.ember;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -19,6 +21,7 @@ import org.mockito.stubbing.Answer;
 
 import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeChannelMask;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.EzspFrame;
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.EzspFrameRequest;
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.EzspFrameResponse;
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspClearKeyTableRequest;
@@ -46,6 +49,7 @@ import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspStartScanRequest;
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.structure.EmberStatus;
 import com.zsmartsystems.zigbee.dongle.ember.internal.EzspProtocolHandler;
 import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspTransaction;
+import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspTransactionFuture;
 
 /**
  *
@@ -225,4 +229,46 @@ public class EmberNcpTest {
         assertTrue(request instanceof EzspClearKeyTableRequest);
     }
 
+    @Test
+    public void getNetworkParametersAsync() throws Exception {
+        handler = Mockito.mock(EzspProtocolHandler.class);
+        EmberNcp ncp = new EmberNcp(handler);
+
+        EzspTransactionFuture<EzspFrame> transactionFuture = new EzspTransactionFuture<>();
+        Mockito.when(handler.sendEzspRequestAsync(ArgumentMatchers.any(EzspTransaction.class)))
+                .thenReturn(transactionFuture);
+
+        EzspTransactionFuture<EzspGetNetworkParametersResponse> future = ncp.getNetworkParametersAsync();
+        Mockito.verify(handler, Mockito.times(1)).sendEzspRequestAsync(ezspTransactionCapture.capture());
+        assertTrue(ezspTransactionCapture.getValue().getRequest() instanceof EzspGetNetworkParametersRequest);
+        assertFalse(future.isDone());
+
+        EzspGetNetworkParametersResponse response = Mockito.mock(EzspGetNetworkParametersResponse.class);
+        transactionFuture.set(response);
+        assertTrue(future.isDone());
+        assertEquals(response, future.get());
+    }
+
+    @Test
+    public void getNwkAddressAsync() throws Exception {
+        handler = Mockito.mock(EzspProtocolHandler.class);
+        EmberNcp ncp = new EmberNcp(handler);
+
+        EzspTransactionFuture<EzspFrame> transactionFuture = new EzspTransactionFuture<>();
+        Mockito.when(handler.sendEzspRequestAsync(ArgumentMatchers.any(EzspTransaction.class)))
+                .thenReturn(transactionFuture);
+
+        // Cancelling the request also cancels the outstanding transaction
+        EzspTransactionFuture<EzspGetNodeIdResponse> future = ncp.getNwkAddressAsync();
+        Mockito.verify(handler, Mockito.times(1)).sendEzspRequestAsync(ezspTransactionCapture.capture());
+        assertTrue(ezspTransactionCapture.getValue().getRequest() instanceof EzspGetNodeIdRequest);
+        future.cancel(true);
+        assertTrue(transactionFuture.isCancelled());
+
+        // A closed handler completes the request immediately
+        Mockito.when(handler.sendEzspRequestAsync(ArgumentMatchers.any(EzspTransaction.class))).thenReturn(null);
+        future = ncp.getNwkAddressAsync();
+        assertTrue(future.isDone());
+        assertNull(future.get());
+    }
 }
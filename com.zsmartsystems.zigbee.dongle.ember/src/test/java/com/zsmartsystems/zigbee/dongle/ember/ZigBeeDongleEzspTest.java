@@ -43,6 +43,7 @@ import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspChildJoinHandler;
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspIncomingMessageHandler;
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspMessageSentHandler;
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspNetworkStateRequest;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspSendUnicastResponse;
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspStackStatusHandler;
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspTrustCenterJoinHandler;
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspVersionResponse;
@@ -58,6 +59,7 @@ import com.zsmartsystems.zigbee.dongle.ember.ezsp.structure.EzspPolicyId;
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.structure.EzspStatus;
 import com.zsmartsystems.zigbee.dongle.ember.internal.EzspProtocolHandler;
 import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspTransaction;
+import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspTransactionFuture;
 import com.zsmartsystems.zigbee.transport.TransportConfig;
 import com.zsmartsystems.zigbee.transport.TransportConfigOption;
 import com.zsmartsystems.zigbee.transport.TrustCentreJoinMode;
@@ -485,9 +487,19 @@ public class ZigBeeDongleEzspTest {
         apsFrame.setRadius(30);
         apsFrame.setPayload(new int[] {});
 
+        EzspTransactionFuture<EzspFrame> future = new EzspTransactionFuture<>();
+        Mockito.when(handler.sendEzspRequestAsync(ArgumentMatchers.any(EzspTransaction.class))).thenReturn(future);
+        ZigBeeTransportReceive transport = Mockito.mock(ZigBeeTransportReceive.class);
+        dongle.setZigBeeTransportReceive(transport);
+
         dongle.sendCommand(1, apsFrame);
-        Mockito.verify(handler, Mockito.timeout(TIMEOUT).times(1))
-                .sendEzspTransaction(ArgumentMatchers.any(EzspTransaction.class));
+        Mockito.verify(handler, Mockito.times(1)).sendEzspRequestAsync(ArgumentMatchers.any(EzspTransaction.class));
+
+        // A failed send is reported to the transport once the response is received
+        EzspSendUnicastResponse response = Mockito.mock(EzspSendUnicastResponse.class);
+        Mockito.when(response.getStatus()).thenReturn(EmberStatus.EMBER_NETWORK_BUSY);
+        future.set(response);
+        Mockito.verify(transport, Mockito.timeout(TIMEOUT)).receiveCommandState(1, ZigBeeTransportProgressState.TX_NAK);
     }
 
     @Test
@@ -511,8 +523,7 @@ public class ZigBeeDongleEzspTest {
         apsFrame.setPayload(new int[] {});
 
         dongle.sendCommand(1, apsFrame);
-        Mockito.verify(handler, Mockito.timeout(TIMEOUT).times(1))
-                .sendEzspTransaction(ArgumentMatchers.any(EzspTransaction.class));
+        Mockito.verify(handler, Mockito.times(1)).sendEzspRequestAsync(ArgumentMatchers.any(EzspTransaction.class));
     }
 
     @Test
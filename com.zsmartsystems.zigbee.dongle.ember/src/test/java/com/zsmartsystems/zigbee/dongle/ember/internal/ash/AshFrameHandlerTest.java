@@ -21,17 +21,28 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+import org.awaitility.Awaitility;
 import org.junit.Test;
 import org.mockito.Mockito;
 
 import com.zsmartsystems.zigbee.TestUtilities;
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.EzspFrame;
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.EzspFrameRequest;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspSendMulticastRequest;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspSendUnicastRequest;
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspVersionRequest;
 import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspVersionResponse;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.structure.EmberApsFrame;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.structure.EmberOutgoingMessageType;
 import com.zsmartsystems.zigbee.dongle.ember.internal.EzspFrameHandler;
 import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspSingleResponseTransaction;
 import com.zsmartsystems.zigbee.dongle.ember.internal.transaction.EzspTransaction;
@@ -310,4 +321,208 @@ public class AshFrameHandlerTest {
 
         Mockito.verify(ezspHandler, Mockito.timeout(TIMEOUT)).handleLinkStateChange(true);
     }
+
+    @Test
+    public void setTxWindow() {
+        AshFrameHandler frameHandler = new AshFrameHandler(null);
+        assertEquals(1, frameHandler.getTxWindow());
+        frameHandler.setTxWindow(5);
+        assertEquals(5, frameHandler.getTxWindow());
+        frameHandler.setTxWindow(8);
+        assertEquals(7, frameHandler.getTxWindow());
+        frameHandler.setTxWindow(0);
+        assertEquals(1, frameHandler.getTxWindow());
+    }
+
+    @Test
+    public void testTxWindowThroughput() throws Exception {
+        System.out.println("--- " + Thread.currentThread().getStackTrace()[1].getMethodName());
+        SimulatedNcpPort windowOnePort = sendToSimulatedNcp(1, createBulkRequests(), -1);
+        SimulatedNcpPort windowSevenPort = sendToSimulatedNcp(7, createBulkRequests(), -1);
+
+        // The NCP must see as many unacknowledged frames as the window allows
+        assertEquals(1, windowOnePort.maxUnacknowledged);
+        assertEquals(7, windowSevenPort.maxUnacknowledged);
+    }
+
+    /**
+     * Creates bulk group commands followed by OTA sized unicasts
+     */
+    private List<EzspFrameRequest> createBulkRequests() {
+        List<EzspFrameRequest> requests = new ArrayList<>();
+        for (int cnt = 0; cnt < 35; cnt++) {
+            EmberApsFrame apsFrame = new EmberApsFrame();
+            apsFrame.setProfileId(0x104);
+            apsFrame.setClusterId(6);
+            apsFrame.setGroupId(cnt);
+            EzspSendMulticastRequest request = new EzspSendMulticastRequest();
+            request.setApsFrame(apsFrame);
+            request.setMessageContents(new int[] { 0x01, cnt, 0x01 });
+            requests.add(request);
+        }
+        for (int cnt = 0; cnt < 35; cnt++) {
+            EmberApsFrame apsFrame = new EmberApsFrame();
+            apsFrame.setProfileId(0x104);
+            apsFrame.setClusterId(0x19);
+            EzspSendUnicastRequest request = new EzspSendUnicastRequest();
+            request.setType(EmberOutgoingMessageType.EMBER_OUTGOING_DIRECT);
+            request.setApsFrame(apsFrame);
+            request.setMessageContents(new int[64]);
+            requests.add(request);
+        }
+        return requests;
+    }
+
+    @Test
+    public void testTxWindowReject() throws Exception {
+        System.out.println("--- " + Thread.currentThread().getStackTrace()[1].getMethodName());
+        List<EzspFrameRequest> requests = new ArrayList<>();
+        for (int cnt = 0; cnt < 20; cnt++) {
+            requests.add(new EzspVersionRequest());
+        }
+
+        // Drop a frame in the middle of the window - the NCP will reject the following frames and the
+        // handler must resend from the dropped frame
+        sendToSimulatedNcp(7, requests, 3);
+    }
+
+    /**
+     * Sends the requests to a {@link SimulatedNcpPort} and returns the port once the NCP has received all frames. The
+     * time taken is printed for information. This checks that the NCP receives every frame exactly once, and in order.
+     */
+    private SimulatedNcpPort sendToSimulatedNcp(int txWindow, List<EzspFrameRequest> requests, int dropFrame)
+            throws Exception {
+        SimulatedNcpPort port = new SimulatedNcpPort(10, dropFrame);
+        AshFrameHandler frameHandler = new AshFrameHandler(Mockito.mock(EzspFrameHandler.class));
+        frameHandler.setTxWindow(txWindow);
+        frameHandler.start(port);
+        TestUtilities.setField(AshFrameHandler.class, frameHandler, "stateConnected", true);
+
+        long start = System.nanoTime();
+        for (EzspFrameRequest request : requests) {
+            frameHandler.queueFrame(request);
+        }
+        Awaitility.await().atMost(TIMEOUT * 2, TimeUnit.MILLISECONDS)
+                .until(() -> port.received.size() >= requests.size());
+        System.out.println("ASH TX window " + txWindow + ": " + (System.nanoTime() - start) / 1000000 + "ms");
+
+        assertEquals(requests.size(), port.received.size());
+        for (int cnt = 0; cnt < requests.size(); cnt++) {
+            assertEquals(requests.get(cnt).getSequenceNumber(), port.received.get(cnt)[0]);
+        }
+        assertEquals(dropFrame == -1 ? 0 : 1, port.naks);
+
+        frameHandler.close();
+        port.close();
+        return port;
+    }
+
+    /**
+     * A simulated NCP on an in-memory {@link ZigBeePort}. DATA frames from the host are acknowledged after a fixed
+     * delay to simulate the round trip time of the serial link and NCP. Out of sequence frames are rejected with a NAK
+     * as defined by UG101.
+     */
+    class SimulatedNcpPort implements ZigBeePort {
+        private final BlockingQueue<Integer> hostInput = new LinkedBlockingQueue<>();
+        private final List<Integer> frameBuffer = new ArrayList<>();
+        private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        private final int ackDelay;
+        private final int dropFrame;
+        private int dataFrames = 0;
+        private int expectedFrmNum = 0;
+        private boolean rejectionCondition = false;
+
+        final List<int[]> received = Collections.synchronizedList(new ArrayList<>());
+        int naks = 0;
+        int unacknowledged = 0;
+        int maxUnacknowledged = 0;
+
+        SimulatedNcpPort(int ackDelay, int dropFrame) {
+            this.ackDelay = ackDelay;
+            this.dropFrame = dropFrame;
+        }
+
+        @Override
+        public synchronized void write(int value) {
+            if (value != 0x7E) {
+                frameBuffer.add(value);
+                return;
+            }
+
+            int[] frameData = new int[frameBuffer.size()];
+            for (int cnt = 0; cnt < frameData.length; cnt++) {
+                frameData[cnt] = frameBuffer.get(cnt);
+            }
+            frameBuffer.clear();
+
+            AshFrame frame = AshFrame.createFromInput(frameData);
+            if (!(frame instanceof AshFrameData) || dataFrames++ == dropFrame) {
+                return;
+            }
+
+            if (frame.getFrmNum() == expectedFrmNum) {
+                rejectionCondition = false;
+                received.add(((AshFrameData) frame).getDataBuffer());
+                maxUnacknowledged = Math.max(maxUnacknowledged, ++unacknowledged);
+                expectedFrmNum = (expectedFrmNum + 1) & 0x07;
+                final int ackNum = expectedFrmNum;
+                scheduler.schedule(() -> acknowledge(ackNum), ackDelay, TimeUnit.MILLISECONDS);
+            } else if (!rejectionCondition) {
+                rejectionCondition = true;
+                naks++;
+                output(new AshFrameNak(expectedFrmNum));
+            }
+        }
+
+        private synchronized void acknowledge(int ackNum) {
+            unacknowledged--;
+            output(new AshFrameAck(ackNum));
+        }
+
+        private void output(AshFrame frame) {
+            for (int value : frame.getOutputBuffer()) {
+                hostInput.add(value);
+            }
+        }
+
+        @Override
+        public int read(int timeout) {
+            try {
+                Integer value = hostInput.poll(timeout, TimeUnit.MILLISECONDS);
+                return value == null ? -1 : value;
+            } catch (InterruptedException e) {
+                return -1;
+            }
+        }
+
+        @Override
+        public int read() {
+            return read(100);
+        }
+
+        @Override
+        public boolean open() {
+            return true;
+        }
+
+        @Override
+        public boolean open(int baudRate) {
+            return true;
+        }
+
+        @Override
+        public boolean open(int baudRate, FlowControl flowControl) {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            scheduler.shutdownNow();
+        }
+
+        @Override
+        public void purgeRxBuffer() {
+            hostInput.clear();
+        }
+    }
 }
@@ -24,6 +24,6 @@ public class AshFrameNakTest {
         AshFrameNak frame;
         frame = new AshFrameNak(0);
         System.out.println(frame);
-        assertTrue(Arrays.equals(new int[] { 255, 255, 126 }, frame.getOutputBuffer()));
+        assertTrue(Arrays.equals(new int[] { 0xA0, 0x54, 0x7D, 0x3A, 0x7E }, frame.getOutputBuffer()));
     }
 }
@@ -0,0 +1,222 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.dongle.ember.internal.transaction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Test;
+
+import com.zsmartsystems.zigbee.TestUtilities;
+import com.zsmartsystems.zigbee.ZigBeeChannelMask;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.EzspFrame;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.EzspFrameResponse;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.EzspFrameTest;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspEnergyScanResultHandler;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspInvalidCommandResponse;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspScanCompleteHandler;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspStartScanRequest;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspStartScanResponse;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspVersionRequest;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.command.EzspVersionResponse;
+import com.zsmartsystems.zigbee.dongle.ember.ezsp.structure.EzspNetworkScanType;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class EzspTransactionManagerTest extends EzspFrameTest {
+    private ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+
+    private EzspTransaction getVersionTransaction(int sequence) throws Exception {
+        EzspVersionRequest version = new EzspVersionRequest();
+        TestUtilities.setField(EzspFrame.class, version, "sequenceNumber", sequence);
+        version.setDesiredProtocolVersion(4);
+
+        return new EzspSingleResponseTransaction(version, EzspVersionResponse.class);
+    }
+
+    @Test
+    public void testSingleResponse() throws Exception {
+        EzspTransactionManager manager = new EzspTransactionManager(scheduler);
+
+        EzspTransactionFuture<EzspFrame> future = manager.addTransaction(getVersionTransaction(3), 0);
+        final List<EzspFrame> completed = new ArrayList<>();
+        future.addListener(new EzspTransactionListener<EzspFrame>() {
+            @Override
+            public void transactionComplete(EzspFrame result) {
+                completed.add(result);
+            }
+        });
+        assertEquals(1, manager.getPendingCount());
+        assertFalse(future.isDone());
+
+        // Different sequence number is not matched
+        assertFalse(manager.handleResponse(new EzspVersionResponse(getPacketData("04 80 00 04 02 00 58"))));
+        assertFalse(future.isDone());
+
+        EzspVersionResponse response = new EzspVersionResponse(getPacketData("03 80 00 04 02 00 58"));
+        assertTrue(manager.handleResponse(response));
+        assertTrue(future.isDone());
+        assertEquals(response, future.get());
+        assertEquals(1, completed.size());
+        assertEquals(response, completed.get(0));
+        assertEquals(0, manager.getPendingCount());
+
+        // A repeated response is not processed
+        assertFalse(manager.handleResponse(response));
+    }
+
+    @Test
+    public void testSequenceReuse() throws Exception {
+        EzspTransactionManager manager = new EzspTransactionManager(scheduler);
+
+        EzspTransactionFuture<EzspFrame> future1 = manager.addTransaction(getVersionTransaction(3), 0);
+        EzspTransactionFuture<EzspFrame> future2 = manager.addTransaction(getVersionTransaction(3), 0);
+        assertEquals(2, manager.getPendingCount());
+
+        assertTrue(manager.handleResponse(new EzspVersionResponse(getPacketData("03 80 00 04 02 00 58"))));
+        assertTrue(future1.isDone());
+        assertTrue(future2.isDone());
+        assertEquals(0, manager.getPendingCount());
+    }
+
+    @Test
+    public void testInvalidCommand() throws Exception {
+        EzspTransactionManager manager = new EzspTransactionManager(scheduler);
+
+        EzspTransactionFuture<EzspFrame> future = manager.addTransaction(getVersionTransaction(5), 0);
+
+        assertTrue(manager.handleResponse(new EzspInvalidCommandResponse(getPacketData("05 80 58 31"))));
+        assertTrue(future.isDone());
+        assertNull(future.get());
+        assertEquals(0, manager.getPendingCount());
+    }
+
+    @Test
+    public void testMultiResponse() throws Exception {
+        EzspTransactionManager manager = new EzspTransactionManager(scheduler);
+
+        EzspStartScanRequest request = new EzspStartScanRequest();
+        request.setChannelMask(ZigBeeChannelMask.CHANNEL_MASK_2GHZ);
+        request.setDuration(1);
+        request.setScanType(EzspNetworkScanType.EZSP_ENERGY_SCAN);
+        Set<Class<?>> relatedResponses = new HashSet<Class<?>>(
+                Arrays.asList(EzspStartScanResponse.class, EzspEnergyScanResultHandler.class));
+        EzspTransaction transaction = new EzspMultiResponseTransaction(request, EzspScanCompleteHandler.class,
+                relatedResponses);
+
+        EzspTransactionFuture<EzspFrame> future = manager.addTransaction(transaction, 0);
+
+        assertFalse(manager.handleResponse(new EzspStartScanResponse(getPacketData("39 80 1A 00"))));
+        assertFalse(manager.handleResponse(new EzspEnergyScanResultHandler(getPacketData("39 8C 48 0B C1"))));
+        assertFalse(future.isDone());
+
+        EzspScanCompleteHandler scanComplete = new EzspScanCompleteHandler(getPacketData("3F 88 1C 02 00"));
+        assertTrue(manager.handleResponse(scanComplete));
+        assertEquals(scanComplete, future.get());
+        assertEquals(3, transaction.getResponses().size());
+        assertEquals(0, manager.getPendingCount());
+    }
+
+    @Test
+    public void testEventWait() throws Exception {
+        EzspTransactionManager manager = new EzspTransactionManager(scheduler);
+
+        EzspTransactionFuture<EzspFrameResponse> future = manager.addEventWait(EzspScanCompleteHandler.class, 0);
+
+        assertFalse(manager.handleResponse(new EzspStartScanResponse(getPacketData("39 80 1A 00"))));
+        EzspScanCompleteHandler scanComplete = new EzspScanCompleteHandler(getPacketData("3F 88 1C 02 00"));
+        assertTrue(manager.handleResponse(scanComplete));
+        assertEquals(scanComplete, future.get());
+        assertEquals(0, manager.getPendingCount());
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        EzspTransactionManager manager = new EzspTransactionManager(scheduler);
+
+        EzspTransactionFuture<EzspFrame> future = manager.addTransaction(getVersionTransaction(7), 50);
+        assertNull(future.get(5, TimeUnit.SECONDS));
+        assertTrue(future.isDone());
+        assertFalse(future.isCancelled());
+        assertEquals(0, manager.getPendingCount());
+
+        // The late response is not processed
+        assertFalse(manager.handleResponse(new EzspVersionResponse(getPacketData("07 80 00 04 02 00 58"))));
+    }
+
+    @Test(expected = TimeoutException.class)
+    public void testGetTimeout() throws Exception {
+        EzspTransactionManager manager = new EzspTransactionManager(scheduler);
+
+        manager.addEventWait(EzspScanCompleteHandler.class, 0).get(10, TimeUnit.MILLISECONDS);
+    }
+
+    @Test(expected = CancellationException.class)
+    public void testCancel() throws Exception {
+        EzspTransactionManager manager = new EzspTransactionManager(scheduler);
+
+        EzspTransactionFuture<EzspFrameResponse> future = manager.addEventWait(EzspScanCompleteHandler.class, 0);
+        assertTrue(future.cancel(true));
+        assertFalse(future.cancel(true));
+        assertTrue(future.isCancelled());
+        assertEquals(0, manager.getPendingCount());
+
+        assertFalse(manager.handleResponse(new EzspScanCompleteHandler(getPacketData("3F 88 1C 02 00"))));
+        future.get();
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        EzspTransactionManager manager = new EzspTransactionManager(scheduler);
+
+        EzspTransactionFuture<EzspFrame> future1 = manager.addTransaction(getVersionTransaction(1), 0);
+        EzspTransactionFuture<EzspFrameResponse> future2 = manager.addEventWait(EzspScanCompleteHandler.class, 0);
+        assertEquals(2, manager.getPendingCount());
+
+        manager.clear();
+        assertNull(future1.get());
+        assertNull(future2.get());
+        assertEquals(0, manager.getPendingCount());
+    }
+
+    @Test
+    public void testManyOutstanding() throws Exception {
+        EzspTransactionManager manager = new EzspTransactionManager(scheduler);
+
+        List<EzspTransactionFuture<EzspFrame>> futures = new ArrayList<>();
+        for (int sequence = 0; sequence < 256; sequence++) {
+            futures.add(manager.addTransaction(getVersionTransaction(sequence), 0));
+        }
+        assertEquals(256, manager.getPendingCount());
+
+        // Complete in reverse order
+        for (int sequence = 255; sequence >= 0; sequence--) {
+            int[] packet = getPacketData("00 80 00 04 02 00 58");
+            packet[0] = sequence;
+            assertTrue(manager.handleResponse(new EzspVersionResponse(packet)));
+            assertTrue(futures.get(sequence).isDone());
+        }
+        assertEquals(0, manager.getPendingCount());
+    }
+}
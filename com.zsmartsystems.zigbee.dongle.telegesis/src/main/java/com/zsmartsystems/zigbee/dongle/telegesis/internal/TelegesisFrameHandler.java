@@ -353,13 +353,16 @@ public class TelegesisFrameHandler {
             // Remember the command we're processing
             sentCommand = nextFrame;
 
-            // Send the data
+            // Send the data as a single block
+            int[] frameData = nextFrame.serialize();
+            byte[] outputData = new byte[frameData.length];
             StringBuilder builder = new StringBuilder();
-            for (int sendByte : nextFrame.serialize()) {
-                builder.append(String.format("%c", sendByte));
-                serialPort.write(sendByte);
+            for (int cnt = 0; cnt < frameData.length; cnt++) {
+                builder.append(String.format("%c", frameData[cnt]));
+                outputData[cnt] = (byte) frameData[cnt];
             }
             logger.debug("TX Telegesis Data:{}", builder.toString());
+            serialPort.write(outputData);
 
             // Start the timeout
             startTimer();
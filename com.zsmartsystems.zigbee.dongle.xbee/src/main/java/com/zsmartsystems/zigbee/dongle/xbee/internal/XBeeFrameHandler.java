@@ -356,21 +356,27 @@ public class XBeeFrameHandler {
             // Remember the command we're processing
             sentCommand = nextFrame;
 
-            serialPort.write(XBEE_FLAG);
+            // Build the escaped frame so it can be sent as a single block
+            int[] frameData = nextFrame.serialize();
+            byte[] outputData = new byte[frameData.length * 2 + 1];
+            int outputLength = 0;
+            outputData[outputLength++] = (byte) XBEE_FLAG;
 
-            // Send the data
             StringBuilder builder = new StringBuilder();
-            for (int sendByte : nextFrame.serialize()) {
+            for (int sendByte : frameData) {
                 builder.append(String.format(" %02X", sendByte));
                 if (escapeCodes.contains(sendByte)) {
-                    serialPort.write(XBEE_ESCAPE);
-                    serialPort.write(sendByte ^ XBEE_XOR);
+                    outputData[outputLength++] = (byte) XBEE_ESCAPE;
+                    outputData[outputLength++] = (byte) (sendByte ^ XBEE_XOR);
                 } else {
-                    serialPort.write(sendByte);
+                    outputData[outputLength++] = (byte) sendByte;
                 }
             }
             logger.debug("TX XBEE Data:{}", builder.toString());
 
+            // Send the data
+            serialPort.write(outputData, 0, outputLength);
+
             // Start the timeout
             startTimer();
         }
@@ -7,6 +7,8 @@
  */
 package com.zsmartsystems.zigbee.serial;
 
+import java.util.Arrays;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,29 +50,39 @@ public class ZigBeeSerialPort implements ZigBeePort, SerialPortEventListener {
     private final FlowControl flowControl;
 
     /**
-     * The circular fifo queue for receive data
+     * The size of the receive buffer. This must be a power of 2.
+     */
+    static final int BUFFER_SIZE = 4096;
+
+    /**
+     * The circular fifo queue for receive data. This is a single producer, single consumer queue - data is only added
+     * from the serial event thread, and only removed by the thread reading the port, so no lock is required to transfer
+     * data. The reader only takes the port monitor to wait if the queue is empty.
      */
-    private int[] buffer = new int[512];
+    private final byte[] buffer = new byte[BUFFER_SIZE];
 
     /**
-     * The receive buffer end pointer (where we put the newly received data)
+     * The count of bytes added to the receive buffer (where we put the newly received data). This is only updated by
+     * the serial event thread. The buffer index is the count modulo the buffer size.
      */
-    private int end = 0;
+    private volatile int end = 0;
 
     /**
-     * The receive buffer start pointer (where we take the data to pass to the application)
+     * The count of bytes taken from the receive buffer (where we take the data to pass to the application). This is
+     * only updated by the reading thread. The buffer index is the count modulo the buffer size.
      */
-    private int start = 0;
+    private volatile int start = 0;
 
     /**
-     * The length of the receive buffer
+     * The count of bytes added to the receive buffer when {@link #purgeRxBuffer()} was last called. The purge is
+     * performed by the reading thread, so that {@link #start} is only ever updated by the reader.
      */
-    private int maxLength = 512;
+    private volatile int purgeEnd = 0;
 
     /**
-     * Synchronisation object for buffer queue manipulation
+     * True if {@link #purgeRxBuffer()} has been called and the reading thread has not yet discarded the data
      */
-    private Object bufferSynchronisationObject = new Object();
+    private volatile boolean purgeRequested = false;
 
     /**
      * Constructor setting port name and baud rate.
@@ -184,6 +196,26 @@ public class ZigBeeSerialPort implements ZigBeePort, SerialPortEventListener {
         }
     }
 
+    @Override
+    public void write(byte[] data, int offset, int length) {
+        if (offset != 0 || length != data.length) {
+            data = Arrays.copyOfRange(data, offset, offset + length);
+        }
+        write(data);
+    }
+
+    @Override
+    public void write(byte[] data) {
+        if (serialPort == null) {
+            return;
+        }
+        try {
+            serialPort.writeBytes(data);
+        } catch (SerialPortException e) {
+            logger.warn("Error writing to serial port: '" + portName + "'", e);
+        }
+    }
+
     @Override
     public int read() {
         return read(9999999);
@@ -191,58 +223,99 @@ public class ZigBeeSerialPort implements ZigBeePort, SerialPortEventListener {
 
     @Override
     public int read(int timeout) {
-        long endTime = System.currentTimeMillis() + timeout;
+        if (!waitForData(timeout)) {
+            return -1;
+        }
 
-        try {
-            while (System.currentTimeMillis() < endTime) {
-                synchronized (bufferSynchronisationObject) {
-                    if (start != end) {
-                        int value = buffer[start++];
-                        if (start >= maxLength) {
-                            start = 0;
-                        }
-                        return value;
-                    }
-                }
+        int value = buffer[start & (BUFFER_SIZE - 1)] & 0xFF;
+        start++;
+        return value;
+    }
 
-                synchronized (this) {
-                    if (serialPort == null) {
-                        return -1;
-                    }
+    @Override
+    public int read(byte[] data, int offset, int length, int timeout) {
+        if (length == 0 || !waitForData(timeout)) {
+            return 0;
+        }
+
+        int readPosition = start;
+        int count = Math.min(end - readPosition, length);
+        int index = readPosition & (BUFFER_SIZE - 1);
+        int firstCopy = Math.min(count, BUFFER_SIZE - index);
+        System.arraycopy(buffer, index, data, offset, firstCopy);
+        System.arraycopy(buffer, 0, data, offset + firstCopy, count - firstCopy);
+        start = readPosition + count;
+        return count;
+    }
 
-                    wait(endTime - System.currentTimeMillis());
+    /**
+     * Waits for data to be available in the receive buffer.
+     *
+     * @param timeout the time to wait in milliseconds
+     * @return true if data is available, or false if the timeout expired or the port was closed
+     */
+    private boolean waitForData(int timeout) {
+        discardPurgedData();
+        if (start != end) {
+            return true;
+        }
+
+        long endTime = System.currentTimeMillis() + timeout;
+        try {
+            synchronized (this) {
+                while (discardPurgedData() == end) {
+                    long remaining = endTime - System.currentTimeMillis();
+                    if (serialPort == null || remaining <= 0) {
+                        return false;
+                    }
+                    wait(remaining);
                 }
             }
-            return -1;
         } catch (InterruptedException e) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Discards the data that was in the receive buffer when {@link #purgeRxBuffer()} was called. This is only called
+     * from the reading thread. Data already read since the purge was requested is not returned again.
+     *
+     * @return the updated start of the receive buffer
+     */
+    private int discardPurgedData() {
+        if (purgeRequested) {
+            purgeRequested = false;
+            int purgePosition = purgeEnd;
+            if (purgePosition - start > 0) {
+                start = purgePosition;
+            }
         }
-        return -1;
+        return start;
     }
 
     @Override
     public void serialEvent(SerialPortEvent event) {
         if (event.isRXCHAR() & event.getEventValue() > 0) {
             try {
-                int[] input = serialPort.readIntArray();
+                byte[] input = serialPort.readBytes();
                 if (input == null) {
                     logger.warn("Nothing read from serial port.");
                     return;
                 }
 
-                synchronized (bufferSynchronisationObject) {
-                    for (int recv : input) {
-                        buffer[end++] = recv;
-                        if (end >= maxLength) {
-                            end = 0;
-                        }
-                        if (end == start) {
-                            logger.warn("Serial buffer overrun.");
-                            if (++start == maxLength) {
-                                start = 0;
-                            }
-                        }
-                    }
+                // Only the free space is used - the reader owns the start of the queue, so if the reader has fallen
+                // behind, the newest data is dropped.
+                int writePosition = end;
+                int count = Math.min(input.length, BUFFER_SIZE - (writePosition - start));
+                if (count < input.length) {
+                    logger.warn("Serial buffer overrun.");
                 }
+                int index = writePosition & (BUFFER_SIZE - 1);
+                int firstCopy = Math.min(count, BUFFER_SIZE - index);
+                System.arraycopy(input, 0, buffer, index, firstCopy);
+                System.arraycopy(input, firstCopy, buffer, 0, count - firstCopy);
+                end = writePosition + count;
             } catch (SerialPortException e) {
                 logger.error("Error while handling serial event.", e);
             }
@@ -255,10 +328,9 @@ public class ZigBeeSerialPort implements ZigBeePort, SerialPortEventListener {
 
     @Override
     public void purgeRxBuffer() {
-        synchronized (bufferSynchronisationObject) {
-            start = 0;
-            end = 0;
-        }
+        // The reader discards the data on its next read so that only the reading thread updates the start position
+        purgeEnd = end;
+        purgeRequested = true;
     }
 
     public boolean setDtr(boolean state) {
@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.serial;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.zsmartsystems.zigbee.transport.ZigBeePort.FlowControl;
+
+import jssc.SerialPort;
+import jssc.SerialPortEvent;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeSerialPortTest {
+    private SerialPort jsscPort;
+
+    private ZigBeeSerialPort getPort() throws Exception {
+        ZigBeeSerialPort port = new ZigBeeSerialPort("/dev/null", 115200, FlowControl.FLOWCONTROL_OUT_NONE);
+        jsscPort = Mockito.mock(SerialPort.class);
+        Field field = ZigBeeSerialPort.class.getDeclaredField("serialPort");
+        field.setAccessible(true);
+        field.set(port, jsscPort);
+        return port;
+    }
+
+    private void receive(ZigBeeSerialPort port, byte[] data) throws Exception {
+        SerialPortEvent event = Mockito.mock(SerialPortEvent.class);
+        Mockito.when(event.isRXCHAR()).thenReturn(true);
+        Mockito.when(event.getEventValue()).thenReturn(data.length);
+        Mockito.when(jsscPort.readBytes()).thenReturn(data);
+        port.serialEvent(event);
+    }
+
+    private byte[] getData(int offset, int length) {
+        byte[] data = new byte[length];
+        for (int cnt = 0; cnt < length; cnt++) {
+            data[cnt] = (byte) (offset + cnt);
+        }
+        return data;
+    }
+
+    private byte[] readAll(ZigBeeSerialPort port, int length) {
+        byte[] data = new byte[length];
+        int count = 0;
+        while (count < length) {
+            int read = port.read(data, count, length - count, 1);
+            if (read == 0) {
+                break;
+            }
+            count += read;
+        }
+        return Arrays.copyOf(data, count);
+    }
+
+    @Test
+    public void readByte() throws Exception {
+        ZigBeeSerialPort port = getPort();
+        assertEquals(-1, port.read(1));
+
+        receive(port, new byte[] { 0x01, (byte) 0xFF });
+        assertEquals(0x01, port.read(1));
+        assertEquals(0xFF, port.read(1));
+        assertEquals(-1, port.read(1));
+        assertEquals(0, port.read(new byte[1], 0, 1, 1));
+    }
+
+    @Test
+    public void wrapAround() throws Exception {
+        ZigBeeSerialPort port = getPort();
+
+        // Move the read and write positions close to the end of the buffer
+        receive(port, getData(0, ZigBeeSerialPort.BUFFER_SIZE - 10));
+        assertArrayEquals(getData(0, ZigBeeSerialPort.BUFFER_SIZE - 10),
+                readAll(port, ZigBeeSerialPort.BUFFER_SIZE - 10));
+
+        // Data received across the end of the buffer is returned in order
+        receive(port, getData(20, 100));
+        assertEquals(20, port.read(1));
+        byte[] data = new byte[200];
+        assertEquals(99, port.read(data, 100, 100, 1));
+        assertArrayEquals(getData(21, 99), Arrays.copyOfRange(data, 100, 199));
+
+        // The buffer can be filled again once the data has been read
+        receive(port, getData(5, ZigBeeSerialPort.BUFFER_SIZE));
+        assertArrayEquals(getData(5, ZigBeeSerialPort.BUFFER_SIZE), readAll(port, ZigBeeSerialPort.BUFFER_SIZE + 1));
+    }
+
+    @Test
+    public void overflow() throws Exception {
+        ZigBeeSerialPort port = getPort();
+
+        receive(port, getData(0, 100));
+        assertEquals(0, port.read(1));
+
+        // Only the free space is used, so the oldest unread data is kept and the newest data is dropped
+        receive(port, getData(100, ZigBeeSerialPort.BUFFER_SIZE));
+        byte[] data = readAll(port, ZigBeeSerialPort.BUFFER_SIZE + 100);
+        assertEquals(ZigBeeSerialPort.BUFFER_SIZE, data.length);
+        assertArrayEquals(getData(1, ZigBeeSerialPort.BUFFER_SIZE), data);
+        assertEquals(-1, port.read(1));
+
+        receive(port, new byte[] { 0x55 });
+        assertEquals(0x55, port.read(1));
+    }
+
+    @Test
+    public void purgeRxBuffer() throws Exception {
+        ZigBeeSerialPort port = getPort();
+
+        receive(port, getData(0, 10));
+        assertEquals(0, port.read(1));
+
+        port.purgeRxBuffer();
+        assertEquals(-1, port.read(1));
+
+        // Data received after the purge is returned
+        receive(port, getData(50, 3));
+        port.purgeRxBuffer();
+        receive(port, getData(60, 3));
+        assertArrayEquals(getData(60, 3), readAll(port, 10));
+
+        // A purge with no data has no effect on later data
+        port.purgeRxBuffer();
+        receive(port, getData(70, 2));
+        assertArrayEquals(getData(70, 2), readAll(port, 10));
+    }
+}
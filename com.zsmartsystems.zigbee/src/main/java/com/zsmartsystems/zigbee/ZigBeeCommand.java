@@ -7,6 +7,7 @@
  */
 package com.zsmartsystems.zigbee;
 
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionPriority;
 import com.zsmartsystems.zigbee.zcl.ZclFieldDeserializer;
 import com.zsmartsystems.zigbee.zcl.ZclFieldSerializer;
 
@@ -49,6 +50,11 @@ public class ZigBeeCommand {
      */
     private boolean ackRequest = true;
 
+    /**
+     * The priority used when sending the command. Default is {@link ZigBeeTransactionPriority#NORMAL}.
+     */
+    private ZigBeeTransactionPriority priority = ZigBeeTransactionPriority.NORMAL;
+
     /**
      * Gets destination address.
      *
@@ -139,6 +145,26 @@ public class ZigBeeCommand {
         this.ackRequest = ackRequest;
     }
 
+    /**
+     * Gets the {@link ZigBeeTransactionPriority} used when sending the command. Default is
+     * {@link ZigBeeTransactionPriority#NORMAL}.
+     *
+     * @return the {@link ZigBeeTransactionPriority} of the command
+     */
+    public ZigBeeTransactionPriority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Sets the {@link ZigBeeTransactionPriority} used when sending the command. Default is
+     * {@link ZigBeeTransactionPriority#NORMAL}.
+     *
+     * @param priority the {@link ZigBeeTransactionPriority} of the command
+     */
+    public void setPriority(ZigBeeTransactionPriority priority) {
+        this.priority = priority;
+    }
+
     /**
      * Sets the transaction ID.
      *
@@ -21,6 +21,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.zsmartsystems.zigbee.app.ZigBeeApplication;
+import com.zsmartsystems.zigbee.database.ZclAttributeDao;
+import com.zsmartsystems.zigbee.database.ZclAttributeUpdateDao;
 import com.zsmartsystems.zigbee.database.ZclClusterDao;
 import com.zsmartsystems.zigbee.database.ZigBeeEndpointDao;
 import com.zsmartsystems.zigbee.internal.NotificationService;
@@ -89,6 +91,12 @@ public class ZigBeeEndpoint {
      */
     private final Map<Integer, ZigBeeApplication> applications = new ConcurrentHashMap<Integer, ZigBeeApplication>();
 
+    /**
+     * Records if the endpoint configuration has changed since it was last persisted. Changes within the clusters are
+     * recorded by each {@link ZclCluster}.
+     */
+    private volatile boolean dirty = true;
+
     /**
      * Constructor
      *
@@ -116,6 +124,7 @@ public class ZigBeeEndpoint {
      */
     public void setDeviceId(int deviceId) {
         this.deviceId = deviceId;
+        dirty = true;
     }
 
     /**
@@ -134,6 +143,7 @@ public class ZigBeeEndpoint {
      */
     public void setDeviceVersion(int deviceVersion) {
         this.deviceVersion = deviceVersion;
+        dirty = true;
     }
 
     /**
@@ -170,6 +180,7 @@ public class ZigBeeEndpoint {
         }
 
         inputClusters.put(cluster.getClusterId(), cluster);
+        dirty = true;
         return true;
     }
 
@@ -265,6 +276,7 @@ public class ZigBeeEndpoint {
 
         cluster.setClient();
         outputClusters.put(cluster.getClusterId(), cluster);
+        dirty = true;
         return true;
     }
 
@@ -315,6 +327,8 @@ public class ZigBeeEndpoint {
     }
 
     private void updateClusters(Map<Integer, ZclCluster> clusters, Collection<Integer> newList, boolean isInput) {
+        dirty = true;
+
         // Get a list any clusters that are no longer in the list
         List<Integer> removeIds = new ArrayList<>();
         for (ZclCluster cluster : clusters.values()) {
@@ -376,6 +390,7 @@ public class ZigBeeEndpoint {
      */
     public void setProfileId(int profileId) {
         this.profileId = profileId;
+        dirty = true;
     }
 
     /**
@@ -483,6 +498,7 @@ public class ZigBeeEndpoint {
 
                     inputClusters.put(clusterId, endpoint.getInputCluster(clusterId));
                     updated = true;
+                    dirty = true;
                 }
             }
         }
@@ -494,6 +510,7 @@ public class ZigBeeEndpoint {
 
                     outputClusters.put(clusterId, endpoint.getOutputCluster(clusterId));
                     updated = true;
+                    dirty = true;
                 }
             }
         }
@@ -567,6 +584,71 @@ public class ZigBeeEndpoint {
                 }
             }
         }
+        dirty = false;
+    }
+
+    /**
+     * Returns true if the configuration of the endpoint, or any of its clusters, has changed since it was last
+     * persisted. This does not include changes to attributes, which are returned by {@link #getDirtyAttributes()}.
+     *
+     * @return true if the endpoint must be persisted with {@link #getDao()}
+     */
+    public boolean isDirty() {
+        if (dirty) {
+            return true;
+        }
+        for (ZclCluster cluster : inputClusters.values()) {
+            if (cluster.isDirty()) {
+                return true;
+            }
+        }
+        for (ZclCluster cluster : outputClusters.values()) {
+            if (cluster.isDirty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets a {@link ZclAttributeUpdateDao} for each attribute in the endpoint that has changed since it was last
+     * persisted, and clears the dirty flag of the attributes.
+     *
+     * @return the {@link List} of {@link ZclAttributeUpdateDao}s of all changed attributes
+     */
+    public List<ZclAttributeUpdateDao> getDirtyAttributes() {
+        List<ZclAttributeUpdateDao> updates = new ArrayList<>();
+        addDirtyAttributes(updates, inputClusters.values(), false);
+        addDirtyAttributes(updates, outputClusters.values(), true);
+        return updates;
+    }
+
+    private void addDirtyAttributes(List<ZclAttributeUpdateDao> updates, Collection<ZclCluster> clusters,
+            boolean isClient) {
+        for (ZclCluster cluster : clusters) {
+            for (ZclAttributeDao attribute : cluster.getDirtyAttributes()) {
+                ZclAttributeUpdateDao update = new ZclAttributeUpdateDao();
+                update.setEndpointId(endpointId);
+                update.setClusterId(cluster.getClusterId());
+                update.setClient(isClient);
+                update.setAttribute(attribute);
+                updates.add(update);
+            }
+        }
+    }
+
+    /**
+     * Clears the dirty flag of the endpoint and all its clusters. This is called when the complete endpoint is about to
+     * be persisted with {@link #getDao()}.
+     */
+    public void clearDirty() {
+        dirty = false;
+        for (ZclCluster cluster : inputClusters.values()) {
+            cluster.clearDirty();
+        }
+        for (ZclCluster cluster : outputClusters.values()) {
+            cluster.clearDirty();
+        }
     }
 
     /**
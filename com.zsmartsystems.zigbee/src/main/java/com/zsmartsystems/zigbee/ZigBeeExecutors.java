@@ -9,8 +9,11 @@ package com.zsmartsystems.zigbee;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
@@ -80,6 +83,23 @@ public class ZigBeeExecutors {
         return Executors.newFixedThreadPool(nThreads, new ThreadFactoryWithNamePrefix(name));
     }
 
+    /**
+     * Creates a thread pool that uses at most nThreads threads operating off a shared unbounded queue. Threads are
+     * created as tasks are submitted until nThreads threads exist, and are terminated once they have been idle for the
+     * keep alive time, so an idle pool holds no threads.
+     *
+     * @param nThreads the maximum number of threads in the pool
+     * @param keepAliveTime the time in milliseconds that an idle thread waits for new tasks before terminating
+     * @param name the thread pool name
+     * @return the newly created thread pool
+     */
+    public static ExecutorService newBoundedThreadPool(int nThreads, long keepAliveTime, String name) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(nThreads, nThreads, keepAliveTime, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<Runnable>(), new ThreadFactoryWithNamePrefix(name));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     /**
      * ThreadFactory with the ability to set the thread name prefix. This class is the same as
      * {@link java.util.concurrent.Executors#defaultThreadFactory()} from JDK8, except for the thread naming feature.
@@ -9,6 +9,7 @@ package com.zsmartsystems.zigbee;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -43,9 +44,13 @@ import com.zsmartsystems.zigbee.database.ZigBeeNetworkDatabaseManager;
 import com.zsmartsystems.zigbee.internal.ClusterMatcher;
 import com.zsmartsystems.zigbee.internal.NotificationService;
 import com.zsmartsystems.zigbee.internal.ZigBeeCommandNotifier;
+import com.zsmartsystems.zigbee.internal.ZigBeeNetworkAddressIndex;
 import com.zsmartsystems.zigbee.security.ZigBeeKey;
+import com.zsmartsystems.zigbee.serialization.ByteBufferSerializer;
 import com.zsmartsystems.zigbee.serialization.ZigBeeDeserializer;
+import com.zsmartsystems.zigbee.serialization.ZigBeeDeserializerFactory;
 import com.zsmartsystems.zigbee.serialization.ZigBeeSerializer;
+import com.zsmartsystems.zigbee.serialization.ZigBeeSerializerFactory;
 import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionManager;
 import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionMatcher;
 import com.zsmartsystems.zigbee.transport.TransportConfig;
@@ -93,7 +98,8 @@ import com.zsmartsystems.zigbee.zdo.command.NetworkAddressRequest;
  * {@link ZigBeeNetworkState#UNINITIALISED}.
  * <li>Instantiate a {@link ZigBeeNetworkManager} class passing the previously created {@link ZigBeeTransportTransmit}
  * class.
- * <li>Set the {@link ZigBeeSerializer} and {@link ZigBeeDeserializer} using the {@link #} method.
+ * <li>Set the {@link ZigBeeSerializer} and {@link ZigBeeDeserializer} using the
+ * {@link #setSerializer(ZigBeeSerializerFactory, ZigBeeDeserializerFactory)} method.
  * <li>Optionally call the {@link #setNetworkDataStore(ZigBeeNetworkDataStore)} method to set the
  * {@link ZigBeeNetworkDataStore} that will be called to serialise network data to a persistent store.
  * <li>Call the {@link #initialize()} method to perform the initial initialization of the ZigBee network. The network
@@ -156,6 +162,12 @@ public class ZigBeeNetworkManager implements ZigBeeTransportReceive {
      */
     private final Map<IeeeAddress, ZigBeeNode> networkNodes = new ConcurrentHashMap<>();
 
+    /**
+     * Index of the nodes in {@link #networkNodes} by their 16 bit network address. This is used to find nodes from the
+     * addresses in received frames without scanning the whole network.
+     */
+    private final ZigBeeNetworkAddressIndex networkAddressIndex = new ZigBeeNetworkAddressIndex();
+
     /**
      * The groups in the ZigBee network.
      */
@@ -229,14 +241,21 @@ public class ZigBeeNetworkManager implements ZigBeeTransportReceive {
     private Set<IeeeAddress> nodeDiscoveryComplete = Collections.synchronizedSet(new HashSet<>());
 
     /**
-     * The serializer class used to serialize commands to data packets
+     * The factory used to create a {@link ZigBeeSerializer} to serialize commands to data packets
+     */
+    private ZigBeeSerializerFactory serializerFactory;
+
+    /**
+     * The factory used to create a {@link ZigBeeDeserializer} to deserialize commands from data packets
      */
-    private Class<ZigBeeSerializer> serializerClass;
+    private ZigBeeDeserializerFactory<int[]> deserializerFactory;
 
     /**
-     * The deserializer class used to deserialize commands from data packets
+     * The factory used to create a {@link ZigBeeDeserializer} to deserialize commands from data packets where the
+     * {@link ZigBeeApsFrame} payload is held in a {@link ByteBuffer}. May be null, in which case the
+     * {@link #deserializerFactory} is used.
      */
-    private Class<ZigBeeDeserializer> deserializerClass;
+    private ZigBeeDeserializerFactory<ByteBuffer> bufferDeserializerFactory;
 
     /**
      * List of {@link ZigBeeNetworkExtension}s that are available to this network. Extensions are added
@@ -315,6 +334,18 @@ public class ZigBeeNetworkManager implements ZigBeeTransportReceive {
         }
     }
 
+    /**
+     * Sets the number of threads used to restore the network from the {@link ZigBeeNetworkDataStore} when the network
+     * is initialized. Using more than one thread can significantly reduce the startup time of large networks, but
+     * requires that the {@link ZigBeeNetworkDataStore} can be read from multiple threads concurrently. This must be
+     * called before {@link #initialize()}.
+     *
+     * @param restoreThreads the number of threads used to restore the network. Default is 1.
+     */
+    public void setNetworkDataStoreRestoreThreads(int restoreThreads) {
+        databaseManager.setRestoreThreads(restoreThreads);
+    }
+
     /**
      * Serializes a node to the {@link ZigBeeNetworkDataStore}.
      * <p>
@@ -335,14 +366,91 @@ public class ZigBeeNetworkManager implements ZigBeeTransportReceive {
     /**
      * Set the serializer class to be used to convert commands and fields into data to be sent to the dongle.
      * The system instantiates a new serializer for each command.
+     * <p>
+     * The classes are instantiated using reflection for every frame -
+     * {@link #setSerializer(ZigBeeSerializerFactory, ZigBeeDeserializerFactory)} should be used in preference to this
+     * method.
      *
      * @param serializer the {@link ZigBeeSerializer} class
      * @param deserializer the {@link ZigBeeDeerializer} class
      */
     @SuppressWarnings("unchecked")
     public void setSerializer(Class<?> serializer, Class<?> deserializer) {
-        this.serializerClass = (Class<ZigBeeSerializer>) serializer;
-        this.deserializerClass = (Class<ZigBeeDeserializer>) deserializer;
+        final Constructor<ZigBeeSerializer> serializerConstructor;
+        final Constructor<ZigBeeDeserializer> deserializerConstructor;
+        try {
+            serializerConstructor = ((Class<ZigBeeSerializer>) serializer).getConstructor();
+            deserializerConstructor = ((Class<ZigBeeDeserializer>) deserializer).getConstructor(int[].class);
+        } catch (NoSuchMethodException | SecurityException e) {
+            logger.error("Error setting serializer {} and deserializer {}", serializer, deserializer, e);
+            return;
+        }
+
+        setSerializer(() -> {
+            try {
+                return serializerConstructor.newInstance();
+            } catch (InstantiationException | IllegalAccessException | IllegalArgumentException
+                    | InvocationTargetException e) {
+                logger.debug("Error creating serializer", e);
+                return null;
+            }
+        }, payload -> {
+            try {
+                return deserializerConstructor.newInstance(new Object[] { payload });
+            } catch (InstantiationException | IllegalAccessException | IllegalArgumentException
+                    | InvocationTargetException e) {
+                logger.debug("Error creating deserializer", e);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Set the factories to be used to create the serializer and deserializer that convert commands and fields into
+     * data to be sent to the dongle, and data received from the dongle into commands. The factories are called for
+     * every frame, and must return a new instance for each call.
+     * <p>
+     * Typically this will be called with the constructors of the serializer classes -:
+     *
+     * <pre>
+     * networkManager.setSerializer(DefaultSerializer::new, DefaultDeserializer::new);
+     * </pre>
+     *
+     * @param serializerFactory the {@link ZigBeeSerializerFactory} providing a new {@link ZigBeeSerializer}
+     * @param deserializerFactory the {@link ZigBeeDeserializerFactory} providing a new {@link ZigBeeDeserializer} for
+     *            the payload
+     */
+    public void setSerializer(ZigBeeSerializerFactory serializerFactory,
+            ZigBeeDeserializerFactory<int[]> deserializerFactory) {
+        setSerializer(serializerFactory, deserializerFactory, null);
+    }
+
+    /**
+     * Set the factories to be used to create the serializer and deserializers that convert commands and fields into
+     * data to be sent to the dongle, and data received from the dongle into commands. The factories are called for
+     * every frame, and must return a new instance for each call.
+     * <p>
+     * The buffer deserializer factory is used for received frames where the transport provides the payload as a
+     * {@link ByteBuffer}, allowing the frame to be decoded without conversion to an integer array. If the serializer
+     * is a {@link ByteBufferSerializer}, commands are sent to the transport with the payload as a {@link ByteBuffer}
+     * -:
+     *
+     * <pre>
+     * networkManager.setSerializer(ByteBufferSerializer::new, DefaultDeserializer::new, ByteBufferDeserializer::new);
+     * </pre>
+     *
+     * @param serializerFactory the {@link ZigBeeSerializerFactory} providing a new {@link ZigBeeSerializer}
+     * @param deserializerFactory the {@link ZigBeeDeserializerFactory} providing a new {@link ZigBeeDeserializer} for
+     *            the payload
+     * @param bufferDeserializerFactory the {@link ZigBeeDeserializerFactory} providing a new
+     *            {@link ZigBeeDeserializer} for a {@link ByteBuffer} payload. May be null.
+     */
+    public void setSerializer(ZigBeeSerializerFactory serializerFactory,
+            ZigBeeDeserializerFactory<int[]> deserializerFactory,
+            ZigBeeDeserializerFactory<ByteBuffer> bufferDeserializerFactory) {
+        this.serializerFactory = serializerFactory;
+        this.deserializerFactory = deserializerFactory;
+        this.bufferDeserializerFactory = bufferDeserializerFactory;
     }
 
     /**
@@ -694,6 +802,7 @@ public class ZigBeeNetworkManager implements ZigBeeTransportReceive {
 
         transport.shutdown();
         transactionManager.shutdown();
+        apsDataEntity.shutdown();
 
         notificationService.shutdown(5000);
         executorService.shutdownNow();
@@ -814,17 +923,12 @@ public class ZigBeeNetworkManager implements ZigBeeTransportReceive {
             return false;
         }
 
-        final ZclFieldSerializer fieldSerializer;
-        try {
-            Constructor<? extends ZigBeeSerializer> constructor;
-            constructor = serializerClass.getConstructor();
-            ZigBeeSerializer serializer = constructor.newInstance();
-            fieldSerializer = new ZclFieldSerializer(serializer);
-        } catch (NoSuchMethodException | SecurityException | InstantiationException | IllegalAccessException
-                | IllegalArgumentException | InvocationTargetException e) {
-            logger.debug("Error serializing ZigBee frame {}", e);
+        ZigBeeSerializer serializer = serializerFactory == null ? null : serializerFactory.createSerializer();
+        if (serializer == null) {
+            logger.debug("Error serializing ZigBee frame: No serializer available");
             return false;
         }
+        final ZclFieldSerializer fieldSerializer = new ZclFieldSerializer(serializer);
 
         if (command instanceof ZdoCommand) {
             // Source endpoint is (currently) set by the dongle since it registers the clusters into an endpoint
@@ -835,8 +939,11 @@ public class ZigBeeNetworkManager implements ZigBeeTransportReceive {
             apsFrame.setDestinationEndpoint(0);
             command.serialize(fieldSerializer);
 
-            // Serialise the ZCL header and add the payload
-            apsFrame.setPayload(fieldSerializer.getPayload());
+            if (serializer instanceof ByteBufferSerializer) {
+                apsFrame.setPayload(((ByteBufferSerializer) serializer).getBuffer());
+            } else {
+                apsFrame.setPayload(fieldSerializer.getPayload());
+            }
         }
 
         if (command instanceof ZclCommand) {
@@ -863,10 +970,17 @@ public class ZigBeeNetworkManager implements ZigBeeTransportReceive {
                 zclHeader.setManufacturerCode(zclCommand.getManufacturerCode());
             }
 
-            command.serialize(fieldSerializer);
+            if (serializer instanceof ByteBufferSerializer) {
+                // Serialise the ZCL header ahead of the payload so the frame is built in the buffer without copying
+                zclHeader.serialize(fieldSerializer);
+                command.serialize(fieldSerializer);
+                apsFrame.setPayload(((ByteBufferSerializer) serializer).getBuffer());
+            } else {
+                command.serialize(fieldSerializer);
 
-            // Serialise the ZCL header and add the payload
-            apsFrame.setPayload(zclHeader.serialize(fieldSerializer, fieldSerializer.getPayload()));
+                // Serialise the ZCL header and add the payload
+                apsFrame.setPayload(zclHeader.serialize(fieldSerializer, fieldSerializer.getPayload()));
+            }
 
             logger.debug("TX ZCL: {}", zclHeader);
         }
@@ -907,7 +1021,7 @@ public class ZigBeeNetworkManager implements ZigBeeTransportReceive {
 
             // Notify the listeners that we have heard a command that was unknown to us
             for (final ZigBeeAnnounceListener announceListener : announceListeners) {
-                notificationService.execute(new Runnable() {
+                notificationService.execute(announceListener, new Runnable() {
                     @Override
                     public void run() {
                         announceListener.announceUnknownDevice(apsFrame.getSourceAddress());
@@ -917,14 +1031,15 @@ public class ZigBeeNetworkManager implements ZigBeeTransportReceive {
         }
 
         // Create the deserialiser
-        Constructor<? extends ZigBeeDeserializer> constructor;
-        ZigBeeDeserializer deserializer;
-        try {
-            constructor = deserializerClass.getConstructor(int[].class);
-            deserializer = constructor.newInstance(new Object[] { apsFrame.getPayload() });
-        } catch (NoSuchMethodException | SecurityException | InstantiationException | IllegalAccessException
-                | IllegalArgumentException | InvocationTargetException e) {
-            logger.debug("Error creating deserializer", e);
+        final ZigBeeDeserializer deserializer;
+        if (bufferDeserializerFactory != null && apsFrame.hasPayloadBuffer()) {
+            deserializer = bufferDeserializerFactory.createDeserializer(apsFrame.getPayloadBuffer());
+        } else {
+            deserializer = deserializerFactory == null ? null
+                    : deserializerFactory.createDeserializer(apsFrame.getPayload());
+        }
+        if (deserializer == null) {
+            logger.debug("Error creating deserializer");
             return;
         }
         ZclFieldDeserializer fieldDeserializer = new ZclFieldDeserializer(deserializer);
@@ -974,7 +1089,7 @@ public class ZigBeeNetworkManager implements ZigBeeTransportReceive {
         // Directly distribute commands to nodes
         ZigBeeNode node = getNode(command.getSourceAddress().getAddress());
         if (node != null) {
-            notificationService.execute(new Runnable() {
+            notificationService.execute(node, new Runnable() {
                 @Override
                 public void run() {
                     node.commandReceived(finalCommand, apsFrame.getReceivedRssi(), apsFrame.getReceivedLqi());
@@ -1001,18 +1116,7 @@ public class ZigBeeNetworkManager implements ZigBeeTransportReceive {
             return null;
         }
 
-        ZigBeeCommand command;
-        try {
-            Class<? extends ZdoCommand> commandClass = commandType.getCommandClass();
-            Constructor<? extends ZdoCommand> constructor;
-            constructor = commandClass.getConstructor();
-            command = constructor.newInstance();
-        } catch (NoSuchMethodException | SecurityException | InstantiationException | IllegalAccessException
-                | IllegalArgumentException | InvocationTargetException e) {
-            logger.debug("Error instantiating ZDO command", e);
-            return null;
-        }
-
+        ZigBeeCommand command = commandType.createCommand();
         command.deserialize(fieldDeserializer);
 
         return command;
@@ -1210,7 +1314,7 @@ public class ZigBeeNetworkManager implements ZigBeeTransportReceive {
 
         // Notify the listeners
         for (final ZigBeeAnnounceListener announceListener : announceListeners) {
-            notificationService.execute(new Runnable() {
+            notificationService.execute(announceListener, new Runnable() {
                 @Override
                 public void run() {
                     announceListener.deviceStatusUpdate(deviceStatus, networkAddress, ieeeAddress);
@@ -1282,7 +1386,7 @@ public class ZigBeeNetworkManager implements ZigBeeTransportReceive {
         }
 
         for (final ZigBeeNetworkStateListener stateListener : stateListeners) {
-            notificationService.execute(new Runnable() {
+            notificationService.execute(stateListener, new Runnable() {
                 @Override
                 public void run() {
                     stateListener.networkStateUpdated(state);
@@ -1327,7 +1431,7 @@ public class ZigBeeNetworkManager implements ZigBeeTransportReceive {
             }
 
             for (final ZigBeeNetworkNodeListener listener : nodeListeners) {
-                notificationService.execute(new Runnable() {
+                notificationService.execute(listener, new Runnable() {
                     @Override
                     public void run() {
                         listener.nodeAdded(node);
@@ -1338,7 +1442,7 @@ public class ZigBeeNetworkManager implements ZigBeeTransportReceive {
 
         // Now that everything is added and started, notify the listeners that the state has updated
         for (final ZigBeeNetworkStateListener stateListener : stateListeners) {
-            notificationService.execute(new Runnable() {
+            notificationService.execute(stateListener, new Runnable() {
                 @Override
                 public void run() {
                     stateListener.networkStateUpdated(ZigBeeNetworkState.ONLINE);
@@ -1547,9 +1651,27 @@ public class ZigBeeNetworkManager implements ZigBeeTransportReceive {
      * @return the {@link ZigBeeNode} or null if the node with the requested network address was not found
      */
     public ZigBeeNode getNode(final Integer networkAddress) {
-        for (ZigBeeNode node : networkNodes.values()) {
-            if (node.getNetworkAddress().equals(networkAddress)) {
-                return node;
+        if (networkAddress == null) {
+            return null;
+        }
+
+        ZigBeeNode node = networkAddressIndex.get(networkAddress);
+        if (node == null) {
+            return null;
+        }
+        if (networkAddress.equals(node.getNetworkAddress()) && networkNodes.get(node.getIeeeAddress()) == node) {
+            return node;
+        }
+
+        // The index is out of date - this can occur if the address of a node was changed outside of the network
+        // manager. Remove the stale entry and search the network to repair the index.
+        logger.debug("{}: Network address index for {} is out of date", node.getIeeeAddress(),
+                String.format("%04X", networkAddress));
+        networkAddressIndex.remove(node, networkAddress);
+        for (ZigBeeNode searchNode : networkNodes.values()) {
+            if (networkAddress.equals(searchNode.getNetworkAddress())) {
+                networkAddressIndex.add(searchNode);
+                return searchNode;
             }
         }
 
@@ -1566,6 +1688,20 @@ public class ZigBeeNetworkManager implements ZigBeeTransportReceive {
         return networkNodes.get(ieeeAddress);
     }
 
+    /**
+     * Called by a {@link ZigBeeNode} when its network address changes so that the node can still be found by its
+     * network address. Nodes that are not registered with the network are ignored.
+     *
+     * @param node the {@link ZigBeeNode} whose address has changed
+     * @param previousAddress the previous network address of the node
+     */
+    void updateNodeNetworkAddress(final ZigBeeNode node, final Integer previousAddress) {
+        if (networkNodes.get(node.getIeeeAddress()) != node) {
+            return;
+        }
+        networkAddressIndex.update(node, previousAddress);
+    }
+
     /**
      * Removes a {@link ZigBeeNode} from the network
      *
@@ -1586,7 +1722,10 @@ public class ZigBeeNetworkManager implements ZigBeeTransportReceive {
         if (!networkNodes.containsKey(node.getIeeeAddress())) {
             return;
         }
-        networkNodes.remove(node.getIeeeAddress());
+        ZigBeeNode removedNode = networkNodes.remove(node.getIeeeAddress());
+        if (removedNode != null) {
+            networkAddressIndex.remove(removedNode, removedNode.getNetworkAddress());
+        }
 
         synchronized (this) {
             if (networkState != ZigBeeNetworkState.ONLINE) {
@@ -1595,7 +1734,7 @@ public class ZigBeeNetworkManager implements ZigBeeTransportReceive {
         }
 
         for (final ZigBeeNetworkNodeListener listener : nodeListeners) {
-            notificationService.execute(new Runnable() {
+            notificationService.execute(listener, new Runnable() {
                 @Override
                 public void run() {
                     listener.nodeRemoved(node);
@@ -1629,6 +1768,7 @@ public class ZigBeeNetworkManager implements ZigBeeTransportReceive {
             return;
         }
         networkNodes.put(node.getIeeeAddress(), node);
+        networkAddressIndex.add(node);
 
         synchronized (this) {
             if (networkState != ZigBeeNetworkState.ONLINE) {
@@ -1646,7 +1786,7 @@ public class ZigBeeNetworkManager implements ZigBeeTransportReceive {
         }
 
         for (final ZigBeeNetworkNodeListener listener : nodeListeners) {
-            notificationService.execute(new Runnable() {
+            notificationService.execute(listener, new Runnable() {
                 @Override
                 public void run() {
                     listener.nodeAdded(node);
@@ -1655,6 +1795,39 @@ public class ZigBeeNetworkManager implements ZigBeeTransportReceive {
         }
     }
 
+    /**
+     * Adds a batch of {@link ZigBeeNode}s restored from the network data store to the network. This avoids the overhead
+     * of {@link #updateNode(ZigBeeNode)} for each node, and registered {@link ZigBeeNetworkNodeListener}s receive a
+     * single {@link ZigBeeNetworkNodeListener#nodesRestored(Collection)} notification with all the nodes added.
+     * <p>
+     * Nodes that are already known on the network are updated with {@link #updateNode(ZigBeeNode)}.
+     *
+     * @param nodes the {@link Collection} of {@link ZigBeeNode}s to add
+     */
+    public void restoreNodes(final Collection<ZigBeeNode> nodes) {
+        final List<ZigBeeNode> restoredNodes = new ArrayList<>(nodes.size());
+        for (ZigBeeNode node : nodes) {
+            if (networkNodes.containsKey(node.getIeeeAddress())) {
+                updateNode(node);
+                continue;
+            }
+            networkNodes.put(node.getIeeeAddress(), node);
+            networkAddressIndex.add(node);
+            restoredNodes.add(node);
+        }
+        logger.debug("Restored {} nodes", restoredNodes.size());
+
+        final Collection<ZigBeeNode> notifiedNodes = Collections.unmodifiableList(restoredNodes);
+        for (final ZigBeeNetworkNodeListener listener : nodeListeners) {
+            notificationService.execute(listener, new Runnable() {
+                @Override
+                public void run() {
+                    listener.nodesRestored(notifiedNodes);
+                }
+            });
+        }
+    }
+
     /**
      * Update a {@link ZigBeeNode} within the network.
      * <p>
@@ -1684,11 +1857,15 @@ public class ZigBeeNetworkManager implements ZigBeeTransportReceive {
         }
 
         // Return if there were no updates
+        final Integer previousAddress = currentNode.getNetworkAddress();
         if (!currentNode.updateNode(node)) {
             logger.debug("{}: Node {} is not updated", node.getIeeeAddress(),
                     String.format("%04X", node.getNetworkAddress()));
             return null;
         }
+        if (!Objects.equals(previousAddress, currentNode.getNetworkAddress())) {
+            networkAddressIndex.update(currentNode, previousAddress);
+        }
 
         if (node.getNodeDescriptor() != null && networkNodes.get(node.getIeeeAddress()) != null && Objects
                 .equals(networkNodes.get(node.getIeeeAddress()).getNodeDescriptor(), node.getNodeDescriptor())) {
@@ -1724,7 +1901,7 @@ public class ZigBeeNetworkManager implements ZigBeeTransportReceive {
             synchronized (nodeListeners) {
                 latch = new CountDownLatch(nodeListeners.size());
                 for (final ZigBeeNetworkNodeListener listener : nodeListeners) {
-                    notificationService.execute(new Runnable() {
+                    notificationService.execute(listener, new Runnable() {
                         @Override
                         public void run() {
                             if (sendNodeAdded) {
@@ -1890,6 +2067,18 @@ public class ZigBeeNetworkManager implements ZigBeeTransportReceive {
         return notificationService;
     }
 
+    /**
+     * Sets the {@link NotificationService} used to notify listeners. This allows the number of notification threads
+     * and the notification queue capacity to be configured, or the unordered notification service used in earlier
+     * versions to be selected. This must be called before {@link #initialize()}.
+     *
+     * @param notificationService the {@link NotificationService} to use to notify listeners
+     */
+    public void setNotificationService(NotificationService notificationService) {
+        this.notificationService.shutdown(0);
+        this.notificationService = notificationService;
+    }
+
     /**
      * Finalises the command in preparation for sending. This adds the local source address to an outgoing command.
      *
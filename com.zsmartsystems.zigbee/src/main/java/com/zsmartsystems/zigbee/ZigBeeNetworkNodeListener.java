@@ -7,6 +7,8 @@
  */
 package com.zsmartsystems.zigbee;
 
+import java.util.Collection;
+
 /**
  * ZigBee network listener. Provides notifications on devices and nodes - eg node added
  * to the network, removed from the network, or updated.
@@ -41,4 +43,15 @@ public interface ZigBeeNetworkNodeListener {
     default void nodeRemoved(final ZigBeeNode node) {
         // Default implementation does nothing
     }
+
+    /**
+     * The nodes have been restored from the network data store as a single batch. Nodes restored in this way are also
+     * notified with {@link #nodeAdded(ZigBeeNode)} once the network comes online, so listeners only need to implement
+     * this if they want to process the restored network as a whole.
+     *
+     * @param nodes the {@link Collection} of restored {@link ZigBeeNode}s
+     */
+    default void nodesRestored(final Collection<ZigBeeNode> nodes) {
+        // Default implementation does nothing
+    }
 }
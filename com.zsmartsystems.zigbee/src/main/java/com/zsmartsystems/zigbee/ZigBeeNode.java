@@ -24,6 +24,7 @@ import java.util.concurrent.RunnableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.zsmartsystems.zigbee.database.ZclAttributeUpdateDao;
 import com.zsmartsystems.zigbee.database.ZigBeeEndpointDao;
 import com.zsmartsystems.zigbee.database.ZigBeeNodeDao;
 import com.zsmartsystems.zigbee.internal.NotificationService;
@@ -113,6 +114,12 @@ public class ZigBeeNode {
      */
     private final Map<Integer, ZigBeeEndpoint> endpoints = new ConcurrentHashMap<Integer, ZigBeeEndpoint>();
 
+    /**
+     * Records if the node configuration has changed since it was last persisted. Changes within the endpoints are
+     * recorded by each {@link ZigBeeEndpoint}.
+     */
+    private volatile boolean dirty = true;
+
     /**
      * The endpoint listeners of the ZigBee network. Registered listeners will be
      * notified of additions, deletions and changes to {@link ZigBeeEndpoint}s.
@@ -202,7 +209,14 @@ public class ZigBeeNode {
      */
     public boolean setNetworkAddress(Integer networkAddress) {
         boolean changed = this.networkAddress == null || (!this.networkAddress.equals(networkAddress));
+        Integer previousAddress = this.networkAddress;
         this.networkAddress = networkAddress;
+        if (changed) {
+            dirty = true;
+        }
+        if (changed && networkManager != null) {
+            networkManager.updateNodeNetworkAddress(this, previousAddress);
+        }
         return changed;
     }
 
@@ -222,6 +236,7 @@ public class ZigBeeNode {
      */
     public void setNodeDescriptor(NodeDescriptor nodeDescriptor) {
         this.nodeDescriptor = nodeDescriptor;
+        dirty = true;
     }
 
     /**
@@ -240,6 +255,7 @@ public class ZigBeeNode {
      */
     public void setPowerDescriptor(PowerDescriptor powerDescriptor) {
         this.powerDescriptor = powerDescriptor;
+        dirty = true;
     }
 
     /**
@@ -403,6 +419,7 @@ public class ZigBeeNode {
         synchronized (this.bindingTable) {
             this.bindingTable.clear();
             this.bindingTable.addAll(bindingTable);
+            dirty = true;
             logger.debug("{}: Binding table updated: {}", ieeeAddress, bindingTable);
         }
     }
@@ -505,10 +522,11 @@ public class ZigBeeNode {
     public void addEndpoint(final ZigBeeEndpoint endpoint) {
         synchronized (endpoints) {
             endpoints.put(endpoint.getEndpointId(), endpoint);
+            dirty = true;
         }
         synchronized (this) {
             for (final ZigBeeNetworkEndpointListener listener : endpointListeners) {
-                getNotificationService().execute(new Runnable() {
+                getNotificationService().execute(listener, new Runnable() {
                     @Override
                     public void run() {
                         listener.deviceAdded(endpoint);
@@ -526,10 +544,11 @@ public class ZigBeeNode {
     public void updateEndpoint(final ZigBeeEndpoint endpoint) {
         synchronized (endpoints) {
             endpoints.put(endpoint.getEndpointId(), endpoint);
+            dirty = true;
         }
         synchronized (this) {
             for (final ZigBeeNetworkEndpointListener listener : endpointListeners) {
-                getNotificationService().execute(new Runnable() {
+                getNotificationService().execute(listener, new Runnable() {
                     @Override
                     public void run() {
                         listener.deviceUpdated(endpoint);
@@ -548,11 +567,12 @@ public class ZigBeeNode {
         final ZigBeeEndpoint endpoint;
         synchronized (endpoints) {
             endpoint = endpoints.remove(endpointId);
+            dirty = true;
         }
         synchronized (this) {
             if (endpoint != null) {
                 for (final ZigBeeNetworkEndpointListener listener : endpointListeners) {
-                    getNotificationService().execute(new Runnable() {
+                    getNotificationService().execute(listener, new Runnable() {
                         @Override
                         public void run() {
                             listener.deviceRemoved(endpoint);
@@ -863,6 +883,9 @@ public class ZigBeeNode {
             }
         }
 
+        if (updated) {
+            dirty = true;
+        }
         return updated;
     }
 
@@ -903,6 +926,53 @@ public class ZigBeeNode {
             endpoint.setDao(endpointDao);
             endpoints.put(endpoint.getEndpointId(), endpoint);
         }
+        dirty = false;
+    }
+
+    /**
+     * Returns true if the node, or any of its endpoints or clusters, has changed since it was last persisted such that
+     * the complete node must be persisted with {@link #getDao()}. Changes to attributes alone do not require the
+     * complete node to be persisted - these are returned by {@link #getDirtyAttributes()}.
+     *
+     * @return true if the node must be persisted with {@link #getDao()}
+     */
+    public boolean isDirty() {
+        if (dirty) {
+            return true;
+        }
+        for (ZigBeeEndpoint endpoint : endpoints.values()) {
+            if (endpoint.isDirty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets a {@link ZclAttributeUpdateDao} for each attribute in the node that has changed since it was last
+     * persisted, and clears the dirty flag of the attributes. This allows a node where only attributes have changed to
+     * be persisted without serialising the complete node.
+     *
+     * @return the {@link List} of {@link ZclAttributeUpdateDao}s of all changed attributes
+     */
+    public List<ZclAttributeUpdateDao> getDirtyAttributes() {
+        List<ZclAttributeUpdateDao> updates = new ArrayList<>();
+        for (ZigBeeEndpoint endpoint : endpoints.values()) {
+            updates.addAll(endpoint.getDirtyAttributes());
+        }
+        return updates;
+    }
+
+    /**
+     * Clears the dirty flag of the node and all its endpoints, clusters and attributes. This is called when the
+     * complete node is about to be persisted with {@link #getDao()}. Any change made after this call will mark the node
+     * as dirty again.
+     */
+    public void clearDirty() {
+        dirty = false;
+        for (ZigBeeEndpoint endpoint : endpoints.values()) {
+            endpoint.clearDirty();
+        }
     }
 
     /**
@@ -12,7 +12,6 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
@@ -30,6 +29,8 @@ import com.zsmartsystems.zigbee.app.ZigBeeNetworkExtension;
 import com.zsmartsystems.zigbee.app.discovery.ZigBeeNodeServiceDiscoverer.NodeDiscoveryTask;
 import com.zsmartsystems.zigbee.zdo.command.DeviceAnnounce;
 import com.zsmartsystems.zigbee.zdo.command.ManagementLeaveResponse;
+import com.zsmartsystems.zigbee.zdo.command.ManagementLqiRequest;
+import com.zsmartsystems.zigbee.zdo.command.ManagementRoutingRequest;
 import com.zsmartsystems.zigbee.zdo.command.NetworkAddressRequest;
 
 /**
@@ -40,6 +41,11 @@ import com.zsmartsystems.zigbee.zdo.command.NetworkAddressRequest;
  * routing information (with {@link NodeDiscoveryTask#ROUTES}) and the neighbour information (with
  * {@link NodeDiscoveryTask#NEIGHBORS}). In some networks, it may be advantageous not to update all information as it
  * may place a high load on the network.
+ * <p>
+ * The mesh update polls each router once per update period, spreading the requests evenly over the period rather than
+ * polling all routers at once. Routers that rejoin the network, or whose links change quality (if the
+ * {@link com.zsmartsystems.zigbee.app.topology.ZigBeeTopologyExtension} is registered), are updated first. The number
+ * of neighbor and routing table requests sent per minute is limited by {@link #setManagementRequestBudget(int)}.
  *
  * @author Chris Jackson
  *
@@ -73,12 +79,36 @@ public class ZigBeeDiscoveryExtension
      */
     private boolean updateOnChange = false;
 
-    private ScheduledFuture<?> futureTask = null;
+    /**
+     * The {@link ZigBeeMeshUpdateScheduler} used to perform the periodic mesh update
+     */
+    private ZigBeeMeshUpdateScheduler meshUpdateScheduler;
+
+    /**
+     * Default maximum number of management requests that may be sent per minute during the mesh update
+     */
+    private static final int DEFAULT_MANAGEMENT_REQUEST_BUDGET = 30;
+
+    /**
+     * The maximum number of management requests that may be sent per minute
+     */
+    private int managementRequestBudget = DEFAULT_MANAGEMENT_REQUEST_BUDGET;
 
     private ZigBeeNetworkManager networkManager;
 
     private boolean extensionStarted = false;
 
+    /**
+     * The {@link ZigBeeDiscoveryRequestQueue} shared by all discoverers, limiting the number of discovery requests
+     * outstanding across the network
+     */
+    private ZigBeeDiscoveryRequestQueue requestQueue;
+
+    /**
+     * The maximum number of discovery requests that may be outstanding at once
+     */
+    private int maxOutstandingRequests = ZigBeeDiscoveryRequestQueue.DEFAULT_MAX_OUTSTANDING_REQUESTS;
+
     /**
      * List of tasks to be completed during a mesh update.
      * We want to get the neighbors and routes so we have visibility of the mesh. We also default to requesting the
@@ -108,7 +138,16 @@ public class ZigBeeDiscoveryExtension
             networkManager.addCommandListener(this);
         }
 
-        networkDiscoverer = new ZigBeeNetworkDiscoverer(networkManager);
+        requestQueue = new ZigBeeDiscoveryRequestQueue(networkManager);
+        requestQueue.setMaxOutstandingRequests(maxOutstandingRequests);
+        requestQueue.setManagementRequestBudget(managementRequestBudget);
+
+        meshUpdateScheduler = new ZigBeeMeshUpdateScheduler(networkManager, nodeDiscovery, requestQueue);
+        meshUpdateScheduler.setUpdatePeriod(updatePeriod);
+        meshUpdateScheduler.setUpdateMeshTasks(meshUpdateTasks);
+        meshUpdateScheduler.startup();
+
+        networkDiscoverer = new ZigBeeNetworkDiscoverer(networkManager, requestQueue);
         networkDiscoverer.startup();
 
         if (updatePeriod != 0) {
@@ -129,6 +168,9 @@ public class ZigBeeDiscoveryExtension
         }
 
         stopScheduler();
+        if (meshUpdateScheduler != null) {
+            meshUpdateScheduler.shutdown();
+        }
 
         if (networkDiscoverer != null) {
             networkDiscoverer.shutdown();
@@ -140,6 +182,10 @@ public class ZigBeeDiscoveryExtension
             }
         }
 
+        if (requestQueue != null) {
+            requestQueue.shutdown();
+        }
+
         extensionStarted = false;
 
         logger.debug("DISCOVERY Extension: Shutdown");
@@ -153,6 +199,9 @@ public class ZigBeeDiscoveryExtension
      */
     public void setUpdatePeriod(final int updatePeriod) {
         this.updatePeriod = updatePeriod;
+        if (meshUpdateScheduler != null) {
+            meshUpdateScheduler.setUpdatePeriod(updatePeriod);
+        }
 
         if (!extensionStarted) {
             return;
@@ -168,6 +217,87 @@ public class ZigBeeDiscoveryExtension
         startScheduler(updatePeriod);
     }
 
+    /**
+     * Sets the maximum number of discovery requests that may be outstanding at once across all nodes. Discovery
+     * requests beyond this limit are queued until earlier requests complete. This is independent of the number of
+     * threads used by the {@link ZigBeeNetworkManager}, since discovery does not hold a thread while waiting for a
+     * response.
+     *
+     * @param maxOutstandingRequests the maximum number of outstanding discovery requests. Must be at least 1.
+     */
+    public void setMaxOutstandingRequests(int maxOutstandingRequests) {
+        if (maxOutstandingRequests < 1) {
+            throw new IllegalArgumentException("Maximum outstanding requests must be at least 1");
+        }
+        this.maxOutstandingRequests = maxOutstandingRequests;
+
+        if (requestQueue != null) {
+            requestQueue.setMaxOutstandingRequests(maxOutstandingRequests);
+        }
+    }
+
+    /**
+     * Gets the maximum number of discovery requests that may be outstanding at once across all nodes.
+     *
+     * @return the maximum number of outstanding discovery requests
+     */
+    public int getMaxOutstandingRequests() {
+        return maxOutstandingRequests;
+    }
+
+    /**
+     * Sets the maximum number of {@link ManagementLqiRequest}s and {@link ManagementRoutingRequest}s that may be sent
+     * per minute. Requests beyond this budget are delayed, and no further router updates are started until the budget
+     * is available.
+     *
+     * @param managementRequestBudget the maximum number of management requests per minute, or 0 for no limit
+     */
+    public void setManagementRequestBudget(int managementRequestBudget) {
+        if (managementRequestBudget < 0) {
+            throw new IllegalArgumentException("Management request budget must not be negative");
+        }
+        this.managementRequestBudget = managementRequestBudget;
+
+        if (requestQueue != null) {
+            requestQueue.setManagementRequestBudget(managementRequestBudget);
+        }
+    }
+
+    /**
+     * Gets the maximum number of management requests that may be sent per minute
+     *
+     * @return the maximum number of management requests per minute, or 0 if there is no limit
+     */
+    public int getManagementRequestBudget() {
+        return managementRequestBudget;
+    }
+
+    /**
+     * Gets the number of management requests sent in the last minute. This can be compared with
+     * {@link #getManagementRequestBudget()} to see how much of the budget is being used.
+     *
+     * @return the number of management requests sent in the last minute
+     */
+    public int getManagementRequestsUsed() {
+        if (requestQueue == null) {
+            return 0;
+        }
+        return requestQueue.getManagementRequestsUsed();
+    }
+
+    /**
+     * Gets the number of routers waiting for a mesh update. This includes routers that have not been updated within the
+     * update period, and routers that have been prioritised for an update.
+     *
+     * @return the number of routers waiting for a mesh update
+     */
+    public int getMeshUpdateBacklog() {
+        if (meshUpdateScheduler == null) {
+            return 0;
+        }
+        return meshUpdateScheduler.getBacklog();
+    }
+
     /**
      * The mesh can be set to update when there are changes to the network - eg devices leaving or returning.
      *
@@ -193,6 +323,9 @@ public class ZigBeeDiscoveryExtension
      */
     public void setUpdateMeshTasks(List<NodeDiscoveryTask> tasks) {
         meshUpdateTasks = tasks;
+        if (meshUpdateScheduler != null) {
+            meshUpdateScheduler.setUpdateMeshTasks(tasks);
+        }
     }
 
     /**
@@ -207,11 +340,15 @@ public class ZigBeeDiscoveryExtension
     }
 
     /**
-     * Performs an immediate refresh of the network mesh information. Subsequent updates are performed at the current
-     * update rate, and the timer is restarted from the time of calling this method.
+     * Performs an immediate refresh of the network mesh information. All routers are prioritised for an update, and
+     * are updated in turn, subject to the management request budget. Subsequent updates are performed at the current
+     * update rate.
      */
     public void refresh() {
         logger.debug("DISCOVERY Extension: Start mesh update task with interval of {} seconds", updatePeriod);
+        if (meshUpdateScheduler != null) {
+            meshUpdateScheduler.refreshAll();
+        }
 
         // Delay the start slightly to allow any further processing to complete.
         // Also allows successive responses to filter through without retriggering an update.
@@ -291,7 +428,8 @@ public class ZigBeeDiscoveryExtension
 
     protected void startDiscovery(ZigBeeNode node) {
         synchronized (nodeDiscovery) {
-            ZigBeeNodeServiceDiscoverer nodeDiscoverer = new ZigBeeNodeServiceDiscoverer(networkManager, node);
+            ZigBeeNodeServiceDiscoverer nodeDiscoverer = new ZigBeeNodeServiceDiscoverer(networkManager, node,
+                    requestQueue);
             nodeDiscoverer.setUpdateMeshTasks(meshUpdateTasks);
             nodeDiscovery.put(node.getIeeeAddress(), nodeDiscoverer);
             nodeDiscoverer.startDiscovery();
@@ -306,31 +444,15 @@ public class ZigBeeDiscoveryExtension
     }
 
     protected void stopScheduler() {
-        if (futureTask != null) {
-            futureTask.cancel(true);
-            futureTask = null;
+        if (meshUpdateScheduler != null) {
+            meshUpdateScheduler.stop();
         }
     }
 
     protected void startScheduler(int initialPeriod) {
-        stopScheduler();
-
-        Runnable meshUpdateThread = new Runnable() {
-            @Override
-            public void run() {
-                synchronized (nodeDiscovery) {
-                    logger.debug("DISCOVERY Extension: Starting mesh update");
-                    for (ZigBeeNodeServiceDiscoverer node : nodeDiscovery.values()) {
-                        logger.debug("{}: DISCOVERY Extension: Starting mesh update", node.getNode().getIeeeAddress());
-                        node.setUpdateMeshTasks(meshUpdateTasks);
-                        node.updateMesh();
-                    }
-                }
-            }
-        };
-
-        futureTask = networkManager.scheduleTask(meshUpdateThread, initialPeriod,
-                TimeUnit.SECONDS.toMillis(updatePeriod));
+        if (meshUpdateScheduler != null) {
+            meshUpdateScheduler.start(TimeUnit.SECONDS.toMillis(initialPeriod));
+        }
     }
 
     /**
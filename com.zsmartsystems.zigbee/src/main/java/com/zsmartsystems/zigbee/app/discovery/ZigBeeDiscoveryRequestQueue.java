@@ -0,0 +1,501 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.app.discovery;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zsmartsystems.zigbee.CommandResult;
+import com.zsmartsystems.zigbee.ZigBeeExecutors;
+import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
+import com.zsmartsystems.zigbee.ZigBeeStatus;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionFuture;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionFutureListener;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionMatcher;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionPriority;
+import com.zsmartsystems.zigbee.zdo.ZdoRequest;
+import com.zsmartsystems.zigbee.zdo.command.ManagementLqiRequest;
+import com.zsmartsystems.zigbee.zdo.command.ManagementRoutingRequest;
+
+/**
+ * Sends the ZDO requests used during discovery without blocking a thread while waiting for the response.
+ * <p>
+ * Each request is sent with {@link ZigBeeNetworkManager#sendTransaction(com.zsmartsystems.zigbee.ZigBeeCommand,
+ * ZigBeeTransactionMatcher)}, and the {@link ResponseHandler} is called once the transaction completes. This allows
+ * each discovery step to be written as a stage that starts the next stage from its handler, rather than a task that
+ * holds a thread from the shared executor for the whole discovery.
+ * <p>
+ * The number of discovery requests outstanding at once is limited to {@link #setMaxOutstandingRequests(int)} across
+ * all users of the queue, independently of the executors used by the network manager. Further requests are queued
+ * and sent in order as earlier requests complete. This stops a large network from flooding the transaction queues
+ * with discovery requests, for example when many nodes join at once.
+ * <p>
+ * Requests are sent with {@link ZigBeeTransactionPriority#BACKGROUND} priority, so discovery and mesh updates do not
+ * delay other transactions on a busy network.
+ * <p>
+ * A request may be retried if no response is received. Retries use a random exponential backoff and do not hold one of
+ * the outstanding request slots while waiting.
+ * <p>
+ * The number of {@link ManagementLqiRequest}s and {@link ManagementRoutingRequest}s sent in any minute may be limited
+ * with {@link #setManagementRequestBudget(int)}. These requests are sent to routers to read their neighbor and routing
+ * tables, and may return several pages that each need a further request. Once the budget is used, management requests
+ * are held in the queue until the oldest request in the budget is more than a minute old, while other requests are
+ * sent as normal.
+ * <p>
+ * Handlers are called from a single discovery thread, so they are called in the order the transactions complete and
+ * do not run on the transport or transaction manager threads.
+ *
+ * @author Chris Jackson
+ */
+class ZigBeeDiscoveryRequestQueue {
+    /**
+     * The logger.
+     */
+    private final Logger logger = LoggerFactory.getLogger(ZigBeeDiscoveryRequestQueue.class);
+
+    /**
+     * Default maximum number of discovery requests that may be outstanding at once
+     */
+    static final int DEFAULT_MAX_OUTSTANDING_REQUESTS = 4;
+
+    /**
+     * Default period in milliseconds before the first retry. This doubles with each retry.
+     */
+    private static final int DEFAULT_RETRY_PERIOD = 2000;
+
+    /**
+     * Time in milliseconds that the handler thread waits for new work before terminating
+     */
+    private static final long HANDLER_KEEP_ALIVE = 60000;
+
+    /**
+     * The period in milliseconds over which the management request budget applies
+     */
+    private static final long MANAGEMENT_BUDGET_PERIOD = 60000;
+
+    /**
+     * Handler called with the result of a discovery request
+     */
+    interface ResponseHandler {
+        /**
+         * Called when the request completes, after any retries. If the request failed, the result will be an error,
+         * or will have no response.
+         *
+         * @param result the {@link CommandResult} of the request
+         */
+        void responseReceived(CommandResult result);
+    }
+
+    private final ZigBeeNetworkManager networkManager;
+
+    /**
+     * Single thread used to call the {@link ResponseHandler}s
+     */
+    private final ExecutorService handlerExecutor;
+
+    /**
+     * Requests waiting for an outstanding request slot
+     */
+    private final Deque<DiscoveryRequest> pendingRequests = new ArrayDeque<>();
+
+    private final Random random = new Random();
+
+    private int maxOutstandingRequests = DEFAULT_MAX_OUTSTANDING_REQUESTS;
+
+    private int outstandingRequests = 0;
+
+    private int retryPeriod = DEFAULT_RETRY_PERIOD;
+
+    private boolean shutdown = false;
+
+    /**
+     * The maximum number of management requests that may be sent in {@link #MANAGEMENT_BUDGET_PERIOD}, or 0 if the
+     * number of management requests is not limited
+     */
+    private int managementRequestBudget = 0;
+
+    /**
+     * The times that the management requests in the current budget period were sent, oldest first
+     */
+    private final Deque<Long> managementRequestTimes = new ArrayDeque<>();
+
+    /**
+     * True if a task has been scheduled to send the held management requests once the budget is available
+     */
+    private boolean budgetTaskScheduled = false;
+
+    /**
+     * Creates the request queue
+     *
+     * @param networkManager the {@link ZigBeeNetworkManager} used to send the requests
+     */
+    ZigBeeDiscoveryRequestQueue(ZigBeeNetworkManager networkManager) {
+        this.networkManager = networkManager;
+        handlerExecutor = ZigBeeExecutors.newBoundedThreadPool(1, HANDLER_KEEP_ALIVE, "DiscoveryHandler");
+    }
+
+    /**
+     * Sets the maximum number of discovery requests that may be outstanding at once. If this is reduced, requests
+     * that are already outstanding are allowed to complete.
+     *
+     * @param maxOutstandingRequests the maximum number of outstanding requests. Must be at least 1.
+     */
+    void setMaxOutstandingRequests(int maxOutstandingRequests) {
+        if (maxOutstandingRequests < 1) {
+            throw new IllegalArgumentException("Maximum outstanding requests must be at least 1");
+        }
+        synchronized (pendingRequests) {
+            this.maxOutstandingRequests = maxOutstandingRequests;
+        }
+        sendPendingRequests();
+    }
+
+    /**
+     * Gets the maximum number of discovery requests that may be outstanding at once
+     *
+     * @return the maximum number of outstanding requests
+     */
+    int getMaxOutstandingRequests() {
+        return maxOutstandingRequests;
+    }
+
+    /**
+     * Sets the period before the first retry of a failed request. The period doubles with each subsequent retry.
+     *
+     * @param retryPeriod the retry period in milliseconds
+     */
+    void setRetryPeriod(int retryPeriod) {
+        this.retryPeriod = retryPeriod;
+    }
+
+    /**
+     * Sets the maximum number of {@link ManagementLqiRequest}s and {@link ManagementRoutingRequest}s that may be sent
+     * in any minute. Setting the budget to 0 removes the limit.
+     *
+     * @param managementRequestBudget the maximum number of management requests per minute, or 0 for no limit
+     */
+    void setManagementRequestBudget(int managementRequestBudget) {
+        if (managementRequestBudget < 0) {
+            throw new IllegalArgumentException("Management request budget must not be negative");
+        }
+        synchronized (pendingRequests) {
+            this.managementRequestBudget = managementRequestBudget;
+        }
+        sendPendingRequests();
+    }
+
+    /**
+     * Gets the maximum number of management requests that may be sent in any minute
+     *
+     * @return the maximum number of management requests per minute, or 0 if there is no limit
+     */
+    int getManagementRequestBudget() {
+        return managementRequestBudget;
+    }
+
+    /**
+     * Gets the number of management requests sent in the last minute
+     *
+     * @return the number of management requests sent in the last minute
+     */
+    int getManagementRequestsUsed() {
+        synchronized (pendingRequests) {
+            expireManagementRequests(System.currentTimeMillis());
+            return managementRequestTimes.size();
+        }
+    }
+
+    /**
+     * Checks if another management request can be sent now without exceeding the budget. Management requests already
+     * waiting in the queue are included, so this can be used to avoid starting new work while the budget is used.
+     *
+     * @return true if a management request can be sent now
+     */
+    boolean isManagementRequestAvailable() {
+        synchronized (pendingRequests) {
+            if (managementRequestBudget == 0) {
+                return true;
+            }
+            expireManagementRequests(System.currentTimeMillis());
+            int waiting = 0;
+            for (DiscoveryRequest request : pendingRequests) {
+                if (request.isManagementRequest()) {
+                    waiting++;
+                }
+            }
+            return managementRequestTimes.size() + waiting < managementRequestBudget;
+        }
+    }
+
+    /**
+     * Sends a request without retries.
+     *
+     * @param request the {@link ZdoRequest} to send. The request is used as its own response matcher.
+     * @param handler the {@link ResponseHandler} to call when the request completes
+     */
+    void sendRequest(ZdoRequest request, ResponseHandler handler) {
+        sendRequest(request, 0, handler);
+    }
+
+    /**
+     * Sends a request, retrying if there is no response.
+     *
+     * @param request the {@link ZdoRequest} to send. The request is used as its own response matcher.
+     * @param retries the number of times to retry the request if it fails
+     * @param handler the {@link ResponseHandler} to call when the request completes
+     */
+    void sendRequest(ZdoRequest request, int retries, ResponseHandler handler) {
+        if (!(request instanceof ZigBeeTransactionMatcher)) {
+            throw new IllegalArgumentException("Discovery request must match its own response");
+        }
+        request.setPriority(ZigBeeTransactionPriority.BACKGROUND);
+        queueRequest(new DiscoveryRequest(request, retries, handler));
+    }
+
+    /**
+     * Gets the number of requests that are waiting to be sent
+     *
+     * @return the number of requests waiting for an outstanding request slot
+     */
+    int getPendingRequests() {
+        synchronized (pendingRequests) {
+            return pendingRequests.size();
+        }
+    }
+
+    /**
+     * Shuts down the queue. Pending requests are discarded and no further handlers will be called.
+     */
+    void shutdown() {
+        synchronized (pendingRequests) {
+            shutdown = true;
+            pendingRequests.clear();
+        }
+        handlerExecutor.shutdownNow();
+    }
+
+    private void queueRequest(DiscoveryRequest request) {
+        synchronized (pendingRequests) {
+            if (shutdown) {
+                return;
+            }
+            pendingRequests.add(request);
+        }
+        sendPendingRequests();
+    }
+
+    /**
+     * Sends queued requests while there are free outstanding request slots
+     */
+    private void sendPendingRequests() {
+        while (true) {
+            DiscoveryRequest request;
+            synchronized (pendingRequests) {
+                if (shutdown || outstandingRequests >= maxOutstandingRequests || pendingRequests.isEmpty()) {
+                    return;
+                }
+                request = pollNextRequest();
+                if (request == null) {
+                    return;
+                }
+                outstandingRequests++;
+            }
+            request.send();
+        }
+    }
+
+    /**
+     * Removes the next request that may be sent from the queue. Management requests are skipped if the budget has
+     * been used, and a task is scheduled to send them once the budget is available again.
+     * <p>
+     * Must be called with {@link #pendingRequests} locked.
+     *
+     * @return the next {@link DiscoveryRequest} to send, or null if no request can be sent now
+     */
+    private DiscoveryRequest pollNextRequest() {
+        long now = System.currentTimeMillis();
+        expireManagementRequests(now);
+        boolean budgetAvailable = managementRequestBudget == 0
+                || managementRequestTimes.size() < managementRequestBudget;
+
+        Iterator<DiscoveryRequest> iterator = pendingRequests.iterator();
+        while (iterator.hasNext()) {
+            DiscoveryRequest request = iterator.next();
+            if (!request.isManagementRequest()) {
+                iterator.remove();
+                return request;
+            }
+            if (budgetAvailable) {
+                iterator.remove();
+                if (managementRequestBudget != 0) {
+                    managementRequestTimes.add(now);
+                }
+                return request;
+            }
+        }
+
+        if (!budgetTaskScheduled && !pendingRequests.isEmpty()) {
+            long delay = managementRequestTimes.peek() + MANAGEMENT_BUDGET_PERIOD - now;
+            logger.debug("Discovery management request budget of {} used. Waiting {}ms.", managementRequestBudget,
+                    delay);
+            budgetTaskScheduled = true;
+            networkManager.scheduleTask(new Runnable() {
+                @Override
+                public void run() {
+                    synchronized (pendingRequests) {
+                        budgetTaskScheduled = false;
+                    }
+                    sendPendingRequests();
+                }
+            }, Math.max(delay, 0), 0);
+        }
+        return null;
+    }
+
+    /**
+     * Removes management requests from the budget once they are older than the budget period
+     *
+     * @param now the current time in milliseconds
+     */
+    private void expireManagementRequests(long now) {
+        while (!managementRequestTimes.isEmpty()
+                && managementRequestTimes.peek() + MANAGEMENT_BUDGET_PERIOD <= now) {
+            managementRequestTimes.poll();
+        }
+    }
+
+    private void requestComplete(final DiscoveryRequest request, final CommandResult result) {
+        synchronized (pendingRequests) {
+            outstandingRequests--;
+            if (shutdown) {
+                return;
+            }
+        }
+
+        if (result.getResponse() == null && request.retryCount < request.retries) {
+            long delay = getRetryDelay(request.retryCount++);
+            logger.debug("Discovery request {} failed. Retry {} in {}ms.", request.request.getClass().getSimpleName(),
+                    request.retryCount, delay);
+            ScheduledFuture<?> retryTask = networkManager.scheduleTask(new Runnable() {
+                @Override
+                public void run() {
+                    queueRequest(request);
+                }
+            }, delay);
+            if (retryTask == null) {
+                // The network manager won't schedule tasks while the network is not online
+                logger.debug("Discovery request {} retry not scheduled.", request.request.getClass().getSimpleName());
+                notifyHandler(request, result);
+            }
+        } else {
+            notifyHandler(request, result);
+        }
+
+        sendPendingRequests();
+    }
+
+    /**
+     * Passes the final result of a request to its {@link ResponseHandler}
+     *
+     * @param request the completed {@link DiscoveryRequest}
+     * @param result the {@link CommandResult} for the request
+     */
+    private void notifyHandler(final DiscoveryRequest request, final CommandResult result) {
+        try {
+            handlerExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        request.handler.responseReceived(result);
+                    } catch (Exception e) {
+                        logger.error("Discovery request handler exception: ", e);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.debug("Discovery request completed after shutdown");
+        }
+    }
+
+    /**
+     * Gets the random exponential backoff delay for a retry. The delay is randomly chosen between the retry period
+     * and twice the retry period, doubling for each retry.
+     *
+     * @param retryCount the number of retries already made
+     * @return the delay in milliseconds
+     */
+    private long getRetryDelay(int retryCount) {
+        long period = (long) retryPeriod << Math.min(retryCount, 8);
+        synchronized (random) {
+            return period + (long) (random.nextDouble() * period);
+        }
+    }
+
+    private class DiscoveryRequest implements ZigBeeTransactionFutureListener {
+        private final ZdoRequest request;
+        private final int retries;
+        private final ResponseHandler handler;
+        private int retryCount = 0;
+
+        DiscoveryRequest(ZdoRequest request, int retries, ResponseHandler handler) {
+            this.request = request;
+            this.retries = retries;
+            this.handler = handler;
+        }
+
+        boolean isManagementRequest() {
+            return request instanceof ManagementLqiRequest || request instanceof ManagementRoutingRequest;
+        }
+
+        void send() {
+            final Future<CommandResult> future;
+            try {
+                future = networkManager.sendTransaction(request, (ZigBeeTransactionMatcher) request);
+            } catch (Exception e) {
+                logger.debug("Discovery request {} failed to send: ", request.getClass().getSimpleName(), e);
+                transactionComplete(new CommandResult(ZigBeeStatus.FAILURE, null));
+                return;
+            }
+
+            if (future == null) {
+                transactionComplete(new CommandResult(ZigBeeStatus.FAILURE, null));
+            } else if (future instanceof ZigBeeTransactionFuture) {
+                ((ZigBeeTransactionFuture) future).addListener(this);
+            } else {
+                // Only a ZigBeeTransactionFuture can notify on completion, so anything else has to be waited for
+                networkManager.executeTask(new Runnable() {
+                    @Override
+                    public void run() {
+                        CommandResult result;
+                        try {
+                            result = future.get();
+                        } catch (InterruptedException | ExecutionException e) {
+                            result = null;
+                        }
+                        transactionComplete(result == null ? new CommandResult(ZigBeeStatus.FAILURE, null) : result);
+                    }
+                });
+            }
+        }
+
+        @Override
+        public void transactionComplete(CommandResult result) {
+            requestComplete(this, result);
+        }
+    }
+}
@@ -0,0 +1,435 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.app.discovery;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.ZigBeeCommand;
+import com.zsmartsystems.zigbee.ZigBeeCommandListener;
+import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
+import com.zsmartsystems.zigbee.ZigBeeNode;
+import com.zsmartsystems.zigbee.app.discovery.ZigBeeNodeServiceDiscoverer.NodeDiscoveryTask;
+import com.zsmartsystems.zigbee.app.topology.ZigBeeTopologyExtension;
+import com.zsmartsystems.zigbee.app.topology.ZigBeeTopologyLink;
+import com.zsmartsystems.zigbee.app.topology.ZigBeeTopologyListener;
+import com.zsmartsystems.zigbee.zdo.ZdoStatus;
+import com.zsmartsystems.zigbee.zdo.command.DeviceAnnounce;
+import com.zsmartsystems.zigbee.zdo.command.ManagementLqiResponse;
+
+/**
+ * Schedules the periodic mesh update of the routers in the network.
+ * <p>
+ * Rather than updating every node at the same time, the routers are updated one at a time, spread evenly over the
+ * update period with a random jitter so that the requests don't synchronise with other periodic traffic. End devices
+ * are not polled since they don't maintain neighbor or routing tables, and each router is only updated once per period.
+ * If a neighbor table response is received from a router for any other reason, it is counted as its update for the
+ * period.
+ * <p>
+ * Routers are updated ahead of the normal order when they rejoin the network (on receipt of a {@link DeviceAnnounce}),
+ * or when the {@link ZigBeeTopologyExtension} reports that the quality of a link to the router has changed.
+ * <p>
+ * The mesh update requests are sent through the {@link ZigBeeDiscoveryRequestQueue}, which enforces the management
+ * request budget and sends the requests with background priority. No new update is started while the budget is used,
+ * so the backlog is held here rather than in the request queue.
+ *
+ * @author Chris Jackson
+ */
+class ZigBeeMeshUpdateScheduler implements ZigBeeCommandListener, ZigBeeTopologyListener {
+    /**
+     * The logger.
+     */
+    private final Logger logger = LoggerFactory.getLogger(ZigBeeMeshUpdateScheduler.class);
+
+    /**
+     * The minimum time in milliseconds between starting updates
+     */
+    private static final long MIN_UPDATE_INTERVAL = 1000;
+
+    /**
+     * The maximum time in milliseconds between starting updates while there are priority updates waiting
+     */
+    private static final long PRIORITY_UPDATE_INTERVAL = 5000;
+
+    /**
+     * The jitter applied to the update interval, as a fraction of the interval
+     */
+    private static final double UPDATE_JITTER = 0.25;
+
+    private final ZigBeeNetworkManager networkManager;
+
+    /**
+     * The {@link ZigBeeNodeServiceDiscoverer}s for each node. This is shared with the {@link ZigBeeDiscoveryExtension}.
+     */
+    private final Map<IeeeAddress, ZigBeeNodeServiceDiscoverer> nodeDiscovery;
+
+    private final ZigBeeDiscoveryRequestQueue requestQueue;
+
+    /**
+     * The time that each node was last updated
+     */
+    private final Map<IeeeAddress, Long> lastUpdateTimes = new HashMap<>();
+
+    /**
+     * Nodes that should be updated ahead of the normal order, in the order they were requested
+     */
+    private final Set<IeeeAddress> priorityNodes = new LinkedHashSet<>();
+
+    private final Random random = new Random();
+
+    private ZigBeeTopologyExtension topologyExtension;
+
+    /**
+     * The update period in milliseconds. If 0, only priority updates are performed.
+     */
+    private long updatePeriod = 0;
+
+    private List<NodeDiscoveryTask> meshUpdateTasks = Collections.emptyList();
+
+    private ScheduledFuture<?> futureTask;
+
+    private boolean running = false;
+
+    /**
+     * Creates the scheduler
+     *
+     * @param networkManager the {@link ZigBeeNetworkManager}
+     * @param nodeDiscovery the map of {@link ZigBeeNodeServiceDiscoverer}s for each node
+     * @param requestQueue the {@link ZigBeeDiscoveryRequestQueue} used by the discoverers
+     */
+    ZigBeeMeshUpdateScheduler(ZigBeeNetworkManager networkManager,
+            Map<IeeeAddress, ZigBeeNodeServiceDiscoverer> nodeDiscovery, ZigBeeDiscoveryRequestQueue requestQueue) {
+        this.networkManager = networkManager;
+        this.nodeDiscovery = nodeDiscovery;
+        this.requestQueue = requestQueue;
+    }
+
+    /**
+     * Registers the listeners used to prioritise updates. If the {@link ZigBeeTopologyExtension} is registered with
+     * the network manager, changes in link quality are used to prioritise updates.
+     */
+    void startup() {
+        networkManager.addCommandListener(this);
+
+        topologyExtension = (ZigBeeTopologyExtension) networkManager.getExtension(ZigBeeTopologyExtension.class);
+        if (topologyExtension != null) {
+            topologyExtension.addTopologyListener(this);
+        }
+    }
+
+    /**
+     * Stops updates and removes the listeners
+     */
+    void shutdown() {
+        stop();
+
+        networkManager.removeCommandListener(this);
+        if (topologyExtension != null) {
+            topologyExtension.removeTopologyListener(this);
+        }
+    }
+
+    /**
+     * Sets the period over which all routers are updated
+     *
+     * @param updatePeriod the update period in seconds. If 0, only priority updates are performed.
+     */
+    synchronized void setUpdatePeriod(int updatePeriod) {
+        this.updatePeriod = updatePeriod * 1000L;
+    }
+
+    /**
+     * Sets the tasks used to update each router
+     *
+     * @param meshUpdateTasks the list of {@link NodeDiscoveryTask}s to perform
+     */
+    synchronized void setUpdateMeshTasks(List<NodeDiscoveryTask> meshUpdateTasks) {
+        this.meshUpdateTasks = meshUpdateTasks;
+    }
+
+    /**
+     * Starts scheduling updates. If updates are already scheduled, they are restarted with the new delay.
+     *
+     * @param initialDelay the delay in milliseconds before the first update
+     */
+    synchronized void start(long initialDelay) {
+        running = true;
+        schedule(initialDelay);
+    }
+
+    /**
+     * Stops scheduling updates
+     */
+    synchronized void stop() {
+        running = false;
+        if (futureTask != null) {
+            futureTask.cancel(false);
+            futureTask = null;
+        }
+    }
+
+    /**
+     * Requests that all routers are updated ahead of the normal order
+     */
+    void refreshAll() {
+        List<IeeeAddress> routers = new ArrayList<>();
+        synchronized (nodeDiscovery) {
+            for (ZigBeeNodeServiceDiscoverer discoverer : nodeDiscovery.values()) {
+                if (isRouter(discoverer.getNode())) {
+                    routers.add(discoverer.getNode().getIeeeAddress());
+                }
+            }
+        }
+        synchronized (this) {
+            priorityNodes.addAll(routers);
+        }
+    }
+
+    /**
+     * Requests that a node is updated ahead of the normal order. The request is ignored if the node is known not to be
+     * a router.
+     *
+     * @param ieeeAddress the {@link IeeeAddress} of the node
+     */
+    synchronized void prioritise(IeeeAddress ieeeAddress) {
+        if (ieeeAddress == null || priorityNodes.contains(ieeeAddress)) {
+            return;
+        }
+        ZigBeeNodeServiceDiscoverer discoverer = nodeDiscovery.get(ieeeAddress);
+        if (discoverer != null && !isRouter(discoverer.getNode())) {
+            return;
+        }
+        logger.debug("{}: Mesh update prioritised", ieeeAddress);
+        priorityNodes.add(ieeeAddress);
+
+        // Bring forward the next update if it's not due soon
+        if (running && futureTask != null
+                && futureTask.getDelay(TimeUnit.MILLISECONDS) > PRIORITY_UPDATE_INTERVAL) {
+            schedule(PRIORITY_UPDATE_INTERVAL);
+        }
+    }
+
+    /**
+     * Gets the number of routers waiting to be updated. This includes routers that have not been updated within the
+     * update period, and routers that have been prioritised.
+     *
+     * @return the number of routers waiting to be updated
+     */
+    int getBacklog() {
+        long now = System.currentTimeMillis();
+        int backlog = 0;
+        for (ZigBeeNodeServiceDiscoverer discoverer : getRouters()) {
+            if (isDue(discoverer.getNode().getIeeeAddress(), now)) {
+                backlog++;
+            }
+        }
+        return backlog;
+    }
+
+    @Override
+    public void commandReceived(ZigBeeCommand command) {
+        if (command instanceof DeviceAnnounce) {
+            prioritise(((DeviceAnnounce) command).getIeeeAddr());
+        } else if (command instanceof ManagementLqiResponse
+                && ((ManagementLqiResponse) command).getStatus() == ZdoStatus.SUCCESS) {
+            // The router has just reported its neighbors, so there is no need to poll it again this period
+            ZigBeeNode node = networkManager.getNode(command.getSourceAddress().getAddress());
+            if (node != null) {
+                synchronized (this) {
+                    lastUpdateTimes.put(node.getIeeeAddress(), System.currentTimeMillis());
+                    priorityNodes.remove(node.getIeeeAddress());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void linkAdded(ZigBeeTopologyLink link) {
+        prioritise(link.getDestinationAddress());
+    }
+
+    @Override
+    public void linkUpdated(ZigBeeTopologyLink previousLink, ZigBeeTopologyLink link) {
+        prioritise(link.getDestinationAddress());
+    }
+
+    private void prioritise(int networkAddress) {
+        ZigBeeNode node = networkManager.getNode(networkAddress);
+        if (node != null && isRouter(node)) {
+            prioritise(node.getIeeeAddress());
+        }
+    }
+
+    /**
+     * Starts the update of the next router that is due, and schedules the next update. The update is not started if
+     * the management request budget is used.
+     */
+    void updateNextNode() {
+        long now = System.currentTimeMillis();
+        List<ZigBeeNodeServiceDiscoverer> routers = getRouters();
+
+        ZigBeeNodeServiceDiscoverer discoverer = getNextNode(routers, now);
+        if (discoverer != null) {
+            if (requestQueue.isManagementRequestAvailable()) {
+                IeeeAddress ieeeAddress = discoverer.getNode().getIeeeAddress();
+                List<NodeDiscoveryTask> tasks;
+                synchronized (this) {
+                    priorityNodes.remove(ieeeAddress);
+                    lastUpdateTimes.put(ieeeAddress, now);
+                    tasks = meshUpdateTasks;
+                }
+                logger.debug("{}: Starting mesh update", ieeeAddress);
+                discoverer.setUpdateMeshTasks(tasks);
+                discoverer.updateMesh();
+            } else {
+                logger.debug("Mesh update deferred: management request budget used");
+            }
+        }
+
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            long interval = getUpdateInterval(routers.size());
+            if (interval == 0) {
+                logger.debug("Mesh update complete");
+                futureTask = null;
+                return;
+            }
+            schedule(interval);
+        }
+    }
+
+    /**
+     * Gets the next router to update. Prioritised routers are updated first, followed by the router that has waited
+     * longest since its last update.
+     *
+     * @param routers the routers in the network
+     * @param now the current time in milliseconds
+     * @return the {@link ZigBeeNodeServiceDiscoverer} for the next router, or null if no router is due
+     */
+    private synchronized ZigBeeNodeServiceDiscoverer getNextNode(List<ZigBeeNodeServiceDiscoverer> routers,
+            long now) {
+        Map<IeeeAddress, ZigBeeNodeServiceDiscoverer> routerMap = new HashMap<>();
+        for (ZigBeeNodeServiceDiscoverer discoverer : routers) {
+            routerMap.put(discoverer.getNode().getIeeeAddress(), discoverer);
+        }
+
+        Iterator<IeeeAddress> iterator = priorityNodes.iterator();
+        while (iterator.hasNext()) {
+            IeeeAddress ieeeAddress = iterator.next();
+            if (routerMap.containsKey(ieeeAddress)) {
+                return routerMap.get(ieeeAddress);
+            }
+            // Remove nodes that are known not to be routers. Others may not be discovered yet.
+            ZigBeeNodeServiceDiscoverer discoverer = nodeDiscovery.get(ieeeAddress);
+            if (discoverer != null && !isRouter(discoverer.getNode())) {
+                iterator.remove();
+            }
+        }
+
+        ZigBeeNodeServiceDiscoverer oldest = null;
+        long oldestTime = Long.MAX_VALUE;
+        for (ZigBeeNodeServiceDiscoverer discoverer : routers) {
+            IeeeAddress ieeeAddress = discoverer.getNode().getIeeeAddress();
+            if (!isDue(ieeeAddress, now)) {
+                continue;
+            }
+            Long lastUpdate = lastUpdateTimes.get(ieeeAddress);
+            long time = lastUpdate == null ? Long.MIN_VALUE : lastUpdate;
+            if (oldest == null || time < oldestTime) {
+                oldest = discoverer;
+                oldestTime = time;
+            }
+        }
+        return oldest;
+    }
+
+    /**
+     * Gets the interval to the next update. Updates are spread evenly over the update period, with a random jitter.
+     *
+     * @param routers the number of routers in the network
+     * @return the interval in milliseconds, or 0 if there are no further updates to perform
+     */
+    private long getUpdateInterval(int routers) {
+        long interval = 0;
+        if (updatePeriod != 0) {
+            interval = updatePeriod / Math.max(1, routers);
+            interval += (long) ((random.nextDouble() * 2 - 1) * UPDATE_JITTER * interval);
+        }
+        if (!priorityNodes.isEmpty() && (interval == 0 || interval > PRIORITY_UPDATE_INTERVAL)) {
+            interval = PRIORITY_UPDATE_INTERVAL;
+        }
+        if (interval == 0) {
+            return 0;
+        }
+        return Math.max(interval, MIN_UPDATE_INTERVAL);
+    }
+
+    private synchronized boolean isDue(IeeeAddress ieeeAddress, long now) {
+        if (priorityNodes.contains(ieeeAddress)) {
+            return true;
+        }
+        if (updatePeriod == 0) {
+            return false;
+        }
+        Long lastUpdate = lastUpdateTimes.get(ieeeAddress);
+        return lastUpdate == null || now - lastUpdate >= updatePeriod;
+    }
+
+    private List<ZigBeeNodeServiceDiscoverer> getRouters() {
+        List<ZigBeeNodeServiceDiscoverer> routers = new ArrayList<>();
+        synchronized (nodeDiscovery) {
+            for (ZigBeeNodeServiceDiscoverer discoverer : nodeDiscovery.values()) {
+                if (isRouter(discoverer.getNode())) {
+                    routers.add(discoverer);
+                }
+            }
+        }
+        return routers;
+    }
+
+    private boolean isRouter(ZigBeeNode node) {
+        switch (node.getLogicalType()) {
+            case ROUTER:
+            case COORDINATOR:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void schedule(long delay) {
+        if (futureTask != null) {
+            futureTask.cancel(false);
+        }
+        futureTask = networkManager.scheduleTask(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    updateNextNode();
+                } catch (Exception e) {
+                    logger.error("Mesh update exception: ", e);
+                }
+            }
+        }, delay, 0);
+    }
+}
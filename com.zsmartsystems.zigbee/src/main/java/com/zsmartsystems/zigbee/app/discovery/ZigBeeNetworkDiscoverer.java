@@ -12,7 +12,6 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutionException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,6 +27,7 @@ import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
 import com.zsmartsystems.zigbee.ZigBeeNode;
 import com.zsmartsystems.zigbee.ZigBeeNode.ZigBeeNodeState;
 import com.zsmartsystems.zigbee.ZigBeeNodeStatus;
+import com.zsmartsystems.zigbee.app.discovery.ZigBeeDiscoveryRequestQueue.ResponseHandler;
 import com.zsmartsystems.zigbee.zdo.ZdoStatus;
 import com.zsmartsystems.zigbee.zdo.command.DeviceAnnounce;
 import com.zsmartsystems.zigbee.zdo.command.IeeeAddressRequest;
@@ -56,11 +56,21 @@ public class ZigBeeNetworkDiscoverer implements ZigBeeCommandListener, ZigBeeAnn
      */
     private final int DEFAULT_REQUERY_TIME = 3600000;
 
+    /**
+     * The number of times each discovery request is retried before the discovery of the node fails
+     */
+    private static final int REQUEST_RETRIES = 2;
+
     /**
      * The ZigBee network manager.
      */
     private ZigBeeNetworkManager networkManager;
 
+    /**
+     * The {@link ZigBeeDiscoveryRequestQueue} used to send the discovery requests
+     */
+    private final ZigBeeDiscoveryRequestQueue requestQueue;
+
     /**
      * The minimum time before performing a requery
      */
@@ -82,8 +92,18 @@ public class ZigBeeNetworkDiscoverer implements ZigBeeCommandListener, ZigBeeAnn
      * @param networkManager the {@link ZigBeeNetworkManager}
      */
     protected ZigBeeNetworkDiscoverer(final ZigBeeNetworkManager networkManager) {
-        this.networkManager = networkManager;
+        this(networkManager, new ZigBeeDiscoveryRequestQueue(networkManager));
+    }
 
+    /**
+     * Discovers ZigBee network state, sending requests through a shared {@link ZigBeeDiscoveryRequestQueue}.
+     *
+     * @param networkManager the {@link ZigBeeNetworkManager}
+     * @param requestQueue the {@link ZigBeeDiscoveryRequestQueue} used to send the discovery requests
+     */
+    ZigBeeNetworkDiscoverer(final ZigBeeNetworkManager networkManager, final ZigBeeDiscoveryRequestQueue requestQueue) {
+        this.networkManager = networkManager;
+        this.requestQueue = requestQueue;
     }
 
     /**
@@ -187,55 +207,46 @@ public class ZigBeeNetworkDiscoverer implements ZigBeeCommandListener, ZigBeeAnn
             return;
         }
 
-        networkManager.executeTask(new Runnable() {
+        logger.debug("NWK Discovery starting node rediscovery {}", String.format("%04X", networkAddress));
+        logger.debug("NWK Discovery: Rediscovery of {} using unicast", String.format("%04X", networkAddress));
+        IeeeAddressRequest request = new IeeeAddressRequest(networkAddress, 0, 0);
+        request.setDestinationAddress(new ZigBeeEndpointAddress(networkAddress));
+        requestQueue.sendRequest(request, new ResponseHandler() {
             @Override
-            public void run() {
-                logger.debug("NWK Discovery starting node rediscovery {}", String.format("%04X", networkAddress));
-
-                try {
-                    if (Thread.currentThread().isInterrupted()) {
-                        return;
-                    }
-
-                    IeeeAddressResponse ieeeAddressResponse = null;
-                    logger.debug("NWK Discovery: Rediscovery of {} using unicast",
-                            String.format("%04X", networkAddress));
-                    IeeeAddressRequest request = new IeeeAddressRequest(networkAddress, 0, 0);
-                    request.setDestinationAddress(new ZigBeeEndpointAddress(networkAddress));
-                    CommandResult response = networkManager.sendTransaction(request, request).get();
-                    ieeeAddressResponse = response.getResponse();
-
-                    if (ieeeAddressResponse == null) {
-                        logger.debug("NWK Discovery: Rediscovery of {} using broadcast",
-                                String.format("%04X", networkAddress));
-                        request = new IeeeAddressRequest(networkAddress, 0, 0);
-                        request.setDestinationAddress(
-                                new ZigBeeEndpointAddress(ZigBeeBroadcastDestination.BROADCAST_RX_ON.getKey()));
-                        response = networkManager.sendTransaction(request, request).get();
-                        ieeeAddressResponse = response.getResponse();
-                    }
+            public void responseReceived(CommandResult response) {
+                if (response.getResponse() != null) {
+                    rediscoverNodeComplete(networkAddress, response);
+                    return;
+                }
 
-                    logger.debug("{}: NWK Discovery IeeeAddressRequest returned from {}", ieeeAddressResponse,
-                            String.format("%04X", networkAddress));
-                    if (ieeeAddressResponse != null && ieeeAddressResponse.getStatus() == ZdoStatus.SUCCESS) {
-                        addNode(ieeeAddressResponse.getIeeeAddrRemoteDev(),
-                                ieeeAddressResponse.getNwkAddrRemoteDev());
-                        startNodeDiscovery(ieeeAddressResponse.getNwkAddrRemoteDev());
-                        return;
+                logger.debug("NWK Discovery: Rediscovery of {} using broadcast", String.format("%04X", networkAddress));
+                IeeeAddressRequest request = new IeeeAddressRequest(networkAddress, 0, 0);
+                request.setDestinationAddress(
+                        new ZigBeeEndpointAddress(ZigBeeBroadcastDestination.BROADCAST_RX_ON.getKey()));
+                requestQueue.sendRequest(request, REQUEST_RETRIES, new ResponseHandler() {
+                    @Override
+                    public void responseReceived(CommandResult response) {
+                        rediscoverNodeComplete(networkAddress, response);
                     }
-
-                    // We failed with the request
-                    logger.debug("NWK Discovery node rediscovery for {} request failed.",
-                            String.format("%04X", networkAddress));
-                } catch (InterruptedException | ExecutionException e) {
-                    logger.debug("NWK Discovery interrupted in checkIeeeAddressResponse");
-                }
-                logger.debug("NWK Discovery for {} finishing node rediscovery",
-                        String.format("%04X", networkAddress));
+                });
             }
         });
     }
 
+    private void rediscoverNodeComplete(final int networkAddress, final CommandResult response) {
+        final IeeeAddressResponse ieeeAddressResponse = response.getResponse();
+        logger.debug("{}: NWK Discovery IeeeAddressRequest returned from {}", ieeeAddressResponse,
+                String.format("%04X", networkAddress));
+        if (ieeeAddressResponse != null && ieeeAddressResponse.getStatus() == ZdoStatus.SUCCESS) {
+            addNode(ieeeAddressResponse.getIeeeAddrRemoteDev(), ieeeAddressResponse.getNwkAddrRemoteDev());
+            startNodeDiscovery(ieeeAddressResponse.getNwkAddrRemoteDev());
+            return;
+        }
+
+        // We failed with the request
+        logger.debug("NWK Discovery node rediscovery for {} request failed.", String.format("%04X", networkAddress));
+    }
+
     /**
      * Starts a discovery on a node. This will send a {@link NetworkAddressRequest} as a broadcast and will receive
      * the response to trigger a full discovery.
@@ -249,57 +260,56 @@ public class ZigBeeNetworkDiscoverer implements ZigBeeCommandListener, ZigBeeAnn
             return;
         }
 
-        networkManager.executeTask(new Runnable() {
-            @Override
-            public void run() {
-                logger.debug("{}: NWK Discovery starting node rediscovery", ieeeAddress);
-                try {
-                    if (Thread.currentThread().isInterrupted()) {
-                        return;
-                    }
-
-                    NetworkAddressResponse nwkAddressResponse = null;
-                    ZigBeeNode node = networkManager.getNode(ieeeAddress);
-                    if (node != null) {
-                        logger.debug("{}: NWK Discovery: Rediscovery using unicast to {}", ieeeAddress,
-                                String.format("%04X", node.getNetworkAddress()));
-                        NetworkAddressRequest request = new NetworkAddressRequest(ieeeAddress, 0, 0);
-                        request.setDestinationAddress(new ZigBeeEndpointAddress(node.getNetworkAddress()));
-                        CommandResult response = networkManager.sendTransaction(request, request).get();
-                        nwkAddressResponse = response.getResponse();
-                    }
-
-                    if (nwkAddressResponse == null) {
-                        logger.debug("{}: NWK Discovery: Rediscovery using broadcast", ieeeAddress);
-                        NetworkAddressRequest request = new NetworkAddressRequest(ieeeAddress, 0, 0);
-                        request.setDestinationAddress(
-                                new ZigBeeEndpointAddress(ZigBeeBroadcastDestination.BROADCAST_RX_ON.getKey()));
-                        CommandResult response = networkManager.sendTransaction(request, request).get();
-                        nwkAddressResponse = response.getResponse();
-                    }
-
-                    logger.debug("{}: NWK Discovery NetworkAddressRequest returned from {}", ieeeAddress,
-                            nwkAddressResponse);
-                    if (nwkAddressResponse != null && nwkAddressResponse.getStatus() == ZdoStatus.SUCCESS) {
-                        logger.debug("{}: NWK Discovery: Rediscovery found network address to {}", ieeeAddress,
-                                String.format("%04X", nwkAddressResponse.getNwkAddrRemoteDev()));
-                        addNode(nwkAddressResponse.getIeeeAddrRemoteDev(),
-                                nwkAddressResponse.getNwkAddrRemoteDev());
-                        startNodeDiscovery(nwkAddressResponse.getNwkAddrRemoteDev());
-                        return;
-                    }
+        logger.debug("{}: NWK Discovery starting node rediscovery", ieeeAddress);
+        ZigBeeNode node = networkManager.getNode(ieeeAddress);
+        if (node == null) {
+            rediscoverNodeByBroadcast(ieeeAddress);
+            return;
+        }
 
-                    // We failed with the request
-                    logger.debug("{}: NWK Discovery node rediscovery request failed.",
-                            ieeeAddress);
-                } catch (InterruptedException | ExecutionException e) {
-                    logger.debug("NWK Discovery interrupt in rediscoverNode");
+        logger.debug("{}: NWK Discovery: Rediscovery using unicast to {}", ieeeAddress,
+                String.format("%04X", node.getNetworkAddress()));
+        NetworkAddressRequest request = new NetworkAddressRequest(ieeeAddress, 0, 0);
+        request.setDestinationAddress(new ZigBeeEndpointAddress(node.getNetworkAddress()));
+        requestQueue.sendRequest(request, new ResponseHandler() {
+            @Override
+            public void responseReceived(CommandResult response) {
+                if (response.getResponse() != null) {
+                    rediscoverNodeComplete(ieeeAddress, response);
+                } else {
+                    rediscoverNodeByBroadcast(ieeeAddress);
                 }
-                logger.debug("{}: NWK Discovery finishing node rediscovery", ieeeAddress);
             }
         });
     }
 
+    private void rediscoverNodeByBroadcast(final IeeeAddress ieeeAddress) {
+        logger.debug("{}: NWK Discovery: Rediscovery using broadcast", ieeeAddress);
+        NetworkAddressRequest request = new NetworkAddressRequest(ieeeAddress, 0, 0);
+        request.setDestinationAddress(new ZigBeeEndpointAddress(ZigBeeBroadcastDestination.BROADCAST_RX_ON.getKey()));
+        requestQueue.sendRequest(request, REQUEST_RETRIES, new ResponseHandler() {
+            @Override
+            public void responseReceived(CommandResult response) {
+                rediscoverNodeComplete(ieeeAddress, response);
+            }
+        });
+    }
+
+    private void rediscoverNodeComplete(final IeeeAddress ieeeAddress, final CommandResult response) {
+        final NetworkAddressResponse nwkAddressResponse = response.getResponse();
+        logger.debug("{}: NWK Discovery NetworkAddressRequest returned from {}", ieeeAddress, nwkAddressResponse);
+        if (nwkAddressResponse != null && nwkAddressResponse.getStatus() == ZdoStatus.SUCCESS) {
+            logger.debug("{}: NWK Discovery: Rediscovery found network address to {}", ieeeAddress,
+                    String.format("%04X", nwkAddressResponse.getNwkAddrRemoteDev()));
+            addNode(nwkAddressResponse.getIeeeAddrRemoteDev(), nwkAddressResponse.getNwkAddrRemoteDev());
+            startNodeDiscovery(nwkAddressResponse.getNwkAddrRemoteDev());
+            return;
+        }
+
+        // We failed with the request
+        logger.debug("{}: NWK Discovery node rediscovery request failed.", ieeeAddress);
+    }
+
     /**
      * Performs the top level node discovery. This discovers the node IEEE address, and all associated nodes in the
      * network. Once a node is discovered, it is added to the {@link ZigBeeNetworkManager} and the node service
@@ -319,117 +329,88 @@ public class ZigBeeNetworkDiscoverer implements ZigBeeCommandListener, ZigBeeAnn
             discoveryStartTime.put(nodeNetworkAddress, System.currentTimeMillis());
         }
 
-        logger.debug("NWK Discovery for {} scheduling node discovery", String.format("%04X", nodeNetworkAddress));
-        networkManager.executeTask(new Runnable() {
-            @Override
-            public void run() {
-                try {
-                    logger.debug("NWK Discovery for {} starting node discovery",
-                            String.format("%04X", nodeNetworkAddress));
-                    boolean success = true;
-                    if (Thread.currentThread().isInterrupted()) {
-                        return;
-                    }
+        logger.debug("NWK Discovery for {} starting node discovery", String.format("%04X", nodeNetworkAddress));
 
-                    if (!success) {
-                        // We failed with the request.
-                        return;
-                    }
-
-                    // If we don't know the node yet, then try to find the IEEE address
-                    // before requesting the associated nodes.
-                    if (networkManager.getNode(nodeNetworkAddress) == null) {
-                        success = getIeeeAddress(nodeNetworkAddress);
-                        return;
-                    }
-
-                    success = getAssociatedNodes(nodeNetworkAddress);
-                    if (success) {
-                        return;
-                    }
-
-                    logger.debug("NWK Discovery for {} ending node discovery. Success={}.",
-                            String.format("%04X", nodeNetworkAddress), success);
-                } catch (InterruptedException | ExecutionException e) {
-                    logger.debug("NWK Discovery interrupted");
-                } catch (Exception e) {
-                    logger.error("NWK Discovery for {} error during node discovery: ",
-                            String.format("%04X", nodeNetworkAddress), e);
-                }
-            }
-        });
+        // If we don't know the node yet, then try to find the IEEE address
+        // before requesting the associated nodes.
+        if (networkManager.getNode(nodeNetworkAddress) == null) {
+            getIeeeAddress(nodeNetworkAddress);
+        } else {
+            getAssociatedNodes(nodeNetworkAddress, 0, new HashSet<Integer>());
+        }
     }
 
     /**
      * Discovers the {@link IeeeAddress} of a remote device. This uses a unicast request as we assume address discovery
-     * was already completed.
+     * was already completed. If the node {@link IeeeAddress} is found, the node is added and its discovery is started.
      *
      * @param networkAddress the network address of the device
-     * @return true if the node {@link IeeeAddress} was found
-     * @throws InterruptedException
-     * @throws ExecutionException
      */
-    private boolean getIeeeAddress(final int networkAddress) throws InterruptedException, ExecutionException {
+    private void getIeeeAddress(final int networkAddress) {
         // Request basic response, start index for associated list is 0
         final IeeeAddressRequest request = new IeeeAddressRequest(networkAddress, 0, 0);
         request.setDestinationAddress(new ZigBeeEndpointAddress(networkAddress));
-        CommandResult response = networkManager.sendTransaction(request, request).get();
-        if (response.isError()) {
-            return false;
-        }
-
-        final IeeeAddressResponse ieeeAddressResponse = response.getResponse();
-        logger.debug("NWK Discovery for {} IeeeAddressRequest returned {}", String.format("%04X", networkAddress),
-                ieeeAddressResponse);
-        if (ieeeAddressResponse != null && ieeeAddressResponse.getStatus() == ZdoStatus.SUCCESS) {
-            addNode(ieeeAddressResponse.getIeeeAddrRemoteDev(), ieeeAddressResponse.getNwkAddrRemoteDev());
-            startNodeDiscovery(ieeeAddressResponse.getNwkAddrRemoteDev());
-            return true;
-        }
+        requestQueue.sendRequest(request, REQUEST_RETRIES, new ResponseHandler() {
+            @Override
+            public void responseReceived(CommandResult response) {
+                final IeeeAddressResponse ieeeAddressResponse = response.getResponse();
+                logger.debug("NWK Discovery for {} IeeeAddressRequest returned {}",
+                        String.format("%04X", networkAddress), ieeeAddressResponse);
+                if (!response.isError() && ieeeAddressResponse != null
+                        && ieeeAddressResponse.getStatus() == ZdoStatus.SUCCESS) {
+                    addNode(ieeeAddressResponse.getIeeeAddrRemoteDev(), ieeeAddressResponse.getNwkAddrRemoteDev());
+                    startNodeDiscovery(ieeeAddressResponse.getNwkAddrRemoteDev());
+                    return;
+                }
 
-        return false;
+                logger.debug("NWK Discovery for {} ending node discovery. Success=false.",
+                        String.format("%04X", networkAddress));
+            }
+        });
     }
 
     /**
-     * Get the associated nodes for this address, and start a discovery of the associated nodes.
+     * Get the associated nodes for this address, and start a discovery of the associated nodes. Each page of the
+     * associated device list is requested once the previous page is received.
      *
      * @param networkAddress the network address of the node
-     * @return true if the message was processed ok
-     * @throws ExecutionException
-     * @throws InterruptedException
+     * @param startIndex the index of the first associated device to request
+     * @param associatedDevices the associated devices already received
      */
-    private boolean getAssociatedNodes(final int networkAddress) throws InterruptedException, ExecutionException {
-        Integer startIndex = 0;
-        int totalAssociatedDevices = 0;
-        Set<Integer> associatedDevices = new HashSet<Integer>();
-
-        do {
-            // Request extended response, start index for associated list is 0
-            final IeeeAddressRequest ieeeAddressRequest = new IeeeAddressRequest(networkAddress, 1, startIndex);
-            ieeeAddressRequest.setDestinationAddress(new ZigBeeEndpointAddress(networkAddress));
-            CommandResult response = networkManager.sendTransaction(ieeeAddressRequest, ieeeAddressRequest).get();
-            if (response.isError()) {
-                return false;
-            }
-
-            final IeeeAddressResponse ieeeAddressResponse = response.getResponse();
-            logger.debug("NWK Discovery for {} IeeeAddressRequest returned {}", String.format("%04X", networkAddress),
-                    ieeeAddressResponse);
-            if (ieeeAddressResponse != null && ieeeAddressResponse.getStatus() == ZdoStatus.SUCCESS
-                    && startIndex.equals(ieeeAddressResponse.getStartIndex())) {
-                associatedDevices.addAll(ieeeAddressResponse.getNwkAddrAssocDevList());
+    private void getAssociatedNodes(final int networkAddress, final int startIndex,
+            final Set<Integer> associatedDevices) {
+        // Request extended response, start index for associated list is 0
+        final IeeeAddressRequest ieeeAddressRequest = new IeeeAddressRequest(networkAddress, 1, startIndex);
+        ieeeAddressRequest.setDestinationAddress(new ZigBeeEndpointAddress(networkAddress));
+        requestQueue.sendRequest(ieeeAddressRequest, REQUEST_RETRIES, new ResponseHandler() {
+            @Override
+            public void responseReceived(CommandResult response) {
+                if (response.isError()) {
+                    logger.debug("NWK Discovery for {} ending node discovery. Success=false.",
+                            String.format("%04X", networkAddress));
+                    return;
+                }
 
-                startIndex += ieeeAddressResponse.getNwkAddrAssocDevList().size();
-                totalAssociatedDevices = ieeeAddressResponse.getNwkAddrAssocDevList().size();
-            }
-        } while (startIndex < totalAssociatedDevices);
+                final IeeeAddressResponse ieeeAddressResponse = response.getResponse();
+                logger.debug("NWK Discovery for {} IeeeAddressRequest returned {}",
+                        String.format("%04X", networkAddress), ieeeAddressResponse);
+                if (ieeeAddressResponse != null && ieeeAddressResponse.getStatus() == ZdoStatus.SUCCESS
+                        && Integer.valueOf(startIndex).equals(ieeeAddressResponse.getStartIndex())) {
+                    associatedDevices.addAll(ieeeAddressResponse.getNwkAddrAssocDevList());
 
-        // Start discovery for any associated nodes
-        for (final int deviceNetworkAddress : associatedDevices) {
-            startNodeDiscovery(deviceNetworkAddress);
-        }
+                    int nextIndex = startIndex + ieeeAddressResponse.getNwkAddrAssocDevList().size();
+                    if (nextIndex < ieeeAddressResponse.getNwkAddrAssocDevList().size()) {
+                        getAssociatedNodes(networkAddress, nextIndex, associatedDevices);
+                        return;
+                    }
+                }
 
-        return true;
+                // Start discovery for any associated nodes
+                for (final int deviceNetworkAddress : associatedDevices) {
+                    startNodeDiscovery(deviceNetworkAddress);
+                }
+            }
+        });
     }
 
     /**
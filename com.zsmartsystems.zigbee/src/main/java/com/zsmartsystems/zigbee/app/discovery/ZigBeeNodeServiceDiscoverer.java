@@ -17,7 +17,6 @@ import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Random;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledFuture;
 
 import org.slf4j.Logger;
@@ -29,6 +28,8 @@ import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.ZigBeeEndpointAddress;
 import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
 import com.zsmartsystems.zigbee.ZigBeeNode;
+import com.zsmartsystems.zigbee.app.discovery.ZigBeeDiscoveryRequestQueue.ResponseHandler;
+import com.zsmartsystems.zigbee.zdo.ZdoRequest;
 import com.zsmartsystems.zigbee.zdo.ZdoStatus;
 import com.zsmartsystems.zigbee.zdo.command.ActiveEndpointsRequest;
 import com.zsmartsystems.zigbee.zdo.command.ActiveEndpointsResponse;
@@ -57,10 +58,14 @@ import com.zsmartsystems.zigbee.zdo.field.SimpleDescriptor;
  * are private and the class is utilised by calling {@link #startDiscovery(Set)} with a set of
  * {@link #NodeDiscoveryState} for the stages wishing to be discovered or updated.
  * <p>
- * A single worker thread is ensured - if the thread is already active when {@link #startDiscovery(Set)} is called, the
- * new tasks will be added to the existing task queue if they are not already in the queue. If the worker thread is not
+ * A single worker task is ensured - if the task is already active when {@link #startDiscovery(Set)} is called, the
+ * new tasks will be added to the existing task queue if they are not already in the queue. If the worker task is not
  * running, it will be started.
  * <p>
+ * Each discovery task is run as an asynchronous stage - requests are sent through the
+ * {@link ZigBeeDiscoveryRequestQueue} and the next request is sent when the response is received, so no thread is
+ * blocked waiting for the node to respond.
+ * <p>
  * This class provides a centralised helper, used for discovering and updating information about the {@link ZigBeeNode}
  * <p>
  * A random exponential backoff is used for retries to reduce congestion. If the device replies that a command is not
@@ -131,11 +136,27 @@ public class ZigBeeNodeServiceDiscoverer {
      */
     private boolean supportsManagementRouting = true;
 
+    /**
+     * The {@link ZigBeeDiscoveryRequestQueue} used to send the discovery requests
+     */
+    private final ZigBeeDiscoveryRequestQueue requestQueue;
+
+    /**
+     * True if the {@link #requestQueue} was created for this discoverer, and is shut down when discovery is stopped
+     */
+    private final boolean ownsRequestQueue;
+
     /**
      * The task being run
      */
     private ScheduledFuture<?> futureTask;
 
+    /**
+     * The {@link NodeServiceDiscoveryTask} that is currently running. When the tasks are restarted, any stage still
+     * waiting for a response from the previous task is ignored when it completes.
+     */
+    private volatile NodeServiceDiscoveryTask activeTask;
+
     /**
      * Record of the last time we started a service discovery or update
      */
@@ -182,14 +203,37 @@ public class ZigBeeNodeServiceDiscoverer {
     private boolean closed = false;
 
     /**
-     * Creates the discoverer
+     * Creates the discoverer with its own {@link ZigBeeDiscoveryRequestQueue}. The limit on outstanding discovery
+     * requests therefore only applies to this discoverer, and not to discovery of other nodes. The queue is shut down
+     * when {@link #stopDiscovery()} is called.
+     * <p>
+     * Discoverers created by the {@link ZigBeeDiscoveryExtension} share the queue of the extension.
      *
      * @param networkManager the {@link ZigBeeNetworkManager} for the network
      * @param node the {@link ZigBeeNode} whose services we want to discover
      */
     public ZigBeeNodeServiceDiscoverer(ZigBeeNetworkManager networkManager, ZigBeeNode node) {
+        this(networkManager, node, new ZigBeeDiscoveryRequestQueue(networkManager), true);
+    }
+
+    /**
+     * Creates the discoverer, sending requests through a shared {@link ZigBeeDiscoveryRequestQueue}
+     *
+     * @param networkManager the {@link ZigBeeNetworkManager} for the network
+     * @param node the {@link ZigBeeNode} whose services we want to discover
+     * @param requestQueue the {@link ZigBeeDiscoveryRequestQueue} used to send the discovery requests
+     */
+    ZigBeeNodeServiceDiscoverer(ZigBeeNetworkManager networkManager, ZigBeeNode node,
+            ZigBeeDiscoveryRequestQueue requestQueue) {
+        this(networkManager, node, requestQueue, false);
+    }
+
+    private ZigBeeNodeServiceDiscoverer(ZigBeeNetworkManager networkManager, ZigBeeNode node,
+            ZigBeeDiscoveryRequestQueue requestQueue, boolean ownsRequestQueue) {
         this.networkManager = networkManager;
         this.node = node;
+        this.requestQueue = requestQueue;
+        this.ownsRequestQueue = ownsRequestQueue;
 
         retryPeriod = DEFAULT_RETRY_PERIOD + new Random().nextInt(RETRY_RANDOM_TIME);
 
@@ -254,7 +298,8 @@ public class ZigBeeNodeServiceDiscoverer {
             }
 
             logger.debug("{}: Node SVC Discovery: scheduled {}", node.getIeeeAddress(), discoveryTasks);
-            final Runnable runnable = new NodeServiceDiscoveryTask();
+            final NodeServiceDiscoveryTask runnable = new NodeServiceDiscoveryTask();
+            activeTask = runnable;
 
             if (futureTask != null) {
                 futureTask.cancel(true);
@@ -268,12 +313,16 @@ public class ZigBeeNodeServiceDiscoverer {
      */
     public void stopDiscovery() {
         closed = true;
+        activeTask = null;
         synchronized (discoveryTasks) {
             discoveryTasks.clear();
         }
         if (futureTask != null) {
             futureTask.cancel(true);
         }
+        if (ownsRequestQueue) {
+            requestQueue.shutdown();
+        }
         logger.debug("{}: Node SVC Discovery: stopped", node.getIeeeAddress());
     }
 
@@ -301,301 +350,366 @@ public class ZigBeeNodeServiceDiscoverer {
      * To reduce the number of broadcasts made, we assume initially that all devices have the same address as previous
      * and send this via unicast. If that fails, then we attempt to rediscover the address using a broadcast.
      *
-     * @return true if the message was processed ok
-     * @throws ExecutionException
-     * @throws InterruptedException
-     */
-    private boolean requestNetworkAddress() throws InterruptedException, ExecutionException {
-        if (requestNetworkAddress(new ZigBeeEndpointAddress(node.getNetworkAddress()))) {
-            logger.debug("{}: Node SVC Discovery: NetworkAddressRequest confirmed by unicast", node.getIeeeAddress());
-            return true;
-        }
-
-        if (requestNetworkAddress(
-                new ZigBeeEndpointAddress(ZigBeeBroadcastDestination.BROADCAST_ALL_DEVICES.getKey()))) {
-            logger.debug("{}: Node SVC Discovery: NetworkAddressRequest confirmed by broadcast", node.getIeeeAddress());
-            return true;
-        }
+     * @param callback the {@link DiscoveryStageCallback} to call when the stage completes
+     */
+    private void requestNetworkAddress(final DiscoveryStageCallback callback) {
+        requestNetworkAddress(new ZigBeeEndpointAddress(node.getNetworkAddress()), new DiscoveryStageCallback() {
+            @Override
+            public void stageComplete(boolean success) {
+                if (success) {
+                    logger.debug("{}: Node SVC Discovery: NetworkAddressRequest confirmed by unicast",
+                            node.getIeeeAddress());
+                    callback.stageComplete(true);
+                    return;
+                }
 
-        logger.debug("{}: Node SVC Discovery: NetworkAddressRequest failed after unicast and broadcast",
-                node.getIeeeAddress());
-        return false;
+                requestNetworkAddress(
+                        new ZigBeeEndpointAddress(ZigBeeBroadcastDestination.BROADCAST_ALL_DEVICES.getKey()),
+                        new DiscoveryStageCallback() {
+                            @Override
+                            public void stageComplete(boolean success) {
+                                if (success) {
+                                    logger.debug(
+                                            "{}: Node SVC Discovery: NetworkAddressRequest confirmed by broadcast",
+                                            node.getIeeeAddress());
+                                } else {
+                                    logger.debug("{}: Node SVC Discovery: NetworkAddressRequest failed after "
+                                            + "unicast and broadcast", node.getIeeeAddress());
+                                }
+                                callback.stageComplete(success);
+                            }
+                        });
+            }
+        });
     }
 
-    private boolean requestNetworkAddress(ZigBeeEndpointAddress address)
-            throws InterruptedException, ExecutionException {
+    private void requestNetworkAddress(ZigBeeEndpointAddress address, final DiscoveryStageCallback callback) {
         NetworkAddressRequest networkAddressRequest = new NetworkAddressRequest(node.getIeeeAddress(), 0, 0);
         networkAddressRequest.setDestinationAddress(address);
 
-        CommandResult response = networkManager.sendTransaction(networkAddressRequest, networkAddressRequest).get();
-        final NetworkAddressResponse networkAddressResponse = (NetworkAddressResponse) response.getResponse();
-        logger.debug("{}: Node SVC Discovery: NetworkAddressRequest returned {}", node.getIeeeAddress(),
-                networkAddressResponse);
-        if (networkAddressResponse == null) {
-            return false;
-        }
+        sendRequest(networkAddressRequest, new ResponseHandler() {
+            @Override
+            public void responseReceived(CommandResult response) {
+                final NetworkAddressResponse networkAddressResponse = (NetworkAddressResponse) response.getResponse();
+                logger.debug("{}: Node SVC Discovery: NetworkAddressRequest returned {}", node.getIeeeAddress(),
+                        networkAddressResponse);
+                if (networkAddressResponse == null) {
+                    callback.stageComplete(false);
+                    return;
+                }
 
-        if (networkAddressResponse.getStatus() == ZdoStatus.SUCCESS) {
-            if (updatedNode.setNetworkAddress(networkAddressResponse.getNwkAddrRemoteDev())) {
-                networkManager.updateNode(updatedNode);
-            }
+                if (networkAddressResponse.getStatus() == ZdoStatus.SUCCESS) {
+                    if (updatedNode.setNetworkAddress(networkAddressResponse.getNwkAddrRemoteDev())) {
+                        networkManager.updateNode(updatedNode);
+                    }
 
-            return true;
-        }
+                    callback.stageComplete(true);
+                    return;
+                }
 
-        return false;
+                callback.stageComplete(false);
+            }
+        });
     }
 
     /**
-     * Get Node IEEE address and the list of associated devices
+     * Get Node IEEE address and the list of associated devices. Each page of the associated device list is requested
+     * once the previous page is received.
      *
-     * @return true if the message was processed ok
-     * @throws ExecutionException
-     * @throws InterruptedException
-     */
-    private boolean requestAssociatedNodes() throws InterruptedException, ExecutionException {
-        int startIndex = 0;
-        int totalAssociatedDevices = 0;
-        Set<Integer> associatedDevices = new HashSet<Integer>();
-
-        do {
-            // Request extended response, to get associated list
-            final IeeeAddressRequest ieeeAddressRequest = new IeeeAddressRequest(
-                    node.getNetworkAddress(),
-                    1,
-                    startIndex);
-            ieeeAddressRequest.setDestinationAddress(new ZigBeeEndpointAddress(node.getNetworkAddress()));
-            CommandResult response = networkManager.sendTransaction(ieeeAddressRequest, ieeeAddressRequest).get();
-
-            final IeeeAddressResponse ieeeAddressResponse = response.getResponse();
-            logger.debug("{}: Node SVC Discovery: IeeeAddressResponse returned {}", node.getIeeeAddress(),
-                    ieeeAddressResponse);
-            if (ieeeAddressResponse != null && ieeeAddressResponse.getStatus() == ZdoStatus.SUCCESS) {
-                associatedDevices.addAll(ieeeAddressResponse.getNwkAddrAssocDevList());
-
-                startIndex += ieeeAddressResponse.getNwkAddrAssocDevList().size();
-                totalAssociatedDevices = ieeeAddressResponse.getNwkAddrAssocDevList().size();
-            }
-        } while (startIndex < totalAssociatedDevices);
-
-        updatedNode.setAssociatedDevices(associatedDevices);
+     * @param startIndex the index of the first associated device to request
+     * @param associatedDevices the associated devices already received
+     * @param callback the {@link DiscoveryStageCallback} to call when the stage completes
+     */
+    private void requestAssociatedNodes(final int startIndex, final Set<Integer> associatedDevices,
+            final DiscoveryStageCallback callback) {
+        // Request extended response, to get associated list
+        final IeeeAddressRequest ieeeAddressRequest = new IeeeAddressRequest(node.getNetworkAddress(), 1, startIndex);
+        ieeeAddressRequest.setDestinationAddress(new ZigBeeEndpointAddress(node.getNetworkAddress()));
+
+        sendRequest(ieeeAddressRequest, new ResponseHandler() {
+            @Override
+            public void responseReceived(CommandResult response) {
+                final IeeeAddressResponse ieeeAddressResponse = response.getResponse();
+                logger.debug("{}: Node SVC Discovery: IeeeAddressResponse returned {}", node.getIeeeAddress(),
+                        ieeeAddressResponse);
+                if (ieeeAddressResponse != null && ieeeAddressResponse.getStatus() == ZdoStatus.SUCCESS) {
+                    associatedDevices.addAll(ieeeAddressResponse.getNwkAddrAssocDevList());
+
+                    int nextIndex = startIndex + ieeeAddressResponse.getNwkAddrAssocDevList().size();
+                    if (nextIndex < ieeeAddressResponse.getNwkAddrAssocDevList().size()) {
+                        requestAssociatedNodes(nextIndex, associatedDevices, callback);
+                        return;
+                    }
+                }
 
-        return true;
+                updatedNode.setAssociatedDevices(associatedDevices);
+                callback.stageComplete(true);
+            }
+        });
     }
 
     /**
      * Get node descriptor
      *
-     * @return true if the message was processed ok
-     * @throws ExecutionException
-     * @throws InterruptedException
+     * @param callback the {@link DiscoveryStageCallback} to call when the stage completes
      */
-    private boolean requestNodeDescriptor() throws InterruptedException, ExecutionException {
+    private void requestNodeDescriptor(final DiscoveryStageCallback callback) {
         final NodeDescriptorRequest nodeDescriptorRequest = new NodeDescriptorRequest(node.getNetworkAddress());
         nodeDescriptorRequest.setDestinationAddress(new ZigBeeEndpointAddress(node.getNetworkAddress()));
 
-        CommandResult response = networkManager.sendTransaction(nodeDescriptorRequest, nodeDescriptorRequest).get();
-        final NodeDescriptorResponse nodeDescriptorResponse = (NodeDescriptorResponse) response.getResponse();
-        logger.debug("{}: Node SVC Discovery: NodeDescriptorResponse returned {}", node.getIeeeAddress(),
-                nodeDescriptorResponse);
-        if (nodeDescriptorResponse == null) {
-            return false;
-        }
+        sendRequest(nodeDescriptorRequest, new ResponseHandler() {
+            @Override
+            public void responseReceived(CommandResult response) {
+                final NodeDescriptorResponse nodeDescriptorResponse = (NodeDescriptorResponse) response.getResponse();
+                logger.debug("{}: Node SVC Discovery: NodeDescriptorResponse returned {}", node.getIeeeAddress(),
+                        nodeDescriptorResponse);
+                if (nodeDescriptorResponse == null) {
+                    callback.stageComplete(false);
+                    return;
+                }
 
-        if (nodeDescriptorResponse.getStatus() == ZdoStatus.SUCCESS) {
-            updatedNode.setNodeDescriptor(nodeDescriptorResponse.getNodeDescriptor());
+                if (nodeDescriptorResponse.getStatus() == ZdoStatus.SUCCESS) {
+                    updatedNode.setNodeDescriptor(nodeDescriptorResponse.getNodeDescriptor());
 
-            return true;
-        }
+                    callback.stageComplete(true);
+                    return;
+                }
 
-        return false;
+                callback.stageComplete(false);
+            }
+        });
     }
 
     /**
-     * Get node power descriptor
+     * Get node power descriptor. The stage is successful if the message was processed ok, or if the end device does
+     * not support the power descriptor.
      *
-     * @return true if the message was processed ok, or if the end device does not support the power descriptor
-     * @throws ExecutionException
-     * @throws InterruptedException
+     * @param callback the {@link DiscoveryStageCallback} to call when the stage completes
      */
-    private boolean requestPowerDescriptor() throws InterruptedException, ExecutionException {
+    private void requestPowerDescriptor(final DiscoveryStageCallback callback) {
         final PowerDescriptorRequest powerDescriptorRequest = new PowerDescriptorRequest(node.getNetworkAddress());
         powerDescriptorRequest.setDestinationAddress(new ZigBeeEndpointAddress(node.getNetworkAddress()));
 
-        CommandResult response = networkManager.sendTransaction(powerDescriptorRequest, powerDescriptorRequest).get();
-        final PowerDescriptorResponse powerDescriptorResponse = (PowerDescriptorResponse) response.getResponse();
-        logger.debug("{}: Node SVC Discovery: PowerDescriptorResponse returned {}", node.getIeeeAddress(),
-                powerDescriptorResponse);
-        if (powerDescriptorResponse == null) {
-            return false;
-        }
-
-        if (powerDescriptorResponse.getStatus() == ZdoStatus.SUCCESS) {
-            updatedNode.setPowerDescriptor(powerDescriptorResponse.getPowerDescriptor());
+        sendRequest(powerDescriptorRequest, new ResponseHandler() {
+            @Override
+            public void responseReceived(CommandResult response) {
+                final PowerDescriptorResponse powerDescriptorResponse = (PowerDescriptorResponse) response
+                        .getResponse();
+                logger.debug("{}: Node SVC Discovery: PowerDescriptorResponse returned {}", node.getIeeeAddress(),
+                        powerDescriptorResponse);
+                if (powerDescriptorResponse == null) {
+                    callback.stageComplete(false);
+                    return;
+                }
 
-            return true;
-        } else if (powerDescriptorResponse.getStatus() == ZdoStatus.NOT_SUPPORTED) {
-            return true;
-        }
+                if (powerDescriptorResponse.getStatus() == ZdoStatus.SUCCESS) {
+                    updatedNode.setPowerDescriptor(powerDescriptorResponse.getPowerDescriptor());
 
-        return false;
+                    callback.stageComplete(true);
+                } else {
+                    callback.stageComplete(powerDescriptorResponse.getStatus() == ZdoStatus.NOT_SUPPORTED);
+                }
+            }
+        });
     }
 
     /**
-     * Get the active endpoints for a node
+     * Get the active endpoints for a node, and then the simple descriptor for each endpoint
      *
-     * @return true if the message was processed ok
-     * @throws ExecutionException
-     * @throws InterruptedException
+     * @param callback the {@link DiscoveryStageCallback} to call when the stage completes
      */
-    private boolean requestActiveEndpoints() throws InterruptedException, ExecutionException {
+    private void requestActiveEndpoints(final DiscoveryStageCallback callback) {
         final ActiveEndpointsRequest activeEndpointsRequest = new ActiveEndpointsRequest(node.getNetworkAddress());
         activeEndpointsRequest.setDestinationAddress(new ZigBeeEndpointAddress(node.getNetworkAddress()));
 
-        CommandResult response = networkManager.sendTransaction(activeEndpointsRequest, activeEndpointsRequest).get();
-        final ActiveEndpointsResponse activeEndpointsResponse = (ActiveEndpointsResponse) response.getResponse();
-        logger.debug("{}: Node SVC Discovery: ActiveEndpointsResponse returned {}", node.getIeeeAddress(), response);
-        if (activeEndpointsResponse == null) {
-            return false;
-        }
+        sendRequest(activeEndpointsRequest, new ResponseHandler() {
+            @Override
+            public void responseReceived(CommandResult response) {
+                final ActiveEndpointsResponse activeEndpointsResponse = (ActiveEndpointsResponse) response
+                        .getResponse();
+                logger.debug("{}: Node SVC Discovery: ActiveEndpointsResponse returned {}", node.getIeeeAddress(),
+                        response);
+                if (activeEndpointsResponse == null) {
+                    callback.stageComplete(false);
+                    return;
+                }
 
-        // Get the simple descriptors for all endpoints
-        List<ZigBeeEndpoint> endpoints = new ArrayList<ZigBeeEndpoint>();
-        for (final int endpointId : activeEndpointsResponse.getActiveEpList()) {
-            ZigBeeEndpoint endpoint = requestSimpleDescriptor(endpointId);
-            if (endpoint == null) {
-                return false;
+                // Get the simple descriptors for all endpoints
+                requestSimpleDescriptors(activeEndpointsResponse.getActiveEpList(), new ArrayList<ZigBeeEndpoint>(),
+                        callback);
             }
-
-            endpoints.add(endpoint);
-        }
-
-        // All endpoints have been received, so add them to the node
-        for (ZigBeeEndpoint endpoint : endpoints) {
-            updatedNode.addEndpoint(endpoint);
-        }
-
-        return true;
+        });
     }
 
     /**
-     * Get node neighbor table by making a {@link ManagementLqiRequest} call.
+     * Gets the simple descriptor for the next endpoint in the list. Once all endpoints have been received, they are
+     * added to the node.
      *
-     * @return list of {@link NeighborTable} if the request was processed ok, null otherwise
-     * @throws ExecutionException
-     * @throws InterruptedException
-     */
-    private boolean requestNeighborTable() throws InterruptedException, ExecutionException {
-        // Start index for the list is 0
-        int startIndex = 0;
-        int totalNeighbors = 0;
-        Set<NeighborTable> neighbors = new HashSet<NeighborTable>();
-        do {
-            final ManagementLqiRequest neighborRequest = new ManagementLqiRequest(startIndex);
-            neighborRequest.setDestinationAddress(new ZigBeeEndpointAddress(node.getNetworkAddress()));
-
-            CommandResult response = networkManager.sendTransaction(neighborRequest, neighborRequest).get();
-            final ManagementLqiResponse neighborResponse = response.getResponse();
-            logger.debug("{}: Node SVC Discovery: ManagementLqiRequest response {}", node.getIeeeAddress(), response);
-            if (neighborResponse == null) {
-                return false;
+     * @param endpointIds the list of endpoints to request
+     * @param endpoints the {@link ZigBeeEndpoint}s already received
+     * @param callback the {@link DiscoveryStageCallback} to call when the stage completes
+     */
+    private void requestSimpleDescriptors(final List<Integer> endpointIds, final List<ZigBeeEndpoint> endpoints,
+            final DiscoveryStageCallback callback) {
+        if (endpoints.size() == endpointIds.size()) {
+            // All endpoints have been received, so add them to the node
+            for (ZigBeeEndpoint endpoint : endpoints) {
+                updatedNode.addEndpoint(endpoint);
             }
+            callback.stageComplete(true);
+            return;
+        }
 
-            if (neighborResponse.getStatus() == ZdoStatus.NOT_SUPPORTED) {
-                logger.debug("{}: Node SVC Discovery: ManagementLqiRequest not supported", node.getIeeeAddress());
-                supportsManagementLqi = false;
-                return true;
-            } else if (neighborResponse.getStatus() != ZdoStatus.SUCCESS) {
-                logger.debug("{}: Node SVC Discovery: ManagementLqiRequest failed", node.getIeeeAddress());
-                return false;
-            }
+        requestSimpleDescriptor(endpointIds.get(endpoints.size()), new ResponseHandler() {
+            @Override
+            public void responseReceived(CommandResult response) {
+                ZigBeeEndpoint endpoint = getSimpleDescriptorEndpoint(endpointIds.get(endpoints.size()), response);
+                if (endpoint == null) {
+                    callback.stageComplete(false);
+                    return;
+                }
 
-            // Some devices may report the number of entries as the total number they can maintain.
-            // To avoid a loop, we need to check if there's any response.
-            if (neighborResponse.getNeighborTableList().size() == 0) {
-                break;
+                endpoints.add(endpoint);
+                requestSimpleDescriptors(endpointIds, endpoints, callback);
             }
+        });
+    }
 
-            // Save the neighbors
-            neighbors.addAll(neighborResponse.getNeighborTableList());
+    /**
+     * Get node neighbor table by making a {@link ManagementLqiRequest} call. Each page of the {@link NeighborTable}
+     * is requested once the previous page is received.
+     *
+     * @param startIndex the index of the first neighbor to request
+     * @param neighbors the neighbors already received
+     * @param callback the {@link DiscoveryStageCallback} to call when the stage completes
+     */
+    private void requestNeighborTable(final int startIndex, final Set<NeighborTable> neighbors,
+            final DiscoveryStageCallback callback) {
+        final ManagementLqiRequest neighborRequest = new ManagementLqiRequest(startIndex);
+        neighborRequest.setDestinationAddress(new ZigBeeEndpointAddress(node.getNetworkAddress()));
+
+        sendRequest(neighborRequest, new ResponseHandler() {
+            @Override
+            public void responseReceived(CommandResult response) {
+                final ManagementLqiResponse neighborResponse = response.getResponse();
+                logger.debug("{}: Node SVC Discovery: ManagementLqiRequest response {}", node.getIeeeAddress(),
+                        response);
+                if (neighborResponse == null) {
+                    callback.stageComplete(false);
+                    return;
+                }
 
-            // Continue with next request
-            startIndex += neighborResponse.getNeighborTableList().size();
-            totalNeighbors = neighborResponse.getNeighborTableEntries();
-        } while (startIndex < totalNeighbors);
+                if (neighborResponse.getStatus() == ZdoStatus.NOT_SUPPORTED) {
+                    logger.debug("{}: Node SVC Discovery: ManagementLqiRequest not supported", node.getIeeeAddress());
+                    supportsManagementLqi = false;
+                    callback.stageComplete(true);
+                    return;
+                } else if (neighborResponse.getStatus() != ZdoStatus.SUCCESS) {
+                    logger.debug("{}: Node SVC Discovery: ManagementLqiRequest failed", node.getIeeeAddress());
+                    callback.stageComplete(false);
+                    return;
+                }
 
-        logger.debug("{}: Node SVC Discovery: ManagementLqiRequest complete [{} neighbors]", node.getIeeeAddress(),
-                neighbors.size());
-        updatedNode.setNeighbors(neighbors);
+                // Some devices may report the number of entries as the total number they can maintain.
+                // To avoid a loop, we need to check if there's any response.
+                if (neighborResponse.getNeighborTableList().size() != 0) {
+                    // Save the neighbors
+                    neighbors.addAll(neighborResponse.getNeighborTableList());
+
+                    // Continue with next request
+                    int nextIndex = startIndex + neighborResponse.getNeighborTableList().size();
+                    if (nextIndex < neighborResponse.getNeighborTableEntries()) {
+                        requestNeighborTable(nextIndex, neighbors, callback);
+                        return;
+                    }
+                }
 
-        return true;
+                logger.debug("{}: Node SVC Discovery: ManagementLqiRequest complete [{} neighbors]",
+                        node.getIeeeAddress(), neighbors.size());
+                updatedNode.setNeighbors(neighbors);
+
+                callback.stageComplete(true);
+            }
+        });
     }
 
     /**
-     * Get node routing table by making a {@link ManagementRoutingRequest} request
+     * Get node routing table by making a {@link ManagementRoutingRequest} request. Each page of the
+     * {@link RoutingTable} is requested once the previous page is received.
      *
-     * @return list of {@link RoutingTable} if the request was processed ok, null otherwise
-     * @throws ExecutionException
-     * @throws InterruptedException
-     */
-    private boolean requestRoutingTable() throws InterruptedException, ExecutionException {
-        // Start index for the list is 0
-        int startIndex = 0;
-        int totalRoutes = 0;
-        Set<RoutingTable> routes = new HashSet<RoutingTable>();
-        do {
-            final ManagementRoutingRequest routeRequest = new ManagementRoutingRequest(startIndex);
-            routeRequest.setDestinationAddress(new ZigBeeEndpointAddress(node.getNetworkAddress()));
-
-            CommandResult response = networkManager.sendTransaction(routeRequest, routeRequest).get();
-            final ManagementRoutingResponse routingResponse = response.getResponse();
-            logger.debug("{}: Node SVC Discovery: ManagementRoutingRequest returned {}", node.getIeeeAddress(),
-                    response);
-            if (routingResponse == null) {
-                return false;
-            }
+     * @param startIndex the index of the first route to request
+     * @param routes the routes already received
+     * @param callback the {@link DiscoveryStageCallback} to call when the stage completes
+     */
+    private void requestRoutingTable(final int startIndex, final Set<RoutingTable> routes,
+            final DiscoveryStageCallback callback) {
+        final ManagementRoutingRequest routeRequest = new ManagementRoutingRequest(startIndex);
+        routeRequest.setDestinationAddress(new ZigBeeEndpointAddress(node.getNetworkAddress()));
+
+        sendRequest(routeRequest, new ResponseHandler() {
+            @Override
+            public void responseReceived(CommandResult response) {
+                final ManagementRoutingResponse routingResponse = response.getResponse();
+                logger.debug("{}: Node SVC Discovery: ManagementRoutingRequest returned {}", node.getIeeeAddress(),
+                        response);
+                if (routingResponse == null) {
+                    callback.stageComplete(false);
+                    return;
+                }
 
-            if (routingResponse.getStatus() == ZdoStatus.NOT_SUPPORTED) {
-                logger.debug("{}: Node SVC Discovery ManagementRoutingRequest not supported", node.getIeeeAddress());
-                supportsManagementRouting = false;
-                return true;
-            } else if (routingResponse.getStatus() != ZdoStatus.SUCCESS) {
-                logger.debug("{}: Node SVC Discovery: ManagementRoutingRequest failed", node.getIeeeAddress());
-                return false;
-            }
+                if (routingResponse.getStatus() == ZdoStatus.NOT_SUPPORTED) {
+                    logger.debug("{}: Node SVC Discovery ManagementRoutingRequest not supported",
+                            node.getIeeeAddress());
+                    supportsManagementRouting = false;
+                    callback.stageComplete(true);
+                    return;
+                } else if (routingResponse.getStatus() != ZdoStatus.SUCCESS) {
+                    logger.debug("{}: Node SVC Discovery: ManagementRoutingRequest failed", node.getIeeeAddress());
+                    callback.stageComplete(false);
+                    return;
+                }
 
-            // Save the routes
-            routes.addAll(routingResponse.getRoutingTableList());
+                // Save the routes
+                routes.addAll(routingResponse.getRoutingTableList());
 
-            // Continue with next request
-            startIndex += routingResponse.getRoutingTableList().size();
-            totalRoutes = routingResponse.getRoutingTableEntries();
-        } while (startIndex < totalRoutes);
+                // Continue with next request
+                int nextIndex = startIndex + routingResponse.getRoutingTableList().size();
+                if (nextIndex < routingResponse.getRoutingTableEntries()) {
+                    requestRoutingTable(nextIndex, routes, callback);
+                    return;
+                }
 
-        logger.debug("{}: Node SVC Discovery: ManagementLqiRequest complete [{} routes]", node.getIeeeAddress(),
-                routes.size());
-        updatedNode.setRoutes(routes);
+                logger.debug("{}: Node SVC Discovery: ManagementLqiRequest complete [{} routes]",
+                        node.getIeeeAddress(), routes.size());
+                updatedNode.setRoutes(routes);
 
-        return true;
+                callback.stageComplete(true);
+            }
+        });
     }
 
     /**
-     * Get the simple descriptor for an endpoint and create the {@link ZigBeeEndpoint}
+     * Get the simple descriptor for an endpoint
      *
      * @param endpointId the endpoint id to request
-     * @return the newly created {@link ZigBeeEndpoint} for the endpoint, or null on error
-     * @throws ExecutionException
-     * @throws InterruptedException
+     * @param handler the {@link ResponseHandler} to call with the response
      */
-    private ZigBeeEndpoint requestSimpleDescriptor(final int endpointId)
-            throws InterruptedException, ExecutionException {
-        final SimpleDescriptorRequest simpleDescriptorRequest = new SimpleDescriptorRequest(
-                node.getNetworkAddress(),
+    private void requestSimpleDescriptor(final int endpointId, final ResponseHandler handler) {
+        final SimpleDescriptorRequest simpleDescriptorRequest = new SimpleDescriptorRequest(node.getNetworkAddress(),
                 endpointId);
         simpleDescriptorRequest.setDestinationAddress(new ZigBeeEndpointAddress(node.getNetworkAddress()));
 
-        CommandResult response = networkManager.sendTransaction(simpleDescriptorRequest, simpleDescriptorRequest).get();
+        sendRequest(simpleDescriptorRequest, handler);
+    }
 
+    /**
+     * Create the {@link ZigBeeEndpoint} from the response to a {@link SimpleDescriptorRequest}
+     *
+     * @param endpointId the endpoint id that was requested
+     * @param response the {@link CommandResult} from the {@link SimpleDescriptorRequest}
+     * @return the newly created {@link ZigBeeEndpoint} for the endpoint, or null on error
+     */
+    private ZigBeeEndpoint getSimpleDescriptorEndpoint(int endpointId, CommandResult response) {
         final SimpleDescriptorResponse simpleDescriptorResponse = (SimpleDescriptorResponse) response.getResponse();
         logger.debug("{}: Node SVC Discovery: SimpleDescriptorResponse returned {}", node.getIeeeAddress(),
                 simpleDescriptorResponse);
@@ -618,14 +732,54 @@ public class ZigBeeNodeServiceDiscoverer {
         return null;
     }
 
-    private class NodeServiceDiscoveryTask implements Runnable {
+    /**
+     * Sends a discovery request through the {@link ZigBeeDiscoveryRequestQueue}. The handler is not called if
+     * discovery has been stopped.
+     *
+     * @param request the {@link ZdoRequest} to send
+     * @param handler the {@link ResponseHandler} to call with the response
+     */
+    private void sendRequest(ZdoRequest request, final ResponseHandler handler) {
+        requestQueue.sendRequest(request, new ResponseHandler() {
+            @Override
+            public void responseReceived(CommandResult response) {
+                if (closed) {
+                    return;
+                }
+                handler.responseReceived(response);
+            }
+        });
+    }
+
+    /**
+     * Callback used to notify the {@link NodeServiceDiscoveryTask} that a discovery stage has completed
+     */
+    private interface DiscoveryStageCallback {
+        /**
+         * Called when all the requests for the stage have completed
+         *
+         * @param success true if the stage completed successfully
+         */
+        void stageComplete(boolean success);
+    }
+
+    /**
+     * Runs the next task in the {@link #discoveryTasks} queue. The task is run as a stage that sends its requests
+     * through the {@link ZigBeeDiscoveryRequestQueue}, so no thread is held while waiting for responses. Once the
+     * stage completes, the task is rescheduled to run the next stage, or to retry the failed stage after a random
+     * exponential backoff.
+     */
+    private class NodeServiceDiscoveryTask implements Runnable, DiscoveryStageCallback {
         private int retryCnt = 0;
         private int retryMin = 0;
+        private NodeDiscoveryTask discoveryTask;
 
         @Override
         public void run() {
             try {
-                NodeDiscoveryTask discoveryTask;
+                if (closed || activeTask != this) {
+                    return;
+                }
                 synchronized (discoveryTasks) {
                     discoveryTask = discoveryTasks.peek();
                 }
@@ -638,79 +792,80 @@ public class ZigBeeNodeServiceDiscoverer {
                 }
                 logger.debug("{}: Node SVC Discovery: running {}", node.getIeeeAddress(), discoveryTask);
 
-                boolean success = false;
                 switch (discoveryTask) {
                     case NWK_ADDRESS:
-                        success = requestNetworkAddress();
+                        requestNetworkAddress(this);
                         break;
                     case NODE_DESCRIPTOR:
-                        success = requestNodeDescriptor();
+                        requestNodeDescriptor(this);
                         break;
                     case POWER_DESCRIPTOR:
-                        success = requestPowerDescriptor();
+                        requestPowerDescriptor(this);
                         break;
                     case ACTIVE_ENDPOINTS:
-                        success = requestActiveEndpoints();
+                        requestActiveEndpoints(this);
                         break;
                     case ASSOCIATED_NODES:
-                        success = requestAssociatedNodes();
+                        requestAssociatedNodes(0, new HashSet<Integer>(), this);
                         break;
                     case NEIGHBORS:
-                        success = requestNeighborTable();
+                        requestNeighborTable(0, new HashSet<NeighborTable>(), this);
                         break;
                     case ROUTES:
-                        success = requestRoutingTable();
+                        requestRoutingTable(0, new HashSet<RoutingTable>(), this);
                         break;
                     default:
                         logger.debug("{}: Node SVC Discovery: unknown task: {}", node.getIeeeAddress(), discoveryTask);
+                        stageComplete(false);
                         break;
                 }
+            } catch (Exception e) {
+                logger.error("{}: Node SVC Discovery: exception: ", node.getIeeeAddress(), e);
+            }
+        }
 
-                if (closed) {
-                    logger.debug("{}: Node SVC Discovery: closing scheduler thread", node.getIeeeAddress());
-                    return;
-                }
+        @Override
+        public void stageComplete(boolean success) {
+            if (closed || activeTask != this) {
+                logger.debug("{}: Node SVC Discovery: closing discovery task", node.getIeeeAddress());
+                return;
+            }
 
-                retryCnt++;
-                int retryDelay = 0;
-                if (success) {
-                    synchronized (discoveryTasks) {
-                        discoveryTasks.remove(discoveryTask);
-                    }
-                    logger.debug("{}: Node SVC Discovery: request {} successful. Advancing to {}.",
-                            node.getIeeeAddress(), discoveryTask, discoveryTasks.peek());
-                    retryCnt = 0;
-                } else if (retryCnt > maxBackoff) {
-                    logger.debug("{}: Node SVC Discovery: request {} failed after {} attempts.", node.getIeeeAddress(),
-                            discoveryTask, retryCnt);
-                    synchronized (discoveryTasks) {
-                        discoveryTasks.remove(discoveryTask);
-                        failedDiscoveryTasks.add(discoveryTask);
-                        // if the network address fails, nothing else will work and this node discoverer instance is
-                        // finished
-                        if (discoveryTask == NodeDiscoveryTask.NWK_ADDRESS && node.getNetworkAddress() == null) {
-                            finished = true;
-                            return;
-                        }
+            retryCnt++;
+            int retryDelay = 0;
+            if (success) {
+                synchronized (discoveryTasks) {
+                    discoveryTasks.remove(discoveryTask);
+                }
+                logger.debug("{}: Node SVC Discovery: request {} successful. Advancing to {}.", node.getIeeeAddress(),
+                        discoveryTask, discoveryTasks.peek());
+                retryCnt = 0;
+            } else if (retryCnt > maxBackoff) {
+                logger.debug("{}: Node SVC Discovery: request {} failed after {} attempts.", node.getIeeeAddress(),
+                        discoveryTask, retryCnt);
+                synchronized (discoveryTasks) {
+                    discoveryTasks.remove(discoveryTask);
+                    failedDiscoveryTasks.add(discoveryTask);
+                    // if the network address fails, nothing else will work and this node discoverer instance is
+                    // finished
+                    if (discoveryTask == NodeDiscoveryTask.NWK_ADDRESS && node.getNetworkAddress() == null) {
+                        finished = true;
+                        return;
                     }
-
-                    retryCnt = 0;
-                } else {
-                    retryMin = retryCnt / 4;
-
-                    // We failed with the last request. Wait a bit then retry.
-                    retryDelay = (new Random().nextInt(retryCnt) + 1 + retryMin) * retryPeriod;
-                    logger.debug("{}: Node SVC Discovery: request {} failed. Retry {}, wait {}ms before retry.",
-                            node.getIeeeAddress(), discoveryTask, retryCnt, retryDelay);
                 }
 
-                // Reschedule the task
-                futureTask = networkManager.rescheduleTask(futureTask, this, retryDelay);
-            } catch (InterruptedException e) {
-                // Eat me
-            } catch (Exception e) {
-                logger.error("{}: Node SVC Discovery: exception: ", node.getIeeeAddress(), e);
+                retryCnt = 0;
+            } else {
+                retryMin = retryCnt / 4;
+
+                // We failed with the last request. Wait a bit then retry.
+                retryDelay = (new Random().nextInt(retryCnt) + 1 + retryMin) * retryPeriod;
+                logger.debug("{}: Node SVC Discovery: request {} failed. Retry {}, wait {}ms before retry.",
+                        node.getIeeeAddress(), discoveryTask, retryCnt, retryDelay);
             }
+
+            // Reschedule the task
+            futureTask = networkManager.rescheduleTask(futureTask, this, retryDelay);
         }
     }
 
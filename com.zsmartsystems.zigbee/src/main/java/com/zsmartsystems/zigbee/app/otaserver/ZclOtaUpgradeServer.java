@@ -13,18 +13,16 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeCommand;
-import com.zsmartsystems.zigbee.ZigBeeExecutors;
 import com.zsmartsystems.zigbee.ZigBeeStatus;
 import com.zsmartsystems.zigbee.app.ZigBeeApplication;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionPriority;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.ZclCommandListener;
@@ -113,17 +111,16 @@ import com.zsmartsystems.zigbee.zcl.field.ByteArray;
  */
 public class ZclOtaUpgradeServer implements ZigBeeApplication, ZclCommandListener {
     /**
-     * A static Thread pool is used here to ensure that we don't end up with large numbers of page requests
-     * spawning multiple threads. This should ensure a level of pacing if we had a lot of devices on the network that
-     * suddenly wanted to upgrade using page requests at the same time.
+     * The logger.
      */
-    private static ScheduledExecutorService pageScheduledExecutor = ZigBeeExecutors.newScheduledThreadPool(1,
-            "OtaUpgradeServer");
+    private final Logger logger = LoggerFactory.getLogger(ZclOtaUpgradeServer.class);
 
     /**
-     * The logger.
+     * The {@link ZigBeeOtaScheduler} used for the timers and page transfers of this server. This is shared with other
+     * servers to ensure that we don't end up with large numbers of threads, and to limit the number of transfers that
+     * are active at once.
      */
-    private final Logger logger = LoggerFactory.getLogger(ZclOtaUpgradeServer.class);
+    private final ZigBeeOtaScheduler scheduler;
 
     /**
      * The current {@link ZigBeeOtaServerStatus} associated with this server.
@@ -165,6 +162,23 @@ public class ZclOtaUpgradeServer implements ZigBeeApplication, ZclCommandListene
      */
     private ZigBeeOtaFile otaFile = null;
 
+    /**
+     * The {@link ZigBeeOtaImageRepository} from which the firmware is selected if it has not been set with
+     * {@link #setFirmware(ZigBeeOtaFile)}
+     */
+    private ZigBeeOtaImageRepository imageRepository;
+
+    /**
+     * True if the current {@link #otaFile} was selected from the {@link #imageRepository}
+     */
+    private boolean repositoryFile = false;
+
+    /**
+     * True if the upgrade has been cancelled with {@link #cancelUpgrade()}. No image is selected from the
+     * {@link #imageRepository} until the firmware or repository is set again.
+     */
+    private boolean upgradeCancelled = false;
+
     /**
      * A boolean defining the autoUpgrade state. If true, the server will automatically upgrade
      * the firmware in a device once the transfer is complete. If false, the user must explicitly
@@ -187,9 +201,64 @@ public class ZclOtaUpgradeServer implements ZigBeeApplication, ZclCommandListene
     private ScheduledFuture<?> scheduledPageTask;
 
     /**
-     * Timer used to handle transfer timeout
+     * Lock used to synchronise access to the {@link #scheduledPageTask}
+     */
+    private final Object pageLock = new Object();
+
+    /**
+     * True if the block size and page response spacing are adapted to the link during the transfer
+     */
+    private boolean adaptiveTransfer = false;
+
+    /**
+     * True if image blocks may be larger than a single APS frame, and sent using APS fragmentation
+     */
+    private boolean fragmentationSupported = false;
+
+    /**
+     * The statistics of the current, or most recent, transfer
+     */
+    private ZigBeeOtaTransferStatistics transferStatistics;
+
+    /**
+     * Lock used to synchronise the adaptive transfer state
      */
-    private ScheduledExecutorService timer = ZigBeeExecutors.newScheduledThreadPool(1, "OtaUpgradeTimer");
+    private final Object transferLock = new Object();
+
+    /**
+     * The data size currently in use when {@link #adaptiveTransfer} is enabled
+     */
+    private int adaptiveDataSize;
+
+    /**
+     * The minimum page response spacing currently in use when {@link #adaptiveTransfer} is enabled
+     */
+    private int adaptiveResponseSpacing;
+
+    /**
+     * The number of blocks successfully received by the client since the data size was last changed
+     */
+    private int successfulBlocks;
+
+    /**
+     * The file offset of the last block sent, or -1 if no block has been sent in this transfer
+     */
+    private int lastBlockOffset = -1;
+
+    /**
+     * The length of the last block sent
+     */
+    private int lastBlockSize;
+
+    /**
+     * The time the last block was sent
+     */
+    private long lastBlockTime;
+
+    /**
+     * The file offset at the end of the last page requested, or -1 if no page has been requested in this transfer
+     */
+    private int lastPageEnd = -1;
 
     /**
      * Current timer task
@@ -233,6 +302,51 @@ public class ZclOtaUpgradeServer implements ZigBeeApplication, ZclCommandListene
      */
     private static final int IMAGE_BLOCK_FIELD_MINIMUM_BLOCK_PERIOD = 0x02;
 
+    /**
+     * The maximum APS payload that can be sent in a single frame without APS security
+     */
+    private static final int APS_PAYLOAD_LENGTH = 82;
+
+    /**
+     * The APS payload lost when APS security is used - the auxiliary header and MIC
+     */
+    private static final int APS_SECURITY_OVERHEAD = 9;
+
+    /**
+     * The length of the ZCL header and the fixed fields of the {@link ImageBlockResponse}
+     */
+    private static final int IMAGE_BLOCK_OVERHEAD = 17;
+
+    /**
+     * The maximum data size in a block, limited by the 8 bit length in the {@link ImageBlockResponse}
+     */
+    private static final int MAXIMUM_DATA_SIZE = 255;
+
+    /**
+     * The minimum data size that the adaptive transfer will reduce the block size to
+     */
+    private static final int MINIMUM_DATA_SIZE = 16;
+
+    /**
+     * The number of bytes the adaptive transfer increases the data size by
+     */
+    private static final int DATA_SIZE_STEP = 8;
+
+    /**
+     * The number of blocks that must be received without error before the adaptive transfer increases the data size
+     */
+    private static final int DATA_SIZE_INCREASE_BLOCKS = 16;
+
+    /**
+     * The minimum increase in page response spacing when a page is not received completely
+     */
+    private static final int RESPONSE_SPACING_STEP = 20;
+
+    /**
+     * The maximum page response spacing that the adaptive transfer will increase to
+     */
+    private static final int MAXIMUM_RESPONSE_SPACING = 1000;
+
     /**
      * A list of listeners to receive status callbacks
      */
@@ -240,9 +354,20 @@ public class ZclOtaUpgradeServer implements ZigBeeApplication, ZclCommandListene
             .unmodifiableList(new ArrayList<ZigBeeOtaStatusCallback>());
 
     /**
-     * Constructor
+     * Constructor. The server uses a default {@link ZigBeeOtaScheduler}, shared with other servers that are not
+     * provided with a scheduler, which does not limit the number of active transfers.
      */
     public ZclOtaUpgradeServer() {
+        this(ZigBeeOtaScheduler.getDefaultScheduler());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param scheduler the {@link ZigBeeOtaScheduler} used to schedule the transfers of this server
+     */
+    public ZclOtaUpgradeServer(ZigBeeOtaScheduler scheduler) {
+        this.scheduler = scheduler;
         status = ZigBeeOtaServerStatus.OTA_UNINITIALISED;
 
         // queryJitter needs to be a random value between 1 and 100
@@ -261,7 +386,8 @@ public class ZclOtaUpgradeServer implements ZigBeeApplication, ZclCommandListene
     public void appShutdown() {
         cluster.removeCommandListener(this);
         stopTransferTimer();
-        timer.shutdownNow();
+        stopPageTask();
+        endTransfer();
     }
 
     @Override
@@ -281,12 +407,18 @@ public class ZclOtaUpgradeServer implements ZigBeeApplication, ZclCommandListene
     /**
      * Cancels any upgrade transfers that are in progress and removes the current file. If a transfer is currently in
      * progress, then the listeners are notified.
+     * <p>
+     * If an {@link ZigBeeOtaImageRepository} is set, no image will be selected from the repository until
+     * {@link #setFirmware(ZigBeeOtaFile)} or {@link #setImageRepository(ZigBeeOtaImageRepository)} is called.
      */
     public void cancelUpgrade() {
         otaFile = null;
+        repositoryFile = false;
+        upgradeCancelled = true;
 
         ZigBeeOtaServerStatus localStatus = status;
         status = ZigBeeOtaServerStatus.OTA_UNINITIALISED;
+        endTransfer();
 
         if (localStatus != ZigBeeOtaServerStatus.OTA_WAITING && localStatus != ZigBeeOtaServerStatus.OTA_UNINITIALISED
                 && localStatus != ZigBeeOtaServerStatus.OTA_UPGRADE_COMPLETE) {
@@ -337,9 +469,23 @@ public class ZclOtaUpgradeServer implements ZigBeeApplication, ZclCommandListene
         updateStatus(ZigBeeOtaServerStatus.OTA_WAITING);
 
         this.otaFile = otaFile;
+        repositoryFile = false;
+        upgradeCancelled = false;
         notifyClient();
     }
 
+    /**
+     * Sets the {@link ZigBeeOtaImageRepository} used to select the firmware for this node. If the firmware is not set
+     * with {@link #setFirmware(ZigBeeOtaFile)}, the server will answer a Query Next Image Request with the newest
+     * suitable image in the repository that is newer than the firmware in the device.
+     *
+     * @param imageRepository the {@link ZigBeeOtaImageRepository} or null to stop using a repository
+     */
+    public void setImageRepository(ZigBeeOtaImageRepository imageRepository) {
+        this.imageRepository = imageRepository;
+        upgradeCancelled = false;
+    }
+
     /**
      * The purpose of sending Image Notify command is so the server has a way to notify client devices of
      * when the OTA upgrade images are available for them. It eliminates the need for ZR client devices
@@ -373,6 +519,39 @@ public class ZclOtaUpgradeServer implements ZigBeeApplication, ZclCommandListene
         this.dataSize = dataSize;
     }
 
+    /**
+     * Enables the adaptive transfer mode. When enabled, the data size is initially set to the largest block that fits
+     * within a single APS frame, taking account of APS security. The data size is reduced when the client requests
+     * blocks again, and slowly increased again as blocks are received. For page requests, the spacing between blocks is
+     * increased above the spacing requested by the client if the client does not receive the whole page.
+     * <p>
+     * When adaptive transfer is enabled, the data size set with {@link #setDataSize(int)} is not used.
+     *
+     * @param adaptiveTransfer true to adapt the data size and page response spacing to the link
+     */
+    public void setAdaptiveTransfer(boolean adaptiveTransfer) {
+        this.adaptiveTransfer = adaptiveTransfer;
+    }
+
+    /**
+     * Sets whether image blocks may be larger than a single APS frame when adaptive transfer is enabled. This should
+     * only be set if both the transport and the client support APS fragmentation.
+     *
+     * @param fragmentationSupported true if blocks may be sent using APS fragmentation
+     */
+    public void setFragmentationSupported(boolean fragmentationSupported) {
+        this.fragmentationSupported = fragmentationSupported;
+    }
+
+    /**
+     * Gets the statistics of the current transfer, or the most recent transfer if no transfer is in progress
+     *
+     * @return the {@link ZigBeeOtaTransferStatistics} or null if no transfer has been started
+     */
+    public ZigBeeOtaTransferStatistics getTransferStatistics() {
+        return transferStatistics;
+    }
+
     /**
      * Tells the server to automatically upgrade the firmware once the transfer is completed.
      * If autoUpgrade is not set, then the user must explicitly call {@link #completeUpgrade} once the server
@@ -540,6 +719,9 @@ public class ZclOtaUpgradeServer implements ZigBeeApplication, ZclCommandListene
     private void updateStatus(final ZigBeeOtaServerStatus updatedStatus) {
         logger.debug("{} OTA status updated to {}.", cluster.getZigBeeAddress(), updatedStatus);
         status = updatedStatus;
+        if (updatedStatus != ZigBeeOtaServerStatus.OTA_TRANSFER_IN_PROGRESS) {
+            endTransfer();
+        }
 
         synchronized (this) {
             // Notify the listeners
@@ -563,7 +745,7 @@ public class ZclOtaUpgradeServer implements ZigBeeApplication, ZclCommandListene
      * @return the number of bytes sent
      */
     private int sendImageBlock(ZclOtaUpgradeCommand command, int fileOffset, int maximumDataSize) {
-        ByteArray imageData = otaFile.getImageData(fileOffset, Math.min(dataSize, maximumDataSize));
+        ByteArray imageData = otaFile.getImageData(fileOffset, getBlockDataSize(maximumDataSize));
         logger.debug("{} OTA Data: Sending {} bytes at offset {}", cluster.getZigBeeAddress(), imageData.size(),
                 fileOffset);
 
@@ -574,6 +756,8 @@ public class ZclOtaUpgradeServer implements ZigBeeApplication, ZclCommandListene
                 otaFile.getFileVersion(),
                 fileOffset,
                 imageData);
+        // Image transfers are long running and must not delay interactive commands to the node
+        response.setPriority(ZigBeeTransactionPriority.BULK);
 
         if (command == null) {
             response.setDisableDefaultResponse(true);
@@ -582,16 +766,180 @@ public class ZclOtaUpgradeServer implements ZigBeeApplication, ZclCommandListene
         } else {
             cluster.sendResponse(command, response);
         }
+        scheduler.blockSent(imageData.size());
+
+        synchronized (transferLock) {
+            lastBlockOffset = fileOffset;
+            lastBlockSize = imageData.size();
+            lastBlockTime = System.currentTimeMillis();
+            if (transferStatistics != null) {
+                transferStatistics.blockSent(imageData.size());
+            }
+        }
 
         return imageData.size();
     }
 
+    /**
+     * Gets the largest data size that fits in the APS payload of an {@link ImageBlockResponse}
+     *
+     * @return the data size in bytes
+     */
+    private int getPayloadDataSize() {
+        if (fragmentationSupported) {
+            return MAXIMUM_DATA_SIZE;
+        }
+
+        int payloadDataSize = APS_PAYLOAD_LENGTH - IMAGE_BLOCK_OVERHEAD;
+        if (cluster.getApsSecurityRequired()) {
+            payloadDataSize -= APS_SECURITY_OVERHEAD;
+        }
+        return payloadDataSize;
+    }
+
+    /**
+     * Gets the data size to send in the next block
+     *
+     * @param maximumDataSize the maximum data size the client can accept
+     * @return the data size in bytes
+     */
+    private int getBlockDataSize(int maximumDataSize) {
+        synchronized (transferLock) {
+            if (adaptiveTransfer && adaptiveDataSize != 0) {
+                return Math.min(adaptiveDataSize, maximumDataSize);
+            }
+            return Math.min(dataSize, maximumDataSize);
+        }
+    }
+
+    /**
+     * Resets the adaptive transfer state and the statistics at the start of a transfer
+     */
+    private void startTransferStatistics() {
+        synchronized (transferLock) {
+            adaptiveDataSize = getPayloadDataSize();
+            adaptiveResponseSpacing = 0;
+            successfulBlocks = 0;
+            lastBlockOffset = -1;
+            lastPageEnd = -1;
+            transferStatistics = new ZigBeeOtaTransferStatistics(adaptiveTransfer ? adaptiveDataSize : dataSize);
+        }
+    }
+
+    /**
+     * Updates the transfer state when the client requests a block. A request for the block following the last block
+     * sent shows the last block was received, while a request for the same or an earlier block shows that it was lost.
+     *
+     * @param fileOffset the file offset requested by the client
+     */
+    private void blockRequested(int fileOffset) {
+        synchronized (transferLock) {
+            if (lastBlockOffset == -1 || transferStatistics == null) {
+                return;
+            }
+
+            if (fileOffset == lastBlockOffset + lastBlockSize) {
+                transferStatistics.roundTripTime(System.currentTimeMillis() - lastBlockTime);
+                blocksReceived(1);
+            } else if (fileOffset <= lastBlockOffset) {
+                transferStatistics.blockRepeated(1);
+                blocksLost();
+            }
+        }
+    }
+
+    /**
+     * Updates the transfer state when the client requests a page, and gets the spacing to use between the blocks
+     * of the page. A request starting before the end of the last page shows that the last page was not completely
+     * received.
+     *
+     * @param command the received {@link ImagePageCommand}
+     * @return the response spacing in milliseconds
+     */
+    private int pageRequested(ImagePageCommand command) {
+        synchronized (transferLock) {
+            if (lastPageEnd != -1 && transferStatistics != null) {
+                int blockSize = Math.max(1, getBlockDataSize(command.getMaximumDataSize()));
+                if (command.getFileOffset() < lastPageEnd) {
+                    int missed = lastPageEnd - command.getFileOffset();
+                    transferStatistics.blockRepeated((missed + blockSize - 1) / blockSize);
+                    if (adaptiveTransfer) {
+                        adaptiveResponseSpacing = Math.min(MAXIMUM_RESPONSE_SPACING,
+                                Math.max(adaptiveResponseSpacing * 2, adaptiveResponseSpacing + RESPONSE_SPACING_STEP));
+                    }
+                    blocksLost();
+                } else {
+                    transferStatistics.roundTripTime(System.currentTimeMillis() - lastBlockTime);
+                    adaptiveResponseSpacing = adaptiveResponseSpacing * 3 / 4;
+                    blocksReceived((command.getPageSize() + blockSize - 1) / blockSize);
+                }
+            }
+            lastPageEnd = command.getFileOffset() + command.getPageSize();
+
+            int responseSpacing = Math.max(command.getResponseSpacing(), adaptiveResponseSpacing);
+            if (transferStatistics != null) {
+                transferStatistics.setResponseSpacing(responseSpacing);
+            }
+            return responseSpacing;
+        }
+    }
+
+    /**
+     * Increases the data size once enough blocks have been received without error
+     *
+     * @param blocks the number of blocks received
+     */
+    private void blocksReceived(int blocks) {
+        successfulBlocks += blocks;
+        if (!adaptiveTransfer || successfulBlocks < DATA_SIZE_INCREASE_BLOCKS) {
+            return;
+        }
+
+        successfulBlocks = 0;
+        adaptiveDataSize = Math.min(getPayloadDataSize(), adaptiveDataSize + DATA_SIZE_STEP);
+        transferStatistics.setDataSize(adaptiveDataSize);
+    }
+
+    /**
+     * Reduces the data size when blocks are lost
+     */
+    private void blocksLost() {
+        successfulBlocks = 0;
+        if (!adaptiveTransfer) {
+            return;
+        }
+
+        adaptiveDataSize = Math.max(MINIMUM_DATA_SIZE, adaptiveDataSize * 3 / 4);
+        transferStatistics.setDataSize(adaptiveDataSize);
+    }
+
+    /**
+     * Tells the {@link ZigBeeOtaScheduler} that any transfer has ended, allowing other servers to start a transfer. If
+     * this server is queued waiting for a transfer, it is removed from the queue.
+     */
+    private void endTransfer() {
+        scheduler.transferComplete(this);
+    }
+
+    /**
+     * Stops any page transfer that is in progress
+     */
+    private void stopPageTask() {
+        synchronized (pageLock) {
+            if (scheduledPageTask != null) {
+                scheduledPageTask.cancel(true);
+                scheduledPageTask = null;
+            }
+        }
+    }
+
     /**
      * Handles the sending of {@link ImageBlockResponse} following a {@link ImagePageCommand}
      *
      * @param request the request command
+     * @param responseSpacing the spacing between blocks in milliseconds
      */
-    private void doPageResponse(ImagePageCommand request) {
+    private void doPageResponse(ImagePageCommand request, int responseSpacing) {
         class PageSender implements Runnable {
             private ImagePageCommand request;
             private int pagePosition;
@@ -629,7 +977,7 @@ public class ZclOtaUpgradeServer implements ZigBeeApplication, ZclCommandListene
 
                 // Have we reached the end of the page?
                 if (pagePosition > pageEnd) {
-                    synchronized (pageScheduledExecutor) {
+                    synchronized (pageLock) {
                         scheduledPageTask.cancel(false);
                         scheduledPageTask = null;
 
@@ -641,7 +989,7 @@ public class ZclOtaUpgradeServer implements ZigBeeApplication, ZclCommandListene
         }
         ;
 
-        synchronized (pageScheduledExecutor) {
+        synchronized (pageLock) {
             // Stop our task if it's running
             if (scheduledPageTask != null) {
                 scheduledPageTask.cancel(true);
@@ -649,8 +997,7 @@ public class ZclOtaUpgradeServer implements ZigBeeApplication, ZclCommandListene
 
             // Start the new task
             PageSender pageSender = new PageSender(request);
-            scheduledPageTask = pageScheduledExecutor.scheduleAtFixedRate(pageSender, request.getResponseSpacing(),
-                    request.getResponseSpacing(), TimeUnit.MILLISECONDS);
+            scheduledPageTask = scheduler.scheduleAtFixedRate(pageSender, responseSpacing);
         }
     }
 
@@ -662,6 +1009,10 @@ public class ZclOtaUpgradeServer implements ZigBeeApplication, ZclCommandListene
      * @return true if the handler has, or will send a response to this command
      */
     private boolean handleQueryNextImageCommand(QueryNextImageCommand command) {
+        // If the firmware has not been set for this node, select it from the repository
+        if (imageRepository != null && !upgradeCancelled && (otaFile == null || repositoryFile)) {
+            selectRepositoryImage(command);
+        }
 
         if (otaFile == null) {
             sendNoImageAvailableResponse(command);
@@ -704,7 +1055,15 @@ public class ZclOtaUpgradeServer implements ZigBeeApplication, ZclCommandListene
             return true;
         }
 
+        // Limit the number of transfers active at once - the client will be notified when it may request the image
+        if (!scheduler.startTransfer(this)) {
+            logger.debug("{} OTA transfer queued.", cluster.getZigBeeAddress());
+            sendNoImageAvailableResponse(command);
+            return true;
+        }
+
         // Update the state as we're starting
+        startTransferStatistics();
         updateStatus(ZigBeeOtaServerStatus.OTA_TRANSFER_IN_PROGRESS);
         startTransferTimer();
 
@@ -718,6 +1077,46 @@ public class ZclOtaUpgradeServer implements ZigBeeApplication, ZclCommandListene
         return true;
     }
 
+    /**
+     * Selects the newest suitable image from the {@link ZigBeeOtaImageRepository} for the client. The image is only
+     * changed while no transfer or upgrade is in progress.
+     *
+     * @param command the received {@link QueryNextImageCommand}
+     */
+    private void selectRepositoryImage(QueryNextImageCommand command) {
+        switch (status) {
+            case OTA_UNINITIALISED:
+            case OTA_WAITING:
+            case OTA_UPGRADE_COMPLETE:
+            case OTA_CANCELLED:
+            case OTA_UPGRADE_FAILED:
+                break;
+            default:
+                return;
+        }
+
+        ZigBeeOtaFile image = imageRepository.getNewestImage(command.getManufacturerCode(), command.getImageType(),
+                command.getHardwareVersion());
+
+        // Don't downgrade the device
+        if (image != null && (image.getFileVersion() & 0xFFFFFFFFL) < (command.getFileVersion() & 0xFFFFFFFFL)) {
+            image = null;
+        }
+
+        if (image == null) {
+            otaFile = null;
+            repositoryFile = false;
+            return;
+        }
+
+        if (image != otaFile || status != ZigBeeOtaServerStatus.OTA_WAITING) {
+            logger.debug("{} OTA file selected from repository: {}", cluster.getZigBeeAddress(), image);
+            otaFile = image;
+            repositoryFile = true;
+            updateStatus(ZigBeeOtaServerStatus.OTA_WAITING);
+        }
+    }
+
     private void sendNoImageAvailableResponse(QueryNextImageCommand command) {
         QueryNextImageResponse response = new QueryNextImageResponse(
                 ZclStatus.NO_IMAGE_AVAILABLE,
@@ -768,7 +1167,7 @@ public class ZclOtaUpgradeServer implements ZigBeeApplication, ZclCommandListene
             return true;
         }
 
-        doPageResponse(command);
+        doPageResponse(command, pageRequested(command));
 
         return true;
     }
@@ -826,6 +1225,7 @@ public class ZclOtaUpgradeServer implements ZigBeeApplication, ZclCommandListene
         }
 
         // Send the block response
+        blockRequested(command.getFileOffset());
         sendImageBlock(command, command.getFileOffset(), command.getMaximumDataSize());
         return true;
     }
@@ -889,7 +1289,7 @@ public class ZclOtaUpgradeServer implements ZigBeeApplication, ZclCommandListene
         stopTransferTimer();
 
         // Create the timer task
-        timerTask = timer.schedule(new OtaTransferTimer(), transferTimeoutPeriod, TimeUnit.MILLISECONDS);
+        timerTask = scheduler.schedule(new OtaTransferTimer(), transferTimeoutPeriod);
     }
 
     /**
@@ -9,6 +9,7 @@ package com.zsmartsystems.zigbee.app.otaserver;
 
 import java.io.File;
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import org.slf4j.Logger;
@@ -164,9 +165,11 @@ public class ZigBeeOtaFile {
     private final int FILE_SIGNATURE = 0x0BEEF11E;
 
     /**
-     * The file data
+     * The file data. This may be backed by an array, or by a file mapped into memory, and is shared by all servers
+     * sending this file. Data is only read with absolute reads, or through a duplicate of the buffer, so that the
+     * buffer position is never changed.
      */
-    private byte[] fileData = null;
+    private ByteBuffer fileData = null;
 
     /**
      * The file pointer
@@ -183,7 +186,24 @@ public class ZigBeeOtaFile {
             throw new IllegalArgumentException("ZigBeeOtaFile data can not be null.");
         }
 
-        this.fileData = fileData;
+        this.fileData = ByteBuffer.wrap(fileData);
+
+        readOtaFile();
+    }
+
+    /**
+     * Create a {@link ZigBeeOtaFile} from a {@link ByteBuffer}. The file data is the data between the current position
+     * and the limit of the buffer. The data is not copied, allowing the file to be read from a
+     * {@link java.nio.MappedByteBuffer} without holding the complete file on the heap.
+     *
+     * @param fileData the {@link ByteBuffer} containing the OTA file data
+     */
+    public ZigBeeOtaFile(ByteBuffer fileData) {
+        if (fileData == null) {
+            throw new IllegalArgumentException("ZigBeeOtaFile data can not be null.");
+        }
+
+        this.fileData = fileData.slice();
 
         readOtaFile();
     }
@@ -231,7 +251,7 @@ public class ZigBeeOtaFile {
         stackVersion = ZigBeeStackType.getByValue(readUnsigned16());
 
         // Character string [32], OTA Header string
-        byte[] stringBytes = Arrays.copyOfRange(fileData, filePointer, filePointer + 32);
+        byte[] stringBytes = readBytes(filePointer, 32);
         filePointer += 32;
         for (int cnt = 0; cnt < 32; cnt++) {
             if (stringBytes[cnt] == 0) {
@@ -272,7 +292,7 @@ public class ZigBeeOtaFile {
 
         //
         // Read the tags
-        while ((fileData.length - filePointer) >= 6) {
+        while ((fileData.limit() - filePointer) >= 6) {
             // Tag Header -:
             // The tag identifier denotes the type and format of the data contained within the sub-element.
             int tagId = readUnsigned16();
@@ -408,24 +428,41 @@ public class ZigBeeOtaFile {
         }
 
         int length = Math.min(dataSize, imageSize - fileOffset);
-        return new ByteArray(Arrays.copyOfRange(fileData, fileOffset, fileOffset + length));
+        return new ByteArray(readBytes(fileOffset, length));
+    }
+
+    /**
+     * Reads a block of data from the file without changing the position of the shared buffer
+     *
+     * @param offset the file offset
+     * @param length the number of bytes to read
+     * @return the data
+     */
+    private byte[] readBytes(int offset, int length) {
+        byte[] data = new byte[length];
+        ByteBuffer buffer = fileData.duplicate();
+        buffer.position(offset);
+        buffer.get(data);
+        return data;
     }
 
     private Integer readUnsigned8() {
-        Integer value = Integer.valueOf(fileData[filePointer] & 0xff);
+        Integer value = Integer.valueOf(fileData.get(filePointer) & 0xff);
         filePointer += 1;
         return value;
     }
 
     private Integer readUnsigned16() {
-        Integer value = Integer.valueOf((fileData[filePointer] & 0xff) + ((fileData[filePointer + 1] & 0xff) << 8));
+        Integer value = Integer
+                .valueOf((fileData.get(filePointer) & 0xff) + ((fileData.get(filePointer + 1) & 0xff) << 8));
         filePointer += 2;
         return value;
     }
 
     private Integer readUnsigned32() {
-        Integer value = Integer.valueOf((fileData[filePointer] & 0xff) + ((fileData[filePointer + 1] & 0xff) << 8)
-                + ((fileData[filePointer + 2] & 0xff) << 16) + ((fileData[filePointer + 3] & 0xff) << 24));
+        Integer value = Integer.valueOf((fileData.get(filePointer) & 0xff)
+                + ((fileData.get(filePointer + 1) & 0xff) << 8) + ((fileData.get(filePointer + 2) & 0xff) << 16)
+                + ((fileData.get(filePointer + 3) & 0xff) << 24));
         filePointer += 4;
         return value;
     }
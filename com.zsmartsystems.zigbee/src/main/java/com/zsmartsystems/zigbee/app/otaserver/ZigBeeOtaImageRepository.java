@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.app.otaserver;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A repository of {@link ZigBeeOtaFile}s that may be shared by all the {@link ZclOtaUpgradeServer}s in the network.
+ * <p>
+ * Images are indexed by manufacturer code, image type and file version, and only a single instance of each image is
+ * held, no matter how many nodes are upgraded with it. Images added from a {@link File} are mapped into memory rather
+ * than read onto the heap, and image blocks are read directly from the mapped file as they are sent.
+ * <p>
+ * When a server is provided with a repository, it will answer a client's Query Next Image Request with the newest
+ * image in the repository for the client's manufacturer code, image type and hardware version, without the need to
+ * set the firmware for each node. Device specific images, which contain an upgrade file destination, are not selected
+ * automatically.
+ *
+ * @author Chris Jackson
+ */
+public class ZigBeeOtaImageRepository {
+    /**
+     * The logger.
+     */
+    private final Logger logger = LoggerFactory.getLogger(ZigBeeOtaImageRepository.class);
+
+    /**
+     * The images in the repository, indexed by manufacturer code, image type and file version
+     */
+    private final Map<Long, ZigBeeOtaFile> images = new HashMap<>();
+
+    /**
+     * Adds an image from a file. The file is mapped into memory, and is read as image blocks are sent to clients. If an
+     * image with the same manufacturer code, image type and file version is already in the repository, the existing
+     * image is returned and the file is not used.
+     *
+     * @param file the {@link File} containing the OTA image
+     * @return the {@link ZigBeeOtaFile} held in the repository
+     * @throws IOException if the file can not be read
+     * @throws IllegalArgumentException if the file is not a valid OTA file
+     */
+    public ZigBeeOtaFile addImage(File file) throws IOException {
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        MappedByteBuffer buffer;
+        try {
+            FileChannel channel = randomAccessFile.getChannel();
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } finally {
+            // The mapping remains valid once the file is closed
+            randomAccessFile.close();
+        }
+
+        return addImage(new ZigBeeOtaFile(buffer));
+    }
+
+    /**
+     * Adds an image to the repository. If an image with the same manufacturer code, image type and file version is
+     * already in the repository, the existing image is returned.
+     *
+     * @param image the {@link ZigBeeOtaFile} to add
+     * @return the {@link ZigBeeOtaFile} held in the repository
+     */
+    public synchronized ZigBeeOtaFile addImage(ZigBeeOtaFile image) {
+        Long key = getKey(image.getManufacturerCode(), image.getImageType(), image.getFileVersion());
+        ZigBeeOtaFile existing = images.get(key);
+        if (existing != null) {
+            logger.debug("OTA image already in repository: {}", existing);
+            return existing;
+        }
+
+        logger.debug("OTA image added to repository: {}", image);
+        images.put(key, image);
+        return image;
+    }
+
+    /**
+     * Removes an image from the repository. Transfers of the image that are already in progress are not affected.
+     *
+     * @param image the {@link ZigBeeOtaFile} to remove
+     * @return true if the image was removed
+     */
+    public synchronized boolean removeImage(ZigBeeOtaFile image) {
+        Long key = getKey(image.getManufacturerCode(), image.getImageType(), image.getFileVersion());
+        if (images.get(key) != image) {
+            return false;
+        }
+        images.remove(key);
+        return true;
+    }
+
+    /**
+     * Gets all the images in the repository
+     *
+     * @return a {@link Collection} of {@link ZigBeeOtaFile}s
+     */
+    public synchronized Collection<ZigBeeOtaFile> getImages() {
+        return new ArrayList<>(images.values());
+    }
+
+    /**
+     * Gets the image with the specified manufacturer code, image type and file version
+     *
+     * @param manufacturerCode the manufacturer code
+     * @param imageType the image type
+     * @param fileVersion the file version
+     * @return the {@link ZigBeeOtaFile} or null if the image is not in the repository
+     */
+    public synchronized ZigBeeOtaFile getImage(int manufacturerCode, int imageType, int fileVersion) {
+        return images.get(getKey(manufacturerCode, imageType, fileVersion));
+    }
+
+    /**
+     * Gets the newest image for the manufacturer code and image type that is suitable for the hardware version.
+     * Device specific images are not returned.
+     *
+     * @param manufacturerCode the manufacturer code
+     * @param imageType the image type
+     * @param hardwareVersion the hardware version of the client, or null if not known
+     * @return the {@link ZigBeeOtaFile} with the highest file version, or null if there is no suitable image
+     */
+    public synchronized ZigBeeOtaFile getNewestImage(int manufacturerCode, int imageType, Integer hardwareVersion) {
+        ZigBeeOtaFile newest = null;
+        for (ZigBeeOtaFile image : images.values()) {
+            if (image.getManufacturerCode() != manufacturerCode || image.getImageType() != imageType
+                    || image.getDestination() != null) {
+                continue;
+            }
+            if (hardwareVersion != null && image.getMinimumHardware() != null && image.getMaximumHardware() != null
+                    && (hardwareVersion < image.getMinimumHardware()
+                            || hardwareVersion > image.getMaximumHardware())) {
+                continue;
+            }
+            // File versions are compared as unsigned values
+            if (newest == null || (image.getFileVersion() & 0xFFFFFFFFL) > (newest.getFileVersion() & 0xFFFFFFFFL)) {
+                newest = image;
+            }
+        }
+        return newest;
+    }
+
+    private Long getKey(int manufacturerCode, int imageType, int fileVersion) {
+        return ((long) (manufacturerCode & 0xFFFF) << 48) | ((long) (imageType & 0xFFFF) << 32)
+                | (fileVersion & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,303 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.app.otaserver;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zsmartsystems.zigbee.ZigBeeExecutors;
+
+/**
+ * Provides the scheduling for a number of {@link ZclOtaUpgradeServer}s. A single scheduler is shared by all the OTA
+ * servers in the network, so that a network with a large number of devices does not require a timer thread per device.
+ * <p>
+ * The scheduler also limits the number of image transfers that may be active at the same time, to avoid the OTA
+ * transfers using all the bandwidth in the mesh. Once the limit is reached, further clients requesting an image are
+ * told that no image is available, and the server is queued. As transfers complete, the queued servers are notified
+ * so that the client will request the image again.
+ * <p>
+ * Metrics are provided on the number of active and queued transfers, and the data throughput of all transfers.
+ *
+ * @author Chris Jackson
+ */
+public class ZigBeeOtaScheduler {
+    /**
+     * The logger.
+     */
+    private final Logger logger = LoggerFactory.getLogger(ZigBeeOtaScheduler.class);
+
+    /**
+     * The period in seconds over which the throughput is calculated
+     */
+    private static final int THROUGHPUT_PERIOD = 10;
+
+    /**
+     * The scheduler used by servers that are not provided with a scheduler. This has no limit on the number of active
+     * transfers.
+     */
+    private static ZigBeeOtaScheduler defaultScheduler;
+
+    /**
+     * The single thread used for all timers and page transfers
+     */
+    private final ScheduledExecutorService executorService = ZigBeeExecutors.newScheduledThreadPool(1,
+            "OtaUpgradeScheduler");
+
+    /**
+     * The maximum number of transfers that may be active at once. If 0, the number of transfers is not limited.
+     */
+    private int maxActiveTransfers;
+
+    /**
+     * The servers that are currently transferring an image
+     */
+    private final Set<ZclOtaUpgradeServer> activeTransfers = new HashSet<>();
+
+    /**
+     * The servers that have been refused a transfer, in the order they were refused
+     */
+    private final Set<ZclOtaUpgradeServer> queuedTransfers = new LinkedHashSet<>();
+
+    /**
+     * The total number of image bytes sent
+     */
+    private long bytesTransferred;
+
+    /**
+     * The number of image bytes sent in each second of the throughput period
+     */
+    private final long[] throughputBytes = new long[THROUGHPUT_PERIOD];
+
+    /**
+     * The second to which each entry in {@link #throughputBytes} applies
+     */
+    private final long[] throughputSeconds = new long[THROUGHPUT_PERIOD];
+
+    /**
+     * Creates a scheduler
+     *
+     * @param maxActiveTransfers the maximum number of transfers that may be active at once, or 0 for no limit
+     */
+    public ZigBeeOtaScheduler(int maxActiveTransfers) {
+        this.maxActiveTransfers = maxActiveTransfers;
+    }
+
+    /**
+     * Gets the scheduler used by servers that are not provided with a scheduler
+     *
+     * @return the default {@link ZigBeeOtaScheduler}
+     */
+    static synchronized ZigBeeOtaScheduler getDefaultScheduler() {
+        if (defaultScheduler == null) {
+            defaultScheduler = new ZigBeeOtaScheduler(0);
+        }
+        return defaultScheduler;
+    }
+
+    /**
+     * Sets the maximum number of transfers that may be active at once. Transfers already in progress are not affected
+     * if the limit is reduced.
+     *
+     * @param maxActiveTransfers the maximum number of transfers that may be active at once, or 0 for no limit
+     */
+    public void setMaxActiveTransfers(int maxActiveTransfers) {
+        List<ZclOtaUpgradeServer> released;
+        synchronized (this) {
+            this.maxActiveTransfers = maxActiveTransfers;
+            released = releaseQueuedTransfers();
+        }
+        notifyServers(released);
+    }
+
+    /**
+     * Gets the maximum number of transfers that may be active at once
+     *
+     * @return the maximum number of transfers that may be active at once, or 0 if there is no limit
+     */
+    public synchronized int getMaxActiveTransfers() {
+        return maxActiveTransfers;
+    }
+
+    /**
+     * Gets the number of transfers currently in progress
+     *
+     * @return the number of active transfers
+     */
+    public synchronized int getActiveTransfers() {
+        return activeTransfers.size();
+    }
+
+    /**
+     * Gets the number of servers waiting to start a transfer
+     *
+     * @return the number of queued transfers
+     */
+    public synchronized int getQueuedTransfers() {
+        return queuedTransfers.size();
+    }
+
+    /**
+     * Gets the total number of image bytes sent by all servers using this scheduler
+     *
+     * @return the number of bytes sent
+     */
+    public synchronized long getBytesTransferred() {
+        return bytesTransferred;
+    }
+
+    /**
+     * Gets the throughput of all transfers, averaged over the last {@value #THROUGHPUT_PERIOD} seconds
+     *
+     * @return the throughput in bytes per second
+     */
+    public synchronized long getThroughput() {
+        long now = getSecond();
+        long bytes = 0;
+        for (int cnt = 0; cnt < THROUGHPUT_PERIOD; cnt++) {
+            if (now - throughputSeconds[cnt] < THROUGHPUT_PERIOD) {
+                bytes += throughputBytes[cnt];
+            }
+        }
+        return bytes / THROUGHPUT_PERIOD;
+    }
+
+    /**
+     * Shuts down the scheduler. Any timers that are still scheduled will not run.
+     */
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    /**
+     * Schedules a task to run once after the delay
+     *
+     * @param task the {@link Runnable} to run
+     * @param delay the delay in milliseconds
+     * @return the {@link ScheduledFuture} for the task
+     */
+    ScheduledFuture<?> schedule(Runnable task, long delay) {
+        return executorService.schedule(task, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Schedules a task to run repeatedly at a fixed rate
+     *
+     * @param task the {@link Runnable} to run
+     * @param period the period in milliseconds. The first run is also delayed by the period.
+     * @return the {@link ScheduledFuture} for the task
+     */
+    ScheduledFuture<?> scheduleAtFixedRate(Runnable task, long period) {
+        return executorService.scheduleAtFixedRate(task, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Called by a server when a client requests an image. If the maximum number of active transfers is reached, the
+     * server is queued and will be notified with {@link ZclOtaUpgradeServer#notifyClient()} once a transfer completes.
+     *
+     * @param server the {@link ZclOtaUpgradeServer} requesting to start a transfer
+     * @return true if the transfer may start
+     */
+    synchronized boolean startTransfer(ZclOtaUpgradeServer server) {
+        if (activeTransfers.contains(server)) {
+            return true;
+        }
+        if (maxActiveTransfers > 0 && activeTransfers.size() >= maxActiveTransfers) {
+            logger.debug("OTA transfer queued - {} transfers active", activeTransfers.size());
+            queuedTransfers.add(server);
+            return false;
+        }
+
+        queuedTransfers.remove(server);
+        activeTransfers.add(server);
+        return true;
+    }
+
+    /**
+     * Called by a server when its transfer has completed, failed, or has been cancelled. The server is also removed
+     * from the queue if it is waiting to start a transfer.
+     *
+     * @param server the {@link ZclOtaUpgradeServer} whose transfer has ended
+     */
+    void transferComplete(ZclOtaUpgradeServer server) {
+        List<ZclOtaUpgradeServer> released;
+        synchronized (this) {
+            queuedTransfers.remove(server);
+            if (!activeTransfers.remove(server)) {
+                return;
+            }
+            released = releaseQueuedTransfers();
+        }
+        notifyServers(released);
+    }
+
+    /**
+     * Called by a server each time it sends a block of the image
+     *
+     * @param bytes the number of bytes sent
+     */
+    synchronized void blockSent(int bytes) {
+        bytesTransferred += bytes;
+
+        long second = getSecond();
+        int index = (int) (second % THROUGHPUT_PERIOD);
+        if (throughputSeconds[index] != second) {
+            throughputSeconds[index] = second;
+            throughputBytes[index] = 0;
+        }
+        throughputBytes[index] += bytes;
+    }
+
+    /**
+     * Removes a server from the queue for each free transfer slot
+     *
+     * @return the servers to notify
+     */
+    private List<ZclOtaUpgradeServer> releaseQueuedTransfers() {
+        List<ZclOtaUpgradeServer> released = new ArrayList<>();
+        Iterator<ZclOtaUpgradeServer> iterator = queuedTransfers.iterator();
+        while (iterator.hasNext() && (maxActiveTransfers == 0
+                || activeTransfers.size() + released.size() < maxActiveTransfers)) {
+            released.add(iterator.next());
+            iterator.remove();
+        }
+        return released;
+    }
+
+    /**
+     * Notifies the clients of the servers that they may now request the image
+     *
+     * @param servers the {@link ZclOtaUpgradeServer}s to notify
+     */
+    private void notifyServers(final List<ZclOtaUpgradeServer> servers) {
+        if (servers.isEmpty() || executorService.isShutdown()) {
+            return;
+        }
+        executorService.execute(new Runnable() {
+            @Override
+            public void run() {
+                for (ZclOtaUpgradeServer server : servers) {
+                    server.notifyClient();
+                }
+            }
+        });
+    }
+
+    private long getSecond() {
+        return TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+    }
+}
@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.app.otaserver;
+
+/**
+ * Records the statistics of a single image transfer from a {@link ZclOtaUpgradeServer}. A new instance is created each
+ * time a client starts a transfer.
+ *
+ * @author Chris Jackson
+ */
+public class ZigBeeOtaTransferStatistics {
+    /**
+     * The weighting given to each new round trip time measurement
+     */
+    private static final int ROUND_TRIP_WEIGHT = 8;
+
+    /**
+     * The time the transfer started
+     */
+    private final long startTime;
+
+    /**
+     * The time the last block was sent
+     */
+    private long lastBlockTime;
+
+    /**
+     * The number of image bytes sent
+     */
+    private long bytesSent;
+
+    /**
+     * The number of blocks sent
+     */
+    private int blocksSent;
+
+    /**
+     * The number of blocks that were requested again by the client
+     */
+    private int blocksRepeated;
+
+    /**
+     * The smoothed time between sending a block and the client requesting the next block, or -1 if no measurement has
+     * been made
+     */
+    private long roundTripTime = -1;
+
+    /**
+     * The data size in use by the server
+     */
+    private int dataSize;
+
+    /**
+     * The page response spacing in use by the server
+     */
+    private int responseSpacing;
+
+    ZigBeeOtaTransferStatistics(int dataSize) {
+        startTime = System.currentTimeMillis();
+        this.dataSize = dataSize;
+    }
+
+    synchronized void blockSent(int bytes) {
+        lastBlockTime = System.currentTimeMillis();
+        bytesSent += bytes;
+        blocksSent++;
+    }
+
+    synchronized void blockRepeated(int blocks) {
+        blocksRepeated += blocks;
+    }
+
+    synchronized void roundTripTime(long time) {
+        if (roundTripTime == -1) {
+            roundTripTime = time;
+        } else {
+            roundTripTime += (time - roundTripTime) / ROUND_TRIP_WEIGHT;
+        }
+    }
+
+    synchronized void setDataSize(int dataSize) {
+        this.dataSize = dataSize;
+    }
+
+    synchronized void setResponseSpacing(int responseSpacing) {
+        this.responseSpacing = responseSpacing;
+    }
+
+    /**
+     * Gets the time the transfer started
+     *
+     * @return the start time in milliseconds since the epoch
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Gets the number of image bytes sent to the client
+     *
+     * @return the number of bytes sent
+     */
+    public synchronized long getBytesSent() {
+        return bytesSent;
+    }
+
+    /**
+     * Gets the number of image blocks sent to the client
+     *
+     * @return the number of blocks sent
+     */
+    public synchronized int getBlocksSent() {
+        return blocksSent;
+    }
+
+    /**
+     * Gets the number of blocks that the client requested again, indicating that the block was not received
+     *
+     * @return the number of blocks repeated
+     */
+    public synchronized int getBlocksRepeated() {
+        return blocksRepeated;
+    }
+
+    /**
+     * Gets the smoothed time between sending a block and receiving the request for the next block. This includes any
+     * delay added by the client between requests.
+     *
+     * @return the round trip time in milliseconds, or -1 if no measurement has been made
+     */
+    public synchronized long getRoundTripTime() {
+        return roundTripTime;
+    }
+
+    /**
+     * Gets the maximum data size in each block that is currently in use by the server. The client may request smaller
+     * blocks.
+     *
+     * @return the data size in bytes
+     */
+    public synchronized int getDataSize() {
+        return dataSize;
+    }
+
+    /**
+     * Gets the spacing between blocks sent in response to the last page request
+     *
+     * @return the response spacing in milliseconds
+     */
+    public synchronized int getResponseSpacing() {
+        return responseSpacing;
+    }
+
+    /**
+     * Gets the throughput of the transfer from the start of the transfer until the last block was sent
+     *
+     * @return the throughput in bytes per second
+     */
+    public synchronized long getThroughput() {
+        long period = lastBlockTime - startTime;
+        if (period <= 0) {
+            return 0;
+        }
+        return bytesSent * 1000 / period;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ZigBeeOtaTransferStatistics [bytesSent=" + bytesSent + ", blocksSent=" + blocksSent
+                + ", blocksRepeated=" + blocksRepeated + ", roundTripTime=" + roundTripTime + ", dataSize=" + dataSize
+                + ", responseSpacing=" + responseSpacing + ", throughput=" + getThroughput() + "]";
+    }
+}
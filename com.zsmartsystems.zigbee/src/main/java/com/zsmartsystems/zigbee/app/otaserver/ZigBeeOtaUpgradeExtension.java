@@ -19,17 +19,38 @@ import com.zsmartsystems.zigbee.zcl.clusters.ZclOtaUpgradeCluster;
  * Over The Air Upgrade extension. This provides the top level functionality for the OTA client.
  * <p>
  * It listens for new nodes that are discovered on the network and registers the {@link ZclOtaUpgradeServer} if the
- * device supports OTA.
+ * device supports OTA. All servers registered by the extension share a single {@link ZigBeeOtaScheduler}, which limits
+ * the number of image transfers that are active at once, and provides metrics on the transfers. The servers also share
+ * a {@link ZigBeeOtaImageRepository}, allowing images added to the repository to be provided to all devices without
+ * setting the firmware in each server.
  *
  * @author Chris Jackson
  *
  */
 public class ZigBeeOtaUpgradeExtension implements ZigBeeNetworkExtension, ZigBeeNetworkNodeListener {
+    /**
+     * The default maximum number of image transfers that may be active at once
+     */
+    private static final int DEFAULT_MAX_ACTIVE_TRANSFERS = 5;
+
     private ZigBeeNetworkManager networkManager;
 
+    /**
+     * The scheduler shared by all servers. This is created when the extension is initialised, and shut down with the
+     * extension, so a new scheduler is created if the extension is restarted.
+     */
+    private ZigBeeOtaScheduler scheduler;
+
+    private int maxActiveTransfers = DEFAULT_MAX_ACTIVE_TRANSFERS;
+
+    private final ZigBeeOtaImageRepository imageRepository = new ZigBeeOtaImageRepository();
+
+    private boolean adaptiveTransfer = false;
+
     @Override
     public ZigBeeStatus extensionInitialize(ZigBeeNetworkManager networkManager) {
         this.networkManager = networkManager;
+        scheduler = new ZigBeeOtaScheduler(maxActiveTransfers);
 
         networkManager.addSupportedServerCluster(ZclOtaUpgradeCluster.CLUSTER_ID);
         networkManager.addNetworkNodeListener(this);
@@ -38,12 +59,103 @@ public class ZigBeeOtaUpgradeExtension implements ZigBeeNetworkExtension, ZigBee
 
     @Override
     public ZigBeeStatus extensionStartup() {
+        if (scheduler == null) {
+            // Restarting after the extension was shut down
+            scheduler = new ZigBeeOtaScheduler(maxActiveTransfers);
+            networkManager.addNetworkNodeListener(this);
+        }
         return ZigBeeStatus.SUCCESS;
     }
 
     @Override
     public void extensionShutdown() {
         networkManager.removeNetworkNodeListener(this);
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Gets the {@link ZigBeeOtaImageRepository} used by all servers registered by this extension
+     *
+     * @return the {@link ZigBeeOtaImageRepository}
+     */
+    public ZigBeeOtaImageRepository getImageRepository() {
+        return imageRepository;
+    }
+
+    /**
+     * Enables the adaptive transfer mode in servers registered after this call. See
+     * {@link ZclOtaUpgradeServer#setAdaptiveTransfer(boolean)}.
+     *
+     * @param adaptiveTransfer true to adapt the data size and page response spacing to the link
+     */
+    public void setAdaptiveTransfer(boolean adaptiveTransfer) {
+        this.adaptiveTransfer = adaptiveTransfer;
+    }
+
+    /**
+     * Sets the maximum number of image transfers that may be active at once. Further clients requesting an image are
+     * queued, and are notified once a transfer completes.
+     *
+     * @param maxActiveTransfers the maximum number of transfers that may be active at once, or 0 for no limit
+     */
+    public void setMaxActiveTransfers(int maxActiveTransfers) {
+        this.maxActiveTransfers = maxActiveTransfers;
+        ZigBeeOtaScheduler currentScheduler = scheduler;
+        if (currentScheduler != null) {
+            currentScheduler.setMaxActiveTransfers(maxActiveTransfers);
+        }
+    }
+
+    /**
+     * Gets the maximum number of image transfers that may be active at once
+     *
+     * @return the maximum number of transfers that may be active at once, or 0 if there is no limit
+     */
+    public int getMaxActiveTransfers() {
+        return maxActiveTransfers;
+    }
+
+    /**
+     * Gets the number of image transfers currently in progress
+     *
+     * @return the number of active transfers
+     */
+    public int getActiveTransfers() {
+        ZigBeeOtaScheduler currentScheduler = scheduler;
+        return currentScheduler == null ? 0 : currentScheduler.getActiveTransfers();
+    }
+
+    /**
+     * Gets the number of clients waiting to start an image transfer
+     *
+     * @return the number of queued transfers
+     */
+    public int getQueuedTransfers() {
+        ZigBeeOtaScheduler currentScheduler = scheduler;
+        return currentScheduler == null ? 0 : currentScheduler.getQueuedTransfers();
+    }
+
+    /**
+     * Gets the total number of image bytes sent to all clients
+     *
+     * @return the number of bytes sent
+     */
+    public long getBytesTransferred() {
+        ZigBeeOtaScheduler currentScheduler = scheduler;
+        return currentScheduler == null ? 0 : currentScheduler.getBytesTransferred();
+    }
+
+    /**
+     * Gets the recent throughput of all image transfers
+     *
+     * @return the throughput in bytes per second
+     */
+    public long getThroughput() {
+        ZigBeeOtaScheduler currentScheduler = scheduler;
+        return currentScheduler == null ? 0 : currentScheduler.getThroughput();
     }
 
     @Override
@@ -67,7 +179,10 @@ public class ZigBeeOtaUpgradeExtension implements ZigBeeNetworkExtension, ZigBee
          */
         for (ZigBeeEndpoint endpoint : node.getEndpoints()) {
             if (endpoint.getOutputCluster(ZclOtaUpgradeCluster.CLUSTER_ID) != null) {
-                endpoint.addApplication(new ZclOtaUpgradeServer());
+                ZclOtaUpgradeServer server = new ZclOtaUpgradeServer(scheduler);
+                server.setImageRepository(imageRepository);
+                server.setAdaptiveTransfer(adaptiveTransfer);
+                endpoint.addApplication(server);
                 break;
             }
         }
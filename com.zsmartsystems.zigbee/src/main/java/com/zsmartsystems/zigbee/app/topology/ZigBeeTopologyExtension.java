@@ -0,0 +1,328 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.app.topology;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.ZigBeeCommand;
+import com.zsmartsystems.zigbee.ZigBeeCommandListener;
+import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
+import com.zsmartsystems.zigbee.ZigBeeNetworkNodeListener;
+import com.zsmartsystems.zigbee.ZigBeeNode;
+import com.zsmartsystems.zigbee.ZigBeeStatus;
+import com.zsmartsystems.zigbee.app.ZigBeeNetworkExtension;
+import com.zsmartsystems.zigbee.zdo.ZdoStatus;
+import com.zsmartsystems.zigbee.zdo.command.ManagementLqiResponse;
+import com.zsmartsystems.zigbee.zdo.command.ManagementRoutingResponse;
+import com.zsmartsystems.zigbee.zdo.field.NeighborTable;
+import com.zsmartsystems.zigbee.zdo.field.RoutingTable;
+
+/**
+ * This class implements a {@link ZigBeeNetworkExtension} to maintain a {@link ZigBeeTopologyGraph} of the network.
+ * <p>
+ * The extension listens for the {@link ManagementLqiResponse} and {@link ManagementRoutingResponse} received from the
+ * network, so the graph is updated whenever any part of the system reads a neighbor or routing table - for example the
+ * mesh update in the discovery extension. Tables that are split over multiple responses are combined, and the graph is
+ * only updated once the complete table has been received. The extension does not send any requests itself.
+ * <p>
+ * When the extension starts, the graph is populated with the neighbors and routes already known by each
+ * {@link ZigBeeNode}, and nodes are removed from the graph when they are removed from the network. If the network
+ * address of a node changes, the entries for the old address are removed and the node is added at its new address.
+ * <p>
+ * Changes to the topology are notified to registered {@link ZigBeeTopologyListener}s.
+ *
+ * @author Chris Jackson
+ */
+public class ZigBeeTopologyExtension
+        implements ZigBeeNetworkExtension, ZigBeeCommandListener, ZigBeeNetworkNodeListener {
+    /**
+     * The logger.
+     */
+    private final Logger logger = LoggerFactory.getLogger(ZigBeeTopologyExtension.class);
+
+    private ZigBeeNetworkManager networkManager;
+
+    private final ZigBeeTopologyGraph topology;
+
+    private final Set<ZigBeeTopologyListener> topologyListeners = new CopyOnWriteArraySet<>();
+
+    /**
+     * Neighbor tables that have been partially received, indexed by the network address of the reporting node
+     */
+    private final Map<Integer, List<NeighborTable>> pendingNeighbors = new HashMap<>();
+
+    /**
+     * Routing tables that have been partially received, indexed by the network address of the reporting node
+     */
+    private final Map<Integer, List<RoutingTable>> pendingRoutes = new HashMap<>();
+
+    /**
+     * The network address of each node, used to detect when the network address of a node changes
+     */
+    private final Map<IeeeAddress, Integer> nodeAddresses = new HashMap<>();
+
+    private boolean extensionStarted = false;
+
+    /**
+     * Creates the topology extension
+     */
+    public ZigBeeTopologyExtension() {
+        topology = new ZigBeeTopologyGraph(new ZigBeeTopologyListener() {
+            @Override
+            public void linkAdded(final ZigBeeTopologyLink link) {
+                for (final ZigBeeTopologyListener listener : topologyListeners) {
+                    networkManager.getNotificationService().execute(listener, new Runnable() {
+                        @Override
+                        public void run() {
+                            listener.linkAdded(link);
+                        }
+                    });
+                }
+            }
+
+            @Override
+            public void linkUpdated(final ZigBeeTopologyLink previousLink, final ZigBeeTopologyLink link) {
+                for (final ZigBeeTopologyListener listener : topologyListeners) {
+                    networkManager.getNotificationService().execute(listener, new Runnable() {
+                        @Override
+                        public void run() {
+                            listener.linkUpdated(previousLink, link);
+                        }
+                    });
+                }
+            }
+
+            @Override
+            public void linkRemoved(final ZigBeeTopologyLink link) {
+                for (final ZigBeeTopologyListener listener : topologyListeners) {
+                    networkManager.getNotificationService().execute(listener, new Runnable() {
+                        @Override
+                        public void run() {
+                            listener.linkRemoved(link);
+                        }
+                    });
+                }
+            }
+
+            @Override
+            public void routeChanged(final int sourceAddress, final int destinationAddress,
+                    final Integer previousNextHop, final Integer nextHop) {
+                for (final ZigBeeTopologyListener listener : topologyListeners) {
+                    networkManager.getNotificationService().execute(listener, new Runnable() {
+                        @Override
+                        public void run() {
+                            listener.routeChanged(sourceAddress, destinationAddress, previousNextHop, nextHop);
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    @Override
+    public ZigBeeStatus extensionInitialize(ZigBeeNetworkManager networkManager) {
+        this.networkManager = networkManager;
+        return ZigBeeStatus.SUCCESS;
+    }
+
+    @Override
+    public ZigBeeStatus extensionStartup() {
+        if (extensionStarted) {
+            logger.debug("TOPOLOGY Extension: Already started");
+            return ZigBeeStatus.INVALID_STATE;
+        }
+        logger.debug("TOPOLOGY Extension: Startup");
+
+        for (ZigBeeNode node : networkManager.getNodes()) {
+            if (node.getNetworkAddress() == null) {
+                continue;
+            }
+            synchronized (this) {
+                nodeAddresses.put(node.getIeeeAddress(), node.getNetworkAddress());
+            }
+            topology.updateNeighbors(node.getNetworkAddress(), node.getNeighbors());
+            topology.updateRoutes(node.getNetworkAddress(), node.getRoutes());
+        }
+
+        networkManager.addCommandListener(this);
+        networkManager.addNetworkNodeListener(this);
+
+        extensionStarted = true;
+        return ZigBeeStatus.SUCCESS;
+    }
+
+    @Override
+    public void extensionShutdown() {
+        networkManager.removeCommandListener(this);
+        networkManager.removeNetworkNodeListener(this);
+
+        synchronized (this) {
+            pendingNeighbors.clear();
+            pendingRoutes.clear();
+            nodeAddresses.clear();
+        }
+
+        extensionStarted = false;
+        logger.debug("TOPOLOGY Extension: Shutdown");
+    }
+
+    /**
+     * Gets the {@link ZigBeeTopologyGraph} maintained by the extension
+     *
+     * @return the {@link ZigBeeTopologyGraph}
+     */
+    public ZigBeeTopologyGraph getTopology() {
+        return topology;
+    }
+
+    /**
+     * Adds a {@link ZigBeeTopologyListener} to be notified of changes to the topology
+     *
+     * @param listener the {@link ZigBeeTopologyListener} to add
+     */
+    public void addTopologyListener(ZigBeeTopologyListener listener) {
+        if (listener == null) {
+            return;
+        }
+        topologyListeners.add(listener);
+    }
+
+    /**
+     * Removes a {@link ZigBeeTopologyListener}
+     *
+     * @param listener the {@link ZigBeeTopologyListener} to remove
+     */
+    public void removeTopologyListener(ZigBeeTopologyListener listener) {
+        topologyListeners.remove(listener);
+    }
+
+    @Override
+    public void commandReceived(ZigBeeCommand command) {
+        if (command instanceof ManagementLqiResponse) {
+            handleNeighbors((ManagementLqiResponse) command);
+        } else if (command instanceof ManagementRoutingResponse) {
+            handleRoutes((ManagementRoutingResponse) command);
+        }
+    }
+
+    @Override
+    public void nodeAdded(ZigBeeNode node) {
+        nodeUpdated(node);
+    }
+
+    @Override
+    public void nodeUpdated(ZigBeeNode node) {
+        Integer networkAddress = node.getNetworkAddress();
+        if (networkAddress == null) {
+            return;
+        }
+        Integer previousAddress;
+        synchronized (this) {
+            previousAddress = nodeAddresses.put(node.getIeeeAddress(), networkAddress);
+            if (previousAddress == null || previousAddress.equals(networkAddress)) {
+                return;
+            }
+            pendingNeighbors.remove(previousAddress);
+            pendingRoutes.remove(previousAddress);
+        }
+
+        logger.debug("{}: Topology node address changed from {} to {}", node.getIeeeAddress(),
+                String.format("%04X", previousAddress), String.format("%04X", networkAddress));
+        topology.removeNode(previousAddress);
+        topology.updateNeighbors(networkAddress, node.getNeighbors());
+        topology.updateRoutes(networkAddress, node.getRoutes());
+    }
+
+    @Override
+    public void nodeRemoved(ZigBeeNode node) {
+        Integer networkAddress;
+        synchronized (this) {
+            networkAddress = nodeAddresses.remove(node.getIeeeAddress());
+            if (networkAddress == null) {
+                networkAddress = node.getNetworkAddress();
+            }
+            if (networkAddress == null) {
+                return;
+            }
+            pendingNeighbors.remove(networkAddress);
+            pendingRoutes.remove(networkAddress);
+        }
+        topology.removeNode(networkAddress);
+    }
+
+    private void handleNeighbors(ManagementLqiResponse response) {
+        if (response.getStatus() != ZdoStatus.SUCCESS || response.getStartIndex() == null
+                || response.getNeighborTableEntries() == null || response.getNeighborTableList() == null) {
+            return;
+        }
+
+        List<NeighborTable> neighbors = assembleTable(pendingNeighbors, response.getSourceAddress().getAddress(),
+                response.getStartIndex(), response.getNeighborTableEntries(), response.getNeighborTableList());
+        if (neighbors != null) {
+            topology.updateNeighbors(response.getSourceAddress().getAddress(), neighbors);
+        }
+    }
+
+    private void handleRoutes(ManagementRoutingResponse response) {
+        if (response.getStatus() != ZdoStatus.SUCCESS || response.getStartIndex() == null
+                || response.getRoutingTableEntries() == null || response.getRoutingTableList() == null) {
+            return;
+        }
+
+        List<RoutingTable> routes = assembleTable(pendingRoutes, response.getSourceAddress().getAddress(),
+                response.getStartIndex(), response.getRoutingTableEntries(), response.getRoutingTableList());
+        if (routes != null) {
+            topology.updateRoutes(response.getSourceAddress().getAddress(), routes);
+        }
+    }
+
+    /**
+     * Adds a page of a table to the table being assembled for a node. A page starting at index 0 starts a new table,
+     * and pages that don't follow on from the previous page are discarded.
+     *
+     * @param pending the map of partially received tables
+     * @param sourceAddress the network address of the reporting node
+     * @param startIndex the index of the first entry in the page
+     * @param totalEntries the total number of entries in the table
+     * @param entries the entries in the page
+     * @return the complete table if this page completes the table, otherwise null
+     */
+    private synchronized <T> List<T> assembleTable(Map<Integer, List<T>> pending, int sourceAddress, int startIndex,
+            int totalEntries, List<T> entries) {
+        List<T> table;
+        if (startIndex == 0) {
+            table = new ArrayList<>();
+        } else {
+            table = pending.get(sourceAddress);
+            if (table == null || table.size() != startIndex) {
+                logger.debug("{}: Topology table page at index {} discarded", String.format("%04X", sourceAddress),
+                        startIndex);
+                pending.remove(sourceAddress);
+                return null;
+            }
+        }
+
+        table.addAll(entries);
+        if (entries.isEmpty() || table.size() >= totalEntries) {
+            pending.remove(sourceAddress);
+            return table;
+        }
+
+        pending.put(sourceAddress, table);
+        return null;
+    }
+}
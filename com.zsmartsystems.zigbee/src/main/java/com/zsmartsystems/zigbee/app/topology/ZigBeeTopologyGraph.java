@@ -0,0 +1,720 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.app.topology;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.zsmartsystems.zigbee.zdo.field.NeighborTable;
+import com.zsmartsystems.zigbee.zdo.field.RoutingTable;
+
+/**
+ * Maintains a graph of the network mesh from the neighbor and routing tables reported by each node.
+ * <p>
+ * The graph is updated incrementally - when a node reports its neighbor or routing table, it is compared with the
+ * previous table from the same node and only the differences are applied and notified to the
+ * {@link ZigBeeTopologyListener}. Small changes in LQI, below {@link #setLqiChangeThreshold(int)}, are recorded but not
+ * notified, so that normal fluctuations in link quality don't generate a constant stream of changes. Links are compared
+ * with the link that was last notified, so a gradual change is notified once it exceeds the threshold.
+ * <p>
+ * The links reported by each node are combined into an undirected graph. Where both nodes report the link, the lower
+ * LQI is used. Each link is given a cost from 1 to {@value #MAX_LINK_COST} based on its LQI, in the same way that the
+ * ZigBee network layer calculates the link cost, and the depth of the nodes is used to choose between paths of equal
+ * cost and quality.
+ * <p>
+ * Queries for the best path, single points of failure, and nodes behind weak links are answered from an analysis of the
+ * graph that is rebuilt when the first query is made after the graph has changed. The analysis takes linear time in the
+ * size of the graph, and the queries themselves only take time proportional to the size of the result.
+ * <p>
+ * This class is thread safe. Listeners are called from the thread that updates the graph, once the graph is updated.
+ *
+ * @author Chris Jackson
+ */
+public class ZigBeeTopologyGraph {
+    /**
+     * The network address of the coordinator. All paths are calculated from the coordinator.
+     */
+    public static final int COORDINATOR_ADDRESS = 0x0000;
+
+    /**
+     * The maximum cost of a single link
+     */
+    public static final int MAX_LINK_COST = 7;
+
+    /**
+     * The default change in LQI required before a link update is notified
+     */
+    private static final int DEFAULT_LQI_CHANGE_THRESHOLD = 10;
+
+    /**
+     * The maximum number of hops followed when tracing a route
+     */
+    private static final int MAX_ROUTE_HOPS = 30;
+
+    private final ZigBeeTopologyListener listener;
+
+    /**
+     * The links reported by each node, indexed by the source address and then the destination address
+     */
+    private final Map<Integer, Map<Integer, ZigBeeTopologyLink>> links = new HashMap<>();
+
+    /**
+     * The links as they were last notified to the listener, indexed by the source address and then the destination
+     * address. This holds the same links as {@link #links}, but a link is only replaced when a significant change is
+     * notified.
+     */
+    private final Map<Integer, Map<Integer, ZigBeeTopologyLink>> notifiedLinks = new HashMap<>();
+
+    /**
+     * The routes reported by each node, indexed by the source address and then the destination address. The value is
+     * the next hop address.
+     */
+    private final Map<Integer, Map<Integer, Integer>> routes = new HashMap<>();
+
+    /**
+     * The latest depth reported for each node by any of its neighbors
+     */
+    private final Map<Integer, Integer> depths = new HashMap<>();
+
+    /**
+     * The analysis of the current graph, or null if the graph has changed since the analysis was made
+     */
+    private Analysis analysis;
+
+    private int lqiChangeThreshold = DEFAULT_LQI_CHANGE_THRESHOLD;
+
+    /**
+     * Creates a topology graph
+     *
+     * @param listener the {@link ZigBeeTopologyListener} to notify of changes, or null if changes don't need to be
+     *            notified
+     */
+    public ZigBeeTopologyGraph(ZigBeeTopologyListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Sets the change in LQI required before a change is notified, and the paths are recalculated
+     *
+     * @param lqiChangeThreshold the minimum change in LQI to notify
+     */
+    public synchronized void setLqiChangeThreshold(int lqiChangeThreshold) {
+        this.lqiChangeThreshold = lqiChangeThreshold;
+    }
+
+    /**
+     * Updates the neighbors reported by a node. This should be the complete neighbor table of the node - any
+     * neighbors previously reported by the node that are not in the table are removed.
+     *
+     * @param sourceAddress the network address of the node reporting the neighbors
+     * @param neighbors the complete {@link NeighborTable} of the node
+     */
+    public void updateNeighbors(int sourceAddress, Collection<NeighborTable> neighbors) {
+        List<ZigBeeTopologyLink[]> changes = new ArrayList<>();
+        synchronized (this) {
+            Map<Integer, ZigBeeTopologyLink> previousLinks = getLinkMap(links, sourceAddress);
+            Map<Integer, ZigBeeTopologyLink> previousNotifiedLinks = getLinkMap(notifiedLinks, sourceAddress);
+            boolean changed = false;
+
+            Map<Integer, ZigBeeTopologyLink> newLinks = new HashMap<>();
+            Map<Integer, ZigBeeTopologyLink> newNotifiedLinks = new HashMap<>();
+            for (NeighborTable neighbor : neighbors) {
+                if (neighbor.getNetworkAddress() == null || neighbor.getNetworkAddress() == sourceAddress) {
+                    continue;
+                }
+                ZigBeeTopologyLink link = new ZigBeeTopologyLink(sourceAddress, neighbor);
+                if (link.getDepth() >= 0) {
+                    Integer previousDepth = depths.put(link.getDestinationAddress(), link.getDepth());
+                    changed |= previousDepth == null || previousDepth != link.getDepth();
+                }
+                changed |= !link.equals(previousLinks.get(link.getDestinationAddress()));
+
+                ZigBeeTopologyLink notifiedLink = previousNotifiedLinks.get(link.getDestinationAddress());
+                if (notifiedLink == null) {
+                    changes.add(new ZigBeeTopologyLink[] { null, link });
+                    notifiedLink = link;
+                } else if (isSignificantChange(notifiedLink, link)) {
+                    changes.add(new ZigBeeTopologyLink[] { notifiedLink, link });
+                    notifiedLink = link;
+                }
+                newLinks.put(link.getDestinationAddress(), link);
+                newNotifiedLinks.put(link.getDestinationAddress(), notifiedLink);
+            }
+            for (ZigBeeTopologyLink notifiedLink : previousNotifiedLinks.values()) {
+                if (!newLinks.containsKey(notifiedLink.getDestinationAddress())) {
+                    changes.add(new ZigBeeTopologyLink[] { notifiedLink, null });
+                    changed = true;
+                }
+            }
+
+            if (newLinks.isEmpty()) {
+                links.remove(sourceAddress);
+                notifiedLinks.remove(sourceAddress);
+            } else {
+                links.put(sourceAddress, newLinks);
+                notifiedLinks.put(sourceAddress, newNotifiedLinks);
+            }
+
+            // Changes below the notification threshold still change the link quality used in the analysis
+            if (changed) {
+                analysis = null;
+            }
+        }
+
+        notifyLinkChanges(changes);
+    }
+
+    private Map<Integer, ZigBeeTopologyLink> getLinkMap(Map<Integer, Map<Integer, ZigBeeTopologyLink>> linkMaps,
+            int sourceAddress) {
+        Map<Integer, ZigBeeTopologyLink> linkMap = linkMaps.get(sourceAddress);
+        if (linkMap == null) {
+            return Collections.emptyMap();
+        }
+        return linkMap;
+    }
+
+    /**
+     * Updates the routes reported by a node. This should be the complete routing table of the node - any routes
+     * previously reported by the node that are not in the table are removed. Only active routes are used.
+     *
+     * @param sourceAddress the network address of the node reporting the routes
+     * @param routingTable the complete {@link RoutingTable} of the node
+     */
+    public void updateRoutes(int sourceAddress, Collection<RoutingTable> routingTable) {
+        List<Integer[]> changes = new ArrayList<>();
+        synchronized (this) {
+            Map<Integer, Integer> previousRoutes = routes.get(sourceAddress);
+            if (previousRoutes == null) {
+                previousRoutes = Collections.emptyMap();
+            }
+
+            Map<Integer, Integer> newRoutes = new HashMap<>();
+            for (RoutingTable route : routingTable) {
+                if (route.getStatus() != RoutingTable.DiscoveryState.ACTIVE || route.getDestinationAddress() == null
+                        || route.getNextHopAddress() == null) {
+                    continue;
+                }
+                Integer previousNextHop = previousRoutes.get(route.getDestinationAddress());
+                if (!route.getNextHopAddress().equals(previousNextHop)) {
+                    changes.add(new Integer[] { route.getDestinationAddress(), previousNextHop,
+                            route.getNextHopAddress() });
+                }
+                newRoutes.put(route.getDestinationAddress(), route.getNextHopAddress());
+            }
+            for (Map.Entry<Integer, Integer> previousRoute : previousRoutes.entrySet()) {
+                if (!newRoutes.containsKey(previousRoute.getKey())) {
+                    changes.add(new Integer[] { previousRoute.getKey(), previousRoute.getValue(), null });
+                }
+            }
+
+            if (newRoutes.isEmpty()) {
+                routes.remove(sourceAddress);
+            } else {
+                routes.put(sourceAddress, newRoutes);
+            }
+        }
+
+        if (listener == null) {
+            return;
+        }
+        for (Integer[] change : changes) {
+            listener.routeChanged(sourceAddress, change[0], change[1], change[2]);
+        }
+    }
+
+    /**
+     * Removes a node from the graph. All links reported by the node, and all links to the node reported by other
+     * nodes, are removed along with the routes reported by the node.
+     *
+     * @param networkAddress the network address of the node to remove
+     */
+    public void removeNode(int networkAddress) {
+        List<ZigBeeTopologyLink[]> changes = new ArrayList<>();
+        Map<Integer, Integer> removedRoutes;
+        synchronized (this) {
+            links.remove(networkAddress);
+            Map<Integer, ZigBeeTopologyLink> nodeLinks = notifiedLinks.remove(networkAddress);
+            if (nodeLinks != null) {
+                for (ZigBeeTopologyLink link : nodeLinks.values()) {
+                    changes.add(new ZigBeeTopologyLink[] { link, null });
+                }
+            }
+            for (Map<Integer, ZigBeeTopologyLink> neighborLinks : links.values()) {
+                neighborLinks.remove(networkAddress);
+            }
+            for (Map<Integer, ZigBeeTopologyLink> neighborLinks : notifiedLinks.values()) {
+                ZigBeeTopologyLink link = neighborLinks.remove(networkAddress);
+                if (link != null) {
+                    changes.add(new ZigBeeTopologyLink[] { link, null });
+                }
+            }
+            boolean removedDepth = depths.remove(networkAddress) != null;
+            removedRoutes = routes.remove(networkAddress);
+
+            if (!changes.isEmpty() || removedDepth) {
+                analysis = null;
+            }
+        }
+
+        notifyLinkChanges(changes);
+        if (listener != null && removedRoutes != null) {
+            for (Map.Entry<Integer, Integer> route : removedRoutes.entrySet()) {
+                listener.routeChanged(networkAddress, route.getKey(), route.getValue(), null);
+            }
+        }
+    }
+
+    /**
+     * Gets the links reported by a node
+     *
+     * @param networkAddress the network address of the node
+     * @return the {@link ZigBeeTopologyLink}s reported by the node
+     */
+    public synchronized Collection<ZigBeeTopologyLink> getLinks(int networkAddress) {
+        Map<Integer, ZigBeeTopologyLink> nodeLinks = links.get(networkAddress);
+        if (nodeLinks == null) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(nodeLinks.values());
+    }
+
+    /**
+     * Gets the routes reported by a node
+     *
+     * @param networkAddress the network address of the node
+     * @return map of the next hop address, indexed by the destination address
+     */
+    public synchronized Map<Integer, Integer> getRoutes(int networkAddress) {
+        Map<Integer, Integer> nodeRoutes = routes.get(networkAddress);
+        if (nodeRoutes == null) {
+            return Collections.emptyMap();
+        }
+        return new HashMap<>(nodeRoutes);
+    }
+
+    /**
+     * Gets the network addresses of all nodes in the graph. This includes nodes that have not reported any neighbors,
+     * but are reported as a neighbor of another node.
+     *
+     * @return the set of network addresses of the nodes in the graph
+     */
+    public synchronized Set<Integer> getNodes() {
+        Analysis current = getAnalysis();
+        Set<Integer> nodes = new HashSet<>();
+        for (int address : current.addresses) {
+            nodes.add(address);
+        }
+        return nodes;
+    }
+
+    /**
+     * Gets the best path from the coordinator to a node. The best path has the lowest total link cost, and where
+     * multiple paths have the same cost, the path with the highest minimum LQI is used.
+     *
+     * @param networkAddress the network address of the node
+     * @return the list of network addresses on the path, starting with the coordinator and ending with the node. If
+     *         the node can not be reached from the coordinator, an empty list is returned.
+     */
+    public synchronized List<Integer> getBestPath(int networkAddress) {
+        Analysis current = getAnalysis();
+        Integer index = current.indexes.get(networkAddress);
+        if (index == null || current.cost[index] == Integer.MAX_VALUE) {
+            return Collections.emptyList();
+        }
+
+        LinkedList<Integer> path = new LinkedList<>();
+        for (int node = index; node != -1; node = current.parent[node]) {
+            path.addFirst(current.addresses[node]);
+        }
+        return path;
+    }
+
+    /**
+     * Gets the total link cost of the best path from the coordinator to a node
+     *
+     * @param networkAddress the network address of the node
+     * @return the cost of the best path, or -1 if the node can not be reached from the coordinator
+     */
+    public synchronized int getPathCost(int networkAddress) {
+        Analysis current = getAnalysis();
+        Integer index = current.indexes.get(networkAddress);
+        if (index == null || current.cost[index] == Integer.MAX_VALUE) {
+            return -1;
+        }
+        return current.cost[index];
+    }
+
+    /**
+     * Gets the nodes which are single points of failure in the mesh. If any of these nodes fails, some other nodes will
+     * no longer have any path to the coordinator. The coordinator itself is not included.
+     *
+     * @return the set of network addresses of the nodes that are single points of failure
+     */
+    public synchronized Set<Integer> getSinglePointsOfFailure() {
+        return new HashSet<>(getAnalysis().singlePointsOfFailure);
+    }
+
+    /**
+     * Gets the nodes whose best path from the coordinator includes a link with an LQI below the threshold. These nodes
+     * are likely to suffer from poor communications, and may benefit from route repair or from a router being added
+     * closer to them.
+     *
+     * @param lqiThreshold the LQI below which a link is considered weak
+     * @return the set of network addresses of the nodes behind a weak link
+     */
+    public synchronized Set<Integer> getNodesBehindWeakLink(int lqiThreshold) {
+        Analysis current = getAnalysis();
+        Set<Integer> nodes = new HashSet<>();
+
+        // Nodes are sorted by the weakest link on their path, so stop at the first node that is above the threshold
+        for (int index : current.byPathLqi) {
+            if (current.pathLqi[index] >= lqiThreshold) {
+                break;
+            }
+            nodes.add(current.addresses[index]);
+        }
+        return nodes;
+    }
+
+    /**
+     * Traces the route from a node to a destination using the routing tables reported by each node on the route.
+     *
+     * @param sourceAddress the network address of the node the route starts from
+     * @param destinationAddress the network address of the destination
+     * @return the list of network addresses on the route, starting with the source and ending with the destination. If
+     *         the route is not known, or contains a loop, an empty list is returned.
+     */
+    public synchronized List<Integer> getRoute(int sourceAddress, int destinationAddress) {
+        List<Integer> route = new ArrayList<>();
+        route.add(sourceAddress);
+        int hop = sourceAddress;
+        while (hop != destinationAddress) {
+            Map<Integer, Integer> hopRoutes = routes.get(hop);
+            Integer nextHop = hopRoutes == null ? null : hopRoutes.get(destinationAddress);
+            if (nextHop == null || route.contains(nextHop) || route.size() > MAX_ROUTE_HOPS) {
+                return Collections.emptyList();
+            }
+            route.add(nextHop);
+            hop = nextHop;
+        }
+        return route;
+    }
+
+    /**
+     * Gets the link cost for an LQI. This follows the ZigBee network layer, where the cost is derived from the
+     * probability of delivering a packet on the link.
+     *
+     * @param lqi the link quality indicator, from 0 to 255
+     * @return the link cost, from 1 to {@value #MAX_LINK_COST}
+     */
+    static int getLinkCost(int lqi) {
+        if (lqi <= 0) {
+            return MAX_LINK_COST;
+        }
+        double probability = Math.min(lqi, 255) / 255.0;
+        double cost = 1 / (probability * probability * probability * probability);
+        return (int) Math.max(1, Math.min(MAX_LINK_COST, Math.round(cost)));
+    }
+
+    private boolean isSignificantChange(ZigBeeTopologyLink previousLink, ZigBeeTopologyLink link) {
+        return previousLink.getDepth() != link.getDepth() || previousLink.getRelationship() != link.getRelationship()
+                || Math.abs(previousLink.getLqi() - link.getLqi()) >= lqiChangeThreshold
+                || getLinkCost(previousLink.getLqi()) != getLinkCost(link.getLqi());
+    }
+
+    private void notifyLinkChanges(List<ZigBeeTopologyLink[]> changes) {
+        if (listener == null) {
+            return;
+        }
+        for (ZigBeeTopologyLink[] change : changes) {
+            if (change[0] == null) {
+                listener.linkAdded(change[1]);
+            } else if (change[1] == null) {
+                listener.linkRemoved(change[0]);
+            } else {
+                listener.linkUpdated(change[0], change[1]);
+            }
+        }
+    }
+
+    private Analysis getAnalysis() {
+        if (analysis == null) {
+            analysis = new Analysis();
+        }
+        return analysis;
+    }
+
+    /**
+     * An analysis of the graph at a point in time. The graph is converted to a compact adjacency array, and the best
+     * paths from the coordinator and the articulation points are calculated.
+     */
+    private class Analysis {
+        /**
+         * The network address of each node, indexed by the node index
+         */
+        private final int[] addresses;
+
+        /**
+         * The node index of each network address
+         */
+        private final Map<Integer, Integer> indexes = new HashMap<>();
+
+        /**
+         * The start of the adjacency list for each node in {@link #adjacentNodes}. The list for node n is from
+         * adjacencyStart[n] to adjacencyStart[n + 1].
+         */
+        private final int[] adjacencyStart;
+        private final int[] adjacentNodes;
+        private final int[] adjacentLqi;
+
+        /**
+         * The cost of the best path from the coordinator to each node, or {@link Integer#MAX_VALUE} if the node can't
+         * be reached
+         */
+        private final int[] cost;
+
+        /**
+         * The previous node on the best path from the coordinator, or -1 for the coordinator and unreachable nodes
+         */
+        private final int[] parent;
+
+        /**
+         * The lowest LQI of any link on the best path from the coordinator
+         */
+        private final int[] pathLqi;
+
+        /**
+         * The reachable nodes, sorted by {@link #pathLqi}
+         */
+        private final int[] byPathLqi;
+
+        private final Set<Integer> singlePointsOfFailure = new HashSet<>();
+
+        Analysis() {
+            // Assign an index to every node in the graph, with the coordinator first
+            List<Integer> nodeList = new ArrayList<>();
+            addNode(nodeList, COORDINATOR_ADDRESS);
+            for (Map.Entry<Integer, Map<Integer, ZigBeeTopologyLink>> nodeLinks : links.entrySet()) {
+                addNode(nodeList, nodeLinks.getKey());
+                for (Integer destination : nodeLinks.getValue().keySet()) {
+                    addNode(nodeList, destination);
+                }
+            }
+            int nodeCount = nodeList.size();
+            addresses = new int[nodeCount];
+            for (int index = 0; index < nodeCount; index++) {
+                addresses[index] = nodeList.get(index);
+            }
+
+            // Build the undirected edges, using the lowest LQI where both nodes report the link
+            List<int[]> edges = new ArrayList<>();
+            int[] degree = new int[nodeCount];
+            for (Map.Entry<Integer, Map<Integer, ZigBeeTopologyLink>> nodeLinks : links.entrySet()) {
+                int source = nodeLinks.getKey();
+                for (ZigBeeTopologyLink link : nodeLinks.getValue().values()) {
+                    int destination = link.getDestinationAddress();
+                    Map<Integer, ZigBeeTopologyLink> reverseLinks = links.get(destination);
+                    ZigBeeTopologyLink reverse = reverseLinks == null ? null : reverseLinks.get(source);
+                    int lqi = link.getLqi();
+                    if (reverse != null) {
+                        // Only add the link once
+                        if (source > destination) {
+                            continue;
+                        }
+                        lqi = Math.min(lqi, reverse.getLqi());
+                    }
+                    int sourceIndex = indexes.get(source);
+                    int destinationIndex = indexes.get(destination);
+                    edges.add(new int[] { sourceIndex, destinationIndex, lqi });
+                    degree[sourceIndex]++;
+                    degree[destinationIndex]++;
+                }
+            }
+
+            adjacencyStart = new int[nodeCount + 1];
+            for (int index = 0; index < nodeCount; index++) {
+                adjacencyStart[index + 1] = adjacencyStart[index] + degree[index];
+            }
+            adjacentNodes = new int[adjacencyStart[nodeCount]];
+            adjacentLqi = new int[adjacencyStart[nodeCount]];
+            int[] position = Arrays.copyOf(adjacencyStart, nodeCount);
+            for (int[] edge : edges) {
+                adjacentNodes[position[edge[0]]] = edge[1];
+                adjacentLqi[position[edge[0]]++] = edge[2];
+                adjacentNodes[position[edge[1]]] = edge[0];
+                adjacentLqi[position[edge[1]]++] = edge[2];
+            }
+
+            cost = new int[nodeCount];
+            parent = new int[nodeCount];
+            pathLqi = new int[nodeCount];
+            calculatePaths();
+            byPathLqi = sortByPathLqi();
+            calculateArticulationPoints();
+        }
+
+        private void addNode(List<Integer> nodeList, int address) {
+            if (!indexes.containsKey(address)) {
+                indexes.put(address, nodeList.size());
+                nodeList.add(address);
+            }
+        }
+
+        private int getDepth(int index) {
+            Integer depth = depths.get(addresses[index]);
+            return depth == null ? Integer.MAX_VALUE : depth;
+        }
+
+        /**
+         * Finds the best path from the coordinator to every node. Link costs are small integers, so this uses a bucket
+         * queue with one bucket for each possible cost within {@value #MAX_LINK_COST} of the current cost, which takes
+         * linear time in the size of the graph.
+         */
+        private void calculatePaths() {
+            int nodeCount = addresses.length;
+            Arrays.fill(cost, Integer.MAX_VALUE);
+            Arrays.fill(parent, -1);
+            boolean[] settled = new boolean[nodeCount];
+
+            // Each bucket is a linked list of nodes through bucketNext. A node may be queued more than once.
+            int buckets = MAX_LINK_COST + 1;
+            int[] bucketHead = new int[buckets];
+            Arrays.fill(bucketHead, -1);
+            int[] entryNode = new int[adjacentNodes.length + 1];
+            int[] entryNext = new int[adjacentNodes.length + 1];
+            int entries = 0;
+
+            cost[0] = 0;
+            pathLqi[0] = 255;
+            entryNode[entries] = 0;
+            entryNext[entries] = -1;
+            bucketHead[0] = entries++;
+            int queued = 1;
+
+            for (int currentCost = 0; queued > 0; currentCost++) {
+                int bucket = currentCost % buckets;
+                while (bucketHead[bucket] != -1) {
+                    int entry = bucketHead[bucket];
+                    bucketHead[bucket] = entryNext[entry];
+                    queued--;
+
+                    int node = entryNode[entry];
+                    if (settled[node] || cost[node] != currentCost) {
+                        continue;
+                    }
+                    settled[node] = true;
+
+                    for (int adjacent = adjacencyStart[node]; adjacent < adjacencyStart[node + 1]; adjacent++) {
+                        int neighbor = adjacentNodes[adjacent];
+                        if (settled[neighbor]) {
+                            continue;
+                        }
+                        int neighborCost = currentCost + getLinkCost(adjacentLqi[adjacent]);
+                        int neighborLqi = Math.min(pathLqi[node], adjacentLqi[adjacent]);
+                        if (neighborCost < cost[neighbor] || (neighborCost == cost[neighbor]
+                                && (neighborLqi > pathLqi[neighbor] || (neighborLqi == pathLqi[neighbor]
+                                        && getDepth(node) < getDepth(parent[neighbor]))))) {
+                            boolean requeue = neighborCost != cost[neighbor];
+                            cost[neighbor] = neighborCost;
+                            parent[neighbor] = node;
+                            pathLqi[neighbor] = neighborLqi;
+                            if (requeue) {
+                                int neighborBucket = neighborCost % buckets;
+                                entryNode[entries] = neighbor;
+                                entryNext[entries] = bucketHead[neighborBucket];
+                                bucketHead[neighborBucket] = entries++;
+                                queued++;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        private int[] sortByPathLqi() {
+            // LQI is from 0 to 255, so use a counting sort
+            int[] counts = new int[257];
+            int reachable = 0;
+            for (int index = 1; index < addresses.length; index++) {
+                if (cost[index] != Integer.MAX_VALUE) {
+                    counts[pathLqi[index] + 1]++;
+                    reachable++;
+                }
+            }
+            for (int lqi = 1; lqi < counts.length; lqi++) {
+                counts[lqi] += counts[lqi - 1];
+            }
+            int[] sorted = new int[reachable];
+            for (int index = 1; index < addresses.length; index++) {
+                if (cost[index] != Integer.MAX_VALUE) {
+                    sorted[counts[pathLqi[index]]++] = index;
+                }
+            }
+            return sorted;
+        }
+
+        /**
+         * Finds the articulation points of the part of the graph that can be reached from the coordinator. This is
+         * Tarjan's algorithm, using an explicit stack so that deep meshes can't overflow the thread stack.
+         */
+        private void calculateArticulationPoints() {
+            int nodeCount = addresses.length;
+            int[] discovery = new int[nodeCount];
+            int[] low = new int[nodeCount];
+            int[] dfsParent = new int[nodeCount];
+            int[] nextAdjacent = new int[nodeCount];
+            Arrays.fill(discovery, -1);
+
+            int[] stack = new int[nodeCount];
+            int stackSize = 0;
+            int time = 0;
+
+            discovery[0] = low[0] = time++;
+            dfsParent[0] = -1;
+            nextAdjacent[0] = adjacencyStart[0];
+            stack[stackSize++] = 0;
+
+            while (stackSize > 0) {
+                int node = stack[stackSize - 1];
+                if (nextAdjacent[node] < adjacencyStart[node + 1]) {
+                    int neighbor = adjacentNodes[nextAdjacent[node]++];
+                    if (discovery[neighbor] == -1) {
+                        discovery[neighbor] = low[neighbor] = time++;
+                        dfsParent[neighbor] = node;
+                        nextAdjacent[neighbor] = adjacencyStart[neighbor];
+                        stack[stackSize++] = neighbor;
+                    } else if (neighbor != dfsParent[node]) {
+                        low[node] = Math.min(low[node], discovery[neighbor]);
+                    }
+                    continue;
+                }
+
+                // All neighbors have been visited, so return to the parent
+                stackSize--;
+                int nodeParent = dfsParent[node];
+                if (nodeParent == -1) {
+                    continue;
+                }
+                low[nodeParent] = Math.min(low[nodeParent], low[node]);
+
+                // The coordinator is always required, so it is not reported even if it has more than one child
+                if (nodeParent != 0 && low[node] >= discovery[nodeParent]) {
+                    singlePointsOfFailure.add(addresses[nodeParent]);
+                }
+            }
+        }
+    }
+}
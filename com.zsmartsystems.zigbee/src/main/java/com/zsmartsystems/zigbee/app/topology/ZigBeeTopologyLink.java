@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.app.topology;
+
+import com.zsmartsystems.zigbee.zdo.field.NeighborTable;
+import com.zsmartsystems.zigbee.zdo.field.NeighborTable.NeighborTableRelationship;
+
+/**
+ * A link in the {@link ZigBeeTopologyGraph}, as reported in the neighbor table of a node. The link is directional - the
+ * source is the node that reported the neighbor, and the LQI is the quality of the link as received by the source.
+ * <p>
+ * This class is immutable.
+ *
+ * @author Chris Jackson
+ */
+public class ZigBeeTopologyLink {
+    private final int sourceAddress;
+    private final int destinationAddress;
+    private final int lqi;
+    private final int depth;
+    private final NeighborTableRelationship relationship;
+
+    /**
+     * Creates a link
+     *
+     * @param sourceAddress the network address of the node reporting the link
+     * @param destinationAddress the network address of the neighbor
+     * @param lqi the link quality indicator reported by the source, from 0 to 255
+     * @param depth the depth of the neighbor in the network, or -1 if unknown
+     * @param relationship the {@link NeighborTableRelationship} of the neighbor to the source
+     */
+    public ZigBeeTopologyLink(int sourceAddress, int destinationAddress, int lqi, int depth,
+            NeighborTableRelationship relationship) {
+        this.sourceAddress = sourceAddress;
+        this.destinationAddress = destinationAddress;
+        this.lqi = lqi;
+        this.depth = depth;
+        this.relationship = relationship;
+    }
+
+    /**
+     * Creates a link from a {@link NeighborTable} entry
+     *
+     * @param sourceAddress the network address of the node that reported the neighbor
+     * @param neighbor the {@link NeighborTable} entry
+     */
+    ZigBeeTopologyLink(int sourceAddress, NeighborTable neighbor) {
+        this(sourceAddress, neighbor.getNetworkAddress(), neighbor.getLqi() == null ? 0 : neighbor.getLqi(),
+                neighbor.getDepth() == null ? -1 : neighbor.getDepth(), neighbor.getRelationship());
+    }
+
+    /**
+     * Gets the network address of the node that reported the link
+     *
+     * @return the network address of the source node
+     */
+    public int getSourceAddress() {
+        return sourceAddress;
+    }
+
+    /**
+     * Gets the network address of the neighbor
+     *
+     * @return the network address of the destination node
+     */
+    public int getDestinationAddress() {
+        return destinationAddress;
+    }
+
+    /**
+     * Gets the link quality indicator reported by the source
+     *
+     * @return the LQI, from 0 to 255
+     */
+    public int getLqi() {
+        return lqi;
+    }
+
+    /**
+     * Gets the depth of the neighbor in the network
+     *
+     * @return the depth of the neighbor, or -1 if unknown
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Gets the relationship of the neighbor to the source
+     *
+     * @return the {@link NeighborTableRelationship}
+     */
+    public NeighborTableRelationship getRelationship() {
+        return relationship;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + sourceAddress;
+        result = prime * result + destinationAddress;
+        result = prime * result + lqi;
+        result = prime * result + depth;
+        result = prime * result + ((relationship == null) ? 0 : relationship.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        ZigBeeTopologyLink other = (ZigBeeTopologyLink) obj;
+        return sourceAddress == other.sourceAddress && destinationAddress == other.destinationAddress
+                && lqi == other.lqi && depth == other.depth && relationship == other.relationship;
+    }
+
+    @Override
+    public String toString() {
+        return "ZigBeeTopologyLink [source=" + String.format("%04X", sourceAddress) + ", destination="
+                + String.format("%04X", destinationAddress) + ", lqi=" + lqi + ", depth=" + depth + ", relationship="
+                + relationship + "]";
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.app.topology;
+
+/**
+ * Listener for changes to the network topology. Only changes are notified - refreshing a neighbor or routing table
+ * that has not changed does not generate any notifications.
+ *
+ * @author Chris Jackson
+ */
+public interface ZigBeeTopologyListener {
+    /**
+     * Called when a node reports a new neighbor
+     *
+     * @param link the new {@link ZigBeeTopologyLink}
+     */
+    default void linkAdded(ZigBeeTopologyLink link) {
+        // Default implementation does nothing
+    }
+
+    /**
+     * Called when the LQI or depth of a neighbor reported by a node changes
+     *
+     * @param previousLink the previous {@link ZigBeeTopologyLink}
+     * @param link the updated {@link ZigBeeTopologyLink}
+     */
+    default void linkUpdated(ZigBeeTopologyLink previousLink, ZigBeeTopologyLink link) {
+        // Default implementation does nothing
+    }
+
+    /**
+     * Called when a neighbor is no longer reported by a node, or one of the nodes has been removed from the network
+     *
+     * @param link the removed {@link ZigBeeTopologyLink}
+     */
+    default void linkRemoved(ZigBeeTopologyLink link) {
+        // Default implementation does nothing
+    }
+
+    /**
+     * Called when the next hop used by a node to route to a destination changes
+     *
+     * @param sourceAddress the network address of the node reporting the route
+     * @param destinationAddress the network address of the route destination
+     * @param previousNextHop the previous next hop address, or null if the route is new
+     * @param nextHop the new next hop address, or null if the route has been removed
+     */
+    default void routeChanged(int sourceAddress, int destinationAddress, Integer previousNextHop, Integer nextHop) {
+        // Default implementation does nothing
+    }
+}
@@ -7,14 +7,23 @@
  */
 package com.zsmartsystems.zigbee.aps;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.zsmartsystems.zigbee.ZigBeeExecutors;
 import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionManager;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportProgressState;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportTransmit;
@@ -38,6 +47,17 @@ import com.zsmartsystems.zigbee.transport.ZigBeeTransportTransmit;
  * may cause duplicate checks to fail if a device changes NWK address within the duplicate time window. Given address
  * changes are rare, and probably only occur when a device has been absent from the network for some period (ie it is
  * rejoining), and the duplicate time window is relatively short, this is considered acceptable.
+ * <p>
+ * The last few APS counters received from each source are remembered, so that a retry received after a later frame
+ * from the same source is also removed. The number of sources remembered is bounded, and sources are forgotten once
+ * nothing has been received from them within the duplicate time window.
+ * <p>
+ * Fragmented frames are sent using a sliding window of up to {@value #FRAGMENTATION_WINDOW_MAX} fragments. The APS
+ * acknowledgement itself is generated and processed by the transport, which reports the progress of each fragment
+ * sent. Each outgoing frame holds a bitmap of the fragments within the window that have been acknowledged, so that
+ * the window only moves once all earlier fragments are complete, and a fragment that fails is sent again on its own
+ * rather than aborting the whole frame. Only one fragmented frame is sent to each destination at a time, with
+ * fragments optionally paced, while frames to different destinations are sent in parallel.
  *
  * @author Chris Jackson
  *
@@ -45,33 +65,40 @@ import com.zsmartsystems.zigbee.transport.ZigBeeTransportTransmit;
 public class ApsDataEntity {
     private static final long DUPLICATE_TIME_WINDOW = 5000;
 
+    /**
+     * The maximum number of sources remembered for duplicate detection
+     */
+    private static final int DUPLICATE_TABLE_SIZE = 1024;
+
     private static final int FRAGMENTATION_LENGTH = 78;
     private static final int FRAGMENTATION_WINDOW = 1;
+    private static final int FRAGMENTATION_RETRIES = 2;
 
     /**
-     * The logger.
+     * The maximum fragmentation window. This is limited by the 8 bit acknowledgement bitmap in the APS header.
      */
-    private final Logger logger = LoggerFactory.getLogger(ApsDataEntity.class);
+    private static final int FRAGMENTATION_WINDOW_MAX = 8;
 
     /**
-     * The {@link ZigBeeTransportTransmit} used to send data
+     * The time after which a partially received fragmented frame is discarded
      */
-    private final ZigBeeTransportTransmit transport;
+    private static final long FRAGMENT_RX_TIMEOUT = 30000;
 
     /**
-     * APS counter for each node in the network to allow duplicate packet removal
+     * The logger.
      */
-    private final Map<Integer, Integer> apsCounters = new ConcurrentHashMap<>();
+    private final Logger logger = LoggerFactory.getLogger(ApsDataEntity.class);
 
     /**
-     * Last frame received time for each node. This allows us to only remove duplicates received within a specified time
+     * The {@link ZigBeeTransportTransmit} used to send data
      */
-    private final Map<Integer, Long> lastFrameTimes = new ConcurrentHashMap<>();
+    private final ZigBeeTransportTransmit transport;
 
     /**
-     * The number of milliseconds within which a frame with the same APS counter will be considered a duplicate
+     * Recent APS counters for each node in the network to allow duplicate packet removal
      */
-    private Long duplicateTimeWindow = DUPLICATE_TIME_WINDOW;
+    private volatile ApsDuplicateTable duplicateTable = new ApsDuplicateTable(DUPLICATE_TIME_WINDOW,
+            DUPLICATE_TABLE_SIZE);
 
     /**
      * The maximum number of outstanding fragment allowed to be sent without acknowledgement
@@ -85,20 +112,52 @@ public class ApsDataEntity {
     private int fragmentationLength = FRAGMENTATION_LENGTH;
 
     /**
-     * Queue of fragmented frames being sent
-     * TODO: Should this be per device to avoid ID conflicts from different devices
+     * The number of times a single fragment will be resent before the frame is aborted
      */
-    private Map<Integer, ZigBeeApsFrame> fragmentTxQueue = new HashMap<>();
+    private int fragmentationRetries = FRAGMENTATION_RETRIES;
 
     /**
-     * Queue of fragmented frames being received
+     * The minimum time in milliseconds between fragments sent to the same destination
      */
-    private Map<Integer, ZigBeeApsFrame> fragmentRxQueue = new HashMap<>();
+    private long fragmentationDelay = 0;
+
+    /**
+     * Scheduler used to pace fragments when {@link #fragmentationDelay} is set. Created when first required.
+     */
+    private ScheduledExecutorService pacingScheduler;
+
+    /**
+     * Fragmented frames being sent, indexed by msgTag
+     */
+    private final Map<Integer, OutgoingFrame> fragmentTxQueue = new ConcurrentHashMap<>();
+
+    /**
+     * Fragmented frames being sent to each destination. The frame at the head of each queue is being sent, and
+     * following frames are waiting for it to complete.
+     */
+    private final Map<Integer, Queue<OutgoingFrame>> fragmentTxDestinations = new HashMap<>();
+
+    /**
+     * Fragmented frames being received, indexed by source address and APS counter
+     */
+    private final Map<Integer, IncomingFrame> fragmentRxQueue = new ConcurrentHashMap<>();
 
     public ApsDataEntity(ZigBeeTransportTransmit transport) {
         this.transport = transport;
     }
 
+    /**
+     * Shuts down the APS data entity, stopping any fragments waiting to be sent
+     */
+    public void shutdown() {
+        synchronized (fragmentTxDestinations) {
+            if (pacingScheduler != null) {
+                pacingScheduler.shutdownNow();
+                pacingScheduler = null;
+            }
+        }
+    }
+
     /**
      * Sets the number of milliseconds within which an APS frame with the same counter will be considered a duplicate.
      *
@@ -106,16 +165,17 @@ public class ApsDataEntity {
      *            considered a duplicate
      */
     public void setDuplicateTimeWindow(Long duplicateTimeWindow) {
-        this.duplicateTimeWindow = duplicateTimeWindow;
+        duplicateTable = new ApsDuplicateTable(duplicateTimeWindow, DUPLICATE_TABLE_SIZE);
     }
 
     /**
-     * Sets the fragmentation window - the number of fragments that may be outstanding at any time.
+     * Sets the fragmentation window - the number of fragments that may be outstanding at any time. The window is
+     * limited to {@value #FRAGMENTATION_WINDOW_MAX} fragments. Setting the window to 0 disables fragmentation.
      *
      * @param fragmentationWindow the fragmentation window
      */
     public void setFragmentationWindow(int fragmentationWindow) {
-        this.fragmentationWindow = fragmentationWindow;
+        this.fragmentationWindow = Math.max(0, Math.min(FRAGMENTATION_WINDOW_MAX, fragmentationWindow));
     }
 
     /**
@@ -127,6 +187,26 @@ public class ApsDataEntity {
         this.fragmentationLength = fragmentationLength;
     }
 
+    /**
+     * Sets the number of times a single fragment will be resent if the transport reports it has failed. Once a fragment
+     * has failed more than this number of times, the frame is aborted.
+     *
+     * @param fragmentationRetries the number of times a fragment will be resent
+     */
+    public void setFragmentationRetries(int fragmentationRetries) {
+        this.fragmentationRetries = fragmentationRetries;
+    }
+
+    /**
+     * Sets the minimum time between fragments sent to the same destination. Fragments sent to different destinations
+     * are not delayed.
+     *
+     * @param fragmentationDelay the delay between fragments in milliseconds, or 0 to send fragments without delay
+     */
+    public void setFragmentationDelay(long fragmentationDelay) {
+        this.fragmentationDelay = fragmentationDelay;
+    }
+
     /**
      * Processes a received {@link ZigBeeApsFrame}, and returns the frame that is to fed up the stack. The APS layer may
      * return null from this command if it should not be processed up the stack, or it may return a different frame if
@@ -138,40 +218,35 @@ public class ApsDataEntity {
      * @return the {@link ZigBeeApsFrame} to be used within the upper layers or null if the frame is not to be fed into
      *         the rest of the system
      */
-    public synchronized ZigBeeApsFrame receive(final ZigBeeApsFrame apsFrame) {
+    public ZigBeeApsFrame receive(final ZigBeeApsFrame apsFrame) {
         if (apsFrame instanceof ZigBeeApsFrameFragment) {
             return receiveFragment((ZigBeeApsFrameFragment) apsFrame);
         }
 
-        Integer apsCounter = apsCounters.get(apsFrame.getSourceAddress());
-        if (apsCounter != null && apsCounter == apsFrame.getApsCounter() && (lastFrameTimes
-                .get(apsFrame.getSourceAddress()) > System.currentTimeMillis() - duplicateTimeWindow)) {
-            logger.debug("{}: APS Data: Duplicate frame from {}ms ago dropped: {}", apsFrame.getSourceAddress(),
-                    System.currentTimeMillis() - lastFrameTimes.get(apsFrame.getSourceAddress()), apsFrame);
-            return null;
-        }
-
         if (apsFrame.getApsCounter() != -1) {
-            apsCounters.put(apsFrame.getSourceAddress(), apsFrame.getApsCounter());
-            lastFrameTimes.put(apsFrame.getSourceAddress(), System.currentTimeMillis());
+            long age = duplicateTable.check(apsFrame.getSourceAddress(), apsFrame.getApsCounter(),
+                    System.currentTimeMillis());
+            if (age != -1) {
+                logger.debug("{}: APS Data: Duplicate frame from {}ms ago dropped: {}", apsFrame.getSourceAddress(),
+                        age, apsFrame);
+                return null;
+            }
         }
 
         return apsFrame;
     }
 
-    public synchronized boolean send(final int msgTag, final ZigBeeApsFrame apsFrame) {
-        // TODO: Should we check that there is not already a fragmented frame being sent to this destination?
-
+    public boolean send(final int msgTag, final ZigBeeApsFrame apsFrame) {
         // Check that we have fragmentation enabled and that this frame requires fragmenting
         // TODO: Don't fragment unicast or broadcast
-        if (apsFrame.getPayload().length <= fragmentationLength || fragmentationWindow == 0) {
+        if (apsFrame.getPayloadLength() <= fragmentationLength || fragmentationWindow == 0) {
             transport.sendCommand(msgTag, apsFrame);
             return true;
         }
 
-        int totalFragments = ((apsFrame.getPayload().length + fragmentationLength - 1) / fragmentationLength);
+        int totalFragments = ((apsFrame.getPayloadLength() + fragmentationLength - 1) / fragmentationLength);
         logger.debug("Fragmenting APS Frame: frameLength={}, totalFragments={}, fragmentationLength={}",
-                apsFrame.getPayload().length, totalFragments, fragmentationLength);
+                apsFrame.getPayloadLength(), totalFragments, fragmentationLength);
 
         apsFrame.setMsgTag(msgTag);
         apsFrame.setFragmentBase(0);
@@ -179,27 +254,41 @@ public class ApsDataEntity {
         apsFrame.setFragmentSize(fragmentationLength);
         logger.debug("Fragmenting APS Frame {}: {}", msgTag, apsFrame);
 
-        if (fragmentTxQueue.put(msgTag, apsFrame) != null) {
+        OutgoingFrame outgoingFrame = new OutgoingFrame(apsFrame, fragmentationLength, fragmentationWindow);
+        if (fragmentTxQueue.put(msgTag, outgoingFrame) != null) {
             logger.debug("Fragmenting msgTag {} was already queued", msgTag);
         }
 
-        sendNextFragments(apsFrame);
+        // Only one fragmented frame is sent to a destination at a time
+        synchronized (fragmentTxDestinations) {
+            Queue<OutgoingFrame> destinationQueue = fragmentTxDestinations.get(apsFrame.getDestinationAddress());
+            if (destinationQueue == null) {
+                destinationQueue = new ArrayDeque<>();
+                fragmentTxDestinations.put(apsFrame.getDestinationAddress(), destinationQueue);
+            }
+            destinationQueue.add(outgoingFrame);
+            if (destinationQueue.size() > 1) {
+                logger.debug("Fragmented APS Frame {} queued behind {} frames to {}", msgTag,
+                        destinationQueue.size() - 1, apsFrame.getDestinationAddress());
+                return true;
+            }
+        }
+
+        sendNextFragments(outgoingFrame);
         return true;
     }
 
-    private void sendNextFragments(final ZigBeeApsFrame apsFrame) {
+    private void sendNextFragments(final OutgoingFrame outgoingFrame) {
+        final ZigBeeApsFrame apsFrame = outgoingFrame.apsFrame;
         logger.debug("sendNextFragments tag={}: frame={}", apsFrame.getMsgTag(), apsFrame);
 
-        boolean first = true;
-        for (int fragmentNumber = apsFrame.getFragmentBase()
-                + apsFrame.getFragmentOutstanding(); fragmentNumber < apsFrame.getFragmentBase() + fragmentationWindow
-                        && fragmentNumber < apsFrame.getFragmentTotal(); fragmentNumber++) {
-            if (first) {
-                first = false;
-            } else {
-                // TODO: Delay
-            }
+        List<Integer> fragmentNumbers;
+        synchronized (outgoingFrame) {
+            fragmentNumbers = outgoingFrame.getFragmentsToSend();
+            apsFrame.setFragmentOutstanding(outgoingFrame.getFragmentsOutstanding());
+        }
 
+        for (int fragmentNumber : fragmentNumbers) {
             ZigBeeApsFrameFragment fragment = new ZigBeeApsFrameFragment(0);
             fragment.setCluster(apsFrame.getCluster());
             fragment.setApsCounter(apsFrame.getApsCounter());
@@ -215,21 +304,60 @@ public class ApsDataEntity {
             fragment.setProfile(apsFrame.getProfile());
             fragment.setFragmentNumber(fragmentNumber);
             fragment.setFragmentTotal(apsFrame.getFragmentTotal());
-            fragment.setFragmentSize(fragmentationLength);
+            fragment.setFragmentSize(outgoingFrame.fragmentSize);
             fragment.setMsgTag(apsFrame.getMsgTag());
 
-            int offset = fragmentNumber * fragmentationLength;
-            int end = offset + ((offset + fragmentationLength < apsFrame.getPayload().length) ? fragmentationLength
-                    : (apsFrame.getPayload().length - offset));
+            int fragmentSize = outgoingFrame.fragmentSize;
+            int offset = fragmentNumber * fragmentSize;
+            int end = offset + ((offset + fragmentSize < apsFrame.getPayloadLength()) ? fragmentSize
+                    : (apsFrame.getPayloadLength() - offset));
 
             logger.debug("Fragmenting APS Frame: fragment={}, offset={}, end={}", fragmentNumber, offset, end);
 
             fragment.setPayload(Arrays.copyOfRange(apsFrame.getPayload(), offset, end));
 
-            apsFrame.oneFragmentSent();
             logger.debug("Sending APS Frame Fragment: outstanding={} {}", apsFrame.getFragmentOutstanding(), fragment);
 
-            transport.sendCommand(apsFrame.getMsgTag(), fragment);
+            sendFragment(outgoingFrame, fragment);
+        }
+    }
+
+    /**
+     * Sends a fragment to the transport, delaying it if required so that fragments to the same destination are
+     * separated by at least the {@link #fragmentationDelay}
+     *
+     * @param outgoingFrame the {@link OutgoingFrame} the fragment belongs to
+     * @param fragment the {@link ZigBeeApsFrameFragment} to send
+     */
+    private void sendFragment(final OutgoingFrame outgoingFrame, final ZigBeeApsFrameFragment fragment) {
+        long delay = 0;
+        if (fragmentationDelay > 0) {
+            synchronized (outgoingFrame) {
+                long now = System.currentTimeMillis();
+                long sendTime = Math.max(now, outgoingFrame.nextFragmentTime);
+                outgoingFrame.nextFragmentTime = sendTime + fragmentationDelay;
+                delay = sendTime - now;
+            }
+        }
+
+        if (delay == 0) {
+            transport.sendCommand(fragment.getMsgTag(), fragment);
+            return;
+        }
+
+        synchronized (fragmentTxDestinations) {
+            if (pacingScheduler == null) {
+                pacingScheduler = ZigBeeExecutors.newScheduledThreadPool(1, "ApsFragmentation");
+            }
+            pacingScheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    // Don't send the fragment if the frame has been aborted in the meantime
+                    if (fragmentTxQueue.get(fragment.getMsgTag()) == outgoingFrame) {
+                        transport.sendCommand(fragment.getMsgTag(), fragment);
+                    }
+                }
+            }, delay, TimeUnit.MILLISECONDS);
         }
     }
 
@@ -237,51 +365,57 @@ public class ApsDataEntity {
      * Callback from the transport layer when it has progressed the state of the transaction.
      * This will return false if the fragment is not yet complete - this may be used by the system to propagate the
      * command state within the transaction manager.
+     * <p>
+     * The transport reports the state of each fragment in the order the fragments were sent. A failed fragment is sent
+     * again, up to the configured number of retries, after which the frame is aborted and the failure passed up the
+     * stack.
      *
      * @param msgTag the message tag whose state is updated
      * @param state the updated ZigBeeTransportProgressState for the transaction
      * @return true if this last frame in packet or not fragmented frame. false otherwise.
      */
     public boolean receiveCommandState(int msgTag, ZigBeeTransportProgressState state) {
-        ZigBeeApsFrame outgoingFrame = getFragmentedFrameFromQueue(msgTag);
+        OutgoingFrame outgoingFrame = fragmentTxQueue.get(msgTag);
         if (outgoingFrame == null) {
             // Not a fragmented packet
             return true;
         }
-        logger.debug("receiveCommandState tag={}-{}: Fragment APS Frame: {}", msgTag, state, outgoingFrame);
-
-        // Handle a failed transmission by aborting the sequence and passing the error up the stack
-        if (state == ZigBeeTransportProgressState.RX_NAK || state == ZigBeeTransportProgressState.TX_NAK) {
-            abortFragmentedFrame(msgTag);
-            return true;
-        }
-
-        logger.debug("receiveCommandState tag={}, fragmentBase={}, fragmentOutstanding={}", msgTag,
-                outgoingFrame.getFragmentBase(), outgoingFrame.getFragmentOutstanding());
-
-        // The frame was not APS ACK requested so the TX ACK means the fragment is complete
-        if (state == ZigBeeTransportProgressState.TX_ACK && !outgoingFrame.getAckRequest()) {
-            outgoingFrame.oneFragmentCompleted();
-        }
-
-        // We need to check if the frame was APS ACK requested as we may still receive RX_ACK for frames that
-        // were not APS ACK requested due to some dongles not supporting disabling APS ACKs
-        if (state == ZigBeeTransportProgressState.RX_ACK && outgoingFrame.getAckRequest()) {
-            outgoingFrame.oneFragmentCompleted();
-        }
+        ZigBeeApsFrame apsFrame = outgoingFrame.apsFrame;
+        logger.debug("receiveCommandState tag={}-{}: Fragment APS Frame: {}", msgTag, state, apsFrame);
+
+        synchronized (outgoingFrame) {
+            if (state == ZigBeeTransportProgressState.RX_NAK || state == ZigBeeTransportProgressState.TX_NAK) {
+                // Handle a failed transmission by resending the fragment, or if it has failed too many times by
+                // aborting the sequence and passing the error up the stack
+                if (!outgoingFrame.fragmentFailed(fragmentationRetries)) {
+                    abortFragmentedFrame(msgTag);
+                    return true;
+                }
+                logger.debug("receiveCommandState tag={}: Resending failed fragment", msgTag);
+            } else if (state == ZigBeeTransportProgressState.TX_ACK && !apsFrame.getAckRequest()) {
+                // The frame was not APS ACK requested so the TX ACK means the fragment is complete
+                outgoingFrame.fragmentCompleted();
+            } else if (state == ZigBeeTransportProgressState.RX_ACK && apsFrame.getAckRequest()) {
+                // We need to check if the frame was APS ACK requested as we may still receive RX_ACK for frames that
+                // were not APS ACK requested due to some dongles not supporting disabling APS ACKs
+                outgoingFrame.fragmentCompleted();
+            } else if (state == ZigBeeTransportProgressState.TX_ACK && apsFrame.getAckRequest()
+                    && outgoingFrame.fragmentBase + 1 == apsFrame.getFragmentTotal()) {
+                logger.debug("TX ACKed for last block in frame: {}", apsFrame);
+                return true;
+            }
 
-        if (state == ZigBeeTransportProgressState.TX_ACK && outgoingFrame.getAckRequest() &&
-                outgoingFrame.getFragmentBase() + 1 == outgoingFrame.getFragmentTotal()) {
-            logger.debug("TX ACKed for last block in frame: {}", outgoingFrame);
-            return true;
+            apsFrame.setFragmentBase(outgoingFrame.fragmentBase);
+            apsFrame.setFragmentOutstanding(outgoingFrame.getFragmentsOutstanding());
+            logger.debug("receiveCommandState tag={}, fragmentBase={}, fragmentOutstanding={}", msgTag,
+                    apsFrame.getFragmentBase(), apsFrame.getFragmentOutstanding());
         }
 
-        if (outgoingFrame.getFragmentBase() == outgoingFrame.getFragmentTotal()) {
-            logger.debug("Completed Sending Fragment APS Frame: {}", outgoingFrame);
+        if (apsFrame.getFragmentBase() == apsFrame.getFragmentTotal()) {
+            logger.debug("Completed Sending Fragment APS Frame: {}", apsFrame);
+            completeFragmentedFrame(outgoingFrame);
             return true;
         }
-        logger.debug("receiveCommandState tag={}, fragmentBase={}, fragmentOutstanding={}", msgTag,
-                outgoingFrame.getFragmentBase(), outgoingFrame.getFragmentOutstanding());
 
         sendNextFragments(outgoingFrame);
         logger.debug("receiveCommandState DONE");
@@ -289,63 +423,250 @@ public class ApsDataEntity {
         return false;
     }
 
+    private void abortFragmentedFrame(int msgTag) {
+        logger.debug("Aborting APS Frame Fragment: {}", msgTag);
+        OutgoingFrame outgoingFrame = fragmentTxQueue.get(msgTag);
+        if (outgoingFrame != null) {
+            completeFragmentedFrame(outgoingFrame);
+        }
+    }
+
     /**
-     * Gets the queued {@link ZigBeeApsFrame} being sent given the outgoing msgTag
+     * Removes a frame that has completed or been aborted, and starts sending the next frame queued for the same
+     * destination
      *
-     * @param msgTag the msgTag used to send the frame
-     * @return the {@link ZigBeeApsFrame} from the queue, or null if a corresponding frame could not be found
+     * @param outgoingFrame the completed {@link OutgoingFrame}
      */
-    private ZigBeeApsFrame getFragmentedFrameFromQueue(int msgTag) {
-        return fragmentTxQueue.get(msgTag);
-    }
+    private void completeFragmentedFrame(OutgoingFrame outgoingFrame) {
+        fragmentTxQueue.remove(outgoingFrame.apsFrame.getMsgTag());
+
+        OutgoingFrame nextFrame = null;
+        synchronized (fragmentTxDestinations) {
+            Queue<OutgoingFrame> destinationQueue = fragmentTxDestinations
+                    .get(outgoingFrame.apsFrame.getDestinationAddress());
+            if (destinationQueue == null || !destinationQueue.remove(outgoingFrame)) {
+                return;
+            }
+            if (destinationQueue.isEmpty()) {
+                fragmentTxDestinations.remove(outgoingFrame.apsFrame.getDestinationAddress());
+            } else {
+                nextFrame = destinationQueue.peek();
+            }
+        }
 
-    private void abortFragmentedFrame(int msgTag) {
-        logger.debug("Aborting APS Frame Fragment: {}", msgTag);
-        fragmentTxQueue.remove(msgTag);
+        if (nextFrame != null) {
+            sendNextFragments(nextFrame);
+        }
     }
 
     private ZigBeeApsFrame receiveFragment(ZigBeeApsFrameFragment fragment) {
-        ZigBeeApsFrame apsFrame = fragmentRxQueue.get(fragment.getApsCounter());
-        if (apsFrame == null) {
-            logger.debug("Fragment frame from unknown frame: {}", fragment);
+        int key = (fragment.getSourceAddress() << 8) + (fragment.getApsCounter() & 0xFF);
+        IncomingFrame incomingFrame;
+        synchronized (fragmentRxQueue) {
+            removeExpiredFragments();
+
+            incomingFrame = fragmentRxQueue.get(key);
+            if (incomingFrame == null) {
+                logger.debug("Fragment frame from unknown frame: {}", fragment);
+                incomingFrame = new IncomingFrame();
+                fragmentRxQueue.put(key, incomingFrame);
+            }
+        }
 
-            if (fragment.getFragmentNumber() != 0) {
-                logger.debug("Fragment frame from unknown fragment not first fragment: {}", fragment);
-                // Fragment received out of sequence
+        synchronized (incomingFrame) {
+            if (!incomingFrame.addFragment(fragment)) {
                 return null;
             }
+            ZigBeeApsFrame apsFrame = incomingFrame.getFrame();
 
-            fragment.setFragmentBase(1);
-            fragmentRxQueue.put(fragment.getApsCounter(), fragment);
+            logger.debug("Received fragment frame {} of {}: {}", fragment.getFragmentNumber(),
+                    apsFrame.getFragmentTotal(), apsFrame);
 
-            return null;
+            if (apsFrame.getFragmentBase() == apsFrame.getFragmentTotal()) {
+                fragmentRxQueue.remove(key);
+                logger.debug("Fragment completed frame: {}", fragment);
+                return apsFrame;
+            }
         }
 
-        if (fragment.getFragmentNumber() != apsFrame.getFragmentBase()) {
-            // Abort
-            fragmentRxQueue.remove(fragment.getApsCounter());
-            logger.debug("Fragment out of order: {} - expected {}", fragment.getFragmentNumber(),
-                    apsFrame.getFragmentBase());
-            return null;
+        return null;
+    }
+
+    /**
+     * Removes any partially received frames that have not completed within the {@link #FRAGMENT_RX_TIMEOUT}
+     */
+    private void removeExpiredFragments() {
+        long expiryTime = System.currentTimeMillis() - FRAGMENT_RX_TIMEOUT;
+        Iterator<IncomingFrame> iterator = fragmentRxQueue.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().startTime < expiryTime) {
+                logger.debug("Fragmented frame discarded after timeout");
+                iterator.remove();
+            }
         }
+    }
 
-        int[] combined = new int[apsFrame.getPayload().length + fragment.getPayload().length];
-        System.arraycopy(apsFrame.getPayload(), 0, combined, 0, apsFrame.getPayload().length);
-        System.arraycopy(fragment.getPayload(), 0, combined, apsFrame.getPayload().length,
-                fragment.getPayload().length);
-        apsFrame.setPayload(combined);
-        apsFrame.setFragmentBase(fragment.getFragmentNumber() + 1);
+    /**
+     * Holds the state of a fragmented frame being sent. The state of the fragments within the window is held in
+     * bitmaps, where bit 0 is the fragment at the {@link #fragmentBase}.
+     */
+    private static class OutgoingFrame {
+        private final ZigBeeApsFrame apsFrame;
+        private final int fragmentSize;
+        private final int window;
+
+        /**
+         * The first fragment that has not yet been completed
+         */
+        private int fragmentBase = 0;
+
+        /**
+         * Bitmap of fragments within the window that have been completed
+         */
+        private int completedBitmap = 0;
+
+        /**
+         * Bitmap of fragments within the window that have been sent and are awaiting completion
+         */
+        private int sentBitmap = 0;
+
+        /**
+         * The fragments awaiting completion, in the order they were sent
+         */
+        private final Deque<Integer> outstanding = new ArrayDeque<>();
+
+        /**
+         * The number of times each fragment has failed
+         */
+        private final int[] failures;
+
+        /**
+         * The earliest time the next fragment may be sent
+         */
+        private long nextFragmentTime = 0;
+
+        OutgoingFrame(ZigBeeApsFrame apsFrame, int fragmentSize, int window) {
+            this.apsFrame = apsFrame;
+            this.fragmentSize = fragmentSize;
+            this.window = window;
+            failures = new int[apsFrame.getFragmentTotal()];
+        }
 
-        logger.debug("Received fragment frame {} of {}: {}", fragment.getFragmentNumber(), apsFrame.getFragmentTotal(),
-                apsFrame);
+        /**
+         * Gets the fragments within the window that have not been sent, and marks them as sent
+         *
+         * @return the list of fragment numbers to send
+         */
+        List<Integer> getFragmentsToSend() {
+            List<Integer> fragments = new ArrayList<>();
+            for (int bit = 0; bit < window && fragmentBase + bit < apsFrame.getFragmentTotal(); bit++) {
+                if (((completedBitmap | sentBitmap) & (1 << bit)) == 0) {
+                    sentBitmap |= 1 << bit;
+                    outstanding.add(fragmentBase + bit);
+                    fragments.add(fragmentBase + bit);
+                }
+            }
+            return fragments;
+        }
 
-        if (apsFrame.getFragmentBase() == apsFrame.getFragmentTotal()) {
-            fragmentRxQueue.remove(fragment.getApsCounter());
-            logger.debug("Fragment completed frame: {}", fragment);
-            return apsFrame;
+        int getFragmentsOutstanding() {
+            return outstanding.size();
         }
 
-        return null;
+        /**
+         * Marks the oldest outstanding fragment as complete, and moves the window past all completed fragments
+         */
+        void fragmentCompleted() {
+            Integer fragmentNumber = outstanding.poll();
+            if (fragmentNumber == null) {
+                return;
+            }
+            int bit = 1 << (fragmentNumber - fragmentBase);
+            completedBitmap |= bit;
+            sentBitmap &= ~bit;
+
+            while ((completedBitmap & 1) != 0) {
+                completedBitmap >>>= 1;
+                sentBitmap >>>= 1;
+                fragmentBase++;
+            }
+        }
+
+        /**
+         * Marks the oldest outstanding fragment as failed so that it will be sent again
+         *
+         * @param retries the number of times a fragment may be resent
+         * @return true if the fragment will be resent, false if the frame should be aborted
+         */
+        boolean fragmentFailed(int retries) {
+            Integer fragmentNumber = outstanding.poll();
+            if (fragmentNumber == null) {
+                return false;
+            }
+            if (++failures[fragmentNumber] > retries) {
+                return false;
+            }
+            sentBitmap &= ~(1 << (fragmentNumber - fragmentBase));
+            return true;
+        }
     }
 
+    /**
+     * Holds the fragments of a frame being received. Fragments may be received in any order, and the frame is
+     * assembled once the first fragment, which holds the total number of fragments, and all other fragments have been
+     * received.
+     */
+    private static class IncomingFrame {
+        private final long startTime = System.currentTimeMillis();
+        private final Map<Integer, int[]> payloads = new HashMap<>();
+        private ZigBeeApsFrameFragment firstFragment;
+
+        /**
+         * Adds a fragment to the frame
+         *
+         * @param fragment the received {@link ZigBeeApsFrameFragment}
+         * @return true if the frame state has changed
+         */
+        boolean addFragment(ZigBeeApsFrameFragment fragment) {
+            if (payloads.containsKey(fragment.getFragmentNumber())) {
+                return false;
+            }
+            if (firstFragment != null && fragment.getFragmentNumber() >= firstFragment.getFragmentTotal()) {
+                return false;
+            }
+
+            payloads.put(fragment.getFragmentNumber(), fragment.getPayload());
+            if (fragment.getFragmentNumber() == 0) {
+                firstFragment = fragment;
+            }
+            if (firstFragment == null) {
+                return false;
+            }
+
+            // Count the contiguous fragments received
+            int fragmentBase = 0;
+            int length = 0;
+            while (payloads.containsKey(fragmentBase)) {
+                length += payloads.get(fragmentBase).length;
+                fragmentBase++;
+            }
+            firstFragment.setFragmentBase(fragmentBase);
+
+            if (fragmentBase == firstFragment.getFragmentTotal()) {
+                int[] combined = new int[length];
+                int offset = 0;
+                for (int fragmentNumber = 0; fragmentNumber < fragmentBase; fragmentNumber++) {
+                    int[] payload = payloads.get(fragmentNumber);
+                    System.arraycopy(payload, 0, combined, offset, payload.length);
+                    offset += payload.length;
+                }
+                firstFragment.setPayload(combined);
+            }
+            return true;
+        }
+
+        ZigBeeApsFrame getFrame() {
+            return firstFragment;
+        }
+    }
 }
@@ -0,0 +1,350 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.aps;
+
+import java.util.Arrays;
+
+/**
+ * A bounded table used to detect duplicate APS frames.
+ * <p>
+ * For each source address, the table remembers the last {@value #COUNTER_HISTORY} APS counters received, and the time
+ * each was received. A frame is a duplicate if its counter matches any of these within the duplicate time window, so
+ * a retry that arrives after a later frame from the same source is still rejected.
+ * <p>
+ * The table is split into {@value #STRIPES} stripes, each with its own lock, so that frames from different sources
+ * rarely contend. Each stripe holds its entries in primitive arrays, indexed by an open addressed hash of the source
+ * address. Entries are expired with a timer wheel - each entry is linked into the wheel slot for the tick in which it
+ * was last updated, and as time advances, each slot that is passed holds only entries that have not been updated for
+ * the whole time window, and these are removed. If a stripe is full, the entry that will expire next is removed to
+ * make room, so the memory used is fixed no matter how many sources are heard.
+ * <p>
+ * Time is provided by the caller, so the clock is only read once for each frame.
+ *
+ * @author Chris Jackson
+ *
+ */
+class ApsDuplicateTable {
+    /**
+     * The number of recent APS counters remembered for each source
+     */
+    static final int COUNTER_HISTORY = 4;
+
+    /**
+     * The number of independently locked stripes. Must be a power of 2.
+     */
+    private static final int STRIPES = 16;
+
+    /**
+     * The number of slots in the timer wheel. The time window is split across all slots but one, so that an entry in
+     * the slot being expired has always been idle for at least the full window.
+     */
+    private static final int WHEEL_SIZE = 8;
+
+    /**
+     * Marker for an empty hash index or link
+     */
+    private static final int EMPTY = -1;
+
+    /**
+     * The number of milliseconds within which a frame with the same APS counter will be considered a duplicate
+     */
+    private final long timeWindow;
+
+    /**
+     * The length of each timer wheel tick in milliseconds
+     */
+    private final long tickLength;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    /**
+     * Creates a duplicate table
+     *
+     * @param timeWindow the number of milliseconds within which a frame with the same APS counter will be considered a
+     *            duplicate. If this is not greater than 0, no frames are considered duplicates.
+     * @param capacity the maximum number of sources to remember
+     */
+    ApsDuplicateTable(long timeWindow, int capacity) {
+        this.timeWindow = timeWindow;
+        tickLength = Math.max(1, (timeWindow - 1) / (WHEEL_SIZE - 1) + 1);
+
+        int stripeCapacity = Math.max(1, (capacity + STRIPES - 1) / STRIPES);
+        for (int cnt = 0; cnt < STRIPES; cnt++) {
+            stripes[cnt] = new Stripe(stripeCapacity);
+        }
+    }
+
+    /**
+     * Checks if a frame is a duplicate of one received within the time window, and records the APS counter if it is
+     * not.
+     *
+     * @param sourceAddress the network address of the source
+     * @param apsCounter the APS counter of the frame
+     * @param now the current time in milliseconds
+     * @return the number of milliseconds since the original frame was received if this frame is a duplicate, or -1 if
+     *         the frame is not a duplicate
+     */
+    long check(int sourceAddress, int apsCounter, long now) {
+        if (timeWindow <= 0) {
+            return -1;
+        }
+        int hash = hash(sourceAddress);
+        Stripe stripe = stripes[hash & (STRIPES - 1)];
+        synchronized (stripe) {
+            return stripe.check(sourceAddress, hash >>> 4, apsCounter & 0xFF, now);
+        }
+    }
+
+    /**
+     * Gets the number of sources in the table. Each stripe only advances its timer wheel when it is used, so this may
+     * include sources that have expired but not yet been removed.
+     *
+     * @return the number of sources currently remembered
+     */
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size;
+            }
+        }
+        return size;
+    }
+
+    private static int hash(int sourceAddress) {
+        int hash = sourceAddress * 0x9E3779B1;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * A single lock stripe
+     */
+    private class Stripe {
+        private final int capacity;
+        private final int indexMask;
+
+        /**
+         * Open addressed index from the source address hash to the entry number
+         */
+        private final int[] index;
+
+        /**
+         * The source address for each entry
+         */
+        private final int[] sources;
+
+        /**
+         * The recent APS counters for each entry, {@value #COUNTER_HISTORY} per entry
+         */
+        private final byte[] counters;
+
+        /**
+         * The time each APS counter in {@link #counters} was received
+         */
+        private final long[] times;
+
+        /**
+         * The position in the counter history at which the next counter will be written for each entry
+         */
+        private final byte[] historyPosition;
+
+        /**
+         * The timer wheel slot for each entry, and the links to the other entries in the same slot
+         */
+        private final int[] wheelSlot;
+        private final int[] wheelNext;
+        private final int[] wheelPrev;
+
+        /**
+         * The first entry in each timer wheel slot
+         */
+        private final int[] wheel = new int[WHEEL_SIZE];
+
+        /**
+         * Free entries, linked through {@link #wheelNext}
+         */
+        private int freeList;
+
+        private int size;
+
+        /**
+         * The last tick that the timer wheel was advanced to
+         */
+        private long currentTick = Long.MIN_VALUE;
+
+        Stripe(int capacity) {
+            this.capacity = capacity;
+            index = new int[Integer.highestOneBit(capacity * 2 - 1) << 1];
+            indexMask = index.length - 1;
+            sources = new int[capacity];
+            counters = new byte[capacity * COUNTER_HISTORY];
+            times = new long[capacity * COUNTER_HISTORY];
+            historyPosition = new byte[capacity];
+            wheelSlot = new int[capacity];
+            wheelNext = new int[capacity];
+            wheelPrev = new int[capacity];
+
+            Arrays.fill(index, EMPTY);
+            Arrays.fill(wheel, EMPTY);
+            for (int entry = 0; entry < capacity; entry++) {
+                wheelNext[entry] = entry + 1 < capacity ? entry + 1 : EMPTY;
+            }
+            freeList = 0;
+        }
+
+        long check(int sourceAddress, int hash, int apsCounter, long now) {
+            long tick = now / tickLength;
+            advance(tick);
+
+            int entry = find(sourceAddress, hash);
+            if (entry == EMPTY) {
+                entry = add(sourceAddress, hash, now);
+            } else {
+                int base = entry * COUNTER_HISTORY;
+                for (int cnt = 0; cnt < COUNTER_HISTORY; cnt++) {
+                    long age = now - times[base + cnt];
+                    if ((counters[base + cnt] & 0xFF) == apsCounter && age < timeWindow) {
+                        return age;
+                    }
+                }
+            }
+
+            int position = historyPosition[entry];
+            counters[entry * COUNTER_HISTORY + position] = (byte) apsCounter;
+            times[entry * COUNTER_HISTORY + position] = now;
+            historyPosition[entry] = (byte) ((position + 1) % COUNTER_HISTORY);
+
+            unlink(entry);
+            link(entry, (int) (currentTick % WHEEL_SIZE));
+            return -1;
+        }
+
+        /**
+         * Advances the timer wheel, removing all entries in the slots that are passed
+         */
+        private void advance(long tick) {
+            if (currentTick == Long.MIN_VALUE || tick <= currentTick) {
+                currentTick = Math.max(currentTick, tick);
+                return;
+            }
+            long slots = Math.min(tick - currentTick, WHEEL_SIZE);
+            for (long cnt = 1; cnt <= slots; cnt++) {
+                int slot = (int) ((currentTick + cnt) % WHEEL_SIZE);
+                while (wheel[slot] != EMPTY) {
+                    remove(wheel[slot]);
+                }
+            }
+            currentTick = tick;
+        }
+
+        private int find(int sourceAddress, int hash) {
+            for (int position = hash & indexMask;; position = (position + 1) & indexMask) {
+                int entry = index[position];
+                if (entry == EMPTY) {
+                    return EMPTY;
+                }
+                if (sources[entry] == sourceAddress) {
+                    return entry;
+                }
+            }
+        }
+
+        private int add(int sourceAddress, int hash, long now) {
+            if (size == capacity) {
+                evictNext();
+            }
+            int entry = freeList;
+            freeList = wheelNext[entry];
+            wheelSlot[entry] = EMPTY;
+            size++;
+
+            sources[entry] = sourceAddress;
+            int base = entry * COUNTER_HISTORY;
+            for (int cnt = 0; cnt < COUNTER_HISTORY; cnt++) {
+                // Mark the history as already outside the time window
+                times[base + cnt] = now - timeWindow;
+            }
+            historyPosition[entry] = 0;
+
+            int position = hash & indexMask;
+            while (index[position] != EMPTY) {
+                position = (position + 1) & indexMask;
+            }
+            index[position] = entry;
+            return entry;
+        }
+
+        /**
+         * Removes the entry that would be expired next by the timer wheel
+         */
+        private void evictNext() {
+            for (int cnt = 1; cnt <= WHEEL_SIZE; cnt++) {
+                int slot = (int) ((currentTick + cnt) % WHEEL_SIZE);
+                if (wheel[slot] != EMPTY) {
+                    // The most recently linked entry is at the head, so find the oldest
+                    int entry = wheel[slot];
+                    while (wheelNext[entry] != EMPTY) {
+                        entry = wheelNext[entry];
+                    }
+                    remove(entry);
+                    return;
+                }
+            }
+        }
+
+        private void remove(int entry) {
+            unlink(entry);
+
+            // Remove from the index, shifting back any following entries in the probe sequence
+            int position = hash(sources[entry]) >>> 4 & indexMask;
+            while (index[position] != entry) {
+                position = (position + 1) & indexMask;
+            }
+            int next = (position + 1) & indexMask;
+            while (index[next] != EMPTY) {
+                int home = hash(sources[index[next]]) >>> 4 & indexMask;
+                if (((next - home) & indexMask) >= ((next - position) & indexMask)) {
+                    index[position] = index[next];
+                    position = next;
+                }
+                next = (next + 1) & indexMask;
+            }
+            index[position] = EMPTY;
+
+            wheelNext[entry] = freeList;
+            freeList = entry;
+            size--;
+        }
+
+        private void link(int entry, int slot) {
+            wheelSlot[entry] = slot;
+            wheelPrev[entry] = EMPTY;
+            wheelNext[entry] = wheel[slot];
+            if (wheel[slot] != EMPTY) {
+                wheelPrev[wheel[slot]] = entry;
+            }
+            wheel[slot] = entry;
+        }
+
+        private void unlink(int entry) {
+            int slot = wheelSlot[entry];
+            if (slot == EMPTY) {
+                return;
+            }
+            if (wheelPrev[entry] == EMPTY) {
+                wheel[slot] = wheelNext[entry];
+            } else {
+                wheelNext[wheelPrev[entry]] = wheelNext[entry];
+            }
+            if (wheelNext[entry] != EMPTY) {
+                wheelPrev[wheelNext[entry]] = wheelPrev[entry];
+            }
+            wheelSlot[entry] = EMPTY;
+        }
+    }
+}
@@ -7,6 +7,8 @@
  */
 package com.zsmartsystems.zigbee.aps;
 
+import java.nio.ByteBuffer;
+
 import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeNwkAddressMode;
 
@@ -155,6 +157,12 @@ public class ZigBeeApsFrame {
      */
     private int[] payload;
 
+    /**
+     * The APS payload when the frame has been created from a {@link ByteBuffer}. The integer array {@link #payload} is
+     * only created from the buffer if it is requested.
+     */
+    private ByteBuffer payloadBuffer;
+
     /**
      * Gets the destination network address of this frame
      *
@@ -415,12 +423,81 @@ public class ZigBeeApsFrame {
 
     public void setPayload(int[] payload) {
         this.payload = payload;
+        this.payloadBuffer = null;
+    }
+
+    /**
+     * Sets the payload from the remaining bytes of a {@link ByteBuffer}. The buffer content is not copied, so this may
+     * be used to wrap part of a receive buffer - the caller must not reuse the underlying buffer while the frame is in
+     * use. The position and limit of the provided buffer are not changed.
+     *
+     * @param payload the {@link ByteBuffer} holding the payload. May be null.
+     */
+    public void setPayload(ByteBuffer payload) {
+        this.payloadBuffer = payload == null ? null : payload.slice();
+        this.payload = null;
     }
 
+    /**
+     * Gets the payload as an integer array. If the payload was set as a {@link ByteBuffer}, the integer array is
+     * read from the buffer on the first call. The buffer is retained, so {@link #getPayloadBuffer()} continues to
+     * return the payload without copying.
+     *
+     * @return the payload as an integer array
+     */
     public int[] getPayload() {
+        if (payload == null && payloadBuffer != null) {
+            int[] intPayload = new int[payloadBuffer.limit()];
+            for (int cnt = 0; cnt < intPayload.length; cnt++) {
+                intPayload[cnt] = payloadBuffer.get(cnt) & 0xFF;
+            }
+            payload = intPayload;
+        }
         return payload;
     }
 
+    /**
+     * Gets the payload as a read only {@link ByteBuffer}. If the payload was set as a {@link ByteBuffer} this is
+     * returned without copying the data.
+     *
+     * @return the payload {@link ByteBuffer}, or null if no payload is set
+     */
+    public ByteBuffer getPayloadBuffer() {
+        if (payloadBuffer != null) {
+            return payloadBuffer.asReadOnlyBuffer();
+        }
+        if (payload == null) {
+            return null;
+        }
+        byte[] bytes = new byte[payload.length];
+        for (int cnt = 0; cnt < payload.length; cnt++) {
+            bytes[cnt] = (byte) payload[cnt];
+        }
+        return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns true if the payload is held as a {@link ByteBuffer}, and {@link #getPayloadBuffer()} will not copy the
+     * payload.
+     *
+     * @return true if the payload is held as a {@link ByteBuffer}
+     */
+    public boolean hasPayloadBuffer() {
+        return payloadBuffer != null;
+    }
+
+    /**
+     * Gets the length of the payload without converting the payload representation.
+     *
+     * @return the length of the payload, or 0 if no payload is set
+     */
+    public int getPayloadLength() {
+        if (payloadBuffer != null) {
+            return payloadBuffer.limit();
+        }
+        return payload == null ? 0 : payload.length;
+    }
+
     /**
      * Calling this method indicates that transmission of a fragment has completed.
      * It moves the fragment base and decrease outstanding fragments counter.
@@ -513,7 +590,14 @@ public class ZigBeeApsFrame {
         }
 
         builder.append(", payload=");
-        if (payload != null) {
+        if (payloadBuffer != null) {
+            for (int c = 0; c < payloadBuffer.limit(); c++) {
+                if (c != 0) {
+                    builder.append(' ');
+                }
+                builder.append(String.format("%02X", payloadBuffer.get(c) & 0xFF));
+            }
+        } else if (payload != null) {
             for (int c = 0; c < payload.length; c++) {
                 if (c != 0) {
                     builder.append(' ');
@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.database;
+
+import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+
+/**
+ * This class provides a clean class to hold a data object for serialisation of a partial update of a node. It holds
+ * the {@link ZclAttributeDao} of a single {@link ZclAttribute} that has changed, along with the endpoint and cluster in
+ * which the attribute is located within the {@link ZigBeeNodeDao}.
+ * <p>
+ * The cluster is located in the input clusters of the endpoint if {@link #isClient()} is false, and in the output
+ * clusters if it is true. The attribute replaces any existing attribute with the same ID in the cluster.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZclAttributeUpdateDao {
+    private int endpointId;
+
+    private int clusterId;
+
+    private boolean isClient;
+
+    private ZclAttributeDao attribute;
+
+    public int getEndpointId() {
+        return endpointId;
+    }
+
+    public void setEndpointId(int endpointId) {
+        this.endpointId = endpointId;
+    }
+
+    public int getClusterId() {
+        return clusterId;
+    }
+
+    public void setClusterId(int clusterId) {
+        this.clusterId = clusterId;
+    }
+
+    public boolean isClient() {
+        return isClient;
+    }
+
+    public void setClient(boolean isClient) {
+        this.isClient = isClient;
+    }
+
+    public ZclAttributeDao getAttribute() {
+        return attribute;
+    }
+
+    public void setAttribute(ZclAttributeDao attribute) {
+        this.attribute = attribute;
+    }
+}
@@ -7,6 +7,7 @@
  */
 package com.zsmartsystems.zigbee.database;
 
+import java.util.Collection;
 import java.util.Set;
 
 import com.zsmartsystems.zigbee.IeeeAddress;
@@ -20,6 +21,14 @@ import com.zsmartsystems.zigbee.IeeeAddress;
  * The underlying data store implementation must be able to store and retrieve node data with the
  * {@link #writeNode(ZigBeeNodeDao)} and {@link #readNode(IeeeAddress)} methods, and also provide a list of all nodes
  * currently in the store with the {@link #readNetworkNodes()} method.
+ * <p>
+ * Where the underlying storage benefits from batching, the data store may also implement
+ * {@link #writeNodes(Collection)}, which is used by the framework to write all nodes that have been updated at the same
+ * time in a single call.
+ * <p>
+ * Where only attributes within a node have changed since the node was last written (eg following attribute reports),
+ * the framework will offer the changed attributes to {@link #writeAttributes(IeeeAddress, Collection)} so that data
+ * stores that support partial updates can avoid rewriting the complete node.
  *
  * @author Chris Jackson
  *
@@ -53,6 +62,39 @@ public interface ZigBeeNetworkDataStore {
      */
     void writeNode(ZigBeeNodeDao node);
 
+    /**
+     * Called when information about a number of nodes has been updated, and the node data must be persisted to
+     * non-volatile storage. Data stores that are able to write multiple nodes more efficiently than writing each node in
+     * turn (eg by combining the writes into a single I/O operation) should override this method.
+     * <p>
+     * The default implementation calls {@link #writeNode(ZigBeeNodeDao)} for each node.
+     *
+     * @param nodes the {@link Collection} of {@link ZigBeeNodeDao}s to be persisted
+     */
+    default void writeNodes(Collection<ZigBeeNodeDao> nodes) {
+        for (ZigBeeNodeDao node : nodes) {
+            writeNode(node);
+        }
+    }
+
+    /**
+     * Called when only attributes within a node have changed since the node was last persisted. Data stores that are
+     * able to persist a partial update of a node (eg by appending the changed attributes to a journal) should override
+     * this method.
+     * <p>
+     * The data store must return false if it is not able to apply the update - for example if the node is not
+     * currently in the data store. The complete node will then be persisted with {@link #writeNode(ZigBeeNodeDao)}.
+     * <p>
+     * The default implementation returns false.
+     *
+     * @param address the {@link IeeeAddress} of the node
+     * @param attributes the {@link Collection} of {@link ZclAttributeUpdateDao}s that have changed
+     * @return true if the update was persisted, false if the complete node must be persisted
+     */
+    default boolean writeAttributes(IeeeAddress address, Collection<ZclAttributeUpdateDao> attributes) {
+        return false;
+    }
+
     /**
      * Called when a node has been removed from the network. It is expected that the database implementation will remove
      * this data from the storage.
@@ -7,9 +7,16 @@
  */
 package com.zsmartsystems.zigbee.database;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -34,6 +41,21 @@ import com.zsmartsystems.zigbee.ZigBeeNode;
  * All writes to the {@link ZigBeeDataStore} are managed through a single thread scheduler to ensure that only a single
  * write is in progress at once. This allows the data store to be kept simple and ensures writes don't get queued thus
  * causing performance issues or multiple threads to be executed.
+ * <p>
+ * Where the deferred writes for a number of nodes become due at the same time (eg during network discovery, or when a
+ * large number of nodes report at once), the writes are coalesced and passed to the data store in a single call to
+ * {@link ZigBeeNetworkDataStore#writeNodes(java.util.Collection)}.
+ * <p>
+ * The manager uses the dirty tracking in the {@link ZigBeeNode} to limit the data that is written. Nodes that have not
+ * changed since they were last written are not written again, and where only attributes have changed (eg following
+ * attribute reports) the changed attributes are offered to the data store as a partial update with
+ * {@link ZigBeeNetworkDataStore#writeAttributes(IeeeAddress, java.util.Collection)}. The complete node is only
+ * serialised if the node itself has changed, or the data store does not support partial updates.
+ * <p>
+ * On startup the nodes are normally restored from the data store one at a time. For large networks, a parallel restore
+ * may be enabled with {@link #setRestoreThreads(int)}, in which case the nodes are read from the data store and built
+ * concurrently, and then added to the network as a single batch with
+ * {@link ZigBeeNetworkManager#restoreNodes(java.util.Collection)}.
  *
  * @author Chris Jackson
  *
@@ -60,6 +82,12 @@ public class ZigBeeNetworkDatabaseManager implements ZigBeeNetworkNodeListener {
      */
     private final int DEFERRED_WRITE_TIMEOUT_MAX = 10000;
 
+    /**
+     * The number of batches each restore thread will process when restoring in parallel. Using more batches than
+     * threads balances the load when some nodes take longer to restore than others.
+     */
+    private final int RESTORE_BATCHES_PER_THREAD = 4;
+
     /**
      * The time to wait for all threads to shutdown in milliseconds
      */
@@ -85,6 +113,11 @@ public class ZigBeeNetworkDatabaseManager implements ZigBeeNetworkNodeListener {
      */
     private long deferredWriteTimeout = TimeUnit.MILLISECONDS.toNanos(DEFERRED_WRITE_TIMEOUT);
 
+    /**
+     * The number of threads used to restore the network on startup. If this is 1, nodes are restored serially.
+     */
+    private int restoreThreads = 1;
+
     /**
      * Map of deferred write futures for each node
      */
@@ -95,6 +128,16 @@ public class ZigBeeNetworkDatabaseManager implements ZigBeeNetworkNodeListener {
      */
     private final Map<IeeeAddress, Long> deferredWriteTimes = new ConcurrentHashMap<>();
 
+    /**
+     * Map of the nodes waiting for their deferred write
+     */
+    private final Map<IeeeAddress, ZigBeeNode> deferredWriteNodes = new ConcurrentHashMap<>();
+
+    /**
+     * Nodes whose deferred write has expired, waiting to be written to the data store in the next batch
+     */
+    private final Map<IeeeAddress, ZigBeeNode> pendingWrites = new LinkedHashMap<>();
+
     /**
      * Single thread scheduler to ensure single writes within the data store
      */
@@ -161,6 +204,19 @@ public class ZigBeeNetworkDatabaseManager implements ZigBeeNetworkNodeListener {
         }
     }
 
+    /**
+     * Sets the number of threads used to restore the nodes from the data store on startup. Restoring the network in
+     * parallel can considerably reduce the startup time of large networks, but requires that the
+     * {@link ZigBeeNetworkDataStore#readNode(IeeeAddress)} method is thread safe.
+     * <p>
+     * By default, nodes are restored serially.
+     *
+     * @param restoreThreads the number of threads to use. If this is 1 or less, nodes are restored serially.
+     */
+    public void setRestoreThreads(int restoreThreads) {
+        this.restoreThreads = restoreThreads;
+    }
+
     /**
      * Clears all data from the data store. This may be used when initialising a network to remove any previous data.
      */
@@ -188,35 +244,127 @@ public class ZigBeeNetworkDatabaseManager implements ZigBeeNetworkNodeListener {
         }
 
         Set<IeeeAddress> nodes = dataStore.readNetworkNodes();
-        for (IeeeAddress nodeAddress : nodes) {
-            ZigBeeNode node = new ZigBeeNode(networkManager, nodeAddress);
-            ZigBeeNodeDao nodeDao = dataStore.readNode(nodeAddress);
-            if (nodeDao == null) {
-                logger.debug("{}: Data store: Node was not found in database.", nodeAddress);
-                continue;
+        if (restoreThreads > 1 && nodes.size() > 1) {
+            restoreParallel(nodes);
+        } else {
+            for (IeeeAddress nodeAddress : nodes) {
+                ZigBeeNode node = restoreNode(nodeAddress);
+                if (node != null) {
+                    networkManager.updateNode(node);
+                }
             }
-            node.setDao(nodeDao);
-            logger.debug("{}: Data store: Node was restored.", nodeAddress);
-            networkManager.updateNode(node);
         }
 
         networkManager.addNetworkNodeListener(this);
     }
 
+    /**
+     * Reads a node from the data store and creates the {@link ZigBeeNode}
+     *
+     * @param nodeAddress the {@link IeeeAddress} of the node to restore
+     * @return the restored {@link ZigBeeNode} or null if the node was not found in the data store
+     */
+    private ZigBeeNode restoreNode(IeeeAddress nodeAddress) {
+        ZigBeeNodeDao nodeDao = dataStore.readNode(nodeAddress);
+        if (nodeDao == null) {
+            logger.debug("{}: Data store: Node was not found in database.", nodeAddress);
+            return null;
+        }
+        ZigBeeNode node = new ZigBeeNode(networkManager, nodeAddress);
+        node.setDao(nodeDao);
+        logger.debug("{}: Data store: Node was restored.", nodeAddress);
+        return node;
+    }
+
+    /**
+     * Restores the nodes in parallel, and adds them to the network as a single batch once all nodes are restored
+     *
+     * @param nodes the {@link Set} of {@link IeeeAddress}es of the nodes to restore
+     */
+    private void restoreParallel(Set<IeeeAddress> nodes) {
+        long startTime = System.nanoTime();
+
+        List<IeeeAddress> addresses = new ArrayList<>(nodes);
+        int batches = Math.min(addresses.size(), restoreThreads * RESTORE_BATCHES_PER_THREAD);
+        int batchSize = (addresses.size() + batches - 1) / batches;
+
+        ExecutorService restoreService = ZigBeeExecutors.newFixedThreadPool(restoreThreads, "DatabaseRestore");
+        List<Future<List<ZigBeeNode>>> futures = new ArrayList<>(batches);
+        for (int start = 0; start < addresses.size(); start += batchSize) {
+            final List<IeeeAddress> batch = addresses.subList(start, Math.min(start + batchSize, addresses.size()));
+            futures.add(restoreService.submit(new Callable<List<ZigBeeNode>>() {
+                @Override
+                public List<ZigBeeNode> call() {
+                    List<ZigBeeNode> restoredNodes = new ArrayList<>(batch.size());
+                    for (IeeeAddress nodeAddress : batch) {
+                        try {
+                            ZigBeeNode node = restoreNode(nodeAddress);
+                            if (node != null) {
+                                restoredNodes.add(node);
+                            }
+                        } catch (Exception e) {
+                            logger.error("{}: Data store: Error restoring node", nodeAddress, e);
+                        }
+                    }
+                    return restoredNodes;
+                }
+            }));
+        }
+
+        List<ZigBeeNode> restoredNodes = new ArrayList<>(addresses.size());
+        for (Future<List<ZigBeeNode>> future : futures) {
+            try {
+                restoredNodes.addAll(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                logger.error("Data store: Error restoring nodes", e);
+            }
+        }
+        restoreService.shutdownNow();
+
+        networkManager.restoreNodes(restoredNodes);
+        logger.debug("Data store: Restored {} nodes with {} threads in {}ms", restoredNodes.size(), restoreThreads,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+
     /**
      * Shuts down the database. This ensures that any outstanding writes are closed, thus ensuring the current state of
-     * the network is saved.
+     * the network is saved. Writes that are still deferred, or waiting to be written in a batch, are written before
+     * this method returns.
      */
     public void shutdown() {
         logger.debug("Data store: Shutdown");
         networkManager.removeNetworkNodeListener(this);
-        executorService.shutdown();
+        synchronized (deferredWriteFutures) {
+            executorService.shutdown();
+            for (ScheduledFuture<?> future : deferredWriteFutures.values()) {
+                future.cancel(false);
+            }
+            deferredWriteFutures.clear();
+            deferredWriteTimes.clear();
+        }
         try {
             executorService.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS);
         } catch (InterruptedException e) {
             logger.debug("Data store: Shutdown did not complete all tasks.");
         }
         executorService.shutdownNow();
+
+        List<ZigBeeNode> nodes;
+        synchronized (deferredWriteFutures) {
+            for (ZigBeeNode node : deferredWriteNodes.values()) {
+                pendingWrites.put(node.getIeeeAddress(), node);
+            }
+            deferredWriteNodes.clear();
+            nodes = new ArrayList<>(pendingWrites.values());
+            pendingWrites.clear();
+        }
+        if (dataStore != null && !nodes.isEmpty()) {
+            logger.debug("Data store: Writing {} outstanding nodes on shutdown.", nodes.size());
+            writeNodes(nodes);
+        }
     }
 
     @Override
@@ -245,15 +393,22 @@ public class ZigBeeNetworkDatabaseManager implements ZigBeeNetworkNodeListener {
     private void saveNode(ZigBeeNode node) {
         int deferredDelay = deferredWriteTime;
 
-        if (executorService.isShutdown()) {
-            logger.debug("{}: Data store: Save rejected as executor is already shut down.", node.getIeeeAddress());
-            return;
-        }
-
         synchronized (deferredWriteFutures) {
-            if (deferredWriteFutures.containsKey(node.getIeeeAddress())) {
+            if (executorService.isShutdown()) {
+                logger.debug("{}: Data store: Save rejected as executor is already shut down.", node.getIeeeAddress());
+                return;
+            }
+
+            ScheduledFuture<?> deferredFuture = deferredWriteFutures.get(node.getIeeeAddress());
+            if (deferredFuture != null && deferredFuture.getDelay(TimeUnit.MILLISECONDS) <= 0) {
+                // The write is already due, and will write the current state of the node when it runs. Rescheduling it
+                // would also delay any batch that is waiting for it.
+                logger.debug("{}: Data store: Write is already due.", node.getIeeeAddress());
+                return;
+            }
+            if (deferredFuture != null) {
                 // Cancel the currently scheduled write
-                deferredWriteFutures.get(node.getIeeeAddress()).cancel(false);
+                deferredFuture.cancel(false);
 
                 if (deferredWriteTimes.get(node.getIeeeAddress()) != null
                         && deferredWriteTimes.get(node.getIeeeAddress()) < System.nanoTime()) {
@@ -272,6 +427,7 @@ public class ZigBeeNetworkDatabaseManager implements ZigBeeNetworkNodeListener {
             logger.debug("{}: Data store: Deferring write for {}ms.", node.getIeeeAddress(), deferredDelay);
 
             CommitNodeTask commitTask = new CommitNodeTask(node);
+            deferredWriteNodes.put(node.getIeeeAddress(), node);
             deferredWriteFutures.put(node.getIeeeAddress(),
                     executorService.schedule(commitTask, deferredDelay, TimeUnit.MILLISECONDS));
         }
@@ -291,13 +447,78 @@ public class ZigBeeNetworkDatabaseManager implements ZigBeeNetworkNodeListener {
     }
 
     private void writeNode(ZigBeeNode node) {
-        logger.debug("{}: Data store: Writing node.", node.getIeeeAddress());
+        List<ZigBeeNode> nodes;
         synchronized (deferredWriteFutures) {
             deferredWriteTimes.remove(node.getIeeeAddress());
             deferredWriteFutures.remove(node.getIeeeAddress());
+            deferredWriteNodes.remove(node.getIeeeAddress());
+            pendingWrites.put(node.getIeeeAddress(), node);
+
+            // If another deferred write is already due, it will run next on the single thread scheduler, so leave the
+            // writes pending and let the last one write the whole batch.
+            for (ScheduledFuture<?> future : deferredWriteFutures.values()) {
+                if (!future.isDone() && future.getDelay(TimeUnit.MILLISECONDS) <= 0) {
+                    logger.debug("{}: Data store: Adding node to write batch.", node.getIeeeAddress());
+                    return;
+                }
+            }
+
+            nodes = new ArrayList<>(pendingWrites.values());
+            pendingWrites.clear();
+        }
+
+        writeNodes(nodes);
+    }
+
+    /**
+     * Writes a batch of nodes to the data store
+     *
+     * @param nodes the {@link ZigBeeNode}s to write
+     */
+    private void writeNodes(List<ZigBeeNode> nodes) {
+        List<ZigBeeNodeDao> daos = new ArrayList<>(nodes.size());
+        for (ZigBeeNode pendingNode : nodes) {
+            if (writeAttributes(pendingNode)) {
+                continue;
+            }
+
+            // Clear the dirty flags before creating the DAO so that an update while the DAO is created is not lost
+            pendingNode.clearDirty();
+            daos.add(pendingNode.getDao());
+        }
+
+        if (daos.isEmpty()) {
+            return;
+        }
+        if (daos.size() == 1) {
+            logger.debug("{}: Data store: Writing node.", daos.get(0).getIeeeAddress());
+            dataStore.writeNode(daos.get(0));
+            return;
+        }
+
+        logger.debug("Data store: Writing {} nodes.", daos.size());
+        dataStore.writeNodes(daos);
+    }
+
+    /**
+     * Persists a node as a partial update if only attributes within the node have changed since it was last written.
+     *
+     * @param node the {@link ZigBeeNode} to write
+     * @return true if the node has been persisted, or false if the complete node must be written
+     */
+    private boolean writeAttributes(ZigBeeNode node) {
+        if (node.isDirty()) {
+            return false;
+        }
+
+        List<ZclAttributeUpdateDao> attributes = node.getDirtyAttributes();
+        if (attributes.isEmpty()) {
+            logger.debug("{}: Data store: Node is unchanged.", node.getIeeeAddress());
+            return true;
         }
 
-        dataStore.writeNode(node.getDao());
+        logger.debug("{}: Data store: Writing {} attributes.", node.getIeeeAddress(), attributes.size());
+        return dataStore.writeAttributes(node.getIeeeAddress(), attributes);
     }
 
 }
@@ -7,8 +7,14 @@
  */
 package com.zsmartsystems.zigbee.internal;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,6 +26,17 @@ import com.zsmartsystems.zigbee.ZigBeeExecutors;
  * thread is used so that the notifier is not blocked.
  * <p>
  * This helper class ensures that the stack handles threads efficiently throughout the system.
+ * <p>
+ * Notifications are run on a bounded pool of threads. Notifications submitted with a key through
+ * {@link #execute(Object, Runnable)} are placed in a queue for that key (normally the listener, or the node the
+ * notification relates to) and are run in the order they were submitted, one at a time. Each queue runs a batch of
+ * notifications each time it is given a thread, so that a busy listener does not prevent other listeners from being
+ * notified. When the queue for a key is full, the submitting thread is blocked until there is space in the queue, or
+ * the notification is discarded if the queue does not empty within {@link #BACKPRESSURE_TIMEOUT} milliseconds.
+ * Notification threads are not blocked, so the receive thread is slowed when listeners can not keep up.
+ * <p>
+ * For compatibility with earlier versions, the service may be created with an unbounded thread pool where each
+ * notification is run in its own thread with no ordering. Keys are ignored in this mode.
  *
  * @author Chris Jackson
  */
@@ -29,18 +46,246 @@ public class NotificationService {
      */
     private Logger logger = LoggerFactory.getLogger(NotificationService.class);
 
-    private ExecutorService executorService = ZigBeeExecutors.newCachedThreadPool("NotificationService");
+    /**
+     * The default maximum number of threads used to run notifications
+     */
+    public static final int DEFAULT_THREADS = 8;
+
+    /**
+     * The default maximum number of notifications queued for a single key
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+    /**
+     * The maximum number of notifications run from a single queue before the thread is released for other queues
+     */
+    private static final int BATCH_SIZE = 20;
+
+    /**
+     * The time in milliseconds to block the submitting thread when the queue for a key is full
+     */
+    private static final long BACKPRESSURE_TIMEOUT = 1000;
 
+    /**
+     * The time in milliseconds before an idle thread is terminated
+     */
+    private static final long THREAD_KEEPALIVE = 60000;
+
+    private final ExecutorService executorService;
+
+    /**
+     * True if keyed notifications are run in order. False when running in compatibility mode.
+     */
+    private final boolean ordered;
+
+    /**
+     * The maximum number of notifications queued for a single key
+     */
+    private final int queueCapacity;
+
+    /**
+     * The notification queues that are currently active, indexed by the identity of the key. A queue is removed once
+     * it is empty. All queues are synchronized on this map.
+     */
+    private final Map<Object, NotificationQueue> queues = new IdentityHashMap<>();
+
+    /**
+     * Set for threads that are running notifications from this service
+     */
+    private final ThreadLocal<Boolean> dispatchThread = new ThreadLocal<>();
+
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final AtomicLong peakQueueDepth = new AtomicLong();
+    private final AtomicLong dispatchCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong handlerTimeTotal = new AtomicLong();
+    private final AtomicLong handlerTimeMaximum = new AtomicLong();
+
+    /**
+     * Creates the notification service with the default number of threads and queue capacity
+     */
+    public NotificationService() {
+        this(DEFAULT_THREADS, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Creates the notification service.
+     *
+     * @param threads the maximum number of threads used to run notifications, or 0 to use an unbounded thread pool
+     *            where notifications are run without ordering as in earlier versions
+     * @param queueCapacity the maximum number of notifications queued for a single key
+     */
+    public NotificationService(int threads, int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+        if (threads > 0) {
+            ordered = true;
+            executorService = ZigBeeExecutors.newBoundedThreadPool(threads, THREAD_KEEPALIVE, "NotificationService");
+        } else {
+            ordered = false;
+            executorService = ZigBeeExecutors.newCachedThreadPool("NotificationService");
+        }
+    }
+
+    /**
+     * Runs a notification. Notifications submitted with this method are not ordered with respect to other
+     * notifications.
+     *
+     * @param command the {@link Runnable} to run
+     */
     public void execute(Runnable command) {
         if (executorService.isShutdown()) {
             logger.debug("NotificationService is shutdown. Not scheduling {}", command.getClass().getName());
             return;
         }
-        try {
-            executorService.execute(command);
-        } catch (Exception e) {
-            logger.error("NotificationService scheduler error ", e);
+        queueDepthIncrement();
+        if (!submit(new Notification(command))) {
+            queueDepth.decrementAndGet();
+        }
+    }
+
+    /**
+     * Runs a notification after all notifications previously submitted with the same key have completed. This would
+     * normally be called with the listener being notified as the key so that each listener receives notifications in
+     * the order they are raised.
+     * <p>
+     * If the queue for the key is full, this method blocks until there is space in the queue. If the queue does not
+     * empty within {@link #BACKPRESSURE_TIMEOUT} milliseconds the notification is discarded. Callers running in a
+     * notification thread are never blocked.
+     *
+     * @param key the key defining the order of the notification
+     * @param command the {@link Runnable} to run
+     */
+    public void execute(Object key, Runnable command) {
+        if (!ordered) {
+            execute(command);
+            return;
+        }
+        if (executorService.isShutdown()) {
+            logger.debug("NotificationService is shutdown. Not scheduling {}", command.getClass().getName());
+            return;
+        }
+
+        NotificationQueue queue;
+        boolean newQueue = false;
+        synchronized (queues) {
+            queue = queues.get(key);
+            // Notification threads are not blocked as they may be needed to empty the queue. The queue they are
+            // running from is itself bounded, so this still limits the number of notifications queued.
+            boolean blocking = !isDispatchThread();
+            if (blocking && queue != null && queue.notifications.size() >= queueCapacity) {
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(BACKPRESSURE_TIMEOUT);
+                long remaining = TimeUnit.MILLISECONDS.toNanos(BACKPRESSURE_TIMEOUT);
+                try {
+                    while (queue != null && queue.notifications.size() >= queueCapacity && remaining > 0) {
+                        TimeUnit.NANOSECONDS.timedWait(queues, remaining);
+                        remaining = deadline - System.nanoTime();
+                        queue = queues.get(key);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (blocking && queue != null && queue.notifications.size() >= queueCapacity) {
+                droppedCount.incrementAndGet();
+                logger.warn("NotificationService queue full for {}. Notification discarded.", key);
+                return;
+            }
+
+            if (queue == null) {
+                queue = new NotificationQueue(key);
+                queues.put(key, queue);
+                newQueue = true;
+            }
+            queue.notifications.add(command);
+            queueDepthIncrement();
+        }
+
+        if (newQueue && !submit(queue)) {
+            synchronized (queues) {
+                queues.remove(key);
+                queueDepth.addAndGet(-queue.notifications.size());
+            }
+        }
+    }
+
+    /**
+     * Checks if the current thread is running a notification from this service. Notifications should not block waiting
+     * for other notifications to complete when this returns true as the number of threads is bounded. This always
+     * returns false in compatibility mode.
+     *
+     * @return true if the current thread is a notification thread
+     */
+    public boolean isDispatchThread() {
+        return dispatchThread.get() != null;
+    }
+
+    /**
+     * Gets the number of notifications waiting to be run
+     *
+     * @return the number of notifications waiting to be run
+     */
+    public long getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Gets the maximum number of notifications that have been waiting to be run at the same time
+     *
+     * @return the peak number of notifications waiting to be run
+     */
+    public long getPeakQueueDepth() {
+        return peakQueueDepth.get();
+    }
+
+    /**
+     * Gets the number of notifications that have been run
+     *
+     * @return the number of notifications that have been run
+     */
+    public long getDispatchCount() {
+        return dispatchCount.get();
+    }
+
+    /**
+     * Gets the number of notifications that have been discarded as the queue was full
+     *
+     * @return the number of notifications that have been discarded
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Gets the average time taken to run a notification
+     *
+     * @return the average time taken by the listener to handle a notification in microseconds
+     */
+    public long getAverageHandlerTime() {
+        long count = dispatchCount.get();
+        if (count == 0) {
+            return 0;
         }
+        return TimeUnit.NANOSECONDS.toMicros(handlerTimeTotal.get() / count);
+    }
+
+    /**
+     * Gets the maximum time taken to run a notification
+     *
+     * @return the maximum time taken by the listener to handle a notification in microseconds
+     */
+    public long getMaximumHandlerTime() {
+        return TimeUnit.NANOSECONDS.toMicros(handlerTimeMaximum.get());
+    }
+
+    /**
+     * Resets the notification statistics
+     */
+    public void resetStatistics() {
+        peakQueueDepth.set(queueDepth.get());
+        dispatchCount.set(0);
+        droppedCount.set(0);
+        handlerTimeTotal.set(0);
+        handlerTimeMaximum.set(0);
     }
 
     /**
@@ -55,6 +300,116 @@ public class NotificationService {
         } catch (InterruptedException e) {
         }
         executorService.shutdownNow();
+        synchronized (queues) {
+            queues.clear();
+            queues.notifyAll();
+        }
     }
 
+    private boolean submit(Runnable runnable) {
+        try {
+            executorService.execute(runnable);
+            return true;
+        } catch (RejectedExecutionException e) {
+            logger.debug("NotificationService is shutdown. Not scheduling notification");
+        } catch (Exception e) {
+            logger.error("NotificationService scheduler error ", e);
+        }
+        return false;
+    }
+
+    private void queueDepthIncrement() {
+        long depth = queueDepth.incrementAndGet();
+        long peak = peakQueueDepth.get();
+        while (depth > peak && !peakQueueDepth.compareAndSet(peak, depth)) {
+            peak = peakQueueDepth.get();
+        }
+    }
+
+    /**
+     * Runs a single notification, recording the handler time
+     *
+     * @param command the notification to run
+     */
+    private void runNotification(Runnable command) {
+        long start = System.nanoTime();
+        try {
+            command.run();
+        } catch (Exception e) {
+            logger.error("NotificationService exception in notification {} ", command.getClass().getName(), e);
+        }
+        long time = System.nanoTime() - start;
+
+        dispatchCount.incrementAndGet();
+        handlerTimeTotal.addAndGet(time);
+        long maximum = handlerTimeMaximum.get();
+        while (time > maximum && !handlerTimeMaximum.compareAndSet(maximum, time)) {
+            maximum = handlerTimeMaximum.get();
+        }
+    }
+
+    /**
+     * An unordered notification
+     */
+    private class Notification implements Runnable {
+        private final Runnable command;
+
+        Notification(Runnable command) {
+            this.command = command;
+        }
+
+        @Override
+        public void run() {
+            queueDepth.decrementAndGet();
+            if (ordered) {
+                dispatchThread.set(Boolean.TRUE);
+            }
+            runNotification(command);
+        }
+    }
+
+    /**
+     * The queue of notifications for a single key. The queue is submitted to the executor when it is created, and
+     * resubmits itself after each batch until it is empty.
+     */
+    private class NotificationQueue implements Runnable {
+        private final Object key;
+        private final Deque<Runnable> notifications = new ArrayDeque<>();
+
+        NotificationQueue(Object key) {
+            this.key = key;
+        }
+
+        @Override
+        public void run() {
+            dispatchThread.set(Boolean.TRUE);
+            for (int count = 0; count < BATCH_SIZE; count++) {
+                Runnable command;
+                synchronized (queues) {
+                    command = notifications.poll();
+                    if (command == null) {
+                        queues.remove(key);
+                        return;
+                    }
+                    queueDepth.decrementAndGet();
+                    queues.notifyAll();
+                }
+                runNotification(command);
+            }
+
+            synchronized (queues) {
+                if (notifications.isEmpty()) {
+                    queues.remove(key);
+                    return;
+                }
+            }
+            if (!submit(this)) {
+                synchronized (queues) {
+                    queues.remove(key);
+                    queueDepth.addAndGet(-notifications.size());
+                    notifications.clear();
+                }
+            }
+        }
+    }
 }
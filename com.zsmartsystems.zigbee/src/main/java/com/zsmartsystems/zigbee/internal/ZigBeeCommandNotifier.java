@@ -60,7 +60,7 @@ public class ZigBeeCommandNotifier {
     public synchronized void notifyCommandListeners(final ZigBeeCommand command) {
         // Notify the listeners
         for (final ZigBeeCommandListener commandListener : commandListeners) {
-            networkManager.getNotificationService().execute(new Runnable() {
+            networkManager.getNotificationService().execute(commandListener, new Runnable() {
                 @Override
                 public void run() {
                     commandListener.commandReceived(command);
@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.internal;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.zsmartsystems.zigbee.ZigBeeNode;
+
+/**
+ * Index of {@link ZigBeeNode}s keyed by their 16 bit network address. This provides a constant time lookup of a node
+ * from the network address used in received frames, without boxing the address or scanning all nodes in the network.
+ * <p>
+ * The index is held as a direct table covering the full 16 bit address space. Updates are atomic per address, and a
+ * node is only removed from an address if it is still the node registered at that address, so concurrent address
+ * changes for different nodes can not remove each others entries.
+ * <p>
+ * The index does not itself validate that a node still has the address it was registered with - users should check
+ * the returned node against the requested address.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeNetworkAddressIndex {
+    /**
+     * The size of the network address space
+     */
+    private static final int ADDRESS_SPACE = 0x10000;
+
+    /**
+     * Table of nodes indexed by network address
+     */
+    private final AtomicReferenceArray<ZigBeeNode> nodes = new AtomicReferenceArray<>(ADDRESS_SPACE);
+
+    /**
+     * Adds a node to the index using its current network address. Any node previously registered at the same address
+     * is replaced.
+     *
+     * @param node the {@link ZigBeeNode} to add
+     */
+    public void add(ZigBeeNode node) {
+        Integer networkAddress = node.getNetworkAddress();
+        if (!isValid(networkAddress)) {
+            return;
+        }
+        nodes.set(networkAddress, node);
+    }
+
+    /**
+     * Removes a node from the index at the specified network address. The entry is only removed if it is still
+     * registered to the specified node.
+     *
+     * @param node the {@link ZigBeeNode} to remove
+     * @param networkAddress the network address the node was registered with
+     */
+    public void remove(ZigBeeNode node, Integer networkAddress) {
+        if (!isValid(networkAddress)) {
+            return;
+        }
+        nodes.compareAndSet(networkAddress, node, null);
+    }
+
+    /**
+     * Moves a node from its previous network address to its current network address.
+     *
+     * @param node the {@link ZigBeeNode} to move
+     * @param previousAddress the network address the node was previously registered with
+     */
+    public void update(ZigBeeNode node, Integer previousAddress) {
+        remove(node, previousAddress);
+        add(node);
+    }
+
+    /**
+     * Gets the node registered at the network address.
+     *
+     * @param networkAddress the network address
+     * @return the {@link ZigBeeNode} registered at the address, or null if no node is registered
+     */
+    public ZigBeeNode get(int networkAddress) {
+        if (networkAddress < 0 || networkAddress >= ADDRESS_SPACE) {
+            return null;
+        }
+        return nodes.get(networkAddress);
+    }
+
+    private boolean isValid(Integer networkAddress) {
+        return networkAddress != null && networkAddress >= 0 && networkAddress < ADDRESS_SPACE;
+    }
+}
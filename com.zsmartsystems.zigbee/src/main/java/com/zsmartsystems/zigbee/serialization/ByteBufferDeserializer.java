@@ -0,0 +1,386 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.serialization;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.zsmartsystems.zigbee.ExtendedPanId;
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.security.ZigBeeKey;
+import com.zsmartsystems.zigbee.zcl.ZclStatus;
+import com.zsmartsystems.zigbee.zcl.field.ByteArray;
+import com.zsmartsystems.zigbee.zcl.field.ZclArrayList;
+import com.zsmartsystems.zigbee.zcl.field.ZclDataPair;
+import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
+import com.zsmartsystems.zigbee.zdo.ZdoStatus;
+import com.zsmartsystems.zigbee.zdo.field.BindingTable;
+import com.zsmartsystems.zigbee.zdo.field.NeighborTable;
+import com.zsmartsystems.zigbee.zdo.field.NodeDescriptor;
+import com.zsmartsystems.zigbee.zdo.field.PowerDescriptor;
+import com.zsmartsystems.zigbee.zdo.field.RoutingTable;
+import com.zsmartsystems.zigbee.zdo.field.SimpleDescriptor;
+
+/**
+ * Implementation of the {@link ZigBeeDeserializer} reading directly from a {@link ByteBuffer}.
+ * <p>
+ * The deserializer operates on the remaining bytes of the buffer at the time it is constructed - the buffer is not
+ * copied, and its position and limit are not changed. This allows a frame to be decoded directly from a slice of the
+ * receive buffer without first converting it to an integer array. The format is the same as that of the
+ * {@link DefaultDeserializer}.
+ *
+ * @author Chris Jackson
+ */
+public class ByteBufferDeserializer implements ZigBeeDeserializer {
+    private int index = 0;
+    private final ByteBuffer payload;
+
+    /**
+     * Creates a deserializer reading from the remaining bytes of the {@link ByteBuffer}
+     *
+     * @param payload the {@link ByteBuffer} holding the payload
+     */
+    public ByteBufferDeserializer(ByteBuffer payload) {
+        this.payload = payload.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Creates a deserializer from an integer array. This allows the deserializer to be used with the legacy integer
+     * array payloads.
+     *
+     * @param payload the integer array holding the payload
+     */
+    public ByteBufferDeserializer(int[] payload) {
+        this(ByteBuffer.wrap(new ByteArray(payload).get()));
+    }
+
+    @Override
+    public boolean isEndOfStream() {
+        return index >= payload.limit();
+    }
+
+    @Override
+    public int getPosition() {
+        return index;
+    }
+
+    @Override
+    public int getSize() {
+        return payload.limit();
+    }
+
+    @Override
+    public void skip(int cnt) {
+        index += cnt;
+    }
+
+    private int readUnsigned8() {
+        return payload.get(index++) & 0xFF;
+    }
+
+    private int readUnsigned16() {
+        int value = payload.getShort(index) & 0xFFFF;
+        index += 2;
+        return value;
+    }
+
+    private int readUnsigned24() {
+        return readUnsigned16() + (readUnsigned8() << 16);
+    }
+
+    private int readInt32() {
+        int value = payload.getInt(index);
+        index += 4;
+        return value;
+    }
+
+    private long readUnsigned(int bytes) {
+        long value = 0;
+        for (int cnt = 0; cnt < bytes; cnt++) {
+            value += (long) readUnsigned8() << (cnt * 8);
+        }
+        return value;
+    }
+
+    private byte[] readBytes(int length) {
+        byte[] bytes = new byte[length];
+        for (int cnt = 0; cnt < length; cnt++) {
+            bytes[cnt] = payload.get(index++);
+        }
+        return bytes;
+    }
+
+    private int[] readIntArray(int length) {
+        int[] values = new int[length];
+        for (int cnt = 0; cnt < length; cnt++) {
+            values[cnt] = readUnsigned8();
+        }
+        return values;
+    }
+
+    @Override
+    /**
+     * {@inheritDoc}
+     */
+    public Object readZigBeeType(ZclDataType type) {
+        if (index == payload.limit()) {
+            return null;
+        }
+
+        Object value;
+        switch (type) {
+            case BOOLEAN:
+                value = readUnsigned8() == 0 ? false : true;
+                break;
+            case RAW_OCTET:
+                value = new ByteArray(readBytes(payload.limit() - index));
+                break;
+            case OCTET_STRING:
+                value = new ByteArray(readBytes(readUnsigned8()));
+                break;
+            case CHARACTER_STRING:
+                int stringSize = readUnsigned8();
+                if (stringSize == 255) {
+                    value = null;
+                    break;
+                }
+                int length = stringSize;
+                for (int cnt = 0; cnt < stringSize; cnt++) {
+                    if (payload.get(index + cnt) == 0) {
+                        length = cnt;
+                        break;
+                    }
+                }
+                byte[] bytes = new byte[length];
+                for (int cnt = 0; cnt < length; cnt++) {
+                    bytes[cnt] = payload.get(index + cnt);
+                }
+                value = new String(bytes, StandardCharsets.UTF_8);
+                index += stringSize;
+                break;
+            case LONG_OCTET_STRING:
+                value = new ByteArray(readBytes(readUnsigned16()));
+                break;
+            case SECURITY_KEY:
+                value = new ZigBeeKey(readIntArray(16));
+                break;
+            case ENDPOINT:
+            case BITMAP_8_BIT:
+            case DATA_8_BIT:
+            case ENUMERATION_8_BIT:
+            case UNSIGNED_8_BIT_INTEGER:
+                value = Integer.valueOf(readUnsigned8());
+                break;
+            case EXTENDED_PANID:
+                value = new ExtendedPanId(readIntArray(8));
+                break;
+            case IEEE_ADDRESS:
+                value = new IeeeAddress(readIntArray(8));
+                break;
+            case N_X_UNSIGNED_16_BIT_INTEGER:
+                int cntN16 = readUnsigned8();
+                List<Integer> arrayN16 = new ArrayList<Integer>(cntN16);
+                for (int arrayIndex = 0; arrayIndex < cntN16; arrayIndex++) {
+                    arrayN16.add(Integer.valueOf(readUnsigned16()));
+                }
+                value = arrayN16;
+                break;
+            case N_X_UNSIGNED_8_BIT_INTEGER:
+                int cntN8 = readUnsigned8();
+                List<Integer> arrayN8 = new ArrayList<Integer>(cntN8);
+                for (int arrayIndex = 0; arrayIndex < cntN8; arrayIndex++) {
+                    arrayN8.add(Integer.valueOf(readUnsigned8()));
+                }
+                value = arrayN8;
+                break;
+            case X_UNSIGNED_8_BIT_INTEGER:
+                int cntX8 = payload.limit() - index;
+                List<Integer> arrayX8 = new ArrayList<Integer>(cntX8);
+                for (int arrayIndex = 0; arrayIndex < cntX8; arrayIndex++) {
+                    arrayX8.add(Integer.valueOf(readUnsigned8()));
+                }
+                value = arrayX8;
+                break;
+            case N_X_ATTRIBUTE_IDENTIFIER:
+                int cntX16 = (payload.limit() - index) / 2;
+                List<Integer> arrayX16 = new ArrayList<Integer>(cntX16);
+                for (int arrayIndex = 0; arrayIndex < cntX16; arrayIndex++) {
+                    arrayX16.add(Integer.valueOf(readUnsigned16()));
+                }
+                value = arrayX16;
+                break;
+            case UNSIGNED_8_BIT_INTEGER_ARRAY:
+                value = readIntArray(payload.limit() - index);
+                break;
+            case CLUSTERID:
+            case NWK_ADDRESS:
+            case BITMAP_16_BIT:
+            case ENUMERATION_16_BIT:
+            case UNSIGNED_16_BIT_INTEGER:
+                value = Integer.valueOf(readUnsigned16());
+                break;
+            case SIGNED_16_BIT_INTEGER:
+                value = Integer.valueOf((short) readUnsigned16());
+                break;
+            case SIGNED_24_BIT_INTEGER:
+                value = (readUnsigned24() << 8) >> 8;
+                break;
+            case BITMAP_24_BIT:
+            case UNSIGNED_24_BIT_INTEGER:
+                value = readUnsigned24();
+                break;
+            case BITMAP_32_BIT:
+            case ENUMERATION_32_BIT:
+            case SIGNED_32_BIT_INTEGER:
+            case UNSIGNED_32_BIT_INTEGER:
+                value = readInt32();
+                break;
+            case UNSIGNED_40_BIT_INTEGER:
+                value = readUnsigned(5);
+                break;
+            case UNSIGNED_48_BIT_INTEGER:
+                value = readUnsigned(6);
+                break;
+            case SIGNED_8_BIT_INTEGER:
+                value = Integer.valueOf(payload.get(index++));
+                break;
+            case ROUTING_TABLE:
+                RoutingTable routingTable = new RoutingTable();
+                routingTable.deserialize(this);
+                value = routingTable;
+                break;
+            case NEIGHBOR_TABLE:
+                NeighborTable neighborTable = new NeighborTable();
+                neighborTable.deserialize(this);
+                value = neighborTable;
+                break;
+            case NODE_DESCRIPTOR:
+                NodeDescriptor nodeDescriptor = new NodeDescriptor();
+                nodeDescriptor.deserialize(this);
+                value = nodeDescriptor;
+                break;
+            case POWER_DESCRIPTOR:
+                PowerDescriptor powerDescriptor = new PowerDescriptor();
+                powerDescriptor.deserialize(this);
+                value = powerDescriptor;
+                break;
+            case BINDING_TABLE:
+                BindingTable bindingTable = new BindingTable();
+                bindingTable.deserialize(this);
+                value = bindingTable;
+                break;
+            case SIMPLE_DESCRIPTOR:
+                SimpleDescriptor simpleDescriptor = new SimpleDescriptor();
+                simpleDescriptor.deserialize(this);
+                value = simpleDescriptor;
+                break;
+            case ZCL_STATUS:
+                value = ZclStatus.getStatus(readUnsigned8());
+                break;
+            case ZDO_STATUS:
+                value = ZdoStatus.getStatus(readUnsigned8());
+                break;
+            case ZIGBEE_DATA_TYPE:
+                value = ZclDataType.getType(readUnsigned8());
+                break;
+            case BYTE_ARRAY:
+                value = new ByteArray(readBytes(readUnsigned8()));
+                break;
+            case ORDERED_SEQUENCE_STRUCTURE:
+                int structSize = readUnsigned16();
+                List<ZclDataPair> structure = new ArrayList<>();
+                for (int cnt = 0; cnt < structSize; cnt++) {
+                    ZclDataType structType = ZclDataType.getType(readUnsigned8());
+                    Object structValue = readZigBeeType(structType);
+                    structure.add(new ZclDataPair(structType, structValue));
+                }
+                value = structure;
+                break;
+            case ORDERED_SEQUENCE_ARRAY:
+                ZclDataType arrayType = ZclDataType.getType(readUnsigned8());
+                ZclArrayList array = new ZclArrayList(arrayType);
+                int arraySize = readUnsigned16();
+                for (int cnt = 0; cnt < arraySize; cnt++) {
+                    array.add(readZigBeeType(arrayType));
+                }
+                value = array;
+                break;
+            case FLOAT_32_BIT:
+                value = Double.valueOf(Float.intBitsToFloat(readInt32()));
+                break;
+            case N_X_ATTRIBUTE_INFORMATION:
+            case N_X_ATTRIBUTE_RECORD:
+            case N_X_ATTRIBUTE_REPORT:
+            case N_X_ATTRIBUTE_REPORTING_CONFIGURATION_RECORD:
+            case N_X_ATTRIBUTE_SELECTOR:
+            case N_X_ATTRIBUTE_STATUS_RECORD:
+            case N_X_EXTENSION_FIELD_SET:
+            case N_X_NEIGHBORS_INFORMATION:
+            case N_X_READ_ATTRIBUTE_STATUS_RECORD:
+            case N_X_WRITE_ATTRIBUTE_RECORD:
+            case N_X_WRITE_ATTRIBUTE_STATUS_RECORD:
+            case UTCTIME:
+                value = null;
+                break;
+            default:
+                throw new IllegalArgumentException("No reader defined in " + ZigBeeDeserializer.class.getSimpleName()
+                        + " for " + type.toString() + String.format(" (0x%02X)", type.getId()));
+        }
+        return value;
+    }
+
+    @Override
+    public long readZigBeeInteger(ZclDataType type) {
+        switch (type) {
+            case BITMAP_8_BIT:
+            case DATA_8_BIT:
+            case ENUMERATION_8_BIT:
+            case UNSIGNED_8_BIT_INTEGER:
+                return readUnsigned8();
+            case SIGNED_8_BIT_INTEGER:
+                return payload.get(index++);
+            case BITMAP_16_BIT:
+            case ENUMERATION_16_BIT:
+            case UNSIGNED_16_BIT_INTEGER:
+                return readUnsigned16();
+            case SIGNED_16_BIT_INTEGER:
+                return (short) readUnsigned16();
+            case BITMAP_24_BIT:
+            case UNSIGNED_24_BIT_INTEGER:
+                return readUnsigned24();
+            case SIGNED_24_BIT_INTEGER:
+                return (readUnsigned24() << 8) >> 8;
+            case BITMAP_32_BIT:
+            case ENUMERATION_32_BIT:
+            case UNSIGNED_32_BIT_INTEGER:
+                return readInt32() & 0xFFFFFFFFL;
+            case SIGNED_32_BIT_INTEGER:
+                return readInt32();
+            case UNSIGNED_40_BIT_INTEGER:
+                return readUnsigned(5);
+            case UNSIGNED_48_BIT_INTEGER:
+                return readUnsigned(6);
+            default:
+                throw new IllegalArgumentException("No integer reader defined in "
+                        + ZigBeeDeserializer.class.getSimpleName() + " for " + type.toString()
+                        + String.format(" (0x%02X)", type.getId()));
+        }
+    }
+
+    @Override
+    public double readZigBeeFloat(ZclDataType type) {
+        if (type != ZclDataType.FLOAT_32_BIT) {
+            throw new IllegalArgumentException("No float reader defined in " + ZigBeeDeserializer.class.getSimpleName()
+                    + " for " + type.toString() + String.format(" (0x%02X)", type.getId()));
+        }
+        return Float.intBitsToFloat(readInt32());
+    }
+}
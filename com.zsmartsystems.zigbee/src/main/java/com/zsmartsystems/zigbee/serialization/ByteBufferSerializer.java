@@ -0,0 +1,241 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.serialization;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+import com.zsmartsystems.zigbee.ExtendedPanId;
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.security.ZigBeeKey;
+import com.zsmartsystems.zigbee.zcl.ZclStatus;
+import com.zsmartsystems.zigbee.zcl.field.ByteArray;
+import com.zsmartsystems.zigbee.zcl.field.ZclArrayList;
+import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
+import com.zsmartsystems.zigbee.zdo.ZdoStatus;
+
+/**
+ * Implementation of the {@link ZigBeeSerializer} writing to a {@link ByteBuffer}.
+ * <p>
+ * Serializes data in the same binary format as the {@link DefaultSerializer}. The buffer grows as required, so the
+ * serializer is not limited to the size of a single APS frame, and the serialized data can be retrieved with
+ * {@link #getBuffer()} without conversion to an integer array.
+ *
+ * @author Chris Jackson
+ */
+public class ByteBufferSerializer implements ZigBeeSerializer {
+    /**
+     * The initial size of the buffer. This is sufficient for the majority of unfragmented frames.
+     */
+    private static final int INITIAL_SIZE = 128;
+
+    private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+    @Override
+    public int[] getPayload() {
+        int[] payload = new int[buffer.position()];
+        for (int cnt = 0; cnt < payload.length; cnt++) {
+            payload[cnt] = buffer.get(cnt) & 0xFF;
+        }
+        return payload;
+    }
+
+    /**
+     * Gets the serialized data as a {@link ByteBuffer}. The returned buffer shares its content with this serializer,
+     * and is positioned at the start of the data, with the limit set to the end of the data.
+     *
+     * @return the {@link ByteBuffer} containing the serialized data
+     */
+    public ByteBuffer getBuffer() {
+        ByteBuffer data = buffer.duplicate();
+        data.flip();
+        return data.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        ByteBuffer newBuffer = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.flip();
+        newBuffer.put(buffer);
+        buffer = newBuffer;
+    }
+
+    private void putUnsigned8(int value) {
+        ensureCapacity(1);
+        buffer.put((byte) value);
+    }
+
+    private void putUnsigned16(int value) {
+        ensureCapacity(2);
+        buffer.putShort((short) value);
+    }
+
+    private void putUnsigned24(int value) {
+        ensureCapacity(3);
+        buffer.putShort((short) value);
+        buffer.put((byte) (value >> 16));
+    }
+
+    private void putInt32(int value) {
+        ensureCapacity(4);
+        buffer.putInt(value);
+    }
+
+    private void putBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private void putIntArray(int[] values) {
+        ensureCapacity(values.length);
+        for (int value : values) {
+            buffer.put((byte) value);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void appendZigBeeType(Object data, ZclDataType type) throws IllegalArgumentException {
+        if (data == null) {
+            throw new IllegalArgumentException("You cannot append null data to a stream");
+        }
+
+        switch (type) {
+            case BOOLEAN:
+                putUnsigned8((Boolean) data ? 1 : 0);
+                break;
+            case NWK_ADDRESS:
+            case BITMAP_16_BIT:
+            case SIGNED_16_BIT_INTEGER:
+            case UNSIGNED_16_BIT_INTEGER:
+            case ENUMERATION_16_BIT:
+            case CLUSTERID:
+                putUnsigned16(((Number) data).shortValue());
+                break;
+            case ENDPOINT:
+            case DATA_8_BIT:
+            case BITMAP_8_BIT:
+            case SIGNED_8_BIT_INTEGER:
+            case UNSIGNED_8_BIT_INTEGER:
+            case ENUMERATION_8_BIT:
+                putUnsigned8(((Number) data).byteValue());
+                break;
+            case EXTENDED_PANID:
+                putIntArray(((ExtendedPanId) data).getValue());
+                break;
+            case IEEE_ADDRESS:
+                putIntArray(((IeeeAddress) data).getValue());
+                break;
+            case N_X_UNSIGNED_16_BIT_INTEGER:
+                List<Integer> intArray16 = (List<Integer>) data;
+                putUnsigned8(intArray16.size());
+                for (int value : intArray16) {
+                    putUnsigned16(value);
+                }
+                break;
+            case N_X_UNSIGNED_8_BIT_INTEGER:
+                List<Integer> intArrayNX8 = (List<Integer>) data;
+                putUnsigned8(intArrayNX8.size());
+                for (int value : intArrayNX8) {
+                    putUnsigned8(value);
+                }
+                break;
+            case UNSIGNED_8_BIT_INTEGER_ARRAY:
+                putIntArray((int[]) data);
+                break;
+            case X_UNSIGNED_8_BIT_INTEGER:
+                for (int value : (List<Integer>) data) {
+                    putUnsigned8(value);
+                }
+                break;
+            case N_X_ATTRIBUTE_IDENTIFIER:
+                for (int value : (List<Integer>) data) {
+                    putUnsigned16(value);
+                }
+                break;
+            case RAW_OCTET:
+                putBytes(((ByteArray) data).get());
+                break;
+            case OCTET_STRING:
+            case BYTE_ARRAY:
+                final ByteArray array = (ByteArray) data;
+                putUnsigned8(array.size());
+                putBytes(array.get());
+                break;
+            case CHARACTER_STRING:
+                final String str = (String) data;
+                putUnsigned8(str.length());
+                putBytes(str.getBytes());
+                break;
+            case LONG_OCTET_STRING:
+                final ByteArray longArray = (ByteArray) data;
+                putUnsigned16(longArray.size());
+                putBytes(longArray.get());
+                break;
+            case SECURITY_KEY:
+                putIntArray(((ZigBeeKey) data).getValue());
+                break;
+            case BITMAP_24_BIT:
+            case SIGNED_24_BIT_INTEGER:
+            case UNSIGNED_24_BIT_INTEGER:
+                putUnsigned24((Integer) data);
+                break;
+            case BITMAP_32_BIT:
+            case ENUMERATION_32_BIT:
+            case SIGNED_32_BIT_INTEGER:
+            case UNSIGNED_32_BIT_INTEGER:
+                putInt32((Integer) data);
+                break;
+            case UNSIGNED_48_BIT_INTEGER:
+                final long uint48Value = (Long) data;
+                putInt32((int) uint48Value);
+                putUnsigned16((int) (uint48Value >> 32));
+                break;
+            case ZDO_STATUS:
+                putUnsigned8(((ZdoStatus) data).getId());
+                break;
+            case ZCL_STATUS:
+                putUnsigned8(((ZclStatus) data).getId());
+                break;
+            case ZIGBEE_DATA_TYPE:
+                putUnsigned8(((ZclDataType) data).getId());
+                break;
+            case FLOAT_32_BIT:
+                putInt32(Float.floatToRawIntBits(((Double) data).floatValue()));
+                break;
+            case ORDERED_SEQUENCE_ARRAY:
+                ZclArrayList zclArray = (ZclArrayList) data;
+                putUnsigned8(zclArray.getDataType().getId());
+                putUnsigned16(zclArray.size() & 0xFF);
+                for (Object value : zclArray) {
+                    appendZigBeeType(value, zclArray.getDataType());
+                }
+                break;
+            case N_X_ATTRIBUTE_INFORMATION:
+            case N_X_ATTRIBUTE_RECORD:
+            case N_X_ATTRIBUTE_REPORT:
+            case N_X_ATTRIBUTE_REPORTING_CONFIGURATION_RECORD:
+            case N_X_ATTRIBUTE_SELECTOR:
+            case N_X_ATTRIBUTE_STATUS_RECORD:
+            case N_X_EXTENSION_FIELD_SET:
+            case N_X_NEIGHBORS_INFORMATION:
+            case N_X_READ_ATTRIBUTE_STATUS_RECORD:
+            case N_X_WRITE_ATTRIBUTE_RECORD:
+            case N_X_WRITE_ATTRIBUTE_STATUS_RECORD:
+            case UTCTIME:
+                break;
+            default:
+                throw new IllegalArgumentException("No writer defined in " + ZigBeeSerializer.class.getSimpleName()
+                        + " for " + type.toString() + String.format(" (0x%02X)", type.getId()));
+        }
+    }
+}
@@ -331,4 +331,59 @@ public class DefaultDeserializer implements ZigBeeDeserializer {
         }
         return value[0];
     }
+
+    @Override
+    public long readZigBeeInteger(ZclDataType type) {
+        switch (type) {
+            case BITMAP_8_BIT:
+            case DATA_8_BIT:
+            case ENUMERATION_8_BIT:
+            case UNSIGNED_8_BIT_INTEGER:
+                return payload[index++] & 0xFF;
+            case SIGNED_8_BIT_INTEGER:
+                return (byte) payload[index++];
+            case BITMAP_16_BIT:
+            case ENUMERATION_16_BIT:
+            case UNSIGNED_16_BIT_INTEGER:
+                return readUnsigned(2);
+            case SIGNED_16_BIT_INTEGER:
+                return (short) readUnsigned(2);
+            case BITMAP_24_BIT:
+            case UNSIGNED_24_BIT_INTEGER:
+                return readUnsigned(3);
+            case SIGNED_24_BIT_INTEGER:
+                return ((int) readUnsigned(3) << 8) >> 8;
+            case BITMAP_32_BIT:
+            case ENUMERATION_32_BIT:
+            case UNSIGNED_32_BIT_INTEGER:
+                return readUnsigned(4);
+            case SIGNED_32_BIT_INTEGER:
+                return (int) readUnsigned(4);
+            case UNSIGNED_40_BIT_INTEGER:
+                return readUnsigned(5);
+            case UNSIGNED_48_BIT_INTEGER:
+                return readUnsigned(6);
+            default:
+                throw new IllegalArgumentException("No integer reader defined in "
+                        + ZigBeeDeserializer.class.getSimpleName() + " for " + type.toString()
+                        + String.format(" (0x%02X)", type.getId()));
+        }
+    }
+
+    @Override
+    public double readZigBeeFloat(ZclDataType type) {
+        if (type != ZclDataType.FLOAT_32_BIT) {
+            throw new IllegalArgumentException("No float reader defined in " + ZigBeeDeserializer.class.getSimpleName()
+                    + " for " + type.toString() + String.format(" (0x%02X)", type.getId()));
+        }
+        return Float.intBitsToFloat((int) readUnsigned(4));
+    }
+
+    private long readUnsigned(int bytes) {
+        long value = 0;
+        for (int cnt = 0; cnt < bytes; cnt++) {
+            value |= (long) (payload[index++] & 0xFF) << (cnt * 8);
+        }
+        return value;
+    }
 }
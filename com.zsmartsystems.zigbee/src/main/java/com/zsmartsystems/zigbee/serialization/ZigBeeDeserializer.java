@@ -20,6 +20,40 @@ public interface ZigBeeDeserializer {
 
     public Object readZigBeeType(ZclDataType type);
 
+    /**
+     * Reads an integer, bitmap or enumeration type without creating an object. Unlike
+     * {@link #readZigBeeType(ZclDataType)}, unsigned 32 bit types are returned as unsigned values.
+     * <p>
+     * The default implementation reads the value with {@link #readZigBeeType(ZclDataType)}.
+     *
+     * @param type the {@link ZclDataType} to read. This must be a type with a size of up to 48 bits that is decoded
+     *            as an {@link Integer} or {@link Long}.
+     * @return the value
+     */
+    default long readZigBeeInteger(ZclDataType type) {
+        long value = ((Number) readZigBeeType(type)).longValue();
+        switch (type) {
+            case BITMAP_32_BIT:
+            case ENUMERATION_32_BIT:
+            case UNSIGNED_32_BIT_INTEGER:
+                return value & 0xFFFFFFFFL;
+            default:
+                return value;
+        }
+    }
+
+    /**
+     * Reads a floating point type without creating an object.
+     * <p>
+     * The default implementation reads the value with {@link #readZigBeeType(ZclDataType)}.
+     *
+     * @param type the {@link ZclDataType} to read. This must be {@link ZclDataType#FLOAT_32_BIT}.
+     * @return the value
+     */
+    default double readZigBeeFloat(ZclDataType type) {
+        return ((Number) readZigBeeType(type)).doubleValue();
+    }
+
     public int getPosition();
 
     public void skip(int bytes);
@@ -0,0 +1,26 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.serialization;
+
+/**
+ * Factory used to create a new {@link ZigBeeDeserializer} for each received frame. This is normally the constructor
+ * of the deserializer class (eg {@code DefaultDeserializer::new}).
+ *
+ * @author Chris Jackson
+ *
+ * @param <T> the type holding the payload to be deserialized
+ */
+public interface ZigBeeDeserializerFactory<T> {
+    /**
+     * Creates a new deserializer to read the payload
+     *
+     * @param payload the payload to be deserialized
+     * @return the new {@link ZigBeeDeserializer}
+     */
+    ZigBeeDeserializer createDeserializer(T payload);
+}
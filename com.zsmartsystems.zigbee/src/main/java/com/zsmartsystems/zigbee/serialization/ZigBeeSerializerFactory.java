@@ -0,0 +1,23 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.serialization;
+
+/**
+ * Factory used to create a new {@link ZigBeeSerializer} for each frame to be sent. This is normally the constructor
+ * of the serializer class (eg {@code DefaultSerializer::new}).
+ *
+ * @author Chris Jackson
+ */
+public interface ZigBeeSerializerFactory {
+    /**
+     * Creates a new serializer
+     *
+     * @return the new {@link ZigBeeSerializer}
+     */
+    ZigBeeSerializer createSerializer();
+}
@@ -182,6 +182,34 @@ public class ZigBeeTransaction {
         return command.getTransactionId();
     }
 
+    /**
+     * Gets the {@link ZigBeeCommand} sent by this transaction
+     *
+     * @return the {@link ZigBeeCommand}
+     */
+    protected ZigBeeCommand getCommand() {
+        return command;
+    }
+
+    /**
+     * Gets the {@link ZigBeeTransactionMatcher} used to match the response to the command
+     *
+     * @return the {@link ZigBeeTransactionMatcher}, or null if no response is expected
+     */
+    protected ZigBeeTransactionMatcher getResponseMatcher() {
+        return responseMatcher;
+    }
+
+    /**
+     * Gets the {@link ZigBeeTransactionPriority} of the transaction. This is the priority of the command.
+     *
+     * @return the {@link ZigBeeTransactionPriority} of the transaction
+     */
+    public ZigBeeTransactionPriority getPriority() {
+        ZigBeeTransactionPriority priority = command.getPriority();
+        return priority == null ? ZigBeeTransactionPriority.NORMAL : priority;
+    }
+
     /**
      * Gets the time that the command was added to the queue, or null if the command is not in a queue
      *
@@ -0,0 +1,221 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransaction.TransactionState;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportProgressState;
+
+/**
+ * A {@link ZigBeeTransactionConcurrencyPolicy} that adapts the number of outstanding transactions using additive
+ * increase, multiplicative decrease (AIMD) in the same way that TCP manages its congestion window.
+ * <p>
+ * A window is maintained for each queue, and so for each destination node, so that a node that is failing to receive
+ * (eg because it or its parent is overloaded, or the route is poor) is limited without affecting the rest of the
+ * network. The queue window is driven by the outcome of the transactions sent from the queue - it grows by around one
+ * transaction each time a full window of transactions completes, and is halved when a transaction fails, or the
+ * transport reports a {@link ZigBeeTransportProgressState#TX_NAK} for a transaction from the queue. The queue window
+ * never exceeds the limit in the queue's {@link ZigBeeTransactionProfile}.
+ * <p>
+ * A global window limits the number of transactions outstanding in the dongle. Each
+ * {@link ZigBeeTransportProgressState#TX_ACK} increases the window by 1/window, so the window grows by around one
+ * transaction each time a full window is acknowledged. The window is halved when
+ * {@link ZigBeeTransportProgressState#TX_NAK}s - indicating the dongle was unable to send the frame - are received
+ * for different destinations in turn, as this indicates the dongle or the channel is congested. Repeated failures to a
+ * single destination only reduce the window for that destination.
+ * <p>
+ * Following a decrease, further failures are ignored until a window's worth of successes has been received. This
+ * avoids collapsing the window when a burst of transactions that were already in flight fail together.
+ *
+ * @author Chris Jackson
+ */
+public class ZigBeeTransactionAimdConcurrencyPolicy implements ZigBeeTransactionConcurrencyPolicy {
+    /**
+     * The default minimum global window
+     */
+    private static final int DEFAULT_MINIMUM = 1;
+
+    /**
+     * The default maximum global window
+     */
+    private static final int DEFAULT_MAXIMUM = 16;
+
+    /**
+     * The default initial global window
+     */
+    private static final int DEFAULT_INITIAL = 5;
+
+    /**
+     * The factor applied to the window on failure
+     */
+    private static final double DECREASE_FACTOR = 0.5;
+
+    private final int minimum;
+    private final int maximum;
+
+    /**
+     * The global window
+     */
+    private final Window window;
+
+    /**
+     * The window for each queue. Queues without a window are running at the limit of their profile.
+     */
+    private final Map<ZigBeeTransactionQueue, Window> queueWindows = new HashMap<>();
+
+    /**
+     * The queue of the last transaction that the transport failed to send
+     */
+    private ZigBeeTransactionQueue lastFailedQueue;
+
+    /**
+     * Constructs the policy with a default initial window of 5 transactions, adapting between 1 and 16 transactions
+     */
+    public ZigBeeTransactionAimdConcurrencyPolicy() {
+        this(DEFAULT_MINIMUM, DEFAULT_INITIAL, DEFAULT_MAXIMUM);
+    }
+
+    /**
+     * Constructs the policy
+     *
+     * @param minimum the minimum number of transactions the manager will allow outstanding. Must be at least 1.
+     * @param initial the initial number of transactions the manager will allow outstanding
+     * @param maximum the maximum number of transactions the manager will allow outstanding. This should reflect the
+     *            buffering available in the dongle.
+     */
+    public ZigBeeTransactionAimdConcurrencyPolicy(int minimum, int initial, int maximum) {
+        if (minimum < 1 || maximum < minimum) {
+            throw new IllegalArgumentException("Invalid window limits " + minimum + " to " + maximum);
+        }
+        this.minimum = minimum;
+        this.maximum = maximum;
+        window = new Window(Math.max(minimum, Math.min(initial, maximum)));
+    }
+
+    @Override
+    public synchronized int getMaxOutstandingTransactions() {
+        return window.getLimit();
+    }
+
+    @Override
+    public synchronized int getMaxOutstandingTransactions(ZigBeeTransactionQueue queue) {
+        int profileLimit = getProfileLimit(queue);
+        Window queueWindow = queueWindows.get(queue);
+        if (queueWindow == null) {
+            return profileLimit;
+        }
+        return Math.min(queueWindow.getLimit(), profileLimit);
+    }
+
+    @Override
+    public synchronized void transportStateReceived(ZigBeeTransactionQueue queue, ZigBeeTransportProgressState state) {
+        switch (state) {
+            case TX_ACK:
+                window.increase(maximum);
+                break;
+            case TX_NAK:
+                if (queue != null) {
+                    decreaseQueueWindow(queue);
+                }
+                // Only failures on different links indicate congestion in the dongle
+                if (queue == null || (lastFailedQueue != null && lastFailedQueue != queue)) {
+                    window.decrease(minimum);
+                }
+                lastFailedQueue = queue;
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public synchronized void transactionComplete(ZigBeeTransactionQueue queue, TransactionState state) {
+        if (state == TransactionState.FAILED) {
+            decreaseQueueWindow(queue);
+        } else {
+            increaseQueueWindow(queue);
+        }
+    }
+
+    @Override
+    public synchronized void queueRemoved(ZigBeeTransactionQueue queue) {
+        queueWindows.remove(queue);
+        if (lastFailedQueue == queue) {
+            lastFailedQueue = null;
+        }
+    }
+
+    private void increaseQueueWindow(ZigBeeTransactionQueue queue) {
+        Window queueWindow = queueWindows.get(queue);
+        if (queueWindow == null) {
+            // The queue is running at its profile limit - nothing to track until it fails
+            return;
+        }
+        int profileLimit = getProfileLimit(queue);
+        queueWindow.increase(profileLimit);
+        if (queueWindow.getLimit() >= profileLimit) {
+            queueWindows.remove(queue);
+        }
+    }
+
+    private void decreaseQueueWindow(ZigBeeTransactionQueue queue) {
+        Window queueWindow = queueWindows.get(queue);
+        if (queueWindow == null) {
+            queueWindow = new Window(getProfileLimit(queue));
+            queueWindows.put(queue, queueWindow);
+        }
+        queueWindow.decrease(1);
+    }
+
+    private int getProfileLimit(ZigBeeTransactionQueue queue) {
+        return Math.max(1, queue.getProfile().getMaxOutstandingTransactions());
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ZigBeeTransactionAimdConcurrencyPolicy [window=" + window.getLimit() + ", limitedQueues="
+                + queueWindows.size() + "]";
+    }
+
+    /**
+     * An AIMD congestion window
+     */
+    private static class Window {
+        private double size;
+
+        /**
+         * The number of successes remaining before another decrease is allowed
+         */
+        private int recovery = 0;
+
+        Window(double size) {
+            this.size = size;
+        }
+
+        int getLimit() {
+            return (int) size;
+        }
+
+        void increase(int maximum) {
+            if (recovery > 0) {
+                recovery--;
+            }
+            size = Math.min(maximum, size + 1.0 / size);
+        }
+
+        void decrease(int minimum) {
+            if (recovery > 0) {
+                return;
+            }
+            size = Math.max(minimum, size * DECREASE_FACTOR);
+            recovery = getLimit();
+        }
+    }
+}
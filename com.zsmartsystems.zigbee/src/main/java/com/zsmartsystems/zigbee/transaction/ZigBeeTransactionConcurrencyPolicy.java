@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransaction.TransactionState;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportProgressState;
+
+/**
+ * Defines a policy used by the {@link ZigBeeTransactionManager} to limit the number of transactions that are in flight
+ * at any time. A policy may adapt the limits from the feedback it receives from the transport layer and the outcome of
+ * each transaction, allowing the manager to use the capacity available in the dongle and network without overloading
+ * it.
+ * <p>
+ * All methods are called with the transaction manager locked, so implementations should return quickly.
+ *
+ * @author Chris Jackson
+ */
+public interface ZigBeeTransactionConcurrencyPolicy {
+    /**
+     * Gets the maximum number of transactions the manager may have outstanding
+     *
+     * @return the current global limit of outstanding transactions
+     */
+    int getMaxOutstandingTransactions();
+
+    /**
+     * Gets the maximum number of transactions the queue may have outstanding. This should not exceed the limit set in
+     * the {@link ZigBeeTransactionProfile} of the queue.
+     *
+     * @param queue the {@link ZigBeeTransactionQueue}
+     * @return the current limit of outstanding transactions for the queue
+     */
+    int getMaxOutstandingTransactions(ZigBeeTransactionQueue queue);
+
+    /**
+     * Called when the transport layer reports the progress of a transaction
+     *
+     * @param queue the {@link ZigBeeTransactionQueue} from which the transaction was sent, or null if the transaction
+     *            is not known
+     * @param state the {@link ZigBeeTransportProgressState} reported by the transport layer
+     */
+    void transportStateReceived(ZigBeeTransactionQueue queue, ZigBeeTransportProgressState state);
+
+    /**
+     * Called when a transaction from the queue completes. A {@link TransactionState#FAILED} state indicates the
+     * transaction was not acknowledged by the transport or the remote device, or timed out.
+     *
+     * @param queue the {@link ZigBeeTransactionQueue} from which the transaction was sent
+     * @param state the final {@link TransactionState} of the transaction
+     */
+    void transactionComplete(ZigBeeTransactionQueue queue, TransactionState state);
+
+    /**
+     * Called when a queue is removed from the manager so that any state held for the queue can be released
+     *
+     * @param queue the {@link ZigBeeTransactionQueue} that has been removed
+     */
+    void queueRemoved(ZigBeeTransactionQueue queue);
+}
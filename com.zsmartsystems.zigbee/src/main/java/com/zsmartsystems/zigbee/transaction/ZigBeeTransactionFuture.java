@@ -7,6 +7,8 @@
  */
 package com.zsmartsystems.zigbee.transaction;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -17,6 +19,9 @@ import com.zsmartsystems.zigbee.ZigBeeStatus;
 /**
  * Future implementation for asynchronous transactions. Multiple threads may listen for the completion of the
  * transaction.
+ * <p>
+ * As well as blocking in {@link #get()}, a {@link ZigBeeTransactionFutureListener} may be added to be notified when the
+ * transaction completes so that callers can chain further work without holding a thread.
  *
  * @author Chris Jackson
  */
@@ -28,6 +33,11 @@ public class ZigBeeTransactionFuture implements Future<CommandResult> {
 
     private boolean cancelled = false;
 
+    /**
+     * The listeners waiting for the transaction to complete. Listeners are removed once notified.
+     */
+    private final List<ZigBeeTransactionFutureListener> listeners = new ArrayList<>();
+
     /**
      * We set the timeout to 5 minutes to be long enough to allow the transaction manager to complete its queuing and
      * eventual retries
@@ -40,21 +50,50 @@ public class ZigBeeTransactionFuture implements Future<CommandResult> {
      *
      * @param result the {@link CommandResult}
      */
-    public synchronized void set(final CommandResult result) {
-        this.result = result;
-        notifyAll();
+    public void set(final CommandResult result) {
+        List<ZigBeeTransactionFutureListener> completedListeners;
+        synchronized (this) {
+            this.result = result;
+            notifyAll();
+            completedListeners = removeListeners();
+        }
+        notifyListeners(completedListeners, result);
     }
 
     @Override
-    public synchronized boolean cancel(boolean mayInterruptIfRunning) {
-        if (result != null || cancelled) {
-            return false;
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        List<ZigBeeTransactionFutureListener> completedListeners;
+        synchronized (this) {
+            if (result != null || cancelled) {
+                return false;
+            }
+            cancelled = true;
+            notifyAll();
+            completedListeners = removeListeners();
         }
-        cancelled = true;
-        notifyAll();
+        notifyListeners(completedListeners, new CommandResult(ZigBeeStatus.FAILURE, null));
         return true;
     }
 
+    /**
+     * Adds a {@link ZigBeeTransactionFutureListener} to be notified when the transaction completes. If the
+     * transaction is already complete, the listener is notified immediately from the calling thread. Each listener is
+     * notified once.
+     *
+     * @param listener the {@link ZigBeeTransactionFutureListener} to notify
+     */
+    public void addListener(final ZigBeeTransactionFutureListener listener) {
+        CommandResult completedResult;
+        synchronized (this) {
+            if (!cancelled && result == null) {
+                listeners.add(listener);
+                return;
+            }
+            completedResult = result != null ? result : new CommandResult(ZigBeeStatus.FAILURE, null);
+        }
+        listener.transactionComplete(completedResult);
+    }
+
     @Override
     public boolean isCancelled() {
         return cancelled;
@@ -88,4 +127,22 @@ public class ZigBeeTransactionFuture implements Future<CommandResult> {
             return result;
         }
     }
+
+    private List<ZigBeeTransactionFutureListener> removeListeners() {
+        if (listeners.isEmpty()) {
+            return null;
+        }
+        List<ZigBeeTransactionFutureListener> completedListeners = new ArrayList<>(listeners);
+        listeners.clear();
+        return completedListeners;
+    }
+
+    private void notifyListeners(List<ZigBeeTransactionFutureListener> completedListeners, CommandResult result) {
+        if (completedListeners == null) {
+            return;
+        }
+        for (ZigBeeTransactionFutureListener listener : completedListeners) {
+            listener.transactionComplete(result);
+        }
+    }
 }
@@ -0,0 +1,28 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+import com.zsmartsystems.zigbee.CommandResult;
+
+/**
+ * Listener called when a {@link ZigBeeTransactionFuture} completes. This allows the result of a transaction to be
+ * processed without blocking a thread in {@link ZigBeeTransactionFuture#get()}.
+ *
+ * @author Chris Jackson
+ */
+public interface ZigBeeTransactionFutureListener {
+    /**
+     * Called when the transaction completes. If the transaction was cancelled, the result will have the status
+     * {@link com.zsmartsystems.zigbee.ZigBeeStatus#FAILURE} and no response.
+     * <p>
+     * This is called from the thread that completed the transaction, and the implementation must not block.
+     *
+     * @param result the {@link CommandResult} of the transaction
+     */
+    void transactionComplete(CommandResult result);
+}
@@ -0,0 +1,230 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.zsmartsystems.zigbee.ZigBeeCommand;
+import com.zsmartsystems.zigbee.ZigBeeEndpointAddress;
+import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.ZclTransactionMatcher;
+import com.zsmartsystems.zigbee.zdo.ZdoRequest;
+import com.zsmartsystems.zigbee.zdo.ZdoResponse;
+import com.zsmartsystems.zigbee.zdo.ZdoTransactionMatcher;
+
+/**
+ * Indexes the outstanding {@link ZigBeeTransaction}s so that received commands and transport progress updates are only
+ * passed to the transactions they may complete.
+ * <p>
+ * Transactions using the {@link ZclTransactionMatcher} are indexed by the destination address and endpoint, the
+ * transaction sequence number and the cluster, which are the fields the matcher compares. ZDO requests using the
+ * {@link ZdoTransactionMatcher}, or that match their own response, are indexed by the transaction sequence number and
+ * the response cluster. The source address is not used for ZDO since a response may be sent on behalf of the
+ * destination, or to a broadcast request. The index only selects the candidate transactions - each transaction still
+ * uses its matcher to check the command. Transactions with any other matcher are offered every received command.
+ * <p>
+ * All transactions are indexed by their transaction ID to receive transport progress updates.
+ * <p>
+ * This class is not thread safe, and must be synchronized by the caller.
+ *
+ * @author Chris Jackson
+ *
+ */
+class ZigBeeTransactionIndex {
+    /**
+     * Flag added to the keys for ZDO transactions so they are distinct from ZCL keys
+     */
+    private static final long ZDO_KEY = 1L << 48;
+
+    /**
+     * Flag for the cluster of ZDO responses
+     */
+    private static final int ZDO_RESPONSE = 0x8000;
+
+    /**
+     * The transactions with a known matcher, indexed by the key of the response that may match them
+     */
+    private final Map<Long, List<ZigBeeTransaction>> responseIndex = new HashMap<>();
+
+    /**
+     * The key of each transaction in {@link #responseIndex}
+     */
+    private final Map<ZigBeeTransaction, Long> responseKeys = new HashMap<>();
+
+    /**
+     * Transactions with a matcher that can't be indexed. These are offered every received command.
+     */
+    private final Set<ZigBeeTransaction> unindexedTransactions = new LinkedHashSet<>();
+
+    /**
+     * The transactions indexed by the transaction ID used by the transport for progress updates
+     */
+    private final Map<Integer, List<ZigBeeTransaction>> progressIndex = new HashMap<>();
+
+    /**
+     * The key of each transaction in {@link #progressIndex}
+     */
+    private final Map<ZigBeeTransaction, Integer> progressKeys = new HashMap<>();
+
+    /**
+     * Adds a transaction to the index. If the transaction is already in the index, it is indexed again in case the
+     * destination has changed.
+     *
+     * @param transaction the {@link ZigBeeTransaction} to add
+     */
+    void add(ZigBeeTransaction transaction) {
+        remove(transaction);
+
+        ZigBeeTransactionMatcher matcher = transaction.getResponseMatcher();
+        if (matcher != null) {
+            Long key = getRequestKey(transaction.getCommand(), matcher);
+            if (key == null) {
+                unindexedTransactions.add(transaction);
+            } else {
+                addToIndex(responseIndex, key, transaction);
+                responseKeys.put(transaction, key);
+            }
+        }
+
+        Integer transactionId = transaction.getTransactionId();
+        if (transactionId != null) {
+            addToIndex(progressIndex, transactionId, transaction);
+            progressKeys.put(transaction, transactionId);
+        }
+    }
+
+    /**
+     * Removes a transaction from the index
+     *
+     * @param transaction the {@link ZigBeeTransaction} to remove
+     */
+    void remove(ZigBeeTransaction transaction) {
+        unindexedTransactions.remove(transaction);
+
+        Long responseKey = responseKeys.remove(transaction);
+        if (responseKey != null) {
+            removeFromIndex(responseIndex, responseKey, transaction);
+        }
+        Integer progressKey = progressKeys.remove(transaction);
+        if (progressKey != null) {
+            removeFromIndex(progressIndex, progressKey, transaction);
+        }
+    }
+
+    /**
+     * Gets the transactions that may be completed by a received command
+     *
+     * @param command the received {@link ZigBeeCommand}
+     * @return the list of {@link ZigBeeTransaction}s to be offered the command
+     */
+    List<ZigBeeTransaction> getResponseCandidates(ZigBeeCommand command) {
+        Long key = getResponseKey(command);
+        List<ZigBeeTransaction> indexed = key == null ? null : responseIndex.get(key);
+        if (indexed == null && unindexedTransactions.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<ZigBeeTransaction> candidates = new ArrayList<>(unindexedTransactions);
+        if (indexed != null) {
+            candidates.addAll(indexed);
+        }
+        return candidates;
+    }
+
+    /**
+     * Gets the transactions that use the specified transaction ID
+     *
+     * @param transactionId the transaction ID used by the transport
+     * @return the list of {@link ZigBeeTransaction}s to be notified of the transport progress
+     */
+    List<ZigBeeTransaction> getProgressCandidates(int transactionId) {
+        List<ZigBeeTransaction> indexed = progressIndex.get(transactionId);
+        if (indexed == null) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(indexed);
+    }
+
+    /**
+     * Gets the key used to index a request, or null if the request can not be indexed
+     */
+    private Long getRequestKey(ZigBeeCommand command, ZigBeeTransactionMatcher matcher) {
+        if (command == null || command.getTransactionId() == null || command.getClusterId() == null) {
+            return null;
+        }
+
+        if (matcher.getClass() == ZclTransactionMatcher.class && command instanceof ZclCommand
+                && command.getDestinationAddress() instanceof ZigBeeEndpointAddress) {
+            ZigBeeEndpointAddress address = (ZigBeeEndpointAddress) command.getDestinationAddress();
+            return getZclKey(address, command.getTransactionId(), command.getClusterId());
+        }
+
+        if (command instanceof ZdoRequest
+                && (matcher == command || matcher.getClass() == ZdoTransactionMatcher.class)) {
+            return getZdoKey(command.getTransactionId(), command.getClusterId() | ZDO_RESPONSE);
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the key used to find the transactions for a received command, or null if the command can only complete
+     * transactions that are not indexed
+     */
+    private Long getResponseKey(ZigBeeCommand command) {
+        if (command.getTransactionId() == null || command.getClusterId() == null) {
+            return null;
+        }
+
+        if (command instanceof ZclCommand && command.getSourceAddress() instanceof ZigBeeEndpointAddress) {
+            ZigBeeEndpointAddress address = (ZigBeeEndpointAddress) command.getSourceAddress();
+            return getZclKey(address, command.getTransactionId(), command.getClusterId());
+        }
+
+        if (command instanceof ZdoResponse) {
+            return getZdoKey(command.getTransactionId(), command.getClusterId());
+        }
+
+        return null;
+    }
+
+    private Long getZclKey(ZigBeeEndpointAddress address, int transactionId, int clusterId) {
+        return ((long) (address.getAddress() & 0xFFFF) << 32) | ((long) (address.getEndpoint() & 0xFF) << 24)
+                | ((transactionId & 0xFF) << 16) | (clusterId & 0xFFFF);
+    }
+
+    private Long getZdoKey(int transactionId, int clusterId) {
+        return ZDO_KEY | ((transactionId & 0xFF) << 16) | (clusterId & 0xFFFF);
+    }
+
+    private <K> void addToIndex(Map<K, List<ZigBeeTransaction>> index, K key, ZigBeeTransaction transaction) {
+        List<ZigBeeTransaction> transactions = index.get(key);
+        if (transactions == null) {
+            transactions = new ArrayList<>(1);
+            index.put(key, transactions);
+        }
+        transactions.add(transaction);
+    }
+
+    private <K> void removeFromIndex(Map<K, List<ZigBeeTransaction>> index, K key, ZigBeeTransaction transaction) {
+        List<ZigBeeTransaction> transactions = index.get(key);
+        if (transactions == null) {
+            return;
+        }
+        transactions.remove(transaction);
+        if (transactions.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of the time transactions spend waiting in the {@link ZigBeeTransactionQueue} before they are first sent.
+ * A histogram is maintained by the {@link ZigBeeTransactionManager} for each {@link ZigBeeTransactionPriority}.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeTransactionLatency {
+    /**
+     * The upper limit of each bucket in milliseconds. The final bucket holds all latencies greater than the last
+     * limit.
+     */
+    private static final long[] BUCKET_LIMITS = { 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000, 30000 };
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_LIMITS.length + 1);
+
+    /**
+     * Records a latency in the histogram
+     *
+     * @param latency the latency in milliseconds
+     */
+    protected void record(long latency) {
+        int bucket = Arrays.binarySearch(BUCKET_LIMITS, latency);
+        counts.incrementAndGet(bucket < 0 ? -bucket - 1 : bucket);
+    }
+
+    /**
+     * Gets the upper limit of each bucket in milliseconds. The array returned by {@link #getCounts()} has one more
+     * entry than this array - the final count is the number of latencies greater than the last limit.
+     *
+     * @return the upper limit of each bucket in milliseconds
+     */
+    public long[] getBucketLimits() {
+        return BUCKET_LIMITS.clone();
+    }
+
+    /**
+     * Gets the number of latencies recorded in each bucket
+     *
+     * @return the count for each bucket
+     */
+    public long[] getCounts() {
+        long[] values = new long[counts.length()];
+        for (int bucket = 0; bucket < values.length; bucket++) {
+            values[bucket] = counts.get(bucket);
+        }
+        return values;
+    }
+
+    /**
+     * Gets the total number of latencies recorded
+     *
+     * @return the number of latencies recorded
+     */
+    public long getCount() {
+        long count = 0;
+        for (int bucket = 0; bucket < counts.length(); bucket++) {
+            count += counts.get(bucket);
+        }
+        return count;
+    }
+
+    /**
+     * Clears the histogram
+     */
+    public void reset() {
+        for (int bucket = 0; bucket < counts.length(); bucket++) {
+            counts.set(bucket, 0);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ZigBeeTransactionLatency [limits=" + Arrays.toString(BUCKET_LIMITS) + ", counts="
+                + Arrays.toString(getCounts()) + "]";
+    }
+}
@@ -7,12 +7,16 @@
  */
 package com.zsmartsystems.zigbee.transaction;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
@@ -34,6 +38,7 @@ import com.zsmartsystems.zigbee.ZigBeeExecutors;
 import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
 import com.zsmartsystems.zigbee.ZigBeeNetworkNodeListener;
 import com.zsmartsystems.zigbee.ZigBeeNode;
+import com.zsmartsystems.zigbee.internal.NotificationService;
 import com.zsmartsystems.zigbee.transaction.ZigBeeTransaction.TransactionState;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportProgressState;
 import com.zsmartsystems.zigbee.zdo.field.NodeDescriptor.MacCapabilitiesType;
@@ -63,7 +68,19 @@ import com.zsmartsystems.zigbee.zdo.field.NodeDescriptor.MacCapabilitiesType;
  * attempt to send the next transaction in order to keep the transport layer full, while also fulfilling the various
  * constraints in the queues.
  * <p>
- * When sending, queues are polled in random order to ensure that all queues get a fair chance at sending data.
+ * When sending, queues are served according to the {@link ZigBeeTransactionPriority} of the transaction at the head of
+ * each queue. Deficit round robin is used across the priority classes so that higher priority transactions are sent
+ * first under load, while lower priority classes still receive a share of the bandwidth in proportion to their weight.
+ * Within a priority class, queues are served in round robin order to ensure that all queues get a fair chance at
+ * sending data. Queues that are waiting for their inter-transaction delay are held in a heap ordered by their release
+ * time, and queues that can not release a transaction until an outstanding transaction completes are parked until
+ * then, so the cost of selecting the next transaction does not grow with the number of queues.
+ * <p>
+ * The number of transactions in flight may be adapted to the capacity of the transport and the network by setting a
+ * {@link ZigBeeTransactionConcurrencyPolicy}, such as the {@link ZigBeeTransactionAimdConcurrencyPolicy}.
+ * <p>
+ * The time each transaction spends in the queue before it is first sent is recorded in a
+ * {@link ZigBeeTransactionLatency} histogram for each priority class.
  *
  * @author Chris Jackson
  *
@@ -110,6 +127,12 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
      */
     private final Set<ZigBeeTransaction> outstandingTransactions = new HashSet<>();
 
+    /**
+     * Index of the outstanding transactions, used to find the transactions that a received command or transport
+     * progress update may complete. This is synchronized with {@link #outstandingTransactions}.
+     */
+    private final ZigBeeTransactionIndex transactionIndex = new ZigBeeTransactionIndex();
+
     /**
      * The maximum number of transactions the manager will allow at any time
      */
@@ -120,6 +143,12 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
      */
     private int maxSleepyTransactions = MAX_SLEEPY_TRANSACTIONS;
 
+    /**
+     * The {@link ZigBeeTransactionConcurrencyPolicy} used to adapt the number of outstanding transactions, or null if
+     * the fixed limits are used
+     */
+    private volatile ZigBeeTransactionConcurrencyPolicy concurrencyPolicy;
+
     /**
      * A counter holding the number of sleepy transactions
      */
@@ -134,6 +163,24 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
     private final ScheduledExecutorService executorService = ZigBeeExecutors.newScheduledThreadPool(6,
             "TransactionManager");
 
+    /**
+     * The number of threads used to notify transactions of received commands and progress updates
+     */
+    private static final int COMPLETION_THREADS = 2;
+
+    /**
+     * The time in milliseconds to wait for outstanding transactions to be cancelled when shutting down
+     */
+    private static final long COMPLETION_SHUTDOWN_WAIT = 1000;
+
+    /**
+     * The service used to notify transactions of received commands and progress updates. This is separate from the
+     * network manager {@link NotificationService} so that listeners blocking on a transaction can not prevent the
+     * transaction from completing.
+     */
+    private final NotificationService completionService = new NotificationService(COMPLETION_THREADS,
+            NotificationService.DEFAULT_QUEUE_CAPACITY);
+
     /**
      * A Map containing the queue for each node. This provides quick access when adding commands to queue, or performing
      * any queue function where we know the node.
@@ -146,9 +193,60 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
     private final AtomicInteger transactionIdCounter = new AtomicInteger();
 
     /**
-     * A List of queues with outstanding commands. This is used for random access when sending transactions.
+     * The priority classes in the order they are served by the deficit round robin scheduler
+     */
+    private static final ZigBeeTransactionPriority[] PRIORITIES = ZigBeeTransactionPriority.values();
+
+    /**
+     * The set of queues with outstanding commands. Each queue in this set is held in exactly one of
+     * {@link #readyQueues}, {@link #delayedQueues}, {@link #blockedQueues} or {@link #sleepyBlockedQueues}.
+     */
+    private final Set<ZigBeeTransactionQueue> outstandingQueues = new HashSet<>();
+
+    /**
+     * The queues that are able to send a transaction now, for each priority class. Queues are served in round robin
+     * order within each class.
+     */
+    private final Map<ZigBeeTransactionPriority, Deque<ZigBeeTransactionQueue>> readyQueues = new EnumMap<>(
+            ZigBeeTransactionPriority.class);
+
+    /**
+     * The queues that are waiting for their inter-transaction delay to expire, ordered by the next release time.
+     */
+    private final PriorityQueue<ZigBeeTransactionQueue> delayedQueues = new PriorityQueue<>(11,
+            new Comparator<ZigBeeTransactionQueue>() {
+                @Override
+                public int compare(ZigBeeTransactionQueue queue1, ZigBeeTransactionQueue queue2) {
+                    return Long.compare(queue1.getNextReleaseTime(), queue2.getNextReleaseTime());
+                }
+            });
+
+    /**
+     * The queues that can not release a transaction until one of their outstanding transactions completes
+     */
+    private final Set<ZigBeeTransactionQueue> blockedQueues = new HashSet<>();
+
+    /**
+     * The sleepy queues that can not send until the number of outstanding sleepy transactions falls below
+     * {@link #maxSleepyTransactions}
+     */
+    private final Set<ZigBeeTransactionQueue> sleepyBlockedQueues = new HashSet<>();
+
+    /**
+     * The deficit counter for each priority class, indexed by ordinal
+     */
+    private final int[] deficits = new int[PRIORITIES.length];
+
+    /**
+     * The index of the priority class currently being served
      */
-    private final List<ZigBeeTransactionQueue> outstandingQueues = new ArrayList<>();
+    private int currentPriority = 0;
+
+    /**
+     * The queue latency histogram for each priority class
+     */
+    private final Map<ZigBeeTransactionPriority, ZigBeeTransactionLatency> latencies = new EnumMap<>(
+            ZigBeeTransactionPriority.class);
 
     private final ZigBeeTransactionQueue defaultQueue;
     private final ZigBeeTransactionQueue broadcastQueue;
@@ -165,6 +263,11 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
     public ZigBeeTransactionManager(ZigBeeNetworkManager manager) {
         this.networkManager = manager;
 
+        for (ZigBeeTransactionPriority priority : PRIORITIES) {
+            readyQueues.put(priority, new ArrayDeque<ZigBeeTransactionQueue>());
+            latencies.put(priority, new ZigBeeTransactionLatency());
+        }
+
         defaultProfile = new ZigBeeTransactionProfile(NODE_RETRIES, NODE_TRANSACTIONS, NODE_DELAY);
         defaultSleepyProfile = new ZigBeeTransactionProfile(SLEEPY_RETRIES, SLEEPY_TRANSACTIONS, SLEEPY_DELAY);
 
@@ -203,17 +306,20 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
 
         nodeQueue.clear();
 
+        final List<ZigBeeTransaction> transactions;
         synchronized (outstandingTransactions) {
-            // Notify the listeners
-            for (final ZigBeeTransaction transaction : outstandingTransactions) {
-                networkManager.getNotificationService().execute(new Runnable() {
-                    @Override
-                    public void run() {
-                        transaction.cancel();
-                    }
-                });
-            }
+            transactions = new ArrayList<>(outstandingTransactions);
+        }
+        // Notify the listeners
+        for (final ZigBeeTransaction transaction : transactions) {
+            completionService.execute(transaction, new Runnable() {
+                @Override
+                public void run() {
+                    transaction.cancel();
+                }
+            });
         }
+        completionService.shutdown(COMPLETION_SHUTDOWN_WAIT);
     }
 
     /**
@@ -234,6 +340,29 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
         this.maxOutstandingTransactions = maxOutstandingTransactions;
     }
 
+    /**
+     * Sets the {@link ZigBeeTransactionConcurrencyPolicy} used to adapt the number of transactions that are allowed to
+     * be outstanding, globally and for each queue. When a policy is set, the global limit set with
+     * {@link #setMaxOutstandingTransactions(int)} is not used, and the queue limits from the
+     * {@link ZigBeeTransactionProfile} are the upper bound for the policy.
+     *
+     * @param concurrencyPolicy the {@link ZigBeeTransactionConcurrencyPolicy} to use, or null to use the fixed limits
+     */
+    public void setConcurrencyPolicy(ZigBeeTransactionConcurrencyPolicy concurrencyPolicy) {
+        this.concurrencyPolicy = concurrencyPolicy;
+        sendNextTransaction();
+    }
+
+    /**
+     * Gets the {@link ZigBeeTransactionConcurrencyPolicy} used to adapt the number of transactions that are allowed to
+     * be outstanding.
+     *
+     * @return the {@link ZigBeeTransactionConcurrencyPolicy} in use, or null if the fixed limits are used
+     */
+    public ZigBeeTransactionConcurrencyPolicy getConcurrencyPolicy() {
+        return concurrencyPolicy;
+    }
+
     /**
      * Gets the maximum number of sleepy transactions permitted to be outstanding at any time.
      *
@@ -324,6 +453,17 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
         return broadcastQueue.getProfile();
     }
 
+    /**
+     * Gets the histogram of the time transactions of the specified priority have spent waiting in the queue before they
+     * were first sent.
+     *
+     * @param priority the {@link ZigBeeTransactionPriority}
+     * @return the {@link ZigBeeTransactionLatency} for the priority
+     */
+    public ZigBeeTransactionLatency getLatency(ZigBeeTransactionPriority priority) {
+        return latencies.get(priority);
+    }
+
     /**
      * Sends a command without waiting for a response. No retry mechanism will be implemented at application level.
      *
@@ -363,9 +503,13 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
      * @return the future {@link CommandResult}
      */
     private ZigBeeTransactionFuture queueTransaction(ZigBeeTransactionQueue queue, ZigBeeTransaction transaction) {
+        ZigBeeTransactionPriority previousPriority = getPriority(queue);
         queue.addToQueue(transaction);
-        if (!queue.isEmpty() && !outstandingQueues.contains(queue)) {
-            outstandingQueues.add(queue);
+        if (!outstandingQueues.contains(queue)) {
+            scheduleQueue(queue);
+        } else if (getPriority(queue) != previousPriority && readyQueues.get(previousPriority).remove(queue)) {
+            // The queue is ready to send, and now has a higher priority transaction at its head
+            readyQueues.get(getPriority(queue)).add(queue);
         }
 
         sendNextTransaction();
@@ -463,6 +607,17 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
      * @param state the updated {@link ZigBeeTransportProgressState} for the transaction
      */
     public void receiveCommandState(int transactionId, ZigBeeTransportProgressState state) {
+        ZigBeeTransactionConcurrencyPolicy policy = concurrencyPolicy;
+        if (policy != null) {
+            ZigBeeTransactionQueue queue = null;
+            synchronized (outstandingTransactions) {
+                List<ZigBeeTransaction> transactions = transactionIndex.getProgressCandidates(transactionId);
+                if (!transactions.isEmpty()) {
+                    queue = getTransactionQueue(transactions.get(0));
+                }
+            }
+            policy.transportStateReceived(queue, state);
+        }
         notifyTransactionProgress(transactionId, state);
     }
 
@@ -475,6 +630,7 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
     private void addTransactionListener(ZigBeeTransaction transaction) {
         synchronized (outstandingTransactions) {
             outstandingTransactions.add(transaction);
+            transactionIndex.add(transaction);
         }
         logger.debug("transactionListenerAdded: {} outstanding", outstandingTransactions.size());
     }
@@ -489,6 +645,7 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
     private void removeTransactionListener(ZigBeeTransaction transaction) {
         synchronized (outstandingTransactions) {
             outstandingTransactions.remove(transaction);
+            transactionIndex.remove(transaction);
         }
         logger.debug("transactionListenerRemoved: {} outstanding", outstandingTransactions.size());
     }
@@ -520,15 +677,19 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
                 logger.debug("Transaction complete: No queue found {}", transaction);
             } else {
                 queue.transactionComplete(transaction, state);
+                if (concurrencyPolicy != null) {
+                    concurrencyPolicy.transactionComplete(queue, state);
+                }
 
                 if (queue.isSleepy()) {
                     sleepyTransactions--;
+                    releaseQueues(sleepyBlockedQueues);
                 }
 
                 // Note that the queue may have rescheduled the transaction if retries are enabled.
-                // We therefore need to check if the
-                if (!queue.isEmpty() && !outstandingQueues.contains(queue)) {
-                    outstandingQueues.add(queue);
+                // We therefore need to check if the queue needs to be scheduled again.
+                if (blockedQueues.remove(queue) || !outstandingQueues.contains(queue)) {
+                    scheduleQueue(queue);
                 }
             }
         }
@@ -543,17 +704,20 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
      */
     private void notifyTransactionCommand(final ZigBeeCommand command) {
         logger.debug("notifyTransactionCommand: {} ", command);
+        final List<ZigBeeTransaction> transactions;
         synchronized (outstandingTransactions) {
-            // Notify the listeners
-            for (final ZigBeeTransaction transaction : outstandingTransactions) {
-                logger.trace("notifyTransactionCommand: {} {}", command, transaction);
-                networkManager.getNotificationService().execute(new Runnable() {
-                    @Override
-                    public void run() {
-                        transaction.commandReceived(command);
-                    }
-                });
-            }
+            transactions = new ArrayList<>(transactionIndex.getResponseCandidates(command));
+        }
+        // Notify the transactions that may be completed by this command. This is done outside the lock as the
+        // completion service may block if the transaction queue is full.
+        for (final ZigBeeTransaction transaction : transactions) {
+            logger.trace("notifyTransactionCommand: {} {}", command, transaction);
+            completionService.execute(transaction, new Runnable() {
+                @Override
+                public void run() {
+                    transaction.commandReceived(command);
+                }
+            });
         }
     }
 
@@ -566,16 +730,18 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
     private void notifyTransactionProgress(final int transactionId, ZigBeeTransportProgressState state) {
         logger.debug("notifyTransactionProgress: TID={}, state={}, outstanding={}",
                 String.format("%02X", transactionId), state, outstandingTransactions.size());
+        final List<ZigBeeTransaction> transactions;
         synchronized (outstandingTransactions) {
-            // Notify the listeners
-            for (final ZigBeeTransaction transaction : outstandingTransactions) {
-                networkManager.getNotificationService().execute(new Runnable() {
-                    @Override
-                    public void run() {
-                        transaction.transactionStatusReceived(state, transactionId);
-                    }
-                });
-            }
+            transactions = new ArrayList<>(transactionIndex.getProgressCandidates(transactionId));
+        }
+        // Notify the transactions using this transaction ID
+        for (final ZigBeeTransaction transaction : transactions) {
+            completionService.execute(transaction, new Runnable() {
+                @Override
+                public void run() {
+                    transaction.transactionStatusReceived(state, transactionId);
+                }
+            });
         }
     }
 
@@ -613,16 +779,109 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
             }
         }
         nodeQueue.remove(address);
-        outstandingQueues.remove(queue);
+
+        synchronized (this) {
+            if (outstandingQueues.remove(queue)) {
+                for (Deque<ZigBeeTransactionQueue> queues : readyQueues.values()) {
+                    queues.remove(queue);
+                }
+                delayedQueues.remove(queue);
+                blockedQueues.remove(queue);
+                sleepyBlockedQueues.remove(queue);
+            }
+            if (concurrencyPolicy != null) {
+                concurrencyPolicy.queueRemoved(queue);
+            }
+        }
+    }
+
+    /**
+     * Gets the priority class used to schedule the queue
+     *
+     * @param queue the {@link ZigBeeTransactionQueue}
+     * @return the {@link ZigBeeTransactionPriority} of the transaction at the head of the queue
+     */
+    private ZigBeeTransactionPriority getPriority(ZigBeeTransactionQueue queue) {
+        ZigBeeTransactionPriority priority = queue.getPriority();
+        return priority == null ? ZigBeeTransactionPriority.NORMAL : priority;
+    }
+
+    /**
+     * Adds a queue that is not currently scheduled to the ready list for its priority class, or to the delayed queues
+     * if it can not release a transaction until its inter-transaction delay expires. Empty queues are removed from the
+     * set of outstanding queues.
+     *
+     * @param queue the {@link ZigBeeTransactionQueue} to schedule
+     */
+    private void scheduleQueue(ZigBeeTransactionQueue queue) {
+        if (queue.isEmpty()) {
+            outstandingQueues.remove(queue);
+            return;
+        }
+
+        outstandingQueues.add(queue);
+        if (queue.getNextReleaseTime() > 0) {
+            delayedQueues.add(queue);
+        } else {
+            readyQueues.get(getPriority(queue)).add(queue);
+        }
+    }
+
+    /**
+     * Reschedules all queues in a set of parked queues
+     *
+     * @param queues the {@link Set} of {@link ZigBeeTransactionQueue}s to release. This will be cleared.
+     */
+    private void releaseQueues(Set<ZigBeeTransactionQueue> queues) {
+        for (ZigBeeTransactionQueue queue : queues) {
+            scheduleQueue(queue);
+        }
+        queues.clear();
+    }
+
+    /**
+     * Selects the next queue to be served using deficit round robin across the priority classes. Each time a priority
+     * class is visited its deficit is increased by its weight, and each queue served from the class consumes one from
+     * the deficit. A class with no ready queues loses its deficit so that it can not build up credit while idle.
+     * <p>
+     * The selected queue is removed from the ready list, and the caller is responsible for scheduling it again.
+     *
+     * @return the {@link ZigBeeTransactionQueue} to serve, or null if no queues are ready
+     */
+    private ZigBeeTransactionQueue selectQueue() {
+        boolean ready = false;
+        for (Deque<ZigBeeTransactionQueue> queues : readyQueues.values()) {
+            if (!queues.isEmpty()) {
+                ready = true;
+                break;
+            }
+        }
+        if (!ready) {
+            return null;
+        }
+
+        while (true) {
+            Deque<ZigBeeTransactionQueue> queues = readyQueues.get(PRIORITIES[currentPriority]);
+            if (queues.isEmpty()) {
+                deficits[currentPriority] = 0;
+            } else if (deficits[currentPriority] > 0) {
+                deficits[currentPriority]--;
+                return queues.poll();
+            }
+
+            currentPriority = (currentPriority + 1) % PRIORITIES.length;
+            deficits[currentPriority] += PRIORITIES[currentPriority].getWeight();
+        }
     }
 
     /**
      * Polls the queues to send outstanding transactions. This will send as many transactions as necessary, or available
      * within the constraints that have been set (e.g. the maxOutstandingTransactions).
      * <p>
-     * The order of transmission from each queue is randomised to ensure a fair ordering of transactions to each device.
-     * If a queue returns null, then it does not have transactions to send at that time and we let the timer take care
-     * of rescheduling the transmission.
+     * Queues are selected by priority class using {@link #selectQueue()}, and in round robin order within each class to
+     * ensure a fair ordering of transactions to each device. If a queue returns null, then it does not have
+     * transactions to send at that time - if it is waiting for its inter-transaction delay then we let the timer take
+     * care of rescheduling the transmission, otherwise it is parked until one of its transactions completes.
      */
     private void sendNextTransaction() {
         synchronized (this) {
@@ -630,73 +889,72 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
                 timeoutTask.cancel(false);
             }
 
-            ZigBeeTransaction transaction;
-
-            // Randomly loop through all queues, taking a transaction from each one in turn
-            // If we have more transactions outstanding than we're allowed, then exit
-            // If we get through an iteration of all queues without sending anything, then exit
-            //
-            // Points to note -:
-            // * Queues may have more than one transaction to send
-            // * Queues may have transactions to send, but be unable to send them at this time
-
-            List<ZigBeeTransactionQueue> emptyQueues = new ArrayList<>();
-            boolean sendDone;
-            do {
-                // Exit unless we send at least one transaction
-                sendDone = true;
-
-                // Randomise the lists
-                Collections.shuffle(outstandingQueues);
-
-                // Clear the list of queues that have been emptied
-                emptyQueues.clear();
-
-                for (ZigBeeTransactionQueue queue : outstandingQueues) {
-                    // Check if we've reached the maximum number of commands we can send
-                    if (outstandingTransactions.size() >= maxOutstandingTransactions) {
-                        sendDone = true;
-                        break;
-                    }
+            // Move any queues whose delay has expired to the ready lists
+            while (!delayedQueues.isEmpty() && delayedQueues.peek().getNextReleaseTime() == 0) {
+                ZigBeeTransactionQueue queue = delayedQueues.poll();
+                readyQueues.get(getPriority(queue)).add(queue);
+            }
 
-                    // If this is a sleepy queue, and we've exceeded the sleepy transmissions, then ignore the queue
-                    if (queue.isSleepy() && sleepyTransactions >= maxSleepyTransactions) {
-                        continue;
-                    }
+            int maxOutstanding = concurrencyPolicy == null ? maxOutstandingTransactions
+                    : concurrencyPolicy.getMaxOutstandingTransactions();
 
-                    // Queue may return null if it has transactions queued, but it can't release any at this time
-                    transaction = queue.getTransaction();
-                    if (transaction != null) {
-                        if (queue.isSleepy()) {
-                            sleepyTransactions++;
-                        }
+            // Check if we've reached the maximum number of commands we can send
+            while (outstandingTransactions.size() < maxOutstanding) {
+                ZigBeeTransactionQueue queue = selectQueue();
+                if (queue == null) {
+                    break;
+                }
+
+                // If this is a sleepy queue, and we've exceeded the sleepy transmissions, then park the queue
+                if (queue.isSleepy() && sleepyTransactions >= maxSleepyTransactions) {
+                    deficits[currentPriority]++;
+                    sleepyBlockedQueues.add(queue);
+                    continue;
+                }
 
-                        // Send the transaction.
-                        send(transaction);
-                        sendDone = false;
+                // Queue may return null if it has transactions queued, but it can't release any at this time
+                ZigBeeTransaction transaction = null;
+                if (concurrencyPolicy == null || queue.getOutstandingTransactionCount() < concurrencyPolicy
+                        .getMaxOutstandingTransactions(queue)) {
+                    transaction = queue.getTransaction();
+                }
+                if (transaction != null) {
+                    if (queue.isSleepy()) {
+                        sleepyTransactions++;
                     }
 
-                    // If the queue has no more transactions,
-                    // remove it from the list of queues with outstanding transactions.
-                    if (queue.isEmpty()) {
-                        emptyQueues.add(queue);
+                    if (transaction.getSendCnt() == 0) {
+                        Long queueTime = transaction.getQueueTime();
+                        if (queueTime != null && transaction.getPriority() != null) {
+                            latencies.get(transaction.getPriority()).record(queueTime);
+                        }
                     }
-                }
 
-                outstandingQueues.removeAll(emptyQueues);
-            } while (!sendDone);
+                    // Send the transaction.
+                    send(transaction);
+                } else {
+                    deficits[currentPriority]++;
+                }
 
-            // Loop through all outstanding queues and find the next release time
-            long timeout = Long.MAX_VALUE;
-            for (ZigBeeTransactionQueue queue : outstandingQueues) {
-                long nextTime = queue.getNextReleaseTime();
-                if (nextTime < timeout) {
-                    timeout = nextTime;
+                if (queue.isEmpty()) {
+                    // If the queue has no more transactions, remove it from the outstanding queues
+                    outstandingQueues.remove(queue);
+                } else if (queue.getNextReleaseTime() > 0) {
+                    delayedQueues.add(queue);
+                } else if (transaction == null) {
+                    // The queue can't send until one of its outstanding transactions completes
+                    blockedQueues.add(queue);
+                } else {
+                    readyQueues.get(getPriority(queue)).add(queue);
                 }
             }
 
-            if (timeout > 0) {
-                startRequeueTimer(timeout);
+            // The delayed queue with the earliest release time determines the timer
+            if (!delayedQueues.isEmpty()) {
+                long timeout = delayedQueues.peek().getNextReleaseTime();
+                if (timeout > 0) {
+                    startRequeueTimer(timeout);
+                }
             }
         }
     }
@@ -742,6 +1000,7 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
                     logger.debug("Rewriting outstandingTransaction destination address from {} to {} in transaction={}",
                             transaction.getDestinationAddress().getAddress(), node.getNetworkAddress(), transaction);
                     transaction.getDestinationAddress().setAddress(node.getNetworkAddress());
+                    transactionIndex.add(transaction);
                 }
             }
         }
@@ -760,6 +1019,11 @@ public class ZigBeeTransactionManager implements ZigBeeNetworkNodeListener {
                 logger.debug("Sleepy transaction count resynchronised: was {}, now {}", sleepyCnt, sleepyTransactions);
                 sleepyTransactions = sleepyCnt;
             }
+
+            // The queue may be parked as a sleepy queue, so let the scheduler check it again
+            synchronized (this) {
+                releaseQueues(sleepyBlockedQueues);
+            }
         }
     }
 
@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+/**
+ * Defines the priority class of a {@link ZigBeeTransaction}. The {@link ZigBeeTransactionManager} shares the available
+ * transactions between the priority classes in proportion to their weight, so higher priority transactions are sent
+ * sooner on a busy network, while lower priority transactions are still sent.
+ * <p>
+ * Within a {@link ZigBeeTransactionQueue}, higher priority transactions are always released before lower priority
+ * transactions.
+ *
+ * @author Chris Jackson
+ *
+ */
+public enum ZigBeeTransactionPriority {
+    /**
+     * Transactions initiated directly by a user, where the response is expected immediately (eg switching a light)
+     */
+    INTERACTIVE(8),
+    /**
+     * The default priority for transactions
+     */
+    NORMAL(4),
+    /**
+     * Transactions transferring large amounts of data (eg OTA image blocks)
+     */
+    BULK(2),
+    /**
+     * Maintenance transactions that may be delayed (eg discovery, reporting configuration)
+     */
+    BACKGROUND(1);
+
+    private final int weight;
+
+    private ZigBeeTransactionPriority(int weight) {
+        this.weight = weight;
+    }
+
+    /**
+     * Gets the weight of the priority class. This is the number of transactions from this class that may be sent in
+     * each scheduling round when all classes have transactions waiting.
+     *
+     * @return the weight of the priority class
+     */
+    public int getWeight() {
+        return weight;
+    }
+}
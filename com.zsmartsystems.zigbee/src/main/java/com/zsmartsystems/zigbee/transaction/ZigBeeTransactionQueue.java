@@ -9,8 +9,10 @@ package com.zsmartsystems.zigbee.transaction;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Future;
@@ -26,8 +28,8 @@ import com.zsmartsystems.zigbee.transaction.ZigBeeTransaction.TransactionState;
  * This class manages a queue of transactions. The queue provides a number of options when managing the transactions in
  * its queue -:
  * <ul>
- * <li>Priority: Each transaction may have an assigned priority. Higher priority transactions will be sent before lower
- * priority to provide a responsive system.
+ * <li>Priority: Each transaction may have an assigned {@link ZigBeeTransactionPriority}. Higher priority transactions
+ * will be sent before lower priority to provide a responsive system.
  * <li>Maximum number of transactions outstanding: This allows the maximum number of outstanding transactions sent from
  * the queue (and normally therefore, to a single device) to be limited. This may be used to manage broadcasts, where
  * only a limited number of broadcasts should be outstanding within a 7.6 second period, or it may be used to avoid
@@ -66,7 +68,17 @@ public class ZigBeeTransactionQueue {
 
     private final static int INITIAL_QUEUE_SIZE = 10;
 
-    private final Deque<ZigBeeTransaction> queue = new ArrayDeque<>(INITIAL_QUEUE_SIZE);
+    /**
+     * The transactions waiting to be sent, for each {@link ZigBeeTransactionPriority}. The map is ordered from the
+     * highest to the lowest priority.
+     */
+    private final Map<ZigBeeTransactionPriority, Deque<ZigBeeTransaction>> queues = new EnumMap<>(
+            ZigBeeTransactionPriority.class);
+
+    /**
+     * The number of transactions waiting to be sent
+     */
+    private int queueSize = 0;
 
     /**
      * The time at which the queue may release the next frame. This is used by the inter-transaction delay pacing
@@ -134,8 +146,10 @@ public class ZigBeeTransactionQueue {
         isShutdown = true;
 
         // Cancel any queued transactions
-        for (ZigBeeTransaction transaction : queue) {
-            transaction.cancel();
+        for (Deque<ZigBeeTransaction> queue : queues.values()) {
+            for (ZigBeeTransaction transaction : queue) {
+                transaction.cancel();
+            }
         }
 
         // We don't cancel outstanding transactions here as the transaction manager is doing that
@@ -215,6 +229,17 @@ public class ZigBeeTransactionQueue {
 
         transaction.setIeeeAddress(deviceIeeeAdress);
 
+        ZigBeeTransactionPriority priority = transaction.getPriority();
+        if (priority == null) {
+            priority = ZigBeeTransactionPriority.NORMAL;
+        }
+        Deque<ZigBeeTransaction> queue = queues.get(priority);
+        if (queue == null) {
+            queue = new ArrayDeque<>(INITIAL_QUEUE_SIZE);
+            queues.put(priority, queue);
+        }
+        queueSize++;
+
         // Is this the first time this transaction has been added to the queue or is this a retry
         if (transaction.getSendCnt() == 0) {
             // Set the time the transaction is queued - for statistics and monitoring
@@ -222,11 +247,11 @@ public class ZigBeeTransactionQueue {
             // First time sending this transaction - add to the end of the queue
             queue.add(transaction);
         } else {
-            // This is a retry - prioritise this transaction and add to the head of the queue
+            // This is a retry - prioritise this transaction and add to the head of the queue for its priority
             transaction.resetTransaction();
             queue.push(transaction);
         }
-        logger.debug("{}: Added transaction to queue, len={}, transaction={}", queueName, queue.size(), transaction);
+        logger.debug("{}: Added transaction to queue, len={}, transaction={}", queueName, queueSize, transaction);
 
         return transaction.getFuture();
     }
@@ -243,11 +268,18 @@ public class ZigBeeTransactionQueue {
      * @return the {@link ZigBeeTransaction} to send, or null if no transaction is available.
      */
     protected ZigBeeTransaction getTransaction() {
-        if (queue.isEmpty() || nextReleaseTime > System.currentTimeMillis()
+        if (queueSize == 0 || nextReleaseTime > System.currentTimeMillis()
                 || outstandingTransactions.size() >= profile.getMaxOutstandingTransactions() || isShutdown) {
             return null;
         }
-        ZigBeeTransaction transaction = queue.poll();
+        ZigBeeTransaction transaction = null;
+        for (Deque<ZigBeeTransaction> queue : queues.values()) {
+            transaction = queue.poll();
+            if (transaction != null) {
+                break;
+            }
+        }
+        queueSize--;
         outstandingTransactions.add(transaction);
         nextReleaseTime = System.currentTimeMillis() + profile.getInterTransactionDelay();
 
@@ -260,7 +292,7 @@ public class ZigBeeTransactionQueue {
      * @return true if the queue is empty
      */
     protected boolean isEmpty() {
-        return queue.isEmpty();
+        return queueSize == 0;
     }
 
     /**
@@ -269,7 +301,30 @@ public class ZigBeeTransactionQueue {
      * @return the number of transactions currently in the queue
      */
     protected int size() {
-        return queue.size();
+        return queueSize;
+    }
+
+    /**
+     * Gets the number of transactions released from the queue that have not yet completed
+     *
+     * @return the number of outstanding transactions
+     */
+    protected int getOutstandingTransactionCount() {
+        return outstandingTransactions.size();
+    }
+
+    /**
+     * Gets the priority of the highest priority transaction waiting to be sent
+     *
+     * @return the highest {@link ZigBeeTransactionPriority} in the queue, or null if the queue is empty
+     */
+    protected ZigBeeTransactionPriority getPriority() {
+        for (Map.Entry<ZigBeeTransactionPriority, Deque<ZigBeeTransaction>> entry : queues.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                return entry.getKey();
+            }
+        }
+        return null;
     }
 
     /**
@@ -324,19 +379,22 @@ public class ZigBeeTransactionQueue {
     protected void rewriteDestinationAddresses(Integer newAddress) {
         LinkedList<ZigBeeTransaction> transactions = new LinkedList<>();
 
-        synchronized (queue) {
-            ZigBeeTransaction transaction = null;
-            while ((transaction = queue.poll()) != null) {
-                if (!Objects.equals(transaction.getDestinationAddress().getAddress(), newAddress)) {
-                    logger.debug("Rewriting transaction destination address from {} to {} in transaction={}",
-                            transaction.getDestinationAddress().getAddress(), newAddress, transaction);
-                    transaction.getDestinationAddress().setAddress(newAddress);
+        synchronized (queues) {
+            for (Deque<ZigBeeTransaction> queue : queues.values()) {
+                ZigBeeTransaction transaction = null;
+                while ((transaction = queue.poll()) != null) {
+                    if (!Objects.equals(transaction.getDestinationAddress().getAddress(), newAddress)) {
+                        logger.debug("Rewriting transaction destination address from {} to {} in transaction={}",
+                                transaction.getDestinationAddress().getAddress(), newAddress, transaction);
+                        transaction.getDestinationAddress().setAddress(newAddress);
+                    }
+                    transactions.add(transaction);
                 }
-                transactions.add(transaction);
-            }
 
-            for (ZigBeeTransaction trans : transactions) {
-                queue.add(trans);
+                for (ZigBeeTransaction trans : transactions) {
+                    queue.add(trans);
+                }
+                transactions.clear();
             }
         }
     }
@@ -344,7 +402,7 @@ public class ZigBeeTransactionQueue {
     @Override
     public String toString() {
         return "ZigBeeTransactionQueue [queueName=" + queueName + ", deviceIeeeAddress=" + deviceIeeeAdress
-                + ", sleepy=" + sleepy + ", queued=" + queue.size() + ", outstandingTransactions="
+                + ", sleepy=" + sleepy + ", queued=" + queueSize + ", outstandingTransactions="
                 + outstandingTransactions.size() + ", profile="
                 + profile
                 + "]";
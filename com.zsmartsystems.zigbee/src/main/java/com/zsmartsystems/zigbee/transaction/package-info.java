@@ -9,8 +9,9 @@
  * <p>
  * The {@link ZigBeeTransactionManager} manages the overall transaction process. It acts as the central configuration
  * interface for configuring the transaction subsystem, and handles sending and receiving of commands. It gets
- * transactions from the different queues, selecting a queue randomly, and enforces an overall maximum number of
- * transactions that can be outstanding.
+ * transactions from the different queues, selecting queues by the {@link ZigBeeTransactionPriority} of their pending
+ * transactions using weighted fair scheduling, and enforces an overall maximum number of transactions that can be
+ * outstanding.
  * <p>
  * The {@link ZigBeeTransactionQueue} handles the transactions for a single queue. A queue is established for each node,
  * along with broadcasts and multicast message queues. The {@link ZigBeeTransactionQueue} enforces the maximum number of
@@ -7,6 +7,8 @@
  */
 package com.zsmartsystems.zigbee.transport;
 
+import java.nio.ByteBuffer;
+
 /**
  * Interface for a generic port used for the ZigBee API. The stack will call the
  * interface to {@link #open} and {@link #close} the port, and to {@link read} and
@@ -58,6 +60,48 @@ public interface ZigBeePort {
      */
     void write(int value);
 
+    /**
+     * Write a block of data to the serial port. This should be non-blocking.
+     * <p>
+     * Frame handlers should write a complete frame with a single call so that ports are able to pass the frame to the
+     * operating system in a single operation. The default implementation writes each byte with {@link #write(int)}.
+     *
+     * @param data the array containing the data to write
+     * @param offset the offset of the first byte in the array to write
+     * @param length the number of bytes to write
+     */
+    default void write(byte[] data, int offset, int length) {
+        for (int cnt = offset; cnt < offset + length; cnt++) {
+            write(data[cnt] & 0xFF);
+        }
+    }
+
+    /**
+     * Write an array of data to the serial port. This should be non-blocking.
+     *
+     * @param data the data to write
+     */
+    default void write(byte[] data) {
+        write(data, 0, data.length);
+    }
+
+    /**
+     * Write the remaining data in a {@link ByteBuffer} to the serial port. This should be non-blocking. On return, the
+     * position of the buffer is set to its limit.
+     *
+     * @param data the {@link ByteBuffer} to write
+     */
+    default void write(ByteBuffer data) {
+        if (data.hasArray()) {
+            write(data.array(), data.arrayOffset() + data.position(), data.remaining());
+            data.position(data.limit());
+        } else {
+            byte[] array = new byte[data.remaining()];
+            data.get(array);
+            write(array);
+        }
+    }
+
     /**
      * Read a value from the port. This should block until a byte is available.
      *
@@ -73,6 +117,31 @@ public interface ZigBeePort {
      */
     int read(int timeout);
 
+    /**
+     * Read a block of data from the port. This will block until at least one byte is available or the timeout period
+     * is reached, and then returns the data that is available, up to the requested length.
+     * <p>
+     * The default implementation reads a single byte with {@link #read(int)}. Implementations should override this to
+     * return all available data without handling each byte individually.
+     *
+     * @param data the array to receive the data
+     * @param offset the offset in the array of the first byte to read
+     * @param length the maximum number of bytes to read
+     * @param timeout the timeout in milliseconds to wait
+     * @return the number of bytes read, or 0 if no data was received before the timeout
+     */
+    default int read(byte[] data, int offset, int length, int timeout) {
+        if (length == 0) {
+            return 0;
+        }
+        int value = read(timeout);
+        if (value == -1) {
+            return 0;
+        }
+        data[offset] = (byte) value;
+        return 1;
+    }
+
     /**
      * Purge all data currently in the receive buffer
      */
@@ -17,11 +17,26 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
 /**
  * Defines a Cluster Library Attribute
+ * <p>
+ * Integer and floating point values may be updated as primitives with {@link #updateValue(long)} and
+ * {@link #updateValue(double)}, and read with {@link #getLastIntegerValue()} and
+ * {@link #getLastFloatValue()}, so that frequently reported numeric attributes can be processed without allocating an
+ * object for each value. The value is only converted to an {@link Object} when {@link #getLastValue()} is called.
  *
  * @author Chris Jackson
  *
  */
 public class ZclAttribute {
+    private static final int VALUE_OBJECT = 0;
+    private static final int VALUE_INTEGER = 1;
+    private static final int VALUE_FLOAT = 2;
+
+    /**
+     * The time in milliseconds allowed, in addition to the maximum reporting interval, for a report to be received
+     * before a reported value is no longer considered current
+     */
+    private static final long REPORTING_MARGIN = 5000;
+
     /**
      *
      */
@@ -111,15 +126,38 @@ public class ZclAttribute {
     private Integer manufacturerCode;
 
     /**
-     * Records the last time a report was received
+     * Records the last time a report was received, in milliseconds since the epoch, or 0 if no report has been
+     * received
      */
-    private Calendar lastReportTime;
+    private volatile long lastReportTime;
 
     /**
-     * Records the last value received
+     * Records the last value received. If the value was updated as a primitive, this is only set once
+     * {@link #getLastValue()} is called.
      */
     private Object lastValue;
 
+    /**
+     * Records the last value received if it was updated as an integer
+     */
+    private long lastIntegerValue;
+
+    /**
+     * Records the last value received if it was updated as a floating point value
+     */
+    private double lastFloatValue;
+
+    /**
+     * Defines how the last value is held - one of {@link #VALUE_OBJECT}, {@link #VALUE_INTEGER} or
+     * {@link #VALUE_FLOAT}
+     */
+    private int lastValueType = VALUE_OBJECT;
+
+    /**
+     * Records if the attribute has changed since it was last persisted. Newly created attributes have not been persisted.
+     */
+    private volatile boolean dirty = true;
+
     /**
      * Default constructor
      */
@@ -179,14 +217,14 @@ public class ZclAttribute {
 
     /**
      * Returns the value of the attribute from the remote attribute. If the current value is newer than refreshPeriod
-     * (in milliseconds) then the current value will be returned, otherwise the value will be requested from the remote
-     * device.
+     * (in milliseconds), or the attribute is reporting and the next report is not yet overdue, then the current value
+     * will be returned, otherwise the value will be requested from the remote device.
      *
      * @param refreshPeriod the number of milliseconds to consider the value current
      * @return an Object with the attribute value, or null on error
      */
     public Object readValue(long refreshPeriod) {
-        if (isLastValueCurrent(refreshPeriod)) {
+        if (isLastValueCurrent(refreshPeriod) || isReportingCurrent()) {
             return getLastValue();
         }
 
@@ -218,8 +256,10 @@ public class ZclAttribute {
      *
      * @param value the value to set (as {@link Object})
      */
-    public void setValue(Object value) {
+    public synchronized void setValue(Object value) {
         lastValue = value;
+        lastValueType = VALUE_OBJECT;
+        dirty = true;
     }
 
     /**
@@ -296,6 +336,7 @@ public class ZclAttribute {
      */
     public void setImplemented(boolean implemented) {
         this.implemented = implemented;
+        dirty = true;
     }
 
     /**
@@ -384,10 +425,61 @@ public class ZclAttribute {
      *
      * @return the last value, or null if no update has been received
      */
-    public Object getLastValue() {
+    public synchronized Object getLastValue() {
+        if (lastValue == null) {
+            switch (lastValueType) {
+                case VALUE_INTEGER:
+                    if (dataType == ZclDataType.UNSIGNED_40_BIT_INTEGER
+                            || dataType == ZclDataType.UNSIGNED_48_BIT_INTEGER) {
+                        lastValue = Long.valueOf(lastIntegerValue);
+                    } else {
+                        lastValue = Integer.valueOf((int) lastIntegerValue);
+                    }
+                    break;
+                case VALUE_FLOAT:
+                    lastValue = Double.valueOf(lastFloatValue);
+                    break;
+                default:
+                    break;
+            }
+        }
         return lastValue;
     }
 
+    /**
+     * Gets the last reported value of this attribute as an integer without creating an object. If the last value was
+     * not updated as a primitive, it is converted from the {@link Number} last value.
+     *
+     * @return the last value, or 0 if no update has been received or the value is not a number
+     */
+    public synchronized long getLastIntegerValue() {
+        switch (lastValueType) {
+            case VALUE_INTEGER:
+                return lastIntegerValue;
+            case VALUE_FLOAT:
+                return (long) lastFloatValue;
+            default:
+                return lastValue instanceof Number ? ((Number) lastValue).longValue() : 0;
+        }
+    }
+
+    /**
+     * Gets the last reported value of this attribute as a floating point value without creating an object. If the last
+     * value was not updated as a primitive, it is converted from the {@link Number} last value.
+     *
+     * @return the last value, or 0 if no update has been received or the value is not a number
+     */
+    public synchronized double getLastFloatValue() {
+        switch (lastValueType) {
+            case VALUE_INTEGER:
+                return lastIntegerValue;
+            case VALUE_FLOAT:
+                return lastFloatValue;
+            default:
+                return lastValue instanceof Number ? ((Number) lastValue).doubleValue() : 0;
+        }
+    }
+
     /**
      * Gets the last report time of this attribute
      *
@@ -395,6 +487,21 @@ public class ZclAttribute {
      *         received
      */
     public Calendar getLastReportTime() {
+        long time = lastReportTime;
+        if (time == 0) {
+            return null;
+        }
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTimeInMillis(time);
+        return calendar;
+    }
+
+    /**
+     * Gets the last report time of this attribute without creating a {@link Calendar}
+     *
+     * @return the time of the last report in milliseconds since the epoch, or 0 if no reports have been received
+     */
+    public long getLastReportTimeMillis() {
         return lastReportTime;
     }
 
@@ -465,15 +572,50 @@ public class ZclAttribute {
      * @return true if the last value can be considered current
      */
     public boolean isLastValueCurrent(long allowedAge) {
-        if (lastReportTime == null) {
+        long time = lastReportTime;
+        if (time == 0) {
             return false;
         }
 
-        long refreshTime = Calendar.getInstance().getTimeInMillis() - allowedAge;
+        long refreshTime = System.currentTimeMillis() - allowedAge;
         if (refreshTime < 0) {
             return true;
         }
-        return getLastReportTime().getTimeInMillis() > refreshTime;
+        return time > refreshTime;
+    }
+
+    /**
+     * Checks if the last value received for the attribute is still current based on the reporting configuration.
+     * While the attribute is configured to report, the remote device will send a report at least once every maximum
+     * reporting interval, so the last value remains current until the next report is overdue. If reporting is not
+     * configured, or no value has been received, this will return false.
+     *
+     * @return true if the last value can be considered current based on the reporting configuration
+     */
+    public boolean isReportingCurrent() {
+        int maximumPeriod = maximumReportingPeriod;
+        if (maximumPeriod == 0 || maximumPeriod == 0xFFFF) {
+            return false;
+        }
+        return isLastValueCurrent(maximumPeriod * 1000L + REPORTING_MARGIN);
+    }
+
+    /**
+     * Updates the reporting configuration of the attribute. This is called when the reporting configuration is
+     * successfully set on, or read from, the remote device.
+     *
+     * @param minimumReportingPeriod the minimum reporting interval in seconds
+     * @param maximumReportingPeriod the maximum reporting interval in seconds
+     * @param reportingChange the minimum change required to report an update
+     * @param reportingTimeout the reporting timeout in seconds
+     */
+    public synchronized void updateReporting(int minimumReportingPeriod, int maximumReportingPeriod,
+            Object reportingChange, int reportingTimeout) {
+        this.minimumReportingPeriod = minimumReportingPeriod;
+        this.maximumReportingPeriod = maximumReportingPeriod;
+        this.reportingChange = reportingChange;
+        this.reportingTimeout = reportingTimeout;
+        dirty = true;
     }
 
     /**
@@ -490,9 +632,56 @@ public class ZclAttribute {
      *
      * @param attributeValue the attribute value to be updated {@link Object}
      */
-    public void updateValue(Object attributeValue) {
+    public synchronized void updateValue(Object attributeValue) {
         lastValue = attributeValue;
-        lastReportTime = Calendar.getInstance();
+        lastValueType = VALUE_OBJECT;
+        lastReportTime = System.currentTimeMillis();
+        dirty = true;
+    }
+
+    /**
+     * Updates the attribute with an integer, bitmap or enumeration value without creating an object. This will also
+     * record the time of the last update. {@link #getLastValue()} will return a {@link Long} for 40 and 48 bit data
+     * types, and otherwise an {@link Integer}.
+     *
+     * @param attributeValue the attribute value
+     */
+    public synchronized void updateValue(long attributeValue) {
+        lastValue = null;
+        lastIntegerValue = attributeValue;
+        lastValueType = VALUE_INTEGER;
+        lastReportTime = System.currentTimeMillis();
+        dirty = true;
+    }
+
+    /**
+     * Updates the attribute with a floating point value without creating an object. This will also record the time of
+     * the last update. {@link #getLastValue()} will return a {@link Double}.
+     *
+     * @param attributeValue the attribute value
+     */
+    public synchronized void updateValue(double attributeValue) {
+        lastValue = null;
+        lastFloatValue = attributeValue;
+        lastValueType = VALUE_FLOAT;
+        lastReportTime = System.currentTimeMillis();
+        dirty = true;
+    }
+
+    /**
+     * Returns true if the attribute has changed since it was last persisted
+     *
+     * @return true if the attribute has changed since {@link #clearDirty()} was last called
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Clears the flag recording that the attribute has changed. This is called once the attribute has been persisted.
+     */
+    public void clearDirty() {
+        dirty = false;
     }
 
     @Override
@@ -508,10 +697,10 @@ public class ZclAttribute {
         builder.append(", dataType=");
         builder.append(dataType);
         builder.append(", lastValue=");
-        builder.append(lastValue);
-        if (lastReportTime != null) {
+        builder.append(getLastValue());
+        if (lastReportTime != 0) {
             builder.append(", lastReportTime=");
-            builder.append(lastReportTime.getTime());
+            builder.append(getLastReportTime().getTime());
         }
         builder.append(", implemented=");
         builder.append(implemented);
@@ -535,13 +724,13 @@ public class ZclAttribute {
         writable = dao.isWritable();
         readable = dao.isReadable();
         reportable = dao.isReportable();
-        lastValue = dao.getLastValue();
-        lastReportTime = dao.getLastReportTime();
+        setLastValueFromDao(dao);
         minimumReportingPeriod = dao.getMinimumReportingPeriod();
         maximumReportingPeriod = dao.getMaximumReportingPeriod();
         reportingChange = dao.getReportingChange();
         reportingTimeout = dao.getReportingTimeout();
         manufacturerCode = dao.getManufacturerCode();
+        dirty = false;
     }
     
     /**
@@ -551,8 +740,8 @@ public class ZclAttribute {
      */
     public void setDynamicStateFromDao(ZclAttributeDao dao) {
         implemented = dao.isImplemented();
-        lastValue = dao.getLastValue();
-        lastReportTime = dao.getLastReportTime();
+        setLastValueFromDao(dao);
+        dirty = false;
     }
 
     /**
@@ -577,10 +766,15 @@ public class ZclAttribute {
         dao.setReportingChange(reportingChange);
         dao.setReportingTimeout(reportingTimeout);
         dao.setManufacturerCode(manufacturerCode);
-        dao.setLastValue(lastValue);
-        dao.setLastReportTime(lastReportTime);
+        dao.setLastValue(getLastValue());
+        dao.setLastReportTime(getLastReportTime());
 
         return dao;
     }
 
+    private synchronized void setLastValueFromDao(ZclAttributeDao dao) {
+        lastValue = dao.getLastValue();
+        lastValueType = VALUE_OBJECT;
+        lastReportTime = dao.getLastReportTime() == null ? 0 : dao.getLastReportTime().getTimeInMillis();
+    }
 }
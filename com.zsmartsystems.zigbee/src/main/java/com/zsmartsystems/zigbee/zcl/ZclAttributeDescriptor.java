@@ -0,0 +1,193 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.zcl;
+
+import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
+
+/**
+ * Immutable definition of an attribute as specified in the ZigBee Cluster Library. A descriptor holds only the static
+ * information about the attribute, and may therefore be shared between all instances of a cluster. The
+ * {@link ZclAttribute} holding the state of the attribute for a specific cluster is created from the descriptor with
+ * {@link #createAttribute(ZclCluster)} when it is first required.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZclAttributeDescriptor {
+    /**
+     * The attribute identifier
+     */
+    private final int id;
+
+    /**
+     * The human readable name
+     */
+    private final String name;
+
+    /**
+     * The attribute data type
+     */
+    private final ZclDataType dataType;
+
+    /**
+     * True if this is defined as mandatory in the ZCL specification
+     */
+    private final boolean mandatory;
+
+    /**
+     * True if this is defined as readable in the ZCL specification
+     */
+    private final boolean readable;
+
+    /**
+     * True if this is defined as writable in the ZCL specification
+     */
+    private final boolean writable;
+
+    /**
+     * True if this is defined as reportable in the ZCL specification
+     */
+    private final boolean reportable;
+
+    /**
+     * The manufacturer code, or null if this is not a manufacturer specific attribute
+     */
+    private final Integer manufacturerCode;
+
+    /**
+     * Constructor for a non-manufacturer-specific attribute
+     *
+     * @param id the attribute ID
+     * @param name the human readable name
+     * @param dataType the {@link ZclDataType} for this attribute
+     * @param mandatory true if this is defined as mandatory in the ZCL specification
+     * @param readable true if this is defined as readable in the ZCL specification
+     * @param writable true if this is defined as writable in the ZCL specification
+     * @param reportable true if this is defined as reportable in the ZCL specification
+     */
+    public ZclAttributeDescriptor(final int id, final String name, final ZclDataType dataType,
+            final boolean mandatory, final boolean readable, final boolean writable, final boolean reportable) {
+        this(id, name, dataType, mandatory, readable, writable, reportable, null);
+    }
+
+    /**
+     * Constructor for a manufacturer-specific attribute
+     *
+     * @param id the attribute ID
+     * @param name the human readable name
+     * @param dataType the {@link ZclDataType} for this attribute
+     * @param mandatory true if this is defined as mandatory in the ZCL specification
+     * @param readable true if this is defined as readable in the ZCL specification
+     * @param writable true if this is defined as writable in the ZCL specification
+     * @param reportable true if this is defined as reportable in the ZCL specification
+     * @param manufacturerCode the code for the manufacturer specific attribute, for ex. 0x1234
+     */
+    public ZclAttributeDescriptor(final int id, final String name, final ZclDataType dataType,
+            final boolean mandatory, final boolean readable, final boolean writable, final boolean reportable,
+            final Integer manufacturerCode) {
+        this.id = id;
+        this.name = name;
+        this.dataType = dataType;
+        this.mandatory = mandatory;
+        this.readable = readable;
+        this.writable = writable;
+        this.reportable = reportable;
+        this.manufacturerCode = manufacturerCode;
+    }
+
+    /**
+     * Gets the attribute identifier
+     *
+     * @return the attribute identifier
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the human readable name of the attribute
+     *
+     * @return the attribute name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the {@link ZclDataType} of the attribute
+     *
+     * @return the {@link ZclDataType}
+     */
+    public ZclDataType getDataType() {
+        return dataType;
+    }
+
+    /**
+     * Returns true if the attribute is defined as mandatory in the ZCL specification
+     *
+     * @return true if the attribute is mandatory
+     */
+    public boolean isMandatory() {
+        return mandatory;
+    }
+
+    /**
+     * Returns true if the attribute is defined as readable in the ZCL specification
+     *
+     * @return true if the attribute is readable
+     */
+    public boolean isReadable() {
+        return readable;
+    }
+
+    /**
+     * Returns true if the attribute is defined as writable in the ZCL specification
+     *
+     * @return true if the attribute is writable
+     */
+    public boolean isWritable() {
+        return writable;
+    }
+
+    /**
+     * Returns true if the attribute is defined as reportable in the ZCL specification
+     *
+     * @return true if the attribute is reportable
+     */
+    public boolean isReportable() {
+        return reportable;
+    }
+
+    /**
+     * Gets the manufacturer code for a manufacturer specific attribute
+     *
+     * @return the manufacturer code, or null if this is not a manufacturer specific attribute
+     */
+    public Integer getManufacturerCode() {
+        return manufacturerCode;
+    }
+
+    /**
+     * Creates a new {@link ZclAttribute} from this descriptor to hold the state of the attribute within a cluster
+     *
+     * @param cluster the {@link ZclCluster} to which the attribute belongs
+     * @return the new {@link ZclAttribute}
+     */
+    public ZclAttribute createAttribute(final ZclCluster cluster) {
+        if (manufacturerCode == null) {
+            return new ZclAttribute(cluster, id, name, dataType, mandatory, readable, writable, reportable);
+        }
+        return new ZclAttribute(cluster, id, name, dataType, mandatory, readable, writable, reportable,
+                manufacturerCode);
+    }
+
+    @Override
+    public String toString() {
+        return "ZclAttributeDescriptor [id=" + id + ", name=" + name + ", dataType=" + dataType + "]";
+    }
+}
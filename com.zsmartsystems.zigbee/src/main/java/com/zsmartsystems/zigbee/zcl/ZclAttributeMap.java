@@ -0,0 +1,256 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.zcl;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Map of the {@link ZclAttribute}s in a {@link ZclCluster}, indexed by attribute ID.
+ * <p>
+ * The attributes defined by the cluster library are held as {@link ZclAttributeDescriptor}s in a map that is shared
+ * between all instances of the cluster. A {@link ZclAttribute} is only created for a cluster instance when the
+ * attribute is first retrieved from this map (eg when it is read, reported, or discovered), so a cluster on a device
+ * that only supports a few of the attributes defined by the cluster library holds only a few attributes. Attributes
+ * that are not defined by a descriptor (eg manufacturer specific attributes) may be added with
+ * {@link #put(Integer, ZclAttribute)}.
+ * <p>
+ * Iterating over the map will create all attributes, so {@link #getAllocatedAttributes()} should be used where only
+ * the attributes holding state are required. Attributes defined by a descriptor may also be removed, after which they
+ * are not created again unless they are put back into the map.
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZclAttributeMap extends AbstractMap<Integer, ZclAttribute> {
+    /**
+     * The {@link ZclCluster} to which the attributes belong
+     */
+    private final ZclCluster cluster;
+
+    /**
+     * The shared attribute descriptors defined by the cluster library. This must not be modified.
+     */
+    private final Map<Integer, ZclAttributeDescriptor> descriptors;
+
+    /**
+     * The attributes that have been created for this cluster
+     */
+    private final ConcurrentNavigableMap<Integer, ZclAttribute> attributes = new ConcurrentSkipListMap<>();
+
+    /**
+     * The IDs of the attributes defined by a descriptor that have been removed from the map, so that they are not
+     * created again
+     */
+    private final Set<Integer> removed = new ConcurrentSkipListSet<>();
+
+    /**
+     * Creates the attribute map
+     *
+     * @param cluster the {@link ZclCluster} to which the attributes belong
+     * @param descriptors the {@link ZclAttributeDescriptor}s indexed by attribute ID. This is not copied, so may be
+     *            shared between all instances of the cluster, and must not be modified.
+     */
+    public ZclAttributeMap(ZclCluster cluster, Map<Integer, ZclAttributeDescriptor> descriptors) {
+        this.cluster = cluster;
+        this.descriptors = descriptors;
+    }
+
+    /**
+     * Gets the attributes that have been created for this cluster. This does not create any new attributes.
+     *
+     * @return {@link Collection} of created {@link ZclAttribute}s in attribute ID order
+     */
+    public Collection<ZclAttribute> getAllocatedAttributes() {
+        return Collections.unmodifiableCollection(attributes.values());
+    }
+
+    @Override
+    public ZclAttribute get(Object key) {
+        ZclAttribute attribute = attributes.get(key);
+        if (attribute != null || !(key instanceof Integer) || removed.contains(key)) {
+            return attribute;
+        }
+
+        ZclAttributeDescriptor descriptor = descriptors.get(key);
+        if (descriptor == null) {
+            return null;
+        }
+        attribute = descriptor.createAttribute(cluster);
+        ZclAttribute existing = attributes.putIfAbsent((Integer) key, attribute);
+        return existing == null ? attribute : existing;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return attributes.containsKey(key) || (descriptors.containsKey(key) && !removed.contains(key));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the attribute is defined by a descriptor and has not yet been created, it is created so that it can be
+     * returned as the previous value.
+     */
+    @Override
+    public ZclAttribute put(Integer key, ZclAttribute value) {
+        ZclAttribute previous = get(key);
+        attributes.put(key, value);
+        removed.remove(key);
+        return previous;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the attribute is defined by a descriptor and has not yet been created, it is created so that it can be
+     * returned as the removed value.
+     */
+    @Override
+    public ZclAttribute remove(Object key) {
+        ZclAttribute previous = get(key);
+        if (previous == null) {
+            return null;
+        }
+        if (descriptors.containsKey(key)) {
+            removed.add((Integer) key);
+        }
+        attributes.remove(key);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        removed.addAll(descriptors.keySet());
+        attributes.clear();
+    }
+
+    @Override
+    public int size() {
+        int size = descriptors.size() - removed.size();
+        for (Integer key : attributes.keySet()) {
+            if (!descriptors.containsKey(key)) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Iterators over the set work on a snapshot of the attribute IDs, and do not create any attributes. Attributes
+     * added to the map after the iterator is created are not returned.
+     */
+    @Override
+    public Set<Integer> keySet() {
+        return new AbstractSet<Integer>() {
+            @Override
+            public Iterator<Integer> iterator() {
+                return new KeyIterator();
+            }
+
+            @Override
+            public boolean contains(Object key) {
+                return containsKey(key);
+            }
+
+            @Override
+            public boolean remove(Object key) {
+                return ZclAttributeMap.this.remove(key) != null;
+            }
+
+            @Override
+            public int size() {
+                return ZclAttributeMap.this.size();
+            }
+        };
+    }
+
+    @Override
+    public Set<Map.Entry<Integer, ZclAttribute>> entrySet() {
+        return new AbstractSet<Map.Entry<Integer, ZclAttribute>>() {
+            @Override
+            public Iterator<Map.Entry<Integer, ZclAttribute>> iterator() {
+                final KeyIterator keys = new KeyIterator();
+                return new Iterator<Map.Entry<Integer, ZclAttribute>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return keys.hasNext();
+                    }
+
+                    @Override
+                    public Map.Entry<Integer, ZclAttribute> next() {
+                        Integer key = keys.next();
+                        return new AbstractMap.SimpleImmutableEntry<>(key, get(key));
+                    }
+
+                    @Override
+                    public void remove() {
+                        keys.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return ZclAttributeMap.this.size();
+            }
+        };
+    }
+
+    /**
+     * Iterates over a snapshot of the attribute IDs in the map. Removing through the iterator removes the attribute
+     * from the map.
+     */
+    private class KeyIterator implements Iterator<Integer> {
+        private final Iterator<Integer> keys;
+        private Integer lastKey;
+
+        KeyIterator() {
+            Set<Integer> snapshot = new TreeSet<>(descriptors.keySet());
+            snapshot.removeAll(removed);
+            snapshot.addAll(attributes.keySet());
+            keys = snapshot.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return keys.hasNext();
+        }
+
+        @Override
+        public Integer next() {
+            lastKey = keys.next();
+            return lastKey;
+        }
+
+        @Override
+        public void remove() {
+            if (lastKey == null) {
+                throw new IllegalStateException();
+            }
+            ZclAttributeMap.this.remove(lastKey);
+            lastKey = null;
+        }
+    }
+}
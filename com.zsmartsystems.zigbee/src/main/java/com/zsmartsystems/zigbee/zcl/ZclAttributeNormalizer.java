@@ -81,6 +81,25 @@ public class ZclAttributeNormalizer {
         }
     }
 
+    /**
+     * Checks if floating point data is normalized to an integer for the specified {@link ZclDataType}. This allows
+     * numeric values to be normalized without first being converted to an object.
+     *
+     * @param dataType the {@link ZclDataType} used for the normalised output
+     * @return true if floating point data is converted to an integer
+     */
+    protected boolean isFloatNormalizedToInteger(ZclDataType dataType) {
+        switch (dataType) {
+            case UNSIGNED_8_BIT_INTEGER:
+            case UNSIGNED_16_BIT_INTEGER:
+            case SIGNED_8_BIT_INTEGER:
+            case SIGNED_16_BIT_INTEGER:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     /**
      * Gets a default value of the specified {@link ZclDataType} which is used in the event that the normalizer fails to
      * convert the data.
@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.zcl;
+
+/**
+ * Attribute update listener for numeric attributes. Listeners are called when an {@link ZclAttribute} for the Cluster
+ * is updated, and integer and floating point values are passed as primitives rather than as objects. This allows
+ * applications receiving a high rate of numeric reports to process them without allocating an object for each value.
+ * <p>
+ * Attributes that are not numeric are still notified through
+ * {@link ZclAttributeListener#attributeUpdated(ZclAttribute, Object)}.
+ *
+ * @author Chris Jackson
+ *
+ */
+public interface ZclAttributeNumericListener extends ZclAttributeListener {
+    /**
+     * Called when an integer, bitmap or enumeration attribute is updated. Unsigned 32 bit values are provided as
+     * unsigned values.
+     *
+     * @param attribute the {@link ZclAttribute} that has been updated
+     * @param value the new value of the attribute
+     */
+    void integerAttributeUpdated(ZclAttribute attribute, long value);
+
+    /**
+     * Called when a floating point attribute is updated
+     *
+     * @param attribute the {@link ZclAttribute} that has been updated
+     * @param value the new value of the attribute
+     */
+    void floatAttributeUpdated(ZclAttribute attribute, double value);
+}
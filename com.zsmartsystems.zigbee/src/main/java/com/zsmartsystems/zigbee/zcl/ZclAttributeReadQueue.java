@@ -0,0 +1,212 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.zcl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zsmartsystems.zigbee.CommandResult;
+import com.zsmartsystems.zigbee.ZigBeeStatus;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionFuture;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionFutureListener;
+import com.zsmartsystems.zigbee.zcl.clusters.general.ReadAttributesCommand;
+
+/**
+ * Queues the attribute reads for a single {@link ZclCluster} so that reads are combined into as few
+ * {@link ReadAttributesCommand}s as possible.
+ * <p>
+ * Only a single read is outstanding to the cluster at any time. Requests to read an attribute that is already waiting
+ * to be read, or is being read, are given the future of the existing read rather than sending another request. While
+ * a read is in progress, newly requested attributes are queued, and are sent together in a single
+ * {@link ReadAttributesCommand} once the outstanding read completes. A command will read at most
+ * {@link #MAX_ATTRIBUTES_PER_READ} attributes, and only attributes with the same manufacturer code are read in the same
+ * command.
+ * <p>
+ * The futures returned by this class complete with the {@link CommandResult} of the command that read the attribute,
+ * which may also contain the other attributes read in the same command.
+ *
+ * @author Chris Jackson
+ */
+class ZclAttributeReadQueue {
+    /**
+     * The logger.
+     */
+    private final Logger logger = LoggerFactory.getLogger(ZclAttributeReadQueue.class);
+
+    /**
+     * The maximum number of attributes to read in a single command. This keeps the response within the frame length.
+     */
+    static final int MAX_ATTRIBUTES_PER_READ = 8;
+
+    private final ZclCluster cluster;
+
+    /**
+     * The futures of the attributes waiting to be read, or being read, indexed by the attribute ID
+     */
+    private final Map<Integer, ZigBeeTransactionFuture> readFutures = new HashMap<>();
+
+    /**
+     * The attributes waiting to be read, in the order they were requested
+     */
+    private final Set<Integer> queuedAttributes = new LinkedHashSet<>();
+
+    /**
+     * True while a {@link ReadAttributesCommand} is outstanding
+     */
+    private boolean readInProgress = false;
+
+    /**
+     * Creates the read queue for a cluster
+     *
+     * @param cluster the {@link ZclCluster} to read from
+     */
+    ZclAttributeReadQueue(ZclCluster cluster) {
+        this.cluster = cluster;
+    }
+
+    /**
+     * Requests an attribute to be read from the remote device. If the attribute is already waiting to be read, or is
+     * being read, the future of the existing read is returned.
+     *
+     * @param attributeId the attribute ID to read
+     * @return the {@link Future} to the {@link CommandResult} of the command that reads the attribute
+     */
+    Future<CommandResult> read(int attributeId) {
+        ZigBeeTransactionFuture future;
+        synchronized (this) {
+            future = readFutures.get(attributeId);
+            if (future != null) {
+                logger.trace("Attribute {} in cluster {} is already being read", attributeId, cluster.getClusterId());
+                return future;
+            }
+
+            future = new ZigBeeTransactionFuture();
+            readFutures.put(attributeId, future);
+            queuedAttributes.add(attributeId);
+            if (readInProgress) {
+                return future;
+            }
+            readInProgress = true;
+        }
+
+        sendNextRead();
+        return future;
+    }
+
+    /**
+     * Gets the number of attributes waiting to be read, not including attributes that are currently being read
+     *
+     * @return the number of queued attributes
+     */
+    synchronized int getQueueLength() {
+        return queuedAttributes.size();
+    }
+
+    /**
+     * Sends the next {@link ReadAttributesCommand} with the queued attributes. If there are no queued attributes, the
+     * queue becomes idle.
+     */
+    private void sendNextRead() {
+        final List<Integer> attributeIds = getNextAttributes();
+        if (attributeIds == null) {
+            return;
+        }
+
+        logger.debug("Reading attributes {} in cluster {}", attributeIds, cluster.getClusterId());
+        Future<CommandResult> future = cluster.readAttributes(attributeIds);
+        if (future instanceof ZigBeeTransactionFuture) {
+            ((ZigBeeTransactionFuture) future).addListener(new ZigBeeTransactionFutureListener() {
+                @Override
+                public void transactionComplete(CommandResult result) {
+                    readComplete(attributeIds, result);
+                }
+            });
+            return;
+        }
+
+        // Futures that can't notify completion are waited for
+        CommandResult result = null;
+        if (future != null) {
+            try {
+                result = future.get();
+            } catch (InterruptedException | ExecutionException e) {
+                logger.debug("Exception reading attributes {} in cluster {}", attributeIds, cluster.getClusterId(),
+                        e);
+            }
+        }
+        readComplete(attributeIds, result == null ? new CommandResult(ZigBeeStatus.FAILURE, null) : result);
+    }
+
+    /**
+     * Removes the next set of attributes to read from the queue. The first queued attribute is taken, along with
+     * following attributes that have the same manufacturer code, up to the maximum number of attributes per command.
+     *
+     * @return the list of attribute IDs to read, or null if the queue is empty
+     */
+    private synchronized List<Integer> getNextAttributes() {
+        if (queuedAttributes.isEmpty()) {
+            readInProgress = false;
+            return null;
+        }
+
+        List<Integer> attributeIds = new ArrayList<>();
+        Integer manufacturerCode = null;
+        Iterator<Integer> iterator = queuedAttributes.iterator();
+        while (iterator.hasNext() && attributeIds.size() < MAX_ATTRIBUTES_PER_READ) {
+            Integer attributeId = iterator.next();
+            Integer attributeManufacturerCode = getManufacturerCode(attributeId);
+            if (attributeIds.isEmpty()) {
+                manufacturerCode = attributeManufacturerCode;
+            } else if (manufacturerCode == null ? attributeManufacturerCode != null
+                    : !manufacturerCode.equals(attributeManufacturerCode)) {
+                continue;
+            }
+            attributeIds.add(attributeId);
+            iterator.remove();
+        }
+        return attributeIds;
+    }
+
+    private Integer getManufacturerCode(int attributeId) {
+        ZclAttribute attribute = cluster.getAttribute(attributeId);
+        if (attribute == null || !attribute.isManufacturerSpecific()) {
+            return null;
+        }
+        return attribute.getManufacturerCode();
+    }
+
+    /**
+     * Completes the futures of the attributes that were read, and sends the next read.
+     *
+     * @param attributeIds the attribute IDs that were read
+     * @param result the {@link CommandResult} of the read
+     */
+    private void readComplete(List<Integer> attributeIds, CommandResult result) {
+        List<ZigBeeTransactionFuture> futures = new ArrayList<>(attributeIds.size());
+        synchronized (this) {
+            for (Integer attributeId : attributeIds) {
+                futures.add(readFutures.remove(attributeId));
+            }
+        }
+        for (ZigBeeTransactionFuture future : futures) {
+            future.set(result);
+        }
+
+        sendNextRead();
+    }
+}
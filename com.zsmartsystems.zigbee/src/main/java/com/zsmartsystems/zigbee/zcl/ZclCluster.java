@@ -14,10 +14,10 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -32,11 +32,15 @@ import org.slf4j.LoggerFactory;
 
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.ZigBeeCommand;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.ZigBeeEndpointAddress;
 import com.zsmartsystems.zigbee.database.ZclAttributeDao;
 import com.zsmartsystems.zigbee.database.ZclClusterDao;
 import com.zsmartsystems.zigbee.internal.NotificationService;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionFuture;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionFutureListener;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionPriority;
 import com.zsmartsystems.zigbee.zcl.clusters.general.ConfigureReportingCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.general.ConfigureReportingResponse;
 import com.zsmartsystems.zigbee.zcl.clusters.general.DefaultResponse;
@@ -65,6 +69,8 @@ import com.zsmartsystems.zigbee.zcl.field.AttributeInformation;
 import com.zsmartsystems.zigbee.zcl.field.AttributeRecord;
 import com.zsmartsystems.zigbee.zcl.field.AttributeReport;
 import com.zsmartsystems.zigbee.zcl.field.AttributeReportingConfigurationRecord;
+import com.zsmartsystems.zigbee.zcl.field.AttributeReportingStatusRecord;
+import com.zsmartsystems.zigbee.zcl.field.AttributeStatusRecord;
 import com.zsmartsystems.zigbee.zcl.field.ReadAttributeStatusRecord;
 import com.zsmartsystems.zigbee.zcl.field.WriteAttributeRecord;
 import com.zsmartsystems.zigbee.zcl.field.WriteAttributeStatusRecord;
@@ -130,6 +136,12 @@ public abstract class ZclCluster {
      */
     private final Set<Integer> supportedCommandsGenerated = new HashSet<>();
 
+    /**
+     * Records if the configuration of the cluster has changed since it was last persisted. Changes to the attributes are
+     * recorded by each {@link ZclAttribute}.
+     */
+    private volatile boolean dirty = true;
+
     /**
      * Set of listeners to receive notifications when an attribute updates its value
      */
@@ -144,6 +156,8 @@ public abstract class ZclCluster {
      * Map of client attributes supported by the cluster. This contains all attributes, even if they are not supported
      * by the remote device. To check what attributes are supported by the remove device, use the
      * {@link #discoverAttributes()} method followed by the {@link #getSupportedAttributes()} method.
+     * <p>
+     * Generated clusters provide a {@link ZclAttributeMap} so that attributes are only created when they are used.
      */
     protected Map<Integer, ZclAttribute> clientAttributes = initializeClientAttributes();
 
@@ -151,25 +165,31 @@ public abstract class ZclCluster {
      * Map of server attributes supported by the cluster. This contains all attributes, even if they are not supported
      * by the remote device. To check what attributes are supported by the remove device, use the
      * {@link #discoverAttributes()} method followed by the {@link #getSupportedAttributes()} method.
+     * <p>
+     * Generated clusters provide a {@link ZclAttributeMap} so that attributes are only created when they are used.
      */
     protected Map<Integer, ZclAttribute> serverAttributes = initializeServerAttributes();
 
     /**
      * Map of server side commands supported by the cluster. This contains all server commands, even if they are not
-     * supported by the remote device.
+     * supported by the remote device. Commands are held as constructors so that received commands can be created
+     * without the use of reflection. The map may be shared between cluster instances and must not be modified.
      */
-    protected Map<Integer, Class<? extends ZclCommand>> serverCommands = initializeServerCommands();
+    protected volatile Map<Integer, ZclCommandFactory> serverCommands = addCommands(getServerCommandConstructors(),
+            initializeServerCommands());
 
     /**
      * Map of client side commands supported by the cluster. This contains all client commands, even if they are not
-     * supported by the remote device.
+     * supported by the remote device. Commands are held as constructors so that received commands can be created
+     * without the use of reflection. The map may be shared between cluster instances and must not be modified.
      */
-    protected Map<Integer, Class<? extends ZclCommand>> clientCommands = initializeClientCommands();
+    protected volatile Map<Integer, ZclCommandFactory> clientCommands = addCommands(getClientCommandConstructors(),
+            initializeClientCommands());
 
     /**
      * Map of the generic commands as implemented by all clusters
      */
-    protected static Map<Integer, Class<? extends ZclCommand>> genericCommands = new HashMap<>();
+    protected static Map<Integer, ZclCommandFactory> genericCommands = new HashMap<>();
 
     /**
      * Set of generic commands internally handled by this class
@@ -183,6 +203,11 @@ public abstract class ZclCluster {
      */
     private final ZclAttributeNormalizer normalizer;
 
+    /**
+     * The {@link ZclAttributeReadQueue} used to coalesce and batch attribute reads from the remote device
+     */
+    private final ZclAttributeReadQueue readQueue = new ZclAttributeReadQueue(this);
+
     /**
      * If this cluster requires all frames to have APS security applied, then this will be true. Any frames not secured
      * with the link key will be rejected and all frames sent will use APS encryption.
@@ -190,29 +215,29 @@ public abstract class ZclCluster {
     private boolean apsSecurityRequired = false;
 
     static {
-        genericCommands.put(0x0000, ReadAttributesCommand.class);
-        genericCommands.put(0x0001, ReadAttributesResponse.class);
-        genericCommands.put(0x0002, WriteAttributesCommand.class);
-        genericCommands.put(0x0003, WriteAttributesUndividedCommand.class);
-        genericCommands.put(0x0004, WriteAttributesResponse.class);
-        genericCommands.put(0x0005, WriteAttributesNoResponse.class);
-        genericCommands.put(0x0006, ConfigureReportingCommand.class);
-        genericCommands.put(0x0007, ConfigureReportingResponse.class);
-        genericCommands.put(0x0008, ReadReportingConfigurationCommand.class);
-        genericCommands.put(0x0009, ReadReportingConfigurationResponse.class);
-        genericCommands.put(0x000A, ReportAttributesCommand.class);
-        genericCommands.put(0x000B, DefaultResponse.class);
-        genericCommands.put(0x000C, DiscoverAttributesCommand.class);
-        genericCommands.put(0x000D, DiscoverAttributesResponse.class);
-        genericCommands.put(0x000E, ReadAttributesStructuredCommand.class);
-        genericCommands.put(0x000F, WriteAttributesStructuredCommand.class);
-        genericCommands.put(0x0010, WriteAttributesStructuredResponse.class);
-        genericCommands.put(0x0011, DiscoverCommandsReceived.class);
-        genericCommands.put(0x0012, DiscoverCommandsReceivedResponse.class);
-        genericCommands.put(0x0013, DiscoverCommandsGenerated.class);
-        genericCommands.put(0x0014, DiscoverCommandsGeneratedResponse.class);
-        genericCommands.put(0x0015, DiscoverAttributesExtended.class);
-        genericCommands.put(0x0016, DiscoverAttributesExtendedResponse.class);
+        genericCommands.put(0x0000, ReadAttributesCommand::new);
+        genericCommands.put(0x0001, ReadAttributesResponse::new);
+        genericCommands.put(0x0002, WriteAttributesCommand::new);
+        genericCommands.put(0x0003, WriteAttributesUndividedCommand::new);
+        genericCommands.put(0x0004, WriteAttributesResponse::new);
+        genericCommands.put(0x0005, WriteAttributesNoResponse::new);
+        genericCommands.put(0x0006, ConfigureReportingCommand::new);
+        genericCommands.put(0x0007, ConfigureReportingResponse::new);
+        genericCommands.put(0x0008, ReadReportingConfigurationCommand::new);
+        genericCommands.put(0x0009, ReadReportingConfigurationResponse::new);
+        genericCommands.put(0x000A, ReportAttributesCommand::new);
+        genericCommands.put(0x000B, DefaultResponse::new);
+        genericCommands.put(0x000C, DiscoverAttributesCommand::new);
+        genericCommands.put(0x000D, DiscoverAttributesResponse::new);
+        genericCommands.put(0x000E, ReadAttributesStructuredCommand::new);
+        genericCommands.put(0x000F, WriteAttributesStructuredCommand::new);
+        genericCommands.put(0x0010, WriteAttributesStructuredResponse::new);
+        genericCommands.put(0x0011, DiscoverCommandsReceived::new);
+        genericCommands.put(0x0012, DiscoverCommandsReceivedResponse::new);
+        genericCommands.put(0x0013, DiscoverCommandsGenerated::new);
+        genericCommands.put(0x0014, DiscoverCommandsGeneratedResponse::new);
+        genericCommands.put(0x0015, DiscoverAttributesExtended::new);
+        genericCommands.put(0x0016, DiscoverAttributesExtendedResponse::new);
 
         supportedGenericCommands.add(ReadAttributesCommand.class);
         supportedGenericCommands.add(ReadAttributesResponse.class);
@@ -243,23 +268,49 @@ public abstract class ZclCluster {
     protected abstract Map<Integer, ZclAttribute> initializeServerAttributes();
 
     /**
-     * Abstract method called when the cluster starts to initialise the list of server side commands defined in this
-     * cluster by the cluster library
+     * Method called when the cluster starts to get the constructors of the server side commands defined in this
+     * cluster by the cluster library. The returned map is not modified by the cluster, and may be shared between all
+     * instances of the cluster.
+     *
+     * @return a {@link Map} of the constructors of all server side commands this cluster is known to support
+     */
+    protected Map<Integer, ZclCommandFactory> getServerCommandConstructors() {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Method called when the cluster starts to get the constructors of the client side commands defined in this
+     * cluster by the cluster library. The returned map is not modified by the cluster, and may be shared between all
+     * instances of the cluster.
+     *
+     * @return a {@link Map} of the constructors of all client side commands this cluster is known to support
+     */
+    protected Map<Integer, ZclCommandFactory> getClientCommandConstructors() {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Method called when the cluster starts to initialise the list of server side commands defined in this cluster
+     * by the cluster library. Commands provided as classes are instantiated using reflection.
      *
      * @return a {@link Map} of all server side commands this cluster is known to support
+     * @deprecated use {@link #getServerCommandConstructors()}
      */
+    @Deprecated
     protected Map<Integer, Class<? extends ZclCommand>> initializeServerCommands() {
-        return new ConcurrentHashMap<>(0);
+        return Collections.emptyMap();
     }
 
     /**
-     * Abstract method called when the cluster starts to initialise the list of client side commands defined in this
-     * cluster by the cluster library
+     * Method called when the cluster starts to initialise the list of client side commands defined in this cluster
+     * by the cluster library. Commands provided as classes are instantiated using reflection.
      *
      * @return a {@link Map} of all client side commands this cluster is known to support
+     * @deprecated use {@link #getClientCommandConstructors()}
      */
+    @Deprecated
     protected Map<Integer, Class<? extends ZclCommand>> initializeClientCommands() {
-        return new ConcurrentHashMap<>(0);
+        return Collections.emptyMap();
     }
 
     /**
@@ -468,16 +519,37 @@ public abstract class ZclCluster {
     }
 
     /**
-     * Read an attribute from the remote cluster
+     * Read an attribute from the remote cluster. If the attribute is configured to report, and the next report is not
+     * yet overdue, the last reported value is returned without sending a request to the remote device.
+     * <p>
+     * Concurrent reads of the same attribute share a single request, and attributes requested while another read to
+     * this cluster is outstanding are read together in a single {@link ReadAttributesCommand}.
      *
      * @param attributeId the attribute id to read
      * @return and object containing the value, or null
      */
     protected Object readAttributeValue(final int attributeId) {
+        ZclAttribute attribute = getAttribute(attributeId);
+        if (attribute != null && attribute.isReportingCurrent()) {
+            return attribute.getLastValue();
+        }
+
+        // If we don't know this attribute, then just return the received data
+        return readQueuedAttribute(attributeId, attribute == null ? null : attribute.getDataType());
+    }
+
+    /**
+     * Reads an attribute through the {@link ZclAttributeReadQueue} and waits for the response
+     *
+     * @param attributeId the attribute id to read
+     * @param dataType the {@link ZclDataType} used to normalise the value, or null to return the received data
+     * @return and object containing the value, or null
+     */
+    private Object readQueuedAttribute(final int attributeId, final ZclDataType dataType) {
         logger.debug("readSync request: {}", attributeId);
         CommandResult result;
         try {
-            result = readAttribute(attributeId).get();
+            result = readQueue.read(attributeId).get();
         } catch (InterruptedException e) {
             logger.debug("readAttributeValue interrupted");
             return null;
@@ -486,22 +558,26 @@ public abstract class ZclCluster {
             return null;
         }
 
-        if (!result.isSuccess()) {
+        if (!result.isSuccess() || !(result.getResponse() instanceof ReadAttributesResponse)) {
             return null;
         }
 
+        // The response may include other attributes that were read in the same command
         ReadAttributesResponse response = result.getResponse();
-        if (response.getRecords().get(0).getStatus() != ZclStatus.SUCCESS) {
-            return null;
-        }
-
-        // If we don't know this attribute, then just return the received data
-        if (getAttribute(attributeId) == null) {
-            return response.getRecords().get(0).getAttributeValue();
+        for (ReadAttributeStatusRecord record : response.getRecords()) {
+            if (record.getAttributeIdentifier() != attributeId) {
+                continue;
+            }
+            if (record.getStatus() != ZclStatus.SUCCESS) {
+                return null;
+            }
+            if (dataType == null) {
+                return record.getAttributeValue();
+            }
+            return normalizer.normalizeZclData(dataType, record.getAttributeValue());
         }
 
-        return normalizer.normalizeZclData(getAttribute(attributeId).getDataType(),
-                response.getRecords().get(0).getAttributeValue());
+        return null;
     }
 
     /**
@@ -629,6 +705,7 @@ public abstract class ZclCluster {
                 Collections.singletonList(record));
         command.setClusterId(clusterId);
         command.setDestinationAddress(zigbeeEndpoint.getEndpointAddress());
+        command.setPriority(ZigBeeTransactionPriority.BACKGROUND);
 
         if (isManufacturerSpecific()) {
             command.setManufacturerCode(getManufacturerCode());
@@ -731,6 +808,9 @@ public abstract class ZclCluster {
      *
      */
     public void setServer() {
+        if (isClient) {
+            dirty = true;
+        }
         isClient = false;
     }
 
@@ -748,6 +828,9 @@ public abstract class ZclCluster {
      *
      */
     public void setClient() {
+        if (!isClient) {
+            dirty = true;
+        }
         isClient = true;
     }
 
@@ -920,7 +1003,8 @@ public abstract class ZclCluster {
                     } while (!complete);
 
                     supportedAttributes.clear();
-                    for (ZclAttribute attribute : getAttributes()) {
+                    for (ZclAttribute attribute : getAllocatedAttributes(
+                            isClient ? clientAttributes : serverAttributes)) {
                         // Set all remote attributes as unimplemented
                         attribute.setImplemented(false);
                     }
@@ -934,6 +1018,7 @@ public abstract class ZclCluster {
                     }
                 }
                 supportedAttributesKnown = true;
+                dirty = true;
                 return true;
             }
         });
@@ -1041,6 +1126,7 @@ public abstract class ZclCluster {
 
                     supportedCommandsReceived.clear();
                     supportedCommandsReceived.addAll(commands);
+                    dirty = true;
                 }
                 return true;
             }
@@ -1148,6 +1234,7 @@ public abstract class ZclCluster {
 
                     supportedCommandsGenerated.clear();
                     supportedCommandsGenerated.addAll(commands);
+                    dirty = true;
                 }
 
                 return true;
@@ -1181,21 +1268,58 @@ public abstract class ZclCluster {
     }
 
     /**
-     * Notify attribute listeners of an updated remote {@link ZclAttribute}.
+     * Notify attribute listeners of an updated remote integer {@link ZclAttribute}. The value is only converted to an
+     * object if there are listeners that are not {@link ZclAttributeNumericListener}s.
      *
      * @param attribute the {@link ZclAttribute} to notify
      * @param value the current value of the attribute
      */
-    private void notifyAttributeListener(final ZclAttribute attribute, final Object value) {
+    private void notifyAttributeListener(final ZclAttribute attribute, final long value) {
+        Object objectValue = null;
         for (final ZclAttributeListener listener : attributeListeners) {
-            getNotificationService().execute(new Runnable() {
+            if (!(listener instanceof ZclAttributeNumericListener)) {
+                if (objectValue == null) {
+                    objectValue = attribute.getLastValue();
+                }
+                notifyAttributeListener(listener, attribute, objectValue);
+                continue;
+            }
+            getNotificationService().execute(listener, new Runnable() {
                 @Override
                 public void run() {
-                    logger.trace("{}: ZclCluster.notifyAttributeListener {} of {} with value {}",
-                            zigbeeEndpoint.getEndpointAddress(), listener, attribute, value);
+                    try {
+                        ((ZclAttributeNumericListener) listener).integerAttributeUpdated(attribute, value);
+                    } catch (Exception e) {
+                        logger.warn("{}: Exception when notifying attribute listener {} of {} with value {}",
+                                zigbeeEndpoint.getEndpointAddress(), listener, attribute, value, e);
+                    }
+                }
+            });
+        }
+    }
 
+    /**
+     * Notify attribute listeners of an updated remote floating point {@link ZclAttribute}. The value is only converted
+     * to an object if there are listeners that are not {@link ZclAttributeNumericListener}s.
+     *
+     * @param attribute the {@link ZclAttribute} to notify
+     * @param value the current value of the attribute
+     */
+    private void notifyAttributeListener(final ZclAttribute attribute, final double value) {
+        Object objectValue = null;
+        for (final ZclAttributeListener listener : attributeListeners) {
+            if (!(listener instanceof ZclAttributeNumericListener)) {
+                if (objectValue == null) {
+                    objectValue = attribute.getLastValue();
+                }
+                notifyAttributeListener(listener, attribute, objectValue);
+                continue;
+            }
+            getNotificationService().execute(listener, new Runnable() {
+                @Override
+                public void run() {
                     try {
-                        listener.attributeUpdated(attribute, value);
+                        ((ZclAttributeNumericListener) listener).floatAttributeUpdated(attribute, value);
                     } catch (Exception e) {
                         logger.warn("{}: Exception when notifying attribute listener {} of {} with value {}",
                                 zigbeeEndpoint.getEndpointAddress(), listener, attribute, value, e);
@@ -1205,6 +1329,36 @@ public abstract class ZclCluster {
         }
     }
 
+    /**
+     * Notify attribute listeners of an updated remote {@link ZclAttribute}.
+     *
+     * @param attribute the {@link ZclAttribute} to notify
+     * @param value the current value of the attribute
+     */
+    private void notifyAttributeListener(final ZclAttribute attribute, final Object value) {
+        for (final ZclAttributeListener listener : attributeListeners) {
+            notifyAttributeListener(listener, attribute, value);
+        }
+    }
+
+    private void notifyAttributeListener(final ZclAttributeListener listener, final ZclAttribute attribute,
+            final Object value) {
+        getNotificationService().execute(listener, new Runnable() {
+            @Override
+            public void run() {
+                logger.trace("{}: ZclCluster.notifyAttributeListener {} of {} with value {}",
+                        zigbeeEndpoint.getEndpointAddress(), listener, attribute, value);
+
+                try {
+                    listener.attributeUpdated(attribute, value);
+                } catch (Exception e) {
+                    logger.warn("{}: Exception when notifying attribute listener {} of {} with value {}",
+                            zigbeeEndpoint.getEndpointAddress(), listener, attribute, value, e);
+                }
+            }
+        });
+    }
+
     /**
      * Adds a {@link ZclCommandListener} to receive commands.
      * <p>
@@ -1241,6 +1395,23 @@ public abstract class ZclCluster {
      * @return true if at least one of the command handlers has responded to the command
      */
     private boolean notifyCommandListener(final ZclCommand command) {
+        if (commandListeners.isEmpty()) {
+            return false;
+        }
+        if (getNotificationService().isDispatchThread()) {
+            // The notification threads are bounded, so we can't block this thread waiting for others to notify the
+            // listeners. As we're already in a notification thread, notify the listeners directly.
+            boolean response = false;
+            for (final ZclCommandListener listener : commandListeners) {
+                logger.trace("{}: ZclCluster.notifyCommandListener {} of {}", zigbeeEndpoint.getEndpointAddress(),
+                        listener, command);
+                if (listener.commandReceived(command)) {
+                    response = true;
+                }
+            }
+            return response;
+        }
+
         final AtomicBoolean response = new AtomicBoolean();
         CountDownLatch latch;
         synchronized (commandListeners) {
@@ -1330,7 +1501,7 @@ public abstract class ZclCluster {
      */
     private void handleDiscoverAttributes(DiscoverAttributesCommand command) {
         List<AttributeInformation> attributeInformation = new ArrayList<>();
-        for (ZclAttribute attribute : getLocalAttributes()) {
+        for (ZclAttribute attribute : getAllocatedAttributes(isClient ? serverAttributes : clientAttributes)) {
             if (!attribute.isImplemented() || attribute.getId() < command.getStartAttributeIdentifier()) {
                 continue;
             }
@@ -1359,7 +1530,7 @@ public abstract class ZclCluster {
         logger.trace("{}: ZclCluster.handleAttributeReport({})", zigbeeEndpoint.getEndpointAddress(),
                 command.getReports());
         for (AttributeReport report : command.getReports()) {
-            updateAttribute(report.getAttributeIdentifier(), report.getAttributeValue());
+            updateAttribute(report);
         }
         sendDefaultResponse(command, ZclStatus.SUCCESS);
     }
@@ -1385,6 +1556,29 @@ public abstract class ZclCluster {
         sendDefaultResponse(command, ZclStatus.SUCCESS);
     }
 
+    /**
+     * Processes the reporting configuration records received from the remote device, and updates the reporting
+     * configuration of the attributes. The command continues to be processed by the command listeners.
+     *
+     * @param command the received {@link ReadReportingConfigurationResponse}
+     */
+    private void handleReportingConfiguration(ReadReportingConfigurationResponse command) {
+        if (command.getRecords() == null) {
+            return;
+        }
+        for (AttributeReportingStatusRecord record : command.getRecords()) {
+            if (record.getStatus() != ZclStatus.SUCCESS || record.getDirection() != 0) {
+                continue;
+            }
+            ZclAttribute attribute = getAttribute(record.getAttributeIdentifier());
+            if (attribute == null) {
+                continue;
+            }
+            attribute.updateReporting(record.getMinimumReportingInterval(), record.getMaximumReportingInterval(),
+                    record.getReportableChange(), record.getTimeoutPeriod());
+        }
+    }
+
     /**
      * Processes a list of attribute reports for this cluster
      *
@@ -1428,6 +1622,46 @@ public abstract class ZclCluster {
         sendResponse(command, response);
     }
 
+    /**
+     * Updates an attribute from a report. Integer and floating point values are passed to the {@link ZclAttribute} and
+     * any {@link ZclAttributeNumericListener}s without being converted to objects.
+     *
+     * @param report the received {@link AttributeReport}
+     */
+    private void updateAttribute(AttributeReport report) {
+        ZclAttribute attribute = getAttribute(report.getAttributeIdentifier());
+        if (attribute == null || !(report.isIntegerValue() || report.isFloatValue())
+                || attribute.getDataType() == ZclDataType.BOOLEAN || (isLongType(report.getAttributeDataType())
+                        && !isLongType(attribute.getDataType()))) {
+            updateAttribute(report.getAttributeIdentifier(), report.getAttributeValue());
+            return;
+        }
+
+        if (logger.isTraceEnabled()) {
+            logger.trace("{}: Attribute {} in {} cluster {} updated to {}", zigbeeEndpoint.getEndpointAddress(),
+                    report.getAttributeIdentifier(), (isClient ? "Client" : "Server"), clusterId,
+                    report.isIntegerValue() ? report.getIntegerValue() : report.getFloatValue());
+        }
+
+        if (report.isIntegerValue()) {
+            long value = report.getIntegerValue();
+            attribute.updateValue(value);
+            notifyAttributeListener(attribute, value);
+        } else if (normalizer.isFloatNormalizedToInteger(attribute.getDataType())) {
+            long value = (int) report.getFloatValue();
+            attribute.updateValue(value);
+            notifyAttributeListener(attribute, value);
+        } else {
+            double value = report.getFloatValue();
+            attribute.updateValue(value);
+            notifyAttributeListener(attribute, value);
+        }
+    }
+
+    private boolean isLongType(ZclDataType dataType) {
+        return dataType == ZclDataType.UNSIGNED_40_BIT_INTEGER || dataType == ZclDataType.UNSIGNED_48_BIT_INTEGER;
+    }
+
     private void updateAttribute(int attributeId, Object attributeValue) {
         logger.trace("{}: Attribute {} in {} cluster {} updated to {}", zigbeeEndpoint.getEndpointAddress(),
                 attributeId, (isClient ? "Client" : "Server"), clusterId, attributeValue);
@@ -1460,6 +1694,10 @@ public abstract class ZclCluster {
             return;
         }
 
+        if (command instanceof ReadReportingConfigurationResponse) {
+            handleReportingConfiguration((ReadReportingConfigurationResponse) command);
+        }
+
         if (command instanceof ReadAttributesCommand) {
             handleReadAttributes((ReadAttributesCommand) command);
             return;
@@ -1531,17 +1769,60 @@ public abstract class ZclCluster {
         }
     }
 
-    private ZclCommand getCommand(int commandId, Map<Integer, Class<? extends ZclCommand>> commands) {
-        if (!commands.containsKey(commandId)) {
+    private ZclCommand getCommand(int commandId, Map<Integer, ZclCommandFactory> commands) {
+        ZclCommandFactory constructor = commands.get(commandId);
+        if (constructor == null) {
             return null;
         }
 
-        try {
-            return commands.get(commandId).getConstructor().newInstance();
-        } catch (Exception e) {
+        ZclCommand command = constructor.createCommand();
+        if (command == null) {
             logger.debug("Error instantiating cluster command {}, id={}", clusterName, commandId);
         }
-        return null;
+        return command;
+    }
+
+    /**
+     * Creates a new map of command constructors containing the existing constructors, and the additional commands.
+     * If there are no additional commands, the existing map is returned.
+     *
+     * @param constructors the existing {@link Map} of command constructors
+     * @param commands the {@link Map} of command classes to add
+     * @return the {@link Map} of command constructors
+     */
+    private Map<Integer, ZclCommandFactory> addCommands(Map<Integer, ZclCommandFactory> constructors,
+            Map<Integer, Class<? extends ZclCommand>> commands) {
+        if (commands == null || commands.isEmpty()) {
+            return constructors;
+        }
+
+        Map<Integer, ZclCommandFactory> newConstructors = new HashMap<>(constructors);
+        for (Entry<Integer, Class<? extends ZclCommand>> command : commands.entrySet()) {
+            final Class<? extends ZclCommand> commandClass = command.getValue();
+            newConstructors.put(command.getKey(), () -> {
+                try {
+                    return commandClass.getConstructor().newInstance();
+                } catch (Exception e) {
+                    return null;
+                }
+            });
+        }
+        return newConstructors;
+    }
+
+    /**
+     * Gets the attributes from an attribute map that hold state for this cluster. Where the map is a
+     * {@link ZclAttributeMap}, attributes that have not yet been created are not included - these hold no state and are
+     * not implemented.
+     *
+     * @param attributes the attribute map
+     * @return the {@link Collection} of {@link ZclAttribute}s
+     */
+    private Collection<ZclAttribute> getAllocatedAttributes(Map<Integer, ZclAttribute> attributes) {
+        if (attributes instanceof ZclAttributeMap) {
+            return ((ZclAttributeMap) attributes).getAllocatedAttributes();
+        }
+        return attributes.values();
     }
 
     /**
@@ -1560,15 +1841,8 @@ public abstract class ZclCluster {
         }
         dao.setSupportedCommandsGenerated(Collections.unmodifiableSet(new TreeSet<>(supportedCommandsGenerated)));
         dao.setSupportedCommandsReceived(Collections.unmodifiableSet(new TreeSet<>(supportedCommandsReceived)));
-        Collection<ZclAttribute> daoZclAttributes;
-        if (isClient) {
-            daoZclAttributes = clientAttributes.values();
-        } else {
-            daoZclAttributes = serverAttributes.values();
-        }
-
         Map<Integer, ZclAttributeDao> daoAttributes = new HashMap<>();
-        for (ZclAttribute attribute : daoZclAttributes) {
+        for (ZclAttribute attribute : getAllocatedAttributes(isClient ? clientAttributes : serverAttributes)) {
             daoAttributes.put(attribute.getId(), attribute.getDao());
         }
         dao.setAttributes(daoAttributes);
@@ -1606,6 +1880,47 @@ public abstract class ZclCluster {
                 attribute.setDynamicStateFromDao(daoAttribute);
             }
         }
+        dirty = false;
+    }
+
+    /**
+     * Returns true if the configuration of the cluster has changed since it was last persisted. This does not include
+     * changes to the attributes, which are returned by {@link #getDirtyAttributes()}.
+     *
+     * @return true if the cluster must be persisted with {@link #getDao()}
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Gets a {@link ZclAttributeDao} for each persisted attribute that has changed since it was last persisted, and
+     * clears the dirty flag of the attributes. This allows the attributes to be persisted without persisting the
+     * complete cluster.
+     *
+     * @return the {@link List} of {@link ZclAttributeDao}s of all changed attributes
+     */
+    public List<ZclAttributeDao> getDirtyAttributes() {
+        List<ZclAttributeDao> daoAttributes = new ArrayList<>();
+        for (ZclAttribute attribute : getAllocatedAttributes(isClient ? clientAttributes : serverAttributes)) {
+            if (attribute.isDirty()) {
+                // Clear the flag first so that an update while the DAO is created is not lost
+                attribute.clearDirty();
+                daoAttributes.add(attribute.getDao());
+            }
+        }
+        return daoAttributes;
+    }
+
+    /**
+     * Clears the dirty flag of the cluster and all its attributes. This is called when the complete cluster is about to
+     * be persisted with {@link #getDao()}.
+     */
+    public void clearDirty() {
+        dirty = false;
+        for (ZclAttribute attribute : getAllocatedAttributes(isClient ? clientAttributes : serverAttributes)) {
+            attribute.clearDirty();
+        }
     }
 
     //
@@ -1621,29 +1936,11 @@ public abstract class ZclCluster {
      */
     @Deprecated
     protected Object readSync(final ZclAttribute attribute) {
-        logger.debug("readSync request: {}", attribute);
-        CommandResult result;
-        try {
-            result = read(attribute).get();
-        } catch (InterruptedException e) {
-            logger.debug("readSync interrupted");
-            return null;
-        } catch (ExecutionException e) {
-            logger.debug("readSync exception ", e);
-            return null;
-        }
-
-        if (!result.isSuccess()) {
-            return null;
-        }
-
-        ReadAttributesResponse response = result.getResponse();
-        if (response.getRecords().get(0).getStatus() == ZclStatus.SUCCESS) {
-            ReadAttributeStatusRecord attributeRecord = response.getRecords().get(0);
-            return normalizer.normalizeZclData(attribute.getDataType(), attributeRecord.getAttributeValue());
+        if (attribute.isReportingCurrent()) {
+            return attribute.getLastValue();
         }
 
-        return null;
+        return readQueuedAttribute(attribute.getId(), attribute.getDataType());
     }
 
     /**
@@ -1757,6 +2054,7 @@ public abstract class ZclCluster {
         record.setTimeoutPeriod(0);
         command.setRecords(Collections.singletonList(record));
         command.setDestinationAddress(zigbeeEndpoint.getEndpointAddress());
+        command.setPriority(ZigBeeTransactionPriority.BACKGROUND);
 
         if (isManufacturerSpecific()) {
             command.setManufacturerCode(getManufacturerCode());
@@ -1764,7 +2062,39 @@ public abstract class ZclCluster {
             command.setManufacturerCode(attribute.getManufacturerCode());
         }
 
-        return sendCommand(command);
+        Future<CommandResult> future = sendCommand(command);
+        if (future instanceof ZigBeeTransactionFuture) {
+            // Record the configuration once the remote device accepts it so reported values can be used by reads
+            ((ZigBeeTransactionFuture) future).addListener(new ZigBeeTransactionFutureListener() {
+                @Override
+                public void transactionComplete(CommandResult result) {
+                    if (result.isSuccess() && isReportingConfigured(result.getResponse())) {
+                        attribute.updateReporting(minInterval, maxInterval, reportableChange,
+                                attribute.getReportingTimeout());
+                    }
+                }
+            });
+        }
+        return future;
+    }
+
+    private boolean isReportingConfigured(ZigBeeCommand response) {
+        if (!(response instanceof ConfigureReportingResponse)) {
+            return false;
+        }
+        ConfigureReportingResponse configureResponse = (ConfigureReportingResponse) response;
+        if (configureResponse.getStatus() == ZclStatus.SUCCESS) {
+            return true;
+        }
+        if (configureResponse.getRecords() == null || configureResponse.getRecords().isEmpty()) {
+            return false;
+        }
+        for (AttributeStatusRecord record : configureResponse.getRecords()) {
+            if (record.getStatus() != ZclStatus.SUCCESS) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -1813,6 +2143,7 @@ public abstract class ZclCluster {
         record.setDirection(0);
         command.setRecords(Collections.singletonList(record));
         command.setDestinationAddress(zigbeeEndpoint.getEndpointAddress());
+        command.setPriority(ZigBeeTransactionPriority.BACKGROUND);
 
         return sendCommand(command);
     }
@@ -1872,8 +2203,8 @@ public abstract class ZclCluster {
      *
      * @param commands the client commands which should be added to the cluster
      */
-    public void addClientCommands(Map<Integer, Class<? extends ZclCommand>> commands) {
-        clientCommands.putAll(commands);
+    public synchronized void addClientCommands(Map<Integer, Class<? extends ZclCommand>> commands) {
+        clientCommands = addCommands(clientCommands, commands);
     }
 
     /**
@@ -1881,8 +2212,8 @@ public abstract class ZclCluster {
      *
      * @param commands the server commands which should be added to the cluster
      */
-    public void addServerCommands(Map<Integer, Class<? extends ZclCommand>> commands) {
-        serverCommands.putAll(commands);
+    public synchronized void addServerCommands(Map<Integer, Class<? extends ZclCommand>> commands) {
+        serverCommands = addCommands(serverCommands, commands);
     }
 
     /**
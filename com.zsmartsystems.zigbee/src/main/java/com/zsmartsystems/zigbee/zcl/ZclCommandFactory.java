@@ -0,0 +1,23 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.zcl;
+
+/**
+ * Factory used by the {@link ZclCluster} to create a new {@link ZclCommand} when a command is received. This is
+ * normally the constructor of the command class (eg {@code OnCommand::new}).
+ *
+ * @author Chris Jackson
+ */
+public interface ZclCommandFactory {
+    /**
+     * Creates a new instance of the command
+     *
+     * @return the new {@link ZclCommand}
+     */
+    ZclCommand createCommand();
+}
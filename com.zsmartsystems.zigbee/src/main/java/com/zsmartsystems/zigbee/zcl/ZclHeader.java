@@ -324,6 +324,40 @@ public class ZclHeader {
      * @return the ZCL frame as {@link int[]}
      */
     public int[] serialize(ZclFieldSerializer fieldSerializer, int[] payload) {
+        int frameControl = getFrameControl();
+        int manufacturerCodeLength = manufacturerSpecific ? 2 : 0;
+
+        int[] zclFrame = new int[payload.length + 3 + manufacturerCodeLength];
+        zclFrame[0] = frameControl;
+        if (manufacturerSpecific) {
+            zclFrame[1] = manufacturerCode & 0xFF; // low byte of manufacturer code
+            zclFrame[2] = (manufacturerCode >> 8) & 0xFF; // high byte of manufacturer code
+        }
+        zclFrame[1 + manufacturerCodeLength] = sequenceNumber;
+        zclFrame[2 + manufacturerCodeLength] = commandId;
+
+        for (int cnt = 0; cnt < payload.length; cnt++) {
+            zclFrame[cnt + 3 + manufacturerCodeLength] = payload[cnt];
+        }
+        return zclFrame;
+    }
+
+    /**
+     * Serializes the ZCL header into the {@link ZclFieldSerializer}. The ZCL payload is then serialized into the same
+     * serializer to produce the final ZCL packet without copying the payload.
+     *
+     * @param fieldSerializer the {@link ZclFieldSerializer}
+     */
+    public void serialize(ZclFieldSerializer fieldSerializer) {
+        fieldSerializer.serialize(getFrameControl(), ZclDataType.UNSIGNED_8_BIT_INTEGER);
+        if (manufacturerSpecific) {
+            fieldSerializer.serialize(manufacturerCode, ZclDataType.UNSIGNED_16_BIT_INTEGER);
+        }
+        fieldSerializer.serialize(sequenceNumber, ZclDataType.UNSIGNED_8_BIT_INTEGER);
+        fieldSerializer.serialize(commandId, ZclDataType.UNSIGNED_8_BIT_INTEGER);
+    }
+
+    private int getFrameControl() {
         int frameControl = 0;
         switch (frameType) {
             case CLUSTER_SPECIFIC_COMMAND:
@@ -340,21 +374,7 @@ public class ZclHeader {
         frameControl |= direction == ZclCommandDirection.SERVER_TO_CLIENT ? MASK_DIRECTION : 0b00000000;
         frameControl |= disableDefaultResponse ? MASK_DEFAULT_RESPONSE : 0b00000000;
 
-        int manufacturerCodeLength = manufacturerSpecific ? 2 : 0;
-
-        int[] zclFrame = new int[payload.length + 3 + manufacturerCodeLength];
-        zclFrame[0] = frameControl;
-        if (manufacturerSpecific) {
-            zclFrame[1] = manufacturerCode & 0xFF; // low byte of manufacturer code
-            zclFrame[2] = (manufacturerCode >> 8) & 0xFF; // high byte of manufacturer code
-        }
-        zclFrame[1 + manufacturerCodeLength] = sequenceNumber;
-        zclFrame[2 + manufacturerCodeLength] = commandId;
-
-        for (int cnt = 0; cnt < payload.length; cnt++) {
-            zclFrame[cnt + 3 + manufacturerCodeLength] = payload[cnt];
-        }
-        return zclFrame;
+        return frameControl;
     }
 
     @Override
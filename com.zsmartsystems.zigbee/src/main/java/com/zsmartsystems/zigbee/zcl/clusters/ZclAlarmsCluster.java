@@ -7,7 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -16,8 +18,10 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDescriptor;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeMap;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
-import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.ZclCommandFactory;
 import com.zsmartsystems.zigbee.zcl.clusters.alarms.AlarmCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.alarms.GetAlarmCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.alarms.GetAlarmResponse;
@@ -67,42 +71,53 @@ public class ZclAlarmsCluster extends ZclCluster {
      */
     public static final int ATTR_ALARMCOUNT = 0x0000;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * Map of the server side attribute descriptors defined by the cluster, indexed by attribute ID
+     */
+    private static Map<Integer, ZclAttributeDescriptor> serverAttributeDescriptors = new TreeMap<>();
 
-        return attributeMap;
+    static {
+        serverAttributeDescriptors.put(ATTR_ALARMCOUNT, new ZclAttributeDescriptor(ATTR_ALARMCOUNT, "Alarm Count", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
     }
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * Map of the server side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> serverCommandConstructors = new HashMap<>();
 
-        attributeMap.put(ATTR_ALARMCOUNT, new ZclAttribute(this, ATTR_ALARMCOUNT, "Alarm Count", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+    /**
+     * Map of the client side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> clientCommandConstructors = new HashMap<>();
 
-        return attributeMap;
+    static {
+        serverCommandConstructors.put(0x0000, AlarmCommand::new);
+        serverCommandConstructors.put(0x0001, GetAlarmResponse::new);
+
+        clientCommandConstructors.put(0x0000, ResetAlarmCommand::new);
+        clientCommandConstructors.put(0x0001, ResetAllAlarmsCommand::new);
+        clientCommandConstructors.put(0x0002, GetAlarmCommand::new);
+        clientCommandConstructors.put(0x0003, ResetAlarmLogCommand::new);
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeServerCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
-
-        commandMap.put(0x0000, AlarmCommand.class);
-        commandMap.put(0x0001, GetAlarmResponse.class);
-
-        return commandMap;
+    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
+        return new ConcurrentSkipListMap<>();
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeClientCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
+    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
+        return new ZclAttributeMap(this, serverAttributeDescriptors);
+    }
 
-        commandMap.put(0x0000, ResetAlarmCommand.class);
-        commandMap.put(0x0001, ResetAllAlarmsCommand.class);
-        commandMap.put(0x0002, GetAlarmCommand.class);
-        commandMap.put(0x0003, ResetAlarmLogCommand.class);
+    @Override
+    protected Map<Integer, ZclCommandFactory> getServerCommandConstructors() {
+        return serverCommandConstructors;
+    }
 
-        return commandMap;
+    @Override
+    protected Map<Integer, ZclCommandFactory> getClientCommandConstructors() {
+        return clientCommandConstructors;
     }
 
     /**
@@ -8,6 +8,7 @@
 package com.zsmartsystems.zigbee.zcl.clusters;
 
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -16,6 +17,8 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDescriptor;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeMap;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
@@ -154,29 +157,32 @@ public class ZclAnalogInputBasicCluster extends ZclCluster {
      */
     public static final int ATTR_APPLICATIONTYPE = 0x0100;
 
+    /**
+     * Map of the server side attribute descriptors defined by the cluster, indexed by attribute ID
+     */
+    private static Map<Integer, ZclAttributeDescriptor> serverAttributeDescriptors = new TreeMap<>();
+
+    static {
+        serverAttributeDescriptors.put(ATTR_DESCRIPTION, new ZclAttributeDescriptor(ATTR_DESCRIPTION, "Description", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_MAXPRESENTVALUE, new ZclAttributeDescriptor(ATTR_MAXPRESENTVALUE, "Max Present Value", ZclDataType.FLOAT_32_BIT, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_MINPRESENTVALUE, new ZclAttributeDescriptor(ATTR_MINPRESENTVALUE, "Min Present Value", ZclDataType.FLOAT_32_BIT, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_OUTOFSERVICE, new ZclAttributeDescriptor(ATTR_OUTOFSERVICE, "Out Of Service", ZclDataType.BOOLEAN, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_PRESENTVALUE, new ZclAttributeDescriptor(ATTR_PRESENTVALUE, "Present Value", ZclDataType.FLOAT_32_BIT, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_RELIABILITY, new ZclAttributeDescriptor(ATTR_RELIABILITY, "Reliability", ZclDataType.ENUMERATION_8_BIT, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_RESOLUTION, new ZclAttributeDescriptor(ATTR_RESOLUTION, "Resolution", ZclDataType.FLOAT_32_BIT, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_STATUSFLAGS, new ZclAttributeDescriptor(ATTR_STATUSFLAGS, "Status Flags", ZclDataType.BITMAP_8_BIT, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_ENGINEERINGUNITS, new ZclAttributeDescriptor(ATTR_ENGINEERINGUNITS, "Engineering Units", ZclDataType.ENUMERATION_32_BIT, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_APPLICATIONTYPE, new ZclAttributeDescriptor(ATTR_APPLICATIONTYPE, "Application Type", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, true, false));
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+        return new ConcurrentSkipListMap<>();
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_DESCRIPTION, new ZclAttribute(this, ATTR_DESCRIPTION, "Description", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_MAXPRESENTVALUE, new ZclAttribute(this, ATTR_MAXPRESENTVALUE, "Max Present Value", ZclDataType.FLOAT_32_BIT, false, true, true, false));
-        attributeMap.put(ATTR_MINPRESENTVALUE, new ZclAttribute(this, ATTR_MINPRESENTVALUE, "Min Present Value", ZclDataType.FLOAT_32_BIT, false, true, true, false));
-        attributeMap.put(ATTR_OUTOFSERVICE, new ZclAttribute(this, ATTR_OUTOFSERVICE, "Out Of Service", ZclDataType.BOOLEAN, false, true, true, false));
-        attributeMap.put(ATTR_PRESENTVALUE, new ZclAttribute(this, ATTR_PRESENTVALUE, "Present Value", ZclDataType.FLOAT_32_BIT, false, true, true, false));
-        attributeMap.put(ATTR_RELIABILITY, new ZclAttribute(this, ATTR_RELIABILITY, "Reliability", ZclDataType.ENUMERATION_8_BIT, false, true, true, false));
-        attributeMap.put(ATTR_RESOLUTION, new ZclAttribute(this, ATTR_RESOLUTION, "Resolution", ZclDataType.FLOAT_32_BIT, false, true, true, false));
-        attributeMap.put(ATTR_STATUSFLAGS, new ZclAttribute(this, ATTR_STATUSFLAGS, "Status Flags", ZclDataType.BITMAP_8_BIT, false, true, true, false));
-        attributeMap.put(ATTR_ENGINEERINGUNITS, new ZclAttribute(this, ATTR_ENGINEERINGUNITS, "Engineering Units", ZclDataType.ENUMERATION_32_BIT, false, true, true, false));
-        attributeMap.put(ATTR_APPLICATIONTYPE, new ZclAttribute(this, ATTR_APPLICATIONTYPE, "Application Type", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, true, false));
-
-        return attributeMap;
+        return new ZclAttributeMap(this, serverAttributeDescriptors);
     }
 
 
@@ -7,7 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -16,8 +18,10 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDescriptor;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeMap;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
-import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.ZclCommandFactory;
 import com.zsmartsystems.zigbee.zcl.clusters.basic.ResetToFactoryDefaultsCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.basic.ZclBasicCommand;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
@@ -129,46 +133,54 @@ public class ZclBasicCluster extends ZclCluster {
      */
     public static final int ATTR_SWBUILDID = 0x4000;
 
+    /**
+     * Map of the server side attribute descriptors defined by the cluster, indexed by attribute ID
+     */
+    private static Map<Integer, ZclAttributeDescriptor> serverAttributeDescriptors = new TreeMap<>();
+
+    static {
+        serverAttributeDescriptors.put(ATTR_ZCLVERSION, new ZclAttributeDescriptor(ATTR_ZCLVERSION, "ZCL Version", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_APPLICATIONVERSION, new ZclAttributeDescriptor(ATTR_APPLICATIONVERSION, "Application Version", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_STACKVERSION, new ZclAttributeDescriptor(ATTR_STACKVERSION, "Stack Version", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_HWVERSION, new ZclAttributeDescriptor(ATTR_HWVERSION, "HW Version", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_MANUFACTURERNAME, new ZclAttributeDescriptor(ATTR_MANUFACTURERNAME, "Manufacturer Name", ZclDataType.CHARACTER_STRING, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_MODELIDENTIFIER, new ZclAttributeDescriptor(ATTR_MODELIDENTIFIER, "Model Identifier", ZclDataType.CHARACTER_STRING, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DATECODE, new ZclAttributeDescriptor(ATTR_DATECODE, "Date Code", ZclDataType.CHARACTER_STRING, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_POWERSOURCE, new ZclAttributeDescriptor(ATTR_POWERSOURCE, "Power Source", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_GENERICDEVICECLASS, new ZclAttributeDescriptor(ATTR_GENERICDEVICECLASS, "Generic Device Class", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_GENERICDEVICETYPE, new ZclAttributeDescriptor(ATTR_GENERICDEVICETYPE, "Generic Device Type", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PRODUCTCODE, new ZclAttributeDescriptor(ATTR_PRODUCTCODE, "Product Code", ZclDataType.CHARACTER_STRING, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PRODUCTURL, new ZclAttributeDescriptor(ATTR_PRODUCTURL, "Product URL", ZclDataType.CHARACTER_STRING, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_LOCATIONDESCRIPTION, new ZclAttributeDescriptor(ATTR_LOCATIONDESCRIPTION, "Location Description", ZclDataType.CHARACTER_STRING, true, true, true, false));
+        serverAttributeDescriptors.put(ATTR_PHYSICALENVIRONMENT, new ZclAttributeDescriptor(ATTR_PHYSICALENVIRONMENT, "Physical Environment", ZclDataType.ENUMERATION_8_BIT, true, true, true, false));
+        serverAttributeDescriptors.put(ATTR_DEVICEENABLED, new ZclAttributeDescriptor(ATTR_DEVICEENABLED, "Device Enabled", ZclDataType.BOOLEAN, true, true, true, false));
+        serverAttributeDescriptors.put(ATTR_ALARMMASK, new ZclAttributeDescriptor(ATTR_ALARMMASK, "Alarm Mask", ZclDataType.BITMAP_8_BIT, true, true, true, false));
+        serverAttributeDescriptors.put(ATTR_DISABLELOCALCONFIG, new ZclAttributeDescriptor(ATTR_DISABLELOCALCONFIG, "Disable Local Config", ZclDataType.BITMAP_8_BIT, true, true, true, false));
+        serverAttributeDescriptors.put(ATTR_SWBUILDID, new ZclAttributeDescriptor(ATTR_SWBUILDID, "SW Build ID", ZclDataType.CHARACTER_STRING, false, true, false, false));
+    }
+
+    /**
+     * Map of the client side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> clientCommandConstructors = new HashMap<>();
+
+    static {
+        clientCommandConstructors.put(0x0000, ResetToFactoryDefaultsCommand::new);
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+        return new ConcurrentSkipListMap<>();
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_ZCLVERSION, new ZclAttribute(this, ATTR_ZCLVERSION, "ZCL Version", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APPLICATIONVERSION, new ZclAttribute(this, ATTR_APPLICATIONVERSION, "Application Version", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_STACKVERSION, new ZclAttribute(this, ATTR_STACKVERSION, "Stack Version", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_HWVERSION, new ZclAttribute(this, ATTR_HWVERSION, "HW Version", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MANUFACTURERNAME, new ZclAttribute(this, ATTR_MANUFACTURERNAME, "Manufacturer Name", ZclDataType.CHARACTER_STRING, true, true, false, false));
-        attributeMap.put(ATTR_MODELIDENTIFIER, new ZclAttribute(this, ATTR_MODELIDENTIFIER, "Model Identifier", ZclDataType.CHARACTER_STRING, true, true, false, false));
-        attributeMap.put(ATTR_DATECODE, new ZclAttribute(this, ATTR_DATECODE, "Date Code", ZclDataType.CHARACTER_STRING, true, true, false, false));
-        attributeMap.put(ATTR_POWERSOURCE, new ZclAttribute(this, ATTR_POWERSOURCE, "Power Source", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_GENERICDEVICECLASS, new ZclAttribute(this, ATTR_GENERICDEVICECLASS, "Generic Device Class", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_GENERICDEVICETYPE, new ZclAttribute(this, ATTR_GENERICDEVICETYPE, "Generic Device Type", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_PRODUCTCODE, new ZclAttribute(this, ATTR_PRODUCTCODE, "Product Code", ZclDataType.CHARACTER_STRING, false, true, false, false));
-        attributeMap.put(ATTR_PRODUCTURL, new ZclAttribute(this, ATTR_PRODUCTURL, "Product URL", ZclDataType.CHARACTER_STRING, false, true, false, false));
-        attributeMap.put(ATTR_LOCATIONDESCRIPTION, new ZclAttribute(this, ATTR_LOCATIONDESCRIPTION, "Location Description", ZclDataType.CHARACTER_STRING, true, true, true, false));
-        attributeMap.put(ATTR_PHYSICALENVIRONMENT, new ZclAttribute(this, ATTR_PHYSICALENVIRONMENT, "Physical Environment", ZclDataType.ENUMERATION_8_BIT, true, true, true, false));
-        attributeMap.put(ATTR_DEVICEENABLED, new ZclAttribute(this, ATTR_DEVICEENABLED, "Device Enabled", ZclDataType.BOOLEAN, true, true, true, false));
-        attributeMap.put(ATTR_ALARMMASK, new ZclAttribute(this, ATTR_ALARMMASK, "Alarm Mask", ZclDataType.BITMAP_8_BIT, true, true, true, false));
-        attributeMap.put(ATTR_DISABLELOCALCONFIG, new ZclAttribute(this, ATTR_DISABLELOCALCONFIG, "Disable Local Config", ZclDataType.BITMAP_8_BIT, true, true, true, false));
-        attributeMap.put(ATTR_SWBUILDID, new ZclAttribute(this, ATTR_SWBUILDID, "SW Build ID", ZclDataType.CHARACTER_STRING, false, true, false, false));
-
-        return attributeMap;
+        return new ZclAttributeMap(this, serverAttributeDescriptors);
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeClientCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
-
-        commandMap.put(0x0000, ResetToFactoryDefaultsCommand.class);
-
-        return commandMap;
+    protected Map<Integer, ZclCommandFactory> getClientCommandConstructors() {
+        return clientCommandConstructors;
     }
 
     /**
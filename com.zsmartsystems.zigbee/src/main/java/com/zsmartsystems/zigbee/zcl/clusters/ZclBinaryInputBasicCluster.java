@@ -8,6 +8,7 @@
 package com.zsmartsystems.zigbee.zcl.clusters;
 
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -16,6 +17,8 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDescriptor;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeMap;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
@@ -164,28 +167,31 @@ public class ZclBinaryInputBasicCluster extends ZclCluster {
      */
     public static final int ATTR_APPLICATIONTYPE = 0x0100;
 
+    /**
+     * Map of the server side attribute descriptors defined by the cluster, indexed by attribute ID
+     */
+    private static Map<Integer, ZclAttributeDescriptor> serverAttributeDescriptors = new TreeMap<>();
+
+    static {
+        serverAttributeDescriptors.put(ATTR_ACTIVETEXT, new ZclAttributeDescriptor(ATTR_ACTIVETEXT, "Active Text", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_DESCRIPTION, new ZclAttributeDescriptor(ATTR_DESCRIPTION, "Description", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_INACTIVETEXT, new ZclAttributeDescriptor(ATTR_INACTIVETEXT, "Inactive Text", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_OUTOFSERVICE, new ZclAttributeDescriptor(ATTR_OUTOFSERVICE, "Out Of Service", ZclDataType.BOOLEAN, true, true, true, false));
+        serverAttributeDescriptors.put(ATTR_POLARITY, new ZclAttributeDescriptor(ATTR_POLARITY, "Polarity", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PRESENTVALUE, new ZclAttributeDescriptor(ATTR_PRESENTVALUE, "Present Value", ZclDataType.BOOLEAN, true, true, true, true));
+        serverAttributeDescriptors.put(ATTR_RELIABILITY, new ZclAttributeDescriptor(ATTR_RELIABILITY, "Reliability", ZclDataType.ENUMERATION_8_BIT, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_STATUSFLAGS, new ZclAttributeDescriptor(ATTR_STATUSFLAGS, "Status Flags", ZclDataType.BITMAP_8_BIT, true, true, false, true));
+        serverAttributeDescriptors.put(ATTR_APPLICATIONTYPE, new ZclAttributeDescriptor(ATTR_APPLICATIONTYPE, "Application Type", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+        return new ConcurrentSkipListMap<>();
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_ACTIVETEXT, new ZclAttribute(this, ATTR_ACTIVETEXT, "Active Text", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_DESCRIPTION, new ZclAttribute(this, ATTR_DESCRIPTION, "Description", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_INACTIVETEXT, new ZclAttribute(this, ATTR_INACTIVETEXT, "Inactive Text", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_OUTOFSERVICE, new ZclAttribute(this, ATTR_OUTOFSERVICE, "Out Of Service", ZclDataType.BOOLEAN, true, true, true, false));
-        attributeMap.put(ATTR_POLARITY, new ZclAttribute(this, ATTR_POLARITY, "Polarity", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_PRESENTVALUE, new ZclAttribute(this, ATTR_PRESENTVALUE, "Present Value", ZclDataType.BOOLEAN, true, true, true, true));
-        attributeMap.put(ATTR_RELIABILITY, new ZclAttribute(this, ATTR_RELIABILITY, "Reliability", ZclDataType.ENUMERATION_8_BIT, false, true, true, false));
-        attributeMap.put(ATTR_STATUSFLAGS, new ZclAttribute(this, ATTR_STATUSFLAGS, "Status Flags", ZclDataType.BITMAP_8_BIT, true, true, false, true));
-        attributeMap.put(ATTR_APPLICATIONTYPE, new ZclAttribute(this, ATTR_APPLICATIONTYPE, "Application Type", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
-
-        return attributeMap;
+        return new ZclAttributeMap(this, serverAttributeDescriptors);
     }
 
 
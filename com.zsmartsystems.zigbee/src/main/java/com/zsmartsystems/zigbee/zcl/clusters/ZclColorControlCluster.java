@@ -7,7 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -16,8 +18,10 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDescriptor;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeMap;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
-import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.ZclCommandFactory;
 import com.zsmartsystems.zigbee.zcl.clusters.colorcontrol.ColorLoopSetCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.colorcontrol.EnhancedMoveHueCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.colorcontrol.EnhancedMoveToHueAndSaturationCommand;
@@ -221,65 +225,73 @@ public class ZclColorControlCluster extends ZclCluster {
      */
     public static final int ATTR_COLORTEMPERATUREMAX = 0x400C;
 
+    /**
+     * Map of the server side attribute descriptors defined by the cluster, indexed by attribute ID
+     */
+    private static Map<Integer, ZclAttributeDescriptor> serverAttributeDescriptors = new TreeMap<>();
+
+    static {
+        serverAttributeDescriptors.put(ATTR_CURRENTHUE, new ZclAttributeDescriptor(ATTR_CURRENTHUE, "Current Hue", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, true));
+        serverAttributeDescriptors.put(ATTR_CURRENTSATURATION, new ZclAttributeDescriptor(ATTR_CURRENTSATURATION, "Current Saturation", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, true));
+        serverAttributeDescriptors.put(ATTR_REMAININGTIME, new ZclAttributeDescriptor(ATTR_REMAININGTIME, "Remaining Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTX, new ZclAttributeDescriptor(ATTR_CURRENTX, "Current X", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, true));
+        serverAttributeDescriptors.put(ATTR_CURRENTY, new ZclAttributeDescriptor(ATTR_CURRENTY, "Current Y", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, true));
+        serverAttributeDescriptors.put(ATTR_DRIFTCOMPENSATION, new ZclAttributeDescriptor(ATTR_DRIFTCOMPENSATION, "Drift Compensation", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_COMPENSATIONTEXT, new ZclAttributeDescriptor(ATTR_COMPENSATIONTEXT, "Compensation Text", ZclDataType.CHARACTER_STRING, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_COLORTEMPERATURE, new ZclAttributeDescriptor(ATTR_COLORTEMPERATURE, "Color Temperature", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, true));
+        serverAttributeDescriptors.put(ATTR_COLORMODE, new ZclAttributeDescriptor(ATTR_COLORMODE, "Color Mode", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ENHANCEDCURRENTHUE, new ZclAttributeDescriptor(ATTR_ENHANCEDCURRENTHUE, "Enhanced Current Hue", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, true));
+        serverAttributeDescriptors.put(ATTR_ENHANCEDCOLORMODE, new ZclAttributeDescriptor(ATTR_ENHANCEDCOLORMODE, "Enhanced Color Mode", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_COLORLOOPACTIVE, new ZclAttributeDescriptor(ATTR_COLORLOOPACTIVE, "Color Loop Active", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_COLORLOOPDIRECTION, new ZclAttributeDescriptor(ATTR_COLORLOOPDIRECTION, "Color Loop Direction", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_COLORLOOPTIME, new ZclAttributeDescriptor(ATTR_COLORLOOPTIME, "Color Loop Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_COLORLOOPSTARTHUE, new ZclAttributeDescriptor(ATTR_COLORLOOPSTARTHUE, "Color Loop Start Hue", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_COLORLOOPSTOREDHUE, new ZclAttributeDescriptor(ATTR_COLORLOOPSTOREDHUE, "Color Loop Stored Hue", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_COLORCAPABILITIES, new ZclAttributeDescriptor(ATTR_COLORCAPABILITIES, "Color Capabilities", ZclDataType.BITMAP_16_BIT, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_COLORTEMPERATUREMIN, new ZclAttributeDescriptor(ATTR_COLORTEMPERATUREMIN, "Color Temperature Min", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_COLORTEMPERATUREMAX, new ZclAttributeDescriptor(ATTR_COLORTEMPERATUREMAX, "Color Temperature Max", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+    }
+
+    /**
+     * Map of the client side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> clientCommandConstructors = new HashMap<>();
+
+    static {
+        clientCommandConstructors.put(0x0000, MoveToHueCommand::new);
+        clientCommandConstructors.put(0x0001, MoveHueCommand::new);
+        clientCommandConstructors.put(0x0002, StepHueCommand::new);
+        clientCommandConstructors.put(0x0003, MoveToSaturationCommand::new);
+        clientCommandConstructors.put(0x0004, MoveSaturationCommand::new);
+        clientCommandConstructors.put(0x0005, StepSaturationCommand::new);
+        clientCommandConstructors.put(0x0006, MoveToHueAndSaturationCommand::new);
+        clientCommandConstructors.put(0x0007, MoveToColorCommand::new);
+        clientCommandConstructors.put(0x0008, MoveColorCommand::new);
+        clientCommandConstructors.put(0x0009, StepColorCommand::new);
+        clientCommandConstructors.put(0x000A, MoveToColorTemperatureCommand::new);
+        clientCommandConstructors.put(0x0040, EnhancedMoveToHueCommand::new);
+        clientCommandConstructors.put(0x0041, EnhancedMoveHueCommand::new);
+        clientCommandConstructors.put(0x0042, EnhancedStepHueCommand::new);
+        clientCommandConstructors.put(0x0043, EnhancedMoveToHueAndSaturationCommand::new);
+        clientCommandConstructors.put(0x0044, ColorLoopSetCommand::new);
+        clientCommandConstructors.put(0x0047, StopMoveStepCommand::new);
+        clientCommandConstructors.put(0x004B, MoveColorTemperatureCommand::new);
+        clientCommandConstructors.put(0x004C, StepColorTemperatureCommand::new);
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+        return new ConcurrentSkipListMap<>();
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_CURRENTHUE, new ZclAttribute(this, ATTR_CURRENTHUE, "Current Hue", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, true));
-        attributeMap.put(ATTR_CURRENTSATURATION, new ZclAttribute(this, ATTR_CURRENTSATURATION, "Current Saturation", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, true));
-        attributeMap.put(ATTR_REMAININGTIME, new ZclAttribute(this, ATTR_REMAININGTIME, "Remaining Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTX, new ZclAttribute(this, ATTR_CURRENTX, "Current X", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, true));
-        attributeMap.put(ATTR_CURRENTY, new ZclAttribute(this, ATTR_CURRENTY, "Current Y", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, true));
-        attributeMap.put(ATTR_DRIFTCOMPENSATION, new ZclAttribute(this, ATTR_DRIFTCOMPENSATION, "Drift Compensation", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_COMPENSATIONTEXT, new ZclAttribute(this, ATTR_COMPENSATIONTEXT, "Compensation Text", ZclDataType.CHARACTER_STRING, false, true, false, false));
-        attributeMap.put(ATTR_COLORTEMPERATURE, new ZclAttribute(this, ATTR_COLORTEMPERATURE, "Color Temperature", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, true));
-        attributeMap.put(ATTR_COLORMODE, new ZclAttribute(this, ATTR_COLORMODE, "Color Mode", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_ENHANCEDCURRENTHUE, new ZclAttribute(this, ATTR_ENHANCEDCURRENTHUE, "Enhanced Current Hue", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, true));
-        attributeMap.put(ATTR_ENHANCEDCOLORMODE, new ZclAttribute(this, ATTR_ENHANCEDCOLORMODE, "Enhanced Color Mode", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_COLORLOOPACTIVE, new ZclAttribute(this, ATTR_COLORLOOPACTIVE, "Color Loop Active", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_COLORLOOPDIRECTION, new ZclAttribute(this, ATTR_COLORLOOPDIRECTION, "Color Loop Direction", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_COLORLOOPTIME, new ZclAttribute(this, ATTR_COLORLOOPTIME, "Color Loop Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_COLORLOOPSTARTHUE, new ZclAttribute(this, ATTR_COLORLOOPSTARTHUE, "Color Loop Start Hue", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_COLORLOOPSTOREDHUE, new ZclAttribute(this, ATTR_COLORLOOPSTOREDHUE, "Color Loop Stored Hue", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_COLORCAPABILITIES, new ZclAttribute(this, ATTR_COLORCAPABILITIES, "Color Capabilities", ZclDataType.BITMAP_16_BIT, false, true, false, false));
-        attributeMap.put(ATTR_COLORTEMPERATUREMIN, new ZclAttribute(this, ATTR_COLORTEMPERATUREMIN, "Color Temperature Min", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_COLORTEMPERATUREMAX, new ZclAttribute(this, ATTR_COLORTEMPERATUREMAX, "Color Temperature Max", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-
-        return attributeMap;
+        return new ZclAttributeMap(this, serverAttributeDescriptors);
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeClientCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
-
-        commandMap.put(0x0000, MoveToHueCommand.class);
-        commandMap.put(0x0001, MoveHueCommand.class);
-        commandMap.put(0x0002, StepHueCommand.class);
-        commandMap.put(0x0003, MoveToSaturationCommand.class);
-        commandMap.put(0x0004, MoveSaturationCommand.class);
-        commandMap.put(0x0005, StepSaturationCommand.class);
-        commandMap.put(0x0006, MoveToHueAndSaturationCommand.class);
-        commandMap.put(0x0007, MoveToColorCommand.class);
-        commandMap.put(0x0008, MoveColorCommand.class);
-        commandMap.put(0x0009, StepColorCommand.class);
-        commandMap.put(0x000A, MoveToColorTemperatureCommand.class);
-        commandMap.put(0x0040, EnhancedMoveToHueCommand.class);
-        commandMap.put(0x0041, EnhancedMoveHueCommand.class);
-        commandMap.put(0x0042, EnhancedStepHueCommand.class);
-        commandMap.put(0x0043, EnhancedMoveToHueAndSaturationCommand.class);
-        commandMap.put(0x0044, ColorLoopSetCommand.class);
-        commandMap.put(0x0047, StopMoveStepCommand.class);
-        commandMap.put(0x004B, MoveColorTemperatureCommand.class);
-        commandMap.put(0x004C, StepColorTemperatureCommand.class);
-
-        return commandMap;
+    protected Map<Integer, ZclCommandFactory> getClientCommandConstructors() {
+        return clientCommandConstructors;
     }
 
     /**
@@ -7,6 +7,7 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
@@ -17,7 +18,7 @@ import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
-import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.ZclCommandFactory;
 import com.zsmartsystems.zigbee.zcl.clusters.commissioning.ResetStartupParametersCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.commissioning.ResetStartupParametersResponse;
 import com.zsmartsystems.zigbee.zcl.clusters.commissioning.RestartDeviceCommand;
@@ -48,42 +49,46 @@ public class ZclCommissioningCluster extends ZclCluster {
      */
     public static final String CLUSTER_NAME = "Commissioning";
 
+    /**
+     * Map of the server side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> serverCommandConstructors = new HashMap<>();
+
+    /**
+     * Map of the client side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> clientCommandConstructors = new HashMap<>();
+
+    static {
+        serverCommandConstructors.put(0x0000, RestartDeviceResponseResponse::new);
+        serverCommandConstructors.put(0x0001, SaveStartupParametersResponse::new);
+        serverCommandConstructors.put(0x0002, RestoreStartupParametersResponse::new);
+        serverCommandConstructors.put(0x0003, ResetStartupParametersResponse::new);
+
+        clientCommandConstructors.put(0x0000, RestartDeviceCommand::new);
+        clientCommandConstructors.put(0x0001, SaveStartupParametersCommand::new);
+        clientCommandConstructors.put(0x0002, RestoreStartupParametersCommand::new);
+        clientCommandConstructors.put(0x0003, ResetStartupParametersCommand::new);
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+        return new ConcurrentSkipListMap<>();
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+        return new ConcurrentSkipListMap<>();
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeServerCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
-
-        commandMap.put(0x0000, RestartDeviceResponseResponse.class);
-        commandMap.put(0x0001, SaveStartupParametersResponse.class);
-        commandMap.put(0x0002, RestoreStartupParametersResponse.class);
-        commandMap.put(0x0003, ResetStartupParametersResponse.class);
-
-        return commandMap;
+    protected Map<Integer, ZclCommandFactory> getServerCommandConstructors() {
+        return serverCommandConstructors;
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeClientCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
-
-        commandMap.put(0x0000, RestartDeviceCommand.class);
-        commandMap.put(0x0001, SaveStartupParametersCommand.class);
-        commandMap.put(0x0002, RestoreStartupParametersCommand.class);
-        commandMap.put(0x0003, ResetStartupParametersCommand.class);
-
-        return commandMap;
+    protected Map<Integer, ZclCommandFactory> getClientCommandConstructors() {
+        return clientCommandConstructors;
     }
 
     /**
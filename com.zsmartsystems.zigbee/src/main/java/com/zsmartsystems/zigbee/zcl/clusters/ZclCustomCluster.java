@@ -13,7 +13,6 @@ import java.util.concurrent.ConcurrentHashMap;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
-import com.zsmartsystems.zigbee.zcl.ZclCommand;
 
 /**
  * Custom cluster used as a placeholder for unknown clusters
@@ -33,16 +32,6 @@ public class ZclCustomCluster extends ZclCluster {
         return new ConcurrentHashMap<>(0);
     }
 
-    @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeServerCommands() {
-        return new ConcurrentHashMap<>(0);
-    }
-
-    @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeClientCommands() {
-        return new ConcurrentHashMap<>(0);
-    }
-
     /**
      * Default constructor to create a custom cluster.
      *
@@ -8,6 +8,7 @@
 package com.zsmartsystems.zigbee.zcl.clusters;
 
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -16,6 +17,8 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDescriptor;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeMap;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
@@ -83,27 +86,30 @@ public class ZclDehumidificationControlCluster extends ZclCluster {
      */
     public static final int ATTR_RELATIVEHUMIDITYDISPLAY = 0x0015;
 
+    /**
+     * Map of the server side attribute descriptors defined by the cluster, indexed by attribute ID
+     */
+    private static Map<Integer, ZclAttributeDescriptor> serverAttributeDescriptors = new TreeMap<>();
+
+    static {
+        serverAttributeDescriptors.put(ATTR_RELATIVEHUMIDITY, new ZclAttributeDescriptor(ATTR_RELATIVEHUMIDITY, "Relative Humidity", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEHUMIDIFICATIONCOOLING, new ZclAttributeDescriptor(ATTR_DEHUMIDIFICATIONCOOLING, "Dehumidification Cooling", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RHDEHUMIDIFICATIONSETPOINT, new ZclAttributeDescriptor(ATTR_RHDEHUMIDIFICATIONSETPOINT, "Rh Dehumidification Setpoint", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_RELATIVEHUMIDITYMODE, new ZclAttributeDescriptor(ATTR_RELATIVEHUMIDITYMODE, "Relative Humidity Mode", ZclDataType.ENUMERATION_8_BIT, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_DEHUMIDIFICATIONLOCKOUT, new ZclAttributeDescriptor(ATTR_DEHUMIDIFICATIONLOCKOUT, "Dehumidification Lockout", ZclDataType.ENUMERATION_8_BIT, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_DEHUMIDIFICATIONHYSTERESIS, new ZclAttributeDescriptor(ATTR_DEHUMIDIFICATIONHYSTERESIS, "Dehumidification Hysteresis", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_DEHUMIDIFICATIONMAXCOOL, new ZclAttributeDescriptor(ATTR_DEHUMIDIFICATIONMAXCOOL, "Dehumidification Max Cool", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_RELATIVEHUMIDITYDISPLAY, new ZclAttributeDescriptor(ATTR_RELATIVEHUMIDITYDISPLAY, "Relative Humidity Display", ZclDataType.ENUMERATION_8_BIT, false, true, true, true));
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+        return new ConcurrentSkipListMap<>();
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_RELATIVEHUMIDITY, new ZclAttribute(this, ATTR_RELATIVEHUMIDITY, "Relative Humidity", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEHUMIDIFICATIONCOOLING, new ZclAttribute(this, ATTR_DEHUMIDIFICATIONCOOLING, "Dehumidification Cooling", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RHDEHUMIDIFICATIONSETPOINT, new ZclAttribute(this, ATTR_RHDEHUMIDIFICATIONSETPOINT, "Rh Dehumidification Setpoint", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_RELATIVEHUMIDITYMODE, new ZclAttribute(this, ATTR_RELATIVEHUMIDITYMODE, "Relative Humidity Mode", ZclDataType.ENUMERATION_8_BIT, false, true, true, true));
-        attributeMap.put(ATTR_DEHUMIDIFICATIONLOCKOUT, new ZclAttribute(this, ATTR_DEHUMIDIFICATIONLOCKOUT, "Dehumidification Lockout", ZclDataType.ENUMERATION_8_BIT, false, true, true, true));
-        attributeMap.put(ATTR_DEHUMIDIFICATIONHYSTERESIS, new ZclAttribute(this, ATTR_DEHUMIDIFICATIONHYSTERESIS, "Dehumidification Hysteresis", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_DEHUMIDIFICATIONMAXCOOL, new ZclAttribute(this, ATTR_DEHUMIDIFICATIONMAXCOOL, "Dehumidification Max Cool", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_RELATIVEHUMIDITYDISPLAY, new ZclAttribute(this, ATTR_RELATIVEHUMIDITYDISPLAY, "Relative Humidity Display", ZclDataType.ENUMERATION_8_BIT, false, true, true, true));
-
-        return attributeMap;
+        return new ZclAttributeMap(this, serverAttributeDescriptors);
     }
 
 
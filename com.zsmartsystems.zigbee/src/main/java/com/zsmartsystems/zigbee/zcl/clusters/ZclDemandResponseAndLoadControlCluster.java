@@ -8,7 +8,9 @@
 package com.zsmartsystems.zigbee.zcl.clusters;
 
 import java.util.Calendar;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -17,8 +19,10 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDescriptor;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeMap;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
-import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.ZclCommandFactory;
 import com.zsmartsystems.zigbee.zcl.clusters.demandresponseandloadcontrol.CancelAllLoadControlEvents;
 import com.zsmartsystems.zigbee.zcl.clusters.demandresponseandloadcontrol.CancelLoadControlEvent;
 import com.zsmartsystems.zigbee.zcl.clusters.demandresponseandloadcontrol.GetScheduledEvents;
@@ -108,44 +112,55 @@ public class ZclDemandResponseAndLoadControlCluster extends ZclCluster {
      */
     public static final int ATTR_DEVICECLASSVALUE = 0x0003;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_UTILITYENROLLMENTGROUP, new ZclAttribute(this, ATTR_UTILITYENROLLMENTGROUP, "Utility Enrollment Group", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_STARTRANDOMIZATIONMINUTES, new ZclAttribute(this, ATTR_STARTRANDOMIZATIONMINUTES, "Start Randomization Minutes", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_ENDRANDOMIZATIONMINUTES, new ZclAttribute(this, ATTR_ENDRANDOMIZATIONMINUTES, "End Randomization Minutes", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_DEVICECLASSVALUE, new ZclAttribute(this, ATTR_DEVICECLASSVALUE, "Device Class Value", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+    /**
+     * Map of the client side attribute descriptors defined by the cluster, indexed by attribute ID
+     */
+    private static Map<Integer, ZclAttributeDescriptor> clientAttributeDescriptors = new TreeMap<>();
 
-        return attributeMap;
+    static {
+        clientAttributeDescriptors.put(ATTR_UTILITYENROLLMENTGROUP, new ZclAttributeDescriptor(ATTR_UTILITYENROLLMENTGROUP, "Utility Enrollment Group", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
+        clientAttributeDescriptors.put(ATTR_STARTRANDOMIZATIONMINUTES, new ZclAttributeDescriptor(ATTR_STARTRANDOMIZATIONMINUTES, "Start Randomization Minutes", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
+        clientAttributeDescriptors.put(ATTR_ENDRANDOMIZATIONMINUTES, new ZclAttributeDescriptor(ATTR_ENDRANDOMIZATIONMINUTES, "End Randomization Minutes", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
+        clientAttributeDescriptors.put(ATTR_DEVICECLASSVALUE, new ZclAttributeDescriptor(ATTR_DEVICECLASSVALUE, "Device Class Value", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
     }
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * Map of the server side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> serverCommandConstructors = new HashMap<>();
 
-        return attributeMap;
-    }
+    /**
+     * Map of the client side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> clientCommandConstructors = new HashMap<>();
 
-    @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeServerCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
+    static {
+        serverCommandConstructors.put(0x0000, LoadControlEventCommand::new);
+        serverCommandConstructors.put(0x0001, CancelLoadControlEvent::new);
+        serverCommandConstructors.put(0x0002, CancelAllLoadControlEvents::new);
 
-        commandMap.put(0x0000, LoadControlEventCommand.class);
-        commandMap.put(0x0001, CancelLoadControlEvent.class);
-        commandMap.put(0x0002, CancelAllLoadControlEvents.class);
+        clientCommandConstructors.put(0x0000, ReportEventStatus::new);
+        clientCommandConstructors.put(0x0001, GetScheduledEvents::new);
+    }
 
-        return commandMap;
+    @Override
+    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
+        return new ZclAttributeMap(this, clientAttributeDescriptors);
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeClientCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
+    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
+        return new ConcurrentSkipListMap<>();
+    }
 
-        commandMap.put(0x0000, ReportEventStatus.class);
-        commandMap.put(0x0001, GetScheduledEvents.class);
+    @Override
+    protected Map<Integer, ZclCommandFactory> getServerCommandConstructors() {
+        return serverCommandConstructors;
+    }
 
-        return commandMap;
+    @Override
+    protected Map<Integer, ZclCommandFactory> getClientCommandConstructors() {
+        return clientCommandConstructors;
     }
 
     /**
@@ -8,6 +8,7 @@
 package com.zsmartsystems.zigbee.zcl.clusters;
 
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -16,6 +17,8 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDescriptor;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeMap;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
@@ -95,51 +98,54 @@ public class ZclDiagnosticsCluster extends ZclCluster {
     public static final int ATTR_LASTMESSAGELQI = 0x011C;
     public static final int ATTR_LASTMESSAGERSSI = 0x011D;
 
+    /**
+     * Map of the server side attribute descriptors defined by the cluster, indexed by attribute ID
+     */
+    private static Map<Integer, ZclAttributeDescriptor> serverAttributeDescriptors = new TreeMap<>();
+
+    static {
+        serverAttributeDescriptors.put(ATTR_NUMBEROFRESETS, new ZclAttributeDescriptor(ATTR_NUMBEROFRESETS, "Number Of Resets", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PERSISTENTMEMORYWRITES, new ZclAttributeDescriptor(ATTR_PERSISTENTMEMORYWRITES, "Persistent Memory Writes", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_MACRXBCAST, new ZclAttributeDescriptor(ATTR_MACRXBCAST, "MAC Rx Bcast", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_MACTXBCAST, new ZclAttributeDescriptor(ATTR_MACTXBCAST, "MAC Tx Bcast", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_MACRXUCAST, new ZclAttributeDescriptor(ATTR_MACRXUCAST, "MAC Rx Ucast", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_MACTXUCAST, new ZclAttributeDescriptor(ATTR_MACTXUCAST, "MAC Tx Ucast", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_MACTXUCASTRETRY, new ZclAttributeDescriptor(ATTR_MACTXUCASTRETRY, "MAC Tx Ucast Retry", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_MACTXUCASTFAIL, new ZclAttributeDescriptor(ATTR_MACTXUCASTFAIL, "MAC Tx Ucast Fail", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_APSRXBCAST, new ZclAttributeDescriptor(ATTR_APSRXBCAST, "APS Rx Bcast", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_APSTXBCAST, new ZclAttributeDescriptor(ATTR_APSTXBCAST, "APS Tx Bcast", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_APSRXUCAST, new ZclAttributeDescriptor(ATTR_APSRXUCAST, "APS Rx Ucast", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_APSTXUCASTSUCCESS, new ZclAttributeDescriptor(ATTR_APSTXUCASTSUCCESS, "APS Tx Ucast Success", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_APSTXUCASTRETRY, new ZclAttributeDescriptor(ATTR_APSTXUCASTRETRY, "APS Tx Ucast Retry", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_APSTXUCASTFAIL, new ZclAttributeDescriptor(ATTR_APSTXUCASTFAIL, "APS Tx Ucast Fail", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ROUTEDISCINITIATED, new ZclAttributeDescriptor(ATTR_ROUTEDISCINITIATED, "Route Disc Initiated", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_NEIGHBORADDED, new ZclAttributeDescriptor(ATTR_NEIGHBORADDED, "Neighbor Added", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_NEIGHBORREMOVED, new ZclAttributeDescriptor(ATTR_NEIGHBORREMOVED, "Neighbor Removed", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_NEIGHBORSTALE, new ZclAttributeDescriptor(ATTR_NEIGHBORSTALE, "Neighbor Stale", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_JOININDICATION, new ZclAttributeDescriptor(ATTR_JOININDICATION, "Join Indication", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CHILDMOVED, new ZclAttributeDescriptor(ATTR_CHILDMOVED, "Child Moved", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_NWKFCFAILURE, new ZclAttributeDescriptor(ATTR_NWKFCFAILURE, "NWK FC Failure", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_APSFCFAILURE, new ZclAttributeDescriptor(ATTR_APSFCFAILURE, "APS FC Failure", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_APSUNAUTHORIZEDKEY, new ZclAttributeDescriptor(ATTR_APSUNAUTHORIZEDKEY, "APS Unauthorized Key", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_NWKDECRYPTFAILURES, new ZclAttributeDescriptor(ATTR_NWKDECRYPTFAILURES, "NWK Decrypt Failures", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_APSDECRYPTFAILURES, new ZclAttributeDescriptor(ATTR_APSDECRYPTFAILURES, "APS Decrypt Failures", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PACKETBUFFERALLOCATEFAILURES, new ZclAttributeDescriptor(ATTR_PACKETBUFFERALLOCATEFAILURES, "Packet Buffer Allocate Failures", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RELAYEDUCAST, new ZclAttributeDescriptor(ATTR_RELAYEDUCAST, "Relayed Ucast", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PHYTOMACQUEUELIMITREACHED, new ZclAttributeDescriptor(ATTR_PHYTOMACQUEUELIMITREACHED, "Phy To MAC Queue Limit Reached", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PACKETVALIDATEDROPCOUNT, new ZclAttributeDescriptor(ATTR_PACKETVALIDATEDROPCOUNT, "Packet Validate Drop Count", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_AVERAGEMACRETRYPERAPSMESSAGESENT, new ZclAttributeDescriptor(ATTR_AVERAGEMACRETRYPERAPSMESSAGESENT, "Average MAC Retry Per APS Message Sent", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_LASTMESSAGELQI, new ZclAttributeDescriptor(ATTR_LASTMESSAGELQI, "Last Message LQI", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_LASTMESSAGERSSI, new ZclAttributeDescriptor(ATTR_LASTMESSAGERSSI, "Last Message RSSI", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+        return new ConcurrentSkipListMap<>();
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_NUMBEROFRESETS, new ZclAttribute(this, ATTR_NUMBEROFRESETS, "Number Of Resets", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PERSISTENTMEMORYWRITES, new ZclAttribute(this, ATTR_PERSISTENTMEMORYWRITES, "Persistent Memory Writes", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MACRXBCAST, new ZclAttribute(this, ATTR_MACRXBCAST, "MAC Rx Bcast", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MACTXBCAST, new ZclAttribute(this, ATTR_MACTXBCAST, "MAC Tx Bcast", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MACRXUCAST, new ZclAttribute(this, ATTR_MACRXUCAST, "MAC Rx Ucast", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MACTXUCAST, new ZclAttribute(this, ATTR_MACTXUCAST, "MAC Tx Ucast", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MACTXUCASTRETRY, new ZclAttribute(this, ATTR_MACTXUCASTRETRY, "MAC Tx Ucast Retry", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MACTXUCASTFAIL, new ZclAttribute(this, ATTR_MACTXUCASTFAIL, "MAC Tx Ucast Fail", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APSRXBCAST, new ZclAttribute(this, ATTR_APSRXBCAST, "APS Rx Bcast", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APSTXBCAST, new ZclAttribute(this, ATTR_APSTXBCAST, "APS Tx Bcast", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APSRXUCAST, new ZclAttribute(this, ATTR_APSRXUCAST, "APS Rx Ucast", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APSTXUCASTSUCCESS, new ZclAttribute(this, ATTR_APSTXUCASTSUCCESS, "APS Tx Ucast Success", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APSTXUCASTRETRY, new ZclAttribute(this, ATTR_APSTXUCASTRETRY, "APS Tx Ucast Retry", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APSTXUCASTFAIL, new ZclAttribute(this, ATTR_APSTXUCASTFAIL, "APS Tx Ucast Fail", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ROUTEDISCINITIATED, new ZclAttribute(this, ATTR_ROUTEDISCINITIATED, "Route Disc Initiated", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NEIGHBORADDED, new ZclAttribute(this, ATTR_NEIGHBORADDED, "Neighbor Added", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NEIGHBORREMOVED, new ZclAttribute(this, ATTR_NEIGHBORREMOVED, "Neighbor Removed", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NEIGHBORSTALE, new ZclAttribute(this, ATTR_NEIGHBORSTALE, "Neighbor Stale", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_JOININDICATION, new ZclAttribute(this, ATTR_JOININDICATION, "Join Indication", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CHILDMOVED, new ZclAttribute(this, ATTR_CHILDMOVED, "Child Moved", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NWKFCFAILURE, new ZclAttribute(this, ATTR_NWKFCFAILURE, "NWK FC Failure", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APSFCFAILURE, new ZclAttribute(this, ATTR_APSFCFAILURE, "APS FC Failure", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APSUNAUTHORIZEDKEY, new ZclAttribute(this, ATTR_APSUNAUTHORIZEDKEY, "APS Unauthorized Key", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NWKDECRYPTFAILURES, new ZclAttribute(this, ATTR_NWKDECRYPTFAILURES, "NWK Decrypt Failures", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APSDECRYPTFAILURES, new ZclAttribute(this, ATTR_APSDECRYPTFAILURES, "APS Decrypt Failures", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PACKETBUFFERALLOCATEFAILURES, new ZclAttribute(this, ATTR_PACKETBUFFERALLOCATEFAILURES, "Packet Buffer Allocate Failures", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RELAYEDUCAST, new ZclAttribute(this, ATTR_RELAYEDUCAST, "Relayed Ucast", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PHYTOMACQUEUELIMITREACHED, new ZclAttribute(this, ATTR_PHYTOMACQUEUELIMITREACHED, "Phy To MAC Queue Limit Reached", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PACKETVALIDATEDROPCOUNT, new ZclAttribute(this, ATTR_PACKETVALIDATEDROPCOUNT, "Packet Validate Drop Count", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGEMACRETRYPERAPSMESSAGESENT, new ZclAttribute(this, ATTR_AVERAGEMACRETRYPERAPSMESSAGESENT, "Average MAC Retry Per APS Message Sent", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_LASTMESSAGELQI, new ZclAttribute(this, ATTR_LASTMESSAGELQI, "Last Message LQI", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_LASTMESSAGERSSI, new ZclAttribute(this, ATTR_LASTMESSAGERSSI, "Last Message RSSI", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
-
-        return attributeMap;
+        return new ZclAttributeMap(this, serverAttributeDescriptors);
     }
 
 
@@ -7,7 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -16,8 +18,10 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDescriptor;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeMap;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
-import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.ZclCommandFactory;
 import com.zsmartsystems.zigbee.zcl.clusters.electricalmeasurement.GetMeasurementProfileCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.electricalmeasurement.GetMeasurementProfileResponseCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.electricalmeasurement.GetProfileInfoCommand;
@@ -242,167 +246,178 @@ public class ZclElectricalMeasurementCluster extends ZclCluster {
     public static final int ATTR_RMSVOLTAGESAGPERIODPHASEC = 0x0A16;
     public static final int ATTR_RMSVOLTAGESWELLPERIODPHASEC = 0x0A17;
 
+    /**
+     * Map of the server side attribute descriptors defined by the cluster, indexed by attribute ID
+     */
+    private static Map<Integer, ZclAttributeDescriptor> serverAttributeDescriptors = new TreeMap<>();
+
+    static {
+        serverAttributeDescriptors.put(ATTR_MEASUREMENTTYPE, new ZclAttributeDescriptor(ATTR_MEASUREMENTTYPE, "Measurement Type", ZclDataType.BITMAP_32_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DCVOLTAGE, new ZclAttributeDescriptor(ATTR_DCVOLTAGE, "DC Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DCVOLTAGEMIN, new ZclAttributeDescriptor(ATTR_DCVOLTAGEMIN, "DC Voltage Min", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DCVOLTAGEMAX, new ZclAttributeDescriptor(ATTR_DCVOLTAGEMAX, "DC Voltage Max", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DCCURRENT, new ZclAttributeDescriptor(ATTR_DCCURRENT, "DC Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DCCURRENTMIN, new ZclAttributeDescriptor(ATTR_DCCURRENTMIN, "DC Current Min", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DCCURRENTMAX, new ZclAttributeDescriptor(ATTR_DCCURRENTMAX, "DC Current Max", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DCPOWER, new ZclAttributeDescriptor(ATTR_DCPOWER, "DC Power", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DCPOWERMIN, new ZclAttributeDescriptor(ATTR_DCPOWERMIN, "DC Power Min", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DCPOWERMAX, new ZclAttributeDescriptor(ATTR_DCPOWERMAX, "DC Power Max", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DCVOLTAGEMULTIPLIER, new ZclAttributeDescriptor(ATTR_DCVOLTAGEMULTIPLIER, "DC Voltage Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DCVOLTAGEDIVISOR, new ZclAttributeDescriptor(ATTR_DCVOLTAGEDIVISOR, "DC Voltage Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DCCURRENTMULTIPLIER, new ZclAttributeDescriptor(ATTR_DCCURRENTMULTIPLIER, "DC Current Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DCCURRENTDIVISOR, new ZclAttributeDescriptor(ATTR_DCCURRENTDIVISOR, "DC Current Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DCPOWERMULTIPLIER, new ZclAttributeDescriptor(ATTR_DCPOWERMULTIPLIER, "DC Power Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DCPOWERDIVISOR, new ZclAttributeDescriptor(ATTR_DCPOWERDIVISOR, "DC Power Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ACFREQUENCY, new ZclAttributeDescriptor(ATTR_ACFREQUENCY, "AC Frequency", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ACFREQUENCYMIN, new ZclAttributeDescriptor(ATTR_ACFREQUENCYMIN, "AC Frequency Min", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ACFREQUENCYMAX, new ZclAttributeDescriptor(ATTR_ACFREQUENCYMAX, "AC Frequency Max", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_NEUTRALCURRENT, new ZclAttributeDescriptor(ATTR_NEUTRALCURRENT, "Neutral Current", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_TOTALACTIVEPOWER, new ZclAttributeDescriptor(ATTR_TOTALACTIVEPOWER, "Total Active Power", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_TOTALREACTIVEPOWER, new ZclAttributeDescriptor(ATTR_TOTALREACTIVEPOWER, "Total Reactive Power", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_TOTALAPPARENTPOWER, new ZclAttributeDescriptor(ATTR_TOTALAPPARENTPOWER, "Total Apparent Power", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_MEASURED1STHARMONICCURRENT, new ZclAttributeDescriptor(ATTR_MEASURED1STHARMONICCURRENT, "Measured 1st Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_MEASURED3RDHARMONICCURRENT, new ZclAttributeDescriptor(ATTR_MEASURED3RDHARMONICCURRENT, "Measured 3rd Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_MEASURED5THHARMONICCURRENT, new ZclAttributeDescriptor(ATTR_MEASURED5THHARMONICCURRENT, "Measured 5th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_MEASURED7THHARMONICCURRENT, new ZclAttributeDescriptor(ATTR_MEASURED7THHARMONICCURRENT, "Measured 7th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_MEASURED9THHARMONICCURRENT, new ZclAttributeDescriptor(ATTR_MEASURED9THHARMONICCURRENT, "Measured 9th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_MEASURED11THHARMONICCURRENT, new ZclAttributeDescriptor(ATTR_MEASURED11THHARMONICCURRENT, "Measured 11th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_MEASUREDPHASE1STHARMONICCURRENT, new ZclAttributeDescriptor(ATTR_MEASUREDPHASE1STHARMONICCURRENT, "Measured Phase 1st Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_MEASUREDPHASE3RDHARMONICCURRENT, new ZclAttributeDescriptor(ATTR_MEASUREDPHASE3RDHARMONICCURRENT, "Measured Phase 3rd Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_MEASUREDPHASE5THHARMONICCURRENT, new ZclAttributeDescriptor(ATTR_MEASUREDPHASE5THHARMONICCURRENT, "Measured Phase 5th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_MEASUREDPHASE7THHARMONICCURRENT, new ZclAttributeDescriptor(ATTR_MEASUREDPHASE7THHARMONICCURRENT, "Measured Phase 7th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_MEASUREDPHASE9THHARMONICCURRENT, new ZclAttributeDescriptor(ATTR_MEASUREDPHASE9THHARMONICCURRENT, "Measured Phase 9th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_MEASUREDPHASE11THHARMONICCURRENT, new ZclAttributeDescriptor(ATTR_MEASUREDPHASE11THHARMONICCURRENT, "Measured Phase 11th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ACFREQUENCYMULTIPLIER, new ZclAttributeDescriptor(ATTR_ACFREQUENCYMULTIPLIER, "AC Frequency Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ACFREQUENCYDIVISOR, new ZclAttributeDescriptor(ATTR_ACFREQUENCYDIVISOR, "AC Frequency Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_POWERMULTIPLIER, new ZclAttributeDescriptor(ATTR_POWERMULTIPLIER, "Power Multiplier", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_POWERDIVISOR, new ZclAttributeDescriptor(ATTR_POWERDIVISOR, "Power Divisor", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_HARMONICCURRENTMULTIPLIER, new ZclAttributeDescriptor(ATTR_HARMONICCURRENTMULTIPLIER, "Harmonic Current Multiplier", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PHASEHARMONICCURRENTMULTIPLIER, new ZclAttributeDescriptor(ATTR_PHASEHARMONICCURRENTMULTIPLIER, "Phase Harmonic Current Multiplier", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_INSTANTANEOUSVOLTAGE, new ZclAttributeDescriptor(ATTR_INSTANTANEOUSVOLTAGE, "Instantaneous Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_INSTANTANEOUSLINECURRENT, new ZclAttributeDescriptor(ATTR_INSTANTANEOUSLINECURRENT, "Instantaneous Line Current", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_INSTANTANEOUSACTIVECURRENT, new ZclAttributeDescriptor(ATTR_INSTANTANEOUSACTIVECURRENT, "Instantaneous Active Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_INSTANTANEOUSREACTIVECURRENT, new ZclAttributeDescriptor(ATTR_INSTANTANEOUSREACTIVECURRENT, "Instantaneous Reactive Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_INSTANTANEOUSPOWER, new ZclAttributeDescriptor(ATTR_INSTANTANEOUSPOWER, "Instantaneous Power", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSVOLTAGE, new ZclAttributeDescriptor(ATTR_RMSVOLTAGE, "RMS Voltage", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSVOLTAGEMIN, new ZclAttributeDescriptor(ATTR_RMSVOLTAGEMIN, "RMS Voltage Min", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSVOLTAGEMAX, new ZclAttributeDescriptor(ATTR_RMSVOLTAGEMAX, "RMS Voltage Max", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSCURRENT, new ZclAttributeDescriptor(ATTR_RMSCURRENT, "RMS Current", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSCURRENTMIN, new ZclAttributeDescriptor(ATTR_RMSCURRENTMIN, "RMS Current Min", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSCURRENTMAX, new ZclAttributeDescriptor(ATTR_RMSCURRENTMAX, "RMS Current Max", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ACTIVEPOWER, new ZclAttributeDescriptor(ATTR_ACTIVEPOWER, "Active Power", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ACTIVEPOWERMIN, new ZclAttributeDescriptor(ATTR_ACTIVEPOWERMIN, "Active Power Min", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ACTIVEPOWERMAX, new ZclAttributeDescriptor(ATTR_ACTIVEPOWERMAX, "Active Power Max", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_REACTIVEPOWER, new ZclAttributeDescriptor(ATTR_REACTIVEPOWER, "Reactive Power", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_APPARENTPOWER, new ZclAttributeDescriptor(ATTR_APPARENTPOWER, "Apparent Power", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_POWERFACTOR, new ZclAttributeDescriptor(ATTR_POWERFACTOR, "Power Factor", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIOD, new ZclAttributeDescriptor(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIOD, "Average RMS Voltage Measurement Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_AVERAGERMSUNDERVOLTAGECOUNTER, new ZclAttributeDescriptor(ATTR_AVERAGERMSUNDERVOLTAGECOUNTER, "Average RMS Under Voltage Counter", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_RMSEXTREMEOVERVOLTAGEPERIOD, new ZclAttributeDescriptor(ATTR_RMSEXTREMEOVERVOLTAGEPERIOD, "RMS Extreme Over Voltage Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_RMSEXTREMEUNDERVOLTAGEPERIOD, new ZclAttributeDescriptor(ATTR_RMSEXTREMEUNDERVOLTAGEPERIOD, "RMS Extreme Under Voltage Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_RMSVOLTAGESAGPERIOD, new ZclAttributeDescriptor(ATTR_RMSVOLTAGESAGPERIOD, "RMS Voltage Sag Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_RMSVOLTAGESWELLPERIOD, new ZclAttributeDescriptor(ATTR_RMSVOLTAGESWELLPERIOD, "RMS Voltage Swell Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_ACVOLTAGEMULTIPLIER, new ZclAttributeDescriptor(ATTR_ACVOLTAGEMULTIPLIER, "AC Voltage Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ACVOLTAGEDIVISOR, new ZclAttributeDescriptor(ATTR_ACVOLTAGEDIVISOR, "AC Voltage Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ACCURRENTMULTIPLIER, new ZclAttributeDescriptor(ATTR_ACCURRENTMULTIPLIER, "AC Current Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ACCURRENTDIVISOR, new ZclAttributeDescriptor(ATTR_ACCURRENTDIVISOR, "AC Current Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ACPOWERMULTIPLIER, new ZclAttributeDescriptor(ATTR_ACPOWERMULTIPLIER, "AC Power Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ACPOWERDIVISOR, new ZclAttributeDescriptor(ATTR_ACPOWERDIVISOR, "AC Power Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_OVERLOADALARMSMASK, new ZclAttributeDescriptor(ATTR_OVERLOADALARMSMASK, "Overload Alarms Mask", ZclDataType.BITMAP_8_BIT, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_VOLTAGEOVERLOAD, new ZclAttributeDescriptor(ATTR_VOLTAGEOVERLOAD, "Voltage Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTOVERLOAD, new ZclAttributeDescriptor(ATTR_CURRENTOVERLOAD, "Current Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ACOVERLOADALARMSMASK, new ZclAttributeDescriptor(ATTR_ACOVERLOADALARMSMASK, "AC Overload Alarms Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_ACVOLTAGEOVERLOAD, new ZclAttributeDescriptor(ATTR_ACVOLTAGEOVERLOAD, "AC Voltage Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ACCURRENTOVERLOAD, new ZclAttributeDescriptor(ATTR_ACCURRENTOVERLOAD, "AC Current Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ACACTIVEPOWEROVERLOAD, new ZclAttributeDescriptor(ATTR_ACACTIVEPOWEROVERLOAD, "AC Active Power Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ACREACTIVEPOWEROVERLOAD, new ZclAttributeDescriptor(ATTR_ACREACTIVEPOWEROVERLOAD, "AC Reactive Power Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_AVERAGERMSOVERVOLTAGE, new ZclAttributeDescriptor(ATTR_AVERAGERMSOVERVOLTAGE, "Average RMS Over Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_AVERAGERMSUNDERVOLTAGE, new ZclAttributeDescriptor(ATTR_AVERAGERMSUNDERVOLTAGE, "Average RMS Under Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSEXTREMEOVERVOLTAGE, new ZclAttributeDescriptor(ATTR_RMSEXTREMEOVERVOLTAGE, "RMS Extreme Over Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSEXTREMEUNDERVOLTAGE, new ZclAttributeDescriptor(ATTR_RMSEXTREMEUNDERVOLTAGE, "RMS Extreme Under Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSVOLTAGESAG, new ZclAttributeDescriptor(ATTR_RMSVOLTAGESAG, "RMS Voltage Sag", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSVOLTAGESWELL, new ZclAttributeDescriptor(ATTR_RMSVOLTAGESWELL, "RMS Voltage Swell", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_LINECURRENTPHASEB, new ZclAttributeDescriptor(ATTR_LINECURRENTPHASEB, "Line Current Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ACTIVECURRENTPHASEB, new ZclAttributeDescriptor(ATTR_ACTIVECURRENTPHASEB, "Active Current Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_REACTIVECURRENTPHASEB, new ZclAttributeDescriptor(ATTR_REACTIVECURRENTPHASEB, "Reactive Current Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSVOLTAGEPHASEB, new ZclAttributeDescriptor(ATTR_RMSVOLTAGEPHASEB, "RMS Voltage Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSVOLTAGEMINPHASEB, new ZclAttributeDescriptor(ATTR_RMSVOLTAGEMINPHASEB, "RMS Voltage Min Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSVOLTAGEMAXPHASEB, new ZclAttributeDescriptor(ATTR_RMSVOLTAGEMAXPHASEB, "RMS Voltage Max Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSCURRENTPHASEB, new ZclAttributeDescriptor(ATTR_RMSCURRENTPHASEB, "RMS Current Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSCURRENTMINPHASEB, new ZclAttributeDescriptor(ATTR_RMSCURRENTMINPHASEB, "RMS Current Min Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSCURRENTMAXPHASEB, new ZclAttributeDescriptor(ATTR_RMSCURRENTMAXPHASEB, "RMS Current Max Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ACTIVEPOWERPHASEB, new ZclAttributeDescriptor(ATTR_ACTIVEPOWERPHASEB, "Active Power Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ACTIVEPOWERMINPHASEB, new ZclAttributeDescriptor(ATTR_ACTIVEPOWERMINPHASEB, "Active Power Min Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ACTIVEPOWERMAXPHASEB, new ZclAttributeDescriptor(ATTR_ACTIVEPOWERMAXPHASEB, "Active Power Max Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_REACTIVEPOWERPHASEB, new ZclAttributeDescriptor(ATTR_REACTIVEPOWERPHASEB, "Reactive Power Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_APPARENTPOWERPHASEB, new ZclAttributeDescriptor(ATTR_APPARENTPOWERPHASEB, "Apparent Power Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_POWERFACTORPHASEB, new ZclAttributeDescriptor(ATTR_POWERFACTORPHASEB, "Power Factor Phase B", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEB, new ZclAttributeDescriptor(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEB, "Average RMS Voltage Measurement Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEB, new ZclAttributeDescriptor(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEB, "Average RMS Over Voltage Counter Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEB, new ZclAttributeDescriptor(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEB, "Average RMS Under Voltage Counter Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEB, new ZclAttributeDescriptor(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEB, "RMS Extreme Over Voltage Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEB, new ZclAttributeDescriptor(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEB, "RMS Extreme Under Voltage Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSVOLTAGESAGPERIODPHASEB, new ZclAttributeDescriptor(ATTR_RMSVOLTAGESAGPERIODPHASEB, "RMS Voltage Sag Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSVOLTAGESWELLPERIODPHASEB, new ZclAttributeDescriptor(ATTR_RMSVOLTAGESWELLPERIODPHASEB, "RMS Voltage Swell Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_LINECURRENTPHASEC, new ZclAttributeDescriptor(ATTR_LINECURRENTPHASEC, "Line Current Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ACTIVECURRENTPHASEC, new ZclAttributeDescriptor(ATTR_ACTIVECURRENTPHASEC, "Active Current Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_REACTIVECURRENTPHASEC, new ZclAttributeDescriptor(ATTR_REACTIVECURRENTPHASEC, "Reactive Current Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSVOLTAGEPHASEC, new ZclAttributeDescriptor(ATTR_RMSVOLTAGEPHASEC, "RMS Voltage Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSVOLTAGEMINPHASEC, new ZclAttributeDescriptor(ATTR_RMSVOLTAGEMINPHASEC, "RMS Voltage Min Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSVOLTAGEMAXPHASEC, new ZclAttributeDescriptor(ATTR_RMSVOLTAGEMAXPHASEC, "RMS Voltage Max Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSCURRENTPHASEC, new ZclAttributeDescriptor(ATTR_RMSCURRENTPHASEC, "RMS Current Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSCURRENTMINPHASEC, new ZclAttributeDescriptor(ATTR_RMSCURRENTMINPHASEC, "RMS Current Min Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSCURRENTMAXPHASEC, new ZclAttributeDescriptor(ATTR_RMSCURRENTMAXPHASEC, "RMS Current Max Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ACTIVEPOWERPHASEC, new ZclAttributeDescriptor(ATTR_ACTIVEPOWERPHASEC, "Active Power Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ACTIVEPOWERMINPHASEC, new ZclAttributeDescriptor(ATTR_ACTIVEPOWERMINPHASEC, "Active Power Min Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ACTIVEPOWERMAXPHASEC, new ZclAttributeDescriptor(ATTR_ACTIVEPOWERMAXPHASEC, "Active Power Max Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_REACTIVEPOWERPHASEC, new ZclAttributeDescriptor(ATTR_REACTIVEPOWERPHASEC, "Reactive Power Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_APPARENTPOWERPHASEC, new ZclAttributeDescriptor(ATTR_APPARENTPOWERPHASEC, "Apparent Power Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_POWERFACTORPHASEC, new ZclAttributeDescriptor(ATTR_POWERFACTORPHASEC, "Power Factor Phase C", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEC, new ZclAttributeDescriptor(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEC, "Average RMS Voltage Measurement Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEC, new ZclAttributeDescriptor(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEC, "Average RMS Over Voltage Counter Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEC, new ZclAttributeDescriptor(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEC, "Average RMS Under Voltage Counter Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEC, new ZclAttributeDescriptor(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEC, "RMS Extreme Over Voltage Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEC, new ZclAttributeDescriptor(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEC, "RMS Extreme Under Voltage Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSVOLTAGESAGPERIODPHASEC, new ZclAttributeDescriptor(ATTR_RMSVOLTAGESAGPERIODPHASEC, "RMS Voltage Sag Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_RMSVOLTAGESWELLPERIODPHASEC, new ZclAttributeDescriptor(ATTR_RMSVOLTAGESWELLPERIODPHASEC, "RMS Voltage Swell Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+    }
+
+    /**
+     * Map of the server side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> serverCommandConstructors = new HashMap<>();
+
+    /**
+     * Map of the client side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> clientCommandConstructors = new HashMap<>();
+
+    static {
+        serverCommandConstructors.put(0x0000, GetProfileInfoResponseCommand::new);
+        serverCommandConstructors.put(0x0001, GetMeasurementProfileResponseCommand::new);
+
+        clientCommandConstructors.put(0x0000, GetProfileInfoCommand::new);
+        clientCommandConstructors.put(0x0001, GetMeasurementProfileCommand::new);
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+        return new ConcurrentSkipListMap<>();
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_MEASUREMENTTYPE, new ZclAttribute(this, ATTR_MEASUREMENTTYPE, "Measurement Type", ZclDataType.BITMAP_32_BIT, true, true, false, false));
-        attributeMap.put(ATTR_DCVOLTAGE, new ZclAttribute(this, ATTR_DCVOLTAGE, "DC Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCVOLTAGEMIN, new ZclAttribute(this, ATTR_DCVOLTAGEMIN, "DC Voltage Min", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCVOLTAGEMAX, new ZclAttribute(this, ATTR_DCVOLTAGEMAX, "DC Voltage Max", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCCURRENT, new ZclAttribute(this, ATTR_DCCURRENT, "DC Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCCURRENTMIN, new ZclAttribute(this, ATTR_DCCURRENTMIN, "DC Current Min", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCCURRENTMAX, new ZclAttribute(this, ATTR_DCCURRENTMAX, "DC Current Max", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCPOWER, new ZclAttribute(this, ATTR_DCPOWER, "DC Power", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCPOWERMIN, new ZclAttribute(this, ATTR_DCPOWERMIN, "DC Power Min", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCPOWERMAX, new ZclAttribute(this, ATTR_DCPOWERMAX, "DC Power Max", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCVOLTAGEMULTIPLIER, new ZclAttribute(this, ATTR_DCVOLTAGEMULTIPLIER, "DC Voltage Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCVOLTAGEDIVISOR, new ZclAttribute(this, ATTR_DCVOLTAGEDIVISOR, "DC Voltage Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCCURRENTMULTIPLIER, new ZclAttribute(this, ATTR_DCCURRENTMULTIPLIER, "DC Current Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCCURRENTDIVISOR, new ZclAttribute(this, ATTR_DCCURRENTDIVISOR, "DC Current Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCPOWERMULTIPLIER, new ZclAttribute(this, ATTR_DCPOWERMULTIPLIER, "DC Power Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DCPOWERDIVISOR, new ZclAttribute(this, ATTR_DCPOWERDIVISOR, "DC Power Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACFREQUENCY, new ZclAttribute(this, ATTR_ACFREQUENCY, "AC Frequency", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_ACFREQUENCYMIN, new ZclAttribute(this, ATTR_ACFREQUENCYMIN, "AC Frequency Min", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACFREQUENCYMAX, new ZclAttribute(this, ATTR_ACFREQUENCYMAX, "AC Frequency Max", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NEUTRALCURRENT, new ZclAttribute(this, ATTR_NEUTRALCURRENT, "Neutral Current", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_TOTALACTIVEPOWER, new ZclAttribute(this, ATTR_TOTALACTIVEPOWER, "Total Active Power", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TOTALREACTIVEPOWER, new ZclAttribute(this, ATTR_TOTALREACTIVEPOWER, "Total Reactive Power", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_TOTALAPPARENTPOWER, new ZclAttribute(this, ATTR_TOTALAPPARENTPOWER, "Total Apparent Power", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_MEASURED1STHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASURED1STHARMONICCURRENT, "Measured 1st Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASURED3RDHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASURED3RDHARMONICCURRENT, "Measured 3rd Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASURED5THHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASURED5THHARMONICCURRENT, "Measured 5th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASURED7THHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASURED7THHARMONICCURRENT, "Measured 7th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASURED9THHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASURED9THHARMONICCURRENT, "Measured 9th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASURED11THHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASURED11THHARMONICCURRENT, "Measured 11th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASUREDPHASE1STHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASUREDPHASE1STHARMONICCURRENT, "Measured Phase 1st Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASUREDPHASE3RDHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASUREDPHASE3RDHARMONICCURRENT, "Measured Phase 3rd Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASUREDPHASE5THHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASUREDPHASE5THHARMONICCURRENT, "Measured Phase 5th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASUREDPHASE7THHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASUREDPHASE7THHARMONICCURRENT, "Measured Phase 7th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASUREDPHASE9THHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASUREDPHASE9THHARMONICCURRENT, "Measured Phase 9th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MEASUREDPHASE11THHARMONICCURRENT, new ZclAttribute(this, ATTR_MEASUREDPHASE11THHARMONICCURRENT, "Measured Phase 11th Harmonic Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACFREQUENCYMULTIPLIER, new ZclAttribute(this, ATTR_ACFREQUENCYMULTIPLIER, "AC Frequency Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACFREQUENCYDIVISOR, new ZclAttribute(this, ATTR_ACFREQUENCYDIVISOR, "AC Frequency Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_POWERMULTIPLIER, new ZclAttribute(this, ATTR_POWERMULTIPLIER, "Power Multiplier", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_POWERDIVISOR, new ZclAttribute(this, ATTR_POWERDIVISOR, "Power Divisor", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_HARMONICCURRENTMULTIPLIER, new ZclAttribute(this, ATTR_HARMONICCURRENTMULTIPLIER, "Harmonic Current Multiplier", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PHASEHARMONICCURRENTMULTIPLIER, new ZclAttribute(this, ATTR_PHASEHARMONICCURRENTMULTIPLIER, "Phase Harmonic Current Multiplier", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_INSTANTANEOUSVOLTAGE, new ZclAttribute(this, ATTR_INSTANTANEOUSVOLTAGE, "Instantaneous Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_INSTANTANEOUSLINECURRENT, new ZclAttribute(this, ATTR_INSTANTANEOUSLINECURRENT, "Instantaneous Line Current", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_INSTANTANEOUSACTIVECURRENT, new ZclAttribute(this, ATTR_INSTANTANEOUSACTIVECURRENT, "Instantaneous Active Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_INSTANTANEOUSREACTIVECURRENT, new ZclAttribute(this, ATTR_INSTANTANEOUSREACTIVECURRENT, "Instantaneous Reactive Current", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_INSTANTANEOUSPOWER, new ZclAttribute(this, ATTR_INSTANTANEOUSPOWER, "Instantaneous Power", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGE, new ZclAttribute(this, ATTR_RMSVOLTAGE, "RMS Voltage", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGEMIN, new ZclAttribute(this, ATTR_RMSVOLTAGEMIN, "RMS Voltage Min", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGEMAX, new ZclAttribute(this, ATTR_RMSVOLTAGEMAX, "RMS Voltage Max", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSCURRENT, new ZclAttribute(this, ATTR_RMSCURRENT, "RMS Current", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_RMSCURRENTMIN, new ZclAttribute(this, ATTR_RMSCURRENTMIN, "RMS Current Min", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSCURRENTMAX, new ZclAttribute(this, ATTR_RMSCURRENTMAX, "RMS Current Max", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVEPOWER, new ZclAttribute(this, ATTR_ACTIVEPOWER, "Active Power", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_ACTIVEPOWERMIN, new ZclAttribute(this, ATTR_ACTIVEPOWERMIN, "Active Power Min", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVEPOWERMAX, new ZclAttribute(this, ATTR_ACTIVEPOWERMAX, "Active Power Max", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_REACTIVEPOWER, new ZclAttribute(this, ATTR_REACTIVEPOWER, "Reactive Power", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APPARENTPOWER, new ZclAttribute(this, ATTR_APPARENTPOWER, "Apparent Power", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_POWERFACTOR, new ZclAttribute(this, ATTR_POWERFACTOR, "Power Factor", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIOD, new ZclAttribute(this, ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIOD, "Average RMS Voltage Measurement Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_AVERAGERMSUNDERVOLTAGECOUNTER, new ZclAttribute(this, ATTR_AVERAGERMSUNDERVOLTAGECOUNTER, "Average RMS Under Voltage Counter", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_RMSEXTREMEOVERVOLTAGEPERIOD, new ZclAttribute(this, ATTR_RMSEXTREMEOVERVOLTAGEPERIOD, "RMS Extreme Over Voltage Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_RMSEXTREMEUNDERVOLTAGEPERIOD, new ZclAttribute(this, ATTR_RMSEXTREMEUNDERVOLTAGEPERIOD, "RMS Extreme Under Voltage Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_RMSVOLTAGESAGPERIOD, new ZclAttribute(this, ATTR_RMSVOLTAGESAGPERIOD, "RMS Voltage Sag Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_RMSVOLTAGESWELLPERIOD, new ZclAttribute(this, ATTR_RMSVOLTAGESWELLPERIOD, "RMS Voltage Swell Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_ACVOLTAGEMULTIPLIER, new ZclAttribute(this, ATTR_ACVOLTAGEMULTIPLIER, "AC Voltage Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_ACVOLTAGEDIVISOR, new ZclAttribute(this, ATTR_ACVOLTAGEDIVISOR, "AC Voltage Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_ACCURRENTMULTIPLIER, new ZclAttribute(this, ATTR_ACCURRENTMULTIPLIER, "AC Current Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_ACCURRENTDIVISOR, new ZclAttribute(this, ATTR_ACCURRENTDIVISOR, "AC Current Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_ACPOWERMULTIPLIER, new ZclAttribute(this, ATTR_ACPOWERMULTIPLIER, "AC Power Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_ACPOWERDIVISOR, new ZclAttribute(this, ATTR_ACPOWERDIVISOR, "AC Power Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_OVERLOADALARMSMASK, new ZclAttribute(this, ATTR_OVERLOADALARMSMASK, "Overload Alarms Mask", ZclDataType.BITMAP_8_BIT, false, true, true, true));
-        attributeMap.put(ATTR_VOLTAGEOVERLOAD, new ZclAttribute(this, ATTR_VOLTAGEOVERLOAD, "Voltage Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTOVERLOAD, new ZclAttribute(this, ATTR_CURRENTOVERLOAD, "Current Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACOVERLOADALARMSMASK, new ZclAttribute(this, ATTR_ACOVERLOADALARMSMASK, "AC Overload Alarms Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_ACVOLTAGEOVERLOAD, new ZclAttribute(this, ATTR_ACVOLTAGEOVERLOAD, "AC Voltage Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACCURRENTOVERLOAD, new ZclAttribute(this, ATTR_ACCURRENTOVERLOAD, "AC Current Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACACTIVEPOWEROVERLOAD, new ZclAttribute(this, ATTR_ACACTIVEPOWEROVERLOAD, "AC Active Power Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACREACTIVEPOWEROVERLOAD, new ZclAttribute(this, ATTR_ACREACTIVEPOWEROVERLOAD, "AC Reactive Power Overload", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGERMSOVERVOLTAGE, new ZclAttribute(this, ATTR_AVERAGERMSOVERVOLTAGE, "Average RMS Over Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGERMSUNDERVOLTAGE, new ZclAttribute(this, ATTR_AVERAGERMSUNDERVOLTAGE, "Average RMS Under Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSEXTREMEOVERVOLTAGE, new ZclAttribute(this, ATTR_RMSEXTREMEOVERVOLTAGE, "RMS Extreme Over Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSEXTREMEUNDERVOLTAGE, new ZclAttribute(this, ATTR_RMSEXTREMEUNDERVOLTAGE, "RMS Extreme Under Voltage", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGESAG, new ZclAttribute(this, ATTR_RMSVOLTAGESAG, "RMS Voltage Sag", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGESWELL, new ZclAttribute(this, ATTR_RMSVOLTAGESWELL, "RMS Voltage Swell", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_LINECURRENTPHASEB, new ZclAttribute(this, ATTR_LINECURRENTPHASEB, "Line Current Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVECURRENTPHASEB, new ZclAttribute(this, ATTR_ACTIVECURRENTPHASEB, "Active Current Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_REACTIVECURRENTPHASEB, new ZclAttribute(this, ATTR_REACTIVECURRENTPHASEB, "Reactive Current Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGEPHASEB, new ZclAttribute(this, ATTR_RMSVOLTAGEPHASEB, "RMS Voltage Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGEMINPHASEB, new ZclAttribute(this, ATTR_RMSVOLTAGEMINPHASEB, "RMS Voltage Min Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGEMAXPHASEB, new ZclAttribute(this, ATTR_RMSVOLTAGEMAXPHASEB, "RMS Voltage Max Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSCURRENTPHASEB, new ZclAttribute(this, ATTR_RMSCURRENTPHASEB, "RMS Current Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSCURRENTMINPHASEB, new ZclAttribute(this, ATTR_RMSCURRENTMINPHASEB, "RMS Current Min Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSCURRENTMAXPHASEB, new ZclAttribute(this, ATTR_RMSCURRENTMAXPHASEB, "RMS Current Max Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVEPOWERPHASEB, new ZclAttribute(this, ATTR_ACTIVEPOWERPHASEB, "Active Power Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVEPOWERMINPHASEB, new ZclAttribute(this, ATTR_ACTIVEPOWERMINPHASEB, "Active Power Min Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVEPOWERMAXPHASEB, new ZclAttribute(this, ATTR_ACTIVEPOWERMAXPHASEB, "Active Power Max Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_REACTIVEPOWERPHASEB, new ZclAttribute(this, ATTR_REACTIVEPOWERPHASEB, "Reactive Power Phase B", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APPARENTPOWERPHASEB, new ZclAttribute(this, ATTR_APPARENTPOWERPHASEB, "Apparent Power Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_POWERFACTORPHASEB, new ZclAttribute(this, ATTR_POWERFACTORPHASEB, "Power Factor Phase B", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEB, new ZclAttribute(this, ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEB, "Average RMS Voltage Measurement Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEB, new ZclAttribute(this, ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEB, "Average RMS Over Voltage Counter Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEB, new ZclAttribute(this, ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEB, "Average RMS Under Voltage Counter Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEB, new ZclAttribute(this, ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEB, "RMS Extreme Over Voltage Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEB, new ZclAttribute(this, ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEB, "RMS Extreme Under Voltage Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGESAGPERIODPHASEB, new ZclAttribute(this, ATTR_RMSVOLTAGESAGPERIODPHASEB, "RMS Voltage Sag Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGESWELLPERIODPHASEB, new ZclAttribute(this, ATTR_RMSVOLTAGESWELLPERIODPHASEB, "RMS Voltage Swell Period Phase B", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_LINECURRENTPHASEC, new ZclAttribute(this, ATTR_LINECURRENTPHASEC, "Line Current Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVECURRENTPHASEC, new ZclAttribute(this, ATTR_ACTIVECURRENTPHASEC, "Active Current Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_REACTIVECURRENTPHASEC, new ZclAttribute(this, ATTR_REACTIVECURRENTPHASEC, "Reactive Current Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGEPHASEC, new ZclAttribute(this, ATTR_RMSVOLTAGEPHASEC, "RMS Voltage Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGEMINPHASEC, new ZclAttribute(this, ATTR_RMSVOLTAGEMINPHASEC, "RMS Voltage Min Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGEMAXPHASEC, new ZclAttribute(this, ATTR_RMSVOLTAGEMAXPHASEC, "RMS Voltage Max Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSCURRENTPHASEC, new ZclAttribute(this, ATTR_RMSCURRENTPHASEC, "RMS Current Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSCURRENTMINPHASEC, new ZclAttribute(this, ATTR_RMSCURRENTMINPHASEC, "RMS Current Min Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSCURRENTMAXPHASEC, new ZclAttribute(this, ATTR_RMSCURRENTMAXPHASEC, "RMS Current Max Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVEPOWERPHASEC, new ZclAttribute(this, ATTR_ACTIVEPOWERPHASEC, "Active Power Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVEPOWERMINPHASEC, new ZclAttribute(this, ATTR_ACTIVEPOWERMINPHASEC, "Active Power Min Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ACTIVEPOWERMAXPHASEC, new ZclAttribute(this, ATTR_ACTIVEPOWERMAXPHASEC, "Active Power Max Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_REACTIVEPOWERPHASEC, new ZclAttribute(this, ATTR_REACTIVEPOWERPHASEC, "Reactive Power Phase C", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_APPARENTPOWERPHASEC, new ZclAttribute(this, ATTR_APPARENTPOWERPHASEC, "Apparent Power Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_POWERFACTORPHASEC, new ZclAttribute(this, ATTR_POWERFACTORPHASEC, "Power Factor Phase C", ZclDataType.SIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEC, new ZclAttribute(this, ATTR_AVERAGERMSVOLTAGEMEASUREMENTPERIODPHASEC, "Average RMS Voltage Measurement Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEC, new ZclAttribute(this, ATTR_AVERAGERMSOVERVOLTAGECOUNTERPHASEC, "Average RMS Over Voltage Counter Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEC, new ZclAttribute(this, ATTR_AVERAGERMSUNDERVOLTAGECOUNTERPHASEC, "Average RMS Under Voltage Counter Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEC, new ZclAttribute(this, ATTR_RMSEXTREMEOVERVOLTAGEPERIODPHASEC, "RMS Extreme Over Voltage Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEC, new ZclAttribute(this, ATTR_RMSEXTREMEUNDERVOLTAGEPERIODPHASEC, "RMS Extreme Under Voltage Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGESAGPERIODPHASEC, new ZclAttribute(this, ATTR_RMSVOLTAGESAGPERIODPHASEC, "RMS Voltage Sag Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_RMSVOLTAGESWELLPERIODPHASEC, new ZclAttribute(this, ATTR_RMSVOLTAGESWELLPERIODPHASEC, "RMS Voltage Swell Period Phase C", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-
-        return attributeMap;
+        return new ZclAttributeMap(this, serverAttributeDescriptors);
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeServerCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
-
-        commandMap.put(0x0000, GetProfileInfoResponseCommand.class);
-        commandMap.put(0x0001, GetMeasurementProfileResponseCommand.class);
-
-        return commandMap;
+    protected Map<Integer, ZclCommandFactory> getServerCommandConstructors() {
+        return serverCommandConstructors;
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeClientCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
-
-        commandMap.put(0x0000, GetProfileInfoCommand.class);
-        commandMap.put(0x0001, GetMeasurementProfileCommand.class);
-
-        return commandMap;
+    protected Map<Integer, ZclCommandFactory> getClientCommandConstructors() {
+        return clientCommandConstructors;
     }
 
     /**
@@ -7,8 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.TreeMap;
 import java.util.concurrent.Future;
 
 import javax.annotation.Generated;
@@ -18,8 +19,10 @@ import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.security.ZigBeeKey;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDescriptor;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeMap;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
-import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.ZclCommandFactory;
 import com.zsmartsystems.zigbee.zcl.clusters.greenpower.GpCommissioningNotification;
 import com.zsmartsystems.zigbee.zcl.clusters.greenpower.GpNotification;
 import com.zsmartsystems.zigbee.zcl.clusters.greenpower.GpNotificationResponse;
@@ -200,74 +203,90 @@ public class ZclGreenPowerCluster extends ZclCluster {
      */
     public static final int ATTR_GPSERVERLINKKEY = 0x0022;
 
+    /**
+     * Map of the client side attribute descriptors defined by the cluster, indexed by attribute ID
+     */
+    private static Map<Integer, ZclAttributeDescriptor> clientAttributeDescriptors = new TreeMap<>();
+
+    /**
+     * Map of the server side attribute descriptors defined by the cluster, indexed by attribute ID
+     */
+    private static Map<Integer, ZclAttributeDescriptor> serverAttributeDescriptors = new TreeMap<>();
+
+    static {
+        clientAttributeDescriptors.put(ATTR_GPPMAXPROXYTABLEENTRIES, new ZclAttributeDescriptor(ATTR_GPPMAXPROXYTABLEENTRIES, "Gpp Max Proxy Table Entries", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        clientAttributeDescriptors.put(ATTR_PROXYTABLE, new ZclAttributeDescriptor(ATTR_PROXYTABLE, "Proxy Table", ZclDataType.LONG_OCTET_STRING, true, true, false, false));
+        clientAttributeDescriptors.put(ATTR_GPPNOTIFICATIONRETRYNUMBER, new ZclAttributeDescriptor(ATTR_GPPNOTIFICATIONRETRYNUMBER, "Gpp Notification Retry Number", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
+        clientAttributeDescriptors.put(ATTR_GPPNOTIFICATIONRETRYTIMER, new ZclAttributeDescriptor(ATTR_GPPNOTIFICATIONRETRYTIMER, "Gpp Notification Retry Timer", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
+        clientAttributeDescriptors.put(ATTR_GPPMAXSEARCHCOUNTER, new ZclAttributeDescriptor(ATTR_GPPMAXSEARCHCOUNTER, "Gpp Max Search Counter", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
+        clientAttributeDescriptors.put(ATTR_GPPBLOCKEDGPDID, new ZclAttributeDescriptor(ATTR_GPPBLOCKEDGPDID, "Gpp Blocked Gpd ID", ZclDataType.LONG_OCTET_STRING, true, true, false, false));
+        clientAttributeDescriptors.put(ATTR_GPPFUNCTIONALITY, new ZclAttributeDescriptor(ATTR_GPPFUNCTIONALITY, "Gpp Functionality", ZclDataType.BITMAP_24_BIT, true, true, false, false));
+        clientAttributeDescriptors.put(ATTR_GPPACTIVEFUNCTIONALITY, new ZclAttributeDescriptor(ATTR_GPPACTIVEFUNCTIONALITY, "Gpp Active Functionality", ZclDataType.BITMAP_24_BIT, true, true, false, false));
+        clientAttributeDescriptors.put(ATTR_GPCLIENTSHAREDSECURITYKEYTYPE, new ZclAttributeDescriptor(ATTR_GPCLIENTSHAREDSECURITYKEYTYPE, "Gp Client Shared Security Key Type", ZclDataType.BITMAP_8_BIT, false, true, true, true));
+        clientAttributeDescriptors.put(ATTR_GPCLIENTSHAREDSECURITYKEY, new ZclAttributeDescriptor(ATTR_GPCLIENTSHAREDSECURITYKEY, "Gp Client Shared Security Key", ZclDataType.SECURITY_KEY, false, true, true, true));
+        clientAttributeDescriptors.put(ATTR_GPCLIENTLINKKEY, new ZclAttributeDescriptor(ATTR_GPCLIENTLINKKEY, "Gp Client Link Key", ZclDataType.SECURITY_KEY, false, true, true, true));
+
+        serverAttributeDescriptors.put(ATTR_GPSMAXSINKTABLEENTRIES, new ZclAttributeDescriptor(ATTR_GPSMAXSINKTABLEENTRIES, "Gps Max Sink Table Entries", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_SINKTABLE, new ZclAttributeDescriptor(ATTR_SINKTABLE, "Sink Table", ZclDataType.LONG_OCTET_STRING, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_GPSCOMMUNICATIONMODE, new ZclAttributeDescriptor(ATTR_GPSCOMMUNICATIONMODE, "Gps Communication Mode", ZclDataType.BITMAP_8_BIT, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_GPSCOMMISSIONINGEXITMODE, new ZclAttributeDescriptor(ATTR_GPSCOMMISSIONINGEXITMODE, "Gps Commissioning Exit Mode", ZclDataType.BITMAP_8_BIT, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_GPSCOMMISSIONINGWINDOW, new ZclAttributeDescriptor(ATTR_GPSCOMMISSIONINGWINDOW, "Gps Commissioning Window", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_GPSSECURITYLEVEL, new ZclAttributeDescriptor(ATTR_GPSSECURITYLEVEL, "Gps Security Level", ZclDataType.BITMAP_8_BIT, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_GPSFUNCTIONALITY, new ZclAttributeDescriptor(ATTR_GPSFUNCTIONALITY, "Gps Functionality", ZclDataType.BITMAP_24_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_GPSACTIVEFUNCTIONALITY, new ZclAttributeDescriptor(ATTR_GPSACTIVEFUNCTIONALITY, "Gps Active Functionality", ZclDataType.BITMAP_24_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_GPSERVERSHAREDSECURITYKEYTYPE, new ZclAttributeDescriptor(ATTR_GPSERVERSHAREDSECURITYKEYTYPE, "Gp Server Shared Security Key Type", ZclDataType.BITMAP_8_BIT, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_GPSERVERSHAREDSECURITYKEY, new ZclAttributeDescriptor(ATTR_GPSERVERSHAREDSECURITYKEY, "Gp server Shared Security Key", ZclDataType.SECURITY_KEY, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_GPSERVERLINKKEY, new ZclAttributeDescriptor(ATTR_GPSERVERLINKKEY, "Gp Server Link Key", ZclDataType.SECURITY_KEY, false, true, true, true));
+    }
+
+    /**
+     * Map of the server side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> serverCommandConstructors = new HashMap<>();
+
+    /**
+     * Map of the client side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> clientCommandConstructors = new HashMap<>();
+
+    static {
+        serverCommandConstructors.put(0x0000, GpNotificationResponse::new);
+        serverCommandConstructors.put(0x0001, GpPairing::new);
+        serverCommandConstructors.put(0x0002, GpProxyCommissioningMode::new);
+        serverCommandConstructors.put(0x0006, GpResponse::new);
+        serverCommandConstructors.put(0x000A, GpSinkTableResponse::new);
+        serverCommandConstructors.put(0x000B, GpProxyTableRequest::new);
+
+        clientCommandConstructors.put(0x0000, GpNotification::new);
+        clientCommandConstructors.put(0x0001, GpPairingSearch::new);
+        clientCommandConstructors.put(0x0003, GpTunnelingStop::new);
+        clientCommandConstructors.put(0x0004, GpCommissioningNotification::new);
+        clientCommandConstructors.put(0x0005, GpSinkCommissioningMode::new);
+        clientCommandConstructors.put(0x0007, GpTranslationTableUpdate::new);
+        clientCommandConstructors.put(0x0008, GpTranslationTableRequest::new);
+        clientCommandConstructors.put(0x0009, GpPairingConfiguration::new);
+        clientCommandConstructors.put(0x000A, GpSinkTableRequest::new);
+        clientCommandConstructors.put(0x000B, GpProxyTableResponse::new);
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_GPPMAXPROXYTABLEENTRIES, new ZclAttribute(this, ATTR_GPPMAXPROXYTABLEENTRIES, "Gpp Max Proxy Table Entries", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PROXYTABLE, new ZclAttribute(this, ATTR_PROXYTABLE, "Proxy Table", ZclDataType.LONG_OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_GPPNOTIFICATIONRETRYNUMBER, new ZclAttribute(this, ATTR_GPPNOTIFICATIONRETRYNUMBER, "Gpp Notification Retry Number", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_GPPNOTIFICATIONRETRYTIMER, new ZclAttribute(this, ATTR_GPPNOTIFICATIONRETRYTIMER, "Gpp Notification Retry Timer", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_GPPMAXSEARCHCOUNTER, new ZclAttribute(this, ATTR_GPPMAXSEARCHCOUNTER, "Gpp Max Search Counter", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_GPPBLOCKEDGPDID, new ZclAttribute(this, ATTR_GPPBLOCKEDGPDID, "Gpp Blocked Gpd ID", ZclDataType.LONG_OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_GPPFUNCTIONALITY, new ZclAttribute(this, ATTR_GPPFUNCTIONALITY, "Gpp Functionality", ZclDataType.BITMAP_24_BIT, true, true, false, false));
-        attributeMap.put(ATTR_GPPACTIVEFUNCTIONALITY, new ZclAttribute(this, ATTR_GPPACTIVEFUNCTIONALITY, "Gpp Active Functionality", ZclDataType.BITMAP_24_BIT, true, true, false, false));
-        attributeMap.put(ATTR_GPCLIENTSHAREDSECURITYKEYTYPE, new ZclAttribute(this, ATTR_GPCLIENTSHAREDSECURITYKEYTYPE, "Gp Client Shared Security Key Type", ZclDataType.BITMAP_8_BIT, false, true, true, true));
-        attributeMap.put(ATTR_GPCLIENTSHAREDSECURITYKEY, new ZclAttribute(this, ATTR_GPCLIENTSHAREDSECURITYKEY, "Gp Client Shared Security Key", ZclDataType.SECURITY_KEY, false, true, true, true));
-        attributeMap.put(ATTR_GPCLIENTLINKKEY, new ZclAttribute(this, ATTR_GPCLIENTLINKKEY, "Gp Client Link Key", ZclDataType.SECURITY_KEY, false, true, true, true));
-
-        return attributeMap;
+        return new ZclAttributeMap(this, clientAttributeDescriptors);
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_GPSMAXSINKTABLEENTRIES, new ZclAttribute(this, ATTR_GPSMAXSINKTABLEENTRIES, "Gps Max Sink Table Entries", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_SINKTABLE, new ZclAttribute(this, ATTR_SINKTABLE, "Sink Table", ZclDataType.LONG_OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_GPSCOMMUNICATIONMODE, new ZclAttribute(this, ATTR_GPSCOMMUNICATIONMODE, "Gps Communication Mode", ZclDataType.BITMAP_8_BIT, false, true, true, true));
-        attributeMap.put(ATTR_GPSCOMMISSIONINGEXITMODE, new ZclAttribute(this, ATTR_GPSCOMMISSIONINGEXITMODE, "Gps Commissioning Exit Mode", ZclDataType.BITMAP_8_BIT, false, true, true, true));
-        attributeMap.put(ATTR_GPSCOMMISSIONINGWINDOW, new ZclAttribute(this, ATTR_GPSCOMMISSIONINGWINDOW, "Gps Commissioning Window", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_GPSSECURITYLEVEL, new ZclAttribute(this, ATTR_GPSSECURITYLEVEL, "Gps Security Level", ZclDataType.BITMAP_8_BIT, false, true, true, true));
-        attributeMap.put(ATTR_GPSFUNCTIONALITY, new ZclAttribute(this, ATTR_GPSFUNCTIONALITY, "Gps Functionality", ZclDataType.BITMAP_24_BIT, true, true, false, false));
-        attributeMap.put(ATTR_GPSACTIVEFUNCTIONALITY, new ZclAttribute(this, ATTR_GPSACTIVEFUNCTIONALITY, "Gps Active Functionality", ZclDataType.BITMAP_24_BIT, true, true, false, false));
-        attributeMap.put(ATTR_GPSERVERSHAREDSECURITYKEYTYPE, new ZclAttribute(this, ATTR_GPSERVERSHAREDSECURITYKEYTYPE, "Gp Server Shared Security Key Type", ZclDataType.BITMAP_8_BIT, false, true, true, true));
-        attributeMap.put(ATTR_GPSERVERSHAREDSECURITYKEY, new ZclAttribute(this, ATTR_GPSERVERSHAREDSECURITYKEY, "Gp server Shared Security Key", ZclDataType.SECURITY_KEY, false, true, true, true));
-        attributeMap.put(ATTR_GPSERVERLINKKEY, new ZclAttribute(this, ATTR_GPSERVERLINKKEY, "Gp Server Link Key", ZclDataType.SECURITY_KEY, false, true, true, true));
-
-        return attributeMap;
+        return new ZclAttributeMap(this, serverAttributeDescriptors);
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeServerCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
-
-        commandMap.put(0x0000, GpNotificationResponse.class);
-        commandMap.put(0x0001, GpPairing.class);
-        commandMap.put(0x0002, GpProxyCommissioningMode.class);
-        commandMap.put(0x0006, GpResponse.class);
-        commandMap.put(0x000A, GpSinkTableResponse.class);
-        commandMap.put(0x000B, GpProxyTableRequest.class);
-
-        return commandMap;
+    protected Map<Integer, ZclCommandFactory> getServerCommandConstructors() {
+        return serverCommandConstructors;
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeClientCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
-
-        commandMap.put(0x0000, GpNotification.class);
-        commandMap.put(0x0001, GpPairingSearch.class);
-        commandMap.put(0x0003, GpTunnelingStop.class);
-        commandMap.put(0x0004, GpCommissioningNotification.class);
-        commandMap.put(0x0005, GpSinkCommissioningMode.class);
-        commandMap.put(0x0007, GpTranslationTableUpdate.class);
-        commandMap.put(0x0008, GpTranslationTableRequest.class);
-        commandMap.put(0x0009, GpPairingConfiguration.class);
-        commandMap.put(0x000A, GpSinkTableRequest.class);
-        commandMap.put(0x000B, GpProxyTableResponse.class);
-
-        return commandMap;
+    protected Map<Integer, ZclCommandFactory> getClientCommandConstructors() {
+        return clientCommandConstructors;
     }
 
     /**
@@ -7,8 +7,10 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -17,8 +19,10 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDescriptor;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeMap;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
-import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.ZclCommandFactory;
 import com.zsmartsystems.zigbee.zcl.clusters.groups.AddGroupCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.groups.AddGroupIfIdentifyingCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.groups.AddGroupResponse;
@@ -82,46 +86,57 @@ public class ZclGroupsCluster extends ZclCluster {
      */
     public static final int ATTR_NAMESUPPORT = 0x0000;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * Map of the server side attribute descriptors defined by the cluster, indexed by attribute ID
+     */
+    private static Map<Integer, ZclAttributeDescriptor> serverAttributeDescriptors = new TreeMap<>();
 
-        return attributeMap;
+    static {
+        serverAttributeDescriptors.put(ATTR_NAMESUPPORT, new ZclAttributeDescriptor(ATTR_NAMESUPPORT, "Name Support", ZclDataType.BITMAP_8_BIT, true, true, false, false));
     }
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_NAMESUPPORT, new ZclAttribute(this, ATTR_NAMESUPPORT, "Name Support", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+    /**
+     * Map of the server side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> serverCommandConstructors = new HashMap<>();
 
-        return attributeMap;
+    /**
+     * Map of the client side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> clientCommandConstructors = new HashMap<>();
+
+    static {
+        serverCommandConstructors.put(0x0000, AddGroupResponse::new);
+        serverCommandConstructors.put(0x0001, ViewGroupResponse::new);
+        serverCommandConstructors.put(0x0002, GetGroupMembershipResponse::new);
+        serverCommandConstructors.put(0x0003, RemoveGroupResponse::new);
+
+        clientCommandConstructors.put(0x0000, AddGroupCommand::new);
+        clientCommandConstructors.put(0x0001, ViewGroupCommand::new);
+        clientCommandConstructors.put(0x0002, GetGroupMembershipCommand::new);
+        clientCommandConstructors.put(0x0003, RemoveGroupCommand::new);
+        clientCommandConstructors.put(0x0004, RemoveAllGroupsCommand::new);
+        clientCommandConstructors.put(0x0005, AddGroupIfIdentifyingCommand::new);
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeServerCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
-
-        commandMap.put(0x0000, AddGroupResponse.class);
-        commandMap.put(0x0001, ViewGroupResponse.class);
-        commandMap.put(0x0002, GetGroupMembershipResponse.class);
-        commandMap.put(0x0003, RemoveGroupResponse.class);
-
-        return commandMap;
+    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
+        return new ConcurrentSkipListMap<>();
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeClientCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
+    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
+        return new ZclAttributeMap(this, serverAttributeDescriptors);
+    }
 
-        commandMap.put(0x0000, AddGroupCommand.class);
-        commandMap.put(0x0001, ViewGroupCommand.class);
-        commandMap.put(0x0002, GetGroupMembershipCommand.class);
-        commandMap.put(0x0003, RemoveGroupCommand.class);
-        commandMap.put(0x0004, RemoveAllGroupsCommand.class);
-        commandMap.put(0x0005, AddGroupIfIdentifyingCommand.class);
+    @Override
+    protected Map<Integer, ZclCommandFactory> getServerCommandConstructors() {
+        return serverCommandConstructors;
+    }
 
-        return commandMap;
+    @Override
+    protected Map<Integer, ZclCommandFactory> getClientCommandConstructors() {
+        return clientCommandConstructors;
     }
 
     /**
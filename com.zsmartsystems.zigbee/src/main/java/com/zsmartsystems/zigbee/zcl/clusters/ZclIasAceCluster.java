@@ -7,6 +7,7 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentSkipListMap;
@@ -19,7 +20,7 @@ import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
-import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.ZclCommandFactory;
 import com.zsmartsystems.zigbee.zcl.clusters.iasace.ArmCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.iasace.ArmResponse;
 import com.zsmartsystems.zigbee.zcl.clusters.iasace.BypassCommand;
@@ -62,53 +63,57 @@ public class ZclIasAceCluster extends ZclCluster {
      */
     public static final String CLUSTER_NAME = "IAS ACE";
 
+    /**
+     * Map of the server side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> serverCommandConstructors = new HashMap<>();
+
+    /**
+     * Map of the client side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> clientCommandConstructors = new HashMap<>();
+
+    static {
+        serverCommandConstructors.put(0x0000, ArmResponse::new);
+        serverCommandConstructors.put(0x0001, GetZoneIdMapResponse::new);
+        serverCommandConstructors.put(0x0002, GetZoneInformationResponse::new);
+        serverCommandConstructors.put(0x0003, ZoneStatusChangedCommand::new);
+        serverCommandConstructors.put(0x0004, PanelStatusChangedCommand::new);
+        serverCommandConstructors.put(0x0005, GetPanelStatusResponse::new);
+        serverCommandConstructors.put(0x0006, SetBypassedZoneListCommand::new);
+        serverCommandConstructors.put(0x0007, BypassResponse::new);
+        serverCommandConstructors.put(0x0008, GetZoneStatusResponse::new);
+
+        clientCommandConstructors.put(0x0000, ArmCommand::new);
+        clientCommandConstructors.put(0x0001, BypassCommand::new);
+        clientCommandConstructors.put(0x0002, EmergencyCommand::new);
+        clientCommandConstructors.put(0x0003, FireCommand::new);
+        clientCommandConstructors.put(0x0004, PanicCommand::new);
+        clientCommandConstructors.put(0x0005, GetZoneIdMapCommand::new);
+        clientCommandConstructors.put(0x0006, GetZoneInformationCommand::new);
+        clientCommandConstructors.put(0x0007, GetPanelStatusCommand::new);
+        clientCommandConstructors.put(0x0008, GetBypassedZoneListCommand::new);
+        clientCommandConstructors.put(0x0009, GetZoneStatusCommand::new);
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+        return new ConcurrentSkipListMap<>();
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+        return new ConcurrentSkipListMap<>();
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeServerCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
-
-        commandMap.put(0x0000, ArmResponse.class);
-        commandMap.put(0x0001, GetZoneIdMapResponse.class);
-        commandMap.put(0x0002, GetZoneInformationResponse.class);
-        commandMap.put(0x0003, ZoneStatusChangedCommand.class);
-        commandMap.put(0x0004, PanelStatusChangedCommand.class);
-        commandMap.put(0x0005, GetPanelStatusResponse.class);
-        commandMap.put(0x0006, SetBypassedZoneListCommand.class);
-        commandMap.put(0x0007, BypassResponse.class);
-        commandMap.put(0x0008, GetZoneStatusResponse.class);
-
-        return commandMap;
+    protected Map<Integer, ZclCommandFactory> getServerCommandConstructors() {
+        return serverCommandConstructors;
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeClientCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
-
-        commandMap.put(0x0000, ArmCommand.class);
-        commandMap.put(0x0001, BypassCommand.class);
-        commandMap.put(0x0002, EmergencyCommand.class);
-        commandMap.put(0x0003, FireCommand.class);
-        commandMap.put(0x0004, PanicCommand.class);
-        commandMap.put(0x0005, GetZoneIdMapCommand.class);
-        commandMap.put(0x0006, GetZoneInformationCommand.class);
-        commandMap.put(0x0007, GetPanelStatusCommand.class);
-        commandMap.put(0x0008, GetBypassedZoneListCommand.class);
-        commandMap.put(0x0009, GetZoneStatusCommand.class);
-
-        return commandMap;
+    protected Map<Integer, ZclCommandFactory> getClientCommandConstructors() {
+        return clientCommandConstructors;
     }
 
     /**
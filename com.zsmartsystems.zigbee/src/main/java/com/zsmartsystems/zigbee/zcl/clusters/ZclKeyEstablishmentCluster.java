@@ -7,8 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.TreeMap;
 import java.util.concurrent.Future;
 
 import javax.annotation.Generated;
@@ -16,8 +17,10 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDescriptor;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeMap;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
-import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.ZclCommandFactory;
 import com.zsmartsystems.zigbee.zcl.clusters.keyestablishment.ConfirmKeyDataRequestCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.keyestablishment.ConfirmKeyResponse;
 import com.zsmartsystems.zigbee.zcl.clusters.keyestablishment.EphemeralDataRequestCommand;
@@ -91,45 +94,61 @@ public class ZclKeyEstablishmentCluster extends ZclCluster {
      */
     public static final int ATTR_SERVERKEYESTABLISHMENTSUITE = 0x0000;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * Map of the client side attribute descriptors defined by the cluster, indexed by attribute ID
+     */
+    private static Map<Integer, ZclAttributeDescriptor> clientAttributeDescriptors = new TreeMap<>();
 
-        attributeMap.put(ATTR_CLIENTKEYESTABLISHMENTSUITE, new ZclAttribute(this, ATTR_CLIENTKEYESTABLISHMENTSUITE, "Client Key Establishment Suite", ZclDataType.ENUMERATION_16_BIT, true, true, false, false));
+    /**
+     * Map of the server side attribute descriptors defined by the cluster, indexed by attribute ID
+     */
+    private static Map<Integer, ZclAttributeDescriptor> serverAttributeDescriptors = new TreeMap<>();
 
-        return attributeMap;
+    static {
+        clientAttributeDescriptors.put(ATTR_CLIENTKEYESTABLISHMENTSUITE, new ZclAttributeDescriptor(ATTR_CLIENTKEYESTABLISHMENTSUITE, "Client Key Establishment Suite", ZclDataType.ENUMERATION_16_BIT, true, true, false, false));
+
+        serverAttributeDescriptors.put(ATTR_SERVERKEYESTABLISHMENTSUITE, new ZclAttributeDescriptor(ATTR_SERVERKEYESTABLISHMENTSUITE, "Server Key Establishment Suite", ZclDataType.ENUMERATION_16_BIT, true, true, false, false));
     }
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * Map of the server side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> serverCommandConstructors = new HashMap<>();
 
-        attributeMap.put(ATTR_SERVERKEYESTABLISHMENTSUITE, new ZclAttribute(this, ATTR_SERVERKEYESTABLISHMENTSUITE, "Server Key Establishment Suite", ZclDataType.ENUMERATION_16_BIT, true, true, false, false));
+    /**
+     * Map of the client side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> clientCommandConstructors = new HashMap<>();
+
+    static {
+        serverCommandConstructors.put(0x0000, InitiateKeyEstablishmentResponse::new);
+        serverCommandConstructors.put(0x0001, EphemeralDataResponse::new);
+        serverCommandConstructors.put(0x0002, ConfirmKeyResponse::new);
+        serverCommandConstructors.put(0x0003, TerminateKeyEstablishment::new);
 
-        return attributeMap;
+        clientCommandConstructors.put(0x0000, InitiateKeyEstablishmentRequestCommand::new);
+        clientCommandConstructors.put(0x0001, EphemeralDataRequestCommand::new);
+        clientCommandConstructors.put(0x0002, ConfirmKeyDataRequestCommand::new);
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeServerCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
-
-        commandMap.put(0x0000, InitiateKeyEstablishmentResponse.class);
-        commandMap.put(0x0001, EphemeralDataResponse.class);
-        commandMap.put(0x0002, ConfirmKeyResponse.class);
-        commandMap.put(0x0003, TerminateKeyEstablishment.class);
-
-        return commandMap;
+    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
+        return new ZclAttributeMap(this, clientAttributeDescriptors);
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeClientCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
+    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
+        return new ZclAttributeMap(this, serverAttributeDescriptors);
+    }
 
-        commandMap.put(0x0000, InitiateKeyEstablishmentRequestCommand.class);
-        commandMap.put(0x0001, EphemeralDataRequestCommand.class);
-        commandMap.put(0x0002, ConfirmKeyDataRequestCommand.class);
+    @Override
+    protected Map<Integer, ZclCommandFactory> getServerCommandConstructors() {
+        return serverCommandConstructors;
+    }
 
-        return commandMap;
+    @Override
+    protected Map<Integer, ZclCommandFactory> getClientCommandConstructors() {
+        return clientCommandConstructors;
     }
 
     /**
@@ -7,7 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -16,8 +18,10 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDescriptor;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeMap;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
-import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.ZclCommandFactory;
 import com.zsmartsystems.zigbee.zcl.clusters.levelcontrol.MoveCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.levelcontrol.MoveToLevelCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.levelcontrol.MoveToLevelWithOnOffCommand;
@@ -115,44 +119,52 @@ public class ZclLevelControlCluster extends ZclCluster {
     public static final int ATTR_DEFAULTMOVERATE = 0x0014;
     public static final int ATTR_STARTUPCURRENTLEVEL = 0x4000;
 
+    /**
+     * Map of the server side attribute descriptors defined by the cluster, indexed by attribute ID
+     */
+    private static Map<Integer, ZclAttributeDescriptor> serverAttributeDescriptors = new TreeMap<>();
+
+    static {
+        serverAttributeDescriptors.put(ATTR_CURRENTLEVEL, new ZclAttributeDescriptor(ATTR_CURRENTLEVEL, "Current Level", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, true));
+        serverAttributeDescriptors.put(ATTR_REMAININGTIME, new ZclAttributeDescriptor(ATTR_REMAININGTIME, "Remaining Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_OPTIONS, new ZclAttributeDescriptor(ATTR_OPTIONS, "Options", ZclDataType.BITMAP_8_BIT, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ONOFFTRANSITIONTIME, new ZclAttributeDescriptor(ATTR_ONOFFTRANSITIONTIME, "On Off Transition Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_ONLEVEL, new ZclAttributeDescriptor(ATTR_ONLEVEL, "On Level", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_ONTRANSITIONTIME, new ZclAttributeDescriptor(ATTR_ONTRANSITIONTIME, "On Transition Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_OFFTRANSITIONTIME, new ZclAttributeDescriptor(ATTR_OFFTRANSITIONTIME, "Off Transition Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_DEFAULTMOVERATE, new ZclAttributeDescriptor(ATTR_DEFAULTMOVERATE, "Default Move Rate", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_STARTUPCURRENTLEVEL, new ZclAttributeDescriptor(ATTR_STARTUPCURRENTLEVEL, "Start Up Current Level", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+    }
+
+    /**
+     * Map of the client side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> clientCommandConstructors = new HashMap<>();
+
+    static {
+        clientCommandConstructors.put(0x0000, MoveToLevelCommand::new);
+        clientCommandConstructors.put(0x0001, MoveCommand::new);
+        clientCommandConstructors.put(0x0002, StepCommand::new);
+        clientCommandConstructors.put(0x0003, StopCommand::new);
+        clientCommandConstructors.put(0x0004, MoveToLevelWithOnOffCommand::new);
+        clientCommandConstructors.put(0x0005, MoveWithOnOffCommand::new);
+        clientCommandConstructors.put(0x0006, StepWithOnOffCommand::new);
+        clientCommandConstructors.put(0x0007, StopWithOnOffCommand::new);
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+        return new ConcurrentSkipListMap<>();
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_CURRENTLEVEL, new ZclAttribute(this, ATTR_CURRENTLEVEL, "Current Level", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, true));
-        attributeMap.put(ATTR_REMAININGTIME, new ZclAttribute(this, ATTR_REMAININGTIME, "Remaining Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_OPTIONS, new ZclAttribute(this, ATTR_OPTIONS, "Options", ZclDataType.BITMAP_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_ONOFFTRANSITIONTIME, new ZclAttribute(this, ATTR_ONOFFTRANSITIONTIME, "On Off Transition Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_ONLEVEL, new ZclAttribute(this, ATTR_ONLEVEL, "On Level", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_ONTRANSITIONTIME, new ZclAttribute(this, ATTR_ONTRANSITIONTIME, "On Transition Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_OFFTRANSITIONTIME, new ZclAttribute(this, ATTR_OFFTRANSITIONTIME, "Off Transition Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_DEFAULTMOVERATE, new ZclAttribute(this, ATTR_DEFAULTMOVERATE, "Default Move Rate", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_STARTUPCURRENTLEVEL, new ZclAttribute(this, ATTR_STARTUPCURRENTLEVEL, "Start Up Current Level", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-
-        return attributeMap;
+        return new ZclAttributeMap(this, serverAttributeDescriptors);
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeClientCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
-
-        commandMap.put(0x0000, MoveToLevelCommand.class);
-        commandMap.put(0x0001, MoveCommand.class);
-        commandMap.put(0x0002, StepCommand.class);
-        commandMap.put(0x0003, StopCommand.class);
-        commandMap.put(0x0004, MoveToLevelWithOnOffCommand.class);
-        commandMap.put(0x0005, MoveWithOnOffCommand.class);
-        commandMap.put(0x0006, StepWithOnOffCommand.class);
-        commandMap.put(0x0007, StopWithOnOffCommand.class);
-
-        return commandMap;
+    protected Map<Integer, ZclCommandFactory> getClientCommandConstructors() {
+        return clientCommandConstructors;
     }
 
     /**
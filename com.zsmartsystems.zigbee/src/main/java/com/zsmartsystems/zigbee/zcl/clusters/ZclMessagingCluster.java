@@ -8,6 +8,7 @@
 package com.zsmartsystems.zigbee.zcl.clusters;
 
 import java.util.Calendar;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
@@ -18,7 +19,7 @@ import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
-import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.ZclCommandFactory;
 import com.zsmartsystems.zigbee.zcl.clusters.messaging.CancelAllMessages;
 import com.zsmartsystems.zigbee.zcl.clusters.messaging.CancelAllMessagesCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.messaging.CancelMessageCommand;
@@ -53,42 +54,46 @@ public class ZclMessagingCluster extends ZclCluster {
      */
     public static final String CLUSTER_NAME = "Messaging";
 
+    /**
+     * Map of the server side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> serverCommandConstructors = new HashMap<>();
+
+    /**
+     * Map of the client side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> clientCommandConstructors = new HashMap<>();
+
+    static {
+        serverCommandConstructors.put(0x0000, GetLastMessage::new);
+        serverCommandConstructors.put(0x0001, MessageConfirmation::new);
+        serverCommandConstructors.put(0x0002, GetMessageCancellation::new);
+        serverCommandConstructors.put(0x0003, CancelAllMessages::new);
+
+        clientCommandConstructors.put(0x0000, DisplayMessageCommand::new);
+        clientCommandConstructors.put(0x0001, CancelMessageCommand::new);
+        clientCommandConstructors.put(0x0002, DisplayProtectedMessageCommand::new);
+        clientCommandConstructors.put(0x0003, CancelAllMessagesCommand::new);
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+        return new ConcurrentSkipListMap<>();
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+        return new ConcurrentSkipListMap<>();
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeServerCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
-
-        commandMap.put(0x0000, GetLastMessage.class);
-        commandMap.put(0x0001, MessageConfirmation.class);
-        commandMap.put(0x0002, GetMessageCancellation.class);
-        commandMap.put(0x0003, CancelAllMessages.class);
-
-        return commandMap;
+    protected Map<Integer, ZclCommandFactory> getServerCommandConstructors() {
+        return serverCommandConstructors;
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeClientCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
-
-        commandMap.put(0x0000, DisplayMessageCommand.class);
-        commandMap.put(0x0001, CancelMessageCommand.class);
-        commandMap.put(0x0002, DisplayProtectedMessageCommand.class);
-        commandMap.put(0x0003, CancelAllMessagesCommand.class);
-
-        return commandMap;
+    protected Map<Integer, ZclCommandFactory> getClientCommandConstructors() {
+        return clientCommandConstructors;
     }
 
     /**
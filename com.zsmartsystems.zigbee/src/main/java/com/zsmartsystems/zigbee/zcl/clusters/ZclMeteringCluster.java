@@ -8,8 +8,9 @@
 package com.zsmartsystems.zigbee.zcl.clusters;
 
 import java.util.Calendar;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.TreeMap;
 import java.util.concurrent.Future;
 
 import javax.annotation.Generated;
@@ -17,8 +18,10 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDescriptor;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeMap;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
-import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.ZclCommandFactory;
 import com.zsmartsystems.zigbee.zcl.clusters.metering.ChangeSupply;
 import com.zsmartsystems.zigbee.zcl.clusters.metering.ConfigureMirror;
 import com.zsmartsystems.zigbee.zcl.clusters.metering.ConfigureNotificationFlags;
@@ -2648,933 +2651,949 @@ public class ZclMeteringCluster extends ZclCluster {
     public static final int ATTR_PREVIOUSMONTH12ALTERNATIVECONSUMPTIONRECEIVED = 0x0C59;
     public static final int ATTR_PREVIOUSMONTH13ALTERNATIVECONSUMPTIONRECEIVED = 0x0C5B;
 
+    /**
+     * Map of the client side attribute descriptors defined by the cluster, indexed by attribute ID
+     */
+    private static Map<Integer, ZclAttributeDescriptor> clientAttributeDescriptors = new TreeMap<>();
+
+    /**
+     * Map of the server side attribute descriptors defined by the cluster, indexed by attribute ID
+     */
+    private static Map<Integer, ZclAttributeDescriptor> serverAttributeDescriptors = new TreeMap<>();
+
+    static {
+        clientAttributeDescriptors.put(ATTR_FUNCTIONALNOTIFICATIONFLAGS, new ZclAttributeDescriptor(ATTR_FUNCTIONALNOTIFICATIONFLAGS, "Functional Notification Flags", ZclDataType.BITMAP_32_BIT, true, true, false, false));
+        clientAttributeDescriptors.put(ATTR_NOTIFICATIONFLAGS2, new ZclAttributeDescriptor(ATTR_NOTIFICATIONFLAGS2, "Notification Flags 2", ZclDataType.BITMAP_32_BIT, true, true, false, false));
+        clientAttributeDescriptors.put(ATTR_NOTIFICATIONFLAGS3, new ZclAttributeDescriptor(ATTR_NOTIFICATIONFLAGS3, "Notification Flags 3", ZclDataType.BITMAP_32_BIT, true, true, false, false));
+        clientAttributeDescriptors.put(ATTR_NOTIFICATIONFLAGS4, new ZclAttributeDescriptor(ATTR_NOTIFICATIONFLAGS4, "Notification Flags 4", ZclDataType.BITMAP_32_BIT, true, true, false, false));
+        clientAttributeDescriptors.put(ATTR_NOTIFICATIONFLAGS5, new ZclAttributeDescriptor(ATTR_NOTIFICATIONFLAGS5, "Notification Flags 5", ZclDataType.BITMAP_32_BIT, true, true, false, false));
+        clientAttributeDescriptors.put(ATTR_NOTIFICATIONFLAGS6, new ZclAttributeDescriptor(ATTR_NOTIFICATIONFLAGS6, "Notification Flags 6", ZclDataType.BITMAP_32_BIT, true, true, false, false));
+        clientAttributeDescriptors.put(ATTR_NOTIFICATIONFLAGS7, new ZclAttributeDescriptor(ATTR_NOTIFICATIONFLAGS7, "Notification Flags 7", ZclDataType.BITMAP_32_BIT, true, true, false, false));
+        clientAttributeDescriptors.put(ATTR_NOTIFICATIONFLAGS8, new ZclAttributeDescriptor(ATTR_NOTIFICATIONFLAGS8, "Notification Flags 8", ZclDataType.BITMAP_32_BIT, true, true, false, false));
+
+        serverAttributeDescriptors.put(ATTR_CURRENTSUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTSUMMATIONDELIVERED, "Current Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTSUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTSUMMATIONRECEIVED, "Current Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTMAXDEMANDDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTMAXDEMANDDELIVERED, "Current Max Demand Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTMAXDEMANDRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTMAXDEMANDRECEIVED, "Current Max Demand Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DFTSUMMATION, new ZclAttributeDescriptor(ATTR_DFTSUMMATION, "Dft Summation", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DAILYFREEZETIME, new ZclAttributeDescriptor(ATTR_DAILYFREEZETIME, "Daily Freeze Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_POWERFACTOR, new ZclAttributeDescriptor(ATTR_POWERFACTOR, "Power Factor", ZclDataType.SIGNED_8_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_READINGSNAPSHOTTIME, new ZclAttributeDescriptor(ATTR_READINGSNAPSHOTTIME, "Reading Snapshot Time", ZclDataType.UTCTIME, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTMAXDEMANDDELIVEREDTIME, new ZclAttributeDescriptor(ATTR_CURRENTMAXDEMANDDELIVEREDTIME, "Current Max Demand Delivered Time", ZclDataType.UTCTIME, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTMAXDEMANDRECEIVEDTIME, new ZclAttributeDescriptor(ATTR_CURRENTMAXDEMANDRECEIVEDTIME, "Current Max Demand Received Time", ZclDataType.UTCTIME, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEFAULTUPDATEPERIOD, new ZclAttributeDescriptor(ATTR_DEFAULTUPDATEPERIOD, "Default Update Period", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_FASTPOLLUPDATEPERIOD, new ZclAttributeDescriptor(ATTR_FASTPOLLUPDATEPERIOD, "Fast Poll Update Period", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTBLOCKPERIODCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTBLOCKPERIODCONSUMPTIONDELIVERED, "Current Block Period Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DAILYCONSUMPTIONTARGET, new ZclAttributeDescriptor(ATTR_DAILYCONSUMPTIONTARGET, "Daily Consumption Target", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTBLOCK, new ZclAttributeDescriptor(ATTR_CURRENTBLOCK, "Current Block", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PROFILEINTERVALPERIOD, new ZclAttributeDescriptor(ATTR_PROFILEINTERVALPERIOD, "Profile Interval Period", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_INTERVALREADREPORTINGPERIOD, new ZclAttributeDescriptor(ATTR_INTERVALREADREPORTINGPERIOD, "Interval Read Reporting Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PRESETREADINGTIME, new ZclAttributeDescriptor(ATTR_PRESETREADINGTIME, "Preset Reading Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_VOLUMEPERREPORT, new ZclAttributeDescriptor(ATTR_VOLUMEPERREPORT, "Volume Per Report", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_FLOWRESTRICTION, new ZclAttributeDescriptor(ATTR_FLOWRESTRICTION, "Flow Restriction", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_SUPPLYSTATUS, new ZclAttributeDescriptor(ATTR_SUPPLYSTATUS, "Supply Status", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTINLETENERGYCARRIERSUMMATION, new ZclAttributeDescriptor(ATTR_CURRENTINLETENERGYCARRIERSUMMATION, "Current Inlet Energy Carrier Summation", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTOUTLETENERGYCARRIERSUMMATION, new ZclAttributeDescriptor(ATTR_CURRENTOUTLETENERGYCARRIERSUMMATION, "Current Outlet Energy Carrier Summation", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_INLETTEMPERATURE, new ZclAttributeDescriptor(ATTR_INLETTEMPERATURE, "Inlet Temperature", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_OUTLETTEMPERATURE, new ZclAttributeDescriptor(ATTR_OUTLETTEMPERATURE, "Outlet Temperature", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CONTROLTEMPERATURE, new ZclAttributeDescriptor(ATTR_CONTROLTEMPERATURE, "Control Temperature", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTINLETENERGYCARRIERDEMAND, new ZclAttributeDescriptor(ATTR_CURRENTINLETENERGYCARRIERDEMAND, "Current Inlet Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTOUTLETENERGYCARRIERDEMAND, new ZclAttributeDescriptor(ATTR_CURRENTOUTLETENERGYCARRIERDEMAND, "Current Outlet Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSBLOCKPERIODCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSBLOCKPERIODCONSUMPTIONDELIVERED, "Previous Block Period Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTBLOCKPERIODCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTBLOCKPERIODCONSUMPTIONRECEIVED, "Current Block Period Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTBLOCKRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTBLOCKRECEIVED, "Current Block Received", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DFTSUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_DFTSUMMATIONRECEIVED, "Dft Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ACTIVEREGISTERTIERDELIVERED, new ZclAttributeDescriptor(ATTR_ACTIVEREGISTERTIERDELIVERED, "Active Register Tier Delivered", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ACTIVEREGISTERTIERRECEIVED, new ZclAttributeDescriptor(ATTR_ACTIVEREGISTERTIERRECEIVED, "Active Register Tier Received", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_LASTBLOCKSWITCHTIME, new ZclAttributeDescriptor(ATTR_LASTBLOCKSWITCHTIME, "Last Block Switch Time", ZclDataType.UTCTIME, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1SUMMATIONDELIVERED, "Current Tier 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2SUMMATIONDELIVERED, "Current Tier 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3SUMMATIONDELIVERED, "Current Tier 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4SUMMATIONDELIVERED, "Current Tier 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5SUMMATIONDELIVERED, "Current Tier 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6SUMMATIONDELIVERED, "Current Tier 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7SUMMATIONDELIVERED, "Current Tier 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8SUMMATIONDELIVERED, "Current Tier 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9SUMMATIONDELIVERED, "Current Tier 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10SUMMATIONDELIVERED, "Current Tier 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11SUMMATIONDELIVERED, "Current Tier 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12SUMMATIONDELIVERED, "Current Tier 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13SUMMATIONDELIVERED, "Current Tier 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14SUMMATIONDELIVERED, "Current Tier 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15SUMMATIONDELIVERED, "Current Tier 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER16SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER16SUMMATIONDELIVERED, "Current Tier 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER17SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER17SUMMATIONDELIVERED, "Current Tier 17 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER18SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER18SUMMATIONDELIVERED, "Current Tier 18 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER19SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER19SUMMATIONDELIVERED, "Current Tier 19 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER20SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER20SUMMATIONDELIVERED, "Current Tier 20 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER21SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER21SUMMATIONDELIVERED, "Current Tier 21 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER22SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER22SUMMATIONDELIVERED, "Current Tier 22 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER23SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER23SUMMATIONDELIVERED, "Current Tier 23 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER24SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER24SUMMATIONDELIVERED, "Current Tier 24 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER25SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER25SUMMATIONDELIVERED, "Current Tier 25 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER26SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER26SUMMATIONDELIVERED, "Current Tier 26 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER27SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER27SUMMATIONDELIVERED, "Current Tier 27 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER28SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER28SUMMATIONDELIVERED, "Current Tier 28 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER29SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER29SUMMATIONDELIVERED, "Current Tier 29 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER30SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER30SUMMATIONDELIVERED, "Current Tier 30 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER31SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER31SUMMATIONDELIVERED, "Current Tier 31 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER32SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER32SUMMATIONDELIVERED, "Current Tier 32 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER33SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER33SUMMATIONDELIVERED, "Current Tier 33 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER34SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER34SUMMATIONDELIVERED, "Current Tier 34 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER35SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER35SUMMATIONDELIVERED, "Current Tier 35 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER36SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER36SUMMATIONDELIVERED, "Current Tier 36 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER37SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER37SUMMATIONDELIVERED, "Current Tier 37 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER38SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER38SUMMATIONDELIVERED, "Current Tier 38 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER39SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER39SUMMATIONDELIVERED, "Current Tier 39 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER40SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER40SUMMATIONDELIVERED, "Current Tier 40 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER41SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER41SUMMATIONDELIVERED, "Current Tier 41 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER42SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER42SUMMATIONDELIVERED, "Current Tier 42 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER43SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER43SUMMATIONDELIVERED, "Current Tier 43 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER44SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER44SUMMATIONDELIVERED, "Current Tier 44 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER45SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER45SUMMATIONDELIVERED, "Current Tier 45 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER46SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER46SUMMATIONDELIVERED, "Current Tier 46 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER47SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER47SUMMATIONDELIVERED, "Current Tier 47 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER48SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER48SUMMATIONDELIVERED, "Current Tier 48 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1SUMMATIONRECEIVED, "Current Tier 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2SUMMATIONRECEIVED, "Current Tier 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3SUMMATIONRECEIVED, "Current Tier 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4SUMMATIONRECEIVED, "Current Tier 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5SUMMATIONRECEIVED, "Current Tier 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6SUMMATIONRECEIVED, "Current Tier 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7SUMMATIONRECEIVED, "Current Tier 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8SUMMATIONRECEIVED, "Current Tier 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9SUMMATIONRECEIVED, "Current Tier 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10SUMMATIONRECEIVED, "Current Tier 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11SUMMATIONRECEIVED, "Current Tier 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12SUMMATIONRECEIVED, "Current Tier 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13SUMMATIONRECEIVED, "Current Tier 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14SUMMATIONRECEIVED, "Current Tier 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15SUMMATIONRECEIVED, "Current Tier 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER16SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER16SUMMATIONRECEIVED, "Current Tier 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER17SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER17SUMMATIONRECEIVED, "Current Tier 17 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER18SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER18SUMMATIONRECEIVED, "Current Tier 18 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER19SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER19SUMMATIONRECEIVED, "Current Tier 19 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER20SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER20SUMMATIONRECEIVED, "Current Tier 20 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER21SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER21SUMMATIONRECEIVED, "Current Tier 21 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER22SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER22SUMMATIONRECEIVED, "Current Tier 22 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER23SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER23SUMMATIONRECEIVED, "Current Tier 23 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER24SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER24SUMMATIONRECEIVED, "Current Tier 24 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER25SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER25SUMMATIONRECEIVED, "Current Tier 25 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER26SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER26SUMMATIONRECEIVED, "Current Tier 26 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER27SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER27SUMMATIONRECEIVED, "Current Tier 27 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER28SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER28SUMMATIONRECEIVED, "Current Tier 28 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER29SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER29SUMMATIONRECEIVED, "Current Tier 29 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER30SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER30SUMMATIONRECEIVED, "Current Tier 30 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER31SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER31SUMMATIONRECEIVED, "Current Tier 31 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER32SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER32SUMMATIONRECEIVED, "Current Tier 32 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER33SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER33SUMMATIONRECEIVED, "Current Tier 33 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER34SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER34SUMMATIONRECEIVED, "Current Tier 34 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER35SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER35SUMMATIONRECEIVED, "Current Tier 35 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER36SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER36SUMMATIONRECEIVED, "Current Tier 36 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER37SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER37SUMMATIONRECEIVED, "Current Tier 37 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER38SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER38SUMMATIONRECEIVED, "Current Tier 38 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER39SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER39SUMMATIONRECEIVED, "Current Tier 39 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER40SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER40SUMMATIONRECEIVED, "Current Tier 40 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER41SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER41SUMMATIONRECEIVED, "Current Tier 41 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER42SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER42SUMMATIONRECEIVED, "Current Tier 42 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER43SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER43SUMMATIONRECEIVED, "Current Tier 43 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER44SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER44SUMMATIONRECEIVED, "Current Tier 44 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER45SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER45SUMMATIONRECEIVED, "Current Tier 45 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER46SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER46SUMMATIONRECEIVED, "Current Tier 46 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER47SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER47SUMMATIONRECEIVED, "Current Tier 47 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER48SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER48SUMMATIONRECEIVED, "Current Tier 48 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CPP1SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CPP1SUMMATIONDELIVERED, "CPP 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CPP2SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CPP2SUMMATIONDELIVERED, "CPP 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_STATUS, new ZclAttributeDescriptor(ATTR_STATUS, "Status", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_REMAININGBATTERYLIFE, new ZclAttributeDescriptor(ATTR_REMAININGBATTERYLIFE, "Remaining Battery Life", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_HOURSINOPERATION, new ZclAttributeDescriptor(ATTR_HOURSINOPERATION, "Hours In Operation", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_HOURSINFAULT, new ZclAttributeDescriptor(ATTR_HOURSINFAULT, "Hours In Fault", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_EXTENDEDSTATUS, new ZclAttributeDescriptor(ATTR_EXTENDEDSTATUS, "Extended Status", ZclDataType.BITMAP_64_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_REMAININGBATTERYLIFEINDAYS, new ZclAttributeDescriptor(ATTR_REMAININGBATTERYLIFEINDAYS, "Remaining Battery Life In Days", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTMETERID, new ZclAttributeDescriptor(ATTR_CURRENTMETERID, "Current Meter ID", ZclDataType.OCTET_STRING, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_AMBIENTCONSUMPTIONINDICATOR, new ZclAttributeDescriptor(ATTR_AMBIENTCONSUMPTIONINDICATOR, "Ambient Consumption Indicator", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_UNITOFMEASURE, new ZclAttributeDescriptor(ATTR_UNITOFMEASURE, "Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_MULTIPLIER, new ZclAttributeDescriptor(ATTR_MULTIPLIER, "Multiplier", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DIVISOR, new ZclAttributeDescriptor(ATTR_DIVISOR, "Divisor", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_SUMMATIONFORMATTING, new ZclAttributeDescriptor(ATTR_SUMMATIONFORMATTING, "Summation Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEMANDFORMATTING, new ZclAttributeDescriptor(ATTR_DEMANDFORMATTING, "Demand Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_HISTORICALCONSUMPTIONFORMATTING, new ZclAttributeDescriptor(ATTR_HISTORICALCONSUMPTIONFORMATTING, "Historical Consumption Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_METERINGDEVICETYPE, new ZclAttributeDescriptor(ATTR_METERINGDEVICETYPE, "Metering Device Type", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_SITEID, new ZclAttributeDescriptor(ATTR_SITEID, "Site ID", ZclDataType.OCTET_STRING, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_METERSERIALNUMBER, new ZclAttributeDescriptor(ATTR_METERSERIALNUMBER, "Meter Serial Number", ZclDataType.OCTET_STRING, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ENERGYCARRIERUNITOFMEASURE, new ZclAttributeDescriptor(ATTR_ENERGYCARRIERUNITOFMEASURE, "Energy Carrier Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ENERGYCARRIERSUMMATIONFORMATTING, new ZclAttributeDescriptor(ATTR_ENERGYCARRIERSUMMATIONFORMATTING, "Energy Carrier Summation Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ENERGYCARRIERDEMANDFORMATTING, new ZclAttributeDescriptor(ATTR_ENERGYCARRIERDEMANDFORMATTING, "Energy Carrier Demand Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_TEMPERATUREUNITOFMEASURE, new ZclAttributeDescriptor(ATTR_TEMPERATUREUNITOFMEASURE, "Temperature Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_TEMPERATUREFORMATTING, new ZclAttributeDescriptor(ATTR_TEMPERATUREFORMATTING, "Temperature Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_MODULESERIALNUMBER, new ZclAttributeDescriptor(ATTR_MODULESERIALNUMBER, "Module Serial Number", ZclDataType.OCTET_STRING, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_OPERATINGTARIFFLABELDELIVERED, new ZclAttributeDescriptor(ATTR_OPERATINGTARIFFLABELDELIVERED, "Operating Tariff Label Delivered", ZclDataType.OCTET_STRING, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_OPERATINGTARIFFLABELRECEIVED, new ZclAttributeDescriptor(ATTR_OPERATINGTARIFFLABELRECEIVED, "Operating Tariff Label Received", ZclDataType.OCTET_STRING, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CUSTOMERIDNUMBER, new ZclAttributeDescriptor(ATTR_CUSTOMERIDNUMBER, "Customer ID Number", ZclDataType.OCTET_STRING, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ALTERNATIVEUNITOFMEASURE, new ZclAttributeDescriptor(ATTR_ALTERNATIVEUNITOFMEASURE, "Alternative Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ALTERNATIVEDEMANDFORMATTING, new ZclAttributeDescriptor(ATTR_ALTERNATIVEDEMANDFORMATTING, "Alternative Demand Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ALTERNATIVECONSUMPTIONFORMATTING, new ZclAttributeDescriptor(ATTR_ALTERNATIVECONSUMPTIONFORMATTING, "Alternative Consumption Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_INSTANTANEOUSDEMAND, new ZclAttributeDescriptor(ATTR_INSTANTANEOUSDEMAND, "Instantaneous Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTDAYCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTDAYCONSUMPTIONDELIVERED, "Current Day Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTDAYCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTDAYCONSUMPTIONRECEIVED, "Current Day Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAYCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAYCONSUMPTIONDELIVERED, "Previous Day Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAYCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAYCONSUMPTIONRECEIVED, "Previous Day Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMEDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMEDELIVERED, "Current Partial Profile Interval Start Time Delivered", ZclDataType.UTCTIME, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMERECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMERECEIVED, "Current Partial Profile Interval Start Time Received", ZclDataType.UTCTIME, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTPARTIALPROFILEINTERVALVALUEDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTPARTIALPROFILEINTERVALVALUEDELIVERED, "Current Partial Profile Interval Value Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTPARTIALPROFILEINTERVALVALUERECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTPARTIALPROFILEINTERVALVALUERECEIVED, "Current Partial Profile Interval Value Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTDAYMAXPRESSURE, new ZclAttributeDescriptor(ATTR_CURRENTDAYMAXPRESSURE, "Current Day Max Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTDAYMINPRESSURE, new ZclAttributeDescriptor(ATTR_CURRENTDAYMINPRESSURE, "Current Day Min Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAYMAXPRESSURE, new ZclAttributeDescriptor(ATTR_PREVIOUSDAYMAXPRESSURE, "Previous Day Max Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAYMINPRESSURE, new ZclAttributeDescriptor(ATTR_PREVIOUSDAYMINPRESSURE, "Previous Day Min Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTDAYMAXDEMAND, new ZclAttributeDescriptor(ATTR_CURRENTDAYMAXDEMAND, "Current Day Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAYMAXDEMAND, new ZclAttributeDescriptor(ATTR_PREVIOUSDAYMAXDEMAND, "Previous Day Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTMONTHMAXDEMAND, new ZclAttributeDescriptor(ATTR_CURRENTMONTHMAXDEMAND, "Current Month Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTYEARMAXDEMAND, new ZclAttributeDescriptor(ATTR_CURRENTYEARMAXDEMAND, "Current Year Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTDAYMAXENERGYCARRIERDEMAND, new ZclAttributeDescriptor(ATTR_CURRENTDAYMAXENERGYCARRIERDEMAND, "Current Day Max Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAYMAXENERGYCARRIERDEMAND, new ZclAttributeDescriptor(ATTR_PREVIOUSDAYMAXENERGYCARRIERDEMAND, "Previous Day Max Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTMONTHMAXENERGYCARRIERDEMAND, new ZclAttributeDescriptor(ATTR_CURRENTMONTHMAXENERGYCARRIERDEMAND, "Current Month Max Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTMONTHMINENERGYCARRIERDEMAND, new ZclAttributeDescriptor(ATTR_CURRENTMONTHMINENERGYCARRIERDEMAND, "Current Month Min Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTYEARMAXENERGYCARRIERDEMAND, new ZclAttributeDescriptor(ATTR_CURRENTYEARMAXENERGYCARRIERDEMAND, "Current Year Max Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTYEARMINENERGYCARRIERDEMAND, new ZclAttributeDescriptor(ATTR_CURRENTYEARMINENERGYCARRIERDEMAND, "Current Year Min Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY2CONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY2CONSUMPTIONDELIVERED, "Previous Day 2 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY3CONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY3CONSUMPTIONDELIVERED, "Previous Day 3 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY4CONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY4CONSUMPTIONDELIVERED, "Previous Day 4 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY5CONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY5CONSUMPTIONDELIVERED, "Previous Day 5 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY6CONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY6CONSUMPTIONDELIVERED, "Previous Day 6 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY7CONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY7CONSUMPTIONDELIVERED, "Previous Day 7 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY8CONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY8CONSUMPTIONDELIVERED, "Previous Day 8 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY9CONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY9CONSUMPTIONDELIVERED, "Previous Day 9 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY2CONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY2CONSUMPTIONRECEIVED, "Previous Day 2 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY3CONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY3CONSUMPTIONRECEIVED, "Previous Day 3 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY4CONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY4CONSUMPTIONRECEIVED, "Previous Day 4 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY5CONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY5CONSUMPTIONRECEIVED, "Previous Day 5 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY6CONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY6CONSUMPTIONRECEIVED, "Previous Day 6 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY7CONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY7CONSUMPTIONRECEIVED, "Previous Day 7 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY8CONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY8CONSUMPTIONRECEIVED, "Previous Day 8 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY9CONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY9CONSUMPTIONRECEIVED, "Previous Day 9 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTWEEKCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTWEEKCONSUMPTIONDELIVERED, "Current Week Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTWEEKCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTWEEKCONSUMPTIONRECEIVED, "Current Week Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEK1CONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEK1CONSUMPTIONDELIVERED, "Previous Week 1 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEK2CONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEK2CONSUMPTIONDELIVERED, "Previous Week 2 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEK3CONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEK3CONSUMPTIONDELIVERED, "Previous Week 3 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEK4CONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEK4CONSUMPTIONDELIVERED, "Previous Week 4 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEK5CONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEK5CONSUMPTIONDELIVERED, "Previous Week 5 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEK1CONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEK1CONSUMPTIONRECEIVED, "Previous Week 1 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEK2CONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEK2CONSUMPTIONRECEIVED, "Previous Week 2 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEK3CONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEK3CONSUMPTIONRECEIVED, "Previous Week 3 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEK4CONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEK4CONSUMPTIONRECEIVED, "Previous Week 4 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEK5CONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEK5CONSUMPTIONRECEIVED, "Previous Week 5 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTMONTHCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTMONTHCONSUMPTIONDELIVERED, "Current Month Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTMONTHCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTMONTHCONSUMPTIONRECEIVED, "Current Month Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH1CONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH1CONSUMPTIONDELIVERED, "Previous Month 1 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH2CONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH2CONSUMPTIONDELIVERED, "Previous Month 2 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH3CONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH3CONSUMPTIONDELIVERED, "Previous Month 3 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH4CONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH4CONSUMPTIONDELIVERED, "Previous Month 4 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH5CONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH5CONSUMPTIONDELIVERED, "Previous Month 5 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH6CONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH6CONSUMPTIONDELIVERED, "Previous Month 6 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH7CONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH7CONSUMPTIONDELIVERED, "Previous Month 7 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH8CONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH8CONSUMPTIONDELIVERED, "Previous Month 8 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH9CONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH9CONSUMPTIONDELIVERED, "Previous Month 9 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH10CONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH10CONSUMPTIONDELIVERED, "Previous Month 10 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH11CONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH11CONSUMPTIONDELIVERED, "Previous Month 11 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH12CONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH12CONSUMPTIONDELIVERED, "Previous Month 12 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH13CONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH13CONSUMPTIONDELIVERED, "Previous Month 13 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH1CONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH1CONSUMPTIONRECEIVED, "Previous Month 1 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH2CONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH2CONSUMPTIONRECEIVED, "Previous Month 2 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH3CONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH3CONSUMPTIONRECEIVED, "Previous Month 3 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH4CONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH4CONSUMPTIONRECEIVED, "Previous Month 4 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH5CONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH5CONSUMPTIONRECEIVED, "Previous Month 5 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH6CONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH6CONSUMPTIONRECEIVED, "Previous Month 6 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH7CONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH7CONSUMPTIONRECEIVED, "Previous Month 7 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH8CONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH8CONSUMPTIONRECEIVED, "Previous Month 8 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH9CONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH9CONSUMPTIONRECEIVED, "Previous Month 9 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH10CONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH10CONSUMPTIONRECEIVED, "Previous Month 10 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH11CONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH11CONSUMPTIONRECEIVED, "Previous Month 11 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH12CONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH12CONSUMPTIONRECEIVED, "Previous Month 12 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH13CONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH13CONSUMPTIONRECEIVED, "Previous Month 13 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_HISTORICALFREEZETIME, new ZclAttributeDescriptor(ATTR_HISTORICALFREEZETIME, "Historical Freeze Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_MAXNUMBEROFPERIODSDELIVERED, new ZclAttributeDescriptor(ATTR_MAXNUMBEROFPERIODSDELIVERED, "Max Number Of Periods Delivered", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTDEMANDDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTDEMANDDELIVERED, "Current Demand Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEMANDLIMIT, new ZclAttributeDescriptor(ATTR_DEMANDLIMIT, "Demand Limit", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEMANDINTEGRATIONPERIOD, new ZclAttributeDescriptor(ATTR_DEMANDINTEGRATIONPERIOD, "Demand Integration Period", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_NUMBEROFDEMANDSUBINTERVALS, new ZclAttributeDescriptor(ATTR_NUMBEROFDEMANDSUBINTERVALS, "Number Of Demand Subintervals", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEMANDLIMITARMDURATION, new ZclAttributeDescriptor(ATTR_DEMANDLIMITARMDURATION, "Demand Limit Arm Duration", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_LOADLIMITSUPPLYSTATE, new ZclAttributeDescriptor(ATTR_LOADLIMITSUPPLYSTATE, "Load Limit Supply State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_LOADLIMITCOUNTER, new ZclAttributeDescriptor(ATTR_LOADLIMITCOUNTER, "Load Limit Counter", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_SUPPLYTAMPERSTATE, new ZclAttributeDescriptor(ATTR_SUPPLYTAMPERSTATE, "Supply Tamper State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_SUPPLYDEPLETIONSTATE, new ZclAttributeDescriptor(ATTR_SUPPLYDEPLETIONSTATE, "Supply Depletion State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_SUPPLYUNCONTROLLEDFLOWSTATE, new ZclAttributeDescriptor(ATTR_SUPPLYUNCONTROLLEDFLOWSTATE, "Supply Uncontrolled Flow State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK1SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK1SUMMATIONDELIVERED, "Current No Tier Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK2SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK2SUMMATIONDELIVERED, "Current No Tier Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK3SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK3SUMMATIONDELIVERED, "Current No Tier Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK4SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK4SUMMATIONDELIVERED, "Current No Tier Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK5SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK5SUMMATIONDELIVERED, "Current No Tier Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK6SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK6SUMMATIONDELIVERED, "Current No Tier Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK7SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK7SUMMATIONDELIVERED, "Current No Tier Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK8SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK8SUMMATIONDELIVERED, "Current No Tier Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK9SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK9SUMMATIONDELIVERED, "Current No Tier Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK10SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK10SUMMATIONDELIVERED, "Current No Tier Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK11SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK11SUMMATIONDELIVERED, "Current No Tier Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK12SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK12SUMMATIONDELIVERED, "Current No Tier Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK13SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK13SUMMATIONDELIVERED, "Current No Tier Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK14SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK14SUMMATIONDELIVERED, "Current No Tier Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK15SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK15SUMMATIONDELIVERED, "Current No Tier Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK16SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK16SUMMATIONDELIVERED, "Current No Tier Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK1SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK1SUMMATIONDELIVERED, "Current Tier 1 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK2SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK2SUMMATIONDELIVERED, "Current Tier 1 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK3SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK3SUMMATIONDELIVERED, "Current Tier 1 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK4SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK4SUMMATIONDELIVERED, "Current Tier 1 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK5SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK5SUMMATIONDELIVERED, "Current Tier 1 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK6SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK6SUMMATIONDELIVERED, "Current Tier 1 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK7SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK7SUMMATIONDELIVERED, "Current Tier 1 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK8SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK8SUMMATIONDELIVERED, "Current Tier 1 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK9SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK9SUMMATIONDELIVERED, "Current Tier 1 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK10SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK10SUMMATIONDELIVERED, "Current Tier 1 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK11SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK11SUMMATIONDELIVERED, "Current Tier 1 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK12SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK12SUMMATIONDELIVERED, "Current Tier 1 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK13SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK13SUMMATIONDELIVERED, "Current Tier 1 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK14SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK14SUMMATIONDELIVERED, "Current Tier 1 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK15SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK15SUMMATIONDELIVERED, "Current Tier 1 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK16SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK16SUMMATIONDELIVERED, "Current Tier 1 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK1SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK1SUMMATIONDELIVERED, "Current Tier 2 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK2SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK2SUMMATIONDELIVERED, "Current Tier 2 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK3SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK3SUMMATIONDELIVERED, "Current Tier 2 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK4SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK4SUMMATIONDELIVERED, "Current Tier 2 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK5SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK5SUMMATIONDELIVERED, "Current Tier 2 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK6SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK6SUMMATIONDELIVERED, "Current Tier 2 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK7SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK7SUMMATIONDELIVERED, "Current Tier 2 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK8SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK8SUMMATIONDELIVERED, "Current Tier 2 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK9SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK9SUMMATIONDELIVERED, "Current Tier 2 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK10SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK10SUMMATIONDELIVERED, "Current Tier 2 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK11SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK11SUMMATIONDELIVERED, "Current Tier 2 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK12SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK12SUMMATIONDELIVERED, "Current Tier 2 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK13SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK13SUMMATIONDELIVERED, "Current Tier 2 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK14SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK14SUMMATIONDELIVERED, "Current Tier 2 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK15SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK15SUMMATIONDELIVERED, "Current Tier 2 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK16SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK16SUMMATIONDELIVERED, "Current Tier 2 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK1SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK1SUMMATIONDELIVERED, "Current Tier 3 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK2SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK2SUMMATIONDELIVERED, "Current Tier 3 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK3SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK3SUMMATIONDELIVERED, "Current Tier 3 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK4SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK4SUMMATIONDELIVERED, "Current Tier 3 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK5SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK5SUMMATIONDELIVERED, "Current Tier 3 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK6SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK6SUMMATIONDELIVERED, "Current Tier 3 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK7SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK7SUMMATIONDELIVERED, "Current Tier 3 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK8SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK8SUMMATIONDELIVERED, "Current Tier 3 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK9SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK9SUMMATIONDELIVERED, "Current Tier 3 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK10SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK10SUMMATIONDELIVERED, "Current Tier 3 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK11SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK11SUMMATIONDELIVERED, "Current Tier 3 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK12SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK12SUMMATIONDELIVERED, "Current Tier 3 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK13SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK13SUMMATIONDELIVERED, "Current Tier 3 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK14SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK14SUMMATIONDELIVERED, "Current Tier 3 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK15SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK15SUMMATIONDELIVERED, "Current Tier 3 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK16SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK16SUMMATIONDELIVERED, "Current Tier 3 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK1SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK1SUMMATIONDELIVERED, "Current Tier 4 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK2SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK2SUMMATIONDELIVERED, "Current Tier 4 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK3SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK3SUMMATIONDELIVERED, "Current Tier 4 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK4SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK4SUMMATIONDELIVERED, "Current Tier 4 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK5SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK5SUMMATIONDELIVERED, "Current Tier 4 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK6SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK6SUMMATIONDELIVERED, "Current Tier 4 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK7SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK7SUMMATIONDELIVERED, "Current Tier 4 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK8SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK8SUMMATIONDELIVERED, "Current Tier 4 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK9SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK9SUMMATIONDELIVERED, "Current Tier 4 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK10SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK10SUMMATIONDELIVERED, "Current Tier 4 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK11SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK11SUMMATIONDELIVERED, "Current Tier 4 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK12SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK12SUMMATIONDELIVERED, "Current Tier 4 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK13SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK13SUMMATIONDELIVERED, "Current Tier 4 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK14SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK14SUMMATIONDELIVERED, "Current Tier 4 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK15SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK15SUMMATIONDELIVERED, "Current Tier 4 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK16SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK16SUMMATIONDELIVERED, "Current Tier 4 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK1SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK1SUMMATIONDELIVERED, "Current Tier 5 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK2SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK2SUMMATIONDELIVERED, "Current Tier 5 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK3SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK3SUMMATIONDELIVERED, "Current Tier 5 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK4SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK4SUMMATIONDELIVERED, "Current Tier 5 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK5SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK5SUMMATIONDELIVERED, "Current Tier 5 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK6SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK6SUMMATIONDELIVERED, "Current Tier 5 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK7SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK7SUMMATIONDELIVERED, "Current Tier 5 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK8SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK8SUMMATIONDELIVERED, "Current Tier 5 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK9SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK9SUMMATIONDELIVERED, "Current Tier 5 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK10SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK10SUMMATIONDELIVERED, "Current Tier 5 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK11SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK11SUMMATIONDELIVERED, "Current Tier 5 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK12SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK12SUMMATIONDELIVERED, "Current Tier 5 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK13SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK13SUMMATIONDELIVERED, "Current Tier 5 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK14SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK14SUMMATIONDELIVERED, "Current Tier 5 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK15SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK15SUMMATIONDELIVERED, "Current Tier 5 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK16SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK16SUMMATIONDELIVERED, "Current Tier 5 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK1SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK1SUMMATIONDELIVERED, "Current Tier 6 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK2SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK2SUMMATIONDELIVERED, "Current Tier 6 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK3SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK3SUMMATIONDELIVERED, "Current Tier 6 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK4SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK4SUMMATIONDELIVERED, "Current Tier 6 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK5SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK5SUMMATIONDELIVERED, "Current Tier 6 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK6SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK6SUMMATIONDELIVERED, "Current Tier 6 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK7SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK7SUMMATIONDELIVERED, "Current Tier 6 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK8SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK8SUMMATIONDELIVERED, "Current Tier 6 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK9SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK9SUMMATIONDELIVERED, "Current Tier 6 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK10SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK10SUMMATIONDELIVERED, "Current Tier 6 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK11SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK11SUMMATIONDELIVERED, "Current Tier 6 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK12SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK12SUMMATIONDELIVERED, "Current Tier 6 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK13SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK13SUMMATIONDELIVERED, "Current Tier 6 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK14SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK14SUMMATIONDELIVERED, "Current Tier 6 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK15SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK15SUMMATIONDELIVERED, "Current Tier 6 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK16SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK16SUMMATIONDELIVERED, "Current Tier 6 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK1SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK1SUMMATIONDELIVERED, "Current Tier 7 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK2SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK2SUMMATIONDELIVERED, "Current Tier 7 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK3SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK3SUMMATIONDELIVERED, "Current Tier 7 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK4SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK4SUMMATIONDELIVERED, "Current Tier 7 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK5SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK5SUMMATIONDELIVERED, "Current Tier 7 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK6SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK6SUMMATIONDELIVERED, "Current Tier 7 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK7SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK7SUMMATIONDELIVERED, "Current Tier 7 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK8SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK8SUMMATIONDELIVERED, "Current Tier 7 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK9SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK9SUMMATIONDELIVERED, "Current Tier 7 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK10SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK10SUMMATIONDELIVERED, "Current Tier 7 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK11SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK11SUMMATIONDELIVERED, "Current Tier 7 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK12SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK12SUMMATIONDELIVERED, "Current Tier 7 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK13SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK13SUMMATIONDELIVERED, "Current Tier 7 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK14SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK14SUMMATIONDELIVERED, "Current Tier 7 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK15SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK15SUMMATIONDELIVERED, "Current Tier 7 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK16SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK16SUMMATIONDELIVERED, "Current Tier 7 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK1SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK1SUMMATIONDELIVERED, "Current Tier 8 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK2SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK2SUMMATIONDELIVERED, "Current Tier 8 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK3SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK3SUMMATIONDELIVERED, "Current Tier 8 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK4SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK4SUMMATIONDELIVERED, "Current Tier 8 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK5SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK5SUMMATIONDELIVERED, "Current Tier 8 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK6SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK6SUMMATIONDELIVERED, "Current Tier 8 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK7SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK7SUMMATIONDELIVERED, "Current Tier 8 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK8SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK8SUMMATIONDELIVERED, "Current Tier 8 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK9SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK9SUMMATIONDELIVERED, "Current Tier 8 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK10SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK10SUMMATIONDELIVERED, "Current Tier 8 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK11SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK11SUMMATIONDELIVERED, "Current Tier 8 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK12SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK12SUMMATIONDELIVERED, "Current Tier 8 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK13SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK13SUMMATIONDELIVERED, "Current Tier 8 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK14SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK14SUMMATIONDELIVERED, "Current Tier 8 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK15SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK15SUMMATIONDELIVERED, "Current Tier 8 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK16SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK16SUMMATIONDELIVERED, "Current Tier 8 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK1SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK1SUMMATIONDELIVERED, "Current Tier 9 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK2SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK2SUMMATIONDELIVERED, "Current Tier 9 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK3SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK3SUMMATIONDELIVERED, "Current Tier 9 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK4SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK4SUMMATIONDELIVERED, "Current Tier 9 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK5SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK5SUMMATIONDELIVERED, "Current Tier 9 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK6SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK6SUMMATIONDELIVERED, "Current Tier 9 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK7SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK7SUMMATIONDELIVERED, "Current Tier 9 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK8SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK8SUMMATIONDELIVERED, "Current Tier 9 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK9SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK9SUMMATIONDELIVERED, "Current Tier 9 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK10SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK10SUMMATIONDELIVERED, "Current Tier 9 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK11SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK11SUMMATIONDELIVERED, "Current Tier 9 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK12SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK12SUMMATIONDELIVERED, "Current Tier 9 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK13SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK13SUMMATIONDELIVERED, "Current Tier 9 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK14SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK14SUMMATIONDELIVERED, "Current Tier 9 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK15SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK15SUMMATIONDELIVERED, "Current Tier 9 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK16SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK16SUMMATIONDELIVERED, "Current Tier 9 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK1SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK1SUMMATIONDELIVERED, "Current Tier 10 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK2SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK2SUMMATIONDELIVERED, "Current Tier 10 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK3SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK3SUMMATIONDELIVERED, "Current Tier 10 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK4SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK4SUMMATIONDELIVERED, "Current Tier 10 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK5SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK5SUMMATIONDELIVERED, "Current Tier 10 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK6SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK6SUMMATIONDELIVERED, "Current Tier 10 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK7SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK7SUMMATIONDELIVERED, "Current Tier 10 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK8SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK8SUMMATIONDELIVERED, "Current Tier 10 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK9SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK9SUMMATIONDELIVERED, "Current Tier 10 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK10SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK10SUMMATIONDELIVERED, "Current Tier 10 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK11SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK11SUMMATIONDELIVERED, "Current Tier 10 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK12SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK12SUMMATIONDELIVERED, "Current Tier 10 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK13SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK13SUMMATIONDELIVERED, "Current Tier 10 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK14SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK14SUMMATIONDELIVERED, "Current Tier 10 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK15SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK15SUMMATIONDELIVERED, "Current Tier 10 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK16SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK16SUMMATIONDELIVERED, "Current Tier 10 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK1SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK1SUMMATIONDELIVERED, "Current Tier 11 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK2SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK2SUMMATIONDELIVERED, "Current Tier 11 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK3SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK3SUMMATIONDELIVERED, "Current Tier 11 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK4SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK4SUMMATIONDELIVERED, "Current Tier 11 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK5SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK5SUMMATIONDELIVERED, "Current Tier 11 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK6SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK6SUMMATIONDELIVERED, "Current Tier 11 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK7SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK7SUMMATIONDELIVERED, "Current Tier 11 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK8SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK8SUMMATIONDELIVERED, "Current Tier 11 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK9SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK9SUMMATIONDELIVERED, "Current Tier 11 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK10SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK10SUMMATIONDELIVERED, "Current Tier 11 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK11SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK11SUMMATIONDELIVERED, "Current Tier 11 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK12SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK12SUMMATIONDELIVERED, "Current Tier 11 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK13SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK13SUMMATIONDELIVERED, "Current Tier 11 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK14SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK14SUMMATIONDELIVERED, "Current Tier 11 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK15SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK15SUMMATIONDELIVERED, "Current Tier 11 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK16SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK16SUMMATIONDELIVERED, "Current Tier 11 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK1SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK1SUMMATIONDELIVERED, "Current Tier 12 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK2SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK2SUMMATIONDELIVERED, "Current Tier 12 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK3SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK3SUMMATIONDELIVERED, "Current Tier 12 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK4SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK4SUMMATIONDELIVERED, "Current Tier 12 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK5SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK5SUMMATIONDELIVERED, "Current Tier 12 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK6SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK6SUMMATIONDELIVERED, "Current Tier 12 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK7SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK7SUMMATIONDELIVERED, "Current Tier 12 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK8SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK8SUMMATIONDELIVERED, "Current Tier 12 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK9SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK9SUMMATIONDELIVERED, "Current Tier 12 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK10SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK10SUMMATIONDELIVERED, "Current Tier 12 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK11SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK11SUMMATIONDELIVERED, "Current Tier 12 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK12SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK12SUMMATIONDELIVERED, "Current Tier 12 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK13SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK13SUMMATIONDELIVERED, "Current Tier 12 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK14SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK14SUMMATIONDELIVERED, "Current Tier 12 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK15SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK15SUMMATIONDELIVERED, "Current Tier 12 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK16SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK16SUMMATIONDELIVERED, "Current Tier 12 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK1SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK1SUMMATIONDELIVERED, "Current Tier 13 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK2SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK2SUMMATIONDELIVERED, "Current Tier 13 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK3SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK3SUMMATIONDELIVERED, "Current Tier 13 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK4SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK4SUMMATIONDELIVERED, "Current Tier 13 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK5SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK5SUMMATIONDELIVERED, "Current Tier 13 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK6SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK6SUMMATIONDELIVERED, "Current Tier 13 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK7SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK7SUMMATIONDELIVERED, "Current Tier 13 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK8SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK8SUMMATIONDELIVERED, "Current Tier 13 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK9SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK9SUMMATIONDELIVERED, "Current Tier 13 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK10SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK10SUMMATIONDELIVERED, "Current Tier 13 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK11SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK11SUMMATIONDELIVERED, "Current Tier 13 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK12SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK12SUMMATIONDELIVERED, "Current Tier 13 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK13SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK13SUMMATIONDELIVERED, "Current Tier 13 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK14SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK14SUMMATIONDELIVERED, "Current Tier 13 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK15SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK15SUMMATIONDELIVERED, "Current Tier 13 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK16SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK16SUMMATIONDELIVERED, "Current Tier 13 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK1SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK1SUMMATIONDELIVERED, "Current Tier 14 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK2SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK2SUMMATIONDELIVERED, "Current Tier 14 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK3SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK3SUMMATIONDELIVERED, "Current Tier 14 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK4SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK4SUMMATIONDELIVERED, "Current Tier 14 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK5SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK5SUMMATIONDELIVERED, "Current Tier 14 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK6SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK6SUMMATIONDELIVERED, "Current Tier 14 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK7SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK7SUMMATIONDELIVERED, "Current Tier 14 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK8SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK8SUMMATIONDELIVERED, "Current Tier 14 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK9SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK9SUMMATIONDELIVERED, "Current Tier 14 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK10SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK10SUMMATIONDELIVERED, "Current Tier 14 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK11SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK11SUMMATIONDELIVERED, "Current Tier 14 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK12SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK12SUMMATIONDELIVERED, "Current Tier 14 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK13SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK13SUMMATIONDELIVERED, "Current Tier 14 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK14SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK14SUMMATIONDELIVERED, "Current Tier 14 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK15SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK15SUMMATIONDELIVERED, "Current Tier 14 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK16SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK16SUMMATIONDELIVERED, "Current Tier 14 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK1SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK1SUMMATIONDELIVERED, "Current Tier 15 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK2SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK2SUMMATIONDELIVERED, "Current Tier 15 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK3SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK3SUMMATIONDELIVERED, "Current Tier 15 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK4SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK4SUMMATIONDELIVERED, "Current Tier 15 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK5SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK5SUMMATIONDELIVERED, "Current Tier 15 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK6SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK6SUMMATIONDELIVERED, "Current Tier 15 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK7SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK7SUMMATIONDELIVERED, "Current Tier 15 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK8SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK8SUMMATIONDELIVERED, "Current Tier 15 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK9SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK9SUMMATIONDELIVERED, "Current Tier 15 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK10SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK10SUMMATIONDELIVERED, "Current Tier 15 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK11SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK11SUMMATIONDELIVERED, "Current Tier 15 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK12SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK12SUMMATIONDELIVERED, "Current Tier 15 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK13SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK13SUMMATIONDELIVERED, "Current Tier 15 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK14SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK14SUMMATIONDELIVERED, "Current Tier 15 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK15SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK15SUMMATIONDELIVERED, "Current Tier 15 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK16SUMMATIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK16SUMMATIONDELIVERED, "Current Tier 15 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_GENERICALARMMASK, new ZclAttributeDescriptor(ATTR_GENERICALARMMASK, "Generic Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_ELECTRICITYALARMMASK, new ZclAttributeDescriptor(ATTR_ELECTRICITYALARMMASK, "Electricity Alarm Mask", ZclDataType.BITMAP_32_BIT, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_GENERICFLOWPRESSUREALARMMASK, new ZclAttributeDescriptor(ATTR_GENERICFLOWPRESSUREALARMMASK, "Generic Flow /pressure Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_WATERSPECIFICALARMMASK, new ZclAttributeDescriptor(ATTR_WATERSPECIFICALARMMASK, "Water Specific Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_HEATANDCOOLINGSPECIFICALARMMASK, new ZclAttributeDescriptor(ATTR_HEATANDCOOLINGSPECIFICALARMMASK, "Heat And Cooling Specific Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_GASSPECIFICALARMMASK, new ZclAttributeDescriptor(ATTR_GASSPECIFICALARMMASK, "Gas Specific Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_EXTENDEDGENERICALARMMASK, new ZclAttributeDescriptor(ATTR_EXTENDEDGENERICALARMMASK, "Extended Generic Alarm Mask", ZclDataType.BITMAP_48_BIT, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_MANUFACTUREALARMMASK, new ZclAttributeDescriptor(ATTR_MANUFACTUREALARMMASK, "Manufacture Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK1SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK1SUMMATIONRECEIVED, "Current No Tier Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK2SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK2SUMMATIONRECEIVED, "Current No Tier Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK3SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK3SUMMATIONRECEIVED, "Current No Tier Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK4SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK4SUMMATIONRECEIVED, "Current No Tier Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK5SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK5SUMMATIONRECEIVED, "Current No Tier Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK6SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK6SUMMATIONRECEIVED, "Current No Tier Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK7SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK7SUMMATIONRECEIVED, "Current No Tier Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK8SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK8SUMMATIONRECEIVED, "Current No Tier Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK9SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK9SUMMATIONRECEIVED, "Current No Tier Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK10SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK10SUMMATIONRECEIVED, "Current No Tier Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK11SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK11SUMMATIONRECEIVED, "Current No Tier Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK12SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK12SUMMATIONRECEIVED, "Current No Tier Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK13SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK13SUMMATIONRECEIVED, "Current No Tier Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK14SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK14SUMMATIONRECEIVED, "Current No Tier Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK15SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK15SUMMATIONRECEIVED, "Current No Tier Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTNOTIERBLOCK16SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTNOTIERBLOCK16SUMMATIONRECEIVED, "Current No Tier Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK1SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK1SUMMATIONRECEIVED, "Current Tier 1 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK2SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK2SUMMATIONRECEIVED, "Current Tier 1 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK3SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK3SUMMATIONRECEIVED, "Current Tier 1 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK4SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK4SUMMATIONRECEIVED, "Current Tier 1 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK5SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK5SUMMATIONRECEIVED, "Current Tier 1 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK6SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK6SUMMATIONRECEIVED, "Current Tier 1 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK7SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK7SUMMATIONRECEIVED, "Current Tier 1 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK8SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK8SUMMATIONRECEIVED, "Current Tier 1 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK9SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK9SUMMATIONRECEIVED, "Current Tier 1 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK10SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK10SUMMATIONRECEIVED, "Current Tier 1 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK11SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK11SUMMATIONRECEIVED, "Current Tier 1 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK12SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK12SUMMATIONRECEIVED, "Current Tier 1 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK13SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK13SUMMATIONRECEIVED, "Current Tier 1 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK14SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK14SUMMATIONRECEIVED, "Current Tier 1 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK15SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK15SUMMATIONRECEIVED, "Current Tier 1 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER1BLOCK16SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER1BLOCK16SUMMATIONRECEIVED, "Current Tier 1 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK1SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK1SUMMATIONRECEIVED, "Current Tier 2 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK2SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK2SUMMATIONRECEIVED, "Current Tier 2 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK3SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK3SUMMATIONRECEIVED, "Current Tier 2 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK4SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK4SUMMATIONRECEIVED, "Current Tier 2 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK5SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK5SUMMATIONRECEIVED, "Current Tier 2 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK6SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK6SUMMATIONRECEIVED, "Current Tier 2 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK7SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK7SUMMATIONRECEIVED, "Current Tier 2 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK8SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK8SUMMATIONRECEIVED, "Current Tier 2 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK9SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK9SUMMATIONRECEIVED, "Current Tier 2 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK10SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK10SUMMATIONRECEIVED, "Current Tier 2 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK11SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK11SUMMATIONRECEIVED, "Current Tier 2 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK12SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK12SUMMATIONRECEIVED, "Current Tier 2 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK13SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK13SUMMATIONRECEIVED, "Current Tier 2 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK14SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK14SUMMATIONRECEIVED, "Current Tier 2 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK15SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK15SUMMATIONRECEIVED, "Current Tier 2 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER2BLOCK16SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER2BLOCK16SUMMATIONRECEIVED, "Current Tier 2 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK1SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK1SUMMATIONRECEIVED, "Current Tier 3 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK2SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK2SUMMATIONRECEIVED, "Current Tier 3 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK3SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK3SUMMATIONRECEIVED, "Current Tier 3 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK4SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK4SUMMATIONRECEIVED, "Current Tier 3 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK5SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK5SUMMATIONRECEIVED, "Current Tier 3 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK6SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK6SUMMATIONRECEIVED, "Current Tier 3 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK7SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK7SUMMATIONRECEIVED, "Current Tier 3 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK8SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK8SUMMATIONRECEIVED, "Current Tier 3 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK9SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK9SUMMATIONRECEIVED, "Current Tier 3 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK10SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK10SUMMATIONRECEIVED, "Current Tier 3 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK11SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK11SUMMATIONRECEIVED, "Current Tier 3 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK12SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK12SUMMATIONRECEIVED, "Current Tier 3 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK13SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK13SUMMATIONRECEIVED, "Current Tier 3 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK14SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK14SUMMATIONRECEIVED, "Current Tier 3 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK15SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK15SUMMATIONRECEIVED, "Current Tier 3 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER3BLOCK16SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER3BLOCK16SUMMATIONRECEIVED, "Current Tier 3 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK1SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK1SUMMATIONRECEIVED, "Current Tier 4 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK2SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK2SUMMATIONRECEIVED, "Current Tier 4 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK3SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK3SUMMATIONRECEIVED, "Current Tier 4 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK4SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK4SUMMATIONRECEIVED, "Current Tier 4 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK5SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK5SUMMATIONRECEIVED, "Current Tier 4 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK6SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK6SUMMATIONRECEIVED, "Current Tier 4 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK7SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK7SUMMATIONRECEIVED, "Current Tier 4 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK8SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK8SUMMATIONRECEIVED, "Current Tier 4 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK9SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK9SUMMATIONRECEIVED, "Current Tier 4 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK10SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK10SUMMATIONRECEIVED, "Current Tier 4 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK11SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK11SUMMATIONRECEIVED, "Current Tier 4 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK12SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK12SUMMATIONRECEIVED, "Current Tier 4 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK13SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK13SUMMATIONRECEIVED, "Current Tier 4 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK14SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK14SUMMATIONRECEIVED, "Current Tier 4 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK15SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK15SUMMATIONRECEIVED, "Current Tier 4 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER4BLOCK16SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER4BLOCK16SUMMATIONRECEIVED, "Current Tier 4 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK1SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK1SUMMATIONRECEIVED, "Current Tier 5 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK2SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK2SUMMATIONRECEIVED, "Current Tier 5 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK3SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK3SUMMATIONRECEIVED, "Current Tier 5 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK4SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK4SUMMATIONRECEIVED, "Current Tier 5 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK5SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK5SUMMATIONRECEIVED, "Current Tier 5 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK6SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK6SUMMATIONRECEIVED, "Current Tier 5 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK7SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK7SUMMATIONRECEIVED, "Current Tier 5 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK8SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK8SUMMATIONRECEIVED, "Current Tier 5 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK9SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK9SUMMATIONRECEIVED, "Current Tier 5 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK10SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK10SUMMATIONRECEIVED, "Current Tier 5 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK11SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK11SUMMATIONRECEIVED, "Current Tier 5 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK12SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK12SUMMATIONRECEIVED, "Current Tier 5 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK13SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK13SUMMATIONRECEIVED, "Current Tier 5 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK14SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK14SUMMATIONRECEIVED, "Current Tier 5 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK15SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK15SUMMATIONRECEIVED, "Current Tier 5 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER5BLOCK16SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER5BLOCK16SUMMATIONRECEIVED, "Current Tier 5 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK1SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK1SUMMATIONRECEIVED, "Current Tier 6 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK2SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK2SUMMATIONRECEIVED, "Current Tier 6 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK3SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK3SUMMATIONRECEIVED, "Current Tier 6 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK4SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK4SUMMATIONRECEIVED, "Current Tier 6 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK5SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK5SUMMATIONRECEIVED, "Current Tier 6 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK6SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK6SUMMATIONRECEIVED, "Current Tier 6 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK7SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK7SUMMATIONRECEIVED, "Current Tier 6 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK8SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK8SUMMATIONRECEIVED, "Current Tier 6 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK9SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK9SUMMATIONRECEIVED, "Current Tier 6 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK10SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK10SUMMATIONRECEIVED, "Current Tier 6 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK11SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK11SUMMATIONRECEIVED, "Current Tier 6 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK12SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK12SUMMATIONRECEIVED, "Current Tier 6 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK13SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK13SUMMATIONRECEIVED, "Current Tier 6 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK14SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK14SUMMATIONRECEIVED, "Current Tier 6 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK15SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK15SUMMATIONRECEIVED, "Current Tier 6 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER6BLOCK16SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER6BLOCK16SUMMATIONRECEIVED, "Current Tier 6 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK1SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK1SUMMATIONRECEIVED, "Current Tier 7 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK2SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK2SUMMATIONRECEIVED, "Current Tier 7 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK3SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK3SUMMATIONRECEIVED, "Current Tier 7 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK4SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK4SUMMATIONRECEIVED, "Current Tier 7 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK5SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK5SUMMATIONRECEIVED, "Current Tier 7 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK6SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK6SUMMATIONRECEIVED, "Current Tier 7 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK7SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK7SUMMATIONRECEIVED, "Current Tier 7 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK8SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK8SUMMATIONRECEIVED, "Current Tier 7 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK9SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK9SUMMATIONRECEIVED, "Current Tier 7 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK10SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK10SUMMATIONRECEIVED, "Current Tier 7 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK11SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK11SUMMATIONRECEIVED, "Current Tier 7 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK12SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK12SUMMATIONRECEIVED, "Current Tier 7 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK13SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK13SUMMATIONRECEIVED, "Current Tier 7 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK14SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK14SUMMATIONRECEIVED, "Current Tier 7 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK15SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK15SUMMATIONRECEIVED, "Current Tier 7 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER7BLOCK16SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER7BLOCK16SUMMATIONRECEIVED, "Current Tier 7 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK1SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK1SUMMATIONRECEIVED, "Current Tier 8 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK2SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK2SUMMATIONRECEIVED, "Current Tier 8 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK3SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK3SUMMATIONRECEIVED, "Current Tier 8 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK4SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK4SUMMATIONRECEIVED, "Current Tier 8 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK5SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK5SUMMATIONRECEIVED, "Current Tier 8 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK6SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK6SUMMATIONRECEIVED, "Current Tier 8 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK7SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK7SUMMATIONRECEIVED, "Current Tier 8 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK8SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK8SUMMATIONRECEIVED, "Current Tier 8 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK9SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK9SUMMATIONRECEIVED, "Current Tier 8 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK10SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK10SUMMATIONRECEIVED, "Current Tier 8 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK11SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK11SUMMATIONRECEIVED, "Current Tier 8 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK12SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK12SUMMATIONRECEIVED, "Current Tier 8 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK13SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK13SUMMATIONRECEIVED, "Current Tier 8 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK14SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK14SUMMATIONRECEIVED, "Current Tier 8 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK15SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK15SUMMATIONRECEIVED, "Current Tier 8 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER8BLOCK16SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER8BLOCK16SUMMATIONRECEIVED, "Current Tier 8 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK1SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK1SUMMATIONRECEIVED, "Current Tier 9 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK2SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK2SUMMATIONRECEIVED, "Current Tier 9 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK3SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK3SUMMATIONRECEIVED, "Current Tier 9 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK4SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK4SUMMATIONRECEIVED, "Current Tier 9 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK5SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK5SUMMATIONRECEIVED, "Current Tier 9 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK6SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK6SUMMATIONRECEIVED, "Current Tier 9 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK7SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK7SUMMATIONRECEIVED, "Current Tier 9 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK8SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK8SUMMATIONRECEIVED, "Current Tier 9 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK9SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK9SUMMATIONRECEIVED, "Current Tier 9 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK10SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK10SUMMATIONRECEIVED, "Current Tier 9 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK11SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK11SUMMATIONRECEIVED, "Current Tier 9 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK12SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK12SUMMATIONRECEIVED, "Current Tier 9 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK13SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK13SUMMATIONRECEIVED, "Current Tier 9 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK14SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK14SUMMATIONRECEIVED, "Current Tier 9 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK15SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK15SUMMATIONRECEIVED, "Current Tier 9 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER9BLOCK16SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER9BLOCK16SUMMATIONRECEIVED, "Current Tier 9 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK1SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK1SUMMATIONRECEIVED, "Current Tier 10 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK2SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK2SUMMATIONRECEIVED, "Current Tier 10 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK3SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK3SUMMATIONRECEIVED, "Current Tier 10 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK4SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK4SUMMATIONRECEIVED, "Current Tier 10 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK5SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK5SUMMATIONRECEIVED, "Current Tier 10 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK6SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK6SUMMATIONRECEIVED, "Current Tier 10 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK7SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK7SUMMATIONRECEIVED, "Current Tier 10 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK8SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK8SUMMATIONRECEIVED, "Current Tier 10 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK9SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK9SUMMATIONRECEIVED, "Current Tier 10 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK10SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK10SUMMATIONRECEIVED, "Current Tier 10 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK11SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK11SUMMATIONRECEIVED, "Current Tier 10 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK12SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK12SUMMATIONRECEIVED, "Current Tier 10 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK13SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK13SUMMATIONRECEIVED, "Current Tier 10 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK14SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK14SUMMATIONRECEIVED, "Current Tier 10 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK15SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK15SUMMATIONRECEIVED, "Current Tier 10 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER10BLOCK16SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER10BLOCK16SUMMATIONRECEIVED, "Current Tier 10 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK1SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK1SUMMATIONRECEIVED, "Current Tier 11 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK2SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK2SUMMATIONRECEIVED, "Current Tier 11 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK3SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK3SUMMATIONRECEIVED, "Current Tier 11 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK4SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK4SUMMATIONRECEIVED, "Current Tier 11 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK5SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK5SUMMATIONRECEIVED, "Current Tier 11 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK6SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK6SUMMATIONRECEIVED, "Current Tier 11 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK7SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK7SUMMATIONRECEIVED, "Current Tier 11 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK8SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK8SUMMATIONRECEIVED, "Current Tier 11 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK9SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK9SUMMATIONRECEIVED, "Current Tier 11 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK10SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK10SUMMATIONRECEIVED, "Current Tier 11 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK11SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK11SUMMATIONRECEIVED, "Current Tier 11 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK12SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK12SUMMATIONRECEIVED, "Current Tier 11 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK13SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK13SUMMATIONRECEIVED, "Current Tier 11 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK14SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK14SUMMATIONRECEIVED, "Current Tier 11 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK15SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK15SUMMATIONRECEIVED, "Current Tier 11 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER11BLOCK16SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER11BLOCK16SUMMATIONRECEIVED, "Current Tier 11 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK1SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK1SUMMATIONRECEIVED, "Current Tier 12 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK2SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK2SUMMATIONRECEIVED, "Current Tier 12 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK3SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK3SUMMATIONRECEIVED, "Current Tier 12 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK4SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK4SUMMATIONRECEIVED, "Current Tier 12 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK5SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK5SUMMATIONRECEIVED, "Current Tier 12 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK6SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK6SUMMATIONRECEIVED, "Current Tier 12 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK7SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK7SUMMATIONRECEIVED, "Current Tier 12 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK8SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK8SUMMATIONRECEIVED, "Current Tier 12 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK9SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK9SUMMATIONRECEIVED, "Current Tier 12 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK10SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK10SUMMATIONRECEIVED, "Current Tier 12 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK11SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK11SUMMATIONRECEIVED, "Current Tier 12 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK12SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK12SUMMATIONRECEIVED, "Current Tier 12 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK13SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK13SUMMATIONRECEIVED, "Current Tier 12 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK14SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK14SUMMATIONRECEIVED, "Current Tier 12 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK15SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK15SUMMATIONRECEIVED, "Current Tier 12 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER12BLOCK16SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER12BLOCK16SUMMATIONRECEIVED, "Current Tier 12 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK1SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK1SUMMATIONRECEIVED, "Current Tier 13 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK2SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK2SUMMATIONRECEIVED, "Current Tier 13 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK3SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK3SUMMATIONRECEIVED, "Current Tier 13 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK4SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK4SUMMATIONRECEIVED, "Current Tier 13 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK5SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK5SUMMATIONRECEIVED, "Current Tier 13 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK6SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK6SUMMATIONRECEIVED, "Current Tier 13 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK7SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK7SUMMATIONRECEIVED, "Current Tier 13 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK8SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK8SUMMATIONRECEIVED, "Current Tier 13 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK9SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK9SUMMATIONRECEIVED, "Current Tier 13 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK10SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK10SUMMATIONRECEIVED, "Current Tier 13 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK11SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK11SUMMATIONRECEIVED, "Current Tier 13 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK12SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK12SUMMATIONRECEIVED, "Current Tier 13 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK13SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK13SUMMATIONRECEIVED, "Current Tier 13 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK14SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK14SUMMATIONRECEIVED, "Current Tier 13 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK15SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK15SUMMATIONRECEIVED, "Current Tier 13 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER13BLOCK16SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER13BLOCK16SUMMATIONRECEIVED, "Current Tier 13 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK1SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK1SUMMATIONRECEIVED, "Current Tier 14 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK2SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK2SUMMATIONRECEIVED, "Current Tier 14 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK3SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK3SUMMATIONRECEIVED, "Current Tier 14 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK4SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK4SUMMATIONRECEIVED, "Current Tier 14 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK5SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK5SUMMATIONRECEIVED, "Current Tier 14 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK6SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK6SUMMATIONRECEIVED, "Current Tier 14 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK7SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK7SUMMATIONRECEIVED, "Current Tier 14 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK8SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK8SUMMATIONRECEIVED, "Current Tier 14 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK9SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK9SUMMATIONRECEIVED, "Current Tier 14 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK10SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK10SUMMATIONRECEIVED, "Current Tier 14 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK11SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK11SUMMATIONRECEIVED, "Current Tier 14 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK12SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK12SUMMATIONRECEIVED, "Current Tier 14 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK13SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK13SUMMATIONRECEIVED, "Current Tier 14 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK14SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK14SUMMATIONRECEIVED, "Current Tier 14 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK15SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK15SUMMATIONRECEIVED, "Current Tier 14 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER14BLOCK16SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER14BLOCK16SUMMATIONRECEIVED, "Current Tier 14 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK1SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK1SUMMATIONRECEIVED, "Current Tier 15 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK2SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK2SUMMATIONRECEIVED, "Current Tier 15 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK3SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK3SUMMATIONRECEIVED, "Current Tier 15 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK4SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK4SUMMATIONRECEIVED, "Current Tier 15 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK5SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK5SUMMATIONRECEIVED, "Current Tier 15 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK6SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK6SUMMATIONRECEIVED, "Current Tier 15 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK7SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK7SUMMATIONRECEIVED, "Current Tier 15 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK8SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK8SUMMATIONRECEIVED, "Current Tier 15 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK9SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK9SUMMATIONRECEIVED, "Current Tier 15 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK10SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK10SUMMATIONRECEIVED, "Current Tier 15 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK11SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK11SUMMATIONRECEIVED, "Current Tier 15 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK12SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK12SUMMATIONRECEIVED, "Current Tier 15 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK13SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK13SUMMATIONRECEIVED, "Current Tier 15 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK14SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK14SUMMATIONRECEIVED, "Current Tier 15 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK15SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK15SUMMATIONRECEIVED, "Current Tier 15 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTTIER15BLOCK16SUMMATIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTTIER15BLOCK16SUMMATIONRECEIVED, "Current Tier 15 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_BILLTODATEDELIVERED, new ZclAttributeDescriptor(ATTR_BILLTODATEDELIVERED, "Bill To Date Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_BILLTODATETIMESTAMPDELIVERED, new ZclAttributeDescriptor(ATTR_BILLTODATETIMESTAMPDELIVERED, "Bill To Date Time Stamp Delivered", ZclDataType.UTCTIME, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PROJECTEDBILLDELIVERED, new ZclAttributeDescriptor(ATTR_PROJECTEDBILLDELIVERED, "Projected Bill Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PROJECTEDBILLTIMESTAMPDELIVERED, new ZclAttributeDescriptor(ATTR_PROJECTEDBILLTIMESTAMPDELIVERED, "Projected Bill Time Stamp Delivered", ZclDataType.UTCTIME, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_BILLDELIVEREDTRAILINGDIGIT, new ZclAttributeDescriptor(ATTR_BILLDELIVEREDTRAILINGDIGIT, "Bill Delivered Trailing Digit", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_BILLTODATERECEIVED, new ZclAttributeDescriptor(ATTR_BILLTODATERECEIVED, "Bill To Date Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_BILLTODATETIMESTAMPRECEIVED, new ZclAttributeDescriptor(ATTR_BILLTODATETIMESTAMPRECEIVED, "Bill To Date Time Stamp Received", ZclDataType.UTCTIME, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PROJECTEDBILLRECEIVED, new ZclAttributeDescriptor(ATTR_PROJECTEDBILLRECEIVED, "Projected Bill Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PROJECTEDBILLTIMESTAMPRECEIVED, new ZclAttributeDescriptor(ATTR_PROJECTEDBILLTIMESTAMPRECEIVED, "Projected Bill Time Stamp Received", ZclDataType.UTCTIME, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_BILLRECEIVEDTRAILINGDIGIT, new ZclAttributeDescriptor(ATTR_BILLRECEIVEDTRAILINGDIGIT, "Bill Received Trailing Digit", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PROPOSEDCHANGESUPPLYIMPLEMENTATIONTIME, new ZclAttributeDescriptor(ATTR_PROPOSEDCHANGESUPPLYIMPLEMENTATIONTIME, "Proposed Change Supply Implementation Time", ZclDataType.UTCTIME, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PROPOSEDCHANGESUPPLYSTATUS, new ZclAttributeDescriptor(ATTR_PROPOSEDCHANGESUPPLYSTATUS, "Proposed Change Supply Status", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_UNCONTROLLEDFLOWTHRESHOLD, new ZclAttributeDescriptor(ATTR_UNCONTROLLEDFLOWTHRESHOLD, "Uncontrolled Flow Threshold", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_UNCONTROLLEDFLOWTHRESHOLDUNITOFMEASURE, new ZclAttributeDescriptor(ATTR_UNCONTROLLEDFLOWTHRESHOLDUNITOFMEASURE, "Uncontrolled Flow Threshold Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_UNCONTROLLEDFLOWTHRESHOLDMULTIPLIER, new ZclAttributeDescriptor(ATTR_UNCONTROLLEDFLOWTHRESHOLDMULTIPLIER, "Uncontrolled Flow Threshold Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_UNCONTROLLEDFLOWTHRESHOLDDIVISOR, new ZclAttributeDescriptor(ATTR_UNCONTROLLEDFLOWTHRESHOLDDIVISOR, "Uncontrolled Flow Threshold Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_FLOWSTABILIZATIONPERIOD, new ZclAttributeDescriptor(ATTR_FLOWSTABILIZATIONPERIOD, "Flow Stabilization Period", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_FLOWMEASUREMENTPERIOD, new ZclAttributeDescriptor(ATTR_FLOWMEASUREMENTPERIOD, "Flow Measurement Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ALTERNATIVEINSTANTANEOUSDEMAND, new ZclAttributeDescriptor(ATTR_ALTERNATIVEINSTANTANEOUSDEMAND, "Alternative Instantaneous Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONDELIVERED, "Current Day Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONRECEIVED, "Current Day Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONDELIVERED, "Previous Day Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONRECEIVED, "Previous Day Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMEDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMEDELIVERED, "Current Alternative Partial Profile Interval Start Time Delivered", ZclDataType.UTCTIME, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMERECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMERECEIVED, "Current Alternative Partial Profile Interval Start Time Received", ZclDataType.UTCTIME, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUEDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUEDELIVERED, "Current Alternative Partial Profile Interval Value Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUERECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUERECEIVED, "Current Alternative Partial Profile Interval Value Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTDAYALTERNATIVEMAXPRESSURE, new ZclAttributeDescriptor(ATTR_CURRENTDAYALTERNATIVEMAXPRESSURE, "Current Day Alternative Max Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTDAYALTERNATIVEMINPRESSURE, new ZclAttributeDescriptor(ATTR_CURRENTDAYALTERNATIVEMINPRESSURE, "Current Day Alternative Min Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAYALTERNATIVEMAXPRESSURE, new ZclAttributeDescriptor(ATTR_PREVIOUSDAYALTERNATIVEMAXPRESSURE, "Previous Day Alternative Max Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAYALTERNATIVEMINPRESSURE, new ZclAttributeDescriptor(ATTR_PREVIOUSDAYALTERNATIVEMINPRESSURE, "Previous Day Alternative Min Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTDAYALTERNATIVEMAXDEMAND, new ZclAttributeDescriptor(ATTR_CURRENTDAYALTERNATIVEMAXDEMAND, "Current Day Alternative Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAYALTERNATIVEMAXDEMAND, new ZclAttributeDescriptor(ATTR_PREVIOUSDAYALTERNATIVEMAXDEMAND, "Previous Day Alternative Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTMONTHALTERNATIVEMAXDEMAND, new ZclAttributeDescriptor(ATTR_CURRENTMONTHALTERNATIVEMAXDEMAND, "Current Month Alternative Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTYEARALTERNATIVEMAXDEMAND, new ZclAttributeDescriptor(ATTR_CURRENTYEARALTERNATIVEMAXDEMAND, "Current Year Alternative Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 2 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY3ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY3ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 3 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY4ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY4ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 4 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY5ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY5ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 5 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY6ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY6ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 6 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY7ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY7ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 7 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 2 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY3ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY3ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 3 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY4ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY4ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 4 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY5ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY5ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 5 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY6ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY6ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 6 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY7ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY7ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 7 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONDELIVERED, "Current Week Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONRECEIVED, "Current Week Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 1 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEK2ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEK2ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 2 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEK3ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEK3ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 3 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEK4ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEK4ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 4 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEK5ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEK5ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 5 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 1 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEK2ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEK2ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 2 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEK3ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEK3ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 3 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEK4ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEK4ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 4 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEK5ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEK5ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 5 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONDELIVERED, "Current Month Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONRECEIVED, "Current Month Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 1 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH2ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH2ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 2 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH3ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH3ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 3 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH4ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH4ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 4 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH5ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH5ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 5 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH6ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH6ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 6 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH7ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH7ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 7 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH8ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH8ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 8 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH9ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH9ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 9 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH10ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH10ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 10 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH11ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH11ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 11 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH12ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH12ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 12 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH13ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH13ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 13 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 1 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH2ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH2ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 2 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH3ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH3ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 3 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH4ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH4ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 4 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH5ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH5ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 5 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH6ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH6ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 6 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH7ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH7ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 7 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH8ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH8ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 8 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH9ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH9ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 9 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH10ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH10ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 10 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH11ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH11ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 11 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH12ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH12ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 12 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH13ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH13ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 13 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+    }
+
+    /**
+     * Map of the server side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> serverCommandConstructors = new HashMap<>();
+
+    /**
+     * Map of the client side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> clientCommandConstructors = new HashMap<>();
+
+    static {
+        serverCommandConstructors.put(0x0000, GetProfileResponse::new);
+        serverCommandConstructors.put(0x0001, RequestMirror::new);
+        serverCommandConstructors.put(0x0002, RemoveMirror::new);
+        serverCommandConstructors.put(0x0003, RequestFastPollModeResponse::new);
+        serverCommandConstructors.put(0x0004, ScheduleSnapshotResponse::new);
+        serverCommandConstructors.put(0x0005, TakeSnapshotResponse::new);
+        serverCommandConstructors.put(0x0006, PublishSnapshot::new);
+        serverCommandConstructors.put(0x0007, GetSampledDataResponse::new);
+        serverCommandConstructors.put(0x0008, ConfigureMirror::new);
+        serverCommandConstructors.put(0x0009, ConfigureNotificationScheme::new);
+        serverCommandConstructors.put(0x000A, ConfigureNotificationFlags::new);
+        serverCommandConstructors.put(0x000B, GetNotifiedMessage::new);
+        serverCommandConstructors.put(0x000C, SupplyStatusResponse::new);
+        serverCommandConstructors.put(0x000D, StartSamplingResponse::new);
+
+        clientCommandConstructors.put(0x0000, GetProfile::new);
+        clientCommandConstructors.put(0x0001, RequestMirrorResponse::new);
+        clientCommandConstructors.put(0x0002, MirrorRemoved::new);
+        clientCommandConstructors.put(0x0003, RequestFastPollMode::new);
+        clientCommandConstructors.put(0x0004, ScheduleSnapshot::new);
+        clientCommandConstructors.put(0x0005, TakeSnapshot::new);
+        clientCommandConstructors.put(0x0006, GetSnapshot::new);
+        clientCommandConstructors.put(0x0007, StartSampling::new);
+        clientCommandConstructors.put(0x0008, GetSampledData::new);
+        clientCommandConstructors.put(0x0009, MirrorReportAttributeResponse::new);
+        clientCommandConstructors.put(0x000A, ResetLoadLimitCounter::new);
+        clientCommandConstructors.put(0x000B, ChangeSupply::new);
+        clientCommandConstructors.put(0x000C, LocalChangeSupply::new);
+        clientCommandConstructors.put(0x000D, SetSupplyStatus::new);
+        clientCommandConstructors.put(0x000E, SetUncontrolledFlowThreshold::new);
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_FUNCTIONALNOTIFICATIONFLAGS, new ZclAttribute(this, ATTR_FUNCTIONALNOTIFICATIONFLAGS, "Functional Notification Flags", ZclDataType.BITMAP_32_BIT, true, true, false, false));
-        attributeMap.put(ATTR_NOTIFICATIONFLAGS2, new ZclAttribute(this, ATTR_NOTIFICATIONFLAGS2, "Notification Flags 2", ZclDataType.BITMAP_32_BIT, true, true, false, false));
-        attributeMap.put(ATTR_NOTIFICATIONFLAGS3, new ZclAttribute(this, ATTR_NOTIFICATIONFLAGS3, "Notification Flags 3", ZclDataType.BITMAP_32_BIT, true, true, false, false));
-        attributeMap.put(ATTR_NOTIFICATIONFLAGS4, new ZclAttribute(this, ATTR_NOTIFICATIONFLAGS4, "Notification Flags 4", ZclDataType.BITMAP_32_BIT, true, true, false, false));
-        attributeMap.put(ATTR_NOTIFICATIONFLAGS5, new ZclAttribute(this, ATTR_NOTIFICATIONFLAGS5, "Notification Flags 5", ZclDataType.BITMAP_32_BIT, true, true, false, false));
-        attributeMap.put(ATTR_NOTIFICATIONFLAGS6, new ZclAttribute(this, ATTR_NOTIFICATIONFLAGS6, "Notification Flags 6", ZclDataType.BITMAP_32_BIT, true, true, false, false));
-        attributeMap.put(ATTR_NOTIFICATIONFLAGS7, new ZclAttribute(this, ATTR_NOTIFICATIONFLAGS7, "Notification Flags 7", ZclDataType.BITMAP_32_BIT, true, true, false, false));
-        attributeMap.put(ATTR_NOTIFICATIONFLAGS8, new ZclAttribute(this, ATTR_NOTIFICATIONFLAGS8, "Notification Flags 8", ZclDataType.BITMAP_32_BIT, true, true, false, false));
-
-        return attributeMap;
+        return new ZclAttributeMap(this, clientAttributeDescriptors);
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_CURRENTSUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTSUMMATIONDELIVERED, "Current Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTSUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTSUMMATIONRECEIVED, "Current Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTMAXDEMANDDELIVERED, new ZclAttribute(this, ATTR_CURRENTMAXDEMANDDELIVERED, "Current Max Demand Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTMAXDEMANDRECEIVED, new ZclAttribute(this, ATTR_CURRENTMAXDEMANDRECEIVED, "Current Max Demand Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_DFTSUMMATION, new ZclAttribute(this, ATTR_DFTSUMMATION, "Dft Summation", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_DAILYFREEZETIME, new ZclAttribute(this, ATTR_DAILYFREEZETIME, "Daily Freeze Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_POWERFACTOR, new ZclAttribute(this, ATTR_POWERFACTOR, "Power Factor", ZclDataType.SIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_READINGSNAPSHOTTIME, new ZclAttribute(this, ATTR_READINGSNAPSHOTTIME, "Reading Snapshot Time", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMAXDEMANDDELIVEREDTIME, new ZclAttribute(this, ATTR_CURRENTMAXDEMANDDELIVEREDTIME, "Current Max Demand Delivered Time", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMAXDEMANDRECEIVEDTIME, new ZclAttribute(this, ATTR_CURRENTMAXDEMANDRECEIVEDTIME, "Current Max Demand Received Time", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_DEFAULTUPDATEPERIOD, new ZclAttribute(this, ATTR_DEFAULTUPDATEPERIOD, "Default Update Period", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_FASTPOLLUPDATEPERIOD, new ZclAttribute(this, ATTR_FASTPOLLUPDATEPERIOD, "Fast Poll Update Period", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTBLOCKPERIODCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTBLOCKPERIODCONSUMPTIONDELIVERED, "Current Block Period Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_DAILYCONSUMPTIONTARGET, new ZclAttribute(this, ATTR_DAILYCONSUMPTIONTARGET, "Daily Consumption Target", ZclDataType.UNSIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTBLOCK, new ZclAttribute(this, ATTR_CURRENTBLOCK, "Current Block", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_PROFILEINTERVALPERIOD, new ZclAttribute(this, ATTR_PROFILEINTERVALPERIOD, "Profile Interval Period", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_INTERVALREADREPORTINGPERIOD, new ZclAttribute(this, ATTR_INTERVALREADREPORTINGPERIOD, "Interval Read Reporting Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PRESETREADINGTIME, new ZclAttribute(this, ATTR_PRESETREADINGTIME, "Preset Reading Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_VOLUMEPERREPORT, new ZclAttribute(this, ATTR_VOLUMEPERREPORT, "Volume Per Report", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_FLOWRESTRICTION, new ZclAttribute(this, ATTR_FLOWRESTRICTION, "Flow Restriction", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_SUPPLYSTATUS, new ZclAttribute(this, ATTR_SUPPLYSTATUS, "Supply Status", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTINLETENERGYCARRIERSUMMATION, new ZclAttribute(this, ATTR_CURRENTINLETENERGYCARRIERSUMMATION, "Current Inlet Energy Carrier Summation", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTOUTLETENERGYCARRIERSUMMATION, new ZclAttribute(this, ATTR_CURRENTOUTLETENERGYCARRIERSUMMATION, "Current Outlet Energy Carrier Summation", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_INLETTEMPERATURE, new ZclAttribute(this, ATTR_INLETTEMPERATURE, "Inlet Temperature", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_OUTLETTEMPERATURE, new ZclAttribute(this, ATTR_OUTLETTEMPERATURE, "Outlet Temperature", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CONTROLTEMPERATURE, new ZclAttribute(this, ATTR_CONTROLTEMPERATURE, "Control Temperature", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTINLETENERGYCARRIERDEMAND, new ZclAttribute(this, ATTR_CURRENTINLETENERGYCARRIERDEMAND, "Current Inlet Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTOUTLETENERGYCARRIERDEMAND, new ZclAttribute(this, ATTR_CURRENTOUTLETENERGYCARRIERDEMAND, "Current Outlet Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSBLOCKPERIODCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSBLOCKPERIODCONSUMPTIONDELIVERED, "Previous Block Period Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTBLOCKPERIODCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTBLOCKPERIODCONSUMPTIONRECEIVED, "Current Block Period Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTBLOCKRECEIVED, new ZclAttribute(this, ATTR_CURRENTBLOCKRECEIVED, "Current Block Received", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_DFTSUMMATIONRECEIVED, new ZclAttribute(this, ATTR_DFTSUMMATIONRECEIVED, "Dft Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_ACTIVEREGISTERTIERDELIVERED, new ZclAttribute(this, ATTR_ACTIVEREGISTERTIERDELIVERED, "Active Register Tier Delivered", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_ACTIVEREGISTERTIERRECEIVED, new ZclAttribute(this, ATTR_ACTIVEREGISTERTIERRECEIVED, "Active Register Tier Received", ZclDataType.ENUMERATION_8_BIT, false, true, false, false));
-        attributeMap.put(ATTR_LASTBLOCKSWITCHTIME, new ZclAttribute(this, ATTR_LASTBLOCKSWITCHTIME, "Last Block Switch Time", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1SUMMATIONDELIVERED, "Current Tier 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2SUMMATIONDELIVERED, "Current Tier 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3SUMMATIONDELIVERED, "Current Tier 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4SUMMATIONDELIVERED, "Current Tier 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5SUMMATIONDELIVERED, "Current Tier 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6SUMMATIONDELIVERED, "Current Tier 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7SUMMATIONDELIVERED, "Current Tier 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8SUMMATIONDELIVERED, "Current Tier 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9SUMMATIONDELIVERED, "Current Tier 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10SUMMATIONDELIVERED, "Current Tier 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11SUMMATIONDELIVERED, "Current Tier 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12SUMMATIONDELIVERED, "Current Tier 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13SUMMATIONDELIVERED, "Current Tier 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14SUMMATIONDELIVERED, "Current Tier 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15SUMMATIONDELIVERED, "Current Tier 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER16SUMMATIONDELIVERED, "Current Tier 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER17SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER17SUMMATIONDELIVERED, "Current Tier 17 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER18SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER18SUMMATIONDELIVERED, "Current Tier 18 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER19SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER19SUMMATIONDELIVERED, "Current Tier 19 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER20SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER20SUMMATIONDELIVERED, "Current Tier 20 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER21SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER21SUMMATIONDELIVERED, "Current Tier 21 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER22SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER22SUMMATIONDELIVERED, "Current Tier 22 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER23SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER23SUMMATIONDELIVERED, "Current Tier 23 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER24SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER24SUMMATIONDELIVERED, "Current Tier 24 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER25SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER25SUMMATIONDELIVERED, "Current Tier 25 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER26SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER26SUMMATIONDELIVERED, "Current Tier 26 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER27SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER27SUMMATIONDELIVERED, "Current Tier 27 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER28SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER28SUMMATIONDELIVERED, "Current Tier 28 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER29SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER29SUMMATIONDELIVERED, "Current Tier 29 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER30SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER30SUMMATIONDELIVERED, "Current Tier 30 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER31SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER31SUMMATIONDELIVERED, "Current Tier 31 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER32SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER32SUMMATIONDELIVERED, "Current Tier 32 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER33SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER33SUMMATIONDELIVERED, "Current Tier 33 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER34SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER34SUMMATIONDELIVERED, "Current Tier 34 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER35SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER35SUMMATIONDELIVERED, "Current Tier 35 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER36SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER36SUMMATIONDELIVERED, "Current Tier 36 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER37SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER37SUMMATIONDELIVERED, "Current Tier 37 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER38SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER38SUMMATIONDELIVERED, "Current Tier 38 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER39SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER39SUMMATIONDELIVERED, "Current Tier 39 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER40SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER40SUMMATIONDELIVERED, "Current Tier 40 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER41SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER41SUMMATIONDELIVERED, "Current Tier 41 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER42SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER42SUMMATIONDELIVERED, "Current Tier 42 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER43SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER43SUMMATIONDELIVERED, "Current Tier 43 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER44SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER44SUMMATIONDELIVERED, "Current Tier 44 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER45SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER45SUMMATIONDELIVERED, "Current Tier 45 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER46SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER46SUMMATIONDELIVERED, "Current Tier 46 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER47SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER47SUMMATIONDELIVERED, "Current Tier 47 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER48SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER48SUMMATIONDELIVERED, "Current Tier 48 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1SUMMATIONRECEIVED, "Current Tier 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2SUMMATIONRECEIVED, "Current Tier 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3SUMMATIONRECEIVED, "Current Tier 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4SUMMATIONRECEIVED, "Current Tier 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5SUMMATIONRECEIVED, "Current Tier 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6SUMMATIONRECEIVED, "Current Tier 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7SUMMATIONRECEIVED, "Current Tier 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8SUMMATIONRECEIVED, "Current Tier 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9SUMMATIONRECEIVED, "Current Tier 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10SUMMATIONRECEIVED, "Current Tier 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11SUMMATIONRECEIVED, "Current Tier 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12SUMMATIONRECEIVED, "Current Tier 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13SUMMATIONRECEIVED, "Current Tier 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14SUMMATIONRECEIVED, "Current Tier 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15SUMMATIONRECEIVED, "Current Tier 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER16SUMMATIONRECEIVED, "Current Tier 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER17SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER17SUMMATIONRECEIVED, "Current Tier 17 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER18SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER18SUMMATIONRECEIVED, "Current Tier 18 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER19SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER19SUMMATIONRECEIVED, "Current Tier 19 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER20SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER20SUMMATIONRECEIVED, "Current Tier 20 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER21SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER21SUMMATIONRECEIVED, "Current Tier 21 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER22SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER22SUMMATIONRECEIVED, "Current Tier 22 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER23SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER23SUMMATIONRECEIVED, "Current Tier 23 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER24SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER24SUMMATIONRECEIVED, "Current Tier 24 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER25SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER25SUMMATIONRECEIVED, "Current Tier 25 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER26SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER26SUMMATIONRECEIVED, "Current Tier 26 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER27SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER27SUMMATIONRECEIVED, "Current Tier 27 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER28SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER28SUMMATIONRECEIVED, "Current Tier 28 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER29SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER29SUMMATIONRECEIVED, "Current Tier 29 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER30SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER30SUMMATIONRECEIVED, "Current Tier 30 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER31SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER31SUMMATIONRECEIVED, "Current Tier 31 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER32SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER32SUMMATIONRECEIVED, "Current Tier 32 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER33SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER33SUMMATIONRECEIVED, "Current Tier 33 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER34SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER34SUMMATIONRECEIVED, "Current Tier 34 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER35SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER35SUMMATIONRECEIVED, "Current Tier 35 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER36SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER36SUMMATIONRECEIVED, "Current Tier 36 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER37SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER37SUMMATIONRECEIVED, "Current Tier 37 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER38SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER38SUMMATIONRECEIVED, "Current Tier 38 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER39SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER39SUMMATIONRECEIVED, "Current Tier 39 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER40SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER40SUMMATIONRECEIVED, "Current Tier 40 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER41SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER41SUMMATIONRECEIVED, "Current Tier 41 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER42SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER42SUMMATIONRECEIVED, "Current Tier 42 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER43SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER43SUMMATIONRECEIVED, "Current Tier 43 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER44SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER44SUMMATIONRECEIVED, "Current Tier 44 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER45SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER45SUMMATIONRECEIVED, "Current Tier 45 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER46SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER46SUMMATIONRECEIVED, "Current Tier 46 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER47SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER47SUMMATIONRECEIVED, "Current Tier 47 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER48SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER48SUMMATIONRECEIVED, "Current Tier 48 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CPP1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CPP1SUMMATIONDELIVERED, "CPP 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CPP2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CPP2SUMMATIONDELIVERED, "CPP 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_STATUS, new ZclAttribute(this, ATTR_STATUS, "Status", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_REMAININGBATTERYLIFE, new ZclAttribute(this, ATTR_REMAININGBATTERYLIFE, "Remaining Battery Life", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_HOURSINOPERATION, new ZclAttribute(this, ATTR_HOURSINOPERATION, "Hours In Operation", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_HOURSINFAULT, new ZclAttribute(this, ATTR_HOURSINFAULT, "Hours In Fault", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_EXTENDEDSTATUS, new ZclAttribute(this, ATTR_EXTENDEDSTATUS, "Extended Status", ZclDataType.BITMAP_64_BIT, true, true, false, false));
-        attributeMap.put(ATTR_REMAININGBATTERYLIFEINDAYS, new ZclAttribute(this, ATTR_REMAININGBATTERYLIFEINDAYS, "Remaining Battery Life In Days", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMETERID, new ZclAttribute(this, ATTR_CURRENTMETERID, "Current Meter ID", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_AMBIENTCONSUMPTIONINDICATOR, new ZclAttribute(this, ATTR_AMBIENTCONSUMPTIONINDICATOR, "Ambient Consumption Indicator", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_UNITOFMEASURE, new ZclAttribute(this, ATTR_UNITOFMEASURE, "Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_MULTIPLIER, new ZclAttribute(this, ATTR_MULTIPLIER, "Multiplier", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DIVISOR, new ZclAttribute(this, ATTR_DIVISOR, "Divisor", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_SUMMATIONFORMATTING, new ZclAttribute(this, ATTR_SUMMATIONFORMATTING, "Summation Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_DEMANDFORMATTING, new ZclAttribute(this, ATTR_DEMANDFORMATTING, "Demand Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_HISTORICALCONSUMPTIONFORMATTING, new ZclAttribute(this, ATTR_HISTORICALCONSUMPTIONFORMATTING, "Historical Consumption Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_METERINGDEVICETYPE, new ZclAttribute(this, ATTR_METERINGDEVICETYPE, "Metering Device Type", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_SITEID, new ZclAttribute(this, ATTR_SITEID, "Site ID", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_METERSERIALNUMBER, new ZclAttribute(this, ATTR_METERSERIALNUMBER, "Meter Serial Number", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_ENERGYCARRIERUNITOFMEASURE, new ZclAttribute(this, ATTR_ENERGYCARRIERUNITOFMEASURE, "Energy Carrier Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_ENERGYCARRIERSUMMATIONFORMATTING, new ZclAttribute(this, ATTR_ENERGYCARRIERSUMMATIONFORMATTING, "Energy Carrier Summation Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_ENERGYCARRIERDEMANDFORMATTING, new ZclAttribute(this, ATTR_ENERGYCARRIERDEMANDFORMATTING, "Energy Carrier Demand Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_TEMPERATUREUNITOFMEASURE, new ZclAttribute(this, ATTR_TEMPERATUREUNITOFMEASURE, "Temperature Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_TEMPERATUREFORMATTING, new ZclAttribute(this, ATTR_TEMPERATUREFORMATTING, "Temperature Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_MODULESERIALNUMBER, new ZclAttribute(this, ATTR_MODULESERIALNUMBER, "Module Serial Number", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_OPERATINGTARIFFLABELDELIVERED, new ZclAttribute(this, ATTR_OPERATINGTARIFFLABELDELIVERED, "Operating Tariff Label Delivered", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_OPERATINGTARIFFLABELRECEIVED, new ZclAttribute(this, ATTR_OPERATINGTARIFFLABELRECEIVED, "Operating Tariff Label Received", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_CUSTOMERIDNUMBER, new ZclAttribute(this, ATTR_CUSTOMERIDNUMBER, "Customer ID Number", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_ALTERNATIVEUNITOFMEASURE, new ZclAttribute(this, ATTR_ALTERNATIVEUNITOFMEASURE, "Alternative Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_ALTERNATIVEDEMANDFORMATTING, new ZclAttribute(this, ATTR_ALTERNATIVEDEMANDFORMATTING, "Alternative Demand Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_ALTERNATIVECONSUMPTIONFORMATTING, new ZclAttribute(this, ATTR_ALTERNATIVECONSUMPTIONFORMATTING, "Alternative Consumption Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_INSTANTANEOUSDEMAND, new ZclAttribute(this, ATTR_INSTANTANEOUSDEMAND, "Instantaneous Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTDAYCONSUMPTIONDELIVERED, "Current Day Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTDAYCONSUMPTIONRECEIVED, "Current Day Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAYCONSUMPTIONDELIVERED, "Previous Day Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAYCONSUMPTIONRECEIVED, "Previous Day Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMEDELIVERED, new ZclAttribute(this, ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMEDELIVERED, "Current Partial Profile Interval Start Time Delivered", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMERECEIVED, new ZclAttribute(this, ATTR_CURRENTPARTIALPROFILEINTERVALSTARTTIMERECEIVED, "Current Partial Profile Interval Start Time Received", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTPARTIALPROFILEINTERVALVALUEDELIVERED, new ZclAttribute(this, ATTR_CURRENTPARTIALPROFILEINTERVALVALUEDELIVERED, "Current Partial Profile Interval Value Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTPARTIALPROFILEINTERVALVALUERECEIVED, new ZclAttribute(this, ATTR_CURRENTPARTIALPROFILEINTERVALVALUERECEIVED, "Current Partial Profile Interval Value Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYMAXPRESSURE, new ZclAttribute(this, ATTR_CURRENTDAYMAXPRESSURE, "Current Day Max Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYMINPRESSURE, new ZclAttribute(this, ATTR_CURRENTDAYMINPRESSURE, "Current Day Min Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYMAXPRESSURE, new ZclAttribute(this, ATTR_PREVIOUSDAYMAXPRESSURE, "Previous Day Max Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYMINPRESSURE, new ZclAttribute(this, ATTR_PREVIOUSDAYMINPRESSURE, "Previous Day Min Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYMAXDEMAND, new ZclAttribute(this, ATTR_CURRENTDAYMAXDEMAND, "Current Day Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYMAXDEMAND, new ZclAttribute(this, ATTR_PREVIOUSDAYMAXDEMAND, "Previous Day Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHMAXDEMAND, new ZclAttribute(this, ATTR_CURRENTMONTHMAXDEMAND, "Current Month Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTYEARMAXDEMAND, new ZclAttribute(this, ATTR_CURRENTYEARMAXDEMAND, "Current Year Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYMAXENERGYCARRIERDEMAND, new ZclAttribute(this, ATTR_CURRENTDAYMAXENERGYCARRIERDEMAND, "Current Day Max Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYMAXENERGYCARRIERDEMAND, new ZclAttribute(this, ATTR_PREVIOUSDAYMAXENERGYCARRIERDEMAND, "Previous Day Max Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHMAXENERGYCARRIERDEMAND, new ZclAttribute(this, ATTR_CURRENTMONTHMAXENERGYCARRIERDEMAND, "Current Month Max Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHMINENERGYCARRIERDEMAND, new ZclAttribute(this, ATTR_CURRENTMONTHMINENERGYCARRIERDEMAND, "Current Month Min Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTYEARMAXENERGYCARRIERDEMAND, new ZclAttribute(this, ATTR_CURRENTYEARMAXENERGYCARRIERDEMAND, "Current Year Max Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTYEARMINENERGYCARRIERDEMAND, new ZclAttribute(this, ATTR_CURRENTYEARMINENERGYCARRIERDEMAND, "Current Year Min Energy Carrier Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY2CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY2CONSUMPTIONDELIVERED, "Previous Day 2 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY3CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY3CONSUMPTIONDELIVERED, "Previous Day 3 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY4CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY4CONSUMPTIONDELIVERED, "Previous Day 4 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY5CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY5CONSUMPTIONDELIVERED, "Previous Day 5 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY6CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY6CONSUMPTIONDELIVERED, "Previous Day 6 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY7CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY7CONSUMPTIONDELIVERED, "Previous Day 7 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY8CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY8CONSUMPTIONDELIVERED, "Previous Day 8 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY9CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY9CONSUMPTIONDELIVERED, "Previous Day 9 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY2CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY2CONSUMPTIONRECEIVED, "Previous Day 2 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY3CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY3CONSUMPTIONRECEIVED, "Previous Day 3 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY4CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY4CONSUMPTIONRECEIVED, "Previous Day 4 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY5CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY5CONSUMPTIONRECEIVED, "Previous Day 5 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY6CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY6CONSUMPTIONRECEIVED, "Previous Day 6 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY7CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY7CONSUMPTIONRECEIVED, "Previous Day 7 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY8CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY8CONSUMPTIONRECEIVED, "Previous Day 8 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY9CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY9CONSUMPTIONRECEIVED, "Previous Day 9 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTWEEKCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTWEEKCONSUMPTIONDELIVERED, "Current Week Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTWEEKCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTWEEKCONSUMPTIONRECEIVED, "Current Week Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK1CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK1CONSUMPTIONDELIVERED, "Previous Week 1 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK2CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK2CONSUMPTIONDELIVERED, "Previous Week 2 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK3CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK3CONSUMPTIONDELIVERED, "Previous Week 3 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK4CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK4CONSUMPTIONDELIVERED, "Previous Week 4 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK5CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK5CONSUMPTIONDELIVERED, "Previous Week 5 Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK1CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK1CONSUMPTIONRECEIVED, "Previous Week 1 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK2CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK2CONSUMPTIONRECEIVED, "Previous Week 2 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK3CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK3CONSUMPTIONRECEIVED, "Previous Week 3 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK4CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK4CONSUMPTIONRECEIVED, "Previous Week 4 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK5CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK5CONSUMPTIONRECEIVED, "Previous Week 5 Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTMONTHCONSUMPTIONDELIVERED, "Current Month Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTMONTHCONSUMPTIONRECEIVED, "Current Month Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH1CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH1CONSUMPTIONDELIVERED, "Previous Month 1 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH2CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH2CONSUMPTIONDELIVERED, "Previous Month 2 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH3CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH3CONSUMPTIONDELIVERED, "Previous Month 3 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH4CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH4CONSUMPTIONDELIVERED, "Previous Month 4 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH5CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH5CONSUMPTIONDELIVERED, "Previous Month 5 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH6CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH6CONSUMPTIONDELIVERED, "Previous Month 6 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH7CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH7CONSUMPTIONDELIVERED, "Previous Month 7 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH8CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH8CONSUMPTIONDELIVERED, "Previous Month 8 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH9CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH9CONSUMPTIONDELIVERED, "Previous Month 9 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH10CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH10CONSUMPTIONDELIVERED, "Previous Month 10 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH11CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH11CONSUMPTIONDELIVERED, "Previous Month 11 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH12CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH12CONSUMPTIONDELIVERED, "Previous Month 12 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH13CONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH13CONSUMPTIONDELIVERED, "Previous Month 13 Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH1CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH1CONSUMPTIONRECEIVED, "Previous Month 1 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH2CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH2CONSUMPTIONRECEIVED, "Previous Month 2 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH3CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH3CONSUMPTIONRECEIVED, "Previous Month 3 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH4CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH4CONSUMPTIONRECEIVED, "Previous Month 4 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH5CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH5CONSUMPTIONRECEIVED, "Previous Month 5 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH6CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH6CONSUMPTIONRECEIVED, "Previous Month 6 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH7CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH7CONSUMPTIONRECEIVED, "Previous Month 7 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH8CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH8CONSUMPTIONRECEIVED, "Previous Month 8 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH9CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH9CONSUMPTIONRECEIVED, "Previous Month 9 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH10CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH10CONSUMPTIONRECEIVED, "Previous Month 10 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH11CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH11CONSUMPTIONRECEIVED, "Previous Month 11 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH12CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH12CONSUMPTIONRECEIVED, "Previous Month 12 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH13CONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH13CONSUMPTIONRECEIVED, "Previous Month 13 Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_HISTORICALFREEZETIME, new ZclAttribute(this, ATTR_HISTORICALFREEZETIME, "Historical Freeze Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MAXNUMBEROFPERIODSDELIVERED, new ZclAttribute(this, ATTR_MAXNUMBEROFPERIODSDELIVERED, "Max Number Of Periods Delivered", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDEMANDDELIVERED, new ZclAttribute(this, ATTR_CURRENTDEMANDDELIVERED, "Current Demand Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEMANDLIMIT, new ZclAttribute(this, ATTR_DEMANDLIMIT, "Demand Limit", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEMANDINTEGRATIONPERIOD, new ZclAttribute(this, ATTR_DEMANDINTEGRATIONPERIOD, "Demand Integration Period", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NUMBEROFDEMANDSUBINTERVALS, new ZclAttribute(this, ATTR_NUMBEROFDEMANDSUBINTERVALS, "Number Of Demand Subintervals", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEMANDLIMITARMDURATION, new ZclAttribute(this, ATTR_DEMANDLIMITARMDURATION, "Demand Limit Arm Duration", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_LOADLIMITSUPPLYSTATE, new ZclAttribute(this, ATTR_LOADLIMITSUPPLYSTATE, "Load Limit Supply State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_LOADLIMITCOUNTER, new ZclAttribute(this, ATTR_LOADLIMITCOUNTER, "Load Limit Counter", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_SUPPLYTAMPERSTATE, new ZclAttribute(this, ATTR_SUPPLYTAMPERSTATE, "Supply Tamper State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_SUPPLYDEPLETIONSTATE, new ZclAttribute(this, ATTR_SUPPLYDEPLETIONSTATE, "Supply Depletion State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_SUPPLYUNCONTROLLEDFLOWSTATE, new ZclAttribute(this, ATTR_SUPPLYUNCONTROLLEDFLOWSTATE, "Supply Uncontrolled Flow State", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK1SUMMATIONDELIVERED, "Current No Tier Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK2SUMMATIONDELIVERED, "Current No Tier Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK3SUMMATIONDELIVERED, "Current No Tier Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK4SUMMATIONDELIVERED, "Current No Tier Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK5SUMMATIONDELIVERED, "Current No Tier Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK6SUMMATIONDELIVERED, "Current No Tier Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK7SUMMATIONDELIVERED, "Current No Tier Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK8SUMMATIONDELIVERED, "Current No Tier Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK9SUMMATIONDELIVERED, "Current No Tier Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK10SUMMATIONDELIVERED, "Current No Tier Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK11SUMMATIONDELIVERED, "Current No Tier Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK12SUMMATIONDELIVERED, "Current No Tier Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK13SUMMATIONDELIVERED, "Current No Tier Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK14SUMMATIONDELIVERED, "Current No Tier Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK15SUMMATIONDELIVERED, "Current No Tier Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK16SUMMATIONDELIVERED, "Current No Tier Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK1SUMMATIONDELIVERED, "Current Tier 1 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK2SUMMATIONDELIVERED, "Current Tier 1 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK3SUMMATIONDELIVERED, "Current Tier 1 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK4SUMMATIONDELIVERED, "Current Tier 1 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK5SUMMATIONDELIVERED, "Current Tier 1 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK6SUMMATIONDELIVERED, "Current Tier 1 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK7SUMMATIONDELIVERED, "Current Tier 1 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK8SUMMATIONDELIVERED, "Current Tier 1 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK9SUMMATIONDELIVERED, "Current Tier 1 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK10SUMMATIONDELIVERED, "Current Tier 1 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK11SUMMATIONDELIVERED, "Current Tier 1 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK12SUMMATIONDELIVERED, "Current Tier 1 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK13SUMMATIONDELIVERED, "Current Tier 1 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK14SUMMATIONDELIVERED, "Current Tier 1 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK15SUMMATIONDELIVERED, "Current Tier 1 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK16SUMMATIONDELIVERED, "Current Tier 1 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK1SUMMATIONDELIVERED, "Current Tier 2 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK2SUMMATIONDELIVERED, "Current Tier 2 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK3SUMMATIONDELIVERED, "Current Tier 2 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK4SUMMATIONDELIVERED, "Current Tier 2 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK5SUMMATIONDELIVERED, "Current Tier 2 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK6SUMMATIONDELIVERED, "Current Tier 2 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK7SUMMATIONDELIVERED, "Current Tier 2 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK8SUMMATIONDELIVERED, "Current Tier 2 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK9SUMMATIONDELIVERED, "Current Tier 2 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK10SUMMATIONDELIVERED, "Current Tier 2 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK11SUMMATIONDELIVERED, "Current Tier 2 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK12SUMMATIONDELIVERED, "Current Tier 2 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK13SUMMATIONDELIVERED, "Current Tier 2 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK14SUMMATIONDELIVERED, "Current Tier 2 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK15SUMMATIONDELIVERED, "Current Tier 2 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK16SUMMATIONDELIVERED, "Current Tier 2 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK1SUMMATIONDELIVERED, "Current Tier 3 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK2SUMMATIONDELIVERED, "Current Tier 3 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK3SUMMATIONDELIVERED, "Current Tier 3 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK4SUMMATIONDELIVERED, "Current Tier 3 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK5SUMMATIONDELIVERED, "Current Tier 3 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK6SUMMATIONDELIVERED, "Current Tier 3 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK7SUMMATIONDELIVERED, "Current Tier 3 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK8SUMMATIONDELIVERED, "Current Tier 3 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK9SUMMATIONDELIVERED, "Current Tier 3 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK10SUMMATIONDELIVERED, "Current Tier 3 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK11SUMMATIONDELIVERED, "Current Tier 3 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK12SUMMATIONDELIVERED, "Current Tier 3 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK13SUMMATIONDELIVERED, "Current Tier 3 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK14SUMMATIONDELIVERED, "Current Tier 3 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK15SUMMATIONDELIVERED, "Current Tier 3 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK16SUMMATIONDELIVERED, "Current Tier 3 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK1SUMMATIONDELIVERED, "Current Tier 4 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK2SUMMATIONDELIVERED, "Current Tier 4 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK3SUMMATIONDELIVERED, "Current Tier 4 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK4SUMMATIONDELIVERED, "Current Tier 4 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK5SUMMATIONDELIVERED, "Current Tier 4 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK6SUMMATIONDELIVERED, "Current Tier 4 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK7SUMMATIONDELIVERED, "Current Tier 4 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK8SUMMATIONDELIVERED, "Current Tier 4 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK9SUMMATIONDELIVERED, "Current Tier 4 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK10SUMMATIONDELIVERED, "Current Tier 4 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK11SUMMATIONDELIVERED, "Current Tier 4 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK12SUMMATIONDELIVERED, "Current Tier 4 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK13SUMMATIONDELIVERED, "Current Tier 4 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK14SUMMATIONDELIVERED, "Current Tier 4 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK15SUMMATIONDELIVERED, "Current Tier 4 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK16SUMMATIONDELIVERED, "Current Tier 4 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK1SUMMATIONDELIVERED, "Current Tier 5 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK2SUMMATIONDELIVERED, "Current Tier 5 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK3SUMMATIONDELIVERED, "Current Tier 5 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK4SUMMATIONDELIVERED, "Current Tier 5 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK5SUMMATIONDELIVERED, "Current Tier 5 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK6SUMMATIONDELIVERED, "Current Tier 5 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK7SUMMATIONDELIVERED, "Current Tier 5 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK8SUMMATIONDELIVERED, "Current Tier 5 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK9SUMMATIONDELIVERED, "Current Tier 5 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK10SUMMATIONDELIVERED, "Current Tier 5 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK11SUMMATIONDELIVERED, "Current Tier 5 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK12SUMMATIONDELIVERED, "Current Tier 5 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK13SUMMATIONDELIVERED, "Current Tier 5 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK14SUMMATIONDELIVERED, "Current Tier 5 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK15SUMMATIONDELIVERED, "Current Tier 5 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK16SUMMATIONDELIVERED, "Current Tier 5 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK1SUMMATIONDELIVERED, "Current Tier 6 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK2SUMMATIONDELIVERED, "Current Tier 6 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK3SUMMATIONDELIVERED, "Current Tier 6 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK4SUMMATIONDELIVERED, "Current Tier 6 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK5SUMMATIONDELIVERED, "Current Tier 6 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK6SUMMATIONDELIVERED, "Current Tier 6 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK7SUMMATIONDELIVERED, "Current Tier 6 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK8SUMMATIONDELIVERED, "Current Tier 6 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK9SUMMATIONDELIVERED, "Current Tier 6 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK10SUMMATIONDELIVERED, "Current Tier 6 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK11SUMMATIONDELIVERED, "Current Tier 6 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK12SUMMATIONDELIVERED, "Current Tier 6 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK13SUMMATIONDELIVERED, "Current Tier 6 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK14SUMMATIONDELIVERED, "Current Tier 6 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK15SUMMATIONDELIVERED, "Current Tier 6 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK16SUMMATIONDELIVERED, "Current Tier 6 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK1SUMMATIONDELIVERED, "Current Tier 7 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK2SUMMATIONDELIVERED, "Current Tier 7 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK3SUMMATIONDELIVERED, "Current Tier 7 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK4SUMMATIONDELIVERED, "Current Tier 7 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK5SUMMATIONDELIVERED, "Current Tier 7 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK6SUMMATIONDELIVERED, "Current Tier 7 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK7SUMMATIONDELIVERED, "Current Tier 7 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK8SUMMATIONDELIVERED, "Current Tier 7 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK9SUMMATIONDELIVERED, "Current Tier 7 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK10SUMMATIONDELIVERED, "Current Tier 7 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK11SUMMATIONDELIVERED, "Current Tier 7 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK12SUMMATIONDELIVERED, "Current Tier 7 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK13SUMMATIONDELIVERED, "Current Tier 7 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK14SUMMATIONDELIVERED, "Current Tier 7 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK15SUMMATIONDELIVERED, "Current Tier 7 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK16SUMMATIONDELIVERED, "Current Tier 7 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK1SUMMATIONDELIVERED, "Current Tier 8 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK2SUMMATIONDELIVERED, "Current Tier 8 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK3SUMMATIONDELIVERED, "Current Tier 8 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK4SUMMATIONDELIVERED, "Current Tier 8 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK5SUMMATIONDELIVERED, "Current Tier 8 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK6SUMMATIONDELIVERED, "Current Tier 8 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK7SUMMATIONDELIVERED, "Current Tier 8 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK8SUMMATIONDELIVERED, "Current Tier 8 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK9SUMMATIONDELIVERED, "Current Tier 8 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK10SUMMATIONDELIVERED, "Current Tier 8 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK11SUMMATIONDELIVERED, "Current Tier 8 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK12SUMMATIONDELIVERED, "Current Tier 8 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK13SUMMATIONDELIVERED, "Current Tier 8 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK14SUMMATIONDELIVERED, "Current Tier 8 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK15SUMMATIONDELIVERED, "Current Tier 8 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK16SUMMATIONDELIVERED, "Current Tier 8 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK1SUMMATIONDELIVERED, "Current Tier 9 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK2SUMMATIONDELIVERED, "Current Tier 9 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK3SUMMATIONDELIVERED, "Current Tier 9 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK4SUMMATIONDELIVERED, "Current Tier 9 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK5SUMMATIONDELIVERED, "Current Tier 9 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK6SUMMATIONDELIVERED, "Current Tier 9 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK7SUMMATIONDELIVERED, "Current Tier 9 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK8SUMMATIONDELIVERED, "Current Tier 9 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK9SUMMATIONDELIVERED, "Current Tier 9 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK10SUMMATIONDELIVERED, "Current Tier 9 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK11SUMMATIONDELIVERED, "Current Tier 9 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK12SUMMATIONDELIVERED, "Current Tier 9 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK13SUMMATIONDELIVERED, "Current Tier 9 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK14SUMMATIONDELIVERED, "Current Tier 9 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK15SUMMATIONDELIVERED, "Current Tier 9 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK16SUMMATIONDELIVERED, "Current Tier 9 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK1SUMMATIONDELIVERED, "Current Tier 10 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK2SUMMATIONDELIVERED, "Current Tier 10 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK3SUMMATIONDELIVERED, "Current Tier 10 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK4SUMMATIONDELIVERED, "Current Tier 10 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK5SUMMATIONDELIVERED, "Current Tier 10 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK6SUMMATIONDELIVERED, "Current Tier 10 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK7SUMMATIONDELIVERED, "Current Tier 10 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK8SUMMATIONDELIVERED, "Current Tier 10 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK9SUMMATIONDELIVERED, "Current Tier 10 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK10SUMMATIONDELIVERED, "Current Tier 10 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK11SUMMATIONDELIVERED, "Current Tier 10 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK12SUMMATIONDELIVERED, "Current Tier 10 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK13SUMMATIONDELIVERED, "Current Tier 10 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK14SUMMATIONDELIVERED, "Current Tier 10 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK15SUMMATIONDELIVERED, "Current Tier 10 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK16SUMMATIONDELIVERED, "Current Tier 10 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK1SUMMATIONDELIVERED, "Current Tier 11 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK2SUMMATIONDELIVERED, "Current Tier 11 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK3SUMMATIONDELIVERED, "Current Tier 11 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK4SUMMATIONDELIVERED, "Current Tier 11 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK5SUMMATIONDELIVERED, "Current Tier 11 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK6SUMMATIONDELIVERED, "Current Tier 11 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK7SUMMATIONDELIVERED, "Current Tier 11 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK8SUMMATIONDELIVERED, "Current Tier 11 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK9SUMMATIONDELIVERED, "Current Tier 11 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK10SUMMATIONDELIVERED, "Current Tier 11 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK11SUMMATIONDELIVERED, "Current Tier 11 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK12SUMMATIONDELIVERED, "Current Tier 11 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK13SUMMATIONDELIVERED, "Current Tier 11 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK14SUMMATIONDELIVERED, "Current Tier 11 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK15SUMMATIONDELIVERED, "Current Tier 11 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK16SUMMATIONDELIVERED, "Current Tier 11 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK1SUMMATIONDELIVERED, "Current Tier 12 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK2SUMMATIONDELIVERED, "Current Tier 12 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK3SUMMATIONDELIVERED, "Current Tier 12 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK4SUMMATIONDELIVERED, "Current Tier 12 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK5SUMMATIONDELIVERED, "Current Tier 12 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK6SUMMATIONDELIVERED, "Current Tier 12 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK7SUMMATIONDELIVERED, "Current Tier 12 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK8SUMMATIONDELIVERED, "Current Tier 12 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK9SUMMATIONDELIVERED, "Current Tier 12 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK10SUMMATIONDELIVERED, "Current Tier 12 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK11SUMMATIONDELIVERED, "Current Tier 12 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK12SUMMATIONDELIVERED, "Current Tier 12 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK13SUMMATIONDELIVERED, "Current Tier 12 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK14SUMMATIONDELIVERED, "Current Tier 12 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK15SUMMATIONDELIVERED, "Current Tier 12 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK16SUMMATIONDELIVERED, "Current Tier 12 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK1SUMMATIONDELIVERED, "Current Tier 13 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK2SUMMATIONDELIVERED, "Current Tier 13 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK3SUMMATIONDELIVERED, "Current Tier 13 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK4SUMMATIONDELIVERED, "Current Tier 13 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK5SUMMATIONDELIVERED, "Current Tier 13 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK6SUMMATIONDELIVERED, "Current Tier 13 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK7SUMMATIONDELIVERED, "Current Tier 13 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK8SUMMATIONDELIVERED, "Current Tier 13 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK9SUMMATIONDELIVERED, "Current Tier 13 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK10SUMMATIONDELIVERED, "Current Tier 13 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK11SUMMATIONDELIVERED, "Current Tier 13 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK12SUMMATIONDELIVERED, "Current Tier 13 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK13SUMMATIONDELIVERED, "Current Tier 13 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK14SUMMATIONDELIVERED, "Current Tier 13 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK15SUMMATIONDELIVERED, "Current Tier 13 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK16SUMMATIONDELIVERED, "Current Tier 13 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK1SUMMATIONDELIVERED, "Current Tier 14 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK2SUMMATIONDELIVERED, "Current Tier 14 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK3SUMMATIONDELIVERED, "Current Tier 14 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK4SUMMATIONDELIVERED, "Current Tier 14 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK5SUMMATIONDELIVERED, "Current Tier 14 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK6SUMMATIONDELIVERED, "Current Tier 14 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK7SUMMATIONDELIVERED, "Current Tier 14 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK8SUMMATIONDELIVERED, "Current Tier 14 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK9SUMMATIONDELIVERED, "Current Tier 14 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK10SUMMATIONDELIVERED, "Current Tier 14 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK11SUMMATIONDELIVERED, "Current Tier 14 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK12SUMMATIONDELIVERED, "Current Tier 14 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK13SUMMATIONDELIVERED, "Current Tier 14 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK14SUMMATIONDELIVERED, "Current Tier 14 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK15SUMMATIONDELIVERED, "Current Tier 14 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK16SUMMATIONDELIVERED, "Current Tier 14 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK1SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK1SUMMATIONDELIVERED, "Current Tier 15 Block 1 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK2SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK2SUMMATIONDELIVERED, "Current Tier 15 Block 2 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK3SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK3SUMMATIONDELIVERED, "Current Tier 15 Block 3 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK4SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK4SUMMATIONDELIVERED, "Current Tier 15 Block 4 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK5SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK5SUMMATIONDELIVERED, "Current Tier 15 Block 5 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK6SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK6SUMMATIONDELIVERED, "Current Tier 15 Block 6 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK7SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK7SUMMATIONDELIVERED, "Current Tier 15 Block 7 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK8SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK8SUMMATIONDELIVERED, "Current Tier 15 Block 8 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK9SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK9SUMMATIONDELIVERED, "Current Tier 15 Block 9 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK10SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK10SUMMATIONDELIVERED, "Current Tier 15 Block 10 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK11SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK11SUMMATIONDELIVERED, "Current Tier 15 Block 11 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK12SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK12SUMMATIONDELIVERED, "Current Tier 15 Block 12 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK13SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK13SUMMATIONDELIVERED, "Current Tier 15 Block 13 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK14SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK14SUMMATIONDELIVERED, "Current Tier 15 Block 14 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK15SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK15SUMMATIONDELIVERED, "Current Tier 15 Block 15 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK16SUMMATIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK16SUMMATIONDELIVERED, "Current Tier 15 Block 16 Summation Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_GENERICALARMMASK, new ZclAttribute(this, ATTR_GENERICALARMMASK, "Generic Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_ELECTRICITYALARMMASK, new ZclAttribute(this, ATTR_ELECTRICITYALARMMASK, "Electricity Alarm Mask", ZclDataType.BITMAP_32_BIT, false, true, true, true));
-        attributeMap.put(ATTR_GENERICFLOWPRESSUREALARMMASK, new ZclAttribute(this, ATTR_GENERICFLOWPRESSUREALARMMASK, "Generic Flow /pressure Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_WATERSPECIFICALARMMASK, new ZclAttribute(this, ATTR_WATERSPECIFICALARMMASK, "Water Specific Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_HEATANDCOOLINGSPECIFICALARMMASK, new ZclAttribute(this, ATTR_HEATANDCOOLINGSPECIFICALARMMASK, "Heat And Cooling Specific Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_GASSPECIFICALARMMASK, new ZclAttribute(this, ATTR_GASSPECIFICALARMMASK, "Gas Specific Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_EXTENDEDGENERICALARMMASK, new ZclAttribute(this, ATTR_EXTENDEDGENERICALARMMASK, "Extended Generic Alarm Mask", ZclDataType.BITMAP_48_BIT, false, true, true, true));
-        attributeMap.put(ATTR_MANUFACTUREALARMMASK, new ZclAttribute(this, ATTR_MANUFACTUREALARMMASK, "Manufacture Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK1SUMMATIONRECEIVED, "Current No Tier Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK2SUMMATIONRECEIVED, "Current No Tier Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK3SUMMATIONRECEIVED, "Current No Tier Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK4SUMMATIONRECEIVED, "Current No Tier Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK5SUMMATIONRECEIVED, "Current No Tier Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK6SUMMATIONRECEIVED, "Current No Tier Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK7SUMMATIONRECEIVED, "Current No Tier Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK8SUMMATIONRECEIVED, "Current No Tier Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK9SUMMATIONRECEIVED, "Current No Tier Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK10SUMMATIONRECEIVED, "Current No Tier Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK11SUMMATIONRECEIVED, "Current No Tier Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK12SUMMATIONRECEIVED, "Current No Tier Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK13SUMMATIONRECEIVED, "Current No Tier Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK14SUMMATIONRECEIVED, "Current No Tier Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK15SUMMATIONRECEIVED, "Current No Tier Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTNOTIERBLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTNOTIERBLOCK16SUMMATIONRECEIVED, "Current No Tier Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK1SUMMATIONRECEIVED, "Current Tier 1 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK2SUMMATIONRECEIVED, "Current Tier 1 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK3SUMMATIONRECEIVED, "Current Tier 1 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK4SUMMATIONRECEIVED, "Current Tier 1 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK5SUMMATIONRECEIVED, "Current Tier 1 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK6SUMMATIONRECEIVED, "Current Tier 1 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK7SUMMATIONRECEIVED, "Current Tier 1 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK8SUMMATIONRECEIVED, "Current Tier 1 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK9SUMMATIONRECEIVED, "Current Tier 1 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK10SUMMATIONRECEIVED, "Current Tier 1 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK11SUMMATIONRECEIVED, "Current Tier 1 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK12SUMMATIONRECEIVED, "Current Tier 1 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK13SUMMATIONRECEIVED, "Current Tier 1 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK14SUMMATIONRECEIVED, "Current Tier 1 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK15SUMMATIONRECEIVED, "Current Tier 1 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER1BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER1BLOCK16SUMMATIONRECEIVED, "Current Tier 1 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK1SUMMATIONRECEIVED, "Current Tier 2 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK2SUMMATIONRECEIVED, "Current Tier 2 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK3SUMMATIONRECEIVED, "Current Tier 2 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK4SUMMATIONRECEIVED, "Current Tier 2 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK5SUMMATIONRECEIVED, "Current Tier 2 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK6SUMMATIONRECEIVED, "Current Tier 2 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK7SUMMATIONRECEIVED, "Current Tier 2 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK8SUMMATIONRECEIVED, "Current Tier 2 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK9SUMMATIONRECEIVED, "Current Tier 2 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK10SUMMATIONRECEIVED, "Current Tier 2 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK11SUMMATIONRECEIVED, "Current Tier 2 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK12SUMMATIONRECEIVED, "Current Tier 2 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK13SUMMATIONRECEIVED, "Current Tier 2 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK14SUMMATIONRECEIVED, "Current Tier 2 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK15SUMMATIONRECEIVED, "Current Tier 2 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER2BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER2BLOCK16SUMMATIONRECEIVED, "Current Tier 2 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK1SUMMATIONRECEIVED, "Current Tier 3 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK2SUMMATIONRECEIVED, "Current Tier 3 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK3SUMMATIONRECEIVED, "Current Tier 3 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK4SUMMATIONRECEIVED, "Current Tier 3 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK5SUMMATIONRECEIVED, "Current Tier 3 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK6SUMMATIONRECEIVED, "Current Tier 3 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK7SUMMATIONRECEIVED, "Current Tier 3 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK8SUMMATIONRECEIVED, "Current Tier 3 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK9SUMMATIONRECEIVED, "Current Tier 3 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK10SUMMATIONRECEIVED, "Current Tier 3 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK11SUMMATIONRECEIVED, "Current Tier 3 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK12SUMMATIONRECEIVED, "Current Tier 3 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK13SUMMATIONRECEIVED, "Current Tier 3 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK14SUMMATIONRECEIVED, "Current Tier 3 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK15SUMMATIONRECEIVED, "Current Tier 3 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER3BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER3BLOCK16SUMMATIONRECEIVED, "Current Tier 3 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK1SUMMATIONRECEIVED, "Current Tier 4 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK2SUMMATIONRECEIVED, "Current Tier 4 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK3SUMMATIONRECEIVED, "Current Tier 4 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK4SUMMATIONRECEIVED, "Current Tier 4 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK5SUMMATIONRECEIVED, "Current Tier 4 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK6SUMMATIONRECEIVED, "Current Tier 4 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK7SUMMATIONRECEIVED, "Current Tier 4 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK8SUMMATIONRECEIVED, "Current Tier 4 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK9SUMMATIONRECEIVED, "Current Tier 4 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK10SUMMATIONRECEIVED, "Current Tier 4 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK11SUMMATIONRECEIVED, "Current Tier 4 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK12SUMMATIONRECEIVED, "Current Tier 4 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK13SUMMATIONRECEIVED, "Current Tier 4 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK14SUMMATIONRECEIVED, "Current Tier 4 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK15SUMMATIONRECEIVED, "Current Tier 4 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER4BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER4BLOCK16SUMMATIONRECEIVED, "Current Tier 4 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK1SUMMATIONRECEIVED, "Current Tier 5 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK2SUMMATIONRECEIVED, "Current Tier 5 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK3SUMMATIONRECEIVED, "Current Tier 5 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK4SUMMATIONRECEIVED, "Current Tier 5 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK5SUMMATIONRECEIVED, "Current Tier 5 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK6SUMMATIONRECEIVED, "Current Tier 5 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK7SUMMATIONRECEIVED, "Current Tier 5 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK8SUMMATIONRECEIVED, "Current Tier 5 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK9SUMMATIONRECEIVED, "Current Tier 5 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK10SUMMATIONRECEIVED, "Current Tier 5 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK11SUMMATIONRECEIVED, "Current Tier 5 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK12SUMMATIONRECEIVED, "Current Tier 5 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK13SUMMATIONRECEIVED, "Current Tier 5 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK14SUMMATIONRECEIVED, "Current Tier 5 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK15SUMMATIONRECEIVED, "Current Tier 5 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER5BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER5BLOCK16SUMMATIONRECEIVED, "Current Tier 5 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK1SUMMATIONRECEIVED, "Current Tier 6 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK2SUMMATIONRECEIVED, "Current Tier 6 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK3SUMMATIONRECEIVED, "Current Tier 6 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK4SUMMATIONRECEIVED, "Current Tier 6 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK5SUMMATIONRECEIVED, "Current Tier 6 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK6SUMMATIONRECEIVED, "Current Tier 6 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK7SUMMATIONRECEIVED, "Current Tier 6 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK8SUMMATIONRECEIVED, "Current Tier 6 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK9SUMMATIONRECEIVED, "Current Tier 6 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK10SUMMATIONRECEIVED, "Current Tier 6 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK11SUMMATIONRECEIVED, "Current Tier 6 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK12SUMMATIONRECEIVED, "Current Tier 6 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK13SUMMATIONRECEIVED, "Current Tier 6 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK14SUMMATIONRECEIVED, "Current Tier 6 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK15SUMMATIONRECEIVED, "Current Tier 6 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER6BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER6BLOCK16SUMMATIONRECEIVED, "Current Tier 6 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK1SUMMATIONRECEIVED, "Current Tier 7 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK2SUMMATIONRECEIVED, "Current Tier 7 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK3SUMMATIONRECEIVED, "Current Tier 7 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK4SUMMATIONRECEIVED, "Current Tier 7 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK5SUMMATIONRECEIVED, "Current Tier 7 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK6SUMMATIONRECEIVED, "Current Tier 7 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK7SUMMATIONRECEIVED, "Current Tier 7 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK8SUMMATIONRECEIVED, "Current Tier 7 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK9SUMMATIONRECEIVED, "Current Tier 7 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK10SUMMATIONRECEIVED, "Current Tier 7 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK11SUMMATIONRECEIVED, "Current Tier 7 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK12SUMMATIONRECEIVED, "Current Tier 7 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK13SUMMATIONRECEIVED, "Current Tier 7 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK14SUMMATIONRECEIVED, "Current Tier 7 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK15SUMMATIONRECEIVED, "Current Tier 7 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER7BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER7BLOCK16SUMMATIONRECEIVED, "Current Tier 7 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK1SUMMATIONRECEIVED, "Current Tier 8 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK2SUMMATIONRECEIVED, "Current Tier 8 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK3SUMMATIONRECEIVED, "Current Tier 8 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK4SUMMATIONRECEIVED, "Current Tier 8 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK5SUMMATIONRECEIVED, "Current Tier 8 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK6SUMMATIONRECEIVED, "Current Tier 8 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK7SUMMATIONRECEIVED, "Current Tier 8 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK8SUMMATIONRECEIVED, "Current Tier 8 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK9SUMMATIONRECEIVED, "Current Tier 8 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK10SUMMATIONRECEIVED, "Current Tier 8 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK11SUMMATIONRECEIVED, "Current Tier 8 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK12SUMMATIONRECEIVED, "Current Tier 8 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK13SUMMATIONRECEIVED, "Current Tier 8 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK14SUMMATIONRECEIVED, "Current Tier 8 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK15SUMMATIONRECEIVED, "Current Tier 8 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER8BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER8BLOCK16SUMMATIONRECEIVED, "Current Tier 8 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK1SUMMATIONRECEIVED, "Current Tier 9 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK2SUMMATIONRECEIVED, "Current Tier 9 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK3SUMMATIONRECEIVED, "Current Tier 9 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK4SUMMATIONRECEIVED, "Current Tier 9 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK5SUMMATIONRECEIVED, "Current Tier 9 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK6SUMMATIONRECEIVED, "Current Tier 9 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK7SUMMATIONRECEIVED, "Current Tier 9 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK8SUMMATIONRECEIVED, "Current Tier 9 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK9SUMMATIONRECEIVED, "Current Tier 9 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK10SUMMATIONRECEIVED, "Current Tier 9 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK11SUMMATIONRECEIVED, "Current Tier 9 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK12SUMMATIONRECEIVED, "Current Tier 9 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK13SUMMATIONRECEIVED, "Current Tier 9 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK14SUMMATIONRECEIVED, "Current Tier 9 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK15SUMMATIONRECEIVED, "Current Tier 9 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER9BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER9BLOCK16SUMMATIONRECEIVED, "Current Tier 9 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK1SUMMATIONRECEIVED, "Current Tier 10 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK2SUMMATIONRECEIVED, "Current Tier 10 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK3SUMMATIONRECEIVED, "Current Tier 10 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK4SUMMATIONRECEIVED, "Current Tier 10 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK5SUMMATIONRECEIVED, "Current Tier 10 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK6SUMMATIONRECEIVED, "Current Tier 10 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK7SUMMATIONRECEIVED, "Current Tier 10 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK8SUMMATIONRECEIVED, "Current Tier 10 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK9SUMMATIONRECEIVED, "Current Tier 10 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK10SUMMATIONRECEIVED, "Current Tier 10 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK11SUMMATIONRECEIVED, "Current Tier 10 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK12SUMMATIONRECEIVED, "Current Tier 10 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK13SUMMATIONRECEIVED, "Current Tier 10 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK14SUMMATIONRECEIVED, "Current Tier 10 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK15SUMMATIONRECEIVED, "Current Tier 10 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER10BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER10BLOCK16SUMMATIONRECEIVED, "Current Tier 10 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK1SUMMATIONRECEIVED, "Current Tier 11 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK2SUMMATIONRECEIVED, "Current Tier 11 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK3SUMMATIONRECEIVED, "Current Tier 11 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK4SUMMATIONRECEIVED, "Current Tier 11 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK5SUMMATIONRECEIVED, "Current Tier 11 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK6SUMMATIONRECEIVED, "Current Tier 11 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK7SUMMATIONRECEIVED, "Current Tier 11 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK8SUMMATIONRECEIVED, "Current Tier 11 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK9SUMMATIONRECEIVED, "Current Tier 11 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK10SUMMATIONRECEIVED, "Current Tier 11 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK11SUMMATIONRECEIVED, "Current Tier 11 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK12SUMMATIONRECEIVED, "Current Tier 11 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK13SUMMATIONRECEIVED, "Current Tier 11 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK14SUMMATIONRECEIVED, "Current Tier 11 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK15SUMMATIONRECEIVED, "Current Tier 11 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER11BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER11BLOCK16SUMMATIONRECEIVED, "Current Tier 11 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK1SUMMATIONRECEIVED, "Current Tier 12 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK2SUMMATIONRECEIVED, "Current Tier 12 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK3SUMMATIONRECEIVED, "Current Tier 12 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK4SUMMATIONRECEIVED, "Current Tier 12 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK5SUMMATIONRECEIVED, "Current Tier 12 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK6SUMMATIONRECEIVED, "Current Tier 12 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK7SUMMATIONRECEIVED, "Current Tier 12 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK8SUMMATIONRECEIVED, "Current Tier 12 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK9SUMMATIONRECEIVED, "Current Tier 12 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK10SUMMATIONRECEIVED, "Current Tier 12 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK11SUMMATIONRECEIVED, "Current Tier 12 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK12SUMMATIONRECEIVED, "Current Tier 12 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK13SUMMATIONRECEIVED, "Current Tier 12 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK14SUMMATIONRECEIVED, "Current Tier 12 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK15SUMMATIONRECEIVED, "Current Tier 12 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER12BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER12BLOCK16SUMMATIONRECEIVED, "Current Tier 12 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK1SUMMATIONRECEIVED, "Current Tier 13 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK2SUMMATIONRECEIVED, "Current Tier 13 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK3SUMMATIONRECEIVED, "Current Tier 13 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK4SUMMATIONRECEIVED, "Current Tier 13 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK5SUMMATIONRECEIVED, "Current Tier 13 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK6SUMMATIONRECEIVED, "Current Tier 13 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK7SUMMATIONRECEIVED, "Current Tier 13 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK8SUMMATIONRECEIVED, "Current Tier 13 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK9SUMMATIONRECEIVED, "Current Tier 13 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK10SUMMATIONRECEIVED, "Current Tier 13 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK11SUMMATIONRECEIVED, "Current Tier 13 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK12SUMMATIONRECEIVED, "Current Tier 13 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK13SUMMATIONRECEIVED, "Current Tier 13 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK14SUMMATIONRECEIVED, "Current Tier 13 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK15SUMMATIONRECEIVED, "Current Tier 13 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER13BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER13BLOCK16SUMMATIONRECEIVED, "Current Tier 13 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK1SUMMATIONRECEIVED, "Current Tier 14 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK2SUMMATIONRECEIVED, "Current Tier 14 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK3SUMMATIONRECEIVED, "Current Tier 14 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK4SUMMATIONRECEIVED, "Current Tier 14 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK5SUMMATIONRECEIVED, "Current Tier 14 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK6SUMMATIONRECEIVED, "Current Tier 14 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK7SUMMATIONRECEIVED, "Current Tier 14 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK8SUMMATIONRECEIVED, "Current Tier 14 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK9SUMMATIONRECEIVED, "Current Tier 14 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK10SUMMATIONRECEIVED, "Current Tier 14 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK11SUMMATIONRECEIVED, "Current Tier 14 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK12SUMMATIONRECEIVED, "Current Tier 14 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK13SUMMATIONRECEIVED, "Current Tier 14 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK14SUMMATIONRECEIVED, "Current Tier 14 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK15SUMMATIONRECEIVED, "Current Tier 14 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER14BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER14BLOCK16SUMMATIONRECEIVED, "Current Tier 14 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK1SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK1SUMMATIONRECEIVED, "Current Tier 15 Block 1 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK2SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK2SUMMATIONRECEIVED, "Current Tier 15 Block 2 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK3SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK3SUMMATIONRECEIVED, "Current Tier 15 Block 3 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK4SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK4SUMMATIONRECEIVED, "Current Tier 15 Block 4 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK5SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK5SUMMATIONRECEIVED, "Current Tier 15 Block 5 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK6SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK6SUMMATIONRECEIVED, "Current Tier 15 Block 6 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK7SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK7SUMMATIONRECEIVED, "Current Tier 15 Block 7 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK8SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK8SUMMATIONRECEIVED, "Current Tier 15 Block 8 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK9SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK9SUMMATIONRECEIVED, "Current Tier 15 Block 9 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK10SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK10SUMMATIONRECEIVED, "Current Tier 15 Block 10 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK11SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK11SUMMATIONRECEIVED, "Current Tier 15 Block 11 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK12SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK12SUMMATIONRECEIVED, "Current Tier 15 Block 12 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK13SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK13SUMMATIONRECEIVED, "Current Tier 15 Block 13 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK14SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK14SUMMATIONRECEIVED, "Current Tier 15 Block 14 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK15SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK15SUMMATIONRECEIVED, "Current Tier 15 Block 15 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTTIER15BLOCK16SUMMATIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTTIER15BLOCK16SUMMATIONRECEIVED, "Current Tier 15 Block 16 Summation Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_BILLTODATEDELIVERED, new ZclAttribute(this, ATTR_BILLTODATEDELIVERED, "Bill To Date Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_BILLTODATETIMESTAMPDELIVERED, new ZclAttribute(this, ATTR_BILLTODATETIMESTAMPDELIVERED, "Bill To Date Time Stamp Delivered", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_PROJECTEDBILLDELIVERED, new ZclAttribute(this, ATTR_PROJECTEDBILLDELIVERED, "Projected Bill Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PROJECTEDBILLTIMESTAMPDELIVERED, new ZclAttribute(this, ATTR_PROJECTEDBILLTIMESTAMPDELIVERED, "Projected Bill Time Stamp Delivered", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_BILLDELIVEREDTRAILINGDIGIT, new ZclAttribute(this, ATTR_BILLDELIVEREDTRAILINGDIGIT, "Bill Delivered Trailing Digit", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_BILLTODATERECEIVED, new ZclAttribute(this, ATTR_BILLTODATERECEIVED, "Bill To Date Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_BILLTODATETIMESTAMPRECEIVED, new ZclAttribute(this, ATTR_BILLTODATETIMESTAMPRECEIVED, "Bill To Date Time Stamp Received", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_PROJECTEDBILLRECEIVED, new ZclAttribute(this, ATTR_PROJECTEDBILLRECEIVED, "Projected Bill Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PROJECTEDBILLTIMESTAMPRECEIVED, new ZclAttribute(this, ATTR_PROJECTEDBILLTIMESTAMPRECEIVED, "Projected Bill Time Stamp Received", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_BILLRECEIVEDTRAILINGDIGIT, new ZclAttribute(this, ATTR_BILLRECEIVEDTRAILINGDIGIT, "Bill Received Trailing Digit", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_PROPOSEDCHANGESUPPLYIMPLEMENTATIONTIME, new ZclAttribute(this, ATTR_PROPOSEDCHANGESUPPLYIMPLEMENTATIONTIME, "Proposed Change Supply Implementation Time", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_PROPOSEDCHANGESUPPLYSTATUS, new ZclAttribute(this, ATTR_PROPOSEDCHANGESUPPLYSTATUS, "Proposed Change Supply Status", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_UNCONTROLLEDFLOWTHRESHOLD, new ZclAttribute(this, ATTR_UNCONTROLLEDFLOWTHRESHOLD, "Uncontrolled Flow Threshold", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_UNCONTROLLEDFLOWTHRESHOLDUNITOFMEASURE, new ZclAttribute(this, ATTR_UNCONTROLLEDFLOWTHRESHOLDUNITOFMEASURE, "Uncontrolled Flow Threshold Unit Of Measure", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_UNCONTROLLEDFLOWTHRESHOLDMULTIPLIER, new ZclAttribute(this, ATTR_UNCONTROLLEDFLOWTHRESHOLDMULTIPLIER, "Uncontrolled Flow Threshold Multiplier", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_UNCONTROLLEDFLOWTHRESHOLDDIVISOR, new ZclAttribute(this, ATTR_UNCONTROLLEDFLOWTHRESHOLDDIVISOR, "Uncontrolled Flow Threshold Divisor", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_FLOWSTABILIZATIONPERIOD, new ZclAttribute(this, ATTR_FLOWSTABILIZATIONPERIOD, "Flow Stabilization Period", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_FLOWMEASUREMENTPERIOD, new ZclAttribute(this, ATTR_FLOWMEASUREMENTPERIOD, "Flow Measurement Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_ALTERNATIVEINSTANTANEOUSDEMAND, new ZclAttribute(this, ATTR_ALTERNATIVEINSTANTANEOUSDEMAND, "Alternative Instantaneous Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTDAYALTERNATIVECONSUMPTIONDELIVERED, "Current Day Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTDAYALTERNATIVECONSUMPTIONRECEIVED, "Current Day Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONDELIVERED, "Previous Day Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAYALTERNATIVECONSUMPTIONRECEIVED, "Previous Day Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMEDELIVERED, new ZclAttribute(this, ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMEDELIVERED, "Current Alternative Partial Profile Interval Start Time Delivered", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMERECEIVED, new ZclAttribute(this, ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALSTARTTIMERECEIVED, "Current Alternative Partial Profile Interval Start Time Received", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUEDELIVERED, new ZclAttribute(this, ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUEDELIVERED, "Current Alternative Partial Profile Interval Value Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUERECEIVED, new ZclAttribute(this, ATTR_CURRENTALTERNATIVEPARTIALPROFILEINTERVALVALUERECEIVED, "Current Alternative Partial Profile Interval Value Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYALTERNATIVEMAXPRESSURE, new ZclAttribute(this, ATTR_CURRENTDAYALTERNATIVEMAXPRESSURE, "Current Day Alternative Max Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYALTERNATIVEMINPRESSURE, new ZclAttribute(this, ATTR_CURRENTDAYALTERNATIVEMINPRESSURE, "Current Day Alternative Min Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYALTERNATIVEMAXPRESSURE, new ZclAttribute(this, ATTR_PREVIOUSDAYALTERNATIVEMAXPRESSURE, "Previous Day Alternative Max Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYALTERNATIVEMINPRESSURE, new ZclAttribute(this, ATTR_PREVIOUSDAYALTERNATIVEMINPRESSURE, "Previous Day Alternative Min Pressure", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYALTERNATIVEMAXDEMAND, new ZclAttribute(this, ATTR_CURRENTDAYALTERNATIVEMAXDEMAND, "Current Day Alternative Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYALTERNATIVEMAXDEMAND, new ZclAttribute(this, ATTR_PREVIOUSDAYALTERNATIVEMAXDEMAND, "Previous Day Alternative Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHALTERNATIVEMAXDEMAND, new ZclAttribute(this, ATTR_CURRENTMONTHALTERNATIVEMAXDEMAND, "Current Month Alternative Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTYEARALTERNATIVEMAXDEMAND, new ZclAttribute(this, ATTR_CURRENTYEARALTERNATIVEMAXDEMAND, "Current Year Alternative Max Demand", ZclDataType.SIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 2 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY3ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY3ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 3 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY4ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY4ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 4 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY5ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY5ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 5 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY6ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY6ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 6 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY7ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY7ALTERNATIVECONSUMPTIONDELIVERED, "Previous Day 7 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY2ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 2 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY3ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY3ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 3 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY4ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY4ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 4 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY5ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY5ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 5 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY6ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY6ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 6 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY7ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY7ALTERNATIVECONSUMPTIONRECEIVED, "Previous Day 7 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONDELIVERED, "Current Week Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTWEEKALTERNATIVECONSUMPTIONRECEIVED, "Current Week Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 1 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK2ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK2ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 2 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK3ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK3ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 3 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK4ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK4ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 4 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK5ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK5ALTERNATIVECONSUMPTIONDELIVERED, "Previous Week 5 Alternative Consumption Delivered", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK1ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 1 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK2ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK2ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 2 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK3ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK3ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 3 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK4ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK4ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 4 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK5ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK5ALTERNATIVECONSUMPTIONRECEIVED, "Previous Week 5 Alternative Consumption Received", ZclDataType.UNSIGNED_24_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONDELIVERED, "Current Month Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTMONTHALTERNATIVECONSUMPTIONRECEIVED, "Current Month Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 1 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH2ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH2ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 2 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH3ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH3ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 3 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH4ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH4ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 4 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH5ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH5ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 5 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH6ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH6ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 6 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH7ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH7ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 7 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH8ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH8ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 8 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH9ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH9ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 9 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH10ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH10ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 10 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH11ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH11ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 11 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH12ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH12ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 12 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH13ALTERNATIVECONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH13ALTERNATIVECONSUMPTIONDELIVERED, "Previous Month 13 Alternative Consumption Delivered", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH1ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 1 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH2ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH2ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 2 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH3ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH3ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 3 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH4ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH4ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 4 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH5ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH5ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 5 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH6ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH6ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 6 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH7ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH7ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 7 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH8ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH8ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 8 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH9ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH9ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 9 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH10ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH10ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 10 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH11ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH11ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 11 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH12ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH12ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 12 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH13ALTERNATIVECONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH13ALTERNATIVECONSUMPTIONRECEIVED, "Previous Month 13 Alternative Consumption Received", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-
-        return attributeMap;
+        return new ZclAttributeMap(this, serverAttributeDescriptors);
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeServerCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
-
-        commandMap.put(0x0000, GetProfileResponse.class);
-        commandMap.put(0x0001, RequestMirror.class);
-        commandMap.put(0x0002, RemoveMirror.class);
-        commandMap.put(0x0003, RequestFastPollModeResponse.class);
-        commandMap.put(0x0004, ScheduleSnapshotResponse.class);
-        commandMap.put(0x0005, TakeSnapshotResponse.class);
-        commandMap.put(0x0006, PublishSnapshot.class);
-        commandMap.put(0x0007, GetSampledDataResponse.class);
-        commandMap.put(0x0008, ConfigureMirror.class);
-        commandMap.put(0x0009, ConfigureNotificationScheme.class);
-        commandMap.put(0x000A, ConfigureNotificationFlags.class);
-        commandMap.put(0x000B, GetNotifiedMessage.class);
-        commandMap.put(0x000C, SupplyStatusResponse.class);
-        commandMap.put(0x000D, StartSamplingResponse.class);
-
-        return commandMap;
+    protected Map<Integer, ZclCommandFactory> getServerCommandConstructors() {
+        return serverCommandConstructors;
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeClientCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
-
-        commandMap.put(0x0000, GetProfile.class);
-        commandMap.put(0x0001, RequestMirrorResponse.class);
-        commandMap.put(0x0002, MirrorRemoved.class);
-        commandMap.put(0x0003, RequestFastPollMode.class);
-        commandMap.put(0x0004, ScheduleSnapshot.class);
-        commandMap.put(0x0005, TakeSnapshot.class);
-        commandMap.put(0x0006, GetSnapshot.class);
-        commandMap.put(0x0007, StartSampling.class);
-        commandMap.put(0x0008, GetSampledData.class);
-        commandMap.put(0x0009, MirrorReportAttributeResponse.class);
-        commandMap.put(0x000A, ResetLoadLimitCounter.class);
-        commandMap.put(0x000B, ChangeSupply.class);
-        commandMap.put(0x000C, LocalChangeSupply.class);
-        commandMap.put(0x000D, SetSupplyStatus.class);
-        commandMap.put(0x000E, SetUncontrolledFlowThreshold.class);
-
-        return commandMap;
+    protected Map<Integer, ZclCommandFactory> getClientCommandConstructors() {
+        return clientCommandConstructors;
     }
 
     /**
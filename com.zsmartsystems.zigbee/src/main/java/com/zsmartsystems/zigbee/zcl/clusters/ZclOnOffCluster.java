@@ -7,7 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -16,8 +18,10 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDescriptor;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeMap;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
-import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.ZclCommandFactory;
 import com.zsmartsystems.zigbee.zcl.clusters.onoff.OffCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.onoff.OffWithEffectCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.onoff.OnCommand;
@@ -87,38 +91,46 @@ public class ZclOnOffCluster extends ZclCluster {
     public static final int ATTR_OFFWAITTIME = 0x4002;
     public static final int ATTR_STARTUPONOFF = 0x4003;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * Map of the server side attribute descriptors defined by the cluster, indexed by attribute ID
+     */
+    private static Map<Integer, ZclAttributeDescriptor> serverAttributeDescriptors = new TreeMap<>();
 
-        return attributeMap;
+    static {
+        serverAttributeDescriptors.put(ATTR_ONOFF, new ZclAttributeDescriptor(ATTR_ONOFF, "On Off", ZclDataType.BOOLEAN, true, true, false, true));
+        serverAttributeDescriptors.put(ATTR_GLOBALSCENECONTROL, new ZclAttributeDescriptor(ATTR_GLOBALSCENECONTROL, "Global Scene Control", ZclDataType.BOOLEAN, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ONTIME, new ZclAttributeDescriptor(ATTR_ONTIME, "On Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, true, false));
+        serverAttributeDescriptors.put(ATTR_OFFWAITTIME, new ZclAttributeDescriptor(ATTR_OFFWAITTIME, "Off Wait Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, true, false));
+        serverAttributeDescriptors.put(ATTR_STARTUPONOFF, new ZclAttributeDescriptor(ATTR_STARTUPONOFF, "Start Up On Off", ZclDataType.ENUMERATION_8_BIT, false, true, true, false));
     }
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_ONOFF, new ZclAttribute(this, ATTR_ONOFF, "On Off", ZclDataType.BOOLEAN, true, true, false, true));
-        attributeMap.put(ATTR_GLOBALSCENECONTROL, new ZclAttribute(this, ATTR_GLOBALSCENECONTROL, "Global Scene Control", ZclDataType.BOOLEAN, true, true, false, false));
-        attributeMap.put(ATTR_ONTIME, new ZclAttribute(this, ATTR_ONTIME, "On Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, true, false));
-        attributeMap.put(ATTR_OFFWAITTIME, new ZclAttribute(this, ATTR_OFFWAITTIME, "Off Wait Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, true, false));
-        attributeMap.put(ATTR_STARTUPONOFF, new ZclAttribute(this, ATTR_STARTUPONOFF, "Start Up On Off", ZclDataType.ENUMERATION_8_BIT, false, true, true, false));
+    /**
+     * Map of the client side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> clientCommandConstructors = new HashMap<>();
 
-        return attributeMap;
+    static {
+        clientCommandConstructors.put(0x0000, OffCommand::new);
+        clientCommandConstructors.put(0x0001, OnCommand::new);
+        clientCommandConstructors.put(0x0002, ToggleCommand::new);
+        clientCommandConstructors.put(0x0040, OffWithEffectCommand::new);
+        clientCommandConstructors.put(0x0041, OnWithRecallGlobalSceneCommand::new);
+        clientCommandConstructors.put(0x0042, OnWithTimedOffCommand::new);
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeClientCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
+    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
+        return new ConcurrentSkipListMap<>();
+    }
 
-        commandMap.put(0x0000, OffCommand.class);
-        commandMap.put(0x0001, OnCommand.class);
-        commandMap.put(0x0002, ToggleCommand.class);
-        commandMap.put(0x0040, OffWithEffectCommand.class);
-        commandMap.put(0x0041, OnWithRecallGlobalSceneCommand.class);
-        commandMap.put(0x0042, OnWithTimedOffCommand.class);
+    @Override
+    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
+        return new ZclAttributeMap(this, serverAttributeDescriptors);
+    }
 
-        return commandMap;
+    @Override
+    protected Map<Integer, ZclCommandFactory> getClientCommandConstructors() {
+        return clientCommandConstructors;
     }
 
     /**
@@ -7,7 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -17,8 +19,10 @@ import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDescriptor;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeMap;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
-import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.ZclCommandFactory;
 import com.zsmartsystems.zigbee.zcl.ZclStatus;
 import com.zsmartsystems.zigbee.zcl.clusters.otaupgrade.ImageBlockCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.otaupgrade.ImageBlockResponse;
@@ -160,56 +164,67 @@ public class ZclOtaUpgradeCluster extends ZclCluster {
      */
     public static final int ATTR_IMAGESTAMP = 0x000A;
 
+    /**
+     * Map of the client side attribute descriptors defined by the cluster, indexed by attribute ID
+     */
+    private static Map<Integer, ZclAttributeDescriptor> clientAttributeDescriptors = new TreeMap<>();
+
+    static {
+        clientAttributeDescriptors.put(ATTR_UPGRADESERVERID, new ZclAttributeDescriptor(ATTR_UPGRADESERVERID, "Upgrade Server ID", ZclDataType.IEEE_ADDRESS, true, true, false, false));
+        clientAttributeDescriptors.put(ATTR_FILEOFFSET, new ZclAttributeDescriptor(ATTR_FILEOFFSET, "File Offset", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        clientAttributeDescriptors.put(ATTR_CURRENTFILEVERSION, new ZclAttributeDescriptor(ATTR_CURRENTFILEVERSION, "Current File Version", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        clientAttributeDescriptors.put(ATTR_CURRENTZIGBEESTACKVERSION, new ZclAttributeDescriptor(ATTR_CURRENTZIGBEESTACKVERSION, "Current ZigBee Stack Version", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        clientAttributeDescriptors.put(ATTR_DOWNLOADEDFILEVERSION, new ZclAttributeDescriptor(ATTR_DOWNLOADEDFILEVERSION, "Downloaded File Version", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        clientAttributeDescriptors.put(ATTR_DOWNLOADEDZIGBEESTACKVERSION, new ZclAttributeDescriptor(ATTR_DOWNLOADEDZIGBEESTACKVERSION, "Downloaded ZigBee Stack Version", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        clientAttributeDescriptors.put(ATTR_IMAGEUPGRADESTATUS, new ZclAttributeDescriptor(ATTR_IMAGEUPGRADESTATUS, "Image Upgrade Status", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        clientAttributeDescriptors.put(ATTR_MANUFACTURERID, new ZclAttributeDescriptor(ATTR_MANUFACTURERID, "Manufacturer ID", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        clientAttributeDescriptors.put(ATTR_IMAGETYPEID, new ZclAttributeDescriptor(ATTR_IMAGETYPEID, "Image Type ID", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        clientAttributeDescriptors.put(ATTR_MINIMUMBLOCKREQUESTPERIOD, new ZclAttributeDescriptor(ATTR_MINIMUMBLOCKREQUESTPERIOD, "Minimum Block Request Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        clientAttributeDescriptors.put(ATTR_IMAGESTAMP, new ZclAttributeDescriptor(ATTR_IMAGESTAMP, "Image Stamp", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+    }
+
+    /**
+     * Map of the server side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> serverCommandConstructors = new HashMap<>();
+
+    /**
+     * Map of the client side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> clientCommandConstructors = new HashMap<>();
+
+    static {
+        serverCommandConstructors.put(0x0000, ImageNotifyCommand::new);
+        serverCommandConstructors.put(0x0002, QueryNextImageResponse::new);
+        serverCommandConstructors.put(0x0005, ImageBlockResponse::new);
+        serverCommandConstructors.put(0x0007, UpgradeEndResponse::new);
+        serverCommandConstructors.put(0x0009, QuerySpecificFileResponse::new);
+
+        clientCommandConstructors.put(0x0001, QueryNextImageCommand::new);
+        clientCommandConstructors.put(0x0003, ImageBlockCommand::new);
+        clientCommandConstructors.put(0x0004, ImagePageCommand::new);
+        clientCommandConstructors.put(0x0006, UpgradeEndCommand::new);
+        clientCommandConstructors.put(0x0008, QuerySpecificFileCommand::new);
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_UPGRADESERVERID, new ZclAttribute(this, ATTR_UPGRADESERVERID, "Upgrade Server ID", ZclDataType.IEEE_ADDRESS, true, true, false, false));
-        attributeMap.put(ATTR_FILEOFFSET, new ZclAttribute(this, ATTR_FILEOFFSET, "File Offset", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTFILEVERSION, new ZclAttribute(this, ATTR_CURRENTFILEVERSION, "Current File Version", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTZIGBEESTACKVERSION, new ZclAttribute(this, ATTR_CURRENTZIGBEESTACKVERSION, "Current ZigBee Stack Version", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DOWNLOADEDFILEVERSION, new ZclAttribute(this, ATTR_DOWNLOADEDFILEVERSION, "Downloaded File Version", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DOWNLOADEDZIGBEESTACKVERSION, new ZclAttribute(this, ATTR_DOWNLOADEDZIGBEESTACKVERSION, "Downloaded ZigBee Stack Version", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_IMAGEUPGRADESTATUS, new ZclAttribute(this, ATTR_IMAGEUPGRADESTATUS, "Image Upgrade Status", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_MANUFACTURERID, new ZclAttribute(this, ATTR_MANUFACTURERID, "Manufacturer ID", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_IMAGETYPEID, new ZclAttribute(this, ATTR_IMAGETYPEID, "Image Type ID", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MINIMUMBLOCKREQUESTPERIOD, new ZclAttribute(this, ATTR_MINIMUMBLOCKREQUESTPERIOD, "Minimum Block Request Period", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_IMAGESTAMP, new ZclAttribute(this, ATTR_IMAGESTAMP, "Image Stamp", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-
-        return attributeMap;
+        return new ZclAttributeMap(this, clientAttributeDescriptors);
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+        return new ConcurrentSkipListMap<>();
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeServerCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
-
-        commandMap.put(0x0000, ImageNotifyCommand.class);
-        commandMap.put(0x0002, QueryNextImageResponse.class);
-        commandMap.put(0x0005, ImageBlockResponse.class);
-        commandMap.put(0x0007, UpgradeEndResponse.class);
-        commandMap.put(0x0009, QuerySpecificFileResponse.class);
-
-        return commandMap;
+    protected Map<Integer, ZclCommandFactory> getServerCommandConstructors() {
+        return serverCommandConstructors;
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeClientCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
-
-        commandMap.put(0x0001, QueryNextImageCommand.class);
-        commandMap.put(0x0003, ImageBlockCommand.class);
-        commandMap.put(0x0004, ImagePageCommand.class);
-        commandMap.put(0x0006, UpgradeEndCommand.class);
-        commandMap.put(0x0008, QuerySpecificFileCommand.class);
-
-        return commandMap;
+    protected Map<Integer, ZclCommandFactory> getClientCommandConstructors() {
+        return clientCommandConstructors;
     }
 
     /**
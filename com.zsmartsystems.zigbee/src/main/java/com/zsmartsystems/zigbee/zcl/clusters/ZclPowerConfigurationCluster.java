@@ -8,6 +8,7 @@
 package com.zsmartsystems.zigbee.zcl.clusters;
 
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -16,6 +17,8 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDescriptor;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeMap;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
@@ -200,42 +203,45 @@ public class ZclPowerConfigurationCluster extends ZclCluster {
      */
     public static final int ATTR_BATTERYALARMSTATE = 0x003E;
 
+    /**
+     * Map of the server side attribute descriptors defined by the cluster, indexed by attribute ID
+     */
+    private static Map<Integer, ZclAttributeDescriptor> serverAttributeDescriptors = new TreeMap<>();
+
+    static {
+        serverAttributeDescriptors.put(ATTR_MAINSVOLTAGE, new ZclAttributeDescriptor(ATTR_MAINSVOLTAGE, "Mains Voltage", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_MAINSFREQUENCY, new ZclAttributeDescriptor(ATTR_MAINSFREQUENCY, "Mains Frequency", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_MAINSALARMMASK, new ZclAttributeDescriptor(ATTR_MAINSALARMMASK, "Mains Alarm Mask", ZclDataType.BITMAP_8_BIT, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_MAINSVOLTAGEMINTHRESHOLD, new ZclAttributeDescriptor(ATTR_MAINSVOLTAGEMINTHRESHOLD, "Mains Voltage Min Threshold", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_MAINSVOLTAGEMAXTHRESHOLD, new ZclAttributeDescriptor(ATTR_MAINSVOLTAGEMAXTHRESHOLD, "Mains Voltage Max Threshold", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_MAINSVOLTAGEDWELLTRIPPOINT, new ZclAttributeDescriptor(ATTR_MAINSVOLTAGEDWELLTRIPPOINT, "Mains Voltage Dwell Trip Point", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_BATTERYVOLTAGE, new ZclAttributeDescriptor(ATTR_BATTERYVOLTAGE, "Battery Voltage", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_BATTERYPERCENTAGEREMAINING, new ZclAttributeDescriptor(ATTR_BATTERYPERCENTAGEREMAINING, "Battery Percentage Remaining", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, true));
+        serverAttributeDescriptors.put(ATTR_BATTERYMANUFACTURER, new ZclAttributeDescriptor(ATTR_BATTERYMANUFACTURER, "Battery Manufacturer", ZclDataType.CHARACTER_STRING, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_BATTERYSIZE, new ZclAttributeDescriptor(ATTR_BATTERYSIZE, "Battery Size", ZclDataType.ENUMERATION_8_BIT, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_BATTERYAHRRATING, new ZclAttributeDescriptor(ATTR_BATTERYAHRRATING, "Battery A Hr Rating", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_BATTERYQUANTITY, new ZclAttributeDescriptor(ATTR_BATTERYQUANTITY, "Battery Quantity", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_BATTERYRATEDVOLTAGE, new ZclAttributeDescriptor(ATTR_BATTERYRATEDVOLTAGE, "Battery Rated Voltage", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_BATTERYALARMMASK, new ZclAttributeDescriptor(ATTR_BATTERYALARMMASK, "Battery Alarm Mask", ZclDataType.BITMAP_8_BIT, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_BATTERYVOLTAGEMINTHRESHOLD, new ZclAttributeDescriptor(ATTR_BATTERYVOLTAGEMINTHRESHOLD, "Battery Voltage Min Threshold", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_BATTERYVOLTAGETHRESHOLD1, new ZclAttributeDescriptor(ATTR_BATTERYVOLTAGETHRESHOLD1, "Battery Voltage Threshold 1", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_BATTERYVOLTAGETHRESHOLD2, new ZclAttributeDescriptor(ATTR_BATTERYVOLTAGETHRESHOLD2, "Battery Voltage Threshold 2", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_BATTERYVOLTAGETHRESHOLD3, new ZclAttributeDescriptor(ATTR_BATTERYVOLTAGETHRESHOLD3, "Battery Voltage Threshold 3", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_BATTERYPERCENTAGEMINTHRESHOLD, new ZclAttributeDescriptor(ATTR_BATTERYPERCENTAGEMINTHRESHOLD, "Battery Percentage Min Threshold", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_BATTERYPERCENTAGETHRESHOLD1, new ZclAttributeDescriptor(ATTR_BATTERYPERCENTAGETHRESHOLD1, "Battery Percentage Threshold 1", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_BATTERYPERCENTAGETHRESHOLD2, new ZclAttributeDescriptor(ATTR_BATTERYPERCENTAGETHRESHOLD2, "Battery Percentage Threshold 2", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_BATTERYPERCENTAGETHRESHOLD3, new ZclAttributeDescriptor(ATTR_BATTERYPERCENTAGETHRESHOLD3, "Battery Percentage Threshold 3", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_BATTERYALARMSTATE, new ZclAttributeDescriptor(ATTR_BATTERYALARMSTATE, "Battery Alarm State", ZclDataType.BITMAP_32_BIT, false, true, false, false));
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+        return new ConcurrentSkipListMap<>();
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_MAINSVOLTAGE, new ZclAttribute(this, ATTR_MAINSVOLTAGE, "Mains Voltage", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_MAINSFREQUENCY, new ZclAttribute(this, ATTR_MAINSFREQUENCY, "Mains Frequency", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_MAINSALARMMASK, new ZclAttribute(this, ATTR_MAINSALARMMASK, "Mains Alarm Mask", ZclDataType.BITMAP_8_BIT, false, true, true, false));
-        attributeMap.put(ATTR_MAINSVOLTAGEMINTHRESHOLD, new ZclAttribute(this, ATTR_MAINSVOLTAGEMINTHRESHOLD, "Mains Voltage Min Threshold", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_MAINSVOLTAGEMAXTHRESHOLD, new ZclAttribute(this, ATTR_MAINSVOLTAGEMAXTHRESHOLD, "Mains Voltage Max Threshold", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_MAINSVOLTAGEDWELLTRIPPOINT, new ZclAttribute(this, ATTR_MAINSVOLTAGEDWELLTRIPPOINT, "Mains Voltage Dwell Trip Point", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYVOLTAGE, new ZclAttribute(this, ATTR_BATTERYVOLTAGE, "Battery Voltage", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_BATTERYPERCENTAGEREMAINING, new ZclAttribute(this, ATTR_BATTERYPERCENTAGEREMAINING, "Battery Percentage Remaining", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, true));
-        attributeMap.put(ATTR_BATTERYMANUFACTURER, new ZclAttribute(this, ATTR_BATTERYMANUFACTURER, "Battery Manufacturer", ZclDataType.CHARACTER_STRING, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYSIZE, new ZclAttribute(this, ATTR_BATTERYSIZE, "Battery Size", ZclDataType.ENUMERATION_8_BIT, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYAHRRATING, new ZclAttribute(this, ATTR_BATTERYAHRRATING, "Battery A Hr Rating", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYQUANTITY, new ZclAttribute(this, ATTR_BATTERYQUANTITY, "Battery Quantity", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYRATEDVOLTAGE, new ZclAttribute(this, ATTR_BATTERYRATEDVOLTAGE, "Battery Rated Voltage", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYALARMMASK, new ZclAttribute(this, ATTR_BATTERYALARMMASK, "Battery Alarm Mask", ZclDataType.BITMAP_8_BIT, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYVOLTAGEMINTHRESHOLD, new ZclAttribute(this, ATTR_BATTERYVOLTAGEMINTHRESHOLD, "Battery Voltage Min Threshold", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYVOLTAGETHRESHOLD1, new ZclAttribute(this, ATTR_BATTERYVOLTAGETHRESHOLD1, "Battery Voltage Threshold 1", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYVOLTAGETHRESHOLD2, new ZclAttribute(this, ATTR_BATTERYVOLTAGETHRESHOLD2, "Battery Voltage Threshold 2", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYVOLTAGETHRESHOLD3, new ZclAttribute(this, ATTR_BATTERYVOLTAGETHRESHOLD3, "Battery Voltage Threshold 3", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYPERCENTAGEMINTHRESHOLD, new ZclAttribute(this, ATTR_BATTERYPERCENTAGEMINTHRESHOLD, "Battery Percentage Min Threshold", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYPERCENTAGETHRESHOLD1, new ZclAttribute(this, ATTR_BATTERYPERCENTAGETHRESHOLD1, "Battery Percentage Threshold 1", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYPERCENTAGETHRESHOLD2, new ZclAttribute(this, ATTR_BATTERYPERCENTAGETHRESHOLD2, "Battery Percentage Threshold 2", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYPERCENTAGETHRESHOLD3, new ZclAttribute(this, ATTR_BATTERYPERCENTAGETHRESHOLD3, "Battery Percentage Threshold 3", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_BATTERYALARMSTATE, new ZclAttribute(this, ATTR_BATTERYALARMSTATE, "Battery Alarm State", ZclDataType.BITMAP_32_BIT, false, true, false, false));
-
-        return attributeMap;
+        return new ZclAttributeMap(this, serverAttributeDescriptors);
     }
 
 
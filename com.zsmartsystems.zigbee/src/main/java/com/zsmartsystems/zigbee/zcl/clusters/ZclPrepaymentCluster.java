@@ -8,7 +8,9 @@
 package com.zsmartsystems.zigbee.zcl.clusters;
 
 import java.util.Calendar;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -17,8 +19,10 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDescriptor;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeMap;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
-import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.ZclCommandFactory;
 import com.zsmartsystems.zigbee.zcl.clusters.prepayment.ChangeDebt;
 import com.zsmartsystems.zigbee.zcl.clusters.prepayment.ChangePaymentMode;
 import com.zsmartsystems.zigbee.zcl.clusters.prepayment.ChangePaymentModeResponse;
@@ -603,183 +607,194 @@ public class ZclPrepaymentCluster extends ZclCluster {
      */
     public static final int ATTR_HISTORICALFREEZETIME = 0x055C;
 
+    /**
+     * Map of the server side attribute descriptors defined by the cluster, indexed by attribute ID
+     */
+    private static Map<Integer, ZclAttributeDescriptor> serverAttributeDescriptors = new TreeMap<>();
+
+    static {
+        serverAttributeDescriptors.put(ATTR_PAYMENTCONTROLCONFIGURATION, new ZclAttributeDescriptor(ATTR_PAYMENTCONTROLCONFIGURATION, "Payment Control Configuration", ZclDataType.BITMAP_16_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CREDITREMAINING, new ZclAttributeDescriptor(ATTR_CREDITREMAINING, "Credit Remaining", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_EMERGENCYCREDITREMAINING, new ZclAttributeDescriptor(ATTR_EMERGENCYCREDITREMAINING, "Emergency Credit Remaining", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CREDITSTATUS, new ZclAttributeDescriptor(ATTR_CREDITSTATUS, "Credit Status", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CREDITREMAININGTIMESTAMP, new ZclAttributeDescriptor(ATTR_CREDITREMAININGTIMESTAMP, "Credit Remaining Timestamp", ZclDataType.UTCTIME, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_ACCUMULATEDDEBT, new ZclAttributeDescriptor(ATTR_ACCUMULATEDDEBT, "Accumulated Debt", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_OVERALLDEBTCAP, new ZclAttributeDescriptor(ATTR_OVERALLDEBTCAP, "Overall Debt Cap", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_EMERGENCYCREDITLIMITALLOWANCE, new ZclAttributeDescriptor(ATTR_EMERGENCYCREDITLIMITALLOWANCE, "Emergency Credit Limit Allowance", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_EMERGENCYCREDITTHRESHOLD, new ZclAttributeDescriptor(ATTR_EMERGENCYCREDITTHRESHOLD, "Emergency Credit Threshold", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_TOTALCREDITADDED, new ZclAttributeDescriptor(ATTR_TOTALCREDITADDED, "Total Credit Added", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_MAXCREDITLIMIT, new ZclAttributeDescriptor(ATTR_MAXCREDITLIMIT, "Max Credit Limit", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_MAXCREDITPERTOPUP, new ZclAttributeDescriptor(ATTR_MAXCREDITPERTOPUP, "Max Credit Per Top Up", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_FRIENDLYCREDITWARNING, new ZclAttributeDescriptor(ATTR_FRIENDLYCREDITWARNING, "Friendly Credit Warning", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_LOWCREDITWARNINGLEVEL, new ZclAttributeDescriptor(ATTR_LOWCREDITWARNINGLEVEL, "Low Credit Warning Level", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_IHDLOWCREDITWARNINGLEVEL, new ZclAttributeDescriptor(ATTR_IHDLOWCREDITWARNINGLEVEL, "Ihd Low Credit Warning Level", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_INTERRUPTSUSPENDTIME, new ZclAttributeDescriptor(ATTR_INTERRUPTSUSPENDTIME, "Interrupt Suspend Time", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_REMAININGFRIENDLYCREDITTIME, new ZclAttributeDescriptor(ATTR_REMAININGFRIENDLYCREDITTIME, "Remaining Friendly Credit Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_NEXTFRIENDLYCREDITPERIOD, new ZclAttributeDescriptor(ATTR_NEXTFRIENDLYCREDITPERIOD, "Next Friendly Credit Period", ZclDataType.UTCTIME, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CUTOFFVALUE, new ZclAttributeDescriptor(ATTR_CUTOFFVALUE, "Cut Off Value", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_TOKENCARRIERID, new ZclAttributeDescriptor(ATTR_TOKENCARRIERID, "Token Carrier ID", ZclDataType.OCTET_STRING, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_TOPUPDATETIME1, new ZclAttributeDescriptor(ATTR_TOPUPDATETIME1, "Top Up Date / time #1", ZclDataType.UTCTIME, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_TOPUPAMOUNT1, new ZclAttributeDescriptor(ATTR_TOPUPAMOUNT1, "Top Up Amount #1", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_TOPUPORIGINATINGDEVICE1, new ZclAttributeDescriptor(ATTR_TOPUPORIGINATINGDEVICE1, "Top Up Originating Device #1", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_TOPUPCODE1, new ZclAttributeDescriptor(ATTR_TOPUPCODE1, "Top Up Code #1", ZclDataType.OCTET_STRING, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_TOPUPDATETIME2, new ZclAttributeDescriptor(ATTR_TOPUPDATETIME2, "Top Up Date /time #2", ZclDataType.UTCTIME, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_TOPUPAMOUNT2, new ZclAttributeDescriptor(ATTR_TOPUPAMOUNT2, "Top Up Amount #2", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_TOPUPORIGINATINGDEVICE2, new ZclAttributeDescriptor(ATTR_TOPUPORIGINATINGDEVICE2, "Top Up Originating Device #2", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_TOPUPCODE2, new ZclAttributeDescriptor(ATTR_TOPUPCODE2, "Top Up Code #2", ZclDataType.OCTET_STRING, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_TOPUPDATETIME3, new ZclAttributeDescriptor(ATTR_TOPUPDATETIME3, "Top Up Date /time #3", ZclDataType.UTCTIME, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_TOPUPAMOUNT3, new ZclAttributeDescriptor(ATTR_TOPUPAMOUNT3, "Top Up Amount #3", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_TOPUPORIGINATINGDEVICE3, new ZclAttributeDescriptor(ATTR_TOPUPORIGINATINGDEVICE3, "Top Up Originating Device #3", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_TOPUPCODE3, new ZclAttributeDescriptor(ATTR_TOPUPCODE3, "Top Up Code #3", ZclDataType.OCTET_STRING, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_TOPUPDATETIME4, new ZclAttributeDescriptor(ATTR_TOPUPDATETIME4, "Top Up Date /time #4", ZclDataType.UTCTIME, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_TOPUPAMOUNT4, new ZclAttributeDescriptor(ATTR_TOPUPAMOUNT4, "Top Up Amount #4", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_TOPUPORIGINATINGDEVICE4, new ZclAttributeDescriptor(ATTR_TOPUPORIGINATINGDEVICE4, "Top Up Originating Device #4", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_TOPUPCODE4, new ZclAttributeDescriptor(ATTR_TOPUPCODE4, "Top Up Code #4", ZclDataType.OCTET_STRING, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_TOPUPDATETIME5, new ZclAttributeDescriptor(ATTR_TOPUPDATETIME5, "Top Up Date /time #5", ZclDataType.UTCTIME, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_TOPUPAMOUNT5, new ZclAttributeDescriptor(ATTR_TOPUPAMOUNT5, "Top Up Amount #5", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_TOPUPORIGINATINGDEVICE5, new ZclAttributeDescriptor(ATTR_TOPUPORIGINATINGDEVICE5, "Top Up Originating Device #5", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_TOPUPCODE5, new ZclAttributeDescriptor(ATTR_TOPUPCODE5, "Top Up Code #5", ZclDataType.OCTET_STRING, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEBTLABEL1, new ZclAttributeDescriptor(ATTR_DEBTLABEL1, "Debt Label 1", ZclDataType.OCTET_STRING, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEBTAMOUNT1, new ZclAttributeDescriptor(ATTR_DEBTAMOUNT1, "Debt Amount 1", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEBTRECOVERYMETHOD1, new ZclAttributeDescriptor(ATTR_DEBTRECOVERYMETHOD1, "Debt Recovery Method 1", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEBTRECOVERYSTARTTIME1, new ZclAttributeDescriptor(ATTR_DEBTRECOVERYSTARTTIME1, "Debt Recovery Start Time 1", ZclDataType.UTCTIME, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEBTRECOVERYCOLLECTIONTIME1, new ZclAttributeDescriptor(ATTR_DEBTRECOVERYCOLLECTIONTIME1, "Debt Recovery Collection Time 1", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEBTRECOVERYFREQUENCY1, new ZclAttributeDescriptor(ATTR_DEBTRECOVERYFREQUENCY1, "Debt Recovery Frequency 1", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEBTRECOVERYAMOUNT1, new ZclAttributeDescriptor(ATTR_DEBTRECOVERYAMOUNT1, "Debt Recovery Amount 1", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEBTRECOVERYTOPUPPERCENTAGE1, new ZclAttributeDescriptor(ATTR_DEBTRECOVERYTOPUPPERCENTAGE1, "Debt Recovery Top Up Percentage 1", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEBTLABEL2, new ZclAttributeDescriptor(ATTR_DEBTLABEL2, "Debt Label 2", ZclDataType.OCTET_STRING, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEBTAMOUNT2, new ZclAttributeDescriptor(ATTR_DEBTAMOUNT2, "Debt Amount 2", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEBTRECOVERYMETHOD2, new ZclAttributeDescriptor(ATTR_DEBTRECOVERYMETHOD2, "Debt Recovery Method 2", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEBTRECOVERYSTARTTIME2, new ZclAttributeDescriptor(ATTR_DEBTRECOVERYSTARTTIME2, "Debt Recovery Start Time 2", ZclDataType.UTCTIME, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEBTRECOVERYCOLLECTIONTIME2, new ZclAttributeDescriptor(ATTR_DEBTRECOVERYCOLLECTIONTIME2, "Debt Recovery Collection Time 2", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEBTRECOVERYFREQUENCY2, new ZclAttributeDescriptor(ATTR_DEBTRECOVERYFREQUENCY2, "Debt Recovery Frequency 2", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEBTRECOVERYAMOUNT2, new ZclAttributeDescriptor(ATTR_DEBTRECOVERYAMOUNT2, "Debt Recovery Amount 2", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEBTRECOVERYTOPUPPERCENTAGE2, new ZclAttributeDescriptor(ATTR_DEBTRECOVERYTOPUPPERCENTAGE2, "Debt Recovery Top Up Percentage 2", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEBTLABEL3, new ZclAttributeDescriptor(ATTR_DEBTLABEL3, "Debt Label 3", ZclDataType.OCTET_STRING, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEBTAMOUNT3, new ZclAttributeDescriptor(ATTR_DEBTAMOUNT3, "Debt Amount 3", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEBTRECOVERYMETHOD3, new ZclAttributeDescriptor(ATTR_DEBTRECOVERYMETHOD3, "Debt Recovery Method 3", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEBTRECOVERYSTARTTIME3, new ZclAttributeDescriptor(ATTR_DEBTRECOVERYSTARTTIME3, "Debt Recovery Start Time 3", ZclDataType.UTCTIME, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEBTRECOVERYCOLLECTIONTIME3, new ZclAttributeDescriptor(ATTR_DEBTRECOVERYCOLLECTIONTIME3, "Debt Recovery Collection Time 3", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEBTRECOVERYFREQUENCY3, new ZclAttributeDescriptor(ATTR_DEBTRECOVERYFREQUENCY3, "Debt Recovery Frequency 3", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEBTRECOVERYAMOUNT3, new ZclAttributeDescriptor(ATTR_DEBTRECOVERYAMOUNT3, "Debt Recovery Amount 3", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_DEBTRECOVERYTOPUPPERCENTAGE3, new ZclAttributeDescriptor(ATTR_DEBTRECOVERYTOPUPPERCENTAGE3, "Debt Recovery Top Up Percentage 3", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREPAYMENTALARMSTATUS, new ZclAttributeDescriptor(ATTR_PREPAYMENTALARMSTATUS, "Prepayment Alarm Status", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_PREPAYGENERICALARMMASK, new ZclAttributeDescriptor(ATTR_PREPAYGENERICALARMMASK, "Prepay Generic Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_PREPAYSWITCHALARMMASK, new ZclAttributeDescriptor(ATTR_PREPAYSWITCHALARMMASK, "Prepay Switch Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_PREPAYEVENTALARMMASK, new ZclAttributeDescriptor(ATTR_PREPAYEVENTALARMMASK, "Prepay Event Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_HISTORICALCOSTCONSUMPTIONFORMATTING, new ZclAttributeDescriptor(ATTR_HISTORICALCOSTCONSUMPTIONFORMATTING, "Historical Cost Consumption Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CONSUMPTIONUNITOFMEASUREMENT, new ZclAttributeDescriptor(ATTR_CONSUMPTIONUNITOFMEASUREMENT, "Consumption Unit Of Measurement", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENCYSCALINGFACTOR, new ZclAttributeDescriptor(ATTR_CURRENCYSCALINGFACTOR, "Currency Scaling Factor", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENCY, new ZclAttributeDescriptor(ATTR_CURRENCY, "Currency", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTDAYCOSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTDAYCOSTCONSUMPTIONDELIVERED, "Current Day Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTDAYCOSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTDAYCOSTCONSUMPTIONRECEIVED, "Current Day Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAYCOSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAYCOSTCONSUMPTIONDELIVERED, "Previous Day Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAYCOSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAYCOSTCONSUMPTIONRECEIVED, "Previous Day Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY2COSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY2COSTCONSUMPTIONDELIVERED, "Previous Day 2 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY2COSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY2COSTCONSUMPTIONRECEIVED, "Previous Day 2 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY3COSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY3COSTCONSUMPTIONDELIVERED, "Previous Day 3 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY3COSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY3COSTCONSUMPTIONRECEIVED, "Previous Day 3 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY4COSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY4COSTCONSUMPTIONDELIVERED, "Previous Day 4 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY4COSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY4COSTCONSUMPTIONRECEIVED, "Previous Day 4 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY5COSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY5COSTCONSUMPTIONDELIVERED, "Previous Day 5 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY5COSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY5COSTCONSUMPTIONRECEIVED, "Previous Day 5 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY6COSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY6COSTCONSUMPTIONDELIVERED, "Previous Day 6 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY6COSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY6COSTCONSUMPTIONRECEIVED, "Previous Day 6 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY7COSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY7COSTCONSUMPTIONDELIVERED, "Previous Day 7 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY7COSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY7COSTCONSUMPTIONRECEIVED, "Previous Day 7 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY8COSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY8COSTCONSUMPTIONDELIVERED, "Previous Day 8 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSDAY8COSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSDAY8COSTCONSUMPTIONRECEIVED, "Previous Day 8 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTWEEKCOSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTWEEKCOSTCONSUMPTIONDELIVERED, "Current Week Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTWEEKCOSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTWEEKCOSTCONSUMPTIONRECEIVED, "Current Week Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONDELIVERED, "Previous Week Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONRECEIVED, "Previous Week Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONDELIVERED, "Previous Week 2 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONRECEIVED, "Previous Week 2 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONDELIVERED, "Previous Week 3 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONRECEIVED, "Previous Week 3 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONDELIVERED, "Previous Week 4 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONRECEIVED, "Previous Week 4 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONDELIVERED, "Previous Week 5 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONRECEIVED, "Previous Week 5 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTMONTHCOSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_CURRENTMONTHCOSTCONSUMPTIONDELIVERED, "Current Month Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTMONTHCOSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_CURRENTMONTHCOSTCONSUMPTIONRECEIVED, "Current Month Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONDELIVERED, "Previous Month Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONRECEIVED, "Previous Month Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONDELIVERED, "Previous Month 2 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONRECEIVED, "Previous Month 2 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONDELIVERED, "Previous Month 3 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONRECEIVED, "Previous Month 3 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONDELIVERED, "Previous Month 4 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONRECEIVED, "Previous Month 4 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONDELIVERED, "Previous Month 5 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONRECEIVED, "Previous Month 5 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONDELIVERED, "Previous Month 6 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONRECEIVED, "Previous Month 6 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONDELIVERED, "Previous Month 7 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONRECEIVED, "Previous Month 7 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONDELIVERED, "Previous Month 8 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONRECEIVED, "Previous Month 8 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONDELIVERED, "Previous Month 9 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONRECEIVED, "Previous Month 9 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONDELIVERED, "Previous Month 10 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONRECEIVED, "Previous Month 10 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONDELIVERED, "Previous Month 11 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONRECEIVED, "Previous Month 11 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONDELIVERED, "Previous Month 12 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONRECEIVED, "Previous Month 12 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONDELIVERED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONDELIVERED, "Previous Month 13 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONRECEIVED, new ZclAttributeDescriptor(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONRECEIVED, "Previous Month 13 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_HISTORICALFREEZETIME, new ZclAttributeDescriptor(ATTR_HISTORICALFREEZETIME, "Historical Freeze Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+    }
+
+    /**
+     * Map of the server side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> serverCommandConstructors = new HashMap<>();
+
+    /**
+     * Map of the client side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> clientCommandConstructors = new HashMap<>();
+
+    static {
+        serverCommandConstructors.put(0x0001, PublishPrepaySnapshot::new);
+        serverCommandConstructors.put(0x0002, ChangePaymentModeResponse::new);
+        serverCommandConstructors.put(0x0003, ConsumerTopUpResponse::new);
+        serverCommandConstructors.put(0x0005, PublishTopUpLog::new);
+        serverCommandConstructors.put(0x0006, PublishDebtLog::new);
+
+        clientCommandConstructors.put(0x0000, SelectAvailableEmergencyCredit::new);
+        clientCommandConstructors.put(0x0002, ChangeDebt::new);
+        clientCommandConstructors.put(0x0003, EmergencyCreditSetup::new);
+        clientCommandConstructors.put(0x0004, ConsumerTopUp::new);
+        clientCommandConstructors.put(0x0005, CreditAdjustment::new);
+        clientCommandConstructors.put(0x0006, ChangePaymentMode::new);
+        clientCommandConstructors.put(0x0007, GetPrepaySnapshot::new);
+        clientCommandConstructors.put(0x0008, GetTopUpLog::new);
+        clientCommandConstructors.put(0x0009, SetLowCreditWarningLevel::new);
+        clientCommandConstructors.put(0x000A, GetDebtRepaymentLog::new);
+        clientCommandConstructors.put(0x000B, SetMaximumCreditLimit::new);
+        clientCommandConstructors.put(0x000C, SetOverallDebtCap::new);
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+        return new ConcurrentSkipListMap<>();
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_PAYMENTCONTROLCONFIGURATION, new ZclAttribute(this, ATTR_PAYMENTCONTROLCONFIGURATION, "Payment Control Configuration", ZclDataType.BITMAP_16_BIT, true, true, false, false));
-        attributeMap.put(ATTR_CREDITREMAINING, new ZclAttribute(this, ATTR_CREDITREMAINING, "Credit Remaining", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_EMERGENCYCREDITREMAINING, new ZclAttribute(this, ATTR_EMERGENCYCREDITREMAINING, "Emergency Credit Remaining", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CREDITSTATUS, new ZclAttribute(this, ATTR_CREDITSTATUS, "Credit Status", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_CREDITREMAININGTIMESTAMP, new ZclAttribute(this, ATTR_CREDITREMAININGTIMESTAMP, "Credit Remaining Timestamp", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_ACCUMULATEDDEBT, new ZclAttribute(this, ATTR_ACCUMULATEDDEBT, "Accumulated Debt", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_OVERALLDEBTCAP, new ZclAttribute(this, ATTR_OVERALLDEBTCAP, "Overall Debt Cap", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_EMERGENCYCREDITLIMITALLOWANCE, new ZclAttribute(this, ATTR_EMERGENCYCREDITLIMITALLOWANCE, "Emergency Credit Limit Allowance", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_EMERGENCYCREDITTHRESHOLD, new ZclAttribute(this, ATTR_EMERGENCYCREDITTHRESHOLD, "Emergency Credit Threshold", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_TOTALCREDITADDED, new ZclAttribute(this, ATTR_TOTALCREDITADDED, "Total Credit Added", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MAXCREDITLIMIT, new ZclAttribute(this, ATTR_MAXCREDITLIMIT, "Max Credit Limit", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_MAXCREDITPERTOPUP, new ZclAttribute(this, ATTR_MAXCREDITPERTOPUP, "Max Credit Per Top Up", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_FRIENDLYCREDITWARNING, new ZclAttribute(this, ATTR_FRIENDLYCREDITWARNING, "Friendly Credit Warning", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_LOWCREDITWARNINGLEVEL, new ZclAttribute(this, ATTR_LOWCREDITWARNINGLEVEL, "Low Credit Warning Level", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_IHDLOWCREDITWARNINGLEVEL, new ZclAttribute(this, ATTR_IHDLOWCREDITWARNINGLEVEL, "Ihd Low Credit Warning Level", ZclDataType.UNSIGNED_32_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_INTERRUPTSUSPENDTIME, new ZclAttribute(this, ATTR_INTERRUPTSUSPENDTIME, "Interrupt Suspend Time", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_REMAININGFRIENDLYCREDITTIME, new ZclAttribute(this, ATTR_REMAININGFRIENDLYCREDITTIME, "Remaining Friendly Credit Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NEXTFRIENDLYCREDITPERIOD, new ZclAttribute(this, ATTR_NEXTFRIENDLYCREDITPERIOD, "Next Friendly Credit Period", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_CUTOFFVALUE, new ZclAttribute(this, ATTR_CUTOFFVALUE, "Cut Off Value", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_TOKENCARRIERID, new ZclAttribute(this, ATTR_TOKENCARRIERID, "Token Carrier ID", ZclDataType.OCTET_STRING, false, true, true, true));
-        attributeMap.put(ATTR_TOPUPDATETIME1, new ZclAttribute(this, ATTR_TOPUPDATETIME1, "Top Up Date / time #1", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPAMOUNT1, new ZclAttribute(this, ATTR_TOPUPAMOUNT1, "Top Up Amount #1", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPORIGINATINGDEVICE1, new ZclAttribute(this, ATTR_TOPUPORIGINATINGDEVICE1, "Top Up Originating Device #1", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPCODE1, new ZclAttribute(this, ATTR_TOPUPCODE1, "Top Up Code #1", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPDATETIME2, new ZclAttribute(this, ATTR_TOPUPDATETIME2, "Top Up Date /time #2", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPAMOUNT2, new ZclAttribute(this, ATTR_TOPUPAMOUNT2, "Top Up Amount #2", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPORIGINATINGDEVICE2, new ZclAttribute(this, ATTR_TOPUPORIGINATINGDEVICE2, "Top Up Originating Device #2", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPCODE2, new ZclAttribute(this, ATTR_TOPUPCODE2, "Top Up Code #2", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPDATETIME3, new ZclAttribute(this, ATTR_TOPUPDATETIME3, "Top Up Date /time #3", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPAMOUNT3, new ZclAttribute(this, ATTR_TOPUPAMOUNT3, "Top Up Amount #3", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPORIGINATINGDEVICE3, new ZclAttribute(this, ATTR_TOPUPORIGINATINGDEVICE3, "Top Up Originating Device #3", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPCODE3, new ZclAttribute(this, ATTR_TOPUPCODE3, "Top Up Code #3", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPDATETIME4, new ZclAttribute(this, ATTR_TOPUPDATETIME4, "Top Up Date /time #4", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPAMOUNT4, new ZclAttribute(this, ATTR_TOPUPAMOUNT4, "Top Up Amount #4", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPORIGINATINGDEVICE4, new ZclAttribute(this, ATTR_TOPUPORIGINATINGDEVICE4, "Top Up Originating Device #4", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPCODE4, new ZclAttribute(this, ATTR_TOPUPCODE4, "Top Up Code #4", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPDATETIME5, new ZclAttribute(this, ATTR_TOPUPDATETIME5, "Top Up Date /time #5", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPAMOUNT5, new ZclAttribute(this, ATTR_TOPUPAMOUNT5, "Top Up Amount #5", ZclDataType.SIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPORIGINATINGDEVICE5, new ZclAttribute(this, ATTR_TOPUPORIGINATINGDEVICE5, "Top Up Originating Device #5", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_TOPUPCODE5, new ZclAttribute(this, ATTR_TOPUPCODE5, "Top Up Code #5", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_DEBTLABEL1, new ZclAttribute(this, ATTR_DEBTLABEL1, "Debt Label 1", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_DEBTAMOUNT1, new ZclAttribute(this, ATTR_DEBTAMOUNT1, "Debt Amount 1", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYMETHOD1, new ZclAttribute(this, ATTR_DEBTRECOVERYMETHOD1, "Debt Recovery Method 1", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYSTARTTIME1, new ZclAttribute(this, ATTR_DEBTRECOVERYSTARTTIME1, "Debt Recovery Start Time 1", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYCOLLECTIONTIME1, new ZclAttribute(this, ATTR_DEBTRECOVERYCOLLECTIONTIME1, "Debt Recovery Collection Time 1", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYFREQUENCY1, new ZclAttribute(this, ATTR_DEBTRECOVERYFREQUENCY1, "Debt Recovery Frequency 1", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYAMOUNT1, new ZclAttribute(this, ATTR_DEBTRECOVERYAMOUNT1, "Debt Recovery Amount 1", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYTOPUPPERCENTAGE1, new ZclAttribute(this, ATTR_DEBTRECOVERYTOPUPPERCENTAGE1, "Debt Recovery Top Up Percentage 1", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTLABEL2, new ZclAttribute(this, ATTR_DEBTLABEL2, "Debt Label 2", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_DEBTAMOUNT2, new ZclAttribute(this, ATTR_DEBTAMOUNT2, "Debt Amount 2", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYMETHOD2, new ZclAttribute(this, ATTR_DEBTRECOVERYMETHOD2, "Debt Recovery Method 2", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYSTARTTIME2, new ZclAttribute(this, ATTR_DEBTRECOVERYSTARTTIME2, "Debt Recovery Start Time 2", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYCOLLECTIONTIME2, new ZclAttribute(this, ATTR_DEBTRECOVERYCOLLECTIONTIME2, "Debt Recovery Collection Time 2", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYFREQUENCY2, new ZclAttribute(this, ATTR_DEBTRECOVERYFREQUENCY2, "Debt Recovery Frequency 2", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYAMOUNT2, new ZclAttribute(this, ATTR_DEBTRECOVERYAMOUNT2, "Debt Recovery Amount 2", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYTOPUPPERCENTAGE2, new ZclAttribute(this, ATTR_DEBTRECOVERYTOPUPPERCENTAGE2, "Debt Recovery Top Up Percentage 2", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTLABEL3, new ZclAttribute(this, ATTR_DEBTLABEL3, "Debt Label 3", ZclDataType.OCTET_STRING, true, true, false, false));
-        attributeMap.put(ATTR_DEBTAMOUNT3, new ZclAttribute(this, ATTR_DEBTAMOUNT3, "Debt Amount 3", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYMETHOD3, new ZclAttribute(this, ATTR_DEBTRECOVERYMETHOD3, "Debt Recovery Method 3", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYSTARTTIME3, new ZclAttribute(this, ATTR_DEBTRECOVERYSTARTTIME3, "Debt Recovery Start Time 3", ZclDataType.UTCTIME, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYCOLLECTIONTIME3, new ZclAttribute(this, ATTR_DEBTRECOVERYCOLLECTIONTIME3, "Debt Recovery Collection Time 3", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYFREQUENCY3, new ZclAttribute(this, ATTR_DEBTRECOVERYFREQUENCY3, "Debt Recovery Frequency 3", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYAMOUNT3, new ZclAttribute(this, ATTR_DEBTRECOVERYAMOUNT3, "Debt Recovery Amount 3", ZclDataType.UNSIGNED_32_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_DEBTRECOVERYTOPUPPERCENTAGE3, new ZclAttribute(this, ATTR_DEBTRECOVERYTOPUPPERCENTAGE3, "Debt Recovery Top Up Percentage 3", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREPAYMENTALARMSTATUS, new ZclAttribute(this, ATTR_PREPAYMENTALARMSTATUS, "Prepayment Alarm Status", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_PREPAYGENERICALARMMASK, new ZclAttribute(this, ATTR_PREPAYGENERICALARMMASK, "Prepay Generic Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_PREPAYSWITCHALARMMASK, new ZclAttribute(this, ATTR_PREPAYSWITCHALARMMASK, "Prepay Switch Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_PREPAYEVENTALARMMASK, new ZclAttribute(this, ATTR_PREPAYEVENTALARMMASK, "Prepay Event Alarm Mask", ZclDataType.BITMAP_16_BIT, false, true, true, true));
-        attributeMap.put(ATTR_HISTORICALCOSTCONSUMPTIONFORMATTING, new ZclAttribute(this, ATTR_HISTORICALCOSTCONSUMPTIONFORMATTING, "Historical Cost Consumption Formatting", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_CONSUMPTIONUNITOFMEASUREMENT, new ZclAttribute(this, ATTR_CONSUMPTIONUNITOFMEASUREMENT, "Consumption Unit Of Measurement", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_CURRENCYSCALINGFACTOR, new ZclAttribute(this, ATTR_CURRENCYSCALINGFACTOR, "Currency Scaling Factor", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_CURRENCY, new ZclAttribute(this, ATTR_CURRENCY, "Currency", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYCOSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTDAYCOSTCONSUMPTIONDELIVERED, "Current Day Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTDAYCOSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTDAYCOSTCONSUMPTIONRECEIVED, "Current Day Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYCOSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAYCOSTCONSUMPTIONDELIVERED, "Previous Day Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAYCOSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAYCOSTCONSUMPTIONRECEIVED, "Previous Day Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY2COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY2COSTCONSUMPTIONDELIVERED, "Previous Day 2 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY2COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY2COSTCONSUMPTIONRECEIVED, "Previous Day 2 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY3COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY3COSTCONSUMPTIONDELIVERED, "Previous Day 3 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY3COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY3COSTCONSUMPTIONRECEIVED, "Previous Day 3 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY4COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY4COSTCONSUMPTIONDELIVERED, "Previous Day 4 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY4COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY4COSTCONSUMPTIONRECEIVED, "Previous Day 4 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY5COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY5COSTCONSUMPTIONDELIVERED, "Previous Day 5 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY5COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY5COSTCONSUMPTIONRECEIVED, "Previous Day 5 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY6COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY6COSTCONSUMPTIONDELIVERED, "Previous Day 6 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY6COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY6COSTCONSUMPTIONRECEIVED, "Previous Day 6 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY7COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY7COSTCONSUMPTIONDELIVERED, "Previous Day 7 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY7COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY7COSTCONSUMPTIONRECEIVED, "Previous Day 7 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY8COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSDAY8COSTCONSUMPTIONDELIVERED, "Previous Day 8 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSDAY8COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSDAY8COSTCONSUMPTIONRECEIVED, "Previous Day 8 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTWEEKCOSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTWEEKCOSTCONSUMPTIONDELIVERED, "Current Week Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTWEEKCOSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTWEEKCOSTCONSUMPTIONRECEIVED, "Current Week Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEKCOSTCONSUMPTIONDELIVERED, "Previous Week Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEKCOSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEKCOSTCONSUMPTIONRECEIVED, "Previous Week Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK2COSTCONSUMPTIONDELIVERED, "Previous Week 2 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK2COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK2COSTCONSUMPTIONRECEIVED, "Previous Week 2 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK3COSTCONSUMPTIONDELIVERED, "Previous Week 3 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK3COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK3COSTCONSUMPTIONRECEIVED, "Previous Week 3 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK4COSTCONSUMPTIONDELIVERED, "Previous Week 4 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK4COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK4COSTCONSUMPTIONRECEIVED, "Previous Week 4 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSWEEK5COSTCONSUMPTIONDELIVERED, "Previous Week 5 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSWEEK5COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSWEEK5COSTCONSUMPTIONRECEIVED, "Previous Week 5 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHCOSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_CURRENTMONTHCOSTCONSUMPTIONDELIVERED, "Current Month Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTMONTHCOSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_CURRENTMONTHCOSTCONSUMPTIONRECEIVED, "Current Month Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTHCOSTCONSUMPTIONDELIVERED, "Previous Month Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTHCOSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTHCOSTCONSUMPTIONRECEIVED, "Previous Month Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH2COSTCONSUMPTIONDELIVERED, "Previous Month 2 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH2COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH2COSTCONSUMPTIONRECEIVED, "Previous Month 2 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH3COSTCONSUMPTIONDELIVERED, "Previous Month 3 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH3COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH3COSTCONSUMPTIONRECEIVED, "Previous Month 3 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH4COSTCONSUMPTIONDELIVERED, "Previous Month 4 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH4COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH4COSTCONSUMPTIONRECEIVED, "Previous Month 4 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH5COSTCONSUMPTIONDELIVERED, "Previous Month 5 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH5COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH5COSTCONSUMPTIONRECEIVED, "Previous Month 5 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH6COSTCONSUMPTIONDELIVERED, "Previous Month 6 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH6COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH6COSTCONSUMPTIONRECEIVED, "Previous Month 6 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH7COSTCONSUMPTIONDELIVERED, "Previous Month 7 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH7COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH7COSTCONSUMPTIONRECEIVED, "Previous Month 7 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH8COSTCONSUMPTIONDELIVERED, "Previous Month 8 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH8COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH8COSTCONSUMPTIONRECEIVED, "Previous Month 8 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH9COSTCONSUMPTIONDELIVERED, "Previous Month 9 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH9COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH9COSTCONSUMPTIONRECEIVED, "Previous Month 9 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH10COSTCONSUMPTIONDELIVERED, "Previous Month 10 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH10COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH10COSTCONSUMPTIONRECEIVED, "Previous Month 10 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH11COSTCONSUMPTIONDELIVERED, "Previous Month 11 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH11COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH11COSTCONSUMPTIONRECEIVED, "Previous Month 11 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH12COSTCONSUMPTIONDELIVERED, "Previous Month 12 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH12COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH12COSTCONSUMPTIONRECEIVED, "Previous Month 12 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONDELIVERED, new ZclAttribute(this, ATTR_PREVIOUSMONTH13COSTCONSUMPTIONDELIVERED, "Previous Month 13 Cost Consumption Delivered", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PREVIOUSMONTH13COSTCONSUMPTIONRECEIVED, new ZclAttribute(this, ATTR_PREVIOUSMONTH13COSTCONSUMPTIONRECEIVED, "Previous Month 13 Cost Consumption Received", ZclDataType.UNSIGNED_48_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_HISTORICALFREEZETIME, new ZclAttribute(this, ATTR_HISTORICALFREEZETIME, "Historical Freeze Time", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-
-        return attributeMap;
+        return new ZclAttributeMap(this, serverAttributeDescriptors);
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeServerCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
-
-        commandMap.put(0x0001, PublishPrepaySnapshot.class);
-        commandMap.put(0x0002, ChangePaymentModeResponse.class);
-        commandMap.put(0x0003, ConsumerTopUpResponse.class);
-        commandMap.put(0x0005, PublishTopUpLog.class);
-        commandMap.put(0x0006, PublishDebtLog.class);
-
-        return commandMap;
+    protected Map<Integer, ZclCommandFactory> getServerCommandConstructors() {
+        return serverCommandConstructors;
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeClientCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
-
-        commandMap.put(0x0000, SelectAvailableEmergencyCredit.class);
-        commandMap.put(0x0002, ChangeDebt.class);
-        commandMap.put(0x0003, EmergencyCreditSetup.class);
-        commandMap.put(0x0004, ConsumerTopUp.class);
-        commandMap.put(0x0005, CreditAdjustment.class);
-        commandMap.put(0x0006, ChangePaymentMode.class);
-        commandMap.put(0x0007, GetPrepaySnapshot.class);
-        commandMap.put(0x0008, GetTopUpLog.class);
-        commandMap.put(0x0009, SetLowCreditWarningLevel.class);
-        commandMap.put(0x000A, GetDebtRepaymentLog.class);
-        commandMap.put(0x000B, SetMaximumCreditLimit.class);
-        commandMap.put(0x000C, SetOverallDebtCap.class);
-
-        return commandMap;
+    protected Map<Integer, ZclCommandFactory> getClientCommandConstructors() {
+        return clientCommandConstructors;
     }
 
     /**
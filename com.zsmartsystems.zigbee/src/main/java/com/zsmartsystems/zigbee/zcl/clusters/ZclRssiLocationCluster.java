@@ -7,8 +7,10 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -18,8 +20,10 @@ import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDescriptor;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeMap;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
-import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.ZclCommandFactory;
 import com.zsmartsystems.zigbee.zcl.clusters.rssilocation.AnchorNodeAnnounceCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.rssilocation.CompactLocationDataNotificationCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.rssilocation.DeviceConfigurationResponse;
@@ -162,63 +166,74 @@ public class ZclRssiLocationCluster extends ZclCluster {
      */
     public static final int ATTR_NUMBERRSSIMEASUREMENTS = 0x0017;
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+    /**
+     * Map of the server side attribute descriptors defined by the cluster, indexed by attribute ID
+     */
+    private static Map<Integer, ZclAttributeDescriptor> serverAttributeDescriptors = new TreeMap<>();
+
+    static {
+        serverAttributeDescriptors.put(ATTR_LOCATIONTYPE, new ZclAttributeDescriptor(ATTR_LOCATIONTYPE, "Location Type", ZclDataType.DATA_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_LOCATIONMETHOD, new ZclAttributeDescriptor(ATTR_LOCATIONMETHOD, "Location Method", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_LOCATIONAGE, new ZclAttributeDescriptor(ATTR_LOCATIONAGE, "Location Age", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_QUALITYMEASURE, new ZclAttributeDescriptor(ATTR_QUALITYMEASURE, "Quality Measure", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_NUMBEROFDEVICES, new ZclAttributeDescriptor(ATTR_NUMBEROFDEVICES, "Number Of Devices", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_COORDINATE1, new ZclAttributeDescriptor(ATTR_COORDINATE1, "Coordinate 1", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, true, false));
+        serverAttributeDescriptors.put(ATTR_COORDINATE2, new ZclAttributeDescriptor(ATTR_COORDINATE2, "Coordinate 2", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, true, false));
+        serverAttributeDescriptors.put(ATTR_COORDINATE3, new ZclAttributeDescriptor(ATTR_COORDINATE3, "Coordinate 3", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_POWER, new ZclAttributeDescriptor(ATTR_POWER, "Power", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, true, false));
+        serverAttributeDescriptors.put(ATTR_PATHLOSSEXPONENT, new ZclAttributeDescriptor(ATTR_PATHLOSSEXPONENT, "Path Loss Exponent", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, true, false));
+        serverAttributeDescriptors.put(ATTR_REPORTINGPERIOD, new ZclAttributeDescriptor(ATTR_REPORTINGPERIOD, "Reporting Period", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_CALCULATIONPERIOD, new ZclAttributeDescriptor(ATTR_CALCULATIONPERIOD, "Calculation Period", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_NUMBERRSSIMEASUREMENTS, new ZclAttributeDescriptor(ATTR_NUMBERRSSIMEASUREMENTS, "Number RSSI Measurements", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, true, false));
     }
 
-    @Override
-    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
+    /**
+     * Map of the server side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> serverCommandConstructors = new HashMap<>();
 
-        attributeMap.put(ATTR_LOCATIONTYPE, new ZclAttribute(this, ATTR_LOCATIONTYPE, "Location Type", ZclDataType.DATA_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_LOCATIONMETHOD, new ZclAttribute(this, ATTR_LOCATIONMETHOD, "Location Method", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_LOCATIONAGE, new ZclAttribute(this, ATTR_LOCATIONAGE, "Location Age", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_QUALITYMEASURE, new ZclAttribute(this, ATTR_QUALITYMEASURE, "Quality Measure", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_NUMBEROFDEVICES, new ZclAttribute(this, ATTR_NUMBEROFDEVICES, "Number Of Devices", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false, false));
-        attributeMap.put(ATTR_COORDINATE1, new ZclAttribute(this, ATTR_COORDINATE1, "Coordinate 1", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, true, false));
-        attributeMap.put(ATTR_COORDINATE2, new ZclAttribute(this, ATTR_COORDINATE2, "Coordinate 2", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, true, false));
-        attributeMap.put(ATTR_COORDINATE3, new ZclAttribute(this, ATTR_COORDINATE3, "Coordinate 3", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_POWER, new ZclAttribute(this, ATTR_POWER, "Power", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, true, false));
-        attributeMap.put(ATTR_PATHLOSSEXPONENT, new ZclAttribute(this, ATTR_PATHLOSSEXPONENT, "Path Loss Exponent", ZclDataType.SIGNED_16_BIT_INTEGER, true, true, true, false));
-        attributeMap.put(ATTR_REPORTINGPERIOD, new ZclAttribute(this, ATTR_REPORTINGPERIOD, "Reporting Period", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_CALCULATIONPERIOD, new ZclAttribute(this, ATTR_CALCULATIONPERIOD, "Calculation Period", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_NUMBERRSSIMEASUREMENTS, new ZclAttribute(this, ATTR_NUMBERRSSIMEASUREMENTS, "Number RSSI Measurements", ZclDataType.SIGNED_16_BIT_INTEGER, false, true, true, false));
+    /**
+     * Map of the client side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> clientCommandConstructors = new HashMap<>();
+
+    static {
+        serverCommandConstructors.put(0x0000, DeviceConfigurationResponse::new);
+        serverCommandConstructors.put(0x0001, LocationDataResponse::new);
+        serverCommandConstructors.put(0x0002, LocationDataNotificationCommand::new);
+        serverCommandConstructors.put(0x0003, CompactLocationDataNotificationCommand::new);
+        serverCommandConstructors.put(0x0004, RssiPingCommand::new);
+        serverCommandConstructors.put(0x0005, RssiRequestCommand::new);
+        serverCommandConstructors.put(0x0006, ReportRssiMeasurementsCommand::new);
+        serverCommandConstructors.put(0x0007, RequestOwnLocationCommand::new);
 
-        return attributeMap;
+        clientCommandConstructors.put(0x0000, SetAbsoluteLocationCommand::new);
+        clientCommandConstructors.put(0x0001, SetDeviceConfigurationCommand::new);
+        clientCommandConstructors.put(0x0002, GetDeviceConfigurationCommand::new);
+        clientCommandConstructors.put(0x0003, GetLocationDataCommand::new);
+        clientCommandConstructors.put(0x0004, RssiResponse::new);
+        clientCommandConstructors.put(0x0005, SendPingsCommand::new);
+        clientCommandConstructors.put(0x0006, AnchorNodeAnnounceCommand::new);
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeServerCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
+    protected Map<Integer, ZclAttribute> initializeClientAttributes() {
+        return new ConcurrentSkipListMap<>();
+    }
 
-        commandMap.put(0x0000, DeviceConfigurationResponse.class);
-        commandMap.put(0x0001, LocationDataResponse.class);
-        commandMap.put(0x0002, LocationDataNotificationCommand.class);
-        commandMap.put(0x0003, CompactLocationDataNotificationCommand.class);
-        commandMap.put(0x0004, RssiPingCommand.class);
-        commandMap.put(0x0005, RssiRequestCommand.class);
-        commandMap.put(0x0006, ReportRssiMeasurementsCommand.class);
-        commandMap.put(0x0007, RequestOwnLocationCommand.class);
+    @Override
+    protected Map<Integer, ZclAttribute> initializeServerAttributes() {
+        return new ZclAttributeMap(this, serverAttributeDescriptors);
+    }
 
-        return commandMap;
+    @Override
+    protected Map<Integer, ZclCommandFactory> getServerCommandConstructors() {
+        return serverCommandConstructors;
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeClientCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
-
-        commandMap.put(0x0000, SetAbsoluteLocationCommand.class);
-        commandMap.put(0x0001, SetDeviceConfigurationCommand.class);
-        commandMap.put(0x0002, GetDeviceConfigurationCommand.class);
-        commandMap.put(0x0003, GetLocationDataCommand.class);
-        commandMap.put(0x0004, RssiResponse.class);
-        commandMap.put(0x0005, SendPingsCommand.class);
-        commandMap.put(0x0006, AnchorNodeAnnounceCommand.class);
-
-        return commandMap;
+    protected Map<Integer, ZclCommandFactory> getClientCommandConstructors() {
+        return clientCommandConstructors;
     }
 
     /**
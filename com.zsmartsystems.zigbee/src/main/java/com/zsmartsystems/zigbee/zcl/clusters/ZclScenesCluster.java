@@ -7,8 +7,10 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -18,8 +20,10 @@ import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDescriptor;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeMap;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
-import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.ZclCommandFactory;
 import com.zsmartsystems.zigbee.zcl.clusters.scenes.AddSceneCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.scenes.AddSceneResponse;
 import com.zsmartsystems.zigbee.zcl.clusters.scenes.CopySceneCommand;
@@ -109,60 +113,71 @@ public class ZclScenesCluster extends ZclCluster {
      */
     public static final int ATTR_LASTCONFIGUREDBY = 0x0005;
 
+    /**
+     * Map of the server side attribute descriptors defined by the cluster, indexed by attribute ID
+     */
+    private static Map<Integer, ZclAttributeDescriptor> serverAttributeDescriptors = new TreeMap<>();
+
+    static {
+        serverAttributeDescriptors.put(ATTR_SCENECOUNT, new ZclAttributeDescriptor(ATTR_SCENECOUNT, "Scene Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTSCENE, new ZclAttributeDescriptor(ATTR_CURRENTSCENE, "Current Scene", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTGROUP, new ZclAttributeDescriptor(ATTR_CURRENTGROUP, "Current Group", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_SCENEVALID, new ZclAttributeDescriptor(ATTR_SCENEVALID, "Scene Valid", ZclDataType.BOOLEAN, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_NAMESUPPORT, new ZclAttributeDescriptor(ATTR_NAMESUPPORT, "Name Support", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_LASTCONFIGUREDBY, new ZclAttributeDescriptor(ATTR_LASTCONFIGUREDBY, "Last Configured By", ZclDataType.IEEE_ADDRESS, false, true, false, false));
+    }
+
+    /**
+     * Map of the server side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> serverCommandConstructors = new HashMap<>();
+
+    /**
+     * Map of the client side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> clientCommandConstructors = new HashMap<>();
+
+    static {
+        serverCommandConstructors.put(0x0000, AddSceneResponse::new);
+        serverCommandConstructors.put(0x0001, ViewSceneResponse::new);
+        serverCommandConstructors.put(0x0002, RemoveSceneResponse::new);
+        serverCommandConstructors.put(0x0003, RemoveAllScenesResponse::new);
+        serverCommandConstructors.put(0x0004, StoreSceneResponse::new);
+        serverCommandConstructors.put(0x0006, GetSceneMembershipResponse::new);
+        serverCommandConstructors.put(0x0040, EnhancedAddSceneResponse::new);
+        serverCommandConstructors.put(0x0041, EnhancedViewSceneResponse::new);
+        serverCommandConstructors.put(0x0042, CopySceneResponse::new);
+
+        clientCommandConstructors.put(0x0000, AddSceneCommand::new);
+        clientCommandConstructors.put(0x0001, ViewSceneCommand::new);
+        clientCommandConstructors.put(0x0002, RemoveSceneCommand::new);
+        clientCommandConstructors.put(0x0003, RemoveAllScenesCommand::new);
+        clientCommandConstructors.put(0x0004, StoreSceneCommand::new);
+        clientCommandConstructors.put(0x0005, RecallSceneCommand::new);
+        clientCommandConstructors.put(0x0006, GetSceneMembershipCommand::new);
+        clientCommandConstructors.put(0x0040, EnhancedAddSceneCommand::new);
+        clientCommandConstructors.put(0x0041, EnhancedViewSceneCommand::new);
+        clientCommandConstructors.put(0x0042, CopySceneCommand::new);
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+        return new ConcurrentSkipListMap<>();
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_SCENECOUNT, new ZclAttribute(this, ATTR_SCENECOUNT, "Scene Count", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTSCENE, new ZclAttribute(this, ATTR_CURRENTSCENE, "Current Scene", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTGROUP, new ZclAttribute(this, ATTR_CURRENTGROUP, "Current Group", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_SCENEVALID, new ZclAttribute(this, ATTR_SCENEVALID, "Scene Valid", ZclDataType.BOOLEAN, true, true, false, false));
-        attributeMap.put(ATTR_NAMESUPPORT, new ZclAttribute(this, ATTR_NAMESUPPORT, "Name Support", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_LASTCONFIGUREDBY, new ZclAttribute(this, ATTR_LASTCONFIGUREDBY, "Last Configured By", ZclDataType.IEEE_ADDRESS, false, true, false, false));
-
-        return attributeMap;
+        return new ZclAttributeMap(this, serverAttributeDescriptors);
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeServerCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
-
-        commandMap.put(0x0000, AddSceneResponse.class);
-        commandMap.put(0x0001, ViewSceneResponse.class);
-        commandMap.put(0x0002, RemoveSceneResponse.class);
-        commandMap.put(0x0003, RemoveAllScenesResponse.class);
-        commandMap.put(0x0004, StoreSceneResponse.class);
-        commandMap.put(0x0006, GetSceneMembershipResponse.class);
-        commandMap.put(0x0040, EnhancedAddSceneResponse.class);
-        commandMap.put(0x0041, EnhancedViewSceneResponse.class);
-        commandMap.put(0x0042, CopySceneResponse.class);
-
-        return commandMap;
+    protected Map<Integer, ZclCommandFactory> getServerCommandConstructors() {
+        return serverCommandConstructors;
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeClientCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
-
-        commandMap.put(0x0000, AddSceneCommand.class);
-        commandMap.put(0x0001, ViewSceneCommand.class);
-        commandMap.put(0x0002, RemoveSceneCommand.class);
-        commandMap.put(0x0003, RemoveAllScenesCommand.class);
-        commandMap.put(0x0004, StoreSceneCommand.class);
-        commandMap.put(0x0005, RecallSceneCommand.class);
-        commandMap.put(0x0006, GetSceneMembershipCommand.class);
-        commandMap.put(0x0040, EnhancedAddSceneCommand.class);
-        commandMap.put(0x0041, EnhancedViewSceneCommand.class);
-        commandMap.put(0x0042, CopySceneCommand.class);
-
-        return commandMap;
+    protected Map<Integer, ZclCommandFactory> getClientCommandConstructors() {
+        return clientCommandConstructors;
     }
 
     /**
@@ -7,7 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -16,8 +18,10 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDescriptor;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeMap;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
-import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.ZclCommandFactory;
 import com.zsmartsystems.zigbee.zcl.clusters.smartenergytunneling.AckTransferDataClientToServer;
 import com.zsmartsystems.zigbee.zcl.clusters.smartenergytunneling.AckTransferDataServerToClient;
 import com.zsmartsystems.zigbee.zcl.clusters.smartenergytunneling.CloseTunnel;
@@ -87,50 +91,61 @@ public class ZclSmartEnergyTunnelingCluster extends ZclCluster {
      */
     public static final int ATTR_CLOSETUNNELTIMEOUT = 0x0000;
 
+    /**
+     * Map of the server side attribute descriptors defined by the cluster, indexed by attribute ID
+     */
+    private static Map<Integer, ZclAttributeDescriptor> serverAttributeDescriptors = new TreeMap<>();
+
+    static {
+        serverAttributeDescriptors.put(ATTR_CLOSETUNNELTIMEOUT, new ZclAttributeDescriptor(ATTR_CLOSETUNNELTIMEOUT, "Close Tunnel Timeout", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+    }
+
+    /**
+     * Map of the server side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> serverCommandConstructors = new HashMap<>();
+
+    /**
+     * Map of the client side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> clientCommandConstructors = new HashMap<>();
+
+    static {
+        serverCommandConstructors.put(0x0000, RequestTunnelResponse::new);
+        serverCommandConstructors.put(0x0001, TransferDataServerToClient::new);
+        serverCommandConstructors.put(0x0002, TransferDataErrorServerToClient::new);
+        serverCommandConstructors.put(0x0003, AckTransferDataServerToClient::new);
+        serverCommandConstructors.put(0x0004, ReadyDataServerToClient::new);
+        serverCommandConstructors.put(0x0005, SupportedTunnelProtocolsResponse::new);
+        serverCommandConstructors.put(0x0006, TunnelClosureNotification::new);
+
+        clientCommandConstructors.put(0x0000, RequestTunnel::new);
+        clientCommandConstructors.put(0x0001, CloseTunnel::new);
+        clientCommandConstructors.put(0x0002, TransferDataClientToServer::new);
+        clientCommandConstructors.put(0x0003, TransferDataErrorClientToServer::new);
+        clientCommandConstructors.put(0x0004, AckTransferDataClientToServer::new);
+        clientCommandConstructors.put(0x0005, ReadyDataClientToServer::new);
+        clientCommandConstructors.put(0x0006, GetSupportedTunnelProtocols::new);
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+        return new ConcurrentSkipListMap<>();
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_CLOSETUNNELTIMEOUT, new ZclAttribute(this, ATTR_CLOSETUNNELTIMEOUT, "Close Tunnel Timeout", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-
-        return attributeMap;
+        return new ZclAttributeMap(this, serverAttributeDescriptors);
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeServerCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
-
-        commandMap.put(0x0000, RequestTunnelResponse.class);
-        commandMap.put(0x0001, TransferDataServerToClient.class);
-        commandMap.put(0x0002, TransferDataErrorServerToClient.class);
-        commandMap.put(0x0003, AckTransferDataServerToClient.class);
-        commandMap.put(0x0004, ReadyDataServerToClient.class);
-        commandMap.put(0x0005, SupportedTunnelProtocolsResponse.class);
-        commandMap.put(0x0006, TunnelClosureNotification.class);
-
-        return commandMap;
+    protected Map<Integer, ZclCommandFactory> getServerCommandConstructors() {
+        return serverCommandConstructors;
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeClientCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
-
-        commandMap.put(0x0000, RequestTunnel.class);
-        commandMap.put(0x0001, CloseTunnel.class);
-        commandMap.put(0x0002, TransferDataClientToServer.class);
-        commandMap.put(0x0003, TransferDataErrorClientToServer.class);
-        commandMap.put(0x0004, AckTransferDataClientToServer.class);
-        commandMap.put(0x0005, ReadyDataClientToServer.class);
-        commandMap.put(0x0006, GetSupportedTunnelProtocols.class);
-
-        return commandMap;
+    protected Map<Integer, ZclCommandFactory> getClientCommandConstructors() {
+        return clientCommandConstructors;
     }
 
     /**
@@ -9,6 +9,7 @@ package com.zsmartsystems.zigbee.zcl.clusters;
 
 import java.util.Calendar;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -17,6 +18,8 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDescriptor;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeMap;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
@@ -122,29 +125,32 @@ public class ZclTimeCluster extends ZclCluster {
      */
     public static final int ATTR_VALIDUNTILTIME = 0x0009;
 
+    /**
+     * Map of the server side attribute descriptors defined by the cluster, indexed by attribute ID
+     */
+    private static Map<Integer, ZclAttributeDescriptor> serverAttributeDescriptors = new TreeMap<>();
+
+    static {
+        serverAttributeDescriptors.put(ATTR_TIME, new ZclAttributeDescriptor(ATTR_TIME, "Time", ZclDataType.UTCTIME, true, true, true, false));
+        serverAttributeDescriptors.put(ATTR_TIMESTATUS, new ZclAttributeDescriptor(ATTR_TIMESTATUS, "Time Status", ZclDataType.BITMAP_8_BIT, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_TIMEZONE, new ZclAttributeDescriptor(ATTR_TIMEZONE, "Time Zone", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_DSTSTART, new ZclAttributeDescriptor(ATTR_DSTSTART, "DST Start", ZclDataType.UTCTIME, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_DSTEND, new ZclAttributeDescriptor(ATTR_DSTEND, "DST End", ZclDataType.UTCTIME, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_DSTSHIFT, new ZclAttributeDescriptor(ATTR_DSTSHIFT, "DST Shift", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, true, false));
+        serverAttributeDescriptors.put(ATTR_STANDARDTIME, new ZclAttributeDescriptor(ATTR_STANDARDTIME, "Standard Time", ZclDataType.UTCTIME, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_LOCALTIME, new ZclAttributeDescriptor(ATTR_LOCALTIME, "Local Time", ZclDataType.UTCTIME, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_LASTSETTIME, new ZclAttributeDescriptor(ATTR_LASTSETTIME, "Last Set Time", ZclDataType.UTCTIME, false, true, false, false));
+        serverAttributeDescriptors.put(ATTR_VALIDUNTILTIME, new ZclAttributeDescriptor(ATTR_VALIDUNTILTIME, "Valid Until Time", ZclDataType.UTCTIME, false, true, true, false));
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+        return new ConcurrentSkipListMap<>();
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_TIME, new ZclAttribute(this, ATTR_TIME, "Time", ZclDataType.UTCTIME, true, true, true, false));
-        attributeMap.put(ATTR_TIMESTATUS, new ZclAttribute(this, ATTR_TIMESTATUS, "Time Status", ZclDataType.BITMAP_8_BIT, false, true, true, false));
-        attributeMap.put(ATTR_TIMEZONE, new ZclAttribute(this, ATTR_TIMEZONE, "Time Zone", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_DSTSTART, new ZclAttribute(this, ATTR_DSTSTART, "DST Start", ZclDataType.UTCTIME, false, true, true, false));
-        attributeMap.put(ATTR_DSTEND, new ZclAttribute(this, ATTR_DSTEND, "DST End", ZclDataType.UTCTIME, false, true, true, false));
-        attributeMap.put(ATTR_DSTSHIFT, new ZclAttribute(this, ATTR_DSTSHIFT, "DST Shift", ZclDataType.SIGNED_32_BIT_INTEGER, false, true, true, false));
-        attributeMap.put(ATTR_STANDARDTIME, new ZclAttribute(this, ATTR_STANDARDTIME, "Standard Time", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_LOCALTIME, new ZclAttribute(this, ATTR_LOCALTIME, "Local Time", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_LASTSETTIME, new ZclAttribute(this, ATTR_LASTSETTIME, "Last Set Time", ZclDataType.UTCTIME, false, true, false, false));
-        attributeMap.put(ATTR_VALIDUNTILTIME, new ZclAttribute(this, ATTR_VALIDUNTILTIME, "Valid Until Time", ZclDataType.UTCTIME, false, true, true, false));
-
-        return attributeMap;
+        return new ZclAttributeMap(this, serverAttributeDescriptors);
     }
 
 
@@ -7,7 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zcl.clusters;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 
@@ -16,8 +18,10 @@ import javax.annotation.Generated;
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeDescriptor;
+import com.zsmartsystems.zigbee.zcl.ZclAttributeMap;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
-import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.ZclCommandFactory;
 import com.zsmartsystems.zigbee.zcl.clusters.windowcovering.WindowCoveringDownClose;
 import com.zsmartsystems.zigbee.zcl.clusters.windowcovering.WindowCoveringGoToLiftPercentage;
 import com.zsmartsystems.zigbee.zcl.clusters.windowcovering.WindowCoveringGoToLiftValue;
@@ -175,54 +179,62 @@ public class ZclWindowCoveringCluster extends ZclCluster {
      */
     public static final int ATTR_INTERMEDIATESETPOINTSTILT = 0x0019;
 
+    /**
+     * Map of the server side attribute descriptors defined by the cluster, indexed by attribute ID
+     */
+    private static Map<Integer, ZclAttributeDescriptor> serverAttributeDescriptors = new TreeMap<>();
+
+    static {
+        serverAttributeDescriptors.put(ATTR_WINDOWCOVERINGTYPE, new ZclAttributeDescriptor(ATTR_WINDOWCOVERINGTYPE, "Window Covering Type", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PHYSICALCLOSEDLIMITLIFT, new ZclAttributeDescriptor(ATTR_PHYSICALCLOSEDLIMITLIFT, "Physical Closed Limit - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_PHYSICALCLOSEDLIMITTILT, new ZclAttributeDescriptor(ATTR_PHYSICALCLOSEDLIMITTILT, "Physical Closed Limit - Tilt", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTPOSITIONLIFT, new ZclAttributeDescriptor(ATTR_CURRENTPOSITIONLIFT, "Current Position - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTPOSITIONTILT, new ZclAttributeDescriptor(ATTR_CURRENTPOSITIONTILT, "Current Position - Tilt", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_NUMBEROFACTUATIONSLIFT, new ZclAttributeDescriptor(ATTR_NUMBEROFACTUATIONSLIFT, "Number Of Actuations - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_NUMBEROFACTUATIONSTILT, new ZclAttributeDescriptor(ATTR_NUMBEROFACTUATIONSTILT, "Number Of Actuations - Tilt", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CONFIGSTATUS, new ZclAttributeDescriptor(ATTR_CONFIGSTATUS, "Config Status", ZclDataType.BITMAP_8_BIT, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTPOSITIONLIFTPERCENTAGE, new ZclAttributeDescriptor(ATTR_CURRENTPOSITIONLIFTPERCENTAGE, "Current Position Lift Percentage", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_CURRENTPOSITIONTILTPERCENTAGE, new ZclAttributeDescriptor(ATTR_CURRENTPOSITIONTILTPERCENTAGE, "Current Position Tilt Percentage", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_INSTALLEDOPENLIMITLIFT, new ZclAttributeDescriptor(ATTR_INSTALLEDOPENLIMITLIFT, "Installed Open Limit - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_INSTALLEDCLOSEDLIMITLIFT, new ZclAttributeDescriptor(ATTR_INSTALLEDCLOSEDLIMITLIFT, "Installed Closed Limit - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_INSTALLEDOPENLIMITTILT, new ZclAttributeDescriptor(ATTR_INSTALLEDOPENLIMITTILT, "Installed Open Limit - Tilt", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_INSTALLEDCLOSEDLIMITTILT, new ZclAttributeDescriptor(ATTR_INSTALLEDCLOSEDLIMITTILT, "Installed Closed Limit - Tilt", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
+        serverAttributeDescriptors.put(ATTR_VELOCITYLIFT, new ZclAttributeDescriptor(ATTR_VELOCITYLIFT, "Velocity - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_ACCELERATIONTIMELIFT, new ZclAttributeDescriptor(ATTR_ACCELERATIONTIMELIFT, "Acceleration Time - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_DECELERATIONTIMELIFT, new ZclAttributeDescriptor(ATTR_DECELERATIONTIMELIFT, "Deceleration Time - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_MODE, new ZclAttributeDescriptor(ATTR_MODE, "Mode", ZclDataType.BITMAP_8_BIT, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_INTERMEDIATESETPOINTSLIFT, new ZclAttributeDescriptor(ATTR_INTERMEDIATESETPOINTSLIFT, "Intermediate Setpoints - Lift", ZclDataType.OCTET_STRING, false, true, true, true));
+        serverAttributeDescriptors.put(ATTR_INTERMEDIATESETPOINTSTILT, new ZclAttributeDescriptor(ATTR_INTERMEDIATESETPOINTSTILT, "Intermediate Setpoints - Tilt", ZclDataType.OCTET_STRING, false, true, true, true));
+    }
+
+    /**
+     * Map of the client side commands supported by the cluster, indexed by command ID
+     */
+    private static Map<Integer, ZclCommandFactory> clientCommandConstructors = new HashMap<>();
+
+    static {
+        clientCommandConstructors.put(0x0000, WindowCoveringUpOpen::new);
+        clientCommandConstructors.put(0x0001, WindowCoveringDownClose::new);
+        clientCommandConstructors.put(0x0002, WindowCoveringStop::new);
+        clientCommandConstructors.put(0x0004, WindowCoveringGoToLiftValue::new);
+        clientCommandConstructors.put(0x0005, WindowCoveringGoToLiftPercentage::new);
+        clientCommandConstructors.put(0x0007, WindowCoveringGoToTiltValue::new);
+        clientCommandConstructors.put(0x0008, WindowCoveringGoToTiltPercentage::new);
+    }
+
     @Override
     protected Map<Integer, ZclAttribute> initializeClientAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        return attributeMap;
+        return new ConcurrentSkipListMap<>();
     }
 
     @Override
     protected Map<Integer, ZclAttribute> initializeServerAttributes() {
-        Map<Integer, ZclAttribute> attributeMap = new ConcurrentSkipListMap<>();
-
-        attributeMap.put(ATTR_WINDOWCOVERINGTYPE, new ZclAttribute(this, ATTR_WINDOWCOVERINGTYPE, "Window Covering Type", ZclDataType.ENUMERATION_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_PHYSICALCLOSEDLIMITLIFT, new ZclAttribute(this, ATTR_PHYSICALCLOSEDLIMITLIFT, "Physical Closed Limit - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_PHYSICALCLOSEDLIMITTILT, new ZclAttribute(this, ATTR_PHYSICALCLOSEDLIMITTILT, "Physical Closed Limit - Tilt", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTPOSITIONLIFT, new ZclAttribute(this, ATTR_CURRENTPOSITIONLIFT, "Current Position - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTPOSITIONTILT, new ZclAttribute(this, ATTR_CURRENTPOSITIONTILT, "Current Position - Tilt", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NUMBEROFACTUATIONSLIFT, new ZclAttribute(this, ATTR_NUMBEROFACTUATIONSLIFT, "Number Of Actuations - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_NUMBEROFACTUATIONSTILT, new ZclAttribute(this, ATTR_NUMBEROFACTUATIONSTILT, "Number Of Actuations - Tilt", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CONFIGSTATUS, new ZclAttribute(this, ATTR_CONFIGSTATUS, "Config Status", ZclDataType.BITMAP_8_BIT, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTPOSITIONLIFTPERCENTAGE, new ZclAttribute(this, ATTR_CURRENTPOSITIONLIFTPERCENTAGE, "Current Position Lift Percentage", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_CURRENTPOSITIONTILTPERCENTAGE, new ZclAttribute(this, ATTR_CURRENTPOSITIONTILTPERCENTAGE, "Current Position Tilt Percentage", ZclDataType.UNSIGNED_8_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_INSTALLEDOPENLIMITLIFT, new ZclAttribute(this, ATTR_INSTALLEDOPENLIMITLIFT, "Installed Open Limit - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_INSTALLEDCLOSEDLIMITLIFT, new ZclAttribute(this, ATTR_INSTALLEDCLOSEDLIMITLIFT, "Installed Closed Limit - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_INSTALLEDOPENLIMITTILT, new ZclAttribute(this, ATTR_INSTALLEDOPENLIMITTILT, "Installed Open Limit - Tilt", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_INSTALLEDCLOSEDLIMITTILT, new ZclAttribute(this, ATTR_INSTALLEDCLOSEDLIMITTILT, "Installed Closed Limit - Tilt", ZclDataType.UNSIGNED_16_BIT_INTEGER, true, true, false, false));
-        attributeMap.put(ATTR_VELOCITYLIFT, new ZclAttribute(this, ATTR_VELOCITYLIFT, "Velocity - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_ACCELERATIONTIMELIFT, new ZclAttribute(this, ATTR_ACCELERATIONTIMELIFT, "Acceleration Time - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_DECELERATIONTIMELIFT, new ZclAttribute(this, ATTR_DECELERATIONTIMELIFT, "Deceleration Time - Lift", ZclDataType.UNSIGNED_16_BIT_INTEGER, false, true, true, true));
-        attributeMap.put(ATTR_MODE, new ZclAttribute(this, ATTR_MODE, "Mode", ZclDataType.BITMAP_8_BIT, false, true, true, true));
-        attributeMap.put(ATTR_INTERMEDIATESETPOINTSLIFT, new ZclAttribute(this, ATTR_INTERMEDIATESETPOINTSLIFT, "Intermediate Setpoints - Lift", ZclDataType.OCTET_STRING, false, true, true, true));
-        attributeMap.put(ATTR_INTERMEDIATESETPOINTSTILT, new ZclAttribute(this, ATTR_INTERMEDIATESETPOINTSTILT, "Intermediate Setpoints - Tilt", ZclDataType.OCTET_STRING, false, true, true, true));
-
-        return attributeMap;
+        return new ZclAttributeMap(this, serverAttributeDescriptors);
     }
 
     @Override
-    protected Map<Integer, Class<? extends ZclCommand>> initializeClientCommands() {
-        Map<Integer, Class<? extends ZclCommand>> commandMap = new ConcurrentSkipListMap<>();
-
-        commandMap.put(0x0000, WindowCoveringUpOpen.class);
-        commandMap.put(0x0001, WindowCoveringDownClose.class);
-        commandMap.put(0x0002, WindowCoveringStop.class);
-        commandMap.put(0x0004, WindowCoveringGoToLiftValue.class);
-        commandMap.put(0x0005, WindowCoveringGoToLiftPercentage.class);
-        commandMap.put(0x0007, WindowCoveringGoToTiltValue.class);
-        commandMap.put(0x0008, WindowCoveringGoToTiltPercentage.class);
-
-        return commandMap;
+    protected Map<Integer, ZclCommandFactory> getClientCommandConstructors() {
+        return clientCommandConstructors;
     }
 
     /**
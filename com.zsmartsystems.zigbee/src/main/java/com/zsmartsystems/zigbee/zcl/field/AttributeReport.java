@@ -14,10 +14,29 @@ import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
 /**
  * Read Attribute Status Record field.
+ * <p>
+ * When deserialized, integer and floating point values are held as primitives so that high rate numeric reports can
+ * be processed without allocating an object for each value. The value is only converted to an {@link Object} if
+ * {@link #getAttributeValue()} is called.
  *
  * @author Chris Jackson
  */
 public class AttributeReport implements ZclListItemField {
+    /**
+     * The value is held in {@link #attributeValue}
+     */
+    private static final int VALUE_OBJECT = 0;
+
+    /**
+     * The value is held in {@link #integerValue}
+     */
+    private static final int VALUE_INTEGER = 1;
+
+    /**
+     * The value is held in {@link #floatValue}
+     */
+    private static final int VALUE_FLOAT = 2;
+
     /**
      * The attribute identifier.
      */
@@ -33,6 +52,21 @@ public class AttributeReport implements ZclListItemField {
      */
     private Object attributeValue;
 
+    /**
+     * The attribute value if it is an integer, bitmap or enumeration type
+     */
+    private long integerValue;
+
+    /**
+     * The attribute value if it is a floating point type
+     */
+    private double floatValue;
+
+    /**
+     * Defines where the value is held
+     */
+    private int valueType = VALUE_OBJECT;
+
     /**
      * Gets attribute data type.
      *
@@ -75,9 +109,71 @@ public class AttributeReport implements ZclListItemField {
      * @return the attribute value
      */
     public Object getAttributeValue() {
+        if (attributeValue != null) {
+            return attributeValue;
+        }
+        switch (valueType) {
+            case VALUE_INTEGER:
+                if (attributeDataType == ZclDataType.UNSIGNED_40_BIT_INTEGER
+                        || attributeDataType == ZclDataType.UNSIGNED_48_BIT_INTEGER) {
+                    attributeValue = Long.valueOf(integerValue);
+                } else {
+                    attributeValue = Integer.valueOf((int) integerValue);
+                }
+                break;
+            case VALUE_FLOAT:
+                attributeValue = Double.valueOf(floatValue);
+                break;
+            default:
+                break;
+        }
         return attributeValue;
     }
 
+    /**
+     * Checks if the attribute value is held as an integer. This is true for integer, bitmap and enumeration types of
+     * up to 48 bits.
+     *
+     * @return true if the value can be read with {@link #getIntegerValue()}
+     */
+    public boolean isIntegerValue() {
+        return valueType == VALUE_INTEGER;
+    }
+
+    /**
+     * Gets the attribute value of an integer, bitmap or enumeration type without creating an object. Unsigned 32 bit
+     * types are returned as unsigned values.
+     *
+     * @return the attribute value
+     */
+    public long getIntegerValue() {
+        if (valueType != VALUE_INTEGER && attributeValue instanceof Number) {
+            return ((Number) attributeValue).longValue();
+        }
+        return integerValue;
+    }
+
+    /**
+     * Checks if the attribute value is held as a floating point value
+     *
+     * @return true if the value can be read with {@link #getFloatValue()}
+     */
+    public boolean isFloatValue() {
+        return valueType == VALUE_FLOAT;
+    }
+
+    /**
+     * Gets the attribute value of a floating point type without creating an object
+     *
+     * @return the attribute value
+     */
+    public double getFloatValue() {
+        if (valueType != VALUE_FLOAT && attributeValue instanceof Number) {
+            return ((Number) attributeValue).doubleValue();
+        }
+        return floatValue;
+    }
+
     /**
      * Sets attribute value.
      *
@@ -85,25 +181,62 @@ public class AttributeReport implements ZclListItemField {
      */
     public void setAttributeValue(Object attributeValue) {
         this.attributeValue = attributeValue;
+        valueType = VALUE_OBJECT;
     }
 
     @Override
     public void serialize(final ZigBeeSerializer serializer) {
         serializer.appendZigBeeType(attributeIdentifier, ZclDataType.UNSIGNED_16_BIT_INTEGER);
         serializer.appendZigBeeType(attributeDataType.getId(), ZclDataType.UNSIGNED_8_BIT_INTEGER);
-        serializer.appendZigBeeType(attributeValue, attributeDataType);
+        serializer.appendZigBeeType(getAttributeValue(), attributeDataType);
     }
 
     @Override
     public void deserialize(final ZigBeeDeserializer deserializer) {
         attributeIdentifier = (int) deserializer.readZigBeeType(ZclDataType.UNSIGNED_16_BIT_INTEGER);
         attributeDataType = ZclDataType.getType((int) deserializer.readZigBeeType(ZclDataType.UNSIGNED_8_BIT_INTEGER));
-        attributeValue = deserializer.readZigBeeType(attributeDataType);
+        attributeValue = null;
+        valueType = VALUE_OBJECT;
+        if (attributeDataType == null || deserializer.isEndOfStream()) {
+            attributeValue = deserializer.readZigBeeType(attributeDataType);
+            return;
+        }
+
+        switch (attributeDataType) {
+            case BITMAP_8_BIT:
+            case BITMAP_16_BIT:
+            case BITMAP_24_BIT:
+            case BITMAP_32_BIT:
+            case DATA_8_BIT:
+            case ENUMERATION_8_BIT:
+            case ENUMERATION_16_BIT:
+            case ENUMERATION_32_BIT:
+            case SIGNED_8_BIT_INTEGER:
+            case SIGNED_16_BIT_INTEGER:
+            case SIGNED_24_BIT_INTEGER:
+            case SIGNED_32_BIT_INTEGER:
+            case UNSIGNED_8_BIT_INTEGER:
+            case UNSIGNED_16_BIT_INTEGER:
+            case UNSIGNED_24_BIT_INTEGER:
+            case UNSIGNED_32_BIT_INTEGER:
+            case UNSIGNED_40_BIT_INTEGER:
+            case UNSIGNED_48_BIT_INTEGER:
+                integerValue = deserializer.readZigBeeInteger(attributeDataType);
+                valueType = VALUE_INTEGER;
+                break;
+            case FLOAT_32_BIT:
+                floatValue = deserializer.readZigBeeFloat(attributeDataType);
+                valueType = VALUE_FLOAT;
+                break;
+            default:
+                attributeValue = deserializer.readZigBeeType(attributeDataType);
+                break;
+        }
     }
 
     @Override
     public String toString() {
         return "AttributeReport [attributeDataType=" + attributeDataType + ", attributeIdentifier="
-                + attributeIdentifier + ", attributeValue=" + attributeValue + "]";
+                + attributeIdentifier + ", attributeValue=" + getAttributeValue() + "]";
     }
 }
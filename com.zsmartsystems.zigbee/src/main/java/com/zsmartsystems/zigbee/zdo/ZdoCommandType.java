@@ -7,6 +7,9 @@
  */
 package com.zsmartsystems.zigbee.zdo;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import com.zsmartsystems.zigbee.zdo.command.NetworkAddressRequest;
 import com.zsmartsystems.zigbee.zdo.command.IeeeAddressRequest;
 import com.zsmartsystems.zigbee.zdo.command.NodeDescriptorRequest;
@@ -103,494 +106,509 @@ public enum ZdoCommandType {
      * <p>
      * See {@link ActiveEndpointsRequest}
      */
-    ACTIVE_ENDPOINTS_REQUEST(0x0005, ActiveEndpointsRequest.class),
+    ACTIVE_ENDPOINTS_REQUEST(0x0005, ActiveEndpointsRequest.class, ActiveEndpointsRequest::new),
     /**
      * Active Endpoints Response
      * <p>
      * See {@link ActiveEndpointsResponse}
      */
-    ACTIVE_ENDPOINTS_RESPONSE(0x8005, ActiveEndpointsResponse.class),
+    ACTIVE_ENDPOINTS_RESPONSE(0x8005, ActiveEndpointsResponse.class, ActiveEndpointsResponse::new),
     /**
      * Active Endpoint Store Request
      * <p>
      * See {@link ActiveEndpointStoreRequest}
      */
-    ACTIVE_ENDPOINT_STORE_REQUEST(0x0019, ActiveEndpointStoreRequest.class),
+    ACTIVE_ENDPOINT_STORE_REQUEST(0x0019, ActiveEndpointStoreRequest.class, ActiveEndpointStoreRequest::new),
     /**
      * Active Endpoint Store Response
      * <p>
      * See {@link ActiveEndpointStoreResponse}
      */
-    ACTIVE_ENDPOINT_STORE_RESPONSE(0x8019, ActiveEndpointStoreResponse.class),
+    ACTIVE_ENDPOINT_STORE_RESPONSE(0x8019, ActiveEndpointStoreResponse.class, ActiveEndpointStoreResponse::new),
     /**
      * Backup Bind Table Request
      * <p>
      * See {@link BackupBindTableRequest}
      */
-    BACKUP_BIND_TABLE_REQUEST(0x0027, BackupBindTableRequest.class),
+    BACKUP_BIND_TABLE_REQUEST(0x0027, BackupBindTableRequest.class, BackupBindTableRequest::new),
     /**
      * Backup Bind Table Response
      * <p>
      * See {@link BackupBindTableResponse}
      */
-    BACKUP_BIND_TABLE_RESPONSE(0x8027, BackupBindTableResponse.class),
+    BACKUP_BIND_TABLE_RESPONSE(0x8027, BackupBindTableResponse.class, BackupBindTableResponse::new),
     /**
      * Backup Source Bind Request
      * <p>
      * See {@link BackupSourceBindRequest}
      */
-    BACKUP_SOURCE_BIND_REQUEST(0x0029, BackupSourceBindRequest.class),
+    BACKUP_SOURCE_BIND_REQUEST(0x0029, BackupSourceBindRequest.class, BackupSourceBindRequest::new),
     /**
      * Bind Register
      * <p>
      * See {@link BindRegister}
      */
-    BIND_REGISTER(0x0023, BindRegister.class),
+    BIND_REGISTER(0x0023, BindRegister.class, BindRegister::new),
     /**
      * Bind Register Response
      * <p>
      * See {@link BindRegisterResponse}
      */
-    BIND_REGISTER_RESPONSE(0x8023, BindRegisterResponse.class),
+    BIND_REGISTER_RESPONSE(0x8023, BindRegisterResponse.class, BindRegisterResponse::new),
     /**
      * Bind Request
      * <p>
      * See {@link BindRequest}
      */
-    BIND_REQUEST(0x0021, BindRequest.class),
+    BIND_REQUEST(0x0021, BindRequest.class, BindRequest::new),
     /**
      * Bind Response
      * <p>
      * See {@link BindResponse}
      */
-    BIND_RESPONSE(0x8021, BindResponse.class),
+    BIND_RESPONSE(0x8021, BindResponse.class, BindResponse::new),
     /**
      * Cache Request
      * <p>
      * See {@link CacheRequest}
      */
-    CACHE_REQUEST(0x0037, CacheRequest.class),
+    CACHE_REQUEST(0x0037, CacheRequest.class, CacheRequest::new),
     /**
      * Complex Descriptor Request
      * <p>
      * See {@link ComplexDescriptorRequest}
      */
-    COMPLEX_DESCRIPTOR_REQUEST(0x0010, ComplexDescriptorRequest.class),
+    COMPLEX_DESCRIPTOR_REQUEST(0x0010, ComplexDescriptorRequest.class, ComplexDescriptorRequest::new),
     /**
      * Complex Descriptor Response
      * <p>
      * See {@link ComplexDescriptorResponse}
      */
-    COMPLEX_DESCRIPTOR_RESPONSE(0x8010, ComplexDescriptorResponse.class),
+    COMPLEX_DESCRIPTOR_RESPONSE(0x8010, ComplexDescriptorResponse.class, ComplexDescriptorResponse::new),
     /**
      * Device Announce
      * <p>
      * See {@link DeviceAnnounce}
      */
-    DEVICE_ANNOUNCE(0x0013, DeviceAnnounce.class),
+    DEVICE_ANNOUNCE(0x0013, DeviceAnnounce.class, DeviceAnnounce::new),
     /**
      * Discovery Cache Request
      * <p>
      * See {@link DiscoveryCacheRequest}
      */
-    DISCOVERY_CACHE_REQUEST(0x0012, DiscoveryCacheRequest.class),
+    DISCOVERY_CACHE_REQUEST(0x0012, DiscoveryCacheRequest.class, DiscoveryCacheRequest::new),
     /**
      * Discovery Cache Response
      * <p>
      * See {@link DiscoveryCacheResponse}
      */
-    DISCOVERY_CACHE_RESPONSE(0x8012, DiscoveryCacheResponse.class),
+    DISCOVERY_CACHE_RESPONSE(0x8012, DiscoveryCacheResponse.class, DiscoveryCacheResponse::new),
     /**
      * Discovery Store Request Request
      * <p>
      * See {@link DiscoveryStoreRequestRequest}
      */
-    DISCOVERY_STORE_REQUEST_REQUEST(0x0016, DiscoveryStoreRequestRequest.class),
+    DISCOVERY_STORE_REQUEST_REQUEST(0x0016, DiscoveryStoreRequestRequest.class, DiscoveryStoreRequestRequest::new),
     /**
      * Discovery Store Response
      * <p>
      * See {@link DiscoveryStoreResponse}
      */
-    DISCOVERY_STORE_RESPONSE(0x8016, DiscoveryStoreResponse.class),
+    DISCOVERY_STORE_RESPONSE(0x8016, DiscoveryStoreResponse.class, DiscoveryStoreResponse::new),
     /**
      * End Device Bind Request
      * <p>
      * See {@link EndDeviceBindRequest}
      */
-    END_DEVICE_BIND_REQUEST(0x0020, EndDeviceBindRequest.class),
+    END_DEVICE_BIND_REQUEST(0x0020, EndDeviceBindRequest.class, EndDeviceBindRequest::new),
     /**
      * End Device Bind Response
      * <p>
      * See {@link EndDeviceBindResponse}
      */
-    END_DEVICE_BIND_RESPONSE(0x8020, EndDeviceBindResponse.class),
+    END_DEVICE_BIND_RESPONSE(0x8020, EndDeviceBindResponse.class, EndDeviceBindResponse::new),
     /**
      * Extended Active Endpoint Request
      * <p>
      * See {@link ExtendedActiveEndpointRequest}
      */
-    EXTENDED_ACTIVE_ENDPOINT_REQUEST(0x001E, ExtendedActiveEndpointRequest.class),
+    EXTENDED_ACTIVE_ENDPOINT_REQUEST(0x001E, ExtendedActiveEndpointRequest.class, ExtendedActiveEndpointRequest::new),
     /**
      * Extended Active Endpoint Response
      * <p>
      * See {@link ExtendedActiveEndpointResponse}
      */
-    EXTENDED_ACTIVE_ENDPOINT_RESPONSE(0x801E, ExtendedActiveEndpointResponse.class),
+    EXTENDED_ACTIVE_ENDPOINT_RESPONSE(0x801E, ExtendedActiveEndpointResponse.class, ExtendedActiveEndpointResponse::new),
     /**
      * Extended Simple Descriptor Request
      * <p>
      * See {@link ExtendedSimpleDescriptorRequest}
      */
-    EXTENDED_SIMPLE_DESCRIPTOR_REQUEST(0x001D, ExtendedSimpleDescriptorRequest.class),
+    EXTENDED_SIMPLE_DESCRIPTOR_REQUEST(0x001D, ExtendedSimpleDescriptorRequest.class, ExtendedSimpleDescriptorRequest::new),
     /**
      * Extended Simple Descriptor Response
      * <p>
      * See {@link ExtendedSimpleDescriptorResponse}
      */
-    EXTENDED_SIMPLE_DESCRIPTOR_RESPONSE(0x801D, ExtendedSimpleDescriptorResponse.class),
+    EXTENDED_SIMPLE_DESCRIPTOR_RESPONSE(0x801D, ExtendedSimpleDescriptorResponse.class, ExtendedSimpleDescriptorResponse::new),
     /**
      * Find Node Cache Request
      * <p>
      * See {@link FindNodeCacheRequest}
      */
-    FIND_NODE_CACHE_REQUEST(0x001C, FindNodeCacheRequest.class),
+    FIND_NODE_CACHE_REQUEST(0x001C, FindNodeCacheRequest.class, FindNodeCacheRequest::new),
     /**
      * Find Node Cache Response
      * <p>
      * See {@link FindNodeCacheResponse}
      */
-    FIND_NODE_CACHE_RESPONSE(0x801C, FindNodeCacheResponse.class),
+    FIND_NODE_CACHE_RESPONSE(0x801C, FindNodeCacheResponse.class, FindNodeCacheResponse::new),
     /**
      * IEEE Address Request
      * <p>
      * See {@link IeeeAddressRequest}
      */
-    IEEE_ADDRESS_REQUEST(0x0001, IeeeAddressRequest.class),
+    IEEE_ADDRESS_REQUEST(0x0001, IeeeAddressRequest.class, IeeeAddressRequest::new),
     /**
      * IEEE Address Response
      * <p>
      * See {@link IeeeAddressResponse}
      */
-    IEEE_ADDRESS_RESPONSE(0x8001, IeeeAddressResponse.class),
+    IEEE_ADDRESS_RESPONSE(0x8001, IeeeAddressResponse.class, IeeeAddressResponse::new),
     /**
      * Management Bind Request
      * <p>
      * See {@link ManagementBindRequest}
      */
-    MANAGEMENT_BIND_REQUEST(0x0033, ManagementBindRequest.class),
+    MANAGEMENT_BIND_REQUEST(0x0033, ManagementBindRequest.class, ManagementBindRequest::new),
     /**
      * Management Bind Response
      * <p>
      * See {@link ManagementBindResponse}
      */
-    MANAGEMENT_BIND_RESPONSE(0x8033, ManagementBindResponse.class),
+    MANAGEMENT_BIND_RESPONSE(0x8033, ManagementBindResponse.class, ManagementBindResponse::new),
     /**
      * Management Cache Response
      * <p>
      * See {@link ManagementCacheResponse}
      */
-    MANAGEMENT_CACHE_RESPONSE(0x8037, ManagementCacheResponse.class),
+    MANAGEMENT_CACHE_RESPONSE(0x8037, ManagementCacheResponse.class, ManagementCacheResponse::new),
     /**
      * Management Direct Join Request
      * <p>
      * See {@link ManagementDirectJoinRequest}
      */
-    MANAGEMENT_DIRECT_JOIN_REQUEST(0x0035, ManagementDirectJoinRequest.class),
+    MANAGEMENT_DIRECT_JOIN_REQUEST(0x0035, ManagementDirectJoinRequest.class, ManagementDirectJoinRequest::new),
     /**
      * Management Direct Join Response
      * <p>
      * See {@link ManagementDirectJoinResponse}
      */
-    MANAGEMENT_DIRECT_JOIN_RESPONSE(0x8035, ManagementDirectJoinResponse.class),
+    MANAGEMENT_DIRECT_JOIN_RESPONSE(0x8035, ManagementDirectJoinResponse.class, ManagementDirectJoinResponse::new),
     /**
      * Management Leave Request
      * <p>
      * See {@link ManagementLeaveRequest}
      */
-    MANAGEMENT_LEAVE_REQUEST(0x0034, ManagementLeaveRequest.class),
+    MANAGEMENT_LEAVE_REQUEST(0x0034, ManagementLeaveRequest.class, ManagementLeaveRequest::new),
     /**
      * Management Leave Response
      * <p>
      * See {@link ManagementLeaveResponse}
      */
-    MANAGEMENT_LEAVE_RESPONSE(0x8034, ManagementLeaveResponse.class),
+    MANAGEMENT_LEAVE_RESPONSE(0x8034, ManagementLeaveResponse.class, ManagementLeaveResponse::new),
     /**
      * Management LQI Request
      * <p>
      * See {@link ManagementLqiRequest}
      */
-    MANAGEMENT_LQI_REQUEST(0x0031, ManagementLqiRequest.class),
+    MANAGEMENT_LQI_REQUEST(0x0031, ManagementLqiRequest.class, ManagementLqiRequest::new),
     /**
      * Management LQI Response
      * <p>
      * See {@link ManagementLqiResponse}
      */
-    MANAGEMENT_LQI_RESPONSE(0x8031, ManagementLqiResponse.class),
+    MANAGEMENT_LQI_RESPONSE(0x8031, ManagementLqiResponse.class, ManagementLqiResponse::new),
     /**
      * Management Network Discovery
      * <p>
      * See {@link ManagementNetworkDiscovery}
      */
-    MANAGEMENT_NETWORK_DISCOVERY(0x0030, ManagementNetworkDiscovery.class),
+    MANAGEMENT_NETWORK_DISCOVERY(0x0030, ManagementNetworkDiscovery.class, ManagementNetworkDiscovery::new),
     /**
      * Management Network Discovery Response
      * <p>
      * See {@link ManagementNetworkDiscoveryResponse}
      */
-    MANAGEMENT_NETWORK_DISCOVERY_RESPONSE(0x8030, ManagementNetworkDiscoveryResponse.class),
+    MANAGEMENT_NETWORK_DISCOVERY_RESPONSE(0x8030, ManagementNetworkDiscoveryResponse.class, ManagementNetworkDiscoveryResponse::new),
     /**
      * Management Network Update Notify
      * <p>
      * See {@link ManagementNetworkUpdateNotify}
      */
-    MANAGEMENT_NETWORK_UPDATE_NOTIFY(0x8038, ManagementNetworkUpdateNotify.class),
+    MANAGEMENT_NETWORK_UPDATE_NOTIFY(0x8038, ManagementNetworkUpdateNotify.class, ManagementNetworkUpdateNotify::new),
     /**
      * Management Permit Joining Request
      * <p>
      * See {@link ManagementPermitJoiningRequest}
      */
-    MANAGEMENT_PERMIT_JOINING_REQUEST(0x0036, ManagementPermitJoiningRequest.class),
+    MANAGEMENT_PERMIT_JOINING_REQUEST(0x0036, ManagementPermitJoiningRequest.class, ManagementPermitJoiningRequest::new),
     /**
      * Management Permit Joining Response
      * <p>
      * See {@link ManagementPermitJoiningResponse}
      */
-    MANAGEMENT_PERMIT_JOINING_RESPONSE(0x8036, ManagementPermitJoiningResponse.class),
+    MANAGEMENT_PERMIT_JOINING_RESPONSE(0x8036, ManagementPermitJoiningResponse.class, ManagementPermitJoiningResponse::new),
     /**
      * Management Routing Request
      * <p>
      * See {@link ManagementRoutingRequest}
      */
-    MANAGEMENT_ROUTING_REQUEST(0x0032, ManagementRoutingRequest.class),
+    MANAGEMENT_ROUTING_REQUEST(0x0032, ManagementRoutingRequest.class, ManagementRoutingRequest::new),
     /**
      * Management Routing Response
      * <p>
      * See {@link ManagementRoutingResponse}
      */
-    MANAGEMENT_ROUTING_RESPONSE(0x8032, ManagementRoutingResponse.class),
+    MANAGEMENT_ROUTING_RESPONSE(0x8032, ManagementRoutingResponse.class, ManagementRoutingResponse::new),
     /**
      * Match Descriptor Request
      * <p>
      * See {@link MatchDescriptorRequest}
      */
-    MATCH_DESCRIPTOR_REQUEST(0x0006, MatchDescriptorRequest.class),
+    MATCH_DESCRIPTOR_REQUEST(0x0006, MatchDescriptorRequest.class, MatchDescriptorRequest::new),
     /**
      * Match Descriptor Response
      * <p>
      * See {@link MatchDescriptorResponse}
      */
-    MATCH_DESCRIPTOR_RESPONSE(0x8006, MatchDescriptorResponse.class),
+    MATCH_DESCRIPTOR_RESPONSE(0x8006, MatchDescriptorResponse.class, MatchDescriptorResponse::new),
     /**
      * Network Address Request
      * <p>
      * See {@link NetworkAddressRequest}
      */
-    NETWORK_ADDRESS_REQUEST(0x0000, NetworkAddressRequest.class),
+    NETWORK_ADDRESS_REQUEST(0x0000, NetworkAddressRequest.class, NetworkAddressRequest::new),
     /**
      * Network Address Response
      * <p>
      * See {@link NetworkAddressResponse}
      */
-    NETWORK_ADDRESS_RESPONSE(0x8000, NetworkAddressResponse.class),
+    NETWORK_ADDRESS_RESPONSE(0x8000, NetworkAddressResponse.class, NetworkAddressResponse::new),
     /**
      * Network Update Request
      * <p>
      * See {@link NetworkUpdateRequest}
      */
-    NETWORK_UPDATE_REQUEST(0x0038, NetworkUpdateRequest.class),
+    NETWORK_UPDATE_REQUEST(0x0038, NetworkUpdateRequest.class, NetworkUpdateRequest::new),
     /**
      * Node Descriptor Request
      * <p>
      * See {@link NodeDescriptorRequest}
      */
-    NODE_DESCRIPTOR_REQUEST(0x0002, NodeDescriptorRequest.class),
+    NODE_DESCRIPTOR_REQUEST(0x0002, NodeDescriptorRequest.class, NodeDescriptorRequest::new),
     /**
      * Node Descriptor Response
      * <p>
      * See {@link NodeDescriptorResponse}
      */
-    NODE_DESCRIPTOR_RESPONSE(0x8002, NodeDescriptorResponse.class),
+    NODE_DESCRIPTOR_RESPONSE(0x8002, NodeDescriptorResponse.class, NodeDescriptorResponse::new),
     /**
      * Node Descriptor Store Request
      * <p>
      * See {@link NodeDescriptorStoreRequest}
      */
-    NODE_DESCRIPTOR_STORE_REQUEST(0x0017, NodeDescriptorStoreRequest.class),
+    NODE_DESCRIPTOR_STORE_REQUEST(0x0017, NodeDescriptorStoreRequest.class, NodeDescriptorStoreRequest::new),
     /**
      * Node Descriptor Store Response
      * <p>
      * See {@link NodeDescriptorStoreResponse}
      */
-    NODE_DESCRIPTOR_STORE_RESPONSE(0x8017, NodeDescriptorStoreResponse.class),
+    NODE_DESCRIPTOR_STORE_RESPONSE(0x8017, NodeDescriptorStoreResponse.class, NodeDescriptorStoreResponse::new),
     /**
      * Power Descriptor Request
      * <p>
      * See {@link PowerDescriptorRequest}
      */
-    POWER_DESCRIPTOR_REQUEST(0x0003, PowerDescriptorRequest.class),
+    POWER_DESCRIPTOR_REQUEST(0x0003, PowerDescriptorRequest.class, PowerDescriptorRequest::new),
     /**
      * Power Descriptor Response
      * <p>
      * See {@link PowerDescriptorResponse}
      */
-    POWER_DESCRIPTOR_RESPONSE(0x8003, PowerDescriptorResponse.class),
+    POWER_DESCRIPTOR_RESPONSE(0x8003, PowerDescriptorResponse.class, PowerDescriptorResponse::new),
     /**
      * Power Descriptor Store Request
      * <p>
      * See {@link PowerDescriptorStoreRequest}
      */
-    POWER_DESCRIPTOR_STORE_REQUEST(0x0018, PowerDescriptorStoreRequest.class),
+    POWER_DESCRIPTOR_STORE_REQUEST(0x0018, PowerDescriptorStoreRequest.class, PowerDescriptorStoreRequest::new),
     /**
      * Power Descriptor Store Response
      * <p>
      * See {@link PowerDescriptorStoreResponse}
      */
-    POWER_DESCRIPTOR_STORE_RESPONSE(0x8018, PowerDescriptorStoreResponse.class),
+    POWER_DESCRIPTOR_STORE_RESPONSE(0x8018, PowerDescriptorStoreResponse.class, PowerDescriptorStoreResponse::new),
     /**
      * Recover Bind Table Request
      * <p>
      * See {@link RecoverBindTableRequest}
      */
-    RECOVER_BIND_TABLE_REQUEST(0x0028, RecoverBindTableRequest.class),
+    RECOVER_BIND_TABLE_REQUEST(0x0028, RecoverBindTableRequest.class, RecoverBindTableRequest::new),
     /**
      * Recover Bind Table Response
      * <p>
      * See {@link RecoverBindTableResponse}
      */
-    RECOVER_BIND_TABLE_RESPONSE(0x8028, RecoverBindTableResponse.class),
+    RECOVER_BIND_TABLE_RESPONSE(0x8028, RecoverBindTableResponse.class, RecoverBindTableResponse::new),
     /**
      * Recover Source Bind Request
      * <p>
      * See {@link RecoverSourceBindRequest}
      */
-    RECOVER_SOURCE_BIND_REQUEST(0x002A, RecoverSourceBindRequest.class),
+    RECOVER_SOURCE_BIND_REQUEST(0x002A, RecoverSourceBindRequest.class, RecoverSourceBindRequest::new),
     /**
      * Recover Source Bind Response
      * <p>
      * See {@link RecoverSourceBindResponse}
      */
-    RECOVER_SOURCE_BIND_RESPONSE(0x8029, RecoverSourceBindResponse.class),
+    RECOVER_SOURCE_BIND_RESPONSE(0x8029, RecoverSourceBindResponse.class, RecoverSourceBindResponse::new),
     /**
      * Remove Backup Bind Entry Response
      * <p>
      * See {@link RemoveBackupBindEntryResponse}
      */
-    REMOVE_BACKUP_BIND_ENTRY_RESPONSE(0x8026, RemoveBackupBindEntryResponse.class),
+    REMOVE_BACKUP_BIND_ENTRY_RESPONSE(0x8026, RemoveBackupBindEntryResponse.class, RemoveBackupBindEntryResponse::new),
     /**
      * Remove Backup Bind Table Request
      * <p>
      * See {@link RemoveBackupBindTableRequest}
      */
-    REMOVE_BACKUP_BIND_TABLE_REQUEST(0x0026, RemoveBackupBindTableRequest.class),
+    REMOVE_BACKUP_BIND_TABLE_REQUEST(0x0026, RemoveBackupBindTableRequest.class, RemoveBackupBindTableRequest::new),
     /**
      * Remove Node Cache
      * <p>
      * See {@link RemoveNodeCache}
      */
-    REMOVE_NODE_CACHE(0x801B, RemoveNodeCache.class),
+    REMOVE_NODE_CACHE(0x801B, RemoveNodeCache.class, RemoveNodeCache::new),
     /**
      * Remove Node Cache Request
      * <p>
      * See {@link RemoveNodeCacheRequest}
      */
-    REMOVE_NODE_CACHE_REQUEST(0x001B, RemoveNodeCacheRequest.class),
+    REMOVE_NODE_CACHE_REQUEST(0x001B, RemoveNodeCacheRequest.class, RemoveNodeCacheRequest::new),
     /**
      * Replace Device Request
      * <p>
      * See {@link ReplaceDeviceRequest}
      */
-    REPLACE_DEVICE_REQUEST(0x0024, ReplaceDeviceRequest.class),
+    REPLACE_DEVICE_REQUEST(0x0024, ReplaceDeviceRequest.class, ReplaceDeviceRequest::new),
     /**
      * Replace Device Response
      * <p>
      * See {@link ReplaceDeviceResponse}
      */
-    REPLACE_DEVICE_RESPONSE(0x8024, ReplaceDeviceResponse.class),
+    REPLACE_DEVICE_RESPONSE(0x8024, ReplaceDeviceResponse.class, ReplaceDeviceResponse::new),
     /**
      * Simple Descriptor Request
      * <p>
      * See {@link SimpleDescriptorRequest}
      */
-    SIMPLE_DESCRIPTOR_REQUEST(0x0004, SimpleDescriptorRequest.class),
+    SIMPLE_DESCRIPTOR_REQUEST(0x0004, SimpleDescriptorRequest.class, SimpleDescriptorRequest::new),
     /**
      * Simple Descriptor Response
      * <p>
      * See {@link SimpleDescriptorResponse}
      */
-    SIMPLE_DESCRIPTOR_RESPONSE(0x8004, SimpleDescriptorResponse.class),
+    SIMPLE_DESCRIPTOR_RESPONSE(0x8004, SimpleDescriptorResponse.class, SimpleDescriptorResponse::new),
     /**
      * Simple Descriptor Store
      * <p>
      * See {@link SimpleDescriptorStore}
      */
-    SIMPLE_DESCRIPTOR_STORE(0x001A, SimpleDescriptorStore.class),
+    SIMPLE_DESCRIPTOR_STORE(0x001A, SimpleDescriptorStore.class, SimpleDescriptorStore::new),
     /**
      * Simple Descriptor Store Response
      * <p>
      * See {@link SimpleDescriptorStoreResponse}
      */
-    SIMPLE_DESCRIPTOR_STORE_RESPONSE(0x801A, SimpleDescriptorStoreResponse.class),
+    SIMPLE_DESCRIPTOR_STORE_RESPONSE(0x801A, SimpleDescriptorStoreResponse.class, SimpleDescriptorStoreResponse::new),
     /**
      * Store Backup Bind Entry Request
      * <p>
      * See {@link StoreBackupBindEntryRequest}
      */
-    STORE_BACKUP_BIND_ENTRY_REQUEST(0x0025, StoreBackupBindEntryRequest.class),
+    STORE_BACKUP_BIND_ENTRY_REQUEST(0x0025, StoreBackupBindEntryRequest.class, StoreBackupBindEntryRequest::new),
     /**
      * Store Backup Bind Entry Response
      * <p>
      * See {@link StoreBackupBindEntryResponse}
      */
-    STORE_BACKUP_BIND_ENTRY_RESPONSE(0x8025, StoreBackupBindEntryResponse.class),
+    STORE_BACKUP_BIND_ENTRY_RESPONSE(0x8025, StoreBackupBindEntryResponse.class, StoreBackupBindEntryResponse::new),
     /**
      * System Server Discovery Request
      * <p>
      * See {@link SystemServerDiscoveryRequest}
      */
-    SYSTEM_SERVER_DISCOVERY_REQUEST(0x0015, SystemServerDiscoveryRequest.class),
+    SYSTEM_SERVER_DISCOVERY_REQUEST(0x0015, SystemServerDiscoveryRequest.class, SystemServerDiscoveryRequest::new),
     /**
      * Unbind Request
      * <p>
      * See {@link UnbindRequest}
      */
-    UNBIND_REQUEST(0x0022, UnbindRequest.class),
+    UNBIND_REQUEST(0x0022, UnbindRequest.class, UnbindRequest::new),
     /**
      * Unbind Response
      * <p>
      * See {@link UnbindResponse}
      */
-    UNBIND_RESPONSE(0x8022, UnbindResponse.class),
+    UNBIND_RESPONSE(0x8022, UnbindResponse.class, UnbindResponse::new),
     /**
      * User Descriptor Conf
      * <p>
      * See {@link UserDescriptorConf}
      */
-    USER_DESCRIPTOR_CONF(0x8014, UserDescriptorConf.class),
+    USER_DESCRIPTOR_CONF(0x8014, UserDescriptorConf.class, UserDescriptorConf::new),
     /**
      * User Descriptor Request
      * <p>
      * See {@link UserDescriptorRequest}
      */
-    USER_DESCRIPTOR_REQUEST(0x0011, UserDescriptorRequest.class),
+    USER_DESCRIPTOR_REQUEST(0x0011, UserDescriptorRequest.class, UserDescriptorRequest::new),
     /**
      * User Descriptor Response
      * <p>
      * See {@link UserDescriptorResponse}
      */
-    USER_DESCRIPTOR_RESPONSE(0x8011, UserDescriptorResponse.class),
+    USER_DESCRIPTOR_RESPONSE(0x8011, UserDescriptorResponse.class, UserDescriptorResponse::new),
     /**
      * User Descriptor Set Request
      * <p>
      * See {@link UserDescriptorSetRequest}
      */
-    USER_DESCRIPTOR_SET_REQUEST(0x0014, UserDescriptorSetRequest.class);
+    USER_DESCRIPTOR_SET_REQUEST(0x0014, UserDescriptorSetRequest.class, UserDescriptorSetRequest::new);
+
+    /**
+     * A mapping between the cluster ID and its corresponding ZdoCommandType type to facilitate lookup by value.
+     */
+    private static Map<Integer, ZdoCommandType> idMap;
+
+    static {
+        idMap = new HashMap<Integer, ZdoCommandType>();
+        for (ZdoCommandType enumValue : values()) {
+            idMap.put(enumValue.clusterId, enumValue);
+        }
+    }
 
     private final int clusterId;
     private final Class<? extends ZdoCommand> commandClass;
+    private final CommandFactory commandConstructor;
 
-    ZdoCommandType(final int clusterId, final Class<? extends ZdoCommand> commandClass) {
+    ZdoCommandType(final int clusterId, final Class<? extends ZdoCommand> commandClass,
+            final CommandFactory commandConstructor) {
         this.clusterId = clusterId;
         this.commandClass = commandClass;
+        this.commandConstructor = commandConstructor;
     }
 
     public int getClusterId() {
@@ -601,12 +619,23 @@ public enum ZdoCommandType {
         return commandClass;
     }
 
+    /**
+     * Creates a new instance of the command for this type without the use of reflection
+     *
+     * @return a new {@link ZdoCommand} of this type
+     */
+    public ZdoCommand createCommand() {
+        return commandConstructor.createCommand();
+    }
+
     public static ZdoCommandType getValueById(final int clusterId) {
-        for (final ZdoCommandType value : values()) {
-            if(value.clusterId == clusterId) {
-                return value;
-            }
-        }
-        return null;
+        return idMap.get(clusterId);
+    }
+
+    /**
+     * Factory used to create the command - normally the command constructor
+     */
+    private interface CommandFactory {
+        ZdoCommand createCommand();
     }
 }
@@ -17,8 +17,10 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.nio.file.FileSystems;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -35,6 +37,7 @@ import java.util.concurrent.TimeUnit;
 import org.awaitility.Awaitility;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatcher;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 
@@ -46,6 +49,8 @@ import com.zsmartsystems.zigbee.database.ZigBeeNetworkDataStore;
 import com.zsmartsystems.zigbee.database.ZigBeeNetworkDatabaseManager;
 import com.zsmartsystems.zigbee.internal.NotificationService;
 import com.zsmartsystems.zigbee.security.ZigBeeKey;
+import com.zsmartsystems.zigbee.serialization.ByteBufferDeserializer;
+import com.zsmartsystems.zigbee.serialization.ByteBufferSerializer;
 import com.zsmartsystems.zigbee.serialization.DefaultDeserializer;
 import com.zsmartsystems.zigbee.serialization.DefaultSerializer;
 import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionManager;
@@ -70,6 +75,7 @@ import com.zsmartsystems.zigbee.zcl.clusters.ZclPriceCluster;
 import com.zsmartsystems.zigbee.zcl.clusters.ZclThermostatCluster;
 import com.zsmartsystems.zigbee.zcl.clusters.general.ReadAttributesCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.onoff.OnCommand;
+import com.zsmartsystems.zigbee.zcl.field.ByteArray;
 import com.zsmartsystems.zigbee.zcl.protocol.ZclCommandDirection;
 import com.zsmartsystems.zigbee.zdo.command.ManagementPermitJoiningRequest;
 import com.zsmartsystems.zigbee.zdo.field.NodeDescriptor;
@@ -93,6 +99,29 @@ public class ZigBeeNetworkManagerTest
     private ZigBeeNetworkStateListener mockedStateListener;
     private List<ZigBeeCommand> commandListenerCapture;
 
+    @Test
+    public void restoreNodes() throws Exception {
+        TestUtilities.outputTestHeader();
+        ZigBeeNetworkManager networkManager = mockZigBeeNetworkManager();
+
+        ZigBeeNode node1 = new ZigBeeNode(networkManager, new IeeeAddress("1111111111111111"), 1111);
+        ZigBeeNode node2 = new ZigBeeNode(networkManager, new IeeeAddress("2222222222222222"), 2222);
+        networkManager.restoreNodes(Arrays.asList(node1, node2));
+
+        assertEquals(2, networkManager.getNodes().size());
+        assertEquals(node1, networkManager.getNode(1111));
+        assertEquals(node2, networkManager.getNode(new IeeeAddress("2222222222222222")));
+
+        Mockito.verify(mockedNodeListener, Mockito.timeout(TIMEOUT).times(1))
+                .nodesRestored(ArgumentMatchers.argThat(new ArgumentMatcher<Collection<ZigBeeNode>>() {
+                    @Override
+                    public boolean matches(Collection<ZigBeeNode> argument) {
+                        return argument.size() == 2;
+                    }
+                }));
+        Mockito.verify(mockedNodeListener, Mockito.never()).nodeAdded(ArgumentMatchers.any(ZigBeeNode.class));
+    }
+
     @Test
     public void testAddRemoveNode() throws Exception {
         TestUtilities.outputTestHeader();
@@ -244,6 +273,77 @@ public class ZigBeeNetworkManagerTest
         assertEquals(Integer.valueOf(5678), nodeWeGot.getNetworkAddress());
     }
 
+    @Test
+    public void getNodeByNetworkAddress() throws Exception {
+        TestUtilities.outputTestHeader();
+        ZigBeeNetworkManager networkManager = mockZigBeeNetworkManager();
+
+        ZigBeeNode node1 = new ZigBeeNode(networkManager, new IeeeAddress("1234567890ABCDEF"), 0x1234);
+        ZigBeeNode node2 = new ZigBeeNode(networkManager, new IeeeAddress("123456789ABCDEF0"), 0x5678);
+        networkManager.updateNode(node1);
+        networkManager.updateNode(node2);
+        assertEquals(node1, networkManager.getNode(0x1234));
+        assertEquals(node2, networkManager.getNode(0x5678));
+        assertNull(networkManager.getNode(0x4321));
+        assertNull(networkManager.getNode((Integer) null));
+
+        // Changing the address on the node updates the network
+        node1.setNetworkAddress(0x4321);
+        assertNull(networkManager.getNode(0x1234));
+        assertEquals(node1, networkManager.getNode(0x4321));
+
+        // A node that is not part of the network is not found
+        ZigBeeNode node3 = new ZigBeeNode(networkManager, new IeeeAddress("123456789ABCDEF1"), 0x1111);
+        node3.setNetworkAddress(0x2222);
+        assertNull(networkManager.getNode(0x2222));
+
+        // An address update from the discovery system updates the network
+        ZigBeeNode node2Update = new ZigBeeNode(networkManager, new IeeeAddress("123456789ABCDEF0"), 0x8765);
+        networkManager.updateNode(node2Update);
+        assertNull(networkManager.getNode(0x5678));
+        assertEquals(node2, networkManager.getNode(0x8765));
+
+        // An address taken over by another node
+        node2.setNetworkAddress(0x4321);
+        assertEquals(node2, networkManager.getNode(0x4321));
+        assertNull(networkManager.getNode(0x8765));
+
+        networkManager.removeNode(node2);
+        assertNull(networkManager.getNode(0x4321));
+        networkManager.removeNode(node1);
+        assertNull(networkManager.getNode(0x4321));
+    }
+
+    @Test
+    public void getNodeByNetworkAddressLargeNetwork() throws Exception {
+        TestUtilities.outputTestHeader();
+        ZigBeeNetworkManager networkManager = mockZigBeeNetworkManager();
+
+        // Spread the addresses over the full 16 bit address space
+        List<ZigBeeNode> nodes = new ArrayList<>();
+        for (int cnt = 0; cnt < 1000; cnt++) {
+            ZigBeeNode node = new ZigBeeNode(networkManager,
+                    new IeeeAddress(String.format("%016X", 0x1000000 + cnt)), cnt * 65 + 1);
+            nodes.add(node);
+            networkManager.updateNode(node);
+        }
+        for (ZigBeeNode node : nodes) {
+            assertEquals(node, networkManager.getNode(node.getNetworkAddress()));
+            assertNull(networkManager.getNode(node.getNetworkAddress() + 1));
+        }
+
+        // Removed nodes are no longer found, and the remaining nodes are unaffected
+        for (int cnt = 0; cnt < nodes.size(); cnt += 2) {
+            networkManager.removeNode(nodes.get(cnt));
+        }
+        for (int cnt = 0; cnt < nodes.size(); cnt++) {
+            ZigBeeNode node = nodes.get(cnt);
+            assertEquals(cnt % 2 == 0 ? null : node, networkManager.getNode(node.getNetworkAddress()));
+        }
+
+        networkManager.shutdown();
+    }
+
     @Test
     public void testAddRemoveGroup() throws Exception {
         TestUtilities.outputTestHeader();
@@ -338,6 +438,42 @@ public class ZigBeeNetworkManagerTest
         assertEquals(56, apsFrame.getDestinationEndpoint());
     }
 
+    @Test
+    public void testSendCommandBuffer() throws Exception {
+        TestUtilities.outputTestHeader();
+        ZigBeeNetworkManager networkManager = mockZigBeeNetworkManager();
+
+        List<ZigBeeCommand> commands = new ArrayList<>();
+        ReadAttributesCommand zclCommand = new ReadAttributesCommand(Arrays.asList(new Integer[] { 0x0000, 0x0005 }));
+        zclCommand.setClusterId(0);
+        zclCommand.setTransactionId(22);
+        zclCommand.setDestinationAddress(new ZigBeeEndpointAddress(1234, 56));
+        commands.add(zclCommand);
+        ManagementPermitJoiningRequest zdoCommand = new ManagementPermitJoiningRequest(60, true);
+        zdoCommand.setTransactionId(23);
+        zdoCommand.setDestinationAddress(new ZigBeeEndpointAddress(1234));
+        commands.add(zdoCommand);
+
+        for (ZigBeeCommand command : commands) {
+            assertTrue(networkManager.sendCommand(command));
+        }
+
+        networkManager.setSerializer(ByteBufferSerializer::new, DefaultDeserializer::new);
+        for (ZigBeeCommand command : commands) {
+            assertTrue(networkManager.sendCommand(command));
+        }
+
+        // The buffer serializer passes the payload to the transport as a buffer with the same content
+        List<ZigBeeApsFrame> sentFrames = mockedApsFrameListener.getAllValues();
+        assertEquals(4, sentFrames.size());
+        for (int cnt = 0; cnt < 2; cnt++) {
+            assertFalse(sentFrames.get(cnt).hasPayloadBuffer());
+            assertTrue(sentFrames.get(cnt + 2).hasPayloadBuffer());
+            assertEquals(sentFrames.get(cnt).getPayloadLength(), sentFrames.get(cnt + 2).getPayloadLength());
+            assertTrue(Arrays.equals(sentFrames.get(cnt).getPayload(), sentFrames.get(cnt + 2).getPayload()));
+        }
+    }
+
     @Test
     public void testReceiveZclCommand() throws Exception {
         TestUtilities.outputTestHeader();
@@ -396,6 +532,58 @@ public class ZigBeeNetworkManagerTest
         Mockito.verify(announceListener, Mockito.timeout(TIMEOUT).times(1)).announceUnknownDevice(4321);
     }
 
+    @Test
+    public void testReceiveZclCommandBuffer() throws Exception {
+        TestUtilities.outputTestHeader();
+        ZigBeeNetworkManager networkManager = mockZigBeeNetworkManager();
+        // The integer deserializer must not be used when the frame holds a buffer
+        networkManager.setSerializer(DefaultSerializer::new, payload -> null, ByteBufferDeserializer::new);
+        networkManager.addSupportedServerCluster(6);
+
+        ZigBeeEndpoint endpoint = Mockito.mock(ZigBeeEndpoint.class);
+        ZclCluster cluster = new ZclOnOffCluster(endpoint);
+        Mockito.when(endpoint.getOutputCluster(6)).thenReturn(cluster);
+
+        ZigBeeNode node = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(node.getIeeeAddress()).thenReturn(new IeeeAddress("1111111111111111"));
+        Mockito.when(node.getNetworkAddress()).thenReturn(1234);
+        Mockito.when(node.getEndpoint(5)).thenReturn(endpoint);
+
+        networkManager.updateNode(node);
+
+        ZigBeeApsFrame apsFrame = new ZigBeeApsFrame();
+        apsFrame.setSourceAddress(1234);
+        apsFrame.setDestinationAddress(0);
+        apsFrame.setApsCounter(1);
+
+        apsFrame.setCluster(6);
+        apsFrame.setDestinationEndpoint(1);
+        apsFrame.setProfile(0x104);
+        apsFrame.setSourceEndpoint(5);
+
+        ZclHeader zclHeader = new ZclHeader();
+        zclHeader.setCommandId(0);
+        zclHeader.setFrameType(ZclFrameType.ENTIRE_PROFILE_COMMAND);
+        zclHeader.setSequenceNumber(1);
+        zclHeader.setDirection(ZclCommandDirection.CLIENT_TO_SERVER);
+
+        ZclFieldSerializer fieldSerializer = new ZclFieldSerializer(new ByteBufferSerializer());
+        int[] payload = zclHeader.serialize(fieldSerializer, new int[] {});
+
+        apsFrame.setPayload(ByteBuffer.wrap(new ByteArray(payload).get()));
+
+        TestUtilities.setField(ZigBeeNetworkManager.class, networkManager, "networkState", ZigBeeNetworkState.ONLINE);
+        networkManager.receiveCommand(apsFrame);
+        Awaitility.await().until(() -> commandListenerUpdated());
+
+        ReadAttributesCommand response = (ReadAttributesCommand) commandListenerCapture.get(0);
+
+        assertEquals(6, (int) response.getClusterId());
+        assertEquals(0, (int) response.getCommandId());
+        assertEquals(1, (int) response.getTransactionId());
+        assertEquals(new ZigBeeEndpointAddress(1234, 5), response.getSourceAddress());
+    }
+
     @Test
     public void testReceiveZclCommandDefault() throws Exception {
         TestUtilities.outputTestHeader();
@@ -830,7 +1018,7 @@ public class ZigBeeNetworkManagerTest
         networkManager.addNetworkNodeListener(this);
         networkManager.addNetworkStateListener(mockedStateListener);
         networkManager.addCommandListener(this);
-        networkManager.setSerializer(DefaultSerializer.class, DefaultDeserializer.class);
+        networkManager.setSerializer(DefaultSerializer::new, DefaultDeserializer::new);
 
         Mockito.when(mockedTransport.setZigBeeChannel(ArgumentMatchers.any(ZigBeeChannel.class)))
                 .thenReturn(ZigBeeStatus.SUCCESS);
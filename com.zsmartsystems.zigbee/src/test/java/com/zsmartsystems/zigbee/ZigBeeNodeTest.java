@@ -15,8 +15,10 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
@@ -30,12 +32,15 @@ import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
 import com.zsmartsystems.zigbee.ZigBeeNode.ZigBeeNodeState;
+import com.zsmartsystems.zigbee.database.ZclAttributeUpdateDao;
 import com.zsmartsystems.zigbee.internal.NotificationService;
 import com.zsmartsystems.zigbee.serialization.DefaultDeserializer;
 import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionFuture;
 import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionMatcher;
 import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.ZclStatus;
+import com.zsmartsystems.zigbee.zcl.clusters.ZclLevelControlCluster;
+import com.zsmartsystems.zigbee.zcl.clusters.ZclOnOffCluster;
 import com.zsmartsystems.zigbee.zcl.clusters.general.DefaultResponse;
 import com.zsmartsystems.zigbee.zdo.ZdoCommand;
 import com.zsmartsystems.zigbee.zdo.ZdoCommandType;
@@ -621,6 +626,47 @@ public class ZigBeeNodeTest {
         assertEquals(ZigBeeStatus.FAILURE, future.get());
     }
 
+    @Test
+    public void dirtyTracking() {
+        ZigBeeNode node = new ZigBeeNode(getMocketNetworkManager(), new IeeeAddress("1234567890ABCDEF"), 1);
+        ZigBeeEndpoint endpoint = new ZigBeeEndpoint(node, 1);
+        endpoint.setInputClusterIds(Arrays.asList(ZclOnOffCluster.CLUSTER_ID));
+        endpoint.setOutputClusterIds(Arrays.asList(ZclLevelControlCluster.CLUSTER_ID));
+        node.addEndpoint(endpoint);
+
+        // New nodes must be persisted in full
+        assertTrue(node.isDirty());
+        node.clearDirty();
+        assertFalse(node.isDirty());
+        assertTrue(node.getDirtyAttributes().isEmpty());
+
+        // Attribute changes are returned as partial updates
+        endpoint.getInputCluster(ZclOnOffCluster.CLUSTER_ID).getAttribute(ZclOnOffCluster.ATTR_ONOFF)
+                .updateValue(Boolean.TRUE);
+        assertFalse(node.isDirty());
+        List<ZclAttributeUpdateDao> updates = node.getDirtyAttributes();
+        assertEquals(1, updates.size());
+        assertEquals(1, updates.get(0).getEndpointId());
+        assertEquals(ZclOnOffCluster.CLUSTER_ID, updates.get(0).getClusterId());
+        assertFalse(updates.get(0).isClient());
+        assertEquals(ZclOnOffCluster.ATTR_ONOFF, updates.get(0).getAttribute().getId());
+        assertEquals(Boolean.TRUE, updates.get(0).getAttribute().getLastValue());
+        assertTrue(node.getDirtyAttributes().isEmpty());
+
+        // Configuration changes require the complete node to be persisted
+        endpoint.setProfileId(0x104);
+        assertTrue(node.isDirty());
+        node.clearDirty();
+        node.setPowerDescriptor(new PowerDescriptor());
+        assertTrue(node.isDirty());
+
+        // A restored node has not changed
+        ZigBeeNode restored = new ZigBeeNode(getMocketNetworkManager(), new IeeeAddress("1234567890ABCDEF"));
+        restored.setDao(node.getDao());
+        assertFalse(restored.isDirty());
+        assertTrue(restored.getDirtyAttributes().isEmpty());
+    }
+
     private ZigBeeNetworkManager getMocketNetworkManager() {
         ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
         Mockito.when(networkManager.getNotificationService()).thenReturn(new NotificationService());
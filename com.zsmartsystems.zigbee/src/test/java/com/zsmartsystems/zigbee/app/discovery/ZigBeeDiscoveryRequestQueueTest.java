@@ -0,0 +1,242 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.app.discovery;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.awaitility.Awaitility;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import com.zsmartsystems.zigbee.CommandResult;
+import com.zsmartsystems.zigbee.ZigBeeCommand;
+import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
+import com.zsmartsystems.zigbee.ZigBeeStatus;
+import com.zsmartsystems.zigbee.app.discovery.ZigBeeDiscoveryRequestQueue.ResponseHandler;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionFuture;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionMatcher;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionPriority;
+import com.zsmartsystems.zigbee.zdo.ZdoStatus;
+import com.zsmartsystems.zigbee.zdo.command.ManagementLqiRequest;
+import com.zsmartsystems.zigbee.zdo.command.ManagementRoutingRequest;
+import com.zsmartsystems.zigbee.zdo.command.NodeDescriptorRequest;
+import com.zsmartsystems.zigbee.zdo.command.NodeDescriptorResponse;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeDiscoveryRequestQueueTest {
+    private static int TIMEOUT = 5000;
+
+    private ZigBeeNetworkManager networkManager;
+    private List<ZigBeeTransactionFuture> futures;
+
+    @Before
+    public void setupTest() {
+        networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        futures = new ArrayList<>();
+
+        Mockito.doAnswer(new Answer<Future<CommandResult>>() {
+            @Override
+            public Future<CommandResult> answer(InvocationOnMock invocation) {
+                ZigBeeTransactionFuture future = new ZigBeeTransactionFuture();
+                synchronized (futures) {
+                    futures.add(future);
+                }
+                return future;
+            }
+        }).when(networkManager).sendTransaction(ArgumentMatchers.any(ZigBeeCommand.class),
+                ArgumentMatchers.any(ZigBeeTransactionMatcher.class));
+    }
+
+    private int getFutureCount() {
+        synchronized (futures) {
+            return futures.size();
+        }
+    }
+
+    private NodeDescriptorRequest getRequest(int address) {
+        return new NodeDescriptorRequest(address);
+    }
+
+    private CommandResult getResponse() {
+        return new CommandResult(new NodeDescriptorResponse(ZdoStatus.SUCCESS, 0, null));
+    }
+
+    @Test
+    public void outstandingRequests() {
+        ZigBeeDiscoveryRequestQueue queue = new ZigBeeDiscoveryRequestQueue(networkManager);
+        queue.setMaxOutstandingRequests(2);
+        assertEquals(2, queue.getMaxOutstandingRequests());
+
+        ResponseHandler handler1 = Mockito.mock(ResponseHandler.class);
+        ResponseHandler handler2 = Mockito.mock(ResponseHandler.class);
+        ResponseHandler handler3 = Mockito.mock(ResponseHandler.class);
+        queue.sendRequest(getRequest(1), handler1);
+        queue.sendRequest(getRequest(2), handler2);
+        queue.sendRequest(getRequest(3), handler3);
+
+        // Only two requests are sent until one completes
+        Mockito.verify(networkManager, Mockito.times(2)).sendTransaction(ArgumentMatchers.any(ZigBeeCommand.class),
+                ArgumentMatchers.any(ZigBeeTransactionMatcher.class));
+        assertEquals(1, queue.getPendingRequests());
+
+        CommandResult response = getResponse();
+        futures.get(1).set(response);
+        Mockito.verify(handler2, Mockito.timeout(TIMEOUT).times(1)).responseReceived(response);
+        Mockito.verify(handler1, Mockito.never()).responseReceived(ArgumentMatchers.any());
+
+        ArgumentCaptor<ZigBeeCommand> commandCaptor = ArgumentCaptor.forClass(ZigBeeCommand.class);
+        Mockito.verify(networkManager, Mockito.times(3)).sendTransaction(commandCaptor.capture(),
+                ArgumentMatchers.any(ZigBeeTransactionMatcher.class));
+        assertEquals(3, ((NodeDescriptorRequest) commandCaptor.getValue()).getNwkAddrOfInterest().intValue());
+        assertEquals(ZigBeeTransactionPriority.BACKGROUND, commandCaptor.getValue().getPriority());
+        assertEquals(0, queue.getPendingRequests());
+
+        // A cancelled transaction completes the request with no response
+        ArgumentCaptor<CommandResult> resultCaptor = ArgumentCaptor.forClass(CommandResult.class);
+        futures.get(2).cancel(true);
+        Mockito.verify(handler3, Mockito.timeout(TIMEOUT).times(1)).responseReceived(resultCaptor.capture());
+        assertNull(resultCaptor.getValue().getResponse());
+
+        queue.shutdown();
+    }
+
+    @Test
+    public void retry() {
+        final ScheduledFuture<?> retryTask = Mockito.mock(ScheduledFuture.class);
+        Mockito.doAnswer(new Answer<ScheduledFuture<?>>() {
+            @Override
+            public ScheduledFuture<?> answer(InvocationOnMock invocation) {
+                Runnable runnable = (Runnable) invocation.getArguments()[0];
+                new Thread(runnable).start();
+                return retryTask;
+            }
+        }).when(networkManager).scheduleTask(ArgumentMatchers.any(Runnable.class), ArgumentMatchers.anyLong());
+
+        ZigBeeDiscoveryRequestQueue queue = new ZigBeeDiscoveryRequestQueue(networkManager);
+        queue.setRetryPeriod(1);
+
+        ResponseHandler handler = Mockito.mock(ResponseHandler.class);
+        queue.sendRequest(getRequest(1), 1, handler);
+        futures.get(0).set(new CommandResult(ZigBeeStatus.FAILURE, null));
+
+        // The request is sent again after the backoff
+        Mockito.verify(networkManager, Mockito.timeout(TIMEOUT).times(2)).sendTransaction(
+                ArgumentMatchers.any(ZigBeeCommand.class), ArgumentMatchers.any(ZigBeeTransactionMatcher.class));
+        Mockito.verify(networkManager, Mockito.times(1)).scheduleTask(ArgumentMatchers.any(Runnable.class),
+                ArgumentMatchers.anyLong());
+        Mockito.verify(handler, Mockito.never()).responseReceived(ArgumentMatchers.any());
+
+        // Once the retries are used, the handler is called with the failure
+        CommandResult failure = new CommandResult(ZigBeeStatus.FAILURE, null);
+        Awaitility.await().atMost(TIMEOUT, TimeUnit.MILLISECONDS).until(() -> getFutureCount() == 2);
+        synchronized (futures) {
+            futures.get(1).set(failure);
+        }
+        Mockito.verify(handler, Mockito.timeout(TIMEOUT).times(1)).responseReceived(failure);
+
+        queue.shutdown();
+    }
+
+    @Test
+    public void retryNotScheduled() {
+        // The network manager returns null when the network is not online
+        Mockito.when(networkManager.scheduleTask(ArgumentMatchers.any(Runnable.class), ArgumentMatchers.anyLong()))
+                .thenReturn(null);
+
+        ZigBeeDiscoveryRequestQueue queue = new ZigBeeDiscoveryRequestQueue(networkManager);
+        queue.setRetryPeriod(1);
+
+        ResponseHandler handler = Mockito.mock(ResponseHandler.class);
+        queue.sendRequest(getRequest(1), 1, handler);
+        CommandResult failure = new CommandResult(ZigBeeStatus.FAILURE, null);
+        futures.get(0).set(failure);
+
+        // The handler is called with the failure rather than waiting for a retry that will never run
+        Mockito.verify(handler, Mockito.timeout(TIMEOUT).times(1)).responseReceived(failure);
+        Mockito.verify(networkManager, Mockito.times(1)).scheduleTask(ArgumentMatchers.any(Runnable.class),
+                ArgumentMatchers.anyLong());
+        Mockito.verify(networkManager, Mockito.times(1)).sendTransaction(ArgumentMatchers.any(ZigBeeCommand.class),
+                ArgumentMatchers.any(ZigBeeTransactionMatcher.class));
+
+        queue.shutdown();
+    }
+
+    @Test
+    public void managementRequestBudget() {
+        ZigBeeDiscoveryRequestQueue queue = new ZigBeeDiscoveryRequestQueue(networkManager);
+        queue.setManagementRequestBudget(2);
+        assertEquals(2, queue.getManagementRequestBudget());
+        assertTrue(queue.isManagementRequestAvailable());
+
+        ResponseHandler handler = Mockito.mock(ResponseHandler.class);
+        queue.sendRequest(new ManagementLqiRequest(0), handler);
+        queue.sendRequest(new ManagementRoutingRequest(0), handler);
+        queue.sendRequest(new ManagementLqiRequest(0), handler);
+        queue.sendRequest(getRequest(1), handler);
+
+        // Once the budget is used, other requests are still sent and a task is scheduled to send the rest
+        ArgumentCaptor<ZigBeeCommand> commandCaptor = ArgumentCaptor.forClass(ZigBeeCommand.class);
+        Mockito.verify(networkManager, Mockito.times(3)).sendTransaction(commandCaptor.capture(),
+                ArgumentMatchers.any(ZigBeeTransactionMatcher.class));
+        assertTrue(commandCaptor.getValue() instanceof NodeDescriptorRequest);
+        assertEquals(1, queue.getPendingRequests());
+        assertEquals(2, queue.getManagementRequestsUsed());
+        assertFalse(queue.isManagementRequestAvailable());
+
+        ArgumentCaptor<Long> delayCaptor = ArgumentCaptor.forClass(Long.class);
+        Mockito.verify(networkManager, Mockito.times(1)).scheduleTask(ArgumentMatchers.any(Runnable.class),
+                delayCaptor.capture(), ArgumentMatchers.eq(0L));
+        assertTrue(delayCaptor.getValue() > 55000 && delayCaptor.getValue() <= 60000);
+
+        // Removing the limit sends the held request
+        queue.setManagementRequestBudget(0);
+        Mockito.verify(networkManager, Mockito.times(4)).sendTransaction(
+                ArgumentMatchers.any(ZigBeeCommand.class), ArgumentMatchers.any(ZigBeeTransactionMatcher.class));
+        assertEquals(0, queue.getPendingRequests());
+
+        queue.shutdown();
+    }
+
+    @Test
+    public void noFuture() {
+        Mockito.when(networkManager.sendTransaction(ArgumentMatchers.any(ZigBeeCommand.class),
+                ArgumentMatchers.any(ZigBeeTransactionMatcher.class))).thenReturn(null);
+
+        ZigBeeDiscoveryRequestQueue queue = new ZigBeeDiscoveryRequestQueue(networkManager);
+        queue.setMaxOutstandingRequests(1);
+
+        ResponseHandler handler1 = Mockito.mock(ResponseHandler.class);
+        ResponseHandler handler2 = Mockito.mock(ResponseHandler.class);
+        queue.sendRequest(getRequest(1), handler1);
+        queue.sendRequest(getRequest(2), handler2);
+
+        // Requests that can't be sent complete immediately, so they don't hold the outstanding request slot
+        Mockito.verify(handler1, Mockito.timeout(TIMEOUT).times(1)).responseReceived(ArgumentMatchers.any());
+        Mockito.verify(handler2, Mockito.timeout(TIMEOUT).times(1)).responseReceived(ArgumentMatchers.any());
+
+        queue.shutdown();
+    }
+}
@@ -0,0 +1,188 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.app.discovery;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.ZigBeeEndpointAddress;
+import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
+import com.zsmartsystems.zigbee.ZigBeeNode;
+import com.zsmartsystems.zigbee.app.discovery.ZigBeeNodeServiceDiscoverer.NodeDiscoveryTask;
+import com.zsmartsystems.zigbee.app.topology.ZigBeeTopologyExtension;
+import com.zsmartsystems.zigbee.app.topology.ZigBeeTopologyLink;
+import com.zsmartsystems.zigbee.zdo.ZdoStatus;
+import com.zsmartsystems.zigbee.zdo.command.DeviceAnnounce;
+import com.zsmartsystems.zigbee.zdo.command.ManagementLqiResponse;
+import com.zsmartsystems.zigbee.zdo.field.NeighborTable;
+import com.zsmartsystems.zigbee.zdo.field.NodeDescriptor.LogicalType;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeMeshUpdateSchedulerTest {
+    private ZigBeeNetworkManager networkManager;
+    private ZigBeeDiscoveryRequestQueue requestQueue;
+    private Map<IeeeAddress, ZigBeeNodeServiceDiscoverer> nodeDiscovery;
+
+    @Before
+    public void setupTest() {
+        networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        requestQueue = Mockito.mock(ZigBeeDiscoveryRequestQueue.class);
+        Mockito.when(requestQueue.isManagementRequestAvailable()).thenReturn(true);
+        nodeDiscovery = new ConcurrentHashMap<>();
+    }
+
+    private ZigBeeNodeServiceDiscoverer addNode(int networkAddress, LogicalType logicalType) {
+        ZigBeeNode node = Mockito.mock(ZigBeeNode.class);
+        IeeeAddress ieeeAddress = new IeeeAddress(String.format("%016X", networkAddress));
+        Mockito.when(node.getIeeeAddress()).thenReturn(ieeeAddress);
+        Mockito.when(node.getNetworkAddress()).thenReturn(networkAddress);
+        Mockito.when(node.getLogicalType()).thenReturn(logicalType);
+        Mockito.when(networkManager.getNode(networkAddress)).thenReturn(node);
+
+        ZigBeeNodeServiceDiscoverer discoverer = Mockito.mock(ZigBeeNodeServiceDiscoverer.class);
+        Mockito.when(discoverer.getNode()).thenReturn(node);
+        nodeDiscovery.put(ieeeAddress, discoverer);
+        return discoverer;
+    }
+
+    @Test
+    public void updatePeriod() {
+        ZigBeeNodeServiceDiscoverer coordinator = addNode(0, LogicalType.COORDINATOR);
+        ZigBeeNodeServiceDiscoverer router1 = addNode(1, LogicalType.ROUTER);
+        ZigBeeNodeServiceDiscoverer router2 = addNode(2, LogicalType.ROUTER);
+        ZigBeeNodeServiceDiscoverer endDevice = addNode(3, LogicalType.END_DEVICE);
+
+        ZigBeeMeshUpdateScheduler scheduler = new ZigBeeMeshUpdateScheduler(networkManager, nodeDiscovery,
+                requestQueue);
+        scheduler.setUpdatePeriod(300);
+        scheduler.setUpdateMeshTasks(Arrays.asList(NodeDiscoveryTask.NEIGHBORS, NodeDiscoveryTask.ROUTES));
+        scheduler.start(10000);
+        Mockito.verify(networkManager, Mockito.times(1)).scheduleTask(ArgumentMatchers.any(Runnable.class),
+                ArgumentMatchers.eq(10000L), ArgumentMatchers.eq(0L));
+        assertEquals(3, scheduler.getBacklog());
+
+        // Each router is updated once, and end devices are not updated
+        for (int cnt = 0; cnt < 5; cnt++) {
+            scheduler.updateNextNode();
+        }
+        Mockito.verify(coordinator, Mockito.times(1)).updateMesh();
+        Mockito.verify(router1, Mockito.times(1)).updateMesh();
+        Mockito.verify(router2, Mockito.times(1)).updateMesh();
+        Mockito.verify(endDevice, Mockito.never()).updateMesh();
+        Mockito.verify(router1, Mockito.times(1))
+                .setUpdateMeshTasks(Arrays.asList(NodeDiscoveryTask.NEIGHBORS, NodeDiscoveryTask.ROUTES));
+        assertEquals(0, scheduler.getBacklog());
+
+        // Updates are spread over the period with jitter
+        ArgumentCaptor<Long> delayCaptor = ArgumentCaptor.forClass(Long.class);
+        Mockito.verify(networkManager, Mockito.times(6)).scheduleTask(ArgumentMatchers.any(Runnable.class),
+                delayCaptor.capture(), ArgumentMatchers.eq(0L));
+        for (Long delay : delayCaptor.getAllValues().subList(1, 6)) {
+            assertTrue(delay >= 75000 && delay <= 125000);
+        }
+
+        scheduler.stop();
+        scheduler.updateNextNode();
+        Mockito.verify(networkManager, Mockito.times(6)).scheduleTask(ArgumentMatchers.any(Runnable.class),
+                ArgumentMatchers.anyLong(), ArgumentMatchers.anyLong());
+    }
+
+    @Test
+    public void priority() {
+        ZigBeeNodeServiceDiscoverer router1 = addNode(1, LogicalType.ROUTER);
+        ZigBeeNodeServiceDiscoverer router2 = addNode(2, LogicalType.ROUTER);
+        ZigBeeNodeServiceDiscoverer router3 = addNode(3, LogicalType.ROUTER);
+        addNode(4, LogicalType.END_DEVICE);
+
+        ZigBeeMeshUpdateScheduler scheduler = new ZigBeeMeshUpdateScheduler(networkManager, nodeDiscovery,
+                requestQueue);
+        scheduler.setUpdateMeshTasks(Collections.singletonList(NodeDiscoveryTask.NEIGHBORS));
+        assertEquals(0, scheduler.getBacklog());
+
+        // A rejoined router is prioritised, but an end device is not
+        DeviceAnnounce announce = new DeviceAnnounce(2, new IeeeAddress(String.format("%016X", 2)), 0);
+        scheduler.commandReceived(announce);
+        scheduler.commandReceived(new DeviceAnnounce(4, new IeeeAddress(String.format("%016X", 4)), 0));
+        assertEquals(1, scheduler.getBacklog());
+
+        // A router with a changed link is prioritised
+        scheduler.linkUpdated(new ZigBeeTopologyLink(1, 3, 200, 1, NeighborTable.NeighborTableRelationship.SIBLING),
+                new ZigBeeTopologyLink(1, 3, 100, 1, NeighborTable.NeighborTableRelationship.SIBLING));
+        assertEquals(2, scheduler.getBacklog());
+
+        scheduler.updateNextNode();
+        Mockito.verify(router2, Mockito.times(1)).updateMesh();
+        scheduler.updateNextNode();
+        Mockito.verify(router3, Mockito.times(1)).updateMesh();
+        scheduler.updateNextNode();
+        Mockito.verify(router1, Mockito.never()).updateMesh();
+        assertEquals(0, scheduler.getBacklog());
+
+        // A neighbor response from the router counts as its update
+        scheduler.refreshAll();
+        assertEquals(3, scheduler.getBacklog());
+        ManagementLqiResponse response = new ManagementLqiResponse(ZdoStatus.SUCCESS, 0, 0,
+                Collections.<NeighborTable> emptyList());
+        response.setSourceAddress(new ZigBeeEndpointAddress(1));
+        scheduler.commandReceived(response);
+        assertEquals(2, scheduler.getBacklog());
+    }
+
+    @Test
+    public void budget() {
+        ZigBeeNodeServiceDiscoverer router = addNode(1, LogicalType.ROUTER);
+        Mockito.when(requestQueue.isManagementRequestAvailable()).thenReturn(false);
+
+        ZigBeeMeshUpdateScheduler scheduler = new ZigBeeMeshUpdateScheduler(networkManager, nodeDiscovery,
+                requestQueue);
+        scheduler.setUpdatePeriod(60);
+        scheduler.start(0);
+
+        // The update is held while the budget is used
+        scheduler.updateNextNode();
+        Mockito.verify(router, Mockito.never()).updateMesh();
+        assertEquals(1, scheduler.getBacklog());
+
+        Mockito.when(requestQueue.isManagementRequestAvailable()).thenReturn(true);
+        scheduler.updateNextNode();
+        Mockito.verify(router, Mockito.times(1)).updateMesh();
+        assertEquals(0, scheduler.getBacklog());
+    }
+
+    @Test
+    public void startup() {
+        ZigBeeTopologyExtension topologyExtension = Mockito.mock(ZigBeeTopologyExtension.class);
+        Mockito.when(networkManager.getExtension(ZigBeeTopologyExtension.class)).thenReturn(topologyExtension);
+
+        ZigBeeMeshUpdateScheduler scheduler = new ZigBeeMeshUpdateScheduler(networkManager, nodeDiscovery,
+                requestQueue);
+        scheduler.startup();
+        Mockito.verify(networkManager, Mockito.times(1)).addCommandListener(scheduler);
+        Mockito.verify(topologyExtension, Mockito.times(1)).addTopologyListener(scheduler);
+
+        scheduler.shutdown();
+        Mockito.verify(networkManager, Mockito.times(1)).removeCommandListener(scheduler);
+        Mockito.verify(topologyExtension, Mockito.times(1)).removeTopologyListener(scheduler);
+    }
+}
@@ -345,4 +345,23 @@ public class ZigBeeNodeServiceDiscovererTest {
             lastValue = task.ordinal();
         }
     }
+
+    @Test
+    public void requestQueueShutdown() throws Exception {
+        ZigBeeNode node = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(node.getIeeeAddress()).thenReturn(new IeeeAddress("1234567890ABCDEF"));
+
+        // A queue created by the discoverer is shut down when discovery is stopped
+        ZigBeeNodeServiceDiscoverer discoverer = new ZigBeeNodeServiceDiscoverer(networkManager, node);
+        ZigBeeDiscoveryRequestQueue requestQueue = (ZigBeeDiscoveryRequestQueue) TestUtilities
+                .getField(ZigBeeNodeServiceDiscoverer.class, discoverer, "requestQueue");
+        discoverer.stopDiscovery();
+        assertTrue((boolean) TestUtilities.getField(ZigBeeDiscoveryRequestQueue.class, requestQueue, "shutdown"));
+
+        // A shared queue is left running
+        requestQueue = Mockito.mock(ZigBeeDiscoveryRequestQueue.class);
+        discoverer = new ZigBeeNodeServiceDiscoverer(networkManager, node, requestQueue);
+        discoverer.stopDiscovery();
+        Mockito.verify(requestQueue, Mockito.never()).shutdown();
+    }
 }
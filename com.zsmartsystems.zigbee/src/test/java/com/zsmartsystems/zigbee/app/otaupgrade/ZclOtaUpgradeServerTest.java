@@ -10,6 +10,8 @@ package com.zsmartsystems.zigbee.app.otaupgrade;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.awaitility.Awaitility.await;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
@@ -36,13 +38,20 @@ import com.zsmartsystems.zigbee.ZigBeeNode;
 import com.zsmartsystems.zigbee.ZigBeeStatus;
 import com.zsmartsystems.zigbee.app.otaserver.ZclOtaUpgradeServer;
 import com.zsmartsystems.zigbee.app.otaserver.ZigBeeOtaFile;
+import com.zsmartsystems.zigbee.app.otaserver.ZigBeeOtaImageRepository;
 import com.zsmartsystems.zigbee.app.otaserver.ZigBeeOtaServerStatus;
 import com.zsmartsystems.zigbee.app.otaserver.ZigBeeOtaStatusCallback;
+import com.zsmartsystems.zigbee.app.otaserver.ZigBeeOtaTransferStatistics;
 import com.zsmartsystems.zigbee.internal.NotificationService;
 import com.zsmartsystems.zigbee.zcl.ZclAttribute;
+import com.zsmartsystems.zigbee.zcl.ZclStatus;
 import com.zsmartsystems.zigbee.zcl.clusters.ZclOtaUpgradeCluster;
+import com.zsmartsystems.zigbee.zcl.clusters.otaupgrade.ImageBlockCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.otaupgrade.ImageBlockResponse;
 import com.zsmartsystems.zigbee.zcl.clusters.otaupgrade.ImageNotifyCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.otaupgrade.QueryNextImageCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.otaupgrade.QueryNextImageResponse;
+import com.zsmartsystems.zigbee.zcl.field.ByteArray;
 import com.zsmartsystems.zigbee.zdo.field.NodeDescriptor;
 
 /**
@@ -177,6 +186,157 @@ public class ZclOtaUpgradeServerTest implements ZigBeeOtaStatusCallback {
         assertEquals(ZigBeeOtaServerStatus.OTA_CANCELLED, server.getServerStatus());
     }
 
+    @Test
+    public void queryImageRepository() throws Exception {
+        otaStatusCapture = new ArrayList<ZigBeeOtaServerStatus>();
+
+        ZclOtaUpgradeCluster cluster = Mockito.mock(ZclOtaUpgradeCluster.class);
+        Mockito.when(cluster.getNotificationService()).thenReturn(new NotificationService());
+        ZclOtaUpgradeServer server = new ZclOtaUpgradeServer();
+        assertEquals(ZigBeeStatus.SUCCESS, server.appStartup(cluster));
+        server.addListener(this);
+        server.setTransferTimeoutPeriod(Integer.MAX_VALUE);
+
+        ZigBeeOtaImageRepository repository = new ZigBeeOtaImageRepository();
+        server.setImageRepository(repository);
+
+        ZigBeeOtaFile otaFile = Mockito.mock(ZigBeeOtaFile.class);
+        Mockito.when(otaFile.getManufacturerCode()).thenReturn(123);
+        Mockito.when(otaFile.getImageType()).thenReturn(987);
+        Mockito.when(otaFile.getFileVersion()).thenReturn(2);
+        Mockito.when(otaFile.getImageSize()).thenReturn(100);
+
+        // No image in the repository
+        server.commandReceived(new QueryNextImageCommand(0, 123, 987, 1, 0));
+        ArgumentCaptor<QueryNextImageResponse> responseCaptor = ArgumentCaptor.forClass(QueryNextImageResponse.class);
+        Mockito.verify(cluster, Mockito.times(1)).sendResponse(ArgumentMatchers.any(QueryNextImageCommand.class),
+                responseCaptor.capture());
+        assertEquals(ZclStatus.NO_IMAGE_AVAILABLE, responseCaptor.getValue().getStatus());
+
+        // Device already has the newest image
+        repository.addImage(otaFile);
+        server.commandReceived(new QueryNextImageCommand(0, 123, 987, 2, 0));
+        Mockito.verify(cluster, Mockito.times(2)).sendResponse(ArgumentMatchers.any(QueryNextImageCommand.class),
+                responseCaptor.capture());
+        assertEquals(ZclStatus.NO_IMAGE_AVAILABLE, responseCaptor.getValue().getStatus());
+
+        // Image is provided from the repository without setting the firmware
+        server.commandReceived(new QueryNextImageCommand(0, 123, 987, 1, 0));
+        Mockito.verify(cluster, Mockito.times(3)).sendResponse(ArgumentMatchers.any(QueryNextImageCommand.class),
+                responseCaptor.capture());
+        assertEquals(ZclStatus.SUCCESS, responseCaptor.getValue().getStatus());
+        assertEquals(Integer.valueOf(2), responseCaptor.getValue().getFileVersion());
+        assertEquals(Integer.valueOf(100), responseCaptor.getValue().getImageSize());
+        await().atMost(1, SECONDS)
+                .until(() -> assertTrue(otaStatusCapture.contains(ZigBeeOtaServerStatus.OTA_TRANSFER_IN_PROGRESS)));
+
+        server.appShutdown();
+    }
+
+    @Test
+    public void cancelRepositoryUpgrade() throws Exception {
+        otaStatusCapture = new ArrayList<ZigBeeOtaServerStatus>();
+
+        ZclOtaUpgradeCluster cluster = Mockito.mock(ZclOtaUpgradeCluster.class);
+        Mockito.when(cluster.getNotificationService()).thenReturn(new NotificationService());
+        ZclOtaUpgradeServer server = new ZclOtaUpgradeServer();
+        assertEquals(ZigBeeStatus.SUCCESS, server.appStartup(cluster));
+        server.addListener(this);
+        server.setTransferTimeoutPeriod(Integer.MAX_VALUE);
+
+        ZigBeeOtaFile otaFile = Mockito.mock(ZigBeeOtaFile.class);
+        Mockito.when(otaFile.getManufacturerCode()).thenReturn(123);
+        Mockito.when(otaFile.getImageType()).thenReturn(987);
+        Mockito.when(otaFile.getFileVersion()).thenReturn(2);
+        Mockito.when(otaFile.getImageSize()).thenReturn(100);
+        ZigBeeOtaImageRepository repository = new ZigBeeOtaImageRepository();
+        repository.addImage(otaFile);
+        server.setImageRepository(repository);
+
+        server.commandReceived(new QueryNextImageCommand(0, 123, 987, 1, 0));
+        ArgumentCaptor<QueryNextImageResponse> responseCaptor = ArgumentCaptor.forClass(QueryNextImageResponse.class);
+        Mockito.verify(cluster, Mockito.times(1)).sendResponse(ArgumentMatchers.any(QueryNextImageCommand.class),
+                responseCaptor.capture());
+        assertEquals(ZclStatus.SUCCESS, responseCaptor.getValue().getStatus());
+        assertEquals(ZigBeeOtaServerStatus.OTA_TRANSFER_IN_PROGRESS, server.getServerStatus());
+
+        // The cancelled image is not selected from the repository again when the client next queries
+        server.cancelUpgrade();
+        assertEquals(ZigBeeOtaServerStatus.OTA_CANCELLED, server.getServerStatus());
+        server.commandReceived(new QueryNextImageCommand(0, 123, 987, 1, 0));
+        Mockito.verify(cluster, Mockito.times(2)).sendResponse(ArgumentMatchers.any(QueryNextImageCommand.class),
+                responseCaptor.capture());
+        assertEquals(ZclStatus.NO_IMAGE_AVAILABLE, responseCaptor.getValue().getStatus());
+        assertEquals(ZigBeeOtaServerStatus.OTA_CANCELLED, server.getServerStatus());
+
+        // Setting the repository again allows the image to be selected
+        server.setImageRepository(repository);
+        server.commandReceived(new QueryNextImageCommand(0, 123, 987, 1, 0));
+        Mockito.verify(cluster, Mockito.times(3)).sendResponse(ArgumentMatchers.any(QueryNextImageCommand.class),
+                responseCaptor.capture());
+        assertEquals(ZclStatus.SUCCESS, responseCaptor.getValue().getStatus());
+
+        server.appShutdown();
+    }
+
+    @Test
+    public void adaptiveTransfer() throws Exception {
+        ZclOtaUpgradeCluster cluster = Mockito.mock(ZclOtaUpgradeCluster.class);
+        Mockito.when(cluster.getNotificationService()).thenReturn(new NotificationService());
+        Mockito.when(cluster.getApsSecurityRequired()).thenReturn(true);
+        ZclOtaUpgradeServer server = new ZclOtaUpgradeServer();
+        assertEquals(ZigBeeStatus.SUCCESS, server.appStartup(cluster));
+        server.setTransferTimeoutPeriod(Integer.MAX_VALUE);
+        server.setAdaptiveTransfer(true);
+        assertNull(server.getTransferStatistics());
+
+        ZigBeeOtaFile otaFile = Mockito.mock(ZigBeeOtaFile.class);
+        Mockito.when(otaFile.getManufacturerCode()).thenReturn(123);
+        Mockito.when(otaFile.getImageType()).thenReturn(987);
+        Mockito.when(otaFile.getFileVersion()).thenReturn(2);
+        Mockito.when(otaFile.getImageSize()).thenReturn(10000);
+        Mockito.when(otaFile.getImageData(ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt()))
+                .thenAnswer(new Answer<ByteArray>() {
+                    @Override
+                    public ByteArray answer(InvocationOnMock invocation) {
+                        return new ByteArray(new byte[(Integer) invocation.getArgument(1)]);
+                    }
+                });
+        server.setFirmware(otaFile);
+
+        server.commandReceived(new QueryNextImageCommand(0, 123, 987, 1, 0));
+        ZigBeeOtaTransferStatistics statistics = server.getTransferStatistics();
+        assertNotNull(statistics);
+
+        // The block is sized to fit in a single APS frame with APS security
+        assertEquals(56, statistics.getDataSize());
+        server.commandReceived(new ImageBlockCommand(0, 123, 987, 2, 0, 100, null, 0));
+        ArgumentCaptor<ImageBlockResponse> responseCaptor = ArgumentCaptor.forClass(ImageBlockResponse.class);
+        Mockito.verify(cluster, Mockito.times(1)).sendResponse(ArgumentMatchers.any(ImageBlockCommand.class),
+                responseCaptor.capture());
+        assertEquals(56, responseCaptor.getValue().getImageData().size());
+
+        // The client requests the block again, so the block size is reduced
+        server.commandReceived(new ImageBlockCommand(0, 123, 987, 2, 0, 100, null, 0));
+        Mockito.verify(cluster, Mockito.times(2)).sendResponse(ArgumentMatchers.any(ImageBlockCommand.class),
+                responseCaptor.capture());
+        assertEquals(42, responseCaptor.getValue().getImageData().size());
+        assertEquals(1, statistics.getBlocksRepeated());
+
+        // The client maximum data size is respected
+        server.commandReceived(new ImageBlockCommand(0, 123, 987, 2, 42, 30, null, 0));
+        Mockito.verify(cluster, Mockito.times(3)).sendResponse(ArgumentMatchers.any(ImageBlockCommand.class),
+                responseCaptor.capture());
+        assertEquals(30, responseCaptor.getValue().getImageData().size());
+
+        assertEquals(3, statistics.getBlocksSent());
+        assertEquals(128, statistics.getBytesSent());
+        assertEquals(42, statistics.getDataSize());
+        assertTrue(statistics.getRoundTripTime() >= 0);
+
+        server.appShutdown();
+    }
+
     @Test
     public void getClusterId() {
         ZclOtaUpgradeServer server = new ZclOtaUpgradeServer();
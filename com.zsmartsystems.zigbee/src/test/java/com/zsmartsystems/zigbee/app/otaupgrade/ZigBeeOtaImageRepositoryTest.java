@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.app.otaupgrade;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.app.otaserver.ZigBeeOtaFile;
+import com.zsmartsystems.zigbee.app.otaserver.ZigBeeOtaImageRepository;
+import com.zsmartsystems.zigbee.zcl.field.ByteArray;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeOtaImageRepositoryTest {
+    private ZigBeeOtaFile getImage(int manufacturerCode, int imageType, int fileVersion) {
+        ZigBeeOtaFile otaFile = Mockito.mock(ZigBeeOtaFile.class);
+        Mockito.when(otaFile.getManufacturerCode()).thenReturn(manufacturerCode);
+        Mockito.when(otaFile.getImageType()).thenReturn(imageType);
+        Mockito.when(otaFile.getFileVersion()).thenReturn(fileVersion);
+        return otaFile;
+    }
+
+    @Test
+    public void addImageFile() throws IOException {
+        ZigBeeOtaImageRepository repository = new ZigBeeOtaImageRepository();
+
+        ZigBeeOtaFile otaFile = repository.addImage(new File("./src/test/resource/test_ota_file.test"));
+        assertEquals(Integer.valueOf(0x1234), otaFile.getManufacturerCode());
+        assertEquals(Integer.valueOf(0x0006), otaFile.getImageType());
+        assertEquals(Integer.valueOf(0x12345678), otaFile.getFileVersion());
+        assertEquals(Integer.valueOf(78), otaFile.getImageSize());
+        assertEquals(new ByteArray(new byte[] { 0x1E, (byte) 0xF1, (byte) 0xEE, 0x0B }), otaFile.getImageData(0, 4));
+        assertEquals(new ByteArray(new byte[] { 0x00, 0x01, 0x02, 0x03, 0x04 }), otaFile.getImageData(62, 5));
+
+        // The same image is only held once
+        assertTrue(otaFile == repository.addImage(new File("./src/test/resource/test_ota_file.test")));
+        assertEquals(1, repository.getImages().size());
+        assertTrue(otaFile == repository.getImage(0x1234, 0x0006, 0x12345678));
+        assertNull(repository.getImage(0x1234, 0x0006, 0x12345679));
+    }
+
+    @Test
+    public void getNewestImage() {
+        ZigBeeOtaImageRepository repository = new ZigBeeOtaImageRepository();
+
+        ZigBeeOtaFile image1 = getImage(0x1234, 1, 0x00000001);
+        ZigBeeOtaFile image2 = getImage(0x1234, 1, 0x80000000);
+        ZigBeeOtaFile image3 = getImage(0x1234, 2, 0x00000003);
+        Mockito.when(image3.getMinimumHardware()).thenReturn(2);
+        Mockito.when(image3.getMaximumHardware()).thenReturn(4);
+        ZigBeeOtaFile image4 = getImage(0x1234, 2, 0x00000004);
+        Mockito.when(image4.getDestination()).thenReturn(new IeeeAddress("1234567890ABCDEF"));
+
+        assertTrue(image1 == repository.addImage(image1));
+        assertTrue(image2 == repository.addImage(image2));
+        assertTrue(image3 == repository.addImage(image3));
+        assertTrue(image4 == repository.addImage(image4));
+        assertTrue(image1 == repository.addImage(getImage(0x1234, 1, 0x00000001)));
+        assertEquals(4, repository.getImages().size());
+
+        // File versions are unsigned
+        assertTrue(image2 == repository.getNewestImage(0x1234, 1, null));
+        assertNull(repository.getNewestImage(0x4321, 1, null));
+
+        // Hardware version must be within the image limits, and device specific images are ignored
+        assertTrue(image3 == repository.getNewestImage(0x1234, 2, null));
+        assertTrue(image3 == repository.getNewestImage(0x1234, 2, 3));
+        assertNull(repository.getNewestImage(0x1234, 2, 5));
+
+        assertTrue(repository.removeImage(image2));
+        assertFalse(repository.removeImage(image2));
+        assertTrue(image1 == repository.getNewestImage(0x1234, 1, null));
+    }
+}
@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.app.otaupgrade;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.zsmartsystems.zigbee.TestUtilities;
+import com.zsmartsystems.zigbee.app.otaserver.ZclOtaUpgradeServer;
+import com.zsmartsystems.zigbee.app.otaserver.ZigBeeOtaScheduler;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeOtaSchedulerTest {
+    private boolean startTransfer(ZigBeeOtaScheduler scheduler, ZclOtaUpgradeServer server) throws Exception {
+        return (boolean) TestUtilities.invokeMethod(ZigBeeOtaScheduler.class, scheduler, "startTransfer",
+                ZclOtaUpgradeServer.class, server);
+    }
+
+    private void transferComplete(ZigBeeOtaScheduler scheduler, ZclOtaUpgradeServer server) throws Exception {
+        TestUtilities.invokeMethod(ZigBeeOtaScheduler.class, scheduler, "transferComplete", ZclOtaUpgradeServer.class,
+                server);
+    }
+
+    @Test
+    public void transferLimit() throws Exception {
+        ZigBeeOtaScheduler scheduler = new ZigBeeOtaScheduler(2);
+        assertEquals(2, scheduler.getMaxActiveTransfers());
+
+        ZclOtaUpgradeServer server1 = Mockito.mock(ZclOtaUpgradeServer.class);
+        ZclOtaUpgradeServer server2 = Mockito.mock(ZclOtaUpgradeServer.class);
+        ZclOtaUpgradeServer server3 = Mockito.mock(ZclOtaUpgradeServer.class);
+        ZclOtaUpgradeServer server4 = Mockito.mock(ZclOtaUpgradeServer.class);
+
+        assertTrue(startTransfer(scheduler, server1));
+        assertTrue(startTransfer(scheduler, server2));
+        assertTrue(startTransfer(scheduler, server2));
+        assertFalse(startTransfer(scheduler, server3));
+        assertFalse(startTransfer(scheduler, server4));
+        assertFalse(startTransfer(scheduler, server3));
+        assertEquals(2, scheduler.getActiveTransfers());
+        assertEquals(2, scheduler.getQueuedTransfers());
+
+        // Completing a transfer notifies the first queued server
+        transferComplete(scheduler, server1);
+        Mockito.verify(server3, Mockito.timeout(TimeUnit.SECONDS.toMillis(1)).times(1)).notifyClient();
+        Mockito.verify(server4, Mockito.never()).notifyClient();
+        assertEquals(1, scheduler.getActiveTransfers());
+        assertEquals(1, scheduler.getQueuedTransfers());
+
+        assertTrue(startTransfer(scheduler, server3));
+        assertEquals(2, scheduler.getActiveTransfers());
+
+        // A queued server that is removed is not notified
+        transferComplete(scheduler, server4);
+        assertEquals(0, scheduler.getQueuedTransfers());
+        assertEquals(2, scheduler.getActiveTransfers());
+
+        // Completing a server that is not active has no effect
+        transferComplete(scheduler, server1);
+        assertEquals(2, scheduler.getActiveTransfers());
+
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void setMaxActiveTransfers() throws Exception {
+        ZigBeeOtaScheduler scheduler = new ZigBeeOtaScheduler(1);
+
+        ZclOtaUpgradeServer server1 = Mockito.mock(ZclOtaUpgradeServer.class);
+        ZclOtaUpgradeServer server2 = Mockito.mock(ZclOtaUpgradeServer.class);
+        ZclOtaUpgradeServer server3 = Mockito.mock(ZclOtaUpgradeServer.class);
+
+        assertTrue(startTransfer(scheduler, server1));
+        assertFalse(startTransfer(scheduler, server2));
+        assertFalse(startTransfer(scheduler, server3));
+
+        // Removing the limit releases all queued servers
+        scheduler.setMaxActiveTransfers(0);
+        Mockito.verify(server2, Mockito.timeout(TimeUnit.SECONDS.toMillis(1)).times(1)).notifyClient();
+        Mockito.verify(server3, Mockito.timeout(TimeUnit.SECONDS.toMillis(1)).times(1)).notifyClient();
+        assertEquals(0, scheduler.getQueuedTransfers());
+
+        assertTrue(startTransfer(scheduler, server2));
+        assertTrue(startTransfer(scheduler, server3));
+        assertEquals(3, scheduler.getActiveTransfers());
+
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void throughput() throws Exception {
+        ZigBeeOtaScheduler scheduler = new ZigBeeOtaScheduler(0);
+        assertEquals(0, scheduler.getBytesTransferred());
+        assertEquals(0, scheduler.getThroughput());
+
+        TestUtilities.invokeMethod(ZigBeeOtaScheduler.class, scheduler, "blockSent", int.class, 400);
+        TestUtilities.invokeMethod(ZigBeeOtaScheduler.class, scheduler, "blockSent", int.class, 600);
+        assertEquals(1000, scheduler.getBytesTransferred());
+        assertEquals(100, scheduler.getThroughput());
+
+        scheduler.shutdown();
+    }
+}
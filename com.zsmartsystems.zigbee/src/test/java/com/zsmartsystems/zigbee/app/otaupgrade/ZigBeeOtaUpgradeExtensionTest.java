@@ -8,6 +8,8 @@
 package com.zsmartsystems.zigbee.app.otaupgrade;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -17,12 +19,14 @@ import org.junit.Test;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 
+import com.zsmartsystems.zigbee.TestUtilities;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
 import com.zsmartsystems.zigbee.ZigBeeNode;
 import com.zsmartsystems.zigbee.ZigBeeStatus;
 import com.zsmartsystems.zigbee.app.ZigBeeApplication;
 import com.zsmartsystems.zigbee.app.otaserver.ZclOtaUpgradeServer;
+import com.zsmartsystems.zigbee.app.otaserver.ZigBeeOtaScheduler;
 import com.zsmartsystems.zigbee.app.otaserver.ZigBeeOtaUpgradeExtension;
 import com.zsmartsystems.zigbee.zcl.ZclCluster;
 import com.zsmartsystems.zigbee.zcl.clusters.ZclOtaUpgradeCluster;
@@ -70,4 +74,46 @@ public class ZigBeeOtaUpgradeExtensionTest {
         extension.extensionShutdown();
         Mockito.verify(networkManager, Mockito.times(1)).removeNetworkNodeListener(extension);
     }
+
+    @Test
+    public void restart() throws Exception {
+        ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        ZigBeeOtaUpgradeExtension extension = new ZigBeeOtaUpgradeExtension();
+        extension.setMaxActiveTransfers(3);
+
+        extension.extensionInitialize(networkManager);
+        extension.extensionStartup();
+        ZigBeeOtaScheduler scheduler = (ZigBeeOtaScheduler) TestUtilities.getField(ZigBeeOtaUpgradeExtension.class,
+                extension, "scheduler");
+        assertEquals(3, scheduler.getMaxActiveTransfers());
+        extension.extensionShutdown();
+        assertNull(TestUtilities.getField(ZigBeeOtaUpgradeExtension.class, extension, "scheduler"));
+        assertEquals(0, extension.getActiveTransfers());
+
+        // A new scheduler is created when the extension is restarted, with the same configuration
+        assertEquals(ZigBeeStatus.SUCCESS, extension.extensionStartup());
+        Mockito.verify(networkManager, Mockito.times(2)).addNetworkNodeListener(extension);
+        ZigBeeOtaScheduler newScheduler = (ZigBeeOtaScheduler) TestUtilities
+                .getField(ZigBeeOtaUpgradeExtension.class, extension, "scheduler");
+        assertNotSame(scheduler, newScheduler);
+        assertEquals(3, newScheduler.getMaxActiveTransfers());
+
+        extension.setMaxActiveTransfers(4);
+        assertEquals(4, newScheduler.getMaxActiveTransfers());
+        extension.extensionShutdown();
+    }
+
+    @Test
+    public void transferMetrics() {
+        ZigBeeOtaUpgradeExtension extension = new ZigBeeOtaUpgradeExtension();
+
+        assertEquals(5, extension.getMaxActiveTransfers());
+        extension.setMaxActiveTransfers(2);
+        assertEquals(2, extension.getMaxActiveTransfers());
+
+        assertEquals(0, extension.getActiveTransfers());
+        assertEquals(0, extension.getQueuedTransfers());
+        assertEquals(0, extension.getBytesTransferred());
+        assertEquals(0, extension.getThroughput());
+    }
 }
@@ -0,0 +1,194 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.app.topology;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.ZigBeeEndpointAddress;
+import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
+import com.zsmartsystems.zigbee.ZigBeeNode;
+import com.zsmartsystems.zigbee.ZigBeeStatus;
+import com.zsmartsystems.zigbee.internal.NotificationService;
+import com.zsmartsystems.zigbee.zdo.ZdoStatus;
+import com.zsmartsystems.zigbee.zdo.command.ManagementLqiResponse;
+import com.zsmartsystems.zigbee.zdo.command.ManagementRoutingResponse;
+import com.zsmartsystems.zigbee.zdo.field.NeighborTable;
+import com.zsmartsystems.zigbee.zdo.field.NeighborTable.NeighborTableRelationship;
+import com.zsmartsystems.zigbee.zdo.field.RoutingTable;
+import com.zsmartsystems.zigbee.zdo.field.RoutingTable.DiscoveryState;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeTopologyExtensionTest {
+    private static int TIMEOUT = 5000;
+
+    private NeighborTable getNeighbor(int address, int lqi) {
+        NeighborTable neighbor = Mockito.mock(NeighborTable.class);
+        Mockito.when(neighbor.getNetworkAddress()).thenReturn(address);
+        Mockito.when(neighbor.getLqi()).thenReturn(lqi);
+        Mockito.when(neighbor.getDepth()).thenReturn(1);
+        Mockito.when(neighbor.getRelationship()).thenReturn(NeighborTableRelationship.CHILD);
+        return neighbor;
+    }
+
+    private ManagementLqiResponse getLqiResponse(int source, int entries, int startIndex, NeighborTable... neighbors) {
+        ManagementLqiResponse response = new ManagementLqiResponse(ZdoStatus.SUCCESS, entries, startIndex,
+                Arrays.asList(neighbors));
+        response.setSourceAddress(new ZigBeeEndpointAddress(source));
+        return response;
+    }
+
+    private ZigBeeNetworkManager getNetworkManager() {
+        ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        Mockito.when(networkManager.getNotificationService()).thenReturn(new NotificationService());
+        Mockito.when(networkManager.getNodes()).thenReturn(Collections.<ZigBeeNode> emptySet());
+        return networkManager;
+    }
+
+    @Test
+    public void startup() {
+        ZigBeeNetworkManager networkManager = getNetworkManager();
+
+        RoutingTable route = new RoutingTable();
+        route.setDestinationAddress(2);
+        route.setNextHopAddress(2);
+        route.setStatus(DiscoveryState.ACTIVE);
+
+        NeighborTable neighbor = getNeighbor(2, 255);
+        ZigBeeNode node = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(node.getNetworkAddress()).thenReturn(0);
+        Mockito.when(node.getNeighbors()).thenReturn(new HashSet<>(Arrays.asList(neighbor)));
+        Mockito.when(node.getRoutes()).thenReturn(Arrays.asList(route));
+        Mockito.when(networkManager.getNodes()).thenReturn(Collections.singleton(node));
+
+        ZigBeeTopologyExtension extension = new ZigBeeTopologyExtension();
+        assertEquals(ZigBeeStatus.SUCCESS, extension.extensionInitialize(networkManager));
+        assertEquals(ZigBeeStatus.SUCCESS, extension.extensionStartup());
+        assertEquals(ZigBeeStatus.INVALID_STATE, extension.extensionStartup());
+        Mockito.verify(networkManager, Mockito.times(1)).addCommandListener(extension);
+        Mockito.verify(networkManager, Mockito.times(1)).addNetworkNodeListener(extension);
+
+        assertEquals(Arrays.asList(0, 2), extension.getTopology().getBestPath(2));
+        assertEquals(Collections.singletonMap(2, 2), extension.getTopology().getRoutes(0));
+
+        extension.nodeRemoved(node);
+        assertTrue(extension.getTopology().getBestPath(2).isEmpty());
+
+        extension.extensionShutdown();
+        Mockito.verify(networkManager, Mockito.times(1)).removeCommandListener(extension);
+        Mockito.verify(networkManager, Mockito.times(1)).removeNetworkNodeListener(extension);
+    }
+
+    @Test
+    public void neighborResponses() {
+        ZigBeeNetworkManager networkManager = getNetworkManager();
+        ZigBeeTopologyExtension extension = new ZigBeeTopologyExtension();
+        extension.extensionInitialize(networkManager);
+        extension.extensionStartup();
+
+        ZigBeeTopologyListener listener = Mockito.mock(ZigBeeTopologyListener.class);
+        extension.addTopologyListener(listener);
+
+        // The table is only used once all pages are received
+        extension.commandReceived(getLqiResponse(0, 3, 0, getNeighbor(1, 255), getNeighbor(2, 255)));
+        assertTrue(extension.getTopology().getLinks(0).isEmpty());
+        extension.commandReceived(getLqiResponse(0, 3, 2, getNeighbor(3, 255)));
+        assertEquals(3, extension.getTopology().getLinks(0).size());
+        Mockito.verify(listener, Mockito.timeout(TIMEOUT).times(3))
+                .linkAdded(ArgumentMatchers.any(ZigBeeTopologyLink.class));
+
+        // Pages that don't follow the previous page are discarded
+        extension.commandReceived(getLqiResponse(0, 2, 0, getNeighbor(1, 255)));
+        extension.commandReceived(getLqiResponse(0, 2, 2, getNeighbor(2, 255)));
+        assertEquals(3, extension.getTopology().getLinks(0).size());
+
+        // A failed response doesn't change the table
+        ManagementLqiResponse failed = getLqiResponse(0, 0, 0);
+        failed.setStatus(ZdoStatus.NOT_SUPPORTED);
+        extension.commandReceived(failed);
+        assertEquals(3, extension.getTopology().getLinks(0).size());
+
+        extension.commandReceived(getLqiResponse(0, 1, 0, getNeighbor(1, 255)));
+        assertEquals(1, extension.getTopology().getLinks(0).size());
+        Mockito.verify(listener, Mockito.timeout(TIMEOUT).times(2))
+                .linkRemoved(ArgumentMatchers.any(ZigBeeTopologyLink.class));
+
+        extension.removeTopologyListener(listener);
+        extension.extensionShutdown();
+    }
+
+    @Test
+    public void routingResponses() {
+        ZigBeeNetworkManager networkManager = getNetworkManager();
+        ZigBeeTopologyExtension extension = new ZigBeeTopologyExtension();
+        extension.extensionInitialize(networkManager);
+        extension.extensionStartup();
+
+        ZigBeeTopologyListener listener = Mockito.mock(ZigBeeTopologyListener.class);
+        extension.addTopologyListener(listener);
+
+        RoutingTable route = new RoutingTable();
+        route.setDestinationAddress(5);
+        route.setNextHopAddress(3);
+        route.setStatus(DiscoveryState.ACTIVE);
+        ManagementRoutingResponse response = new ManagementRoutingResponse(ZdoStatus.SUCCESS, 1, 0,
+                Arrays.asList(route));
+        response.setSourceAddress(new ZigBeeEndpointAddress(0x1234));
+        extension.commandReceived(response);
+
+        assertEquals(Collections.singletonMap(5, 3), extension.getTopology().getRoutes(0x1234));
+        Mockito.verify(listener, Mockito.timeout(TIMEOUT).times(1)).routeChanged(0x1234, 5, null, 3);
+
+        extension.extensionShutdown();
+    }
+
+    @Test
+    public void networkAddressChange() {
+        ZigBeeNetworkManager networkManager = getNetworkManager();
+        ZigBeeTopologyExtension extension = new ZigBeeTopologyExtension();
+        extension.extensionInitialize(networkManager);
+        extension.extensionStartup();
+
+        NeighborTable neighbor = getNeighbor(0, 255);
+        ZigBeeNode node = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(node.getIeeeAddress()).thenReturn(new IeeeAddress("1234567890ABCDEF"));
+        Mockito.when(node.getNetworkAddress()).thenReturn(1);
+        Mockito.when(node.getNeighbors()).thenReturn(new HashSet<>(Arrays.asList(neighbor)));
+        Mockito.when(node.getRoutes()).thenReturn(Collections.<RoutingTable> emptyList());
+        extension.nodeAdded(node);
+
+        extension.commandReceived(getLqiResponse(0, 1, 0, getNeighbor(1, 255)));
+        extension.commandReceived(getLqiResponse(1, 1, 0, getNeighbor(0, 255)));
+        assertEquals(Arrays.asList(0, 1), extension.getTopology().getBestPath(1));
+
+        // The node is moved to its new address, using the neighbors known by the node
+        Mockito.when(node.getNetworkAddress()).thenReturn(5);
+        extension.nodeUpdated(node);
+        assertTrue(extension.getTopology().getLinks(1).isEmpty());
+        assertTrue(extension.getTopology().getBestPath(1).isEmpty());
+        assertEquals(1, extension.getTopology().getLinks(5).size());
+        assertEquals(Arrays.asList(0, 5), extension.getTopology().getBestPath(5));
+
+        extension.nodeRemoved(node);
+        assertTrue(extension.getTopology().getLinks(5).isEmpty());
+        extension.extensionShutdown();
+    }
+}
@@ -0,0 +1,254 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.app.topology;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import com.zsmartsystems.zigbee.zdo.field.NeighborTable;
+import com.zsmartsystems.zigbee.zdo.field.NeighborTable.NeighborTableRelationship;
+import com.zsmartsystems.zigbee.zdo.field.RoutingTable;
+import com.zsmartsystems.zigbee.zdo.field.RoutingTable.DiscoveryState;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeTopologyGraphTest {
+    private NeighborTable getNeighbor(int address, int lqi, int depth) {
+        NeighborTable neighbor = Mockito.mock(NeighborTable.class);
+        Mockito.when(neighbor.getNetworkAddress()).thenReturn(address);
+        Mockito.when(neighbor.getLqi()).thenReturn(lqi);
+        Mockito.when(neighbor.getDepth()).thenReturn(depth);
+        Mockito.when(neighbor.getRelationship()).thenReturn(NeighborTableRelationship.SIBLING);
+        return neighbor;
+    }
+
+    private RoutingTable getRoute(int destination, int nextHop) {
+        RoutingTable route = new RoutingTable();
+        route.setDestinationAddress(destination);
+        route.setNextHopAddress(nextHop);
+        route.setStatus(DiscoveryState.ACTIVE);
+        return route;
+    }
+
+    @Test
+    public void getLinkCost() {
+        assertEquals(1, ZigBeeTopologyGraph.getLinkCost(255));
+        assertEquals(1, ZigBeeTopologyGraph.getLinkCost(240));
+        assertEquals(4, ZigBeeTopologyGraph.getLinkCost(180));
+        assertEquals(7, ZigBeeTopologyGraph.getLinkCost(100));
+        assertEquals(7, ZigBeeTopologyGraph.getLinkCost(0));
+    }
+
+    @Test
+    public void updateNeighbors() {
+        ZigBeeTopologyListener listener = Mockito.mock(ZigBeeTopologyListener.class);
+        ZigBeeTopologyGraph graph = new ZigBeeTopologyGraph(listener);
+
+        graph.updateNeighbors(0, Arrays.asList(getNeighbor(1, 250, 1), getNeighbor(2, 150, 1)));
+        Mockito.verify(listener, Mockito.times(2)).linkAdded(ArgumentMatchers.any(ZigBeeTopologyLink.class));
+        assertEquals(2, graph.getLinks(0).size());
+
+        // Reporting the same table again, or small changes in LQI, are not notified
+        graph.updateNeighbors(0, Arrays.asList(getNeighbor(1, 250, 1), getNeighbor(2, 150, 1)));
+        graph.updateNeighbors(0, Arrays.asList(getNeighbor(1, 245, 1), getNeighbor(2, 150, 1)));
+        Mockito.verify(listener, Mockito.times(2)).linkAdded(ArgumentMatchers.any(ZigBeeTopologyLink.class));
+        Mockito.verify(listener, Mockito.never()).linkUpdated(ArgumentMatchers.any(ZigBeeTopologyLink.class),
+                ArgumentMatchers.any(ZigBeeTopologyLink.class));
+
+        // The update is notified from the link that was last notified
+        graph.updateNeighbors(0, Arrays.asList(getNeighbor(1, 100, 1)));
+        Mockito.verify(listener, Mockito.times(1)).linkUpdated(new ZigBeeTopologyLink(0, 1, 250, 1,
+                NeighborTableRelationship.SIBLING),
+                new ZigBeeTopologyLink(0, 1, 100, 1, NeighborTableRelationship.SIBLING));
+        Mockito.verify(listener, Mockito.times(1))
+                .linkRemoved(new ZigBeeTopologyLink(0, 2, 150, 1, NeighborTableRelationship.SIBLING));
+
+        // Smaller changes are notified when the threshold is reduced
+        graph.setLqiChangeThreshold(1);
+        graph.updateNeighbors(0, Arrays.asList(getNeighbor(1, 101, 1)));
+        Mockito.verify(listener, Mockito.times(2)).linkUpdated(ArgumentMatchers.any(ZigBeeTopologyLink.class),
+                ArgumentMatchers.any(ZigBeeTopologyLink.class));
+
+        graph.updateNeighbors(0, Collections.<NeighborTable> emptyList());
+        assertTrue(graph.getLinks(0).isEmpty());
+        Mockito.verify(listener, Mockito.times(2)).linkRemoved(ArgumentMatchers.any(ZigBeeTopologyLink.class));
+    }
+
+    @Test
+    public void updateNeighborsGradualChange() {
+        ZigBeeTopologyListener listener = Mockito.mock(ZigBeeTopologyListener.class);
+        ZigBeeTopologyGraph graph = new ZigBeeTopologyGraph(listener);
+
+        graph.updateNeighbors(0, Arrays.asList(getNeighbor(1, 250, 1)));
+        graph.updateNeighbors(0, Arrays.asList(getNeighbor(1, 245, 1)));
+        Mockito.verify(listener, Mockito.never()).linkUpdated(ArgumentMatchers.any(ZigBeeTopologyLink.class),
+                ArgumentMatchers.any(ZigBeeTopologyLink.class));
+        assertEquals(245, graph.getLinks(0).iterator().next().getLqi());
+
+        // Small changes that add up to the threshold are notified
+        graph.updateNeighbors(0, Arrays.asList(getNeighbor(1, 240, 1)));
+        Mockito.verify(listener, Mockito.times(1)).linkUpdated(
+                new ZigBeeTopologyLink(0, 1, 250, 1, NeighborTableRelationship.SIBLING),
+                new ZigBeeTopologyLink(0, 1, 240, 1, NeighborTableRelationship.SIBLING));
+
+        graph.updateNeighbors(0, Collections.<NeighborTable> emptyList());
+        Mockito.verify(listener, Mockito.times(1))
+                .linkRemoved(new ZigBeeTopologyLink(0, 1, 240, 1, NeighborTableRelationship.SIBLING));
+    }
+
+    @Test
+    public void analysisUpdatedBelowThreshold() {
+        ZigBeeTopologyGraph graph = new ZigBeeTopologyGraph(null);
+
+        graph.updateNeighbors(0, Arrays.asList(getNeighbor(1, 255, 1), getNeighbor(2, 80, 1)));
+        assertEquals(Collections.singleton(2), graph.getNodesBehindWeakLink(83));
+
+        // A change in LQI that is not notified still updates the analysis
+        graph.updateNeighbors(0, Arrays.asList(getNeighbor(1, 255, 1), getNeighbor(2, 85, 1)));
+        assertTrue(graph.getNodesBehindWeakLink(83).isEmpty());
+    }
+
+    @Test
+    public void getBestPath() {
+        ZigBeeTopologyGraph graph = new ZigBeeTopologyGraph(null);
+
+        graph.updateNeighbors(0, Arrays.asList(getNeighbor(1, 255, 1), getNeighbor(2, 255, 1)));
+        graph.updateNeighbors(1, Arrays.asList(getNeighbor(3, 100, 2)));
+        graph.updateNeighbors(2, Arrays.asList(getNeighbor(3, 200, 2)));
+        graph.updateNeighbors(3, Arrays.asList(getNeighbor(1, 100, 1), getNeighbor(2, 200, 1)));
+
+        assertEquals(Arrays.asList(0, 2, 3), graph.getBestPath(3));
+        assertEquals(4, graph.getPathCost(3));
+        assertEquals(Arrays.asList(0), graph.getBestPath(0));
+        assertEquals(new HashSet<>(Arrays.asList(0, 1, 2, 3)), graph.getNodes());
+
+        // The lower LQI is used when both nodes report the link
+        graph.updateNeighbors(3, Arrays.asList(getNeighbor(1, 255, 1), getNeighbor(2, 120, 1)));
+        graph.updateNeighbors(1, Arrays.asList(getNeighbor(3, 255, 2)));
+        assertEquals(Arrays.asList(0, 1, 3), graph.getBestPath(3));
+        assertEquals(2, graph.getPathCost(3));
+
+        // Unknown and unreachable nodes have no path
+        graph.updateNeighbors(5, Arrays.asList(getNeighbor(6, 255, 1)));
+        assertTrue(graph.getBestPath(4).isEmpty());
+        assertTrue(graph.getBestPath(6).isEmpty());
+        assertEquals(-1, graph.getPathCost(6));
+    }
+
+    @Test
+    public void getBestPathLargeNetwork() {
+        ZigBeeTopologyGraph graph = new ZigBeeTopologyGraph(null);
+
+        // A long chain of good links, alongside a direct link that is too weak to be preferred
+        int nodes = 2000;
+        List<NeighborTable> coordinatorNeighbors = new ArrayList<>();
+        coordinatorNeighbors.add(getNeighbor(1, 255, 1));
+        coordinatorNeighbors.add(getNeighbor(nodes, 10, 1));
+        graph.updateNeighbors(0, coordinatorNeighbors);
+        for (int node = 1; node < nodes; node++) {
+            graph.updateNeighbors(node, Arrays.asList(getNeighbor(node + 1, 255, node + 1)));
+        }
+
+        assertEquals(Arrays.asList(0, nodes), graph.getBestPath(nodes));
+        assertEquals(8, graph.getPathCost(nodes - 1));
+        assertEquals(Arrays.asList(0, 1, 2, 3), graph.getBestPath(3));
+        assertEquals(nodes + 1, graph.getNodes().size());
+    }
+
+    @Test
+    public void getSinglePointsOfFailure() {
+        ZigBeeTopologyGraph graph = new ZigBeeTopologyGraph(null);
+
+        // 0 - 1 - 2 - 3 with 4 connected to both 0 and 1, and 5 connected to 0
+        graph.updateNeighbors(0, Arrays.asList(getNeighbor(1, 255, 1), getNeighbor(4, 255, 1),
+                getNeighbor(5, 255, 1)));
+        graph.updateNeighbors(1, Arrays.asList(getNeighbor(2, 255, 2), getNeighbor(4, 255, 1)));
+        graph.updateNeighbors(2, Arrays.asList(getNeighbor(3, 255, 3)));
+
+        assertEquals(new HashSet<>(Arrays.asList(1, 2)), graph.getSinglePointsOfFailure());
+
+        // Adding a second path to 3 removes the single points of failure
+        graph.updateNeighbors(5, Arrays.asList(getNeighbor(3, 255, 2)));
+        assertTrue(graph.getSinglePointsOfFailure().isEmpty());
+
+        graph.removeNode(5);
+        assertEquals(new HashSet<>(Arrays.asList(1, 2)), graph.getSinglePointsOfFailure());
+    }
+
+    @Test
+    public void getNodesBehindWeakLink() {
+        ZigBeeTopologyGraph graph = new ZigBeeTopologyGraph(null);
+
+        graph.updateNeighbors(0, Arrays.asList(getNeighbor(1, 255, 1), getNeighbor(2, 80, 1)));
+        graph.updateNeighbors(1, Arrays.asList(getNeighbor(3, 60, 2)));
+        graph.updateNeighbors(3, Arrays.asList(getNeighbor(4, 255, 3)));
+
+        assertEquals(new HashSet<>(Arrays.asList(2, 3, 4)), graph.getNodesBehindWeakLink(100));
+        assertEquals(new HashSet<>(Arrays.asList(3, 4)), graph.getNodesBehindWeakLink(80));
+        assertTrue(graph.getNodesBehindWeakLink(50).isEmpty());
+    }
+
+    @Test
+    public void updateRoutes() {
+        ZigBeeTopologyListener listener = Mockito.mock(ZigBeeTopologyListener.class);
+        ZigBeeTopologyGraph graph = new ZigBeeTopologyGraph(listener);
+
+        RoutingTable inactive = getRoute(4, 1);
+        inactive.setStatus(DiscoveryState.INACTIVE);
+        graph.updateRoutes(0, Arrays.asList(getRoute(3, 1), inactive));
+        graph.updateRoutes(1, Arrays.asList(getRoute(3, 2)));
+        graph.updateRoutes(2, Arrays.asList(getRoute(3, 3)));
+        Mockito.verify(listener, Mockito.times(1)).routeChanged(0, 3, null, 1);
+        assertEquals(Collections.singletonMap(3, 1), graph.getRoutes(0));
+
+        assertEquals(Arrays.asList(0, 1, 2, 3), graph.getRoute(0, 3));
+        assertTrue(graph.getRoute(0, 4).isEmpty());
+
+        graph.updateRoutes(0, Arrays.asList(getRoute(3, 1)));
+        Mockito.verify(listener, Mockito.times(1)).routeChanged(ArgumentMatchers.eq(0), ArgumentMatchers.anyInt(),
+                ArgumentMatchers.any(), ArgumentMatchers.any());
+
+        // Routing loops are detected
+        graph.updateRoutes(2, Arrays.asList(getRoute(3, 1)));
+        Mockito.verify(listener, Mockito.times(1)).routeChanged(2, 3, 3, 1);
+        assertTrue(graph.getRoute(0, 3).isEmpty());
+
+        graph.removeNode(2);
+        Mockito.verify(listener, Mockito.times(1)).routeChanged(2, 3, 1, null);
+        assertTrue(graph.getRoutes(2).isEmpty());
+    }
+
+    @Test
+    public void removeNode() {
+        ZigBeeTopologyListener listener = Mockito.mock(ZigBeeTopologyListener.class);
+        ZigBeeTopologyGraph graph = new ZigBeeTopologyGraph(listener);
+
+        graph.updateNeighbors(0, Arrays.asList(getNeighbor(1, 255, 1), getNeighbor(2, 255, 1)));
+        graph.updateNeighbors(1, Arrays.asList(getNeighbor(0, 255, 0), getNeighbor(2, 255, 1)));
+        assertEquals(Arrays.asList(0, 1), graph.getBestPath(1));
+
+        graph.removeNode(1);
+        Mockito.verify(listener, Mockito.times(3)).linkRemoved(ArgumentMatchers.any(ZigBeeTopologyLink.class));
+        assertEquals(1, graph.getLinks(0).size());
+        assertTrue(graph.getLinks(1).isEmpty());
+        assertTrue(graph.getBestPath(1).isEmpty());
+    }
+}
@@ -13,6 +13,10 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
@@ -143,6 +147,7 @@ public class ApsDataEntityTest {
 
         aps.setFragmentationWindow(2);
         aps.setFragmentationLength(65);
+        aps.setFragmentationRetries(0);
 
         ArgumentCaptor<ZigBeeApsFrame> mockedFrameCaptor = ArgumentCaptor.forClass(ZigBeeApsFrame.class);
         Mockito.doNothing().when(transport).sendCommand(ArgumentMatchers.anyInt(), mockedFrameCaptor.capture());
@@ -353,6 +358,201 @@ public class ApsDataEntityTest {
         assertTrue(aps.receiveCommandState(0, ZigBeeTransportProgressState.TX_ACK));
     }
 
+    @Test
+    public void sendFragmentsRetry() {
+        ZigBeeTransportTransmit transport = Mockito.mock(ZigBeeTransportTransmit.class);
+        ApsDataEntity aps = new ApsDataEntity(transport);
+
+        aps.setFragmentationWindow(4);
+        aps.setFragmentationLength(10);
+        aps.setFragmentationRetries(1);
+
+        ArgumentCaptor<ZigBeeApsFrame> mockedFrameCaptor = ArgumentCaptor.forClass(ZigBeeApsFrame.class);
+        Mockito.doNothing().when(transport).sendCommand(ArgumentMatchers.anyInt(), mockedFrameCaptor.capture());
+
+        ZigBeeApsFrame apsFrame = new ZigBeeApsFrame();
+        apsFrame.setApsCounter(1);
+        apsFrame.setAckRequest(true);
+        apsFrame.setPayload(createData(0, 50));
+
+        aps.send(0, apsFrame);
+        assertEquals(Arrays.asList(0, 1, 2, 3), getFragmentNumbers(mockedFrameCaptor));
+
+        // Fragment 0 completes, fragment 1 fails and is the only fragment resent along with the next in the window
+        assertFalse(aps.receiveCommandState(0, ZigBeeTransportProgressState.RX_ACK));
+        assertFalse(aps.receiveCommandState(0, ZigBeeTransportProgressState.RX_NAK));
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 1), getFragmentNumbers(mockedFrameCaptor));
+
+        // Fragments 2, 3 and 4 complete, but the window can not move until fragment 1 completes
+        assertFalse(aps.receiveCommandState(0, ZigBeeTransportProgressState.RX_ACK));
+        assertFalse(aps.receiveCommandState(0, ZigBeeTransportProgressState.RX_ACK));
+        assertFalse(aps.receiveCommandState(0, ZigBeeTransportProgressState.RX_ACK));
+        assertEquals(6, mockedFrameCaptor.getAllValues().size());
+
+        // The resent fragment fails again, and the retries are exhausted
+        assertTrue(aps.receiveCommandState(0, ZigBeeTransportProgressState.RX_NAK));
+
+        // The frame is no longer known
+        assertTrue(aps.receiveCommandState(0, ZigBeeTransportProgressState.RX_ACK));
+        assertEquals(6, mockedFrameCaptor.getAllValues().size());
+    }
+
+    @Test
+    public void sendFragmentsWindowComplete() {
+        ZigBeeTransportTransmit transport = Mockito.mock(ZigBeeTransportTransmit.class);
+        ApsDataEntity aps = new ApsDataEntity(transport);
+
+        // The window is limited to 8 fragments
+        aps.setFragmentationWindow(20);
+        aps.setFragmentationLength(10);
+
+        ArgumentCaptor<ZigBeeApsFrame> mockedFrameCaptor = ArgumentCaptor.forClass(ZigBeeApsFrame.class);
+        Mockito.doNothing().when(transport).sendCommand(ArgumentMatchers.anyInt(), mockedFrameCaptor.capture());
+
+        ZigBeeApsFrame apsFrame = new ZigBeeApsFrame();
+        apsFrame.setApsCounter(1);
+        apsFrame.setAckRequest(false);
+        apsFrame.setPayload(createData(0, 95));
+
+        aps.send(0, apsFrame);
+        assertEquals(8, mockedFrameCaptor.getAllValues().size());
+
+        for (int cnt = 0; cnt < 9; cnt++) {
+            assertFalse(aps.receiveCommandState(0, ZigBeeTransportProgressState.TX_ACK));
+        }
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), getFragmentNumbers(mockedFrameCaptor));
+        assertTrue(aps.receiveCommandState(0, ZigBeeTransportProgressState.TX_ACK));
+    }
+
+    @Test
+    public void sendFragmentsDestinations() {
+        ZigBeeTransportTransmit transport = Mockito.mock(ZigBeeTransportTransmit.class);
+        ApsDataEntity aps = new ApsDataEntity(transport);
+
+        aps.setFragmentationWindow(1);
+        aps.setFragmentationLength(10);
+
+        ArgumentCaptor<ZigBeeApsFrame> mockedFrameCaptor = ArgumentCaptor.forClass(ZigBeeApsFrame.class);
+        Mockito.doNothing().when(transport).sendCommand(ArgumentMatchers.anyInt(), mockedFrameCaptor.capture());
+
+        ZigBeeApsFrame apsFrame1 = new ZigBeeApsFrame();
+        apsFrame1.setDestinationAddress(1);
+        apsFrame1.setAckRequest(false);
+        apsFrame1.setPayload(createData(0, 20));
+        ZigBeeApsFrame apsFrame2 = new ZigBeeApsFrame();
+        apsFrame2.setDestinationAddress(2);
+        apsFrame2.setAckRequest(false);
+        apsFrame2.setPayload(createData(0, 20));
+        ZigBeeApsFrame apsFrame3 = new ZigBeeApsFrame();
+        apsFrame3.setDestinationAddress(1);
+        apsFrame3.setAckRequest(false);
+        apsFrame3.setPayload(createData(0, 20));
+
+        // Frames to different destinations are sent in parallel, and to the same destination are queued
+        aps.send(1, apsFrame1);
+        aps.send(2, apsFrame2);
+        aps.send(3, apsFrame3);
+        assertEquals(Arrays.asList(1, 2), getMsgTags(mockedFrameCaptor));
+
+        assertFalse(aps.receiveCommandState(1, ZigBeeTransportProgressState.TX_ACK));
+        assertTrue(aps.receiveCommandState(1, ZigBeeTransportProgressState.TX_ACK));
+        assertEquals(Arrays.asList(1, 2, 1, 3), getMsgTags(mockedFrameCaptor));
+
+        // Aborting a frame also starts the next frame
+        aps.setFragmentationRetries(0);
+        ZigBeeApsFrame apsFrame4 = new ZigBeeApsFrame();
+        apsFrame4.setDestinationAddress(2);
+        apsFrame4.setAckRequest(false);
+        apsFrame4.setPayload(createData(0, 20));
+        aps.send(4, apsFrame4);
+        assertEquals(4, mockedFrameCaptor.getAllValues().size());
+        assertTrue(aps.receiveCommandState(2, ZigBeeTransportProgressState.TX_NAK));
+        assertEquals(Arrays.asList(1, 2, 1, 3, 4), getMsgTags(mockedFrameCaptor));
+    }
+
+    @Test
+    public void sendFragmentsPaced() {
+        ZigBeeTransportTransmit transport = Mockito.mock(ZigBeeTransportTransmit.class);
+        ApsDataEntity aps = new ApsDataEntity(transport);
+
+        aps.setFragmentationWindow(3);
+        aps.setFragmentationLength(10);
+        aps.setFragmentationDelay(50);
+
+        ZigBeeApsFrame apsFrame = new ZigBeeApsFrame();
+        apsFrame.setAckRequest(true);
+        apsFrame.setPayload(createData(0, 30));
+
+        aps.send(0, apsFrame);
+        Mockito.verify(transport, Mockito.times(1)).sendCommand(ArgumentMatchers.anyInt(),
+                ArgumentMatchers.any(ZigBeeApsFrame.class));
+        Mockito.verify(transport, Mockito.timeout(TIMEOUT).times(3)).sendCommand(ArgumentMatchers.anyInt(),
+                ArgumentMatchers.any(ZigBeeApsFrame.class));
+
+        aps.shutdown();
+    }
+
+    @Test
+    public void receiveFragmentsOutOfOrder() {
+        ApsDataEntity aps = new ApsDataEntity(Mockito.mock(ZigBeeTransportTransmit.class));
+        aps.setDuplicateTimeWindow(Long.MIN_VALUE);
+
+        ZigBeeApsFrameFragment fragment;
+
+        fragment = new ZigBeeApsFrameFragment(2);
+        fragment.setApsCounter(1);
+        fragment.setSourceAddress(1);
+        fragment.setPayload(createData(128, 12));
+        assertNull(aps.receive(fragment));
+
+        // A fragment with the same counter from a different device is a different frame
+        fragment = new ZigBeeApsFrameFragment(0);
+        fragment.setApsCounter(1);
+        fragment.setSourceAddress(2);
+        fragment.setFragmentTotal(2);
+        fragment.setPayload(createData(0, 64));
+        assertNull(aps.receive(fragment));
+
+        fragment = new ZigBeeApsFrameFragment(0);
+        fragment.setApsCounter(1);
+        fragment.setSourceAddress(1);
+        fragment.setFragmentTotal(3);
+        fragment.setPayload(createData(0, 64));
+        assertNull(aps.receive(fragment));
+
+        // Duplicate fragments are ignored
+        assertNull(aps.receive(fragment));
+
+        fragment = new ZigBeeApsFrameFragment(1);
+        fragment.setApsCounter(1);
+        fragment.setSourceAddress(1);
+        fragment.setPayload(createData(64, 64));
+        ZigBeeApsFrame apsFrame = aps.receive(fragment);
+
+        assertNotNull(apsFrame);
+        assertEquals(1, apsFrame.getSourceAddress());
+        assertEquals(140, apsFrame.getPayloadLength());
+        for (int cnt = 0; cnt < 140; cnt++) {
+            assertEquals(cnt & 0xFF, apsFrame.getPayload()[cnt]);
+        }
+    }
+
+    private List<Integer> getFragmentNumbers(ArgumentCaptor<ZigBeeApsFrame> captor) {
+        List<Integer> fragments = new ArrayList<>();
+        for (ZigBeeApsFrame frame : captor.getAllValues()) {
+            fragments.add(((ZigBeeApsFrameFragment) frame).getFragmentNumber());
+        }
+        return fragments;
+    }
+
+    private List<Integer> getMsgTags(ArgumentCaptor<ZigBeeApsFrame> captor) {
+        List<Integer> msgTags = new ArrayList<>();
+        for (ZigBeeApsFrame frame : captor.getAllValues()) {
+            msgTags.add(frame.getMsgTag());
+        }
+        return msgTags;
+    }
+
     private int[] createData(int start, int length) {
         int[] data = new int[length];
 
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.aps;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ApsDuplicateTableTest {
+    @Test
+    public void duplicates() {
+        ApsDuplicateTable table = new ApsDuplicateTable(5000, 64);
+
+        assertEquals(-1, table.check(1234, 1, 100000));
+        assertEquals(100, table.check(1234, 1, 100100));
+        assertEquals(-1, table.check(1234, 2, 100200));
+        assertEquals(-1, table.check(5678, 1, 100300));
+
+        // A retry received after a later frame is still a duplicate
+        assertEquals(400, table.check(1234, 1, 100400));
+
+        // Only the last COUNTER_HISTORY counters are remembered
+        assertEquals(-1, table.check(1234, 3, 100500));
+        assertEquals(-1, table.check(1234, 4, 100500));
+        assertEquals(-1, table.check(1234, 5, 100500));
+        assertEquals(-1, table.check(1234, 1, 100500));
+
+        // Counters are 8 bit
+        assertEquals(0, table.check(1234, 0x105, 100500));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    public void expiry() {
+        ApsDuplicateTable table = new ApsDuplicateTable(5000, 64);
+
+        // Sources 1, 14 and 35 share the same stripe, and therefore the same timer wheel
+        assertEquals(-1, table.check(1, 1, 100000));
+        assertEquals(-1, table.check(14, 1, 100000));
+        assertEquals(-1, table.check(14, 2, 103000));
+        assertEquals(2, table.size());
+
+        // Outside the time window, the same counter is accepted
+        assertEquals(-1, table.check(1, 1, 105000));
+        assertEquals(2, table.size());
+
+        // Sources not heard from within the window are removed as the wheel advances
+        assertEquals(-1, table.check(35, 1, 109000));
+        assertEquals(2, table.size());
+        assertEquals(-1, table.check(35, 2, 111000));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    public void capacity() {
+        ApsDuplicateTable table = new ApsDuplicateTable(Long.MAX_VALUE, 16);
+
+        for (int address = 0; address < 1000; address++) {
+            assertEquals(-1, table.check(address, 1, 100000 + address));
+        }
+        assertEquals(16, table.size());
+
+        // The most recent source in each stripe is remembered
+        assertEquals(1, table.check(999, 1, 101000));
+    }
+
+    @Test
+    public void disabled() {
+        ApsDuplicateTable table = new ApsDuplicateTable(0, 64);
+
+        assertEquals(-1, table.check(1234, 1, 100000));
+        assertEquals(-1, table.check(1234, 1, 100000));
+        assertEquals(0, table.size());
+    }
+}
@@ -7,11 +7,15 @@
  */
 package com.zsmartsystems.zigbee.aps;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.ByteBuffer;
+
 import org.junit.Test;
 
 /**
@@ -84,4 +88,38 @@ public class ZigBeeApsFrameTest {
         assertEquals(2, frame.getFragmentOutstanding());
     }
 
+    @Test
+    public void testPayloadBuffer() {
+        ZigBeeApsFrame frame = new ZigBeeApsFrame();
+        assertEquals(0, frame.getPayloadLength());
+        assertNull(frame.getPayloadBuffer());
+
+        ByteBuffer receiveBuffer = ByteBuffer.wrap(new byte[] { 0x55, 0x01, 0x02, (byte) 0xFF, 0x55 });
+        receiveBuffer.position(1);
+        receiveBuffer.limit(4);
+        frame.setPayload(receiveBuffer);
+        assertEquals(1, receiveBuffer.position());
+        assertTrue(frame.hasPayloadBuffer());
+        assertEquals(3, frame.getPayloadLength());
+        assertTrue(frame.toString().contains("payload=01 02 FF"));
+
+        ByteBuffer payloadBuffer = frame.getPayloadBuffer();
+        assertEquals(3, payloadBuffer.remaining());
+        assertEquals(0x01, payloadBuffer.get(0));
+
+        // The integer array is read from the buffer on request, and the buffer is retained
+        assertArrayEquals(new int[] { 0x01, 0x02, 0xFF }, frame.getPayload());
+        assertTrue(frame.hasPayloadBuffer());
+        assertEquals(3, frame.getPayloadLength());
+        assertEquals((byte) 0xFF, frame.getPayloadBuffer().get(2));
+
+        frame.setPayload(new int[] { 0x03, 0x04 });
+        assertFalse(frame.hasPayloadBuffer());
+        assertEquals(2, frame.getPayloadLength());
+        assertEquals(0x04, frame.getPayloadBuffer().get(1));
+
+        frame.setPayload((ByteBuffer) null);
+        assertFalse(frame.hasPayloadBuffer());
+        assertNull(frame.getPayload());
+    }
 }
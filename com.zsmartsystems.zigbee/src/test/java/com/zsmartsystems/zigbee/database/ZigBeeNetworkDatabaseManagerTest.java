@@ -8,13 +8,19 @@
 package com.zsmartsystems.zigbee.database;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -24,6 +30,8 @@ import org.junit.Test;
 import org.mockito.ArgumentMatcher;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import com.zsmartsystems.zigbee.IeeeAddress;
 import com.zsmartsystems.zigbee.TestUtilities;
@@ -83,6 +91,7 @@ public class ZigBeeNetworkDatabaseManagerTest {
         ZigBeeNode node = Mockito.mock(ZigBeeNode.class);
         Mockito.when(node.getDao()).thenReturn(nodeDao);
         Mockito.when(node.getIeeeAddress()).thenReturn(new IeeeAddress("1234567890ABCDEF"));
+        Mockito.when(node.isDirty()).thenReturn(true);
 
         // No data store - make sure nothing happens
         databaseManager.clear();
@@ -115,7 +124,9 @@ public class ZigBeeNetworkDatabaseManagerTest {
         Map<IeeeAddress, Long> deferredWriteTimes = new ConcurrentHashMap<>();
 
         deferredWriteTimes.put(new IeeeAddress("1234567890ABCDEF"), Long.valueOf(0));
-        deferredWriteFutures.put(new IeeeAddress("1234567890ABCDEF"), Mockito.mock(ScheduledFuture.class));
+        ScheduledFuture<?> deferredWriteFuture = Mockito.mock(ScheduledFuture.class);
+        Mockito.when(deferredWriteFuture.getDelay(TimeUnit.MILLISECONDS)).thenReturn(1000L);
+        deferredWriteFutures.put(new IeeeAddress("1234567890ABCDEF"), deferredWriteFuture);
 
         TestUtilities.setField(ZigBeeNetworkDatabaseManager.class, databaseManager, "deferredWriteTimes",
                 deferredWriteTimes);
@@ -139,6 +150,278 @@ public class ZigBeeNetworkDatabaseManagerTest {
         Mockito.verify(networkManager, Mockito.timeout(TIMEOUT).times(1)).removeNetworkNodeListener(databaseManager);
     }
 
+    @Test
+    public void writeBatch() throws Exception {
+        ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        ZigBeeNetworkDatabaseManager databaseManager = new ZigBeeNetworkDatabaseManager(networkManager);
+        ZigBeeNetworkDataStore dataStore = Mockito.mock(ZigBeeNetworkDataStore.class);
+        databaseManager.setDataStore(dataStore);
+        databaseManager.setDeferredWriteTime(0);
+
+        ScheduledExecutorService executorService = (ScheduledExecutorService) TestUtilities
+                .getField(ZigBeeNetworkDatabaseManager.class, databaseManager, "executorService");
+
+        // Hold the scheduler so that both writes are due at the same time
+        final CountDownLatch latch = new CountDownLatch(1);
+        executorService.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                }
+            }
+        });
+
+        ZigBeeNode node1 = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(node1.getIeeeAddress()).thenReturn(new IeeeAddress("1111111111111111"));
+        Mockito.when(node1.getDao()).thenReturn(new ZigBeeNodeDao());
+        Mockito.when(node1.isDirty()).thenReturn(true);
+        ZigBeeNode node2 = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(node2.getIeeeAddress()).thenReturn(new IeeeAddress("2222222222222222"));
+        Mockito.when(node2.getDao()).thenReturn(new ZigBeeNodeDao());
+        Mockito.when(node2.isDirty()).thenReturn(true);
+
+        databaseManager.nodeUpdated(node1);
+        databaseManager.nodeUpdated(node2);
+        Thread.sleep(10);
+        latch.countDown();
+
+        Mockito.verify(dataStore, Mockito.timeout(TIMEOUT).times(1))
+                .writeNodes(ArgumentMatchers.argThat(new ArgumentMatcher<Collection<ZigBeeNodeDao>>() {
+                    @Override
+                    public boolean matches(Collection<ZigBeeNodeDao> argument) {
+                        return argument.size() == 2;
+                    }
+                }));
+        Mockito.verify(dataStore, Mockito.never()).writeNode(ArgumentMatchers.any(ZigBeeNodeDao.class));
+
+        databaseManager.shutdown();
+    }
+
+    @Test
+    public void writeBatchUpdatedWhileDue() throws Exception {
+        ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        ZigBeeNetworkDatabaseManager databaseManager = new ZigBeeNetworkDatabaseManager(networkManager);
+        ZigBeeNetworkDataStore dataStore = Mockito.mock(ZigBeeNetworkDataStore.class);
+        databaseManager.setDataStore(dataStore);
+        databaseManager.setDeferredWriteTime(50);
+
+        ScheduledExecutorService executorService = (ScheduledExecutorService) TestUtilities
+                .getField(ZigBeeNetworkDatabaseManager.class, databaseManager, "executorService");
+
+        // Hold the scheduler so that both writes are due at the same time
+        final CountDownLatch latch = new CountDownLatch(1);
+        executorService.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                }
+            }
+        });
+
+        ZigBeeNode node1 = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(node1.getIeeeAddress()).thenReturn(new IeeeAddress("1111111111111111"));
+        Mockito.when(node1.getDao()).thenReturn(new ZigBeeNodeDao());
+        Mockito.when(node1.isDirty()).thenReturn(true);
+        ZigBeeNode node2 = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(node2.getIeeeAddress()).thenReturn(new IeeeAddress("2222222222222222"));
+        Mockito.when(node2.getDao()).thenReturn(new ZigBeeNodeDao());
+        Mockito.when(node2.isDirty()).thenReturn(true);
+
+        databaseManager.nodeUpdated(node1);
+        databaseManager.nodeUpdated(node2);
+        Thread.sleep(100);
+
+        // An update to a node whose write is already due does not defer the write, or break up the batch
+        databaseManager.nodeUpdated(node2);
+        latch.countDown();
+
+        Mockito.verify(dataStore, Mockito.timeout(TIMEOUT).times(1))
+                .writeNodes(ArgumentMatchers.argThat(new ArgumentMatcher<Collection<ZigBeeNodeDao>>() {
+                    @Override
+                    public boolean matches(Collection<ZigBeeNodeDao> argument) {
+                        return argument.size() == 2;
+                    }
+                }));
+        Mockito.verify(dataStore, Mockito.never()).writeNode(ArgumentMatchers.any(ZigBeeNodeDao.class));
+
+        databaseManager.shutdown();
+    }
+
+    @Test
+    public void shutdownWritesDeferredNodes() throws Exception {
+        ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        ZigBeeNetworkDatabaseManager databaseManager = new ZigBeeNetworkDatabaseManager(networkManager);
+        ZigBeeNetworkDataStore dataStore = Mockito.mock(ZigBeeNetworkDataStore.class);
+        databaseManager.setDataStore(dataStore);
+        databaseManager.setDeferredWriteTime(60000);
+        databaseManager.setMaxDeferredWriteTime(60000);
+
+        ZigBeeNodeDao nodeDao = new ZigBeeNodeDao();
+        ZigBeeNode node = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(node.getIeeeAddress()).thenReturn(new IeeeAddress("1234567890ABCDEF"));
+        Mockito.when(node.getDao()).thenReturn(nodeDao);
+        Mockito.when(node.isDirty()).thenReturn(true);
+
+        databaseManager.nodeUpdated(node);
+        Mockito.verify(dataStore, Mockito.never()).writeNode(nodeDao);
+
+        // The deferred write is completed before shutdown returns
+        databaseManager.shutdown();
+        Mockito.verify(dataStore, Mockito.times(1)).writeNode(nodeDao);
+
+        // Updates after shutdown are not written
+        databaseManager.nodeUpdated(node);
+        Mockito.verify(dataStore, Mockito.times(1)).writeNode(nodeDao);
+    }
+
+    @Test
+    public void writeAttributes() throws Exception {
+        ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        ZigBeeNetworkDatabaseManager databaseManager = new ZigBeeNetworkDatabaseManager(networkManager);
+        ZigBeeNetworkDataStore dataStore = Mockito.mock(ZigBeeNetworkDataStore.class);
+        databaseManager.setDataStore(dataStore);
+        databaseManager.setDeferredWriteTime(0);
+
+        IeeeAddress address = new IeeeAddress("1234567890ABCDEF");
+        ZigBeeNodeDao nodeDao = new ZigBeeNodeDao();
+        ZigBeeNode node = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(node.getIeeeAddress()).thenReturn(address);
+        Mockito.when(node.getDao()).thenReturn(nodeDao);
+
+        // Unchanged nodes are not written
+        Mockito.when(node.getDirtyAttributes()).thenReturn(new ArrayList<ZclAttributeUpdateDao>());
+        databaseManager.nodeUpdated(node);
+        Mockito.verify(node, Mockito.timeout(TIMEOUT).times(1)).getDirtyAttributes();
+
+        // Changed attributes are written as a partial update
+        List<ZclAttributeUpdateDao> attributes = Collections.singletonList(new ZclAttributeUpdateDao());
+        Mockito.when(node.getDirtyAttributes()).thenReturn(attributes);
+        Mockito.when(dataStore.writeAttributes(address, attributes)).thenReturn(true);
+        databaseManager.nodeUpdated(node);
+        Mockito.verify(dataStore, Mockito.timeout(TIMEOUT).times(1)).writeAttributes(address, attributes);
+
+        // The complete node is written if the data store does not accept the partial update
+        Mockito.when(dataStore.writeAttributes(address, attributes)).thenReturn(false);
+        databaseManager.nodeUpdated(node);
+        Mockito.verify(dataStore, Mockito.timeout(TIMEOUT).times(1)).writeNode(nodeDao);
+        Mockito.verify(node, Mockito.times(1)).clearDirty();
+
+        // The complete node is written if the node itself has changed
+        Mockito.when(node.isDirty()).thenReturn(true);
+        databaseManager.nodeUpdated(node);
+        Mockito.verify(dataStore, Mockito.timeout(TIMEOUT).times(2)).writeNode(nodeDao);
+        Mockito.verify(dataStore, Mockito.times(2)).writeAttributes(address, attributes);
+        Mockito.verify(node, Mockito.times(3)).getDirtyAttributes();
+
+        databaseManager.shutdown();
+    }
+
+    /**
+     * Synthetic data store holding a network of identical nodes. Each read takes a short time to simulate reading the
+     * node from storage, and records the thread that read the node.
+     */
+    private class SyntheticDataStore implements ZigBeeNetworkDataStore {
+        private final Set<IeeeAddress> nodes = new HashSet<>();
+        private final Set<String> readThreads = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+        SyntheticDataStore(int nodeCount) {
+            for (int cnt = 0; cnt < nodeCount; cnt++) {
+                nodes.add(new IeeeAddress(String.format("%016X", cnt)));
+            }
+        }
+
+        @Override
+        public Set<IeeeAddress> readNetworkNodes() {
+            return nodes;
+        }
+
+        @Override
+        public ZigBeeNodeDao readNode(IeeeAddress address) {
+            readThreads.add(Thread.currentThread().getName());
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+            }
+
+            List<ZclClusterDao> clusters = new ArrayList<>();
+            for (int clusterId : new int[] { 0x0000, 0x0003, 0x0006, 0x0008, 0x0702 }) {
+                ZclClusterDao cluster = new ZclClusterDao();
+                cluster.setClusterId(clusterId);
+                cluster.setAttributes(new HashMap<Integer, ZclAttributeDao>());
+                cluster.setSupportedCommandsGenerated(new HashSet<Integer>());
+                cluster.setSupportedCommandsReceived(new HashSet<Integer>());
+                clusters.add(cluster);
+            }
+            ZigBeeEndpointDao endpoint = new ZigBeeEndpointDao();
+            endpoint.setEndpointId(1);
+            endpoint.setProfileId(0x104);
+            endpoint.setInputClusterIds(Arrays.asList(0x0000, 0x0003, 0x0006, 0x0008, 0x0702));
+            endpoint.setInputClusters(clusters);
+
+            ZigBeeNodeDao node = new ZigBeeNodeDao();
+            node.setIeeeAddress(address);
+            node.setNetworkAddress(address.hashCode() & 0xFFFF);
+            node.setBindingTable(new HashSet<BindingTable>());
+            node.setEndpoints(Collections.singletonList(endpoint));
+            return node;
+        }
+
+        @Override
+        public void writeNode(ZigBeeNodeDao node) {
+        }
+
+        @Override
+        public void removeNode(IeeeAddress address) {
+        }
+    }
+
+    @Test
+    public void restoreParallel() {
+        final int nodeCount = 1000;
+
+        ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        ZigBeeNetworkDatabaseManager databaseManager = new ZigBeeNetworkDatabaseManager(networkManager);
+        SyntheticDataStore dataStore = new SyntheticDataStore(nodeCount);
+        databaseManager.setDataStore(dataStore);
+        databaseManager.startup();
+        Mockito.verify(networkManager, Mockito.times(nodeCount)).updateNode(ArgumentMatchers.any(ZigBeeNode.class));
+        Mockito.verify(networkManager, Mockito.never()).restoreNodes(ArgumentMatchers.<ZigBeeNode> anyCollection());
+        assertEquals(1, dataStore.readThreads.size());
+        databaseManager.shutdown();
+
+        networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        final List<ZigBeeNode> restoredNodes = new ArrayList<>();
+        Mockito.doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) {
+                restoredNodes.addAll(invocation.<Collection<ZigBeeNode>> getArgument(0));
+                return null;
+            }
+        }).when(networkManager).restoreNodes(ArgumentMatchers.<ZigBeeNode> anyCollection());
+        databaseManager = new ZigBeeNetworkDatabaseManager(networkManager);
+        dataStore = new SyntheticDataStore(nodeCount);
+        databaseManager.setDataStore(dataStore);
+        databaseManager.setRestoreThreads(8);
+        databaseManager.startup();
+        databaseManager.shutdown();
+
+        // All nodes are restored in a single notification, with the nodes read on multiple threads
+        Mockito.verify(networkManager, Mockito.times(1)).restoreNodes(ArgumentMatchers.<ZigBeeNode> anyCollection());
+        Mockito.verify(networkManager, Mockito.never()).updateNode(ArgumentMatchers.any(ZigBeeNode.class));
+        Set<IeeeAddress> addresses = new HashSet<>();
+        for (ZigBeeNode node : restoredNodes) {
+            addresses.add(node.getIeeeAddress());
+            assertEquals(5, node.getEndpoint(1).getInputClusterIds().size());
+        }
+        assertEquals(dataStore.readNetworkNodes(), addresses);
+        assertEquals(nodeCount, restoredNodes.size());
+        assertTrue(dataStore.readThreads.size() > 1);
+    }
+
     @Test
     public void timerConfiguration() throws Exception {
         ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class NotificationServiceTest {
+    private static final int TIMEOUT = 5000;
+
+    @Test
+    public void executeOrdered() throws Exception {
+        NotificationService service = new NotificationService(4, 1000);
+
+        final List<Integer> results1 = Collections.synchronizedList(new ArrayList<Integer>());
+        final List<Integer> results2 = Collections.synchronizedList(new ArrayList<Integer>());
+        final CountDownLatch latch = new CountDownLatch(200);
+        final List<Integer> expected = new ArrayList<>();
+        for (int count = 0; count < 100; count++) {
+            final int value = count;
+            expected.add(value);
+            service.execute(results1, new Runnable() {
+                @Override
+                public void run() {
+                    results1.add(value);
+                    latch.countDown();
+                }
+            });
+            service.execute(results2, new Runnable() {
+                @Override
+                public void run() {
+                    results2.add(value);
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertTrue(latch.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        assertEquals(expected, results1);
+        assertEquals(expected, results2);
+
+        // The statistics are updated after each notification completes
+        service.shutdown(TIMEOUT);
+        assertEquals(200, service.getDispatchCount());
+        assertEquals(0, service.getDroppedCount());
+        assertTrue(service.getPeakQueueDepth() > 0);
+    }
+
+    @Test
+    public void backpressure() throws Exception {
+        NotificationService service = new NotificationService(1, 2);
+
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Object key = new Object();
+        service.execute(key, new Runnable() {
+            @Override
+            public void run() {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                }
+            }
+        });
+        assertTrue(blocked.await(TIMEOUT, TimeUnit.MILLISECONDS));
+
+        Runnable empty = new Runnable() {
+            @Override
+            public void run() {
+            }
+        };
+        service.execute(key, empty);
+        service.execute(key, empty);
+        assertEquals(2, service.getQueueDepth());
+
+        // The queue is full, so this blocks and is then discarded
+        long start = System.nanoTime();
+        service.execute(key, empty);
+        assertTrue(System.nanoTime() - start > TimeUnit.MILLISECONDS.toNanos(500));
+        assertEquals(1, service.getDroppedCount());
+        assertEquals(2, service.getQueueDepth());
+
+        release.countDown();
+        service.shutdown(TIMEOUT);
+        assertEquals(3, service.getDispatchCount());
+    }
+
+    @Test
+    public void isDispatchThread() throws Exception {
+        final NotificationService service = new NotificationService();
+        assertFalse(service.isDispatchThread());
+
+        final AtomicBoolean keyed = new AtomicBoolean();
+        final AtomicBoolean unkeyed = new AtomicBoolean();
+        final CountDownLatch latch = new CountDownLatch(2);
+        service.execute(this, new Runnable() {
+            @Override
+            public void run() {
+                keyed.set(service.isDispatchThread());
+                latch.countDown();
+            }
+        });
+        service.execute(new Runnable() {
+            @Override
+            public void run() {
+                unkeyed.set(service.isDispatchThread());
+                latch.countDown();
+            }
+        });
+
+        assertTrue(latch.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        assertTrue(keyed.get());
+        assertTrue(unkeyed.get());
+        service.shutdown(100);
+    }
+
+    @Test
+    public void compatibilityMode() throws Exception {
+        final NotificationService service = new NotificationService(0, 0);
+
+        final AtomicBoolean dispatchThread = new AtomicBoolean(true);
+        final CountDownLatch latch = new CountDownLatch(1);
+        service.execute(this, new Runnable() {
+            @Override
+            public void run() {
+                dispatchThread.set(service.isDispatchThread());
+                latch.countDown();
+            }
+        });
+
+        assertTrue(latch.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        assertFalse(dispatchThread.get());
+        assertEquals(0, service.getDroppedCount());
+        service.shutdown(100);
+    }
+
+    @Test
+    public void exceptionInNotification() throws Exception {
+        NotificationService service = new NotificationService();
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        service.execute(this, new Runnable() {
+            @Override
+            public void run() {
+                throw new IllegalStateException();
+            }
+        });
+        service.execute(this, new Runnable() {
+            @Override
+            public void run() {
+                latch.countDown();
+            }
+        });
+
+        assertTrue(latch.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        service.shutdown(100);
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.zsmartsystems.zigbee.ZigBeeNode;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeNetworkAddressIndexTest {
+    @Test
+    public void addRemove() {
+        ZigBeeNetworkAddressIndex index = new ZigBeeNetworkAddressIndex();
+
+        ZigBeeNode node1 = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(node1.getNetworkAddress()).thenReturn(0x1234);
+        ZigBeeNode node2 = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(node2.getNetworkAddress()).thenReturn(0xFFFF);
+        ZigBeeNode node3 = Mockito.mock(ZigBeeNode.class);
+
+        index.add(node1);
+        index.add(node2);
+        index.add(node3);
+        assertEquals(node1, index.get(0x1234));
+        assertEquals(node2, index.get(0xFFFF));
+        assertNull(index.get(0x4321));
+        assertNull(index.get(-1));
+        assertNull(index.get(0x10000));
+
+        // Removing a node that isn't registered at the address doesn't remove the entry
+        index.remove(node2, 0x1234);
+        assertEquals(node1, index.get(0x1234));
+
+        index.remove(node1, 0x1234);
+        assertNull(index.get(0x1234));
+        index.remove(node3, null);
+    }
+
+    @Test
+    public void update() {
+        ZigBeeNetworkAddressIndex index = new ZigBeeNetworkAddressIndex();
+
+        ZigBeeNode node1 = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(node1.getNetworkAddress()).thenReturn(0x1234);
+        index.add(node1);
+
+        Mockito.when(node1.getNetworkAddress()).thenReturn(0x4321);
+        index.update(node1, 0x1234);
+        assertNull(index.get(0x1234));
+        assertEquals(node1, index.get(0x4321));
+
+        // A second node taking over the address is not removed when the first node moves
+        ZigBeeNode node2 = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(node2.getNetworkAddress()).thenReturn(0x4321);
+        index.add(node2);
+        Mockito.when(node1.getNetworkAddress()).thenReturn(0x5678);
+        index.update(node1, 0x4321);
+        assertEquals(node2, index.get(0x4321));
+        assertEquals(node1, index.get(0x5678));
+    }
+}
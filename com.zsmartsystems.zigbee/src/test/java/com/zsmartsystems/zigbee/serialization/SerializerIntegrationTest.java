@@ -282,8 +282,18 @@ public class SerializerIntegrationTest {
         DefaultSerializer serializer = new DefaultSerializer();
         serializer.appendZigBeeType(objectIn, type);
         int[] buffer = serializer.getPayload();
-        int size = buffer.length;
-        DefaultDeserializer deserializer = new DefaultDeserializer(buffer);
+        testDeserializer(objectIn, type, new DefaultDeserializer(buffer), buffer.length);
+
+        // The byte buffer implementations must produce and accept the same data
+        ByteBufferSerializer bufferSerializer = new ByteBufferSerializer();
+        bufferSerializer.appendZigBeeType(objectIn, type);
+        assertTrue(Arrays.equals(buffer, bufferSerializer.getPayload()));
+        assertEquals(buffer.length, bufferSerializer.getBuffer().remaining());
+        testDeserializer(objectIn, type, new ByteBufferDeserializer(bufferSerializer.getBuffer()), buffer.length);
+        testDeserializer(objectIn, type, new ByteBufferDeserializer(buffer), buffer.length);
+    }
+
+    private void testDeserializer(Object objectIn, ZclDataType type, ZigBeeDeserializer deserializer, int size) {
         assertEquals(size, deserializer.getSize());
         Object objectOut = deserializer.readZigBeeType(type);
         if (objectIn instanceof Integer[]) {
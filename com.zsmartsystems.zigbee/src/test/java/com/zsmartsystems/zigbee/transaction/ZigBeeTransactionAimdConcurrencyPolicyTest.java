@@ -0,0 +1,212 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import com.zsmartsystems.zigbee.IeeeAddress;
+import com.zsmartsystems.zigbee.ZigBeeCommand;
+import com.zsmartsystems.zigbee.ZigBeeEndpointAddress;
+import com.zsmartsystems.zigbee.ZigBeeNetworkManager;
+import com.zsmartsystems.zigbee.ZigBeeNode;
+import com.zsmartsystems.zigbee.internal.NotificationService;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransaction.TransactionState;
+import com.zsmartsystems.zigbee.transport.ZigBeeTransportProgressState;
+import com.zsmartsystems.zigbee.zcl.clusters.onoff.OnCommand;
+import com.zsmartsystems.zigbee.zdo.field.NodeDescriptor;
+import com.zsmartsystems.zigbee.zdo.field.NodeDescriptor.MacCapabilitiesType;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeTransactionAimdConcurrencyPolicyTest {
+    private static int TIMEOUT = 5;
+
+    private ZigBeeTransactionQueue getQueue(String name) {
+        ZigBeeTransactionQueue queue = new ZigBeeTransactionQueue(name);
+        queue.setProfile(new ZigBeeTransactionProfile(0, 4, 0));
+        return queue;
+    }
+
+    private int getSentCount(List<ZigBeeCommand> sentCommands, int address) {
+        int count = 0;
+        synchronized (sentCommands) {
+            for (ZigBeeCommand command : sentCommands) {
+                if (command.getDestinationAddress().getAddress() == address) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private void sendState(ZigBeeTransactionManager transactionManager, List<ZigBeeCommand> sentCommands, int address,
+            ZigBeeTransportProgressState state) {
+        List<ZigBeeCommand> commands;
+        synchronized (sentCommands) {
+            commands = new ArrayList<>(sentCommands);
+        }
+        for (ZigBeeCommand command : commands) {
+            if (command.getDestinationAddress().getAddress() == address) {
+                transactionManager.receiveCommandState(command.getTransactionId(), state);
+            }
+        }
+    }
+
+    @Test
+    public void transactionManager() {
+        ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        Mockito.when(networkManager.getNotificationService()).thenReturn(new NotificationService());
+        final List<ZigBeeCommand> sentCommands = Collections.synchronizedList(new ArrayList<ZigBeeCommand>());
+        Mockito.doAnswer(new Answer<Boolean>() {
+            @Override
+            public Boolean answer(InvocationOnMock invocation) {
+                sentCommands.add((ZigBeeCommand) invocation.getArgument(0));
+                return true;
+            }
+        }).when(networkManager).sendCommand(ArgumentMatchers.any(ZigBeeCommand.class));
+
+        Set<MacCapabilitiesType> macCapabilities = new HashSet<>();
+        macCapabilities.add(MacCapabilitiesType.RECEIVER_ON_WHEN_IDLE);
+        NodeDescriptor nodeDescriptor = Mockito.mock(NodeDescriptor.class);
+        Mockito.when(nodeDescriptor.getMacCapabilities()).thenReturn(macCapabilities);
+        for (int address = 1; address <= 2; address++) {
+            ZigBeeNode node = Mockito.mock(ZigBeeNode.class);
+            Mockito.when(node.getIeeeAddress()).thenReturn(new IeeeAddress(String.format("%016X", address)));
+            Mockito.when(node.getNodeDescriptor()).thenReturn(nodeDescriptor);
+            Mockito.when(networkManager.getNode(address)).thenReturn(node);
+        }
+
+        ZigBeeTransactionManager transactionManager = new ZigBeeTransactionManager(networkManager);
+        transactionManager.setDefaultProfile(new ZigBeeTransactionProfile(0, 4, 0));
+        ZigBeeTransactionAimdConcurrencyPolicy policy = new ZigBeeTransactionAimdConcurrencyPolicy(1, 8, 16);
+        transactionManager.setConcurrencyPolicy(policy);
+
+        for (int cnt = 0; cnt < 10; cnt++) {
+            for (int address = 1; address <= 2; address++) {
+                OnCommand command = new OnCommand();
+                command.setDestinationAddress(new ZigBeeEndpointAddress(address, 1));
+                transactionManager.sendTransaction(command);
+            }
+        }
+        await().atMost(TIMEOUT, SECONDS).until(() -> sentCommands.size() == 8);
+        assertEquals(4, getSentCount(sentCommands, 1));
+        assertEquals(4, getSentCount(sentCommands, 2));
+
+        // The transport fails to send to node 1, which only limits the transactions to node 1
+        ZigBeeTransactionQueue queue1 = transactionManager.getQueue(new IeeeAddress("0000000000000001"));
+        ZigBeeTransactionQueue queue2 = transactionManager.getQueue(new IeeeAddress("0000000000000002"));
+        sendState(transactionManager, sentCommands, 1, ZigBeeTransportProgressState.TX_NAK);
+        sendState(transactionManager, sentCommands, 2, ZigBeeTransportProgressState.TX_ACK);
+        await().atMost(TIMEOUT, SECONDS).until(() -> getSentCount(sentCommands, 2) == 8);
+        await().atMost(TIMEOUT, SECONDS).until(() -> getSentCount(sentCommands, 1) == 6);
+        assertEquals(2, policy.getMaxOutstandingTransactions(queue1));
+        assertEquals(4, policy.getMaxOutstandingTransactions(queue2));
+        assertEquals(8, policy.getMaxOutstandingTransactions());
+
+        // Failures to both nodes indicate congestion, and reduce the global window
+        sendState(transactionManager, sentCommands, 2, ZigBeeTransportProgressState.TX_NAK);
+        assertEquals(4, policy.getMaxOutstandingTransactions());
+        assertEquals(2, policy.getMaxOutstandingTransactions(queue2));
+
+        transactionManager.shutdown();
+    }
+
+    @Test
+    public void globalWindow() {
+        ZigBeeTransactionAimdConcurrencyPolicy policy = new ZigBeeTransactionAimdConcurrencyPolicy(2, 8, 10);
+        ZigBeeTransactionQueue queue1 = getQueue("1");
+        ZigBeeTransactionQueue queue2 = getQueue("2");
+        assertEquals(8, policy.getMaxOutstandingTransactions());
+
+        // Failures to a single destination only reduce the window for the destination
+        policy.transportStateReceived(queue1, ZigBeeTransportProgressState.TX_NAK);
+        policy.transportStateReceived(queue1, ZigBeeTransportProgressState.TX_NAK);
+        assertEquals(8, policy.getMaxOutstandingTransactions());
+        assertEquals(2, policy.getMaxOutstandingTransactions(queue1));
+
+        policy.transportStateReceived(queue2, ZigBeeTransportProgressState.TX_NAK);
+        assertEquals(4, policy.getMaxOutstandingTransactions());
+
+        // Further failures are ignored until the window has recovered
+        policy.transportStateReceived(queue1, ZigBeeTransportProgressState.TX_NAK);
+        assertEquals(4, policy.getMaxOutstandingTransactions());
+
+        // Progress from the remote device does not affect the global window
+        policy.transportStateReceived(queue1, ZigBeeTransportProgressState.RX_NAK);
+        policy.transportStateReceived(queue1, ZigBeeTransportProgressState.RX_ACK);
+        assertEquals(4, policy.getMaxOutstandingTransactions());
+
+        // The window grows by around one each time a full window is acknowledged
+        for (int cnt = 0; cnt < 5; cnt++) {
+            policy.transportStateReceived(queue1, ZigBeeTransportProgressState.TX_ACK);
+        }
+        assertEquals(5, policy.getMaxOutstandingTransactions());
+
+        for (int cnt = 0; cnt < 100; cnt++) {
+            policy.transportStateReceived(queue2, ZigBeeTransportProgressState.TX_ACK);
+        }
+        assertEquals(10, policy.getMaxOutstandingTransactions());
+
+        for (int cnt = 0; cnt < 100; cnt++) {
+            policy.transportStateReceived(cnt % 2 == 0 ? queue1 : queue2, ZigBeeTransportProgressState.TX_NAK);
+            policy.transportStateReceived(queue1, ZigBeeTransportProgressState.TX_ACK);
+        }
+        assertEquals(2, policy.getMaxOutstandingTransactions());
+
+        // Failures that can't be attributed to a destination reduce the global window
+        policy = new ZigBeeTransactionAimdConcurrencyPolicy(2, 8, 10);
+        policy.transportStateReceived(null, ZigBeeTransportProgressState.TX_NAK);
+        assertEquals(4, policy.getMaxOutstandingTransactions());
+    }
+
+    @Test
+    public void queueWindow() {
+        ZigBeeTransactionAimdConcurrencyPolicy policy = new ZigBeeTransactionAimdConcurrencyPolicy();
+        ZigBeeTransactionQueue queue = new ZigBeeTransactionQueue("Test");
+        queue.setProfile(new ZigBeeTransactionProfile(0, 4, 0));
+        assertEquals(4, policy.getMaxOutstandingTransactions(queue));
+
+        policy.transactionComplete(queue, TransactionState.COMPLETE);
+        assertEquals(4, policy.getMaxOutstandingTransactions(queue));
+
+        policy.transactionComplete(queue, TransactionState.FAILED);
+        assertEquals(2, policy.getMaxOutstandingTransactions(queue));
+
+        for (int cnt = 0; cnt < 10; cnt++) {
+            policy.transactionComplete(queue, TransactionState.COMPLETE);
+        }
+        assertEquals(4, policy.getMaxOutstandingTransactions(queue));
+
+        policy.transportStateReceived(queue, ZigBeeTransportProgressState.TX_NAK);
+        assertEquals(2, policy.getMaxOutstandingTransactions(queue));
+        policy.queueRemoved(queue);
+        assertEquals(4, policy.getMaxOutstandingTransactions(queue));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidLimits() {
+        new ZigBeeTransactionAimdConcurrencyPolicy(0, 5, 10);
+    }
+}
@@ -20,6 +20,9 @@ import java.util.concurrent.TimeoutException;
 
 import com.zsmartsystems.zigbee.ZigBeeStatus;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
 
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.TestUtilities;
@@ -127,4 +130,37 @@ public class ZigBeeTransactionFutureTest {
         assertTrue(finishLatch.await(TIMEOUT, TimeUnit.MILLISECONDS));
     }
 
+    @Test
+    public void testListener() {
+        ZigBeeTransactionFuture future = new ZigBeeTransactionFuture();
+        ZigBeeTransactionFutureListener listener = Mockito.mock(ZigBeeTransactionFutureListener.class);
+        future.addListener(listener);
+        Mockito.verify(listener, Mockito.never()).transactionComplete(ArgumentMatchers.any());
+
+        CommandResult result = new CommandResult(ZigBeeStatus.SUCCESS, null);
+        future.set(result);
+        Mockito.verify(listener, Mockito.times(1)).transactionComplete(result);
+
+        // Listeners are only notified once
+        future.set(new CommandResult(ZigBeeStatus.FAILURE, null));
+        Mockito.verify(listener, Mockito.times(1)).transactionComplete(ArgumentMatchers.any());
+
+        // A listener added once the transaction is complete is notified immediately
+        ZigBeeTransactionFutureListener lateListener = Mockito.mock(ZigBeeTransactionFutureListener.class);
+        future.addListener(lateListener);
+        Mockito.verify(lateListener, Mockito.times(1)).transactionComplete(ArgumentMatchers.any());
+    }
+
+    @Test
+    public void testListenerCancel() {
+        ZigBeeTransactionFuture future = new ZigBeeTransactionFuture();
+        ZigBeeTransactionFutureListener listener = Mockito.mock(ZigBeeTransactionFutureListener.class);
+        future.addListener(listener);
+
+        ArgumentCaptor<CommandResult> resultCaptor = ArgumentCaptor.forClass(CommandResult.class);
+        future.cancel(true);
+        Mockito.verify(listener, Mockito.times(1)).transactionComplete(resultCaptor.capture());
+        assertTrue(resultCaptor.getValue().isError());
+        assertNull(resultCaptor.getValue().getResponse());
+    }
 }
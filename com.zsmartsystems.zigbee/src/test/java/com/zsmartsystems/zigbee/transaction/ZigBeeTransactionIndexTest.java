@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.zsmartsystems.zigbee.ZigBeeCommand;
+import com.zsmartsystems.zigbee.ZigBeeEndpointAddress;
+import com.zsmartsystems.zigbee.zcl.ZclCommand;
+import com.zsmartsystems.zigbee.zcl.ZclTransactionMatcher;
+import com.zsmartsystems.zigbee.zcl.clusters.general.ReadAttributesCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.general.ReadAttributesResponse;
+import com.zsmartsystems.zigbee.zdo.command.ManagementLqiRequest;
+import com.zsmartsystems.zigbee.zdo.command.ManagementLqiResponse;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeTransactionIndexTest {
+    private static final int OUTSTANDING = 256;
+
+    private ZigBeeTransaction getZclTransaction(int address, int transactionId) {
+        ZclCommand command = new ReadAttributesCommand(Collections.singletonList(0));
+        command.setClusterId(6);
+        command.setDestinationAddress(new ZigBeeEndpointAddress(address, 1));
+        command.setTransactionId(transactionId);
+        return new ZigBeeTransaction(null, command, new ZclTransactionMatcher());
+    }
+
+    private ZigBeeCommand getZclResponse(int address, int endpoint, int transactionId) {
+        ZclCommand response = new ReadAttributesResponse(Collections.emptyList());
+        response.setClusterId(6);
+        response.setSourceAddress(new ZigBeeEndpointAddress(address, endpoint));
+        response.setTransactionId(transactionId);
+        return response;
+    }
+
+    @Test
+    public void zclResponses() {
+        ZigBeeTransactionIndex index = new ZigBeeTransactionIndex();
+
+        List<ZigBeeTransaction> transactions = new ArrayList<>();
+        for (int cnt = 0; cnt < OUTSTANDING; cnt++) {
+            ZigBeeTransaction transaction = getZclTransaction(0x1000 + cnt, cnt & 0xFF);
+            transactions.add(transaction);
+            index.add(transaction);
+        }
+
+        // Each response is only offered to the transaction it completes
+        for (int cnt = 0; cnt < OUTSTANDING; cnt++) {
+            ZigBeeCommand response = getZclResponse(0x1000 + cnt, 1, cnt & 0xFF);
+            List<ZigBeeTransaction> candidates = index.getResponseCandidates(response);
+            assertEquals(Collections.singletonList(transactions.get(cnt)), candidates);
+            assertTrue(new ZclTransactionMatcher().isTransactionMatch(candidates.get(0).getCommand(), response));
+        }
+
+        // Responses from a different endpoint, or with a different transaction ID are not offered to any transaction
+        assertTrue(index.getResponseCandidates(getZclResponse(0x1000, 2, 0)).isEmpty());
+        assertTrue(index.getResponseCandidates(getZclResponse(0x1000, 1, 1)).isEmpty());
+
+        index.remove(transactions.get(0));
+        assertTrue(index.getResponseCandidates(getZclResponse(0x1000, 1, 0)).isEmpty());
+    }
+
+    @Test
+    public void zdoResponses() {
+        ZigBeeTransactionIndex index = new ZigBeeTransactionIndex();
+
+        ManagementLqiRequest request = new ManagementLqiRequest(0);
+        request.setDestinationAddress(new ZigBeeEndpointAddress(0x1234));
+        request.setTransactionId(44);
+        ZigBeeTransaction transaction = new ZigBeeTransaction(null, request, request);
+        index.add(transaction);
+
+        ManagementLqiResponse response = new ManagementLqiResponse();
+        response.setSourceAddress(new ZigBeeEndpointAddress(0x1234));
+        response.setTransactionId(44);
+        assertEquals(Collections.singletonList(transaction), index.getResponseCandidates(response));
+
+        response.setTransactionId(45);
+        assertTrue(index.getResponseCandidates(response).isEmpty());
+    }
+
+    @Test
+    public void customMatcher() {
+        ZigBeeTransactionIndex index = new ZigBeeTransactionIndex();
+
+        ZigBeeTransaction indexed = getZclTransaction(0x1000, 1);
+        index.add(indexed);
+        ZigBeeTransaction custom = new ZigBeeTransaction(null, getZclTransaction(0x2000, 2).getCommand(),
+                Mockito.mock(ZigBeeTransactionMatcher.class));
+        index.add(custom);
+        ZigBeeTransaction noResponse = new ZigBeeTransaction(null, getZclTransaction(0x3000, 3).getCommand(), null);
+        index.add(noResponse);
+
+        // Transactions with a custom matcher are offered all commands
+        assertEquals(Collections.singletonList(custom), index.getResponseCandidates(getZclResponse(0x4000, 1, 4)));
+        List<ZigBeeTransaction> candidates = index.getResponseCandidates(getZclResponse(0x1000, 1, 1));
+        assertEquals(2, candidates.size());
+        assertTrue(candidates.contains(indexed));
+        assertTrue(candidates.contains(custom));
+
+        // All transactions receive progress updates
+        assertEquals(Collections.singletonList(noResponse), index.getProgressCandidates(3));
+
+        index.remove(custom);
+        assertTrue(index.getResponseCandidates(getZclResponse(0x4000, 1, 4)).isEmpty());
+    }
+
+    @Test
+    public void progress() {
+        ZigBeeTransactionIndex index = new ZigBeeTransactionIndex();
+
+        List<ZigBeeTransaction> transactions = new ArrayList<>();
+        for (int cnt = 0; cnt < OUTSTANDING; cnt++) {
+            ZigBeeTransaction transaction = getZclTransaction(0x1000 + cnt, cnt);
+            transactions.add(transaction);
+            index.add(transaction);
+        }
+
+        for (int cnt = 0; cnt < OUTSTANDING; cnt++) {
+            assertEquals(Collections.singletonList(transactions.get(cnt)), index.getProgressCandidates(cnt));
+        }
+        assertTrue(index.getProgressCandidates(OUTSTANDING).isEmpty());
+
+        // Adding a transaction again updates the index
+        transactions.get(10).getCommand().setTransactionId(500);
+        index.add(transactions.get(10));
+        assertTrue(index.getProgressCandidates(10).isEmpty());
+        assertEquals(Collections.singletonList(transactions.get(10)), index.getProgressCandidates(500));
+    }
+}
@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transaction;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeeTransactionLatencyTest {
+    @Test
+    public void record() {
+        ZigBeeTransactionLatency latency = new ZigBeeTransactionLatency();
+        assertEquals(0, latency.getCount());
+        assertEquals(latency.getBucketLimits().length + 1, latency.getCounts().length);
+
+        latency.record(0);
+        latency.record(10);
+        latency.record(11);
+        latency.record(1000000);
+
+        long[] counts = latency.getCounts();
+        assertEquals(2, counts[0]);
+        assertEquals(1, counts[1]);
+        assertEquals(1, counts[counts.length - 1]);
+        assertEquals(4, latency.getCount());
+
+        latency.reset();
+        assertEquals(0, latency.getCount());
+    }
+}
@@ -16,6 +16,8 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -23,12 +25,15 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledFuture;
 
 import org.junit.Test;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import com.zsmartsystems.zigbee.CommandResult;
 import com.zsmartsystems.zigbee.IeeeAddress;
@@ -42,6 +47,8 @@ import com.zsmartsystems.zigbee.ZigBeeNode;
 import com.zsmartsystems.zigbee.internal.NotificationService;
 import com.zsmartsystems.zigbee.transaction.ZigBeeTransaction.TransactionState;
 import com.zsmartsystems.zigbee.transport.ZigBeeTransportProgressState;
+import com.zsmartsystems.zigbee.zcl.clusters.onoff.OnCommand;
+import com.zsmartsystems.zigbee.zdo.command.NodeDescriptorRequest;
 import com.zsmartsystems.zigbee.zdo.field.NodeDescriptor;
 import com.zsmartsystems.zigbee.zdo.field.NodeDescriptor.MacCapabilitiesType;
 
@@ -209,6 +216,8 @@ public class ZigBeeTransactionManagerTest {
         ZigBeeTransaction transaction = Mockito.mock(ZigBeeTransaction.class);
         Mockito.when(transaction.getIeeeAddress()).thenReturn(new IeeeAddress("1234567890ABCDEF"));
         Mockito.when(transaction.getDestinationAddress()).thenReturn(address);
+        Mockito.when(transaction.getTransactionId()).thenReturn(123);
+        Mockito.when(transaction.getResponseMatcher()).thenReturn(Mockito.mock(ZigBeeTransactionMatcher.class));
 
         IeeeAddress ieeeAddress = new IeeeAddress("1234567890ABCDEF");
         ZigBeeTransactionQueue queue = Mockito.mock(ZigBeeTransactionQueue.class);
@@ -244,6 +253,48 @@ public class ZigBeeTransactionManagerTest {
         Mockito.verify(queue, Mockito.times(1)).shutdown();
     }
 
+    @Test
+    public void receiveWithBlockedNotificationService() throws Exception {
+        // A notification service with a single thread, which is blocked by a listener
+        NotificationService notificationService = new NotificationService(1, 10);
+        final CountDownLatch listenerLatch = new CountDownLatch(1);
+        notificationService.execute(this, new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    listenerLatch.await();
+                } catch (InterruptedException e) {
+                }
+            }
+        });
+
+        ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        Mockito.when(networkManager.getNotificationService()).thenReturn(notificationService);
+        ZigBeeTransactionManager transactionManager = new ZigBeeTransactionManager(networkManager);
+
+        ZigBeeAddress address = new ZigBeeEndpointAddress(0, 0);
+        ZigBeeTransaction transaction = Mockito.mock(ZigBeeTransaction.class);
+        Mockito.when(transaction.getIeeeAddress()).thenReturn(new IeeeAddress("1234567890ABCDEF"));
+        Mockito.when(transaction.getDestinationAddress()).thenReturn(address);
+        Mockito.when(transaction.getTransactionId()).thenReturn(123);
+        Mockito.when(transaction.getResponseMatcher()).thenReturn(Mockito.mock(ZigBeeTransactionMatcher.class));
+        TestUtilities.invokeMethod(ZigBeeTransactionManager.class, transactionManager, "addTransactionListener",
+                ZigBeeTransaction.class, transaction);
+
+        // Transactions are still notified while the listener blocks the notification service
+        ZigBeeCommand command = getCommand(123);
+        transactionManager.receive(command);
+        Mockito.verify(transaction, Mockito.timeout(TIMEOUT)).commandReceived(command);
+
+        transactionManager.receiveCommandState(123, ZigBeeTransportProgressState.RX_ACK);
+        Mockito.verify(transaction, Mockito.timeout(TIMEOUT))
+                .transactionStatusReceived(ZigBeeTransportProgressState.RX_ACK, 123);
+
+        listenerLatch.countDown();
+        transactionManager.shutdown();
+        notificationService.shutdown(0);
+    }
+
     @Test
     public void receiveNak() throws Exception {
         ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
@@ -251,6 +302,8 @@ public class ZigBeeTransactionManagerTest {
         ZigBeeTransactionManager transactionManager = new ZigBeeTransactionManager(networkManager);
 
         ZigBeeTransaction transaction = Mockito.mock(ZigBeeTransaction.class);
+        Mockito.when(transaction.getTransactionId()).thenReturn(123);
+        Mockito.when(transaction.getResponseMatcher()).thenReturn(Mockito.mock(ZigBeeTransactionMatcher.class));
 
         IeeeAddress ieeeAddress = new IeeeAddress("1234567890ABCDEF");
         ZigBeeTransactionQueue queue = Mockito.mock(ZigBeeTransactionQueue.class);
@@ -323,20 +376,160 @@ public class ZigBeeTransactionManagerTest {
         nodeQueue.put(new IeeeAddress("2222222222222222"), queue2);
         nodeQueue.put(new IeeeAddress("3333333333333333"), queue3);
 
-        List<ZigBeeTransactionQueue> outstandingQueues = new ArrayList<>();
-        outstandingQueues.add(queue1);
-        outstandingQueues.add(queue2);
-        outstandingQueues.add(queue3);
-
         TestUtilities.setField(ZigBeeTransactionManager.class, transactionManager, "nodeQueue", nodeQueue);
-        TestUtilities.setField(ZigBeeTransactionManager.class, transactionManager, "outstandingQueues",
-                outstandingQueues);
+        TestUtilities.invokeMethod(ZigBeeTransactionManager.class, transactionManager, "scheduleQueue",
+                ZigBeeTransactionQueue.class, queue2);
+        TestUtilities.invokeMethod(ZigBeeTransactionManager.class, transactionManager, "scheduleQueue",
+                ZigBeeTransactionQueue.class, queue3);
+        TestUtilities.invokeMethod(ZigBeeTransactionManager.class, transactionManager, "scheduleQueue",
+                ZigBeeTransactionQueue.class, queue1);
         TestUtilities.invokeMethod(ZigBeeTransactionManager.class, transactionManager, "sendNextTransaction");
 
         assertFalse(delayCapture.isEmpty());
         assertEquals(Long.valueOf(111), delayCapture.get(0));
     }
 
+    @Test
+    public void priorityScheduling() throws Exception {
+        ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        ZigBeeTransactionManager transactionManager = new ZigBeeTransactionManager(networkManager);
+
+        Map<ZigBeeTransactionQueue, ZigBeeTransactionPriority> priorities = new HashMap<>();
+        Map<ZigBeeTransactionPriority, Integer> selections = new HashMap<>();
+        for (ZigBeeTransactionPriority priority : ZigBeeTransactionPriority.values()) {
+            for (int cnt = 0; cnt < 2; cnt++) {
+                ZigBeeTransactionQueue queue = Mockito.mock(ZigBeeTransactionQueue.class);
+                Mockito.when(queue.getPriority()).thenReturn(priority);
+                priorities.put(queue, priority);
+                TestUtilities.invokeMethod(ZigBeeTransactionManager.class, transactionManager, "scheduleQueue",
+                        ZigBeeTransactionQueue.class, queue);
+            }
+            selections.put(priority, 0);
+        }
+
+        // Each priority class is served in proportion to its weight
+        for (int cnt = 0; cnt < 150; cnt++) {
+            ZigBeeTransactionQueue queue = (ZigBeeTransactionQueue) TestUtilities
+                    .invokeMethod(ZigBeeTransactionManager.class, transactionManager, "selectQueue");
+            ZigBeeTransactionPriority priority = priorities.get(queue);
+            selections.put(priority, selections.get(priority) + 1);
+            TestUtilities.invokeMethod(ZigBeeTransactionManager.class, transactionManager, "scheduleQueue",
+                    ZigBeeTransactionQueue.class, queue);
+        }
+
+        assertEquals(Integer.valueOf(80), selections.get(ZigBeeTransactionPriority.INTERACTIVE));
+        assertEquals(Integer.valueOf(40), selections.get(ZigBeeTransactionPriority.NORMAL));
+        assertEquals(Integer.valueOf(20), selections.get(ZigBeeTransactionPriority.BULK));
+        assertEquals(Integer.valueOf(10), selections.get(ZigBeeTransactionPriority.BACKGROUND));
+    }
+
+    @Test
+    public void interactiveOvertakesDiscovery() throws Exception {
+        ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        Mockito.when(networkManager.getNotificationService()).thenReturn(new NotificationService());
+        final List<ZigBeeCommand> sentCommands = Collections.synchronizedList(new ArrayList<ZigBeeCommand>());
+        Mockito.doAnswer(new Answer<Boolean>() {
+            @Override
+            public Boolean answer(InvocationOnMock invocation) {
+                sentCommands.add((ZigBeeCommand) invocation.getArgument(0));
+                return true;
+            }
+        }).when(networkManager).sendCommand(ArgumentMatchers.any(ZigBeeCommand.class));
+
+        Set<MacCapabilitiesType> macCapabilities = new HashSet<>();
+        macCapabilities.add(MacCapabilitiesType.RECEIVER_ON_WHEN_IDLE);
+        NodeDescriptor nodeDescriptor = Mockito.mock(NodeDescriptor.class);
+        Mockito.when(nodeDescriptor.getMacCapabilities()).thenReturn(macCapabilities);
+        for (int address = 1; address <= 21; address++) {
+            ZigBeeNode node = Mockito.mock(ZigBeeNode.class);
+            Mockito.when(node.getIeeeAddress()).thenReturn(new IeeeAddress(String.format("%016X", address)));
+            Mockito.when(node.getNodeDescriptor()).thenReturn(nodeDescriptor);
+            Mockito.when(networkManager.getNode(address)).thenReturn(node);
+        }
+
+        ZigBeeTransactionManager transactionManager = new ZigBeeTransactionManager(networkManager);
+        transactionManager.setMaxOutstandingTransactions(1);
+
+        // Build a backlog of discovery requests to different nodes
+        for (int address = 1; address <= 20; address++) {
+            NodeDescriptorRequest request = new NodeDescriptorRequest(address);
+            request.setDestinationAddress(new ZigBeeEndpointAddress(address));
+            request.setPriority(ZigBeeTransactionPriority.BACKGROUND);
+            transactionManager.sendTransaction(request);
+        }
+        await().atMost(TIMEOUT, SECONDS).until(() -> sentCommands.size() == 1);
+
+        OnCommand interactiveCommand = new OnCommand();
+        interactiveCommand.setDestinationAddress(new ZigBeeEndpointAddress(21, 1));
+        interactiveCommand.setPriority(ZigBeeTransactionPriority.INTERACTIVE);
+        transactionManager.sendTransaction(interactiveCommand);
+
+        // The interactive command is sent as soon as the outstanding discovery request completes
+        transactionManager.receiveCommandState(sentCommands.get(0).getTransactionId(),
+                ZigBeeTransportProgressState.TX_ACK);
+        await().atMost(TIMEOUT, SECONDS).until(() -> sentCommands.size() == 2);
+        assertEquals(interactiveCommand, sentCommands.get(1));
+
+        // The discovery backlog is then sent
+        for (int cnt = 1; cnt < 20; cnt++) {
+            final int sent = cnt + 2;
+            transactionManager.receiveCommandState(sentCommands.get(cnt).getTransactionId(),
+                    ZigBeeTransportProgressState.TX_ACK);
+            await().atMost(TIMEOUT, SECONDS).until(() -> sentCommands.size() == sent);
+        }
+        transactionManager.receiveCommandState(sentCommands.get(20).getTransactionId(),
+                ZigBeeTransportProgressState.TX_ACK);
+        for (ZigBeeCommand command : sentCommands) {
+            if (command != interactiveCommand) {
+                assertTrue(command instanceof NodeDescriptorRequest);
+            }
+        }
+
+        transactionManager.shutdown();
+    }
+
+    @Test
+    public void concurrencyPolicy() throws Exception {
+        ZigBeeNetworkManager networkManager = Mockito.mock(ZigBeeNetworkManager.class);
+        Mockito.when(networkManager.getNotificationService()).thenReturn(new NotificationService());
+        ZigBeeTransactionManager transactionManager = new ZigBeeTransactionManager(networkManager);
+        transactionManager.setDefaultProfile(new ZigBeeTransactionProfile(0, 5, 0));
+
+        ZigBeeTransactionConcurrencyPolicy policy = Mockito.mock(ZigBeeTransactionConcurrencyPolicy.class);
+        Mockito.when(policy.getMaxOutstandingTransactions()).thenReturn(1);
+        Mockito.when(policy.getMaxOutstandingTransactions(ArgumentMatchers.any(ZigBeeTransactionQueue.class)))
+                .thenReturn(5);
+        transactionManager.setConcurrencyPolicy(policy);
+        assertEquals(policy, transactionManager.getConcurrencyPolicy());
+
+        ZigBeeNode node = Mockito.mock(ZigBeeNode.class);
+        Mockito.when(node.getIeeeAddress()).thenReturn(new IeeeAddress("1111111111111111"));
+        Mockito.when(networkManager.getNode(111)).thenReturn(node);
+
+        ZigBeeTransactionMatcher responseMatcher = Mockito.mock(ZigBeeTransactionMatcher.class);
+        ZigBeeCommand command1 = getCommand(111);
+        Mockito.when(command1.getTransactionId()).thenReturn(99);
+        transactionManager.sendTransaction(command1, responseMatcher);
+        ZigBeeCommand command2 = getCommand(111);
+        transactionManager.sendTransaction(command2, responseMatcher);
+
+        // Only one transaction may be outstanding
+        Mockito.verify(networkManager, Mockito.times(1)).sendCommand(command1);
+        Mockito.verify(networkManager, Mockito.never()).sendCommand(command2);
+
+        transactionManager.receiveCommandState(99, ZigBeeTransportProgressState.TX_NAK);
+        Mockito.verify(policy, Mockito.times(1)).transportStateReceived(
+                ArgumentMatchers.any(ZigBeeTransactionQueue.class),
+                ArgumentMatchers.eq(ZigBeeTransportProgressState.TX_NAK));
+        Mockito.verify(policy, Mockito.timeout(TIMEOUT).times(1))
+                .transactionComplete(ArgumentMatchers.any(ZigBeeTransactionQueue.class),
+                        ArgumentMatchers.eq(TransactionState.FAILED));
+        Mockito.verify(networkManager, Mockito.timeout(TIMEOUT).times(1)).sendCommand(command2);
+
+        transactionManager.removeNode(new IeeeAddress("1111111111111111"));
+        Mockito.verify(policy, Mockito.times(1)).queueRemoved(ArgumentMatchers.any(ZigBeeTransactionQueue.class));
+    }
+
     @Test
     public void testSleepyManagement() throws Exception {
         // This test sets the max sleepy transactions to 2, then fills the queue with 3 frames and makes sure only 2 are
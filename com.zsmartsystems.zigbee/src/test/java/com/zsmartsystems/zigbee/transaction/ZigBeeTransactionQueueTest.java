@@ -143,4 +143,36 @@ public class ZigBeeTransactionQueueTest {
 
         assertEquals(newAddress, rewrittenTransaction.getDestinationAddress().getAddress());
     }
+
+    @Test
+    public void testPriority() {
+        ZigBeeTransactionQueue queue = new ZigBeeTransactionQueue("QueueName");
+        queue.setProfile(new ZigBeeTransactionProfile(2, 3, 0));
+        assertNull(queue.getPriority());
+
+        ZigBeeCommand bulkCommand = new ZigBeeCommand();
+        bulkCommand.setPriority(ZigBeeTransactionPriority.BULK);
+        ZigBeeTransaction bulk = new ZigBeeTransaction(mock(ZigBeeTransactionManager.class), bulkCommand,
+                mock(ZigBeeTransactionMatcher.class));
+        ZigBeeTransaction normal = new ZigBeeTransaction(mock(ZigBeeTransactionManager.class), new ZigBeeCommand(),
+                mock(ZigBeeTransactionMatcher.class));
+        ZigBeeCommand interactiveCommand = new ZigBeeCommand();
+        interactiveCommand.setPriority(ZigBeeTransactionPriority.INTERACTIVE);
+        ZigBeeTransaction interactive = new ZigBeeTransaction(mock(ZigBeeTransactionManager.class),
+                interactiveCommand, mock(ZigBeeTransactionMatcher.class));
+
+        queue.addToQueue(bulk);
+        assertEquals(ZigBeeTransactionPriority.BULK, queue.getPriority());
+        queue.addToQueue(normal);
+        queue.addToQueue(interactive);
+        assertEquals(ZigBeeTransactionPriority.INTERACTIVE, queue.getPriority());
+        assertEquals(3, queue.size());
+
+        assertEquals(interactive, queue.getTransaction());
+        assertEquals(normal, queue.getTransaction());
+        assertEquals(ZigBeeTransactionPriority.BULK, queue.getPriority());
+        assertEquals(bulk, queue.getTransaction());
+        assertTrue(queue.isEmpty());
+        assertNull(queue.getPriority());
+    }
 }
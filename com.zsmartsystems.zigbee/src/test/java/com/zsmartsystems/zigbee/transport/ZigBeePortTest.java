@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.transport;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.Test;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZigBeePortTest {
+    class TestPort implements ZigBeePort {
+        List<Integer> written = new ArrayList<>();
+        Queue<Integer> input = new LinkedList<>();
+
+        @Override
+        public boolean open() {
+            return true;
+        }
+
+        @Override
+        public boolean open(int baudRate) {
+            return true;
+        }
+
+        @Override
+        public boolean open(int baudRate, FlowControl flowControl) {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void write(int value) {
+            written.add(value);
+        }
+
+        @Override
+        public int read() {
+            return read(0);
+        }
+
+        @Override
+        public int read(int timeout) {
+            Integer value = input.poll();
+            return value == null ? -1 : value;
+        }
+
+        @Override
+        public void purgeRxBuffer() {
+        }
+    }
+
+    @Test
+    public void writeArray() {
+        TestPort port = new TestPort();
+
+        port.write(new byte[] { 0x01, (byte) 0xFF, 0x7E });
+        assertEquals(Arrays.asList(0x01, 0xFF, 0x7E), port.written);
+
+        port.written.clear();
+        port.write(new byte[] { 0x01, 0x02, 0x03, 0x04 }, 1, 2);
+        assertEquals(Arrays.asList(0x02, 0x03), port.written);
+    }
+
+    @Test
+    public void writeByteBuffer() {
+        TestPort port = new TestPort();
+
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[] { 0x01, 0x02, 0x03, 0x04 });
+        buffer.get();
+        port.write(buffer);
+        assertEquals(Arrays.asList(0x02, 0x03, 0x04), port.written);
+        assertEquals(0, buffer.remaining());
+
+        port.written.clear();
+        buffer = ByteBuffer.allocateDirect(2);
+        buffer.put((byte) 0x80);
+        buffer.put((byte) 0x81);
+        buffer.flip();
+        port.write(buffer);
+        assertEquals(Arrays.asList(0x80, 0x81), port.written);
+        assertEquals(0, buffer.remaining());
+    }
+
+    @Test
+    public void readArray() {
+        TestPort port = new TestPort();
+        port.input.add(0xAA);
+        port.input.add(0x55);
+
+        byte[] data = new byte[4];
+        assertEquals(1, port.read(data, 1, 3, 0));
+        assertEquals((byte) 0xAA, data[1]);
+        assertEquals(1, port.read(data, 2, 3, 0));
+        assertEquals(0x55, data[2]);
+        assertEquals(0, port.read(data, 0, 4, 0));
+        assertEquals(0, port.read(data, 0, 0, 0));
+    }
+}
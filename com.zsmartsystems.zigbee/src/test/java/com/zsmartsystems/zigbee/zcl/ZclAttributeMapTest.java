@@ -0,0 +1,199 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.zcl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.zsmartsystems.zigbee.ZigBeeEndpoint;
+import com.zsmartsystems.zigbee.zcl.clusters.ZclOnOffCluster;
+import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZclAttributeMapTest {
+    private Map<Integer, ZclAttributeDescriptor> getDescriptors() {
+        Map<Integer, ZclAttributeDescriptor> descriptors = new TreeMap<>();
+        descriptors.put(0, new ZclAttributeDescriptor(0, "Attribute 0", ZclDataType.BOOLEAN, true, true, false, true));
+        descriptors.put(1, new ZclAttributeDescriptor(1, "Attribute 1", ZclDataType.UNSIGNED_8_BIT_INTEGER, false,
+                true, true, false));
+        descriptors.put(5, new ZclAttributeDescriptor(5, "Attribute 5", ZclDataType.SIGNED_16_BIT_INTEGER, false, true,
+                false, false, 0x1234));
+        return descriptors;
+    }
+
+    @Test
+    public void get() {
+        ZclCluster cluster = Mockito.mock(ZclCluster.class);
+        ZclAttributeMap map = new ZclAttributeMap(cluster, getDescriptors());
+
+        assertTrue(map.getAllocatedAttributes().isEmpty());
+        assertEquals(3, map.size());
+        assertTrue(map.containsKey(1));
+        assertFalse(map.containsKey(2));
+        assertTrue(map.getAllocatedAttributes().isEmpty());
+
+        ZclAttribute attribute = map.get(1);
+        assertEquals(1, attribute.getId());
+        assertEquals("Attribute 1", attribute.getName());
+        assertEquals(ZclDataType.UNSIGNED_8_BIT_INTEGER, attribute.getDataType());
+        assertFalse(attribute.isMandatory());
+        assertTrue(attribute.isWritable());
+        assertFalse(attribute.isManufacturerSpecific());
+        assertSame(attribute, map.get(1));
+        assertEquals(1, map.getAllocatedAttributes().size());
+
+        attribute = map.get(5);
+        assertEquals(Integer.valueOf(0x1234), attribute.getManufacturerCode());
+
+        assertNull(map.get(2));
+        assertEquals(2, map.getAllocatedAttributes().size());
+    }
+
+    @Test
+    public void put() {
+        ZclCluster cluster = Mockito.mock(ZclCluster.class);
+        ZclAttributeMap map = new ZclAttributeMap(cluster, getDescriptors());
+
+        ZclAttribute attribute = new ZclAttribute(cluster, 0xF000, "Manufacturer", ZclDataType.BOOLEAN, false, true,
+                false, false, 0x1234);
+        assertNull(map.put(0xF000, attribute));
+        assertSame(attribute, map.get(0xF000));
+        assertEquals(4, map.size());
+        assertEquals(1, map.getAllocatedAttributes().size());
+
+        ZclAttribute replacement = new ZclAttribute(cluster, 1, "Replacement", ZclDataType.BOOLEAN, false, true, false,
+                false, 0x1234);
+        assertEquals("Attribute 1", map.put(1, replacement).getName());
+        assertSame(replacement, map.get(1));
+        assertEquals(4, map.size());
+
+        // The previous mapping is returned
+        ZclAttribute attribute0 = map.get(0);
+        assertSame(attribute0, map.put(0, replacement));
+        assertSame(replacement, map.put(1, attribute));
+    }
+
+    @Test
+    public void iterate() {
+        ZclCluster cluster = Mockito.mock(ZclCluster.class);
+        ZclAttributeMap map = new ZclAttributeMap(cluster, getDescriptors());
+        map.put(3, new ZclAttribute(cluster, 3, "Attribute 3", ZclDataType.BOOLEAN, false, true, false, false));
+
+        assertEquals(Arrays.asList(0, 1, 3, 5), new ArrayList<>(map.keySet()));
+
+        List<Integer> ids = new ArrayList<>();
+        for (ZclAttribute attribute : map.values()) {
+            ids.add(attribute.getId());
+        }
+        assertEquals(Arrays.asList(0, 1, 3, 5), ids);
+        assertEquals(4, map.getAllocatedAttributes().size());
+    }
+
+    @Test
+    public void remove() {
+        ZclCluster cluster = Mockito.mock(ZclCluster.class);
+        ZclAttributeMap map = new ZclAttributeMap(cluster, getDescriptors());
+        ZclAttribute attribute = new ZclAttribute(cluster, 0xF000, "Manufacturer", ZclDataType.BOOLEAN, false, true,
+                false, false, 0x1234);
+        map.put(0xF000, attribute);
+
+        ZclAttribute attribute1 = map.get(1);
+        assertSame(attribute1, map.remove(1));
+        assertFalse(map.containsKey(1));
+        assertNull(map.get(1));
+        assertNull(map.remove(1));
+        assertEquals(3, map.size());
+
+        // Attributes that have not been created are returned when removed
+        assertEquals("Attribute 5", map.remove(5).getName());
+        assertNull(map.get(5));
+        assertSame(attribute, map.remove(0xF000));
+        assertEquals(Arrays.asList(0), new ArrayList<>(map.keySet()));
+        assertTrue(map.getAllocatedAttributes().isEmpty());
+
+        // A removed attribute may be added again
+        ZclAttribute replacement = new ZclAttribute(cluster, 1, "Replacement", ZclDataType.BOOLEAN, false, true, false,
+                false, 0x1234);
+        assertNull(map.put(1, replacement));
+        assertSame(replacement, map.get(1));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    public void clear() {
+        ZclCluster cluster = Mockito.mock(ZclCluster.class);
+        ZclAttributeMap map = new ZclAttributeMap(cluster, getDescriptors());
+        map.get(1);
+        map.put(3, new ZclAttribute(cluster, 3, "Attribute 3", ZclDataType.BOOLEAN, false, true, false, false));
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertEquals(0, map.size());
+        assertNull(map.get(0));
+        assertNull(map.get(3));
+        assertTrue(map.keySet().isEmpty());
+        assertTrue(map.getAllocatedAttributes().isEmpty());
+    }
+
+    @Test
+    public void iteratorRemove() {
+        ZclCluster cluster = Mockito.mock(ZclCluster.class);
+        ZclAttributeMap map = new ZclAttributeMap(cluster, getDescriptors());
+
+        Iterator<Integer> keys = map.keySet().iterator();
+        assertEquals(Integer.valueOf(0), keys.next());
+        keys.remove();
+        assertFalse(map.containsKey(0));
+        assertTrue(map.getAllocatedAttributes().isEmpty());
+
+        Iterator<Map.Entry<Integer, ZclAttribute>> entries = map.entrySet().iterator();
+        assertEquals(Integer.valueOf(1), entries.next().getKey());
+        entries.remove();
+        assertEquals(Arrays.asList(5), new ArrayList<>(map.keySet()));
+
+        assertTrue(map.keySet().remove(5));
+        assertFalse(map.keySet().remove(5));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void sharedDescriptors() {
+        ZigBeeEndpoint endpoint = Mockito.mock(ZigBeeEndpoint.class);
+        ZclOnOffCluster cluster1 = new ZclOnOffCluster(endpoint);
+        ZclOnOffCluster cluster2 = new ZclOnOffCluster(endpoint);
+
+        ZclAttribute attribute1 = cluster1.getAttribute(ZclOnOffCluster.ATTR_ONOFF);
+        ZclAttribute attribute2 = cluster2.getAttribute(ZclOnOffCluster.ATTR_ONOFF);
+        assertFalse(attribute1 == attribute2);
+        assertEquals(attribute1.getName(), attribute2.getName());
+
+        attribute1.updateValue(Boolean.TRUE);
+        assertEquals(Boolean.TRUE, attribute1.getLastValue());
+        assertNull(attribute2.getLastValue());
+
+        // Only attributes that have been used are persisted
+        assertEquals(1, cluster1.getDao().getAttributes().size());
+    }
+}
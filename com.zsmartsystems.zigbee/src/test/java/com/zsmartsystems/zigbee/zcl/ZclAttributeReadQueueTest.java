@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.zcl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import com.zsmartsystems.zigbee.CommandResult;
+import com.zsmartsystems.zigbee.ZigBeeCommand;
+import com.zsmartsystems.zigbee.ZigBeeEndpoint;
+import com.zsmartsystems.zigbee.ZigBeeEndpointAddress;
+import com.zsmartsystems.zigbee.ZigBeeStatus;
+import com.zsmartsystems.zigbee.internal.NotificationService;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionFuture;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionMatcher;
+import com.zsmartsystems.zigbee.zcl.clusters.ZclOnOffCluster;
+import com.zsmartsystems.zigbee.zcl.clusters.general.ReadAttributesCommand;
+import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZclAttributeReadQueueTest {
+    private final List<ReadAttributesCommand> commands = new ArrayList<>();
+    private final List<ZigBeeTransactionFuture> futures = new ArrayList<>();
+
+    private ZclCluster getCluster() {
+        ZigBeeEndpoint endpoint = Mockito.mock(ZigBeeEndpoint.class);
+        Mockito.when(endpoint.getNotificationService()).thenReturn(new NotificationService());
+        Mockito.when(endpoint.getEndpointAddress()).thenReturn(new ZigBeeEndpointAddress(1234, 5));
+        Mockito.when(endpoint.sendTransaction(ArgumentMatchers.any(ZigBeeCommand.class),
+                ArgumentMatchers.any(ZigBeeTransactionMatcher.class))).thenAnswer(new Answer<Future<CommandResult>>() {
+                    @Override
+                    public Future<CommandResult> answer(InvocationOnMock invocation) {
+                        ZigBeeTransactionFuture future = new ZigBeeTransactionFuture();
+                        commands.add((ReadAttributesCommand) invocation.getArgument(0));
+                        futures.add(future);
+                        return future;
+                    }
+                });
+        return new ZclOnOffCluster(endpoint);
+    }
+
+    private void completeRead(int index) {
+        futures.get(index).set(new CommandResult(ZigBeeStatus.SUCCESS, null));
+    }
+
+    @Test
+    public void coalesce() {
+        ZclAttributeReadQueue queue = new ZclAttributeReadQueue(getCluster());
+
+        Future<CommandResult> future = queue.read(0);
+        assertEquals(1, commands.size());
+        assertEquals(Collections.singletonList(0), commands.get(0).getIdentifiers());
+
+        // An attribute requested while it is being read shares the outstanding read
+        assertEquals(future, queue.read(0));
+        assertEquals(0, queue.getQueueLength());
+        assertFalse(future.isDone());
+
+        completeRead(0);
+        assertTrue(future.isDone());
+        assertEquals(1, commands.size());
+
+        // Once complete, a new read is sent
+        assertFalse(future == queue.read(0));
+        assertEquals(2, commands.size());
+    }
+
+    @Test
+    public void batch() {
+        ZclAttributeReadQueue queue = new ZclAttributeReadQueue(getCluster());
+
+        queue.read(0);
+        for (int attributeId = 0x4000; attributeId < 0x4000 + ZclAttributeReadQueue.MAX_ATTRIBUTES_PER_READ
+                + 2; attributeId++) {
+            queue.read(attributeId);
+        }
+        assertEquals(ZclAttributeReadQueue.MAX_ATTRIBUTES_PER_READ + 2, queue.getQueueLength());
+        assertEquals(1, commands.size());
+
+        // Attributes queued while a read is outstanding are read together, limited to the maximum per command
+        completeRead(0);
+        assertEquals(2, commands.size());
+        assertEquals(ZclAttributeReadQueue.MAX_ATTRIBUTES_PER_READ, commands.get(1).getIdentifiers().size());
+        assertEquals(Integer.valueOf(0x4000), commands.get(1).getIdentifiers().get(0));
+        assertEquals(2, queue.getQueueLength());
+
+        completeRead(1);
+        assertEquals(3, commands.size());
+        assertEquals(Arrays.asList(0x4008, 0x4009), commands.get(2).getIdentifiers());
+
+        completeRead(2);
+        assertEquals(3, commands.size());
+        assertEquals(0, queue.getQueueLength());
+    }
+
+    @Test
+    public void manufacturerSpecific() {
+        ZclCluster cluster = getCluster();
+        cluster.addAttributes(new HashSet<>(Arrays.asList(
+                new ZclAttribute(cluster, 0x8000, "Test 1", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false,
+                        false, 0x1234),
+                new ZclAttribute(cluster, 0x8001, "Test 2", ZclDataType.UNSIGNED_8_BIT_INTEGER, false, true, false,
+                        false, 0x1234))));
+        ZclAttributeReadQueue queue = new ZclAttributeReadQueue(cluster);
+
+        queue.read(0);
+        queue.read(0x8000);
+        queue.read(0x4000);
+        queue.read(0x8001);
+
+        // Attributes with different manufacturer codes are not read in the same command
+        completeRead(0);
+        assertEquals(Arrays.asList(0x8000, 0x8001), commands.get(1).getIdentifiers());
+        assertEquals(Integer.valueOf(0x1234), commands.get(1).getManufacturerCode());
+
+        completeRead(1);
+        assertEquals(Collections.singletonList(0x4000), commands.get(2).getIdentifiers());
+        assertNull(commands.get(2).getManufacturerCode());
+    }
+}
@@ -97,12 +97,67 @@ public class ZclAttributeTest {
         attribute.readValue(Long.MAX_VALUE);
         Mockito.verify(cluster, Mockito.times(1)).readAttributeValue(123);
 
-        TestUtilities.setField(ZclAttribute.class, attribute, "lastReportTime", Calendar.getInstance());
+        TestUtilities.setField(ZclAttribute.class, attribute, "lastReportTime", System.currentTimeMillis());
         TestUtilities.setField(ZclAttribute.class, attribute, "lastValue", Integer.valueOf(8888));
         assertEquals(Integer.valueOf(8888), attribute.readValue(Long.MAX_VALUE));
         Mockito.verify(cluster, Mockito.times(1)).readAttributeValue(123);
     }
 
+    @Test
+    public void isReportingCurrent() throws Exception {
+        ZclCluster cluster = Mockito.mock(ZclCluster.class);
+        ZclAttribute attribute = new ZclAttribute(cluster, 123, "Test Name", ZclDataType.UNSIGNED_8_BIT_INTEGER, false,
+                false, false, false);
+
+        // Reporting must be configured and a value received
+        attribute.updateValue(Integer.valueOf(1));
+        assertFalse(attribute.isReportingCurrent());
+        attribute.updateReporting(1, 60, null, 0);
+        assertEquals(60, attribute.getMaximumReportingPeriod());
+        assertTrue(attribute.isReportingCurrent());
+
+        assertEquals(Integer.valueOf(1), attribute.readValue(0));
+        Mockito.verify(cluster, Mockito.never()).readAttributeValue(123);
+
+        // The value is no longer current once the next report is overdue
+        TestUtilities.setField(ZclAttribute.class, attribute, "lastReportTime", System.currentTimeMillis() - 70000);
+        assertFalse(attribute.isReportingCurrent());
+        attribute.readValue(0);
+        Mockito.verify(cluster, Mockito.times(1)).readAttributeValue(123);
+
+        attribute.updateValue(Integer.valueOf(2));
+        attribute.updateReporting(1, 0xFFFF, null, 0);
+        assertFalse(attribute.isReportingCurrent());
+    }
+
+    @Test
+    public void updatePrimitiveValue() {
+        ZclAttribute attribute = new ZclAttribute(new ZclOnOffCluster(null), 0, "Test Name",
+                ZclDataType.UNSIGNED_32_BIT_INTEGER, false, false, false, false);
+        assertFalse(attribute.isLastValueCurrent(Long.MAX_VALUE));
+
+        attribute.updateValue(0xFFFFFFFFL);
+        assertTrue(attribute.isLastValueCurrent(Long.MAX_VALUE));
+        assertEquals(0xFFFFFFFFL, attribute.getLastIntegerValue());
+        assertEquals(Integer.valueOf(-1), attribute.getLastValue());
+
+        attribute.updateValue(12.5);
+        assertEquals(12.5, attribute.getLastFloatValue(), 0.0);
+        assertEquals(12, attribute.getLastIntegerValue());
+        assertEquals(Double.valueOf(12.5), attribute.getLastValue());
+
+        attribute.updateValue(Integer.valueOf(123));
+        assertEquals(123, attribute.getLastIntegerValue());
+        assertEquals(123.0, attribute.getLastFloatValue(), 0.0);
+        assertEquals(Integer.valueOf(123), attribute.getLastValue());
+
+        attribute = new ZclAttribute(new ZclOnOffCluster(null), 0, "Test Name", ZclDataType.UNSIGNED_48_BIT_INTEGER,
+                false, false, false, false);
+        attribute.updateValue(0x123456789ABCL);
+        assertEquals(Long.valueOf(0x123456789ABCL), attribute.getLastValue());
+        assertEquals(Long.valueOf(0x123456789ABCL), attribute.getDao().getLastValue());
+    }
+
     @Test
     public void reportValue() {
         ZclCluster cluster = Mockito.mock(ZclCluster.class);
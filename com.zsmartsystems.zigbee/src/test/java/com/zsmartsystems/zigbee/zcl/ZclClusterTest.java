@@ -17,6 +17,7 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -26,6 +27,7 @@ import java.util.concurrent.Future;
 
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.MockSettings;
 import org.mockito.Mockito;
 
@@ -36,9 +38,12 @@ import com.zsmartsystems.zigbee.ZigBeeCommand;
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
 import com.zsmartsystems.zigbee.ZigBeeEndpointAddress;
 import com.zsmartsystems.zigbee.ZigBeeNode;
+import com.zsmartsystems.zigbee.ZigBeeStatus;
 import com.zsmartsystems.zigbee.database.ZclAttributeDao;
 import com.zsmartsystems.zigbee.database.ZclClusterDao;
 import com.zsmartsystems.zigbee.internal.NotificationService;
+import com.zsmartsystems.zigbee.serialization.DefaultDeserializer;
+import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionFuture;
 import com.zsmartsystems.zigbee.transaction.ZigBeeTransactionMatcher;
 import com.zsmartsystems.zigbee.zcl.clusters.ZclBasicCluster;
 import com.zsmartsystems.zigbee.zcl.clusters.ZclLevelControlCluster;
@@ -51,6 +56,7 @@ import com.zsmartsystems.zigbee.zcl.clusters.general.DiscoverAttributesResponse;
 import com.zsmartsystems.zigbee.zcl.clusters.general.ReadAttributesCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.general.ReadAttributesResponse;
 import com.zsmartsystems.zigbee.zcl.clusters.general.ReadReportingConfigurationCommand;
+import com.zsmartsystems.zigbee.zcl.clusters.general.ReadReportingConfigurationResponse;
 import com.zsmartsystems.zigbee.zcl.clusters.general.ReportAttributesCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.general.WriteAttributesCommand;
 import com.zsmartsystems.zigbee.zcl.clusters.general.WriteAttributesResponse;
@@ -58,6 +64,7 @@ import com.zsmartsystems.zigbee.zcl.clusters.onoff.OnCommand;
 import com.zsmartsystems.zigbee.zcl.field.AttributeRecord;
 import com.zsmartsystems.zigbee.zcl.field.AttributeReport;
 import com.zsmartsystems.zigbee.zcl.field.AttributeReportingConfigurationRecord;
+import com.zsmartsystems.zigbee.zcl.field.AttributeReportingStatusRecord;
 import com.zsmartsystems.zigbee.zcl.field.ReadAttributeStatusRecord;
 import com.zsmartsystems.zigbee.zcl.field.WriteAttributeRecord;
 import com.zsmartsystems.zigbee.zcl.field.WriteAttributeStatusRecord;
@@ -190,6 +197,74 @@ public class ZclClusterTest {
         assertEquals(0, record.getDirection());
     }
 
+    @Test
+    public void reportingConfiguration() {
+        createEndpoint();
+        ZigBeeTransactionFuture future = new ZigBeeTransactionFuture();
+        Mockito.when(endpoint.sendTransaction(commandCapture.capture(), matcherCapture.capture())).thenReturn(future);
+
+        ZclCluster cluster = new ZclOnOffCluster(endpoint);
+        ZclAttribute attribute = cluster.getAttribute(0);
+        attribute.updateReporting(0, 0, null, 120);
+        cluster.setReporting(attribute.getId(), 22, 33);
+        assertEquals(0, attribute.getMaximumReportingPeriod());
+
+        // The configuration is recorded once the remote device accepts it, keeping the existing timeout
+        future.set(new CommandResult(ZigBeeStatus.SUCCESS, new ConfigureReportingResponse(ZclStatus.SUCCESS, null)));
+        assertEquals(22, attribute.getMinimumReportingPeriod());
+        assertEquals(33, attribute.getMaximumReportingPeriod());
+        assertEquals(120, attribute.getReportingTimeout());
+
+        AttributeReportingStatusRecord record = new AttributeReportingStatusRecord();
+        record.setStatus(ZclStatus.SUCCESS);
+        record.setDirection(0);
+        record.setAttributeIdentifier(0);
+        record.setMinimumReportingInterval(5);
+        record.setMaximumReportingInterval(300);
+        record.setTimeoutPeriod(0);
+        ReadReportingConfigurationResponse response = new ReadReportingConfigurationResponse(
+                Collections.singletonList(record));
+        response.setClusterId(6);
+        response.setTransactionId(1);
+        cluster.handleCommand(response);
+        assertEquals(5, attribute.getMinimumReportingPeriod());
+        assertEquals(300, attribute.getMaximumReportingPeriod());
+    }
+
+    @Test
+    public void readAttributeValue() {
+        createEndpoint();
+        ZigBeeTransactionFuture future = new ZigBeeTransactionFuture();
+        Mockito.when(endpoint.sendTransaction(commandCapture.capture(), matcherCapture.capture())).thenReturn(future);
+
+        ZclCluster cluster = new ZclOnOffCluster(endpoint);
+        ZclAttribute attribute = cluster.getAttribute(0);
+
+        // The value is taken from the record for the attribute when several attributes are read together
+        ReadAttributeStatusRecord otherRecord = new ReadAttributeStatusRecord();
+        otherRecord.setStatus(ZclStatus.SUCCESS);
+        otherRecord.setAttributeIdentifier(0x4000);
+        otherRecord.setAttributeDataType(ZclDataType.BOOLEAN);
+        otherRecord.setAttributeValue(Boolean.FALSE);
+        ReadAttributeStatusRecord record = new ReadAttributeStatusRecord();
+        record.setStatus(ZclStatus.SUCCESS);
+        record.setAttributeIdentifier(0);
+        record.setAttributeDataType(ZclDataType.BOOLEAN);
+        record.setAttributeValue(Boolean.TRUE);
+        future.set(new CommandResult(ZigBeeStatus.SUCCESS,
+                new ReadAttributesResponse(Arrays.asList(otherRecord, record))));
+        assertEquals(Boolean.TRUE, cluster.readAttributeValue(0));
+        Mockito.verify(endpoint, Mockito.times(1)).sendTransaction(ArgumentMatchers.any(ReadAttributesCommand.class),
+                ArgumentMatchers.any(ZigBeeTransactionMatcher.class));
+
+        // A reported value is used while the attribute is reporting
+        attribute.updateReporting(1, 60, null, 0);
+        attribute.updateValue(Boolean.FALSE);
+        assertEquals(Boolean.FALSE, cluster.readAttributeValue(0));
+        Mockito.verify(endpoint, Mockito.times(1)).sendTransaction(ArgumentMatchers.any(ReadAttributesCommand.class),
+                ArgumentMatchers.any(ZigBeeTransactionMatcher.class));
+    }
+
     @Test
     public void getClusterId() {
         createEndpoint();
@@ -264,6 +339,47 @@ public class ZclClusterTest {
         assertEquals(0, attributeListeners.size());
     }
 
+    @Test
+    public void handleNumericAttributeReport() {
+        createEndpoint();
+
+        ZclCluster cluster = new ZclLevelControlCluster(endpoint);
+        ZclAttributeNumericListener numericListenerMock = Mockito.mock(ZclAttributeNumericListener.class);
+        ZclAttributeListener listenerMock = Mockito.mock(ZclAttributeListener.class);
+        cluster.addAttributeListener(numericListenerMock);
+        cluster.addAttributeListener(listenerMock);
+
+        AttributeReport report = new AttributeReport();
+        report.deserialize(new DefaultDeserializer(new int[] { 0x00, 0x00, 0x20, 0xC8 }));
+        ReportAttributesCommand attributeReport = new ReportAttributesCommand(Collections.singletonList(report));
+        attributeReport.setTransactionId(12);
+
+        cluster.handleCommand(attributeReport);
+
+        ZclAttribute attribute = cluster.getAttribute(ZclLevelControlCluster.ATTR_CURRENTLEVEL);
+        Mockito.verify(numericListenerMock, Mockito.timeout(TIMEOUT).times(1)).integerAttributeUpdated(attribute,
+                200);
+        Mockito.verify(listenerMock, Mockito.timeout(TIMEOUT).times(1)).attributeUpdated(attribute,
+                Integer.valueOf(200));
+        Mockito.verify(numericListenerMock, Mockito.never()).attributeUpdated(ArgumentMatchers.any(),
+                ArgumentMatchers.any());
+        assertEquals(200, attribute.getLastIntegerValue());
+        assertEquals(Integer.valueOf(200), attribute.getLastValue());
+
+        // Floating point values are normalised to the integer type of the attribute
+        report = new AttributeReport();
+        report.deserialize(new DefaultDeserializer(new int[] { 0x00, 0x00, 0x39, 0x00, 0x00, 0x48, 0x41 }));
+        attributeReport = new ReportAttributesCommand(Collections.singletonList(report));
+        attributeReport.setTransactionId(13);
+        cluster.handleCommand(attributeReport);
+
+        Mockito.verify(numericListenerMock, Mockito.timeout(TIMEOUT).times(1)).integerAttributeUpdated(attribute,
+                12);
+        Mockito.verify(listenerMock, Mockito.timeout(TIMEOUT).times(1)).attributeUpdated(attribute,
+                Integer.valueOf(12));
+        assertEquals(Integer.valueOf(12), attribute.getLastValue());
+    }
+
     @Test
     public void handleAttributeStatus() {
         createEndpoint();
@@ -15,8 +15,10 @@ import java.util.Arrays;
 import org.junit.Test;
 
 import com.zsmartsystems.zigbee.CommandTest;
+import com.zsmartsystems.zigbee.serialization.ByteBufferSerializer;
 import com.zsmartsystems.zigbee.serialization.DefaultDeserializer;
 import com.zsmartsystems.zigbee.serialization.DefaultSerializer;
+import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
 
 /**
  *
@@ -84,4 +86,20 @@ public class ZclHeaderTest extends CommandTest {
         ZclFieldSerializer fieldSerializer = new ZclFieldSerializer(serializer);
         assertTrue(Arrays.equals(packet, zclHeader.serialize(fieldSerializer, new int[] {})));
     }
+
+    @Test
+    public void testSerializeIntoBuffer() {
+        int[] packet = getPacketData("0C 4E 10 99 88");
+
+        ZclHeader zclHeader = new ZclHeader(new ZclFieldDeserializer(new DefaultDeserializer(packet)));
+
+        // The header is written into the serializer, and the payload follows it in the same buffer
+        ByteBufferSerializer serializer = new ByteBufferSerializer();
+        ZclFieldSerializer fieldSerializer = new ZclFieldSerializer(serializer);
+        zclHeader.serialize(fieldSerializer);
+        fieldSerializer.serialize(0x1234, ZclDataType.UNSIGNED_16_BIT_INTEGER);
+
+        assertTrue(Arrays.equals(getPacketData("0C 4E 10 99 88 34 12"), serializer.getPayload()));
+        assertEquals(7, serializer.getBuffer().remaining());
+    }
 }
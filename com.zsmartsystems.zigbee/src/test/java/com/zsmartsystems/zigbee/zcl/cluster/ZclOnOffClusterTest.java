@@ -12,10 +12,14 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.junit.Test;
 import org.mockito.Mockito;
 
 import com.zsmartsystems.zigbee.ZigBeeEndpoint;
+import com.zsmartsystems.zigbee.zcl.ZclCommand;
 import com.zsmartsystems.zigbee.zcl.ZclFrameType;
 import com.zsmartsystems.zigbee.zcl.clusters.ZclOnOffCluster;
 import com.zsmartsystems.zigbee.zcl.clusters.general.ReadAttributesCommand;
@@ -41,6 +45,26 @@ public class ZclOnOffClusterTest {
         assertTrue(cluster.getCommandFromId(ZclFrameType.ENTIRE_PROFILE_COMMAND, 0) instanceof ReadAttributesCommand);
     }
 
+    @Test
+    public void addClientCommands() {
+        ZclOnOffCluster cluster = new ZclOnOffCluster(Mockito.mock(ZigBeeEndpoint.class));
+        ZclOnOffCluster cluster2 = new ZclOnOffCluster(Mockito.mock(ZigBeeEndpoint.class));
+
+        Map<Integer, Class<? extends ZclCommand>> commands = new HashMap<>();
+        commands.put(0x0000, ToggleCommand.class);
+        commands.put(0x00F0, OnCommand.class);
+        cluster.addClientCommands(commands);
+
+        assertTrue(cluster.getCommandFromId(ZclFrameType.CLUSTER_SPECIFIC_COMMAND, 0) instanceof ToggleCommand);
+        assertTrue(cluster.getCommandFromId(ZclFrameType.CLUSTER_SPECIFIC_COMMAND, 1) instanceof OnCommand);
+        assertTrue(cluster.getCommandFromId(ZclFrameType.CLUSTER_SPECIFIC_COMMAND, 0xF0) instanceof OnCommand);
+        assertNull(cluster.getCommandFromId(ZclFrameType.CLUSTER_SPECIFIC_COMMAND, 0xF1));
+
+        // Commands added to one cluster are not added to other instances
+        assertTrue(cluster2.getCommandFromId(ZclFrameType.CLUSTER_SPECIFIC_COMMAND, 0) instanceof OffCommand);
+        assertNull(cluster2.getCommandFromId(ZclFrameType.CLUSTER_SPECIFIC_COMMAND, 0xF0));
+    }
+
     @Test
     public void get() {
         ZclOnOffCluster cluster = new ZclOnOffCluster(Mockito.mock(ZigBeeEndpoint.class));
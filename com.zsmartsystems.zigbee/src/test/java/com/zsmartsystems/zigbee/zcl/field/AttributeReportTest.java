@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.zcl.field;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.zsmartsystems.zigbee.serialization.ByteBufferDeserializer;
+import com.zsmartsystems.zigbee.serialization.DefaultDeserializer;
+import com.zsmartsystems.zigbee.serialization.ZigBeeDeserializer;
+import com.zsmartsystems.zigbee.zcl.protocol.ZclDataType;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class AttributeReportTest {
+    @Test
+    public void deserializeInteger() {
+        int[] payload = new int[] { 0x00, 0x04, 0x23, 0xFF, 0xFF, 0xFF, 0xFF };
+        testIntegerReport(new DefaultDeserializer(payload), 0xFFFFFFFFL, Integer.valueOf(-1));
+        testIntegerReport(new ByteBufferDeserializer(payload), 0xFFFFFFFFL, Integer.valueOf(-1));
+
+        payload = new int[] { 0x00, 0x04, 0x29, 0xFE, 0xFF };
+        testIntegerReport(new DefaultDeserializer(payload), -2, Integer.valueOf(-2));
+        testIntegerReport(new ByteBufferDeserializer(payload), -2, Integer.valueOf(-2));
+
+        payload = new int[] { 0x00, 0x04, 0x25, 0x01, 0x02, 0x03, 0x04, 0x05, 0x06 };
+        testIntegerReport(new DefaultDeserializer(payload), 0x060504030201L, Long.valueOf(0x060504030201L));
+        testIntegerReport(new ByteBufferDeserializer(payload), 0x060504030201L, Long.valueOf(0x060504030201L));
+    }
+
+    @Test
+    public void deserializeFloat() {
+        int[] payload = new int[] { 0x00, 0x04, 0x39, 0x00, 0x00, 0x48, 0x41 };
+        testFloatReport(new DefaultDeserializer(payload));
+        testFloatReport(new ByteBufferDeserializer(payload));
+    }
+
+    @Test
+    public void deserializeObject() {
+        int[] payload = new int[] { 0x00, 0x04, 0x42, 0x03, 0x41, 0x42, 0x43 };
+        AttributeReport report = new AttributeReport();
+        report.deserialize(new DefaultDeserializer(payload));
+
+        assertFalse(report.isIntegerValue());
+        assertFalse(report.isFloatValue());
+        assertEquals("ABC", report.getAttributeValue());
+    }
+
+    private void testIntegerReport(ZigBeeDeserializer deserializer, long value, Object objectValue) {
+        AttributeReport report = new AttributeReport();
+        report.deserialize(deserializer);
+        System.out.println(report);
+
+        assertEquals(0x400, report.getAttributeIdentifier());
+        assertTrue(report.isIntegerValue());
+        assertFalse(report.isFloatValue());
+        assertEquals(value, report.getIntegerValue());
+        assertEquals(objectValue, report.getAttributeValue());
+
+        report.setAttributeValue(Integer.valueOf(1));
+        assertFalse(report.isIntegerValue());
+        assertEquals(Integer.valueOf(1), report.getAttributeValue());
+    }
+
+    private void testFloatReport(ZigBeeDeserializer deserializer) {
+        AttributeReport report = new AttributeReport();
+        report.deserialize(deserializer);
+
+        assertEquals(ZclDataType.FLOAT_32_BIT, report.getAttributeDataType());
+        assertTrue(report.isFloatValue());
+        assertEquals(12.5, report.getFloatValue(), 0.0);
+        assertEquals(Double.valueOf(12.5), report.getAttributeValue());
+    }
+}
@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2016-2020 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package com.zsmartsystems.zigbee.zdo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.zsmartsystems.zigbee.zdo.command.DeviceAnnounce;
+import com.zsmartsystems.zigbee.zdo.command.ManagementLqiResponse;
+
+/**
+ *
+ * @author Chris Jackson
+ *
+ */
+public class ZdoCommandTypeTest {
+    @Test
+    public void getValueById() {
+        assertEquals(ZdoCommandType.DEVICE_ANNOUNCE, ZdoCommandType.getValueById(0x0013));
+        assertEquals(ZdoCommandType.MANAGEMENT_LQI_RESPONSE, ZdoCommandType.getValueById(0x8031));
+        assertNull(ZdoCommandType.getValueById(0xFFFF));
+    }
+
+    @Test
+    public void createCommand() {
+        for (ZdoCommandType commandType : ZdoCommandType.values()) {
+            assertEquals(commandType.getCommandClass(), commandType.createCommand().getClass());
+        }
+
+        assertTrue(ZdoCommandType.DEVICE_ANNOUNCE.createCommand() instanceof DeviceAnnounce);
+        assertTrue(ZdoCommandType.MANAGEMENT_LQI_RESPONSE.createCommand() instanceof ManagementLqiResponse);
+    }
+}